@@ -0,0 +1,135 @@
+const DATASET_VERSION = 'reservation-hot-listing-v1';
+const DAY_MILLIS = 24 * 60 * 60 * 1000;
+
+function requireCondition(condition, message) {
+  if (!condition) {
+    throw new Error(message);
+  }
+}
+
+export function parseReservationSessionFixture(raw) {
+  let fixture;
+  try {
+    fixture = JSON.parse(raw);
+  } catch (_) {
+    throw new Error('SESSION_FIXTURE must contain valid JSON');
+  }
+
+  requireCondition(
+    fixture !== null && typeof fixture === 'object' && !Array.isArray(fixture),
+    'SESSION_FIXTURE root must be an object',
+  );
+  requireCondition(
+    fixture.datasetVersion === DATASET_VERSION,
+    `SESSION_FIXTURE.datasetVersion must equal ${DATASET_VERSION}`,
+  );
+  requireCondition(
+    Array.isArray(fixture.sessions) && fixture.sessions.length > 0,
+    'SESSION_FIXTURE.sessions must be a non-empty array',
+  );
+
+  return fixture.sessions.map((sessionId, index) => {
+    requireCondition(
+      typeof sessionId === 'string' && sessionId.trim().length > 0,
+      `SESSION_FIXTURE.sessions[${index}] must be a non-empty string`,
+    );
+    return sessionId.trim();
+  });
+}
+
+export function parseReservationVariant(raw) {
+  requireCondition(
+    raw === 'row-lock' || raw === 'ledger',
+    'VARIANT must be row-lock or ledger',
+  );
+  return raw;
+}
+
+export function parseAccommodationIds(raw) {
+  requireCondition(
+    typeof raw === 'string' && raw.trim().length > 0,
+    'ACCOMMODATION_IDS is required',
+  );
+  const ids = raw.split(',').map((value) => Number(value.trim()));
+  requireCondition(
+    ids.every((id) => Number.isInteger(id) && id > 0),
+    'ACCOMMODATION_IDS must be comma-separated positive integers',
+  );
+  requireCondition(new Set(ids).size === ids.length, 'ACCOMMODATION_IDS must be unique');
+  return ids;
+}
+
+export function parseIsoDate(raw, name) {
+  requireCondition(/^\d{4}-\d{2}-\d{2}$/.test(raw || ''), `${name} must use YYYY-MM-DD`);
+  const parsed = new Date(`${raw}T00:00:00Z`);
+  requireCondition(
+    !Number.isNaN(parsed.getTime()) && parsed.toISOString().slice(0, 10) === raw,
+    `${name} must be a valid calendar date`,
+  );
+  return raw;
+}
+
+function plusDays(isoDate, days) {
+  return new Date(Date.parse(`${isoDate}T00:00:00Z`) + days * DAY_MILLIS)
+    .toISOString()
+    .slice(0, 10);
+}
+
+/**
+ * 반복 번호를 숙소별로 돌려 배정하고, 같은 숙소 안에서는 겹치지 않는 다음 숙박 구간을 준다.
+ * 숙소 수가 적을수록 한 숙소에 동시 요청이 몰린다.
+ */
+export function assignStay(iteration, accommodationIds, firstCheckInDate, nights) {
+  const accommodationId = accommodationIds[iteration % accommodationIds.length];
+  const slot = Math.floor(iteration / accommodationIds.length);
+  const checkInDate = plusDays(firstCheckInDate, slot * nights);
+  return {
+    accommodationId,
+    checkInDate,
+    checkOutDate: plusDays(checkInDate, nights),
+  };
+}
+
+export function requireStayCapacity(accommodationIds, rate, durationSeconds, nights, windowDays) {
+  const requiredIterations = Math.ceil(rate * durationSeconds) + 1;
+  const slotsPerAccommodation = Math.ceil(requiredIterations / accommodationIds.length);
+  const requiredDays = slotsPerAccommodation * nights;
+  requireCondition(
+    requiredDays <= windowDays,
+    `this run needs ${requiredDays} days per accommodation; add ACCOMMODATION_IDS or lower RATE/DURATION`,
+  );
+  return requiredDays;
+}
+
+export function classifyReservationResponse(status, errorCode) {
+  if (status === 200) {
+    return 'success';
+  }
+
+  const outcomes = {
+    '409:R002': 'conflict',
+    '409:R003': 'lock_failed',
+  };
+  return outcomes[`${status}:${errorCode}`] || 'unexpected';
+}
+
+function metricValue(data, name, value, fallback = 0) {
+  return data.metrics?.[name]?.values?.[value] ?? fallback;
+}
+
+export function summarizeReservationBenchmarkMetrics(data) {
+  return {
+    requestCount: metricValue(data, 'http_reqs', 'count'),
+    requestRate: metricValue(data, 'http_reqs', 'rate'),
+    successRate: metricValue(data, 'reservation_create_success_total', 'rate'),
+    duration: data.metrics?.reservation_create_duration?.values || {},
+    successDuration: data.metrics?.reservation_create_success_duration?.values || {},
+    outcomes: {
+      success: metricValue(data, 'reservation_create_success_total', 'count'),
+      conflict: metricValue(data, 'reservation_create_conflict_total', 'count'),
+      lockFailed: metricValue(data, 'reservation_create_lock_failed_total', 'count'),
+      unexpected: metricValue(data, 'reservation_create_unexpected_total', 'count'),
+    },
+    droppedIterations: metricValue(data, 'dropped_iterations', 'count'),
+  };
+}
@@ -116,7 +116,7 @@ export const options = {
     'http_req_failed{phase:measure}': ['rate==0'],
     'dropped_iterations{scenario:measure}': ['count==0'],
   },
-  summaryTrendStats: ['avg', 'min', 'med', 'max', 'p(90)', 'p(95)'],
+  summaryTrendStats: ['avg', 'min', 'med', 'max', 'p(90)', 'p(95)', 'p(99)'],
 };
 
 export function setup() {
@@ -211,6 +211,7 @@ export function handleSummary(data) {
       median: finiteOrNull(latency.med),
       p90: finiteOrNull(latency['p(90)']),
       p95: finiteOrNull(latency['p(95)']),
+      p99: finiteOrNull(latency['p(99)']),
       max: finiteOrNull(latency.max),
     },
   };
@@ -0,0 +1,223 @@
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { SharedArray } from 'k6/data';
+import { Counter, Rate, Trend } from 'k6/metrics';
+
+import {
+  parseDurationSeconds,
+  parsePhase,
+  parsePositiveInteger,
+  parseRequiredText,
+} from './lib/coupon-benchmark-fixture.js';
+import {
+  assignStay,
+  classifyReservationResponse,
+  parseAccommodationIds,
+  parseIsoDate,
+  parseReservationSessionFixture,
+  parseReservationVariant,
+  requireStayCapacity,
+  summarizeReservationBenchmarkMetrics,
+} from './lib/reservation-benchmark-fixture.js';
+
+function requiredEnvironment(name) {
+  return parseRequiredText(__ENV[name], name);
+}
+
+function parseBaseUrl(raw) {
+  const value = raw.replace(/\/+$/, '');
+  if (!/^https?:\/\/[^/]+/.test(value)) {
+    throw new Error('BASE_URL must be an http or https origin');
+  }
+  return value;
+}
+
+const BASE_URL = parseBaseUrl(requiredEnvironment('BASE_URL'));
+const SESSION_FIXTURE = requiredEnvironment('SESSION_FIXTURE');
+const VARIANT = parseReservationVariant(requiredEnvironment('VARIANT'));
+const PHASE = parsePhase(__ENV.PHASE || 'measure');
+const ACCOMMODATION_IDS = parseAccommodationIds(requiredEnvironment('ACCOMMODATION_IDS'));
+const FIRST_CHECK_IN_DATE = parseIsoDate(requiredEnvironment('FIRST_CHECK_IN_DATE'), 'FIRST_CHECK_IN_DATE');
+const NIGHTS = parsePositiveInteger(__ENV.NIGHTS || '1', 'NIGHTS');
+const WINDOW_DAYS = parsePositiveInteger(__ENV.WINDOW_DAYS || '60', 'WINDOW_DAYS');
+const GUEST_COUNT = parsePositiveInteger(__ENV.GUEST_COUNT || '1', 'GUEST_COUNT');
+const APP_VERSION = requiredEnvironment('APP_VERSION');
+const APP_INSTANCE_COUNT = parsePositiveInteger(
+  requiredEnvironment('APP_INSTANCE_COUNT'),
+  'APP_INSTANCE_COUNT',
+);
+const ROUND = parsePositiveInteger(requiredEnvironment('ROUND'), 'ROUND');
+const RUN_ORDER = parsePositiveInteger(requiredEnvironment('RUN_ORDER'), 'RUN_ORDER');
+const RATE = parsePositiveInteger(__ENV.RATE || '20', 'RATE');
+const DURATION = __ENV.DURATION || '30s';
+const DURATION_SECONDS = parseDurationSeconds(DURATION);
+const PRE_ALLOCATED_VUS = parsePositiveInteger(
+  __ENV.PRE_ALLOCATED_VUS || String(Math.max(50, RATE)),
+  'PRE_ALLOCATED_VUS',
+);
+const MAX_VUS = parsePositiveInteger(
+  __ENV.MAX_VUS || String(Math.max(PRE_ALLOCATED_VUS, RATE * 6)),
+  'MAX_VUS',
+);
+const P99_LIMIT_MS = parsePositiveInteger(__ENV.P99_LIMIT_MS || '5000', 'P99_LIMIT_MS');
+const REQUEST_TIMEOUT = __ENV.REQUEST_TIMEOUT || '10s';
+const GRACEFUL_STOP = __ENV.GRACEFUL_STOP || '30s';
+const RESULT_PATH = __ENV.K6_RESULT_PATH
+  || `build/k6/reservation-hot-listing-${PHASE}-${VARIANT}.json`;
+const RUN_LABEL = requiredEnvironment('RUN_LABEL');
+
+if (MAX_VUS < PRE_ALLOCATED_VUS) {
+  throw new Error('MAX_VUS must be greater than or equal to PRE_ALLOCATED_VUS');
+}
+
+const sessions = new SharedArray('reservation-member-sessions', () => (
+  parseReservationSessionFixture(open(SESSION_FIXTURE))
+));
+const REQUIRED_DAYS = requireStayCapacity(
+  ACCOMMODATION_IDS,
+  RATE,
+  DURATION_SECONDS,
+  NIGHTS,
+  WINDOW_DAYS,
+);
+
+const createDuration = new Trend('reservation_create_duration', true);
+const successDuration = new Trend('reservation_create_success_duration', true);
+const unexpectedRate = new Rate('reservation_create_unexpected');
+const conflictRate = new Rate('reservation_create_conflict');
+const outcomeCounters = {
+  success: new Counter('reservation_create_success_total'),
+  conflict: new Counter('reservation_create_conflict_total'),
+  lock_failed: new Counter('reservation_create_lock_failed_total'),
+  unexpected: new Counter('reservation_create_unexpected_total'),
+};
+
+http.setResponseCallback(http.expectedStatuses(200, 409));
+
+export const options = {
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  scenarios: {
+    reservation_hot_listing: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: PRE_ALLOCATED_VUS,
+      maxVUs: MAX_VUS,
+      gracefulStop: GRACEFUL_STOP,
+      tags: { phase: PHASE, variant: VARIANT },
+    },
+  },
+  thresholds: {
+    [`reservation_create_duration{phase:${PHASE},variant:${VARIANT}}`]: [
+      `p(99)<${P99_LIMIT_MS}`,
+    ],
+    [`reservation_create_success_total{phase:${PHASE},variant:${VARIANT}}`]: ['count>0'],
+    // 모든 요청이 서로 다른 숙박일이므로 날짜 충돌은 이전 실행 데이터가 남았다는 뜻
+    reservation_create_conflict: ['rate==0'],
+    reservation_create_unexpected: ['rate==0'],
+    dropped_iterations: ['count==0'],
+    http_req_failed: ['rate==0'],
+  },
+};
+
+function responseErrorCode(response) {
+  if (response.status === 200) {
+    return undefined;
+  }
+  try {
+    return response.json().error?.code;
+  } catch (_) {
+    return undefined;
+  }
+}
+
+export default function () {
+  const iteration = Number(exec.scenario.iterationInTest);
+  const sessionId = sessions[iteration % sessions.length];
+  const stay = assignStay(iteration, ACCOMMODATION_IDS, FIRST_CHECK_IN_DATE, NIGHTS);
+
+  const metricTags = { phase: PHASE, variant: VARIANT };
+  const response = http.post(
+    `${BASE_URL}/api/v1/reservations`,
+    JSON.stringify({ ...stay, guestCount: GUEST_COUNT }),
+    {
+      cookies: { SESSION_ID: sessionId },
+      headers: { 'Content-Type': 'application/json' },
+      timeout: REQUEST_TIMEOUT,
+      tags: {
+        ...metricTags,
+        name: 'POST /api/v1/reservations',
+      },
+    },
+  );
+
+  const outcome = classifyReservationResponse(response.status, responseErrorCode(response));
+  createDuration.add(response.timings.duration, { ...metricTags, outcome });
+  if (outcome === 'success') {
+    successDuration.add(response.timings.duration, metricTags);
+  }
+  outcomeCounters[outcome].add(1, metricTags);
+  unexpectedRate.add(outcome === 'unexpected', metricTags);
+  conflictRate.add(outcome === 'conflict', metricTags);
+}
+
+function format(value, digits = 2) {
+  return Number.isFinite(value) ? value.toFixed(digits) : 'n/a';
+}
+
+export function handleSummary(data) {
+  const benchmark = summarizeReservationBenchmarkMetrics(data);
+  const {
+    requestCount,
+    requestRate,
+    successRate,
+    duration,
+    successDuration: successfulDuration,
+    outcomes,
+    droppedIterations,
+  } = benchmark;
+
+  const stdout = [
+    `reservation hot listing: ${VARIANT}/${PHASE} accommodations=${ACCOMMODATION_IDS.length} run=${RUN_LABEL}`,
+    `requests=${requestCount} rps=${format(requestRate)} success=${outcomes.success} success_rps=${format(successRate)}`,
+    `all duration(ms) p50=${format(duration['p(50)'])} p95=${format(duration['p(95)'])} p99=${format(duration['p(99)'])}`,
+    `success duration(ms) p50=${format(successfulDuration['p(50)'])} p95=${format(successfulDuration['p(95)'])} p99=${format(successfulDuration['p(99)'])}`,
+    `outcomes success=${outcomes.success} conflict=${outcomes.conflict} lock_failed=${outcomes.lockFailed} unexpected=${outcomes.unexpected}`,
+    `dropped_iterations=${droppedIterations}`,
+    `result=${RESULT_PATH}`,
+    '',
+  ].join('\n');
+
+  const artifact = {
+    metadata: {
+      generatedAt: new Date().toISOString(),
+      runLabel: RUN_LABEL,
+      baseUrl: BASE_URL,
+      variant: VARIANT,
+      phase: PHASE,
+      accommodationIds: ACCOMMODATION_IDS,
+      firstCheckInDate: FIRST_CHECK_IN_DATE,
+      nights: NIGHTS,
+      requiredDaysPerAccommodation: REQUIRED_DAYS,
+      guestCount: GUEST_COUNT,
+      appVersion: APP_VERSION,
+      appInstanceCount: APP_INSTANCE_COUNT,
+      round: ROUND,
+      runOrder: RUN_ORDER,
+      rate: RATE,
+      duration: DURATION,
+      preAllocatedVUs: PRE_ALLOCATED_VUS,
+      maxVUs: MAX_VUS,
+      fixtureSessionCount: sessions.length,
+    },
+    performance: benchmark,
+    outcomes,
+    summary: data,
+  };
+
+  return {
+    stdout,
+    [RESULT_PATH]: JSON.stringify(artifact, null, 2),
+  };
+}
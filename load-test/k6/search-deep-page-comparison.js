@@ -0,0 +1,160 @@
+import http from 'k6/http';
+import { Rate, Trend } from 'k6/metrics';
+
+import {
+  parsePhase,
+  parsePositiveInteger,
+  parseRequiredText,
+} from './lib/coupon-benchmark-fixture.js';
+
+const VARIANTS = ['page-1', 'page-50'];
+const DEEP_PAGE_NUMBER = 50;
+
+function requiredEnvironment(name) {
+  return parseRequiredText(__ENV[name], name);
+}
+
+function parseBaseUrl(raw) {
+  const value = raw.replace(/\/+$/, '');
+  if (!/^https?:\/\/[^/]+/.test(value)) {
+    throw new Error('BASE_URL must be an http or https origin');
+  }
+  return value;
+}
+
+function parseSearchVariant(raw) {
+  if (!VARIANTS.includes(raw)) {
+    throw new Error(`VARIANT must be one of ${VARIANTS.join(', ')}`);
+  }
+  return raw;
+}
+
+const BASE_URL = parseBaseUrl(requiredEnvironment('BASE_URL'));
+const VARIANT = parseSearchVariant(requiredEnvironment('VARIANT'));
+const PHASE = parsePhase(__ENV.PHASE || 'measure');
+const DESTINATION = requiredEnvironment('DESTINATION');
+const APP_VERSION = requiredEnvironment('APP_VERSION');
+const RUN_LABEL = requiredEnvironment('RUN_LABEL');
+const RATE = parsePositiveInteger(__ENV.RATE || '20', 'RATE');
+const DURATION = __ENV.DURATION || '30s';
+const PRE_ALLOCATED_VUS = parsePositiveInteger(
+  __ENV.PRE_ALLOCATED_VUS || String(Math.max(20, RATE)),
+  'PRE_ALLOCATED_VUS',
+);
+const MAX_VUS = parsePositiveInteger(
+  __ENV.MAX_VUS || String(Math.max(PRE_ALLOCATED_VUS, RATE * 4)),
+  'MAX_VUS',
+);
+const REQUEST_TIMEOUT = __ENV.REQUEST_TIMEOUT || '10s';
+const RESULT_PATH = __ENV.K6_RESULT_PATH
+  || `build/k6/search-deep-page-${PHASE}-${VARIANT}.json`;
+
+const searchDuration = new Trend('search_page_duration', true);
+const unexpectedRate = new Rate('search_page_unexpected');
+
+export const options = {
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  scenarios: {
+    search_deep_page: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: PRE_ALLOCATED_VUS,
+      maxVUs: MAX_VUS,
+      tags: { phase: PHASE, variant: VARIANT },
+    },
+  },
+  thresholds: {
+    search_page_unexpected: ['rate==0'],
+    dropped_iterations: ['count==0'],
+    http_req_failed: ['rate==0'],
+  },
+};
+
+function searchUrl({ page, cursor }) {
+  const query = [`destination=${encodeURIComponent(DESTINATION)}`];
+  if (cursor) {
+    query.push(`cursor=${encodeURIComponent(cursor)}`);
+  } else {
+    query.push(`page=${page}`);
+  }
+  return `${BASE_URL}/api/v1/search/accommodations?${query.join('&')}`;
+}
+
+function pageInfo(response) {
+  if (response.status !== 200) {
+    return undefined;
+  }
+  try {
+    return response.json().data?.pageInfo;
+  } catch (_) {
+    return undefined;
+  }
+}
+
+// 50페이지 커서는 1페이지부터 nextCursor를 따라가 한 번만 만든다.
+// 측정 요청은 모두 같은 커서로 search_after 구간만 호출한다.
+export function setup() {
+  if (VARIANT === 'page-1') {
+    return { url: searchUrl({ page: 0 }), expectedPage: 0 };
+  }
+
+  let cursor;
+  for (let page = 0; page < DEEP_PAGE_NUMBER - 1; page += 1) {
+    const info = pageInfo(http.get(searchUrl({ page, cursor }), { timeout: REQUEST_TIMEOUT }));
+    if (!info || !info.hasNext || !info.nextCursor) {
+      throw new Error(`DESTINATION has no page ${DEEP_PAGE_NUMBER}; stopped at page ${page + 1}`);
+    }
+    cursor = info.nextCursor;
+  }
+  return { url: searchUrl({ cursor }), expectedPage: DEEP_PAGE_NUMBER - 1 };
+}
+
+export default function (target) {
+  const metricTags = { phase: PHASE, variant: VARIANT };
+  const response = http.get(target.url, {
+    timeout: REQUEST_TIMEOUT,
+    tags: { ...metricTags, name: 'GET /api/v1/search/accommodations' },
+  });
+
+  const info = pageInfo(response);
+  searchDuration.add(response.timings.duration, metricTags);
+  unexpectedRate.add(!info || info.currentPage !== target.expectedPage, metricTags);
+}
+
+function format(value, digits = 2) {
+  return Number.isFinite(value) ? value.toFixed(digits) : 'n/a';
+}
+
+export function handleSummary(data) {
+  const duration = data.metrics.search_page_duration?.values || {};
+  const requestCount = data.metrics.http_reqs?.values?.count || 0;
+
+  const stdout = [
+    `search deep page: ${VARIANT}/${PHASE} destination=${DESTINATION} run=${RUN_LABEL}`,
+    `requests=${requestCount} duration(ms) p50=${format(duration['p(50)'])} p95=${format(duration['p(95)'])} p99=${format(duration['p(99)'])}`,
+    `result=${RESULT_PATH}`,
+    '',
+  ].join('\n');
+
+  const artifact = {
+    metadata: {
+      generatedAt: new Date().toISOString(),
+      runLabel: RUN_LABEL,
+      baseUrl: BASE_URL,
+      variant: VARIANT,
+      phase: PHASE,
+      destination: DESTINATION,
+      appVersion: APP_VERSION,
+      rate: RATE,
+      duration: DURATION,
+    },
+    summary: data,
+  };
+
+  return {
+    stdout,
+    [RESULT_PATH]: JSON.stringify(artifact, null, 2),
+  };
+}
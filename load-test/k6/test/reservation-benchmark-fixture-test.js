@@ -0,0 +1,88 @@
+import { check } from 'k6';
+import {
+  assignStay,
+  classifyReservationResponse,
+  parseAccommodationIds,
+  parseIsoDate,
+  parseReservationSessionFixture,
+  parseReservationVariant,
+  requireStayCapacity,
+  summarizeReservationBenchmarkMetrics,
+} from '../lib/reservation-benchmark-fixture.js';
+
+export const options = {
+  vus: 1,
+  iterations: 1,
+  thresholds: { checks: ['rate==1'] },
+};
+
+function rejects(action) {
+  try {
+    action();
+    return false;
+  } catch (_) {
+    return true;
+  }
+}
+
+export default function () {
+  const sessions = parseReservationSessionFixture(JSON.stringify({
+    datasetVersion: 'reservation-hot-listing-v1',
+    sessions: [' session-a ', 'session-b'],
+  }));
+  const ids = parseAccommodationIds('7, 8');
+  const summary = summarizeReservationBenchmarkMetrics({
+    metrics: {
+      http_reqs: { values: { count: 10, rate: 5 } },
+      reservation_create_success_total: { values: { count: 9, rate: 4.5 } },
+      reservation_create_lock_failed_total: { values: { count: 1 } },
+      reservation_create_duration: { values: { 'p(99)': 30 } },
+      reservation_create_success_duration: { values: { 'p(99)': 25 } },
+      dropped_iterations: { values: { count: 0 } },
+    },
+  });
+
+  check(sessions, {
+    'valid fixture returns trimmed sessions': (value) => value.length === 2 && value[0] === 'session-a',
+    'coupon fixture version is rejected': () => rejects(() => parseReservationSessionFixture(JSON.stringify({
+      datasetVersion: 'coupon-issuance-v1',
+      sessions: ['session-a'],
+    }))),
+    'blank sessions are rejected': () => rejects(() => parseReservationSessionFixture(JSON.stringify({
+      datasetVersion: 'reservation-hot-listing-v1',
+      sessions: [' '],
+    }))),
+    'row-lock variant is accepted': () => parseReservationVariant('row-lock') === 'row-lock',
+    'ledger variant is accepted': () => parseReservationVariant('ledger') === 'ledger',
+    'unknown variant is rejected': () => rejects(() => parseReservationVariant('lock')),
+    'accommodation ids are parsed': () => ids.length === 2 && ids[0] === 7 && ids[1] === 8,
+    'duplicate accommodation ids are rejected': () => rejects(() => parseAccommodationIds('7,7')),
+    'non numeric accommodation ids are rejected': () => rejects(() => parseAccommodationIds('7,a')),
+    'calendar date is accepted': () => parseIsoDate('2026-09-01', 'FIRST_CHECK_IN_DATE') === '2026-09-01',
+    'impossible date is rejected': () => rejects(() => parseIsoDate('2026-02-30', 'FIRST_CHECK_IN_DATE')),
+    'iterations rotate over accommodations': () => (
+      assignStay(0, ids, '2026-09-01', 1).accommodationId === 7
+      && assignStay(1, ids, '2026-09-01', 1).accommodationId === 8
+    ),
+    'same accommodation receives back-to-back stays': () => {
+      const first = assignStay(0, ids, '2026-09-01', 2);
+      const next = assignStay(2, ids, '2026-09-01', 2);
+      return first.checkOutDate === next.checkInDate && next.checkInDate === '2026-09-03';
+    },
+    'stay crosses month boundary': () => (
+      assignStay(0, ids, '2026-09-30', 1).checkOutDate === '2026-10-01'
+    ),
+    'capacity counts days per accommodation': () => requireStayCapacity(ids, 2, 5, 1, 60) === 6,
+    'insufficient window is rejected': () => rejects(() => requireStayCapacity(ids, 20, 30, 1, 60)),
+    'ok response is success': () => classifyReservationResponse(200) === 'success',
+    'date conflict is classified': () => classifyReservationResponse(409, 'R002') === 'conflict',
+    'lock failure is classified': () => classifyReservationResponse(409, 'R003') === 'lock_failed',
+    'unknown error is unexpected': () => classifyReservationResponse(500, 'C001') === 'unexpected',
+    'summary keeps outcomes separate': () => (
+      summary.outcomes.success === 9 && summary.outcomes.lockFailed === 1 && summary.outcomes.conflict === 0
+    ),
+    'summary keeps total and success p99 separate': () => (
+      summary.duration['p(99)'] === 30 && summary.successDuration['p(99)'] === 25
+    ),
+  });
+}
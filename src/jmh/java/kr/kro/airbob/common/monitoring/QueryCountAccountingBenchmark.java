@@ -0,0 +1,135 @@
+package kr.kro.airbob.common.monitoring;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * 요청별 쿼리 수 집계의 문장당·요청당 비용을 변경 전후로 비교한다.
+ * before 메서드는 변경 전 구현(매 문장 분류, EnumMap 박싱 누적, 요청마다 DistributionSummary builder 재생성)을 그대로 옮긴 것이다.
+ * gc profiler의 gc.alloc.rate.norm 으로 호출당 할당 바이트를 확인한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryCountAccountingBenchmark {
+
+	private static final String PATH = "/api/v1/accommodations/{accommodationId}";
+
+	// Hibernate가 실제로 만드는 형태의 문장. 주석 접두사와 CTE를 섞어 분류 비용이 드러나게 한다
+	private static final String[] STATEMENTS = {
+		"select a1_0.id,a1_0.accommodation_uid,a1_0.name,a1_0.status from accommodation a1_0 where a1_0.id=?",
+		"/* select r from Review r where r.accommodation.id = :id */ select r1_0.id,r1_0.rating,r1_0.content "
+			+ "from review r1_0 where r1_0.accommodation_id=? order by r1_0.id desc limit ?",
+		"insert into recently_viewed (member_id,accommodation_id,viewed_at) values (?,?,?)",
+		"update accommodation_review_summary set total_review_count=?,rating_sum=?,average_rating=? "
+			+ "where accommodation_id=?",
+		"/* delete from WishlistAccommodation w where w.wishlist.id = :id */ "
+			+ "delete from wishlist_accommodation where wishlist_id=?",
+		"with recent as (select r.accommodation_id from reservation r where r.check_in >= ?) "
+			+ "select a.id from accommodation a join recent on recent.accommodation_id = a.id",
+		"select m1_0.id,m1_0.email,m1_0.nickname from member m1_0 where m1_0.id=?",
+		"select count(*) from wishlist_accommodation wa1_0 where wa1_0.wishlist_id=?"
+	};
+
+	private SqlQueryTypeCache queryTypeCache;
+	private EnumMap<SqlQueryType, Integer> legacyCounts;
+	private QueryCountContext context;
+	private int cursor;
+
+	private MeterRegistry legacyRegistry;
+	private MicrometerQueryCountMetricRecorder recorder;
+	private QueryCountSnapshot snapshot;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		queryTypeCache = new SqlQueryTypeCache();
+		legacyCounts = new EnumMap<>(SqlQueryType.class);
+		context = new QueryCountContext("GET", PATH);
+
+		legacyRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+		recorder = new MicrometerQueryCountMetricRecorder(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+		snapshot = new QueryCountSnapshot("GET", PATH, Map.of(
+			SqlQueryType.SELECT, 12,
+			SqlQueryType.INSERT, 1,
+			SqlQueryType.TOTAL, 13));
+		// 첫 요청의 등록 비용은 양쪽 모두 측정에서 뺀다
+		recordBefore(legacyRegistry, snapshot);
+		recorder.record(snapshot);
+	}
+
+	@Benchmark
+	public SqlQueryType classifyStatementBefore() {
+		return SqlQueryType.from(nextStatement());
+	}
+
+	@Benchmark
+	public SqlQueryType classifyStatementAfter() {
+		return queryTypeCache.classify(nextStatement());
+	}
+
+	@Benchmark
+	public EnumMap<SqlQueryType, Integer> accountStatementBefore() {
+		String sql = nextStatement();
+		if (cursor == 0) {
+			// 요청 하나의 쿼리 수 범위로 유지해 Integer 캐시 밖의 박싱이 섞이지 않게 한다
+			legacyCounts.clear();
+		}
+		legacyCounts.merge(SqlQueryType.from(sql), 1, Integer::sum);
+		legacyCounts.merge(SqlQueryType.TOTAL, 1, Integer::sum);
+		return legacyCounts;
+	}
+
+	@Benchmark
+	public QueryCountContext accountStatementAfter() {
+		context.incrementQueryCount(queryTypeCache.classify(nextStatement()));
+		return context;
+	}
+
+	@Benchmark
+	public void recordRequestBefore() {
+		recordBefore(legacyRegistry, snapshot);
+	}
+
+	@Benchmark
+	public void recordRequestAfter() {
+		recorder.record(snapshot);
+	}
+
+	private String nextStatement() {
+		String sql = STATEMENTS[cursor];
+		cursor = (cursor + 1) % STATEMENTS.length;
+		return sql;
+	}
+
+	private static void recordBefore(MeterRegistry meterRegistry, QueryCountSnapshot snapshot) {
+		for (SqlQueryType queryType : SqlQueryType.values()) {
+			DistributionSummary.builder(MicrometerQueryCountMetricRecorder.METRIC_NAME)
+				.description("Number of SQL queries per HTTP request")
+				.baseUnit("queries")
+				.tag("path", snapshot.bestMatchPath())
+				.tag("http_method", snapshot.httpMethod())
+				.tag("query_type", queryType.name())
+				.publishPercentileHistogram()
+				.serviceLevelObjectives(1, 3, 5, 10, 20, 50, 100, 200, 250, 500, 1000)
+				.minimumExpectedValue(1.0)
+				.maximumExpectedValue(1000.0)
+				.register(meterRegistry)
+				.record(snapshot.countOf(queryType));
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package kr.kro.airbob.domain.payment.service.gateway;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.config.RestClientConfig;
+import kr.kro.airbob.domain.payment.config.TossPaymentBulkheadProperties;
+import kr.kro.airbob.domain.payment.config.TossPaymentClientProperties;
+import kr.kro.airbob.domain.payment.service.TossPaymentsAdapter;
+
+/**
+ * 로컬 스텁 PG에 승인 요청을 보내며 Kafka 리스너 스레드 하나가 호출 하나에 붙잡히는 시간을 잰다.
+ * 스레드 수(16)는 리스너 동시성, 격벽 허가(8)는 그보다 작게 두어 포화 시 거절이 드러나게 한다.
+ * scenario 는 정상(30ms), 느린 꼬리(5%가 4s), 전면 지연(모두 3s) 세 가지이고, 격벽 유무를 나란히 비교한다.
+ * 실행이 끝나면 호출 결과별 건수와 마지막 적응형 타임아웃을 표준 출력에 남긴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(16)
+public class PaymentGatewayStubBenchmark {
+
+	private static final String ORDER_ID = "5250ea1b-df85-46f4-a266-d1f34d4f2de9";
+	private static final Duration READ_TIMEOUT = Duration.ofSeconds(5);
+	private static final byte[] APPROVED_BODY = """
+		{
+		  "paymentKey":"pk_bench",
+		  "orderId":"%s",
+		  "totalAmount":100000,
+		  "balanceAmount":100000,
+		  "method":"카드",
+		  "status":"DONE",
+		  "approvedAt":"2026-08-14T12:34:56+09:00"
+		}
+		""".formatted(ORDER_ID).getBytes(StandardCharsets.UTF_8);
+	private static final PaymentConfirmationCommand COMMAND = new PaymentConfirmationCommand(
+		UUID.fromString("4dc96ec8-d45f-4688-bb75-560c71b88d5d"),
+		"pk_bench",
+		ORDER_ID,
+		100_000L,
+		"airbob-confirm-4dc96ec8-d45f-4688-bb75-560c71b88d5d"
+	);
+
+	@Param({"HEALTHY", "SLOW_TAIL", "BROWNOUT"})
+	public String scenario;
+
+	@Param({"false", "true"})
+	public boolean bulkheadEnabled;
+
+	private HttpServer stub;
+	private ExecutorService stubExecutor;
+	private PaymentGatewayBulkhead bulkhead;
+	private SimpleMeterRegistry meterRegistry;
+	private PaymentConfirmationGateway gateway;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		stubExecutor = Executors.newVirtualThreadPerTaskExecutor();
+		stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		stub.setExecutor(stubExecutor);
+		stub.createContext(TossPaymentsAdapter.CONFIRM_PATH, this::approveAfterDelay);
+		stub.start();
+
+		TossPaymentClientProperties toss = new TossPaymentClientProperties(
+			"stub-secret",
+			"http://127.0.0.1:" + stub.getAddress().getPort(),
+			Duration.ofSeconds(2),
+			READ_TIMEOUT
+		);
+		TossPaymentsAdapter adapter = new TossPaymentsAdapter(
+			new RestClientConfig(toss).tossPaymentRestClient(),
+			new ObjectMapper(),
+			new PaymentConfirmationFailureClassifier(),
+			true
+		);
+		meterRegistry = new SimpleMeterRegistry();
+		bulkhead = new PaymentGatewayBulkhead(
+			"toss",
+			new TossPaymentBulkheadProperties(
+				bulkheadEnabled, 8, Duration.ofMillis(200), Duration.ofMillis(200), 0.99, 3.0, 50, 256),
+			READ_TIMEOUT,
+			meterRegistry
+		);
+		gateway = new BulkheadPaymentConfirmationGateway(adapter, bulkhead);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		System.out.printf("%n[%s, bulkhead=%s] timeout=%s%n", scenario, bulkheadEnabled, bulkhead.currentTimeout());
+		meterRegistry.getMeters().forEach(meter ->
+			meter.measure().forEach(measurement ->
+				System.out.printf("  %s %s %s=%.3f%n",
+					meter.getId().getName(), meter.getId().getTags(), measurement.getStatistic(),
+					measurement.getValue())));
+		bulkhead.destroy();
+		stub.stop(0);
+		stubExecutor.shutdownNow();
+	}
+
+	@Benchmark
+	public PaymentGatewayResult confirm() {
+		return gateway.confirm(COMMAND);
+	}
+
+	private void approveAfterDelay(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			exchange.getRequestBody().readAllBytes();
+			Thread.sleep(delay());
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, APPROVED_BODY.length);
+			try (OutputStream body = exchange.getResponseBody()) {
+				body.write(APPROVED_BODY);
+			}
+		} catch (InterruptedException interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private Duration delay() {
+		return switch (scenario) {
+			case "SLOW_TAIL" -> ThreadLocalRandom.current().nextInt(100) < 5
+				? Duration.ofSeconds(4)
+				: Duration.ofMillis(30);
+			case "BROWNOUT" -> Duration.ofSeconds(3);
+			default -> Duration.ofMillis(30);
+		};
+	}
+}
@@ -22,6 +22,7 @@ public enum ErrorCode {
 	CURSOR_DECODING_ERROR(HttpStatus.BAD_REQUEST, "C010", "유효하지 않은 커서입니다."),
 	RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "R000", "리소스를 찾을 수 없습니다."),
 	SEARCH_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "SE001", "검색 서비스를 일시적으로 사용할 수 없습니다."),
+	SEARCH_REINDEX_IN_PROGRESS(HttpStatus.CONFLICT, "SE002", "검색 인덱스 재구축이 이미 진행 중입니다."),
 
 	// common code
 	COMMON_CODE_GROUP_NOT_FOUND(HttpStatus.NOT_FOUND, "CC001", "존재하지 않는 공통 코드 그룹입니다."),
@@ -74,6 +75,8 @@ public enum ErrorCode {
 	PAYMENT_ACCESS_DENIED(HttpStatus.FORBIDDEN, "P004", "해당 결제 정보에 대한 접근 권한이 없습니다."),
 	PAYMENT_OPERATION_NOT_FOUND(HttpStatus.NOT_FOUND, "P005", "존재하지 않는 결제 작업입니다."),
 	PAYMENT_OPERATION_CONFLICT(HttpStatus.CONFLICT, "P006", "기존 결제 작업과 요청 내용이 일치하지 않습니다."),
+	PAYMENT_GATEWAY_REJECTED(HttpStatus.SERVICE_UNAVAILABLE, "P007", "결제 대행사 호출이 몰려 요청을 보내지 않았습니다."),
+	PAYMENT_GATEWAY_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "P008", "결제 대행사 응답 대기 시간이 초과되었습니다."),
 
 	// wishlist
 	WISHLIST_NOT_FOUND(HttpStatus.NOT_FOUND, "W001", "존재하지 않는 위시리스트입니다."),
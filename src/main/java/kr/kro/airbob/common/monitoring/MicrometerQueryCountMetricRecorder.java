@@ -1,43 +1,75 @@
 package kr.kro.airbob.common.monitoring;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.stereotype.Component;
 
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
-import lombok.RequiredArgsConstructor;
 
 @Component
-@RequiredArgsConstructor
 public class MicrometerQueryCountMetricRecorder implements QueryCountMetricRecorder {
 
 	public static final String METRIC_NAME = "app.query.per_request";
 
 	private static final String UNKNOWN_TAG_VALUE = "UNKNOWN";
 	private static final double[] QUERY_COUNT_BUCKETS = {1, 3, 5, 10, 20, 50, 100, 200, 250, 500, 1000};
+	private static final SqlQueryType[] QUERY_TYPES = SqlQueryType.values();
 
 	private final MeterRegistry meterRegistry;
 
+	// path 태그는 핸들러 매핑 패턴이라 종류가 한정된다. 경로·메서드별로 처음 한 번만 등록하고 이후엔 핸들만 꺼낸다
+	private final ConcurrentHashMap<String, ConcurrentHashMap<String, DistributionSummary[]>> summariesByPath =
+		new ConcurrentHashMap<>();
+
+	public MicrometerQueryCountMetricRecorder(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		// 레지스트리에서 지워진 미터의 핸들에 기록하면 내보내지지 않으므로 다음 요청에서 다시 등록한다
+		meterRegistry.config().onMeterRemoved(meter -> {
+			if (METRIC_NAME.equals(meter.getId().getName())) {
+				summariesByPath.clear();
+			}
+		});
+	}
+
 	@Override
 	public void record(QueryCountSnapshot snapshot) {
-		for (SqlQueryType queryType : SqlQueryType.values()) {
-			record(snapshot, queryType);
+		DistributionSummary[] summaries =
+			summaries(tagValue(snapshot.bestMatchPath()), tagValue(snapshot.httpMethod()));
+		for (SqlQueryType queryType : QUERY_TYPES) {
+			summaries[queryType.ordinal()].record(snapshot.countOf(queryType));
+		}
+	}
+
+	private DistributionSummary[] summaries(String path, String httpMethod) {
+		ConcurrentHashMap<String, DistributionSummary[]> summariesByMethod = summariesByPath.get(path);
+		if (summariesByMethod == null) {
+			summariesByMethod = summariesByPath.computeIfAbsent(path, ignored -> new ConcurrentHashMap<>());
 		}
+
+		DistributionSummary[] summaries = summariesByMethod.get(httpMethod);
+		if (summaries == null) {
+			summaries = summariesByMethod.computeIfAbsent(httpMethod, method -> register(path, method));
+		}
+		return summaries;
 	}
 
-	private void record(QueryCountSnapshot snapshot, SqlQueryType queryType) {
-		DistributionSummary summary = DistributionSummary.builder(METRIC_NAME)
-			.description("Number of SQL queries per HTTP request")
-			.baseUnit("queries")
-			.tag("path", tagValue(snapshot.bestMatchPath()))
-			.tag("http_method", tagValue(snapshot.httpMethod()))
-			.tag("query_type", queryType.name())
-			.publishPercentileHistogram()
-			.serviceLevelObjectives(QUERY_COUNT_BUCKETS)
-			.minimumExpectedValue(1.0)
-			.maximumExpectedValue(1000.0)
-			.register(meterRegistry);
-
-		summary.record(snapshot.countOf(queryType));
+	private DistributionSummary[] register(String path, String httpMethod) {
+		DistributionSummary[] summaries = new DistributionSummary[QUERY_TYPES.length];
+		for (SqlQueryType queryType : QUERY_TYPES) {
+			summaries[queryType.ordinal()] = DistributionSummary.builder(METRIC_NAME)
+				.description("Number of SQL queries per HTTP request")
+				.baseUnit("queries")
+				.tag("path", path)
+				.tag("http_method", httpMethod)
+				.tag("query_type", queryType.name())
+				.publishPercentileHistogram()
+				.serviceLevelObjectives(QUERY_COUNT_BUCKETS)
+				.minimumExpectedValue(1.0)
+				.maximumExpectedValue(1000.0)
+				.register(meterRegistry);
+		}
+		return summaries;
 	}
 
 	private String tagValue(String value) {
@@ -1,13 +1,17 @@
 package kr.kro.airbob.common.monitoring;
 
 import java.util.EnumMap;
-import java.util.Map;
+
+import kr.kro.airbob.common.monitoring.statement.StatementProfile;
 
 public class QueryCountContext {
 
 	private final String httpMethod;
 	private final String bestMatchPath;
-	private final EnumMap<SqlQueryType, Integer> queryCountByType = new EnumMap<>(SqlQueryType.class);
+	// 문장마다 호출되므로 박싱 없이 ordinal 위치에 누적한다
+	private final int[] queryCountByType = new int[SqlQueryType.values().length];
+	// 프로파일러 표본으로 뽑힌 요청에만 있다
+	private StatementProfile statementProfile;
 
 	public QueryCountContext(String httpMethod, String bestMatchPath) {
 		this.httpMethod = httpMethod;
@@ -19,11 +23,26 @@ public class QueryCountContext {
 	}
 
 	public void incrementQueryCount(SqlQueryType queryType) {
-		queryCountByType.merge(queryType, 1, Integer::sum);
-		queryCountByType.merge(SqlQueryType.TOTAL, 1, Integer::sum);
+		queryCountByType[queryType.ordinal()]++;
+		queryCountByType[SqlQueryType.TOTAL.ordinal()]++;
+	}
+
+	public void attachStatementProfile(StatementProfile statementProfile) {
+		this.statementProfile = statementProfile;
+	}
+
+	public StatementProfile statementProfile() {
+		return statementProfile;
 	}
 
 	public QueryCountSnapshot snapshot() {
-		return new QueryCountSnapshot(httpMethod, bestMatchPath, Map.copyOf(queryCountByType));
+		EnumMap<SqlQueryType, Integer> counts = new EnumMap<>(SqlQueryType.class);
+		for (SqlQueryType queryType : SqlQueryType.values()) {
+			int count = queryCountByType[queryType.ordinal()];
+			if (count > 0) {
+				counts.put(queryType, count);
+			}
+		}
+		return new QueryCountSnapshot(httpMethod, bestMatchPath, counts);
 	}
 }
@@ -11,6 +11,7 @@ import jakarta.servlet.AsyncEvent;
 import jakarta.servlet.AsyncListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import kr.kro.airbob.common.monitoring.statement.StatementProfiler;
 import lombok.RequiredArgsConstructor;
 
 @Component
@@ -22,6 +23,7 @@ public class QueryCountInterceptor implements AsyncHandlerInterceptor {
 	private static final String REQUEST_STATE_ATTRIBUTE = QueryCountInterceptor.class.getName() + ".STATE";
 
 	private final QueryCountMetricRecorder metricRecorder;
+	private final StatementProfiler statementProfiler;
 
 	@Override
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
@@ -32,7 +34,9 @@ public class QueryCountInterceptor implements AsyncHandlerInterceptor {
 				bestMatchPath = UNKNOWN_PATH;
 			}
 
-			state = new RequestState(new QueryCountContext(request.getMethod(), bestMatchPath));
+			QueryCountContext context = new QueryCountContext(request.getMethod(), bestMatchPath);
+			context.attachStatementProfile(statementProfiler.startRequest(request.getMethod(), bestMatchPath));
+			state = new RequestState(context);
 			request.setAttribute(REQUEST_STATE_ATTRIBUTE, state);
 		}
 
@@ -106,6 +110,7 @@ public class QueryCountInterceptor implements AsyncHandlerInterceptor {
 		try {
 			if (completionState != null && completionState.tryComplete()) {
 				metricRecorder.record(completionState.context().snapshot());
+				statementProfiler.complete(completionState.context().statementProfile());
 			}
 		} finally {
 			if (request.getAttribute(REQUEST_STATE_ATTRIBUTE) == completionState) {
@@ -9,6 +9,16 @@ import kr.kro.airbob.common.monitoring.bulkwrite.BulkOperationContextHolder;
 @Component
 public class SqlQueryStatementInspector implements StatementInspector {
 
+	private final SqlQueryTypeCache queryTypeCache;
+
+	public SqlQueryStatementInspector() {
+		this(new SqlQueryTypeCache());
+	}
+
+	SqlQueryStatementInspector(SqlQueryTypeCache queryTypeCache) {
+		this.queryTypeCache = queryTypeCache;
+	}
+
 	@Override
 	public String inspect(String sql) {
 		QueryCountContext context = QueryCountContextHolder.getContext();
@@ -17,9 +27,12 @@ public class SqlQueryStatementInspector implements StatementInspector {
 			return sql;
 		}
 
-		SqlQueryType queryType = SqlQueryType.from(sql);
+		SqlQueryType queryType = queryTypeCache.classify(sql);
 		if (context != null) {
 			context.incrementQueryCount(queryType);
+			if (context.statementProfile() != null) {
+				context.statementProfile().statementPrepared(sql);
+			}
 		}
 		if (bulkOperationContext != null) {
 			bulkOperationContext.recordHibernateStatement(queryType);
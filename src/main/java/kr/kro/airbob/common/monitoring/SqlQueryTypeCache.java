@@ -0,0 +1,49 @@
+package kr.kro.airbob.common.monitoring;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL 문자열별 분류 결과를 기억한다.
+ * Hibernate는 같은 엔티티·쿼리에 같은 SQL 문자열을 재사용하므로 주석 제거·소문자 변환·CTE 파싱은 문장마다 한 번만 한다.
+ * 리터럴이 박힌 native 쿼리처럼 문자열이 계속 바뀌는 경우를 위해 상한을 넘으면 더 담지 않고 매번 분류한다.
+ */
+final class SqlQueryTypeCache {
+
+	static final int DEFAULT_MAX_ENTRIES = 4096;
+
+	private final ConcurrentHashMap<String, SqlQueryType> typeBySql = new ConcurrentHashMap<>();
+	private final int maxEntries;
+
+	SqlQueryTypeCache() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	SqlQueryTypeCache(int maxEntries) {
+		if (maxEntries < 1) {
+			throw new IllegalArgumentException("maxEntries must be positive");
+		}
+		this.maxEntries = maxEntries;
+	}
+
+	SqlQueryType classify(String sql) {
+		if (sql == null) {
+			return SqlQueryType.from(null);
+		}
+
+		SqlQueryType cached = typeBySql.get(sql);
+		if (cached != null) {
+			return cached;
+		}
+
+		SqlQueryType queryType = SqlQueryType.from(sql);
+		// 상한은 근사치다. 동시에 채우는 스레드 수만큼 넘을 수 있다
+		if (typeBySql.size() < maxEntries) {
+			typeBySql.putIfAbsent(sql, queryType);
+		}
+		return queryType;
+	}
+
+	int size() {
+		return typeBySql.size();
+	}
+}
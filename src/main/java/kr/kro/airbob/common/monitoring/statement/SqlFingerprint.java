@@ -0,0 +1,128 @@
+package kr.kro.airbob.common.monitoring.statement;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 리터럴·주석·공백 차이를 지운 SQL 형태와 그 짧은 식별자.
+ * MySQL performance_schema의 statement digest처럼 같은 모양의 쿼리를 한 묶음으로 센다.
+ *
+ * @param id 메트릭 태그와 actuator 응답에서 쓰는 12자리 hex
+ * @param text 정규화한 SQL
+ */
+public record SqlFingerprint(String id, String text) {
+
+	// IN (?, ?, ?) 와 다중 행 VALUES 는 개수만 다른 같은 쿼리로 본다
+	private static final Pattern PARAMETER_LIST = Pattern.compile("\\( ?\\?(?: ?, ?\\?)+ ?\\)");
+	private static final Pattern REPEATED_TUPLES = Pattern.compile("(\\( ?\\?\\+? ?\\))(?: ?, ?\\( ?\\?\\+? ?\\))+");
+
+	public static SqlFingerprint of(String sql) {
+		String text = normalize(sql == null ? "" : sql);
+		return new SqlFingerprint(digest(text), text);
+	}
+
+	static String normalize(String sql) {
+		StringBuilder normalized = new StringBuilder(sql.length());
+		int length = sql.length();
+		int cursor = 0;
+		while (cursor < length) {
+			char current = sql.charAt(cursor);
+			if (current == '/' && cursor + 1 < length && sql.charAt(cursor + 1) == '*') {
+				int end = sql.indexOf("*/", cursor + 2);
+				cursor = end < 0 ? length : end + 2;
+				appendSpace(normalized);
+				continue;
+			}
+			if ((current == '-' && sql.startsWith("-- ", cursor)) || current == '#') {
+				int end = sql.indexOf('\n', cursor);
+				cursor = end < 0 ? length : end + 1;
+				appendSpace(normalized);
+				continue;
+			}
+			if (current == '\'' || current == '"') {
+				cursor = skipQuoted(sql, cursor, current);
+				normalized.append('?');
+				continue;
+			}
+			if (current == '`') {
+				int end = skipQuoted(sql, cursor, current);
+				normalized.append(sql, cursor, end);
+				cursor = end;
+				continue;
+			}
+			if (Character.isDigit(current) && !endsWithIdentifierPart(normalized)) {
+				cursor = skipNumber(sql, cursor);
+				normalized.append('?');
+				continue;
+			}
+			if (Character.isWhitespace(current)) {
+				appendSpace(normalized);
+				cursor++;
+				continue;
+			}
+			normalized.append(Character.toLowerCase(current));
+			cursor++;
+		}
+
+		String collapsed = PARAMETER_LIST.matcher(normalized.toString().strip()).replaceAll("(?+)");
+		return REPEATED_TUPLES.matcher(collapsed).replaceAll("$1, ...");
+	}
+
+	private static int skipQuoted(String sql, int position, char quote) {
+		int cursor = position + 1;
+		while (cursor < sql.length()) {
+			char current = sql.charAt(cursor);
+			if (current == '\\' && quote != '`') {
+				cursor += 2;
+				continue;
+			}
+			if (current == quote) {
+				if (cursor + 1 < sql.length() && sql.charAt(cursor + 1) == quote) {
+					cursor += 2;
+					continue;
+				}
+				return cursor + 1;
+			}
+			cursor++;
+		}
+		return sql.length();
+	}
+
+	private static int skipNumber(String sql, int position) {
+		int cursor = position;
+		while (cursor < sql.length()) {
+			char current = sql.charAt(cursor);
+			if (!Character.isLetterOrDigit(current) && current != '.') {
+				break;
+			}
+			cursor++;
+		}
+		return cursor;
+	}
+
+	private static boolean endsWithIdentifierPart(StringBuilder value) {
+		if (value.isEmpty()) {
+			return false;
+		}
+		char last = value.charAt(value.length() - 1);
+		return Character.isLetterOrDigit(last) || last == '_' || last == '$';
+	}
+
+	private static void appendSpace(StringBuilder value) {
+		if (!value.isEmpty() && value.charAt(value.length() - 1) != ' ') {
+			value.append(' ');
+		}
+	}
+
+	private static String digest(String text) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(hash, 0, 6);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package kr.kro.airbob.common.monitoring.statement;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 크기 로그 bucket 실행 시간 histogram. 여러 요청 스레드가 잠금 없이 동시에 기록한다.
+ * bucket i 는 [2^(i-1), 2^i) 마이크로초이고 마지막 bucket은 약 16초 이상을 모두 담는다.
+ */
+final class StatementLatencyHistogram {
+
+	static final int BUCKET_COUNT = 26;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	void record(long elapsedNanos) {
+		long nanos = Math.max(0L, elapsedNanos);
+		buckets.incrementAndGet(bucketIndex(nanos / 1_000L));
+		count.increment();
+		totalNanos.add(nanos);
+		maxNanos.accumulateAndGet(nanos, Math::max);
+	}
+
+	long count() {
+		return count.sum();
+	}
+
+	long totalNanos() {
+		return totalNanos.sum();
+	}
+
+	long maxNanos() {
+		return maxNanos.get();
+	}
+
+	/**
+	 * @return quantile이 속한 bucket의 상한(마이크로초). 기록이 없으면 0
+	 */
+	long quantileMicros(double quantile) {
+		long[] snapshot = new long[BUCKET_COUNT];
+		long total = 0L;
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			snapshot[index] = buckets.get(index);
+			total += snapshot[index];
+		}
+		if (total == 0L) {
+			return 0L;
+		}
+
+		long rank = (long)Math.ceil(quantile * total);
+		long cumulative = 0L;
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			cumulative += snapshot[index];
+			if (cumulative >= rank) {
+				return upperBoundMicros(index);
+			}
+		}
+		return upperBoundMicros(BUCKET_COUNT - 1);
+	}
+
+	static int bucketIndex(long micros) {
+		if (micros <= 0L) {
+			return 0;
+		}
+		return Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+	}
+
+	static long upperBoundMicros(int index) {
+		return 1L << index;
+	}
+}
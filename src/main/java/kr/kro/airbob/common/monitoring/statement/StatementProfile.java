@@ -0,0 +1,57 @@
+package kr.kro.airbob.common.monitoring.statement;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 표본으로 뽑힌 요청 하나의 SQL 실행 기록. 요청 컨텍스트와 같은 스레드 규칙을 따라 한 번에 한 스레드만 쓴다.
+ * StatementInspector가 준비한 문장을 기억해 두고, 뒤따르는 JDBC 실행 시간을 그 fingerprint에 기록한다.
+ */
+public final class StatementProfile {
+
+	private final StatementProfiler profiler;
+	private final String httpMethod;
+	private final String path;
+	private final Map<SqlFingerprint, Integer> executionsByFingerprint = new LinkedHashMap<>();
+
+	private SqlFingerprint preparedFingerprint;
+	private long executionStartedAt;
+	private boolean executing;
+
+	StatementProfile(StatementProfiler profiler, String httpMethod, String path) {
+		this.profiler = profiler;
+		this.httpMethod = httpMethod;
+		this.path = path;
+	}
+
+	public void statementPrepared(String sql) {
+		preparedFingerprint = profiler.fingerprint(sql);
+		executionsByFingerprint.merge(preparedFingerprint, 1, Integer::sum);
+	}
+
+	void executionStarted(long nanoTime) {
+		executionStartedAt = nanoTime;
+		executing = true;
+	}
+
+	// batch 실행은 마지막으로 준비한 문장에 묶인다
+	void executionFinished(long nanoTime) {
+		if (preparedFingerprint == null || !executing) {
+			return;
+		}
+		executing = false;
+		profiler.recordExecution(this, preparedFingerprint, nanoTime - executionStartedAt);
+	}
+
+	String httpMethod() {
+		return httpMethod;
+	}
+
+	String path() {
+		return path;
+	}
+
+	Map<SqlFingerprint, Integer> executionsByFingerprint() {
+		return executionsByFingerprint;
+	}
+}
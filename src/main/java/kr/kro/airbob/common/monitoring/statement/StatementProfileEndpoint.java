@@ -0,0 +1,26 @@
+package kr.kro.airbob.common.monitoring.statement;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * GET /actuator/statementprofile?limit=20 — 누적 실행 시간 상위 fingerprint와 N+1 의심 횟수
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "statementprofile")
+public class StatementProfileEndpoint {
+
+	private static final int DEFAULT_LIMIT = 50;
+
+	private final StatementProfiler statementProfiler;
+
+	@ReadOperation
+	public StatementProfileReport report(@Nullable Integer limit) {
+		return statementProfiler.report(limit == null ? DEFAULT_LIMIT : limit);
+	}
+}
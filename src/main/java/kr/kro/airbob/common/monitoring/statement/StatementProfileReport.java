@@ -0,0 +1,43 @@
+package kr.kro.airbob.common.monitoring.statement;
+
+import java.util.List;
+
+/**
+ * statementprofile actuator 응답. 누적 실행 시간이 큰 순서로 정렬한다
+ *
+ * @param trackedStatements 현재 추적 중인 엔드포인트·fingerprint 조합 수
+ * @param droppedExecutions 추적 상한 때문에 기록하지 못한 실행 수
+ */
+public record StatementProfileReport(
+	boolean enabled,
+	double sampleRate,
+	int repeatThreshold,
+	int trackedStatements,
+	long droppedExecutions,
+	List<Statement> statements
+) {
+
+	/**
+	 * @param requests 이 fingerprint를 실행한 표본 요청 수
+	 * @param executions 실행 시간을 잰 횟수
+	 * @param nPlusOneRequests 요청 하나에서 repeat-threshold를 넘게 반복한 요청 수
+	 * @param p95Micros 로그 bucket 상한이라 실제 값보다 최대 두 배 클 수 있다
+	 */
+	public record Statement(
+		String httpMethod,
+		String path,
+		String fingerprintId,
+		String fingerprint,
+		long requests,
+		long executions,
+		long maxExecutionsPerRequest,
+		long nPlusOneRequests,
+		long totalMillis,
+		long meanMicros,
+		long p50Micros,
+		long p95Micros,
+		long p99Micros,
+		long maxMicros
+	) {
+	}
+}
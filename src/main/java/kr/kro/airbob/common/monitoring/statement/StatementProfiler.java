@@ -0,0 +1,201 @@
+package kr.kro.airbob.common.monitoring.statement;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 표본 요청의 SQL을 fingerprint로 묶어 엔드포인트별 실행 시간과 요청당 반복 횟수를 모은다.
+ * 요청당 같은 fingerprint가 repeat-threshold를 넘으면 N+1 의심으로 센다.
+ * 조합 수는 max-tracked-statements로 묶어 메모리와 메트릭 cardinality가 늘지 않게 한다.
+ */
+@Slf4j
+@Component
+public class StatementProfiler {
+
+	public static final String STATEMENT_TIME = "app.query.statement";
+	public static final String N_PLUS_ONE_TOTAL = "app.query.n_plus_one";
+	public static final String DROPPED_TOTAL = "app.query.statement.dropped";
+
+	private static final int MAX_CACHED_FINGERPRINTS = 4096;
+
+	private final StatementProfilerProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final Counter droppedCounter;
+	private final ConcurrentHashMap<String, SqlFingerprint> fingerprintBySql = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<StatementKey, TrackedStatement> statements = new ConcurrentHashMap<>();
+
+	public StatementProfiler(StatementProfilerProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.droppedCounter = Counter.builder(DROPPED_TOTAL)
+			.description("Statement executions not profiled because the tracked statement limit was reached")
+			.register(meterRegistry);
+	}
+
+	public boolean enabled() {
+		return properties.enabled();
+	}
+
+	/**
+	 * @return 표본으로 뽑히면 요청 기록, 아니면 null
+	 */
+	public StatementProfile startRequest(String httpMethod, String path) {
+		if (!properties.enabled() || ThreadLocalRandom.current().nextDouble() >= properties.sampleRate()) {
+			return null;
+		}
+		return new StatementProfile(this, httpMethod, path);
+	}
+
+	public void complete(StatementProfile profile) {
+		if (profile == null) {
+			return;
+		}
+		for (Map.Entry<SqlFingerprint, Integer> entry : profile.executionsByFingerprint().entrySet()) {
+			TrackedStatement statement = tracked(profile, entry.getKey(), false);
+			if (statement == null) {
+				continue;
+			}
+			int executions = entry.getValue();
+			statement.recordRequest(executions);
+			if (executions > properties.repeatThreshold()) {
+				statement.nPlusOneRequests.increment();
+				countNPlusOne(profile, entry.getKey());
+				log.info("[QUERY-PROFILE] N+1 의심: {} {}, executions={}, fingerprint={} {}",
+					profile.httpMethod(), profile.path(), executions, entry.getKey().id(), entry.getKey().text());
+			}
+		}
+	}
+
+	public StatementProfileReport report(int limit) {
+		List<StatementProfileReport.Statement> top = statements.values().stream()
+			.sorted(Comparator.comparingLong((TrackedStatement statement) -> statement.histogram.totalNanos())
+				.reversed())
+			.limit(Math.max(0, limit))
+			.map(TrackedStatement::toReport)
+			.toList();
+		return new StatementProfileReport(
+			properties.enabled(),
+			properties.sampleRate(),
+			properties.repeatThreshold(),
+			statements.size(),
+			(long)droppedCounter.count(),
+			top
+		);
+	}
+
+	SqlFingerprint fingerprint(String sql) {
+		String key = sql == null ? "" : sql;
+		SqlFingerprint cached = fingerprintBySql.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		SqlFingerprint fingerprint = SqlFingerprint.of(key);
+		if (fingerprintBySql.size() < MAX_CACHED_FINGERPRINTS) {
+			fingerprintBySql.putIfAbsent(key, fingerprint);
+		}
+		return fingerprint;
+	}
+
+	void recordExecution(StatementProfile profile, SqlFingerprint fingerprint, long elapsedNanos) {
+		TrackedStatement statement = tracked(profile, fingerprint, true);
+		if (statement != null) {
+			statement.histogram.record(elapsedNanos);
+		}
+	}
+
+	private TrackedStatement tracked(StatementProfile profile, SqlFingerprint fingerprint, boolean countDropped) {
+		StatementKey key = new StatementKey(profile.httpMethod(), profile.path(), fingerprint.id());
+		TrackedStatement statement = statements.get(key);
+		if (statement != null) {
+			return statement;
+		}
+		// 상한은 근사치다. 동시에 채우는 스레드 수만큼 넘을 수 있다
+		if (statements.size() >= properties.maxTrackedStatements()) {
+			if (countDropped) {
+				droppedCounter.increment();
+			}
+			return null;
+		}
+		return statements.computeIfAbsent(key, ignored -> register(key, fingerprint));
+	}
+
+	private TrackedStatement register(StatementKey key, SqlFingerprint fingerprint) {
+		TrackedStatement statement = new TrackedStatement(key, fingerprint);
+		FunctionTimer.builder(STATEMENT_TIME, statement.histogram,
+				StatementLatencyHistogram::count,
+				StatementLatencyHistogram::totalNanos,
+				TimeUnit.NANOSECONDS)
+			.description("JDBC execution time of sampled requests by statement fingerprint")
+			.tag("path", key.path())
+			.tag("http_method", key.httpMethod())
+			.tag("fingerprint", key.fingerprintId())
+			.register(meterRegistry);
+		return statement;
+	}
+
+	private void countNPlusOne(StatementProfile profile, SqlFingerprint fingerprint) {
+		Counter.builder(N_PLUS_ONE_TOTAL)
+			.description("Sampled requests that repeated one statement fingerprint beyond the threshold")
+			.tag("path", profile.path())
+			.tag("http_method", profile.httpMethod())
+			.tag("fingerprint", fingerprint.id())
+			.register(meterRegistry)
+			.increment();
+	}
+
+	private record StatementKey(String httpMethod, String path, String fingerprintId) {
+	}
+
+	private static final class TrackedStatement {
+
+		private final StatementKey key;
+		private final SqlFingerprint fingerprint;
+		private final StatementLatencyHistogram histogram = new StatementLatencyHistogram();
+		private final LongAdder requests = new LongAdder();
+		private final LongAdder nPlusOneRequests = new LongAdder();
+		private final AtomicLong maxExecutionsPerRequest = new AtomicLong();
+
+		private TrackedStatement(StatementKey key, SqlFingerprint fingerprint) {
+			this.key = key;
+			this.fingerprint = fingerprint;
+		}
+
+		private void recordRequest(int executions) {
+			requests.increment();
+			maxExecutionsPerRequest.accumulateAndGet(executions, Math::max);
+		}
+
+		private StatementProfileReport.Statement toReport() {
+			long executions = histogram.count();
+			return new StatementProfileReport.Statement(
+				key.httpMethod(),
+				key.path(),
+				fingerprint.id(),
+				fingerprint.text(),
+				requests.sum(),
+				executions,
+				maxExecutionsPerRequest.get(),
+				nPlusOneRequests.sum(),
+				TimeUnit.NANOSECONDS.toMillis(histogram.totalNanos()),
+				executions == 0L ? 0L : TimeUnit.NANOSECONDS.toMicros(histogram.totalNanos() / executions),
+				histogram.quantileMicros(0.5),
+				histogram.quantileMicros(0.95),
+				histogram.quantileMicros(0.99),
+				TimeUnit.NANOSECONDS.toMicros(histogram.maxNanos())
+			);
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package kr.kro.airbob.common.monitoring.statement;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL fingerprint 프로파일러 설정을 등록하고, 켜져 있을 때만 실행 시간 측정용 Hibernate 세션 리스너를 붙인다
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(StatementProfilerProperties.class)
+public class StatementProfilerConfiguration {
+
+	public static final String SESSION_EVENTS_PROPERTY = "hibernate.session.events.auto";
+
+	@Bean
+	HibernatePropertiesCustomizer statementTimingSessionListenerCustomizer(StatementProfilerProperties properties) {
+		return hibernateProperties -> {
+			if (properties.enabled()) {
+				hibernateProperties.put(SESSION_EVENTS_PROPERTY, StatementTimingSessionListener.class.getName());
+			}
+		};
+	}
+}
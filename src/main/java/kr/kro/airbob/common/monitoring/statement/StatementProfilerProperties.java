@@ -0,0 +1,28 @@
+package kr.kro.airbob.common.monitoring.statement;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+
+/**
+ * 요청 표본의 SQL을 fingerprint 단위로 계측하는 프로파일러 설정
+ *
+ * @param enabled 꺼져 있으면 요청을 표본으로 뽑지 않고 Hibernate 세션 리스너도 등록하지 않음
+ * @param sampleRate 계측할 요청 비율(0~1)
+ * @param repeatThreshold 한 요청에서 같은 fingerprint가 이 횟수를 넘으면 N+1 의심으로 표시
+ * @param maxTrackedStatements 엔드포인트·fingerprint 조합 상한. 넘는 조합은 버리고 dropped로 센다
+ */
+@ConfigurationProperties(prefix = "monitoring.statement-profiler")
+public record StatementProfilerProperties(
+	boolean enabled,
+	double sampleRate,
+	int repeatThreshold,
+	int maxTrackedStatements
+) {
+	public StatementProfilerProperties {
+		Assert.isTrue(sampleRate >= 0.0 && sampleRate <= 1.0,
+			"monitoring.statement-profiler.sample-rate must be between 0 and 1");
+		Assert.isTrue(repeatThreshold > 0, "monitoring.statement-profiler.repeat-threshold must be positive");
+		Assert.isTrue(maxTrackedStatements > 0,
+			"monitoring.statement-profiler.max-tracked-statements must be positive");
+	}
+}
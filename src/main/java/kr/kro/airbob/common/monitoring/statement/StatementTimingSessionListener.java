@@ -0,0 +1,44 @@
+package kr.kro.airbob.common.monitoring.statement;
+
+import org.hibernate.SessionEventListener;
+
+import kr.kro.airbob.common.monitoring.QueryCountContext;
+import kr.kro.airbob.common.monitoring.QueryCountContextHolder;
+
+/**
+ * Hibernate가 세션마다 만드는 리스너. 현재 요청이 표본일 때만 JDBC 실행 시간을 잰다.
+ * StatementInspector는 SQL만 보고 실행 시간은 모르므로 실행 전후 이벤트를 여기서 받는다.
+ */
+public class StatementTimingSessionListener implements SessionEventListener {
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		StatementProfile profile = currentProfile();
+		if (profile != null) {
+			profile.executionStarted(System.nanoTime());
+		}
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		StatementProfile profile = currentProfile();
+		if (profile != null) {
+			profile.executionFinished(System.nanoTime());
+		}
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart() {
+		jdbcExecuteStatementStart();
+	}
+
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		jdbcExecuteStatementEnd();
+	}
+
+	private StatementProfile currentProfile() {
+		QueryCountContext context = QueryCountContextHolder.getContext();
+		return context == null ? null : context.statementProfile();
+	}
+}
@@ -0,0 +1,74 @@
+package kr.kro.airbob.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * 숙소 색인 소비자의 단건·배치 모드 전환
+ * 배치 모드에서는 단건 소비자의 원본 토픽 컨테이너만 멈추고 retry/DLT 컨테이너는 그대로 둔다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class AccommodationIndexingKafkaConsumerConfig {
+
+	public static final String CONTAINER_FACTORY =
+		"accommodationIndexingKafkaListenerContainerFactory";
+	public static final String BATCH_CONTAINER_FACTORY =
+		"accommodationIndexingBatchKafkaListenerContainerFactory";
+
+	@Bean(name = CONTAINER_FACTORY)
+	public ConcurrentKafkaListenerContainerFactory<Object, Object>
+		accommodationIndexingKafkaListenerContainerFactory(
+			ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+			KafkaProperties kafkaProperties,
+			@Value("${accommodation.indexing.kafka.batch.enabled:false}") boolean batchEnabled
+		) {
+		DefaultKafkaConsumerFactory<Object, Object> consumerFactory =
+			new DefaultKafkaConsumerFactory<>(kafkaProperties.buildConsumerProperties());
+		ConcurrentKafkaListenerContainerFactory<Object, Object> containerFactory =
+			new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.configure(containerFactory, consumerFactory);
+		// 엔드포인트의 autoStartup 적용 뒤에 실행되므로 배치 모드에서는 항상 정지 상태로 생성
+		containerFactory.setContainerCustomizer(container -> {
+			if (batchEnabled) {
+				container.setAutoStartup(false);
+			}
+		});
+		return containerFactory;
+	}
+
+	@Bean(name = BATCH_CONTAINER_FACTORY)
+	public ConcurrentKafkaListenerContainerFactory<Object, Object>
+		accommodationIndexingBatchKafkaListenerContainerFactory(
+			ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+			KafkaProperties kafkaProperties,
+			@Value("${accommodation.indexing.kafka.batch.max-poll-records:200}") int maxPollRecords,
+			@Value("${accommodation.indexing.kafka.batch.redelivery-backoff-ms:5000}") long redeliveryBackoffMs
+		) {
+		Map<String, Object> consumerProperties = new HashMap<>(
+			kafkaProperties.buildConsumerProperties());
+		consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+		DefaultKafkaConsumerFactory<Object, Object> consumerFactory =
+			new DefaultKafkaConsumerFactory<>(consumerProperties);
+		ConcurrentKafkaListenerContainerFactory<Object, Object> containerFactory =
+			new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.configure(containerFactory, consumerFactory);
+		containerFactory.setBatchListener(true);
+		// 항목별 실패는 소비자가 retry 토픽으로 보낸다
+		// 여기까지 오는 예외는 retry 토픽 발행 실패뿐이므로 버리지 않고 같은 배치를 다시 읽는다
+		containerFactory.setCommonErrorHandler(new DefaultErrorHandler(
+			new FixedBackOff(redeliveryBackoffMs, FixedBackOff.UNLIMITED_ATTEMPTS)));
+		return containerFactory;
+	}
+}
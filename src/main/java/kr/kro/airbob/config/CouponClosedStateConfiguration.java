@@ -0,0 +1,12 @@
+package kr.kro.airbob.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 쿠폰 매진·종료 로컬 상태 설정 값을 애플리케이션 빈으로 등록
+ */
+@Configuration
+@EnableConfigurationProperties(CouponClosedStateProperties.class)
+public class CouponClosedStateConfiguration {
+}
@@ -0,0 +1,26 @@
+package kr.kro.airbob.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+
+/**
+ * 매진·종료된 쿠폰을 노드 안에서 바로 거절하기 위한 로컬 상태 설정
+ *
+ * @param enabled false면 모든 발급 요청이 Lua까지 도달
+ * @param ttl 로컬 상태 보관 시간. 보상 알림이 유실되어도 이 시간 뒤에는 Lua로 다시 확인
+ * @param channel 노드 간 상태 전파에 쓰는 Redis pub/sub 채널
+ */
+@ConfigurationProperties(prefix = "coupon.issue.closed-state")
+public record CouponClosedStateProperties(
+	boolean enabled,
+	Duration ttl,
+	String channel
+) {
+	public CouponClosedStateProperties {
+		Assert.notNull(ttl, "coupon.issue.closed-state.ttl must not be null");
+		Assert.isTrue(!ttl.isNegative() && !ttl.isZero(), "coupon.issue.closed-state.ttl must be positive");
+		Assert.hasText(channel, "coupon.issue.closed-state.channel must not be blank");
+	}
+}
@@ -0,0 +1,70 @@
+package kr.kro.airbob.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * 쿠폰 발급 승인 write-behind 전용 프로듀서와 소비자의 배치 컨테이너
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(CouponWriteBehindProperties.class)
+public class CouponWriteBehindKafkaConfig {
+
+	public static final String BATCH_CONTAINER_FACTORY = "couponIssueApprovalBatchKafkaListenerContainerFactory";
+	public static final String APPROVAL_KAFKA_TEMPLATE = "couponIssueApprovalKafkaTemplate";
+
+	// 승인은 유실·중복 없이 모든 ISR에 기록돼야 하므로 dead-letter 프로듀서 설정을 물려받지 않는다
+	@Bean(name = APPROVAL_KAFKA_TEMPLATE)
+	@ConditionalOnProperty(name = "coupon.issue.write-behind.enabled", havingValue = "true")
+	public KafkaTemplate<String, String> couponIssueApprovalKafkaTemplate(
+		KafkaProperties kafkaProperties,
+		CouponWriteBehindProperties properties
+	) {
+		Map<String, Object> producerProperties = new HashMap<>(kafkaProperties.buildProducerProperties());
+		producerProperties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+		producerProperties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+		producerProperties.put(ProducerConfig.ACKS_CONFIG, "all");
+		producerProperties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+		producerProperties.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG,
+			Math.toIntExact(properties.deliveryTimeout().toMillis()));
+		return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProperties));
+	}
+
+	@Bean(name = BATCH_CONTAINER_FACTORY)
+	public ConcurrentKafkaListenerContainerFactory<Object, Object> couponIssueApprovalBatchKafkaListenerContainerFactory(
+		ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+		KafkaProperties kafkaProperties,
+		CouponWriteBehindProperties properties
+	) {
+		Map<String, Object> consumerProperties = new HashMap<>(kafkaProperties.buildConsumerProperties());
+		consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.maxPollRecords());
+
+		DefaultKafkaConsumerFactory<Object, Object> consumerFactory =
+			new DefaultKafkaConsumerFactory<>(consumerProperties);
+		ConcurrentKafkaListenerContainerFactory<Object, Object> containerFactory =
+			new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.configure(containerFactory, consumerFactory);
+		containerFactory.setBatchListener(true);
+		// 영구 실패는 소비자가 Redis 보상으로 정리한다
+		// 여기까지 오는 예외는 DB 장애 같은 일시 실패이므로 버리지 않고 같은 배치를 다시 읽는다. 저장은 멱등
+		containerFactory.setCommonErrorHandler(new DefaultErrorHandler(
+			new FixedBackOff(properties.redeliveryBackoff().toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS)));
+		return containerFactory;
+	}
+}
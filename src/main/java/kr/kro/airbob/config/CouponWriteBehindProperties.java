@@ -0,0 +1,40 @@
+package kr.kro.airbob.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+
+/**
+ * Lua 승인 발급의 write-behind 영속화 설정
+ *
+ * @param enabled true면 승인 결과를 Kafka에 기록하고 응답하며, 소비자가 묶어서 DB에 저장
+ * @param topic 승인 결과를 쌓는 토픽. 쿠폰 ID를 키로 써서 같은 쿠폰은 한 파티션에서 순서대로 처리
+ * @param publishTimeout 브로커 ack 대기 시간. 넘기면 성공으로 응답하고 전송이 실패로 끝날 때 보상
+ * @param deliveryTimeout 승인 전용 프로듀서의 delivery.timeout.ms. 재시도를 포함해 이 시간 안에 기록되지 않으면 실패
+ * @param maxPollRecords 한 번에 묶어 저장할 최대 승인 수
+ * @param redeliveryBackoff DB 장애 등 일시 실패로 같은 배치를 다시 읽기 전 대기 시간
+ */
+@ConfigurationProperties(prefix = "coupon.issue.write-behind")
+public record CouponWriteBehindProperties(
+	boolean enabled,
+	String topic,
+	Duration publishTimeout,
+	Duration deliveryTimeout,
+	int maxPollRecords,
+	Duration redeliveryBackoff
+) {
+	public CouponWriteBehindProperties {
+		Assert.hasText(topic, "coupon.issue.write-behind.topic must not be blank");
+		Assert.notNull(publishTimeout, "coupon.issue.write-behind.publish-timeout must not be null");
+		Assert.isTrue(!publishTimeout.isNegative() && !publishTimeout.isZero(),
+			"coupon.issue.write-behind.publish-timeout must be positive");
+		Assert.notNull(deliveryTimeout, "coupon.issue.write-behind.delivery-timeout must not be null");
+		Assert.isTrue(!deliveryTimeout.isNegative() && !deliveryTimeout.isZero(),
+			"coupon.issue.write-behind.delivery-timeout must be positive");
+		Assert.isTrue(maxPollRecords > 0, "coupon.issue.write-behind.max-poll-records must be positive");
+		Assert.notNull(redeliveryBackoff, "coupon.issue.write-behind.redelivery-backoff must not be null");
+		Assert.isTrue(!redeliveryBackoff.isNegative(),
+			"coupon.issue.write-behind.redelivery-backoff must not be negative");
+	}
+}
@@ -0,0 +1,30 @@
+package kr.kro.airbob.cursor.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 숙소 검색 search_after 커서
+ * 마지막 문서의 정렬 값(점수, 숙소 ID)과 다음 페이지 번호, 고정한 point-in-time ID를 담는다.
+ */
+public record SearchCursorData(
+	Long id,
+	Double lastScore,
+	Integer page,
+	String pointInTimeId
+) implements CursorPayload {
+
+	@JsonIgnore
+	@Override
+	public LocalDateTime lastCreatedAt() {
+		return null;
+	}
+
+	@Override
+	public void validate() {
+		if (id() == null || id() < 1 || lastScore == null || lastScore.isNaN() || page == null || page < 1) {
+			throw new IllegalArgumentException("검색 커서 값이 유효하지 않습니다.");
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package kr.kro.airbob.domain.accommodation.availability;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.kro.airbob.domain.reservation.dto.ReservationDateRange;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 숙소별 예약 현황 비트맵을 Redis에 보관하는 조회 모델
+ * 예약 변경 이벤트가 버전을 올리고 비트맵을 지우면 다음 조회가 DB에서 다시 만든다.
+ */
+@Slf4j
+@Component
+public class AccommodationAvailabilityReadModel {
+
+	public static final String LOOKUP_TOTAL = "accommodation.availability.read_model.lookup";
+
+	// 비트맵과 버전은 같은 hash slot에 두기 위해 숙소 UID를 hash tag로 사용
+	private static final String BITMAP_KEY_PREFIX = "airbob:availability:bitmap:";
+	private static final String VERSION_KEY_PREFIX = "airbob:availability:version:";
+	private static final String MISSING_VERSION = "0";
+	private static final long BITMAP_TTL_MILLIS = 60 * 60 * 1000L; // 1시간
+	private static final long VERSION_TTL_MILLIS = 24 * 60 * 60 * 1000L; // 1일
+
+	// DB 조회를 시작할 때 읽은 버전이 그대로인 경우에만 저장
+	// 조회 도중 예약 변경이 버전을 올렸다면 오래된 결과는 저장하지 않음
+	private static final DefaultRedisScript<Long> WRITE_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>("""
+		local current = redis.call('GET', KEYS[1]) or ARGV[2]
+		if current ~= ARGV[1] then
+			return 0
+		end
+		redis.call('PSETEX', KEYS[2], ARGV[3], ARGV[4])
+		return 1
+		""", Long.class);
+
+	private static final DefaultRedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('INCR', KEYS[1])
+		redis.call('PEXPIRE', KEYS[1], ARGV[1])
+		redis.call('DEL', KEYS[2])
+		return 1
+		""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final EnumMap<LookupResult, Counter> lookupCounters = new EnumMap<>(LookupResult.class);
+
+	public AccommodationAvailabilityReadModel(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry) {
+		this.redisTemplate = redisTemplate;
+		// 조회마다 builder로 meter를 찾지 않도록 결과별 카운터를 미리 등록
+		for (LookupResult result : LookupResult.values()) {
+			lookupCounters.put(result, Counter.builder(LOOKUP_TOTAL)
+				.description("Accommodation availability read model lookups")
+				.tag("result", result.name().toLowerCase(Locale.ROOT))
+				.register(meterRegistry));
+		}
+	}
+
+	public AvailabilityBitmap getOrLoad(
+		UUID accommodationUid,
+		LocalDate windowStart,
+		LocalDate windowEndExclusive,
+		Supplier<List<ReservationDateRange>> loader
+	) {
+		List<String> keys = keys(accommodationUid);
+		List<String> values;
+		try {
+			values = redisTemplate.opsForValue().multiGet(keys);
+		} catch (RuntimeException e) {
+			log.warn("예약 현황 조회 모델 조회 실패. DB로 대체. accommodationUid={}", accommodationUid, e);
+			record(LookupResult.ERROR);
+			return AvailabilityBitmap.of(windowStart, windowEndExclusive, loader.get());
+		}
+
+		String version = values == null || values.get(0) == null ? MISSING_VERSION : values.get(0);
+		String encoded = values == null ? null : values.get(1);
+		LookupResult result = LookupResult.MISS;
+		if (encoded != null) {
+			AvailabilityBitmap cached = decode(accommodationUid, encoded);
+			if (cached != null && cached.covers(windowStart, windowEndExclusive)) {
+				record(LookupResult.HIT);
+				return cached;
+			}
+			// 예약 가능 기간 시작일이 바뀌었거나 손상된 값은 다시 만든다
+			result = LookupResult.STALE;
+		}
+
+		AvailabilityBitmap loaded = AvailabilityBitmap.of(windowStart, windowEndExclusive, loader.get());
+		record(result);
+		store(accommodationUid, keys, version, loaded);
+		return loaded;
+	}
+
+	public void invalidate(UUID accommodationUid) {
+		redisTemplate.execute(INVALIDATE_SCRIPT, keys(accommodationUid), String.valueOf(VERSION_TTL_MILLIS));
+	}
+
+	private void store(UUID accommodationUid, List<String> keys, String version, AvailabilityBitmap bitmap) {
+		try {
+			redisTemplate.execute(
+				WRITE_IF_UNCHANGED_SCRIPT,
+				keys,
+				version,
+				MISSING_VERSION,
+				String.valueOf(BITMAP_TTL_MILLIS),
+				bitmap.encode());
+		} catch (RuntimeException e) {
+			log.warn("예약 현황 조회 모델 저장 실패. accommodationUid={}", accommodationUid, e);
+		}
+	}
+
+	private AvailabilityBitmap decode(UUID accommodationUid, String encoded) {
+		try {
+			return AvailabilityBitmap.decode(encoded);
+		} catch (RuntimeException e) {
+			log.warn("예약 현황 조회 모델 값 손상. 다시 생성. accommodationUid={}", accommodationUid);
+			return null;
+		}
+	}
+
+	private List<String> keys(UUID accommodationUid) {
+		String hashTag = "{" + accommodationUid + "}";
+		return List.of(VERSION_KEY_PREFIX + hashTag, BITMAP_KEY_PREFIX + hashTag);
+	}
+
+	private void record(LookupResult result) {
+		lookupCounters.get(result).increment();
+	}
+
+	enum LookupResult {
+		// Redis 비트맵을 그대로 사용
+		HIT,
+		// 비트맵이 없어 DB에서 생성
+		MISS,
+		// 예약 가능 기간이 달라졌거나 손상된 비트맵을 DB에서 다시 생성
+		STALE,
+		// Redis 장애로 DB 결과만 반환
+		ERROR
+	}
+}
@@ -0,0 +1,95 @@
+package kr.kro.airbob.domain.accommodation.availability;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+
+import kr.kro.airbob.domain.accommodation.dto.AccommodationResponse;
+import kr.kro.airbob.domain.reservation.dto.ReservationDateRange;
+
+/**
+ * 예약 가능 기간의 하루를 비트 하나로 표현한 숙소별 예약 현황
+ * 비트가 켜진 날짜는 활성 예약이 점유한 숙박일
+ */
+public final class AvailabilityBitmap {
+
+	private static final char SEPARATOR = ':';
+
+	private final LocalDate windowStart;
+	private final int days;
+	private final BitSet occupied;
+
+	private AvailabilityBitmap(LocalDate windowStart, int days, BitSet occupied) {
+		this.windowStart = windowStart;
+		this.days = days;
+		this.occupied = occupied;
+	}
+
+	public static AvailabilityBitmap of(
+		LocalDate windowStart,
+		LocalDate windowEndExclusive,
+		List<ReservationDateRange> ranges
+	) {
+		int days = dayOffset(windowStart, windowEndExclusive);
+		BitSet occupied = new BitSet(days);
+		for (ReservationDateRange range : ranges) {
+			int from = Math.max(0, dayOffset(windowStart, range.checkIn()));
+			int to = Math.min(days, dayOffset(windowStart, range.checkOut()));
+			if (from < to) {
+				occupied.set(from, to);
+			}
+		}
+		return new AvailabilityBitmap(windowStart, days, occupied);
+	}
+
+	public boolean covers(LocalDate windowStart, LocalDate windowEndExclusive) {
+		return this.windowStart.equals(windowStart) && days == dayOffset(windowStart, windowEndExclusive);
+	}
+
+	// 범위 질의 없이 비트 word 단위로 겹침을 확인, 예약 가능 기간 밖의 날짜는 판단하지 않음
+	public boolean isAvailable(LocalDate checkIn, LocalDate checkOut) {
+		int from = Math.max(0, dayOffset(windowStart, checkIn));
+		int to = Math.min(days, dayOffset(windowStart, checkOut));
+		int firstOccupied = occupied.nextSetBit(from);
+		return firstOccupied < 0 || firstOccupied >= to;
+	}
+
+	// 연속된 점유일을 묶어 시작일 순으로 반환하므로 별도 정렬·병합이 필요 없음
+	public List<AccommodationResponse.UnavailableDateRange> unavailableRanges() {
+		List<AccommodationResponse.UnavailableDateRange> ranges = new ArrayList<>();
+		int from = occupied.nextSetBit(0);
+		while (from >= 0) {
+			int to = occupied.nextClearBit(from);
+			ranges.add(new AccommodationResponse.UnavailableDateRange(
+				windowStart.plusDays(from), windowStart.plusDays(to)));
+			from = occupied.nextSetBit(to);
+		}
+		return List.copyOf(ranges);
+	}
+
+	String encode() {
+		return windowStart.toEpochDay() + String.valueOf(SEPARATOR) + days + SEPARATOR
+			+ Base64.getEncoder().withoutPadding().encodeToString(occupied.toByteArray());
+	}
+
+	static AvailabilityBitmap decode(String value) {
+		int first = value.indexOf(SEPARATOR);
+		int second = value.indexOf(SEPARATOR, first + 1);
+		if (first < 0 || second < 0) {
+			throw new IllegalArgumentException("invalid availability bitmap");
+		}
+		LocalDate windowStart = LocalDate.ofEpochDay(Long.parseLong(value.substring(0, first)));
+		int days = Integer.parseInt(value.substring(first + 1, second));
+		BitSet occupied = BitSet.valueOf(Base64.getDecoder().decode(value.substring(second + 1)));
+		if (days < 0 || occupied.length() > days) {
+			throw new IllegalArgumentException("invalid availability bitmap");
+		}
+		return new AvailabilityBitmap(windowStart, days, occupied);
+	}
+
+	private static int dayOffset(LocalDate windowStart, LocalDate date) {
+		return Math.toIntExact(date.toEpochDay() - windowStart.toEpochDay());
+	}
+}
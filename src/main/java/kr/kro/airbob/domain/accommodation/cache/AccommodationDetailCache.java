@@ -16,11 +16,15 @@ import static kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheM
 import static kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.RequestResult.HIT;
 import static kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.RequestResult.HIT_AFTER_WAIT;
 import static kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.RequestResult.LOADED;
+import static kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.RequestResult.LOCAL_HIT;
+import static kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.RequestResult.LOCAL_NEGATIVE_HIT;
 import static kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.RequestResult.NEGATIVE_COALESCED;
 import static kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.RequestResult.NEGATIVE_HIT;
 import static kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.RequestResult.NEGATIVE_LOADED;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -39,11 +43,14 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.CacheTier;
+import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.TierLookupResult;
+import kr.kro.airbob.domain.accommodation.cache.codec.AccommodationDetailCacheCodecRegistry;
+import kr.kro.airbob.domain.accommodation.cache.codec.AccommodationDetailCacheFormat;
 import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailCacheJitter;
 import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailCacheProperties;
+import kr.kro.airbob.domain.accommodation.cache.invalidation.AccommodationDetailLocalCacheInvalidationBroadcaster;
+import kr.kro.airbob.domain.accommodation.cache.local.AccommodationDetailLocalCache;
 import kr.kro.airbob.domain.accommodation.cache.redis.AccommodationDetailRedisClient;
 import kr.kro.airbob.domain.accommodation.dto.AccommodationDetailSnapshot;
 import kr.kro.airbob.domain.accommodation.exception.AccommodationNotFoundException;
@@ -53,9 +60,7 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class AccommodationDetailCache {
 
-	// v1은 직렬화 payload 버전
-	// 호환되지 않는 구조 변경 시 key namespace를 올림
-	private static final String CACHE_KEY_PREFIX = "airbob:cache:accommodation-detail:v1:";
+	// 값 key namespace는 payload 형식별로 AccommodationDetailCacheFormat이 결정
 	private static final String LOAD_PERMIT_KEY_PREFIX = "airbob:cache:accommodation-detail:load-permit:";
 	private static final String LOCK_KEY_PREFIX = "airbob:lock:accommodation-detail:";
 	private static final LocalLoadInvalidatedException LOCAL_LOAD_INVALIDATED =
@@ -75,9 +80,11 @@ public class AccommodationDetailCache {
 		""", Long.class);
 
 	// 캐시 값과 진행 중인 쓰기 허가를 함께 지워 무효화와 캐시 저장 사이의 경쟁을 차단
+	// KEYS[1]은 쓰기 허가, 나머지는 형식별 캐시 값이며 모두 같은 hash slot에 위치
 	private static final DefaultRedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
-		redis.call('DEL', KEYS[1])
-		redis.call('DEL', KEYS[2])
+		for index = 1, #KEYS do
+			redis.call('DEL', KEYS[index])
+		end
 		return 1
 		""", Long.class);
 
@@ -98,10 +105,12 @@ public class AccommodationDetailCache {
 
 	private final AccommodationDetailRedisClient redisClient;
 	private final RedissonClient redissonClient;
-	private final ObjectMapper objectMapper;
+	private final AccommodationDetailCacheCodecRegistry codecRegistry;
 	private final AccommodationDetailCacheMetricRecorder metricRecorder;
 	private final AccommodationDetailCacheJitter jitter;
 	private final AccommodationDetailCacheProperties properties;
+	private final AccommodationDetailLocalCache localCache;
+	private final AccommodationDetailLocalCacheInvalidationBroadcaster localCacheBroadcaster;
 
 	// Redis 장애나 락 timeout으로 DB를 직접 볼 때 같은 JVM의 중복 조회를 하나로 합침
 	private final ConcurrentHashMap<Long, LocalLoad> localLoads =
@@ -114,17 +123,21 @@ public class AccommodationDetailCache {
 	public AccommodationDetailCache(
 		AccommodationDetailRedisClient redisClient,
 		@Qualifier("accommodationDetailRedissonClient") RedissonClient redissonClient,
-		ObjectMapper objectMapper,
+		AccommodationDetailCacheCodecRegistry codecRegistry,
 		AccommodationDetailCacheMetricRecorder metricRecorder,
 		AccommodationDetailCacheJitter jitter,
-		AccommodationDetailCacheProperties properties
+		AccommodationDetailCacheProperties properties,
+		AccommodationDetailLocalCache localCache,
+		AccommodationDetailLocalCacheInvalidationBroadcaster localCacheBroadcaster
 	) {
 		this.redisClient = redisClient;
 		this.redissonClient = redissonClient;
-		this.objectMapper = objectMapper;
+		this.codecRegistry = codecRegistry;
 		this.metricRecorder = metricRecorder;
 		this.jitter = jitter;
 		this.properties = properties;
+		this.localCache = localCache;
+		this.localCacheBroadcaster = localCacheBroadcaster;
 	}
 
 	public AccommodationDetailSnapshot getOrLoad(
@@ -145,14 +158,25 @@ public class AccommodationDetailCache {
 			return loadWithoutCache(accommodationId, loader);
 		}
 
+		// L1에 값이 있으면 Redis 왕복과 역직렬화 없이 응답
+		if (localCache.enabled()) {
+			AccommodationDetailCacheValue localValue = localCache.get(accommodationId);
+			if (localValue != null) {
+				return resolveLocalHit(localValue);
+			}
+			metricRecorder.recordTierLookup(CacheTier.LOCAL, TierLookupResult.MISS);
+		}
+		// Redis 조회 전에 fence를 받아 조회 도중 무효화된 값이 L1에 저장되지 않게 함
+		long localFence = localCache.fence(accommodationId);
+
 		// 캐시가 정상이면 락이나 DB를 사용하지 않음
 		CacheLookup<AccommodationDetailSnapshot> firstLookup = read(accommodationId);
 		switch (firstLookup) {
 			case CacheLookup.Hit<AccommodationDetailSnapshot>(var snapshot) -> {
-				return resolvePositiveHit(snapshot, HIT);
+				return resolvePositiveHit(accommodationId, localFence, snapshot, HIT);
 			}
 			case CacheLookup.NegativeHit<AccommodationDetailSnapshot>() -> {
-				return resolveNegativeHit();
+				return resolveNegativeHit(accommodationId, localFence);
 			}
 			case CacheLookup.Failure<AccommodationDetailSnapshot>() -> {
 				return loadWithoutCache(accommodationId, loader);
@@ -189,10 +213,10 @@ public class AccommodationDetailCache {
 				// hit만 즉시 반환하고, miss와 Redis 조회 실패(Failure)는 아래의 로컬 single-flight로 합류
 				switch (timeoutLookup) {
 					case CacheLookup.Hit<AccommodationDetailSnapshot>(var snapshot) -> {
-						return resolvePositiveHit(snapshot, HIT_AFTER_WAIT);
+						return resolvePositiveHit(accommodationId, localFence, snapshot, HIT_AFTER_WAIT);
 					}
 					case CacheLookup.NegativeHit<AccommodationDetailSnapshot>() -> {
-						return resolveNegativeHit();
+						return resolveNegativeHit(accommodationId, localFence);
 					}
 					case CacheLookup.Failure<AccommodationDetailSnapshot>() -> {
 					}
@@ -208,10 +232,10 @@ public class AccommodationDetailCache {
 			CacheLookup<AccommodationDetailSnapshot> secondLookup = read(accommodationId);
 			switch (secondLookup) {
 				case CacheLookup.Hit<AccommodationDetailSnapshot>(var snapshot) -> {
-					return resolvePositiveHit(snapshot, HIT_AFTER_WAIT);
+					return resolvePositiveHit(accommodationId, localFence, snapshot, HIT_AFTER_WAIT);
 				}
 				case CacheLookup.NegativeHit<AccommodationDetailSnapshot>() -> {
-					return resolveNegativeHit();
+					return resolveNegativeHit(accommodationId, localFence);
 				}
 				case CacheLookup.Failure<AccommodationDetailSnapshot>() -> {
 					// Redis를 사용할 수 없으므로 락을 먼저 해제한 뒤 DB로 우회
@@ -220,7 +244,7 @@ public class AccommodationDetailCache {
 					// 조회 중 데이터가 변경되면 무효화가 이 토큰을 지워 오래된 결과의 저장을 거부
 					String loadPermit = acquireLoadPermit(accommodationId);
 					if (loadPermit != null) {
-						return loadAndCache(accommodationId, loadPermit, loader);
+						return loadAndCache(accommodationId, loadPermit, localFence, loader);
 					}
 					// 쓰기 허가가 없으면 캐시를 채울 수 없으므로 락 밖에서 DB로 우회
 				}
@@ -272,23 +296,30 @@ public class AccommodationDetailCache {
 		// 먼저 세대를 올려 timeout으로 localLoads에서 분리된 DB 조회까지 오래된 결과로 표시
 		LocalInvalidation invalidation = beginLocalInvalidation(accommodationId);
 		LocalLoad localLoad = localLoads.get(accommodationId);
+		// Redis 삭제를 기다리는 동안에도 이 서버가 L1의 이전 값을 응답하지 않게 먼저 비움
+		localCache.invalidate(accommodationId);
+		boolean redisInvalidated = false;
 		try {
 			// Lua로 쓰기 허가와 캐시 값을 원자적으로 삭제해 stale refill을 막음
-			Long invalidated = redisClient.execute(
-				INVALIDATE_SCRIPT,
-				List.of(loadPermitKey(accommodationId), cacheKey(accommodationId))
-			);
+			Long invalidated = redisClient.execute(INVALIDATE_SCRIPT, invalidationKeys(accommodationId));
 			if (invalidated == null) {
 				throw new IllegalStateException("캐시 무효화 스크립트가 결과를 반환하지 않음");
 			}
+			redisInvalidated = true;
 			metricRecorder.recordRedis(DELETE, SUCCESS);
+			// Redis에서 이전 값이 사라진 뒤 전파해야 다른 서버가 이전 값을 L1에 다시 채우지 않음
+			localCacheBroadcaster.publish(accommodationId);
 			metricRecorder.recordEviction(source, reason, SUCCESS);
 		} catch (RuntimeException exception) {
-			metricRecorder.recordRedis(DELETE, AccommodationDetailCacheMetricRecorder.OperationResult.ERROR);
+			if (!redisInvalidated) {
+				metricRecorder.recordRedis(DELETE, AccommodationDetailCacheMetricRecorder.OperationResult.ERROR);
+			}
 			metricRecorder.recordEviction(
 				source, reason, AccommodationDetailCacheMetricRecorder.OperationResult.ERROR);
 			throw exception;
 		} finally {
+			// Lua 실행 전 Redis의 이전 값을 읽어 L1에 저장한 조회가 있었다면 함께 제거
+			localCache.invalidate(accommodationId);
 			// Redis에서 이전 값이 사라진 뒤에만 대기자를 깨우고, 이후에는 Redis가 아닌 DB 경로로 재시도
 			if (localLoad != null
 				&& (localLoad.state() != invalidation.state()
@@ -303,16 +334,24 @@ public class AccommodationDetailCache {
 	private AccommodationDetailSnapshot loadAndCache(
 		Long accommodationId,
 		String loadPermit,
+		long localFence,
 		Supplier<AccommodationDetailSnapshot> loader
 	) {
 		try {
 			AccommodationDetailSnapshot snapshot = timedLoad(loader);
-			write(accommodationId, loadPermit, AccommodationDetailCacheValue.found(snapshot), ttlWithJitter());
+			AccommodationDetailCacheValue value = AccommodationDetailCacheValue.found(snapshot);
+			// 쓰기 허가가 유지돼 Redis에 저장된 결과만 L1에도 저장
+			if (write(accommodationId, loadPermit, value, ttlWithJitter())) {
+				localCache.put(accommodationId, localFence, value);
+			}
 			metricRecorder.recordRequest(LOADED);
 			return snapshot;
 		} catch (AccommodationNotFoundException exception) {
 			// 존재하지 않는 ID도 짧게 캐시해 반복적인 404 조회가 DB까지 도달하지 않게 함
-			write(accommodationId, loadPermit, AccommodationDetailCacheValue.notFound(), negativeTtlWithJitter());
+			AccommodationDetailCacheValue value = AccommodationDetailCacheValue.notFound();
+			if (write(accommodationId, loadPermit, value, negativeTtlWithJitter())) {
+				localCache.put(accommodationId, localFence, value);
+			}
 			metricRecorder.recordRequest(NEGATIVE_LOADED);
 			throw exception;
 		} finally {
@@ -631,44 +670,83 @@ public class AccommodationDetailCache {
 		}
 	}
 
+	private AccommodationDetailSnapshot resolveLocalHit(AccommodationDetailCacheValue value) {
+		if (value.status() == AccommodationDetailCacheValue.Status.NOT_FOUND) {
+			metricRecorder.recordTierLookup(CacheTier.LOCAL, TierLookupResult.NEGATIVE_HIT);
+			metricRecorder.recordRequest(LOCAL_NEGATIVE_HIT);
+			throw new AccommodationNotFoundException();
+		}
+		metricRecorder.recordTierLookup(CacheTier.LOCAL, TierLookupResult.HIT);
+		metricRecorder.recordRequest(LOCAL_HIT);
+		return value.snapshot();
+	}
+
 	private AccommodationDetailSnapshot resolvePositiveHit(
+		Long accommodationId,
+		long localFence,
 		AccommodationDetailSnapshot snapshot,
 		AccommodationDetailCacheMetricRecorder.RequestResult positiveResult
 	) {
+		localCache.put(accommodationId, localFence, AccommodationDetailCacheValue.found(snapshot));
 		metricRecorder.recordRequest(positiveResult);
 		return snapshot;
 	}
 
-	private AccommodationDetailSnapshot resolveNegativeHit() {
+	private AccommodationDetailSnapshot resolveNegativeHit(Long accommodationId, long localFence) {
+		localCache.put(accommodationId, localFence, AccommodationDetailCacheValue.notFound());
 		metricRecorder.recordRequest(NEGATIVE_HIT);
 		throw new AccommodationNotFoundException();
 	}
 
 	private CacheLookup<AccommodationDetailSnapshot> read(Long accommodationId) {
+		AccommodationDetailCacheFormat format = null;
 		try {
-			String json = redisClient.get(cacheKey(accommodationId));
-			if (json == null) {
+			List<AccommodationDetailCacheFormat> formats = codecRegistry.readFormats();
+			byte[] payload = null;
+			if (formats.size() == 1) {
+				payload = redisClient.get(formats.get(0).cacheKey(accommodationId));
+				format = payload == null ? null : formats.get(0);
+			} else {
+				// 전환 기간에는 형식별 key를 한 번의 MGET으로 읽어 왕복 횟수를 늘리지 않음
+				List<String> keys = formats.stream().map(candidate -> candidate.cacheKey(accommodationId)).toList();
+				List<byte[]> payloads = redisClient.multiGet(keys);
+				for (int index = 0; payloads != null && index < payloads.size(); index++) {
+					if (payloads.get(index) != null) {
+						payload = payloads.get(index);
+						format = formats.get(index);
+						break;
+					}
+				}
+			}
+			if (payload == null) {
 				metricRecorder.recordRedis(GET, SUCCESS);
+				metricRecorder.recordTierLookup(CacheTier.REDIS, TierLookupResult.MISS);
 				return CacheLookup.miss();
 			}
-			AccommodationDetailCacheValue value = objectMapper.readValue(
-				json, AccommodationDetailCacheValue.class);
+			AccommodationDetailCacheValue value = codecRegistry.decode(format, payload);
 			// 역직렬화는 성공했더라도 status와 snapshot 조합이 맞지 않으면 손상된 값으로 취급
 			if (value.status() == null
 				|| value.status() == AccommodationDetailCacheValue.Status.FOUND && value.snapshot() == null
 				|| value.status() == AccommodationDetailCacheValue.Status.NOT_FOUND && value.snapshot() != null) {
-				throw new JsonProcessingException("invalid accommodation detail cache state") { };
+				throw new IOException("invalid accommodation detail cache state");
 			}
 			metricRecorder.recordRedis(GET, SUCCESS);
 			return switch (value.status()) {
-				case FOUND -> CacheLookup.hit(value.snapshot());
-				case NOT_FOUND -> CacheLookup.negativeHit();
+				case FOUND -> {
+					metricRecorder.recordTierLookup(CacheTier.REDIS, TierLookupResult.HIT);
+					yield CacheLookup.hit(value.snapshot());
+				}
+				case NOT_FOUND -> {
+					metricRecorder.recordTierLookup(CacheTier.REDIS, TierLookupResult.NEGATIVE_HIT);
+					yield CacheLookup.negativeHit();
+				}
 			};
-		} catch (JsonProcessingException exception) {
-			// 손상된 엔트리는 삭제한 뒤 정상적인 cache miss와 동일하게 복구
+		} catch (IOException exception) {
+			// 손상된 엔트리는 읽어 온 형식의 key에서 삭제한 뒤 정상적인 cache miss와 동일하게 복구
 			metricRecorder.recordRedis(GET, AccommodationDetailCacheMetricRecorder.OperationResult.ERROR);
-			log.warn("숙소 상세 캐시 역직렬화 실패. accommodationId={}", accommodationId, exception);
-			deleteCorruptEntry(accommodationId);
+			log.warn("숙소 상세 캐시 역직렬화 실패. accommodationId={}, format={}",
+				accommodationId, format, exception);
+			deleteCorruptEntry(accommodationId, format);
 			return CacheLookup.miss();
 		} catch (RuntimeException exception) {
 			// Redis 장애는 miss와 구분해 이후 분산 락 시도까지 건너뛰고 DB로 우회
@@ -707,7 +785,7 @@ public class AccommodationDetailCache {
 		}
 	}
 
-	private void write(
+	private boolean write(
 		Long accommodationId,
 		String loadPermit,
 		AccommodationDetailCacheValue value,
@@ -715,13 +793,13 @@ public class AccommodationDetailCache {
 	) {
 		// 캐시는 보조 저장소이므로 직렬화나 Redis 쓰기 실패가 DB에서 읽은 원본 응답을 실패시키지 않음
 		try {
-			String json = objectMapper.writeValueAsString(value);
+			byte[] payload = codecRegistry.encode(value);
 			Long written = redisClient.execute(
 				WRITE_IF_PERMITTED_SCRIPT,
-				List.of(loadPermitKey(accommodationId), cacheKey(accommodationId)),
+				List.of(loadPermitKey(accommodationId), codecRegistry.writeFormat().cacheKey(accommodationId)),
 				loadPermit,
 				Long.toString(ttl.toMillis()),
-				json
+				payload
 			);
 			if (written == null) {
 				throw new IllegalStateException("캐시 저장 스크립트가 결과를 반환하지 않음");
@@ -729,16 +807,19 @@ public class AccommodationDetailCache {
 			// 0은 무효화로 토큰이 사라져 오래된 결과를 버린 정상적인 fencing 결과
 			if (written == 1L) {
 				metricRecorder.recordRedis(PUT, SUCCESS);
+				return true;
 			}
-		} catch (JsonProcessingException | RuntimeException exception) {
+			return false;
+		} catch (IOException | RuntimeException exception) {
 			metricRecorder.recordRedis(PUT, AccommodationDetailCacheMetricRecorder.OperationResult.ERROR);
 			log.warn("숙소 상세 캐시 저장 실패. accommodationId={}", accommodationId, exception);
+			return false;
 		}
 	}
 
-	private void deleteCorruptEntry(Long accommodationId) {
+	private void deleteCorruptEntry(Long accommodationId, AccommodationDetailCacheFormat format) {
 		try {
-			redisClient.delete(cacheKey(accommodationId));
+			redisClient.delete(format.cacheKey(accommodationId));
 		} catch (RuntimeException exception) {
 			log.warn("손상된 숙소 상세 캐시 삭제 실패. accommodationId={}", accommodationId, exception);
 		}
@@ -773,8 +854,11 @@ public class AccommodationDetailCache {
 
 	// cache와 load-permit에 같은 {id} hash tag를 사용해 Redis Cluster에서도 Lua multi-key 연산을 보장
 	// lock도 같은 규칙을 사용해 숙소별 Redis 키의 위치와 이름을 일관되게 유지
-	private String cacheKey(Long accommodationId) {
-		return CACHE_KEY_PREFIX + "{" + accommodationId + "}";
+	private List<String> invalidationKeys(Long accommodationId) {
+		List<String> keys = new ArrayList<>();
+		keys.add(loadPermitKey(accommodationId));
+		keys.addAll(codecRegistry.allCacheKeys(accommodationId));
+		return keys;
 	}
 
 	private String loadPermitKey(Long accommodationId) {
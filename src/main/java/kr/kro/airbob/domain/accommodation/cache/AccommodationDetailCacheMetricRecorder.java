@@ -2,6 +2,8 @@ package kr.kro.airbob.domain.accommodation.cache;
 
 import java.util.Locale;
 
+import kr.kro.airbob.domain.accommodation.cache.codec.AccommodationDetailCacheFormat;
+
 /**
  * 캐시 요청, 락, DB 조회, Redis 연산을 고정된 enum 태그로 기록하는 관측 경계
  * 숙소 ID처럼 값의 종류가 계속 늘어나는 정보는 태그로 사용하지 않음
@@ -10,6 +12,8 @@ public interface AccommodationDetailCacheMetricRecorder {
 
 	void recordRequest(RequestResult result);
 
+	void recordTierLookup(CacheTier tier, TierLookupResult result);
+
 	void recordLock(LockResult result, long durationNanos);
 
 	void recordLoad(LoadResult result, long durationNanos);
@@ -22,6 +26,15 @@ public interface AccommodationDetailCacheMetricRecorder {
 		OperationResult result
 	);
 
+	void recordInvalidationBroadcast(BroadcastDirection direction, OperationResult result);
+
+	void recordCodec(
+		AccommodationDetailCacheFormat format,
+		CodecOperation operation,
+		long durationNanos,
+		int payloadBytes
+	);
+
 	interface TaggedValue {
 		default String tagValue() {
 			return ((Enum<?>)this).name().toLowerCase(Locale.ROOT);
@@ -30,6 +43,10 @@ public interface AccommodationDetailCacheMetricRecorder {
 
 	/** 요청 하나가 최종적으로 데이터를 얻은 경로를 나타냄 */
 	enum RequestResult implements TaggedValue {
+		// JVM 로컬 L1에서 정상 값을 사용
+		LOCAL_HIT,
+		// JVM 로컬 L1에 저장된 NOT_FOUND를 사용
+		LOCAL_NEGATIVE_HIT,
 		// 첫 Redis 조회에서 정상 캐시를 사용
 		HIT,
 		// 분산 락을 기다린 뒤 Redis에서 값을 사용
@@ -46,6 +63,18 @@ public interface AccommodationDetailCacheMetricRecorder {
 		NEGATIVE_LOADED
 	}
 
+	/** 조회가 거친 캐시 계층으로, L1 hit가 절약한 Redis 왕복 수를 계층별로 비교 */
+	enum CacheTier implements TaggedValue {
+		LOCAL,
+		REDIS
+	}
+
+	enum TierLookupResult implements TaggedValue {
+		HIT,
+		NEGATIVE_HIT,
+		MISS
+	}
+
 	enum LockResult implements TaggedValue {
 		ACQUIRED,
 		TIMEOUT,
@@ -72,6 +101,19 @@ public interface AccommodationDetailCacheMetricRecorder {
 		OUTBOX
 	}
 
+	enum BroadcastDirection implements TaggedValue {
+		// Redis 삭제 뒤 다른 서버의 L1 무효화를 요청
+		PUBLISH,
+		// 다른 서버가 보낸 무효화를 받아 L1에서 삭제
+		RECEIVE
+	}
+
+	/** 형식별 직렬화 비용과 payload 크기를 비교해 바이너리 전환 효과를 확인 */
+	enum CodecOperation implements TaggedValue {
+		ENCODE,
+		DECODE
+	}
+
 	enum OperationResult implements TaggedValue {
 		SUCCESS,
 		ERROR
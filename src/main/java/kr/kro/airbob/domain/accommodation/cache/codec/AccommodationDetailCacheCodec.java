@@ -0,0 +1,18 @@
+package kr.kro.airbob.domain.accommodation.cache.codec;
+
+import java.io.IOException;
+
+import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheValue;
+
+/**
+ * 숙소 상세 캐시 값을 Redis payload로 변환
+ * 해석할 수 없는 payload는 IOException으로 알려 호출자가 손상된 엔트리로 처리하게 함
+ */
+public interface AccommodationDetailCacheCodec {
+
+	AccommodationDetailCacheFormat format();
+
+	byte[] encode(AccommodationDetailCacheValue value) throws IOException;
+
+	AccommodationDetailCacheValue decode(byte[] payload) throws IOException;
+}
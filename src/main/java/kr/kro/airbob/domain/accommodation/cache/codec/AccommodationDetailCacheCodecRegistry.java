@@ -0,0 +1,108 @@
+package kr.kro.airbob.domain.accommodation.cache.codec;
+
+import static kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.CodecOperation.DECODE;
+import static kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.CodecOperation.ENCODE;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder;
+import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheValue;
+import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailCacheCodecProperties;
+
+/**
+ * 설정된 쓰기 형식과 전환 기간의 읽기 순서를 결정하고 형식별 직렬화 비용을 기록
+ */
+@Component
+public class AccommodationDetailCacheCodecRegistry {
+
+	private final Map<AccommodationDetailCacheFormat, AccommodationDetailCacheCodec> codecs =
+		new EnumMap<>(AccommodationDetailCacheFormat.class);
+	private final AccommodationDetailCacheCodecProperties properties;
+	private final AccommodationDetailCacheMetricRecorder metricRecorder;
+
+	@Autowired
+	public AccommodationDetailCacheCodecRegistry(
+		ObjectMapper objectMapper,
+		AccommodationDetailCacheCodecProperties properties,
+		AccommodationDetailCacheMetricRecorder metricRecorder
+	) {
+		this(List.of(
+			new JsonAccommodationDetailCacheCodec(objectMapper),
+			new BinaryAccommodationDetailCacheCodec(properties.compressionThreshold())
+		), properties, metricRecorder);
+	}
+
+	AccommodationDetailCacheCodecRegistry(
+		List<AccommodationDetailCacheCodec> codecs,
+		AccommodationDetailCacheCodecProperties properties,
+		AccommodationDetailCacheMetricRecorder metricRecorder
+	) {
+		for (AccommodationDetailCacheCodec codec : codecs) {
+			this.codecs.put(codec.format(), codec);
+		}
+		this.properties = properties;
+		this.metricRecorder = metricRecorder;
+	}
+
+	public AccommodationDetailCacheFormat writeFormat() {
+		return properties.writeFormat();
+	}
+
+	/**
+	 * 쓰기 형식을 먼저 읽고, v2 전환 중에는 아직 만료되지 않은 v1 값을 대체로 사용
+	 * v1으로 되돌린 경우에는 v2 값을 읽지 않아 롤백 후 배포되는 이전 서버와 결과가 어긋나지 않음
+	 */
+	public List<AccommodationDetailCacheFormat> readFormats() {
+		AccommodationDetailCacheFormat writeFormat = properties.writeFormat();
+		if (writeFormat == AccommodationDetailCacheFormat.JSON_V1 || !properties.legacyReadEnabled()) {
+			return List.of(writeFormat);
+		}
+		return List.of(writeFormat, AccommodationDetailCacheFormat.JSON_V1);
+	}
+
+	/**
+	 * 무효화는 쓰기 형식과 관계없이 모든 namespace를 지워 전환과 롤백 중에도 이전 값이 남지 않게 함
+	 */
+	public List<String> allCacheKeys(Long accommodationId) {
+		List<String> keys = new ArrayList<>(AccommodationDetailCacheFormat.values().length);
+		for (AccommodationDetailCacheFormat format : AccommodationDetailCacheFormat.values()) {
+			keys.add(format.cacheKey(accommodationId));
+		}
+		return keys;
+	}
+
+	public byte[] encode(AccommodationDetailCacheValue value) throws IOException {
+		AccommodationDetailCacheFormat format = properties.writeFormat();
+		long startedAt = System.nanoTime();
+		byte[] payload = codec(format).encode(value);
+		metricRecorder.recordCodec(format, ENCODE, System.nanoTime() - startedAt, payload.length);
+		return payload;
+	}
+
+	public AccommodationDetailCacheValue decode(
+		AccommodationDetailCacheFormat format,
+		byte[] payload
+	) throws IOException {
+		long startedAt = System.nanoTime();
+		AccommodationDetailCacheValue value = codec(format).decode(payload);
+		metricRecorder.recordCodec(format, DECODE, System.nanoTime() - startedAt, payload.length);
+		return value;
+	}
+
+	private AccommodationDetailCacheCodec codec(AccommodationDetailCacheFormat format) {
+		AccommodationDetailCacheCodec codec = codecs.get(format);
+		if (codec == null) {
+			throw new IllegalStateException("등록되지 않은 숙소 상세 캐시 형식: " + format);
+		}
+		return codec;
+	}
+}
@@ -0,0 +1,25 @@
+package kr.kro.airbob.domain.accommodation.cache.codec;
+
+import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder;
+
+/**
+ * Redis에 저장하는 숙소 상세 payload 형식
+ * 형식마다 key namespace를 분리해 서로 다른 버전의 서버가 상대 형식을 잘못 해석하지 않게 함
+ */
+public enum AccommodationDetailCacheFormat implements AccommodationDetailCacheMetricRecorder.TaggedValue {
+	// Jackson JSON, 기존 서버와 호환되는 형식
+	JSON_V1("airbob:cache:accommodation-detail:v1:"),
+	// 버전 헤더와 선택적 압축을 포함하는 바이너리 형식
+	BINARY_V2("airbob:cache:accommodation-detail:v2:");
+
+	private final String keyPrefix;
+
+	AccommodationDetailCacheFormat(String keyPrefix) {
+		this.keyPrefix = keyPrefix;
+	}
+
+	// {id} hash tag를 유지해 Redis Cluster에서도 형식별 키와 load-permit이 같은 slot에 위치
+	public String cacheKey(Long accommodationId) {
+		return keyPrefix + "{" + accommodationId + "}";
+	}
+}
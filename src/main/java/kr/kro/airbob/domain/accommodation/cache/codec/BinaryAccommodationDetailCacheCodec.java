@@ -0,0 +1,424 @@
+package kr.kro.airbob.domain.accommodation.cache.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheValue;
+import kr.kro.airbob.domain.accommodation.dto.AccommodationDetailSnapshot;
+import kr.kro.airbob.domain.accommodation.dto.AddressResponse;
+import kr.kro.airbob.domain.accommodation.dto.AmenityResponse;
+import kr.kro.airbob.domain.accommodation.dto.PolicyResponse;
+import kr.kro.airbob.domain.image.dto.ImageResponse;
+import kr.kro.airbob.domain.member.dto.MemberResponse;
+import kr.kro.airbob.domain.review.dto.ReviewResponse;
+
+/**
+ * 필드 이름 없이 고정 순서로 값을 기록하는 v2 바이너리 payload
+ *
+ * [version:1][flags:1][body] 구조이며, flags의 DEFLATED 비트가 켜져 있으면 body가 deflate로 압축됨
+ * 필드 순서나 타입을 바꾸면 FORMAT_VERSION과 key namespace를 함께 올려야 함
+ */
+public class BinaryAccommodationDetailCacheCodec implements AccommodationDetailCacheCodec {
+
+	static final byte FORMAT_VERSION = 2;
+	static final byte FLAG_DEFLATED = 0x01;
+
+	private static final byte STATUS_FOUND = 0;
+	private static final byte STATUS_NOT_FOUND = 1;
+	private static final int HEADER_SIZE = 2;
+	// 손상되거나 조작된 압축 payload가 메모리를 고갈시키지 않도록 해제 크기를 제한
+	private static final int MAX_INFLATED_SIZE = 8 * 1024 * 1024;
+	private static final int MAX_COLLECTION_SIZE = 10_000;
+
+	private final int compressionThresholdBytes;
+
+	public BinaryAccommodationDetailCacheCodec(int compressionThresholdBytes) {
+		this.compressionThresholdBytes = compressionThresholdBytes;
+	}
+
+	@Override
+	public AccommodationDetailCacheFormat format() {
+		return AccommodationDetailCacheFormat.BINARY_V2;
+	}
+
+	@Override
+	public byte[] encode(AccommodationDetailCacheValue value) throws IOException {
+		byte[] body = writeBody(value);
+		byte flags = 0;
+		if (body.length >= compressionThresholdBytes) {
+			byte[] deflated = deflate(body);
+			// 이미지 URL처럼 압축 효과가 작은 값은 압축 해제 비용만 남으므로 원본을 유지
+			if (deflated.length < body.length) {
+				body = deflated;
+				flags |= FLAG_DEFLATED;
+			}
+		}
+
+		byte[] payload = new byte[HEADER_SIZE + body.length];
+		payload[0] = FORMAT_VERSION;
+		payload[1] = flags;
+		System.arraycopy(body, 0, payload, HEADER_SIZE, body.length);
+		return payload;
+	}
+
+	@Override
+	public AccommodationDetailCacheValue decode(byte[] payload) throws IOException {
+		if (payload == null || payload.length < HEADER_SIZE) {
+			throw new IOException("binary accommodation detail payload is too short");
+		}
+		if (payload[0] != FORMAT_VERSION) {
+			throw new IOException("unsupported binary accommodation detail version: " + payload[0]);
+		}
+		byte flags = payload[1];
+		if ((flags & ~FLAG_DEFLATED) != 0) {
+			throw new IOException("unsupported binary accommodation detail flags: " + flags);
+		}
+
+		byte[] body = (flags & FLAG_DEFLATED) != 0
+			? inflate(payload, HEADER_SIZE, payload.length - HEADER_SIZE)
+			: Arrays.copyOfRange(payload, HEADER_SIZE, payload.length);
+		return readBody(body);
+	}
+
+	private byte[] writeBody(AccommodationDetailCacheValue value) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+		DataOutputStream out = new DataOutputStream(buffer);
+		if (value.status() == AccommodationDetailCacheValue.Status.NOT_FOUND) {
+			out.writeByte(STATUS_NOT_FOUND);
+			out.flush();
+			return buffer.toByteArray();
+		}
+
+		AccommodationDetailSnapshot snapshot = value.snapshot();
+		out.writeByte(STATUS_FOUND);
+		out.writeLong(snapshot.id());
+		writeString(out, snapshot.name());
+		writeString(out, snapshot.description());
+		writeString(out, snapshot.type());
+		writeNullableLong(out, snapshot.basePrice());
+		writeString(out, snapshot.currency());
+		writeTime(out, snapshot.checkInTime());
+		writeTime(out, snapshot.checkOutTime());
+		writeString(out, snapshot.timeZoneId());
+
+		AddressResponse.AddressSummaryInfo address = snapshot.addressSummary();
+		out.writeBoolean(address != null);
+		if (address != null) {
+			writeString(out, address.country());
+			writeString(out, address.state());
+			writeString(out, address.city());
+			writeString(out, address.district());
+		}
+
+		AddressResponse.Coordinate coordinate = snapshot.coordinate();
+		out.writeBoolean(coordinate != null);
+		if (coordinate != null) {
+			writeNullableDouble(out, coordinate.latitude());
+			writeNullableDouble(out, coordinate.longitude());
+		}
+
+		MemberResponse.MemberInfo host = snapshot.host();
+		out.writeBoolean(host != null);
+		if (host != null) {
+			out.writeLong(host.id());
+			writeString(out, host.nickname());
+			writeString(out, host.thumbnailImageUrl());
+		}
+
+		PolicyResponse.PolicyInfo policy = snapshot.policy();
+		out.writeBoolean(policy != null);
+		if (policy != null) {
+			writeNullableInt(out, policy.maxOccupancy());
+			writeNullableInt(out, policy.infantOccupancy());
+			writeNullableInt(out, policy.petOccupancy());
+		}
+
+		List<AmenityResponse.AmenityInfo> amenities = presentElements(snapshot.amenities());
+		writeVarInt(out, amenities.size());
+		for (AmenityResponse.AmenityInfo amenity : amenities) {
+			writeString(out, amenity.type());
+			writeNullableInt(out, amenity.count());
+		}
+
+		List<ImageResponse.ImageInfo> images = presentElements(snapshot.images());
+		writeVarInt(out, images.size());
+		for (ImageResponse.ImageInfo image : images) {
+			writeNullableLong(out, image.id());
+			writeString(out, image.imageUrl());
+		}
+
+		ReviewResponse.ReviewSummary reviewSummary = snapshot.reviewSummary();
+		out.writeBoolean(reviewSummary != null);
+		if (reviewSummary != null) {
+			writeNullableInt(out, reviewSummary.totalCount());
+			writeDecimal(out, reviewSummary.averageRating());
+		}
+		out.flush();
+		return buffer.toByteArray();
+	}
+
+	private AccommodationDetailCacheValue readBody(byte[] body) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+		byte status = in.readByte();
+		if (status == STATUS_NOT_FOUND) {
+			requireFullyRead(in);
+			return AccommodationDetailCacheValue.notFound();
+		}
+		if (status != STATUS_FOUND) {
+			throw new IOException("unknown binary accommodation detail status: " + status);
+		}
+
+		long id = in.readLong();
+		String name = readString(in);
+		String description = readString(in);
+		String type = readString(in);
+		Long basePrice = readNullableLong(in);
+		String currency = readString(in);
+		LocalTime checkInTime = readTime(in);
+		LocalTime checkOutTime = readTime(in);
+		String timeZoneId = readString(in);
+
+		AddressResponse.AddressSummaryInfo address = in.readBoolean()
+			? new AddressResponse.AddressSummaryInfo(readString(in), readString(in), readString(in), readString(in))
+			: null;
+		AddressResponse.Coordinate coordinate = in.readBoolean()
+			? new AddressResponse.Coordinate(readNullableDouble(in), readNullableDouble(in))
+			: null;
+		MemberResponse.MemberInfo host = in.readBoolean()
+			? new MemberResponse.MemberInfo(in.readLong(), readString(in), readString(in))
+			: null;
+		PolicyResponse.PolicyInfo policy = in.readBoolean()
+			? new PolicyResponse.PolicyInfo(readNullableInt(in), readNullableInt(in), readNullableInt(in))
+			: null;
+
+		int amenityCount = readCollectionSize(in);
+		List<AmenityResponse.AmenityInfo> amenities = new ArrayList<>(amenityCount);
+		for (int index = 0; index < amenityCount; index++) {
+			amenities.add(new AmenityResponse.AmenityInfo(readString(in), readNullableInt(in)));
+		}
+
+		int imageCount = readCollectionSize(in);
+		List<ImageResponse.ImageInfo> images = new ArrayList<>(imageCount);
+		for (int index = 0; index < imageCount; index++) {
+			images.add(new ImageResponse.ImageInfo(readNullableLong(in), readString(in)));
+		}
+
+		ReviewResponse.ReviewSummary reviewSummary = in.readBoolean()
+			? new ReviewResponse.ReviewSummary(readNullableInt(in), readDecimal(in))
+			: null;
+		requireFullyRead(in);
+
+		return AccommodationDetailCacheValue.found(new AccommodationDetailSnapshot(
+			id, name, description, type, basePrice, currency, checkInTime, checkOutTime, timeZoneId,
+			address, coordinate, host, policy, amenities, images, reviewSummary));
+	}
+
+	// null 목록은 빈 길이로 기록. 스냅샷 생성자가 List.copyOf로 null 원소를 거부하므로 null 원소는 복원할 수 없어
+	// 조용히 빼고 다른 값을 캐시하는 대신 쓰기를 거부함. 호출자는 캐시 저장만 건너뜀
+	private <T> List<T> presentElements(List<T> values) {
+		if (values == null) {
+			return List.of();
+		}
+		for (T value : values) {
+			if (value == null) {
+				throw new IllegalArgumentException("binary accommodation detail list must not contain null elements");
+			}
+		}
+		return values;
+	}
+
+	// 길이 0은 null, 그 외에는 UTF-8 바이트 수 + 1을 varint로 기록
+	private void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			writeVarInt(out, 0);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length + 1);
+		out.write(bytes);
+	}
+
+	private String readString(DataInputStream in) throws IOException {
+		int length = readVarInt(in);
+		if (length == 0) {
+			return null;
+		}
+		int byteLength = length - 1;
+		if (byteLength > in.available()) {
+			throw new EOFException("binary accommodation detail string exceeds payload");
+		}
+		byte[] bytes = new byte[byteLength];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private void writeNullableLong(DataOutputStream out, Long value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeLong(value);
+		}
+	}
+
+	private Long readNullableLong(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readLong() : null;
+	}
+
+	private void writeNullableInt(DataOutputStream out, Integer value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeInt(value);
+		}
+	}
+
+	private Integer readNullableInt(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readInt() : null;
+	}
+
+	private void writeNullableDouble(DataOutputStream out, Double value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeDouble(value);
+		}
+	}
+
+	private Double readNullableDouble(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readDouble() : null;
+	}
+
+	private void writeTime(DataOutputStream out, LocalTime value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeLong(value.toNanoOfDay());
+		}
+	}
+
+	private LocalTime readTime(DataInputStream in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		try {
+			return LocalTime.ofNanoOfDay(in.readLong());
+		} catch (DateTimeException exception) {
+			throw new IOException("invalid binary accommodation detail time", exception);
+		}
+	}
+
+	// 평점의 scale을 그대로 보존해 JSON 형식과 같은 BigDecimal로 복원
+	private void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeInt(value.scale());
+			byte[] unscaled = value.unscaledValue().toByteArray();
+			writeVarInt(out, unscaled.length);
+			out.write(unscaled);
+		}
+	}
+
+	private BigDecimal readDecimal(DataInputStream in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		int scale = in.readInt();
+		int length = readVarInt(in);
+		if (length == 0 || length > in.available()) {
+			throw new EOFException("binary accommodation detail decimal exceeds payload");
+		}
+		byte[] unscaled = new byte[length];
+		in.readFully(unscaled);
+		return new BigDecimal(new BigInteger(unscaled), scale);
+	}
+
+	private int readCollectionSize(DataInputStream in) throws IOException {
+		int size = readVarInt(in);
+		if (size > MAX_COLLECTION_SIZE) {
+			throw new IOException("binary accommodation detail collection is too large: " + size);
+		}
+		return size;
+	}
+
+	private void writeVarInt(DataOutputStream out, int value) throws IOException {
+		int remaining = value;
+		while ((remaining & ~0x7F) != 0) {
+			out.writeByte((remaining & 0x7F) | 0x80);
+			remaining >>>= 7;
+		}
+		out.writeByte(remaining);
+	}
+
+	private int readVarInt(DataInputStream in) throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int current = in.readUnsignedByte();
+			value |= (current & 0x7F) << shift;
+			if ((current & 0x80) == 0) {
+				if (value < 0) {
+					throw new IOException("negative binary accommodation detail length");
+				}
+				return value;
+			}
+		}
+		throw new IOException("malformed binary accommodation detail varint");
+	}
+
+	private void requireFullyRead(DataInputStream in) throws IOException {
+		if (in.available() != 0) {
+			throw new IOException("binary accommodation detail payload has trailing bytes");
+		}
+	}
+
+	private byte[] deflate(byte[] body) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(body);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 16);
+			byte[] chunk = new byte[4096];
+			while (!deflater.finished()) {
+				int written = deflater.deflate(chunk);
+				out.write(chunk, 0, written);
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private byte[] inflate(byte[] payload, int offset, int length) throws IOException {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(payload, offset, length);
+			ByteArrayOutputStream out = new ByteArrayOutputStream(length * 3);
+			byte[] chunk = new byte[4096];
+			while (!inflater.finished()) {
+				int read = inflater.inflate(chunk);
+				if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new EOFException("truncated binary accommodation detail payload");
+				}
+				if (out.size() + read > MAX_INFLATED_SIZE) {
+					throw new IOException("binary accommodation detail payload is too large");
+				}
+				out.write(chunk, 0, read);
+			}
+			return out.toByteArray();
+		} catch (DataFormatException exception) {
+			throw new IOException("invalid compressed accommodation detail payload", exception);
+		} finally {
+			inflater.end();
+		}
+	}
+}
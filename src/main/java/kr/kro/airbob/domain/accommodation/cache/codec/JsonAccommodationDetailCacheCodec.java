@@ -0,0 +1,34 @@
+package kr.kro.airbob.domain.accommodation.cache.codec;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheValue;
+
+/**
+ * v1 namespace의 기존 JSON payload를 그대로 읽고 씀
+ */
+public class JsonAccommodationDetailCacheCodec implements AccommodationDetailCacheCodec {
+
+	private final ObjectMapper objectMapper;
+
+	public JsonAccommodationDetailCacheCodec(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public AccommodationDetailCacheFormat format() {
+		return AccommodationDetailCacheFormat.JSON_V1;
+	}
+
+	@Override
+	public byte[] encode(AccommodationDetailCacheValue value) throws IOException {
+		return objectMapper.writeValueAsBytes(value);
+	}
+
+	@Override
+	public AccommodationDetailCacheValue decode(byte[] payload) throws IOException {
+		return objectMapper.readValue(payload, AccommodationDetailCacheValue.class);
+	}
+}
@@ -0,0 +1,29 @@
+package kr.kro.airbob.domain.accommodation.cache.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+
+import kr.kro.airbob.domain.accommodation.cache.codec.AccommodationDetailCacheFormat;
+
+/**
+ * 숙소 상세 캐시 payload 형식과 전환 정책을 정의
+ *
+ * 1단계로 모든 서버를 json_v1 쓰기로 배포해 무효화가 두 namespace를 함께 지우게 한 뒤
+ * 2단계에서 binary_v2로 전환해야 이전 서버가 v2 값을 남겨 두지 않음
+ *
+ * @param writeFormat 새로 저장하는 payload 형식
+ * @param legacyReadEnabled 쓰기 형식이 v2일 때 v1 값을 함께 읽을지 여부
+ * @param compressionThreshold 바이너리 payload를 압축하기 시작하는 본문 크기(byte)
+ */
+@ConfigurationProperties(prefix = "accommodation.detail-cache.codec")
+public record AccommodationDetailCacheCodecProperties(
+	AccommodationDetailCacheFormat writeFormat,
+	boolean legacyReadEnabled,
+	int compressionThreshold
+) {
+	public AccommodationDetailCacheCodecProperties {
+		Assert.notNull(writeFormat, "accommodation.detail-cache.codec.write-format must not be null");
+		Assert.isTrue(compressionThreshold > 0,
+			"accommodation.detail-cache.codec.compression-threshold must be positive");
+	}
+}
@@ -8,7 +8,11 @@ import org.springframework.context.annotation.Configuration;
  * 숙소 상세 캐시 정책 값과 TTL 분산기를 애플리케이션 빈으로 등록
  */
 @Configuration
-@EnableConfigurationProperties(AccommodationDetailCacheProperties.class)
+@EnableConfigurationProperties({
+	AccommodationDetailCacheProperties.class,
+	AccommodationDetailLocalCacheProperties.class,
+	AccommodationDetailCacheCodecProperties.class
+})
 public class AccommodationDetailCacheConfiguration {
 
 	@Bean
@@ -0,0 +1,49 @@
+package kr.kro.airbob.domain.accommodation.cache.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+
+/**
+ * Redis 앞에 두는 JVM 로컬(L1) 숙소 상세 캐시의 크기와 만료 시간을 정의
+ * 다른 서버의 무효화는 pub/sub으로 전달되지만 유실될 수 있으므로 TTL을 짧게 유지해 최대 지연을 제한
+ *
+ * @param enabled L1 사용 여부
+ * @param maximumSize JVM 하나가 보관하는 최대 숙소 수
+ * @param ttl 정상 값의 기본 유지 시간
+ * @param ttlJitter 정상 값 만료 시점에 추가할 최대 분산 범위
+ * @param negativeTtl 404 값의 유지 시간
+ * @param invalidationChannel 서버 간 L1 무효화를 전달하는 Redis pub/sub 채널
+ * @param resubscribeInterval 무효화 채널 구독이 확인되지 않았을 때 다시 구독하는 간격. 구독 전에는 L1을 사용하지 않음
+ */
+@ConfigurationProperties(prefix = "accommodation.detail-cache.local")
+public record AccommodationDetailLocalCacheProperties(
+	boolean enabled,
+	long maximumSize,
+	Duration ttl,
+	Duration ttlJitter,
+	Duration negativeTtl,
+	String invalidationChannel,
+	Duration resubscribeInterval
+) {
+	public AccommodationDetailLocalCacheProperties {
+		Assert.notNull(ttl, "accommodation.detail-cache.local.ttl must not be null");
+		Assert.notNull(ttlJitter, "accommodation.detail-cache.local.ttl-jitter must not be null");
+		Assert.notNull(negativeTtl, "accommodation.detail-cache.local.negative-ttl must not be null");
+		Assert.notNull(resubscribeInterval,
+			"accommodation.detail-cache.local.resubscribe-interval must not be null");
+		Assert.hasText(invalidationChannel,
+			"accommodation.detail-cache.local.invalidation-channel must not be blank");
+		Assert.isTrue(maximumSize > 0,
+			"accommodation.detail-cache.local.maximum-size must be positive");
+		Assert.isTrue(!ttl.isNegative() && !ttl.isZero(),
+			"accommodation.detail-cache.local.ttl must be positive");
+		Assert.isTrue(!ttlJitter.isNegative(),
+			"accommodation.detail-cache.local.ttl-jitter must not be negative");
+		Assert.isTrue(!negativeTtl.isNegative() && !negativeTtl.isZero(),
+			"accommodation.detail-cache.local.negative-ttl must be positive");
+		Assert.isTrue(!resubscribeInterval.isNegative() && !resubscribeInterval.isZero(),
+			"accommodation.detail-cache.local.resubscribe-interval must be positive");
+	}
+}
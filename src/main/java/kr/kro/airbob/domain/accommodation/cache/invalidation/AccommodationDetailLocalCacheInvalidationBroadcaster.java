@@ -0,0 +1,96 @@
+package kr.kro.airbob.domain.accommodation.cache.invalidation;
+
+import static kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.BroadcastDirection.PUBLISH;
+import static kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.BroadcastDirection.RECEIVE;
+import static kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.OperationResult.ERROR;
+import static kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder.OperationResult.SUCCESS;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder;
+import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailLocalCacheProperties;
+import kr.kro.airbob.domain.accommodation.cache.local.AccommodationDetailLocalCache;
+import kr.kro.airbob.domain.accommodation.cache.redis.AccommodationDetailRedisClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 서버에서 실행된 Redis 무효화를 모든 서버의 L1에 전달
+ * outbox 소비자는 consumer group에서 한 서버만 실행하므로 pub/sub으로 나머지 서버의 L1을 비움
+ * 구독이 확인되기 전에는 L1을 쓰지 않고, 시작 시 구독에 실패하면 주기적으로 다시 시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccommodationDetailLocalCacheInvalidationBroadcaster implements InitializingBean {
+
+	private final AccommodationDetailRedisClient redisClient;
+	private final AccommodationDetailLocalCache localCache;
+	private final AccommodationDetailLocalCacheProperties properties;
+	private final AccommodationDetailCacheMetricRecorder metricRecorder;
+
+	@Override
+	public void afterPropertiesSet() {
+		if (!properties.enabled()) {
+			return;
+		}
+		subscribe();
+	}
+
+	@Scheduled(fixedDelayString = "${accommodation.detail-cache.local.resubscribe-interval:5s}")
+	public void resubscribeIfInactive() {
+		if (!properties.enabled() || localCache.enabled()) {
+			return;
+		}
+		subscribe();
+	}
+
+	private void subscribe() {
+		try {
+			redisClient.subscribe(
+				properties.invalidationChannel(),
+				this::receive,
+				this::onSubscribed,
+				properties.resubscribeInterval());
+		} catch (RuntimeException exception) {
+			// 구독 전에는 L1을 쓰지 않으므로 다른 서버의 변경을 놓치지 않음
+			log.warn("숙소 상세 L1 무효화 채널 구독 실패. 다음 주기에 재시도. channel={}",
+				properties.invalidationChannel(), exception);
+		}
+	}
+
+	// 재연결 뒤 재구독도 여기로 들어오므로 끊긴 동안 놓친 무효화가 없도록 L1을 비우고 다시 사용
+	private void onSubscribed() {
+		localCache.activate();
+		log.info("숙소 상세 L1 무효화 채널 구독 확인. L1 사용 시작. channel={}", properties.invalidationChannel());
+	}
+
+	/**
+	 * Redis 값이 삭제된 뒤에 호출해야 수신 서버가 이전 값을 Redis에서 다시 채우지 않음
+	 * 실패는 호출자에게 전파해 outbox 경로가 Kafka retry로 재전파할 수 있게 함
+	 */
+	public void publish(Long accommodationId) {
+		if (!properties.enabled()) {
+			return;
+		}
+		try {
+			redisClient.publish(properties.invalidationChannel(), accommodationId.toString());
+			metricRecorder.recordInvalidationBroadcast(PUBLISH, SUCCESS);
+		} catch (RuntimeException exception) {
+			metricRecorder.recordInvalidationBroadcast(PUBLISH, ERROR);
+			throw exception;
+		}
+	}
+
+	void receive(String message) {
+		try {
+			localCache.invalidate(Long.valueOf(message));
+			metricRecorder.recordInvalidationBroadcast(RECEIVE, SUCCESS);
+		} catch (RuntimeException exception) {
+			metricRecorder.recordInvalidationBroadcast(RECEIVE, ERROR);
+			log.warn("숙소 상세 L1 무효화 메시지 처리 실패. message={}", message, exception);
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package kr.kro.airbob.domain.accommodation.cache.local;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheValue;
+import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailCacheJitter;
+import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailLocalCacheProperties;
+
+/**
+ * Redis 앞에 두는 JVM 로컬 숙소 상세 캐시(L1)
+ *
+ * Redis 값을 읽기 전에 발급한 fence가 저장 시점까지 그대로인 경우에만 값을 보관
+ * 읽는 도중 무효화가 fence를 올렸다면 이전 값이 L1에 다시 들어가지 않음
+ * 다른 서버의 무효화를 받을 수 있도록 채널 구독이 확인된 뒤에만 사용
+ */
+@Component
+public class AccommodationDetailLocalCache {
+
+	// 숙소 ID별 상태를 따로 쌓지 않도록 fence를 고정 개수 stripe로 공유
+	// 같은 stripe의 다른 숙소가 무효화되면 저장이 거부될 수 있지만 정합성에는 영향이 없음
+	private static final int FENCE_STRIPES = 1 << 12;
+
+	private final AccommodationDetailLocalCacheProperties properties;
+	private final AccommodationDetailCacheJitter jitter;
+	private final Cache<Long, LocalEntry> cache;
+	private final AtomicLongArray fences = new AtomicLongArray(FENCE_STRIPES);
+	private volatile boolean invalidationSubscribed;
+
+	@Autowired
+	public AccommodationDetailLocalCache(
+		AccommodationDetailLocalCacheProperties properties,
+		AccommodationDetailCacheJitter jitter
+	) {
+		this(properties, jitter, Ticker.systemTicker());
+	}
+
+	AccommodationDetailLocalCache(
+		AccommodationDetailLocalCacheProperties properties,
+		AccommodationDetailCacheJitter jitter,
+		Ticker ticker
+	) {
+		this.properties = properties;
+		this.jitter = jitter;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(properties.maximumSize())
+			.expireAfter(new LocalEntryExpiry())
+			.ticker(ticker)
+			.build();
+	}
+
+	public boolean enabled() {
+		return properties.enabled() && invalidationSubscribed;
+	}
+
+	/**
+	 * 무효화 채널 구독이 확인되면 호출. 구독 전에 놓친 무효화가 남지 않도록 비운 상태에서 사용을 시작
+	 */
+	public void activate() {
+		cache.invalidateAll();
+		invalidationSubscribed = true;
+	}
+
+	public AccommodationDetailCacheValue get(Long accommodationId) {
+		if (!enabled()) {
+			return null;
+		}
+		LocalEntry entry = cache.getIfPresent(accommodationId);
+		return entry == null ? null : entry.value();
+	}
+
+	/**
+	 * Redis 조회나 DB 적재를 시작하기 전에 호출해 이후 저장의 유효성을 판별할 fence를 발급
+	 */
+	public long fence(Long accommodationId) {
+		return fences.get(stripe(accommodationId));
+	}
+
+	public void put(Long accommodationId, long fence, AccommodationDetailCacheValue value) {
+		if (!enabled()) {
+			return;
+		}
+		int stripe = stripe(accommodationId);
+		LocalEntry entry = new LocalEntry(value, ttlOf(value).toNanos());
+		// fence 확인과 저장을 같은 key의 compute 안에서 수행해 invalidate의 삭제와 직렬화
+		cache.asMap().compute(accommodationId, (ignored, current) ->
+			fences.get(stripe) == fence ? entry : current);
+	}
+
+	public void invalidate(Long accommodationId) {
+		// fence를 먼저 올려 진행 중인 조회의 저장을 거부한 뒤 현재 값을 삭제
+		fences.incrementAndGet(stripe(accommodationId));
+		cache.invalidate(accommodationId);
+	}
+
+	private Duration ttlOf(AccommodationDetailCacheValue value) {
+		if (value.status() == AccommodationDetailCacheValue.Status.NOT_FOUND) {
+			return properties.negativeTtl();
+		}
+		// 서버마다 같은 숙소를 같은 시점에 적재하더라도 만료 시점이 겹쳐 Redis로 몰리지 않도록 분산
+		return properties.ttl().plusMillis(jitter.nextMillis(properties.ttlJitter().toMillis() + 1));
+	}
+
+	private int stripe(Long accommodationId) {
+		long hash = accommodationId * 0x9E3779B97F4A7C15L;
+		return (int)(hash >>> 52) & (FENCE_STRIPES - 1);
+	}
+
+	private record LocalEntry(AccommodationDetailCacheValue value, long ttlNanos) {
+	}
+
+	private static final class LocalEntryExpiry implements Expiry<Long, LocalEntry> {
+
+		@Override
+		public long expireAfterCreate(Long key, LocalEntry value, long currentTime) {
+			return value.ttlNanos();
+		}
+
+		@Override
+		public long expireAfterUpdate(
+			Long key,
+			LocalEntry value,
+			long currentTime,
+			long currentDuration
+		) {
+			return value.ttlNanos();
+		}
+
+		@Override
+		public long expireAfterRead(
+			Long key,
+			LocalEntry value,
+			long currentTime,
+			long currentDuration
+		) {
+			return currentDuration;
+		}
+	}
+}
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Component;
 
 import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheInvalidationReason;
 import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder;
+import kr.kro.airbob.domain.accommodation.cache.codec.AccommodationDetailCacheFormat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,6 +26,11 @@ public class FailSafeAccommodationDetailCacheMetricRecorder
 		record("request", () -> delegate.recordRequest(result));
 	}
 
+	@Override
+	public void recordTierLookup(CacheTier tier, TierLookupResult result) {
+		record("tier", () -> delegate.recordTierLookup(tier, result));
+	}
+
 	@Override
 	public void recordLock(LockResult result, long durationNanos) {
 		record("lock", () -> delegate.recordLock(result, durationNanos));
@@ -49,6 +55,21 @@ public class FailSafeAccommodationDetailCacheMetricRecorder
 		record("eviction", () -> delegate.recordEviction(source, reason, result));
 	}
 
+	@Override
+	public void recordInvalidationBroadcast(BroadcastDirection direction, OperationResult result) {
+		record("broadcast", () -> delegate.recordInvalidationBroadcast(direction, result));
+	}
+
+	@Override
+	public void recordCodec(
+		AccommodationDetailCacheFormat format,
+		CodecOperation operation,
+		long durationNanos,
+		int payloadBytes
+	) {
+		record("codec", () -> delegate.recordCodec(format, operation, durationNanos, payloadBytes));
+	}
+
 	private void record(String metric, Runnable action) {
 		try {
 			action.run();
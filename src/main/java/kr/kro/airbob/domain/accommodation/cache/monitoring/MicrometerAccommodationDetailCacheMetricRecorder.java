@@ -9,10 +9,12 @@ import java.util.function.Function;
 import org.springframework.stereotype.Component;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheInvalidationReason;
 import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder;
+import kr.kro.airbob.domain.accommodation.cache.codec.AccommodationDetailCacheFormat;
 
 /**
  * 고정된 enum 조합의 Meter를 시작 시 등록해 요청 중 동적 생성과 고카디널리티 증가를 막음
@@ -22,25 +24,39 @@ public class MicrometerAccommodationDetailCacheMetricRecorder
 	implements AccommodationDetailCacheMetricRecorder {
 
 	public static final String REQUEST_TOTAL = "accommodation.detail.cache.request";
+	public static final String TIER_LOOKUP_TOTAL = "accommodation.detail.cache.tier.lookup";
 	public static final String LOCK_WAIT_DURATION = "accommodation.detail.cache.lock.wait.duration";
 	public static final String LOAD_DURATION = "accommodation.detail.cache.load.duration";
 	public static final String REDIS_OPERATION_TOTAL = "accommodation.detail.cache.redis.operation";
 	public static final String EVICTION_TOTAL = "accommodation.detail.cache.eviction";
+	public static final String BROADCAST_TOTAL = "accommodation.detail.cache.invalidation.broadcast";
+	public static final String CODEC_DURATION = "accommodation.detail.cache.codec.duration";
+	public static final String CODEC_PAYLOAD_SIZE = "accommodation.detail.cache.codec.payload.size";
 
 	private static final Duration[] LOCK_SLOS = durations(1, 5, 10, 25, 50, 100, 250, 500, 1_000, 2_000);
 	private static final Duration[] LOAD_SLOS = durations(5, 10, 25, 50, 100, 250, 500, 1_000, 2_000, 5_000);
+	private static final Duration[] CODEC_SLOS = micros(10, 25, 50, 100, 250, 500, 1_000, 5_000);
+	private static final double[] PAYLOAD_SLOS = {256, 512, 1_024, 2_048, 4_096, 8_192, 16_384, 65_536};
 
 	private final Map<RequestResult, Counter> requestCounters;
+	private final Map<CacheTier, Map<TierLookupResult, Counter>> tierCounters;
 	private final Map<LockResult, Timer> lockTimers;
 	private final Map<LoadResult, Timer> loadTimers;
 	private final Map<RedisOperation, Map<OperationResult, Counter>> redisCounters;
 	private final Map<EvictionSource,
 		Map<AccommodationDetailCacheInvalidationReason, Map<OperationResult, Counter>>> evictionCounters;
+	private final Map<BroadcastDirection, Map<OperationResult, Counter>> broadcastCounters;
+	private final Map<AccommodationDetailCacheFormat, Map<CodecOperation, Timer>> codecTimers;
+	private final Map<AccommodationDetailCacheFormat, Map<CodecOperation, DistributionSummary>> payloadSummaries;
 
 	public MicrometerAccommodationDetailCacheMetricRecorder(MeterRegistry meterRegistry) {
 		requestCounters = enumMap(RequestResult.class, result -> counter(
 			meterRegistry, REQUEST_TOTAL, "Accommodation detail cache request outcomes",
 			"result", result.tagValue()));
+		tierCounters = enumMap(CacheTier.class, tier ->
+			enumMap(TierLookupResult.class, result -> counter(
+				meterRegistry, TIER_LOOKUP_TOTAL, "Accommodation detail cache lookups per cache tier",
+				"tier", tier.tagValue(), "result", result.tagValue())));
 		lockTimers = enumMap(LockResult.class, result -> timer(
 			meterRegistry, LOCK_WAIT_DURATION, "Accommodation detail cache lock wait duration",
 			LOCK_SLOS, "result", result.tagValue()));
@@ -52,6 +68,21 @@ public class MicrometerAccommodationDetailCacheMetricRecorder
 				meterRegistry, REDIS_OPERATION_TOTAL, "Accommodation detail cache Redis operations",
 				"operation", operation.tagValue(), "result", result.tagValue())));
 		evictionCounters = evictionCounters(meterRegistry);
+		broadcastCounters = enumMap(BroadcastDirection.class, direction ->
+			enumMap(OperationResult.class, result -> counter(
+				meterRegistry, BROADCAST_TOTAL, "Accommodation detail local cache invalidation broadcasts",
+				"direction", direction.tagValue(), "result", result.tagValue())));
+		codecTimers = enumMap(AccommodationDetailCacheFormat.class, format ->
+			enumMap(CodecOperation.class, operation -> timer(
+				meterRegistry, CODEC_DURATION, "Accommodation detail cache payload codec duration",
+				CODEC_SLOS, "format", format.tagValue(), "operation", operation.tagValue())));
+		payloadSummaries = enumMap(AccommodationDetailCacheFormat.class, format ->
+			enumMap(CodecOperation.class, operation -> DistributionSummary.builder(CODEC_PAYLOAD_SIZE)
+				.description("Accommodation detail cache payload size")
+				.baseUnit("bytes")
+				.tags("format", format.tagValue(), "operation", operation.tagValue())
+				.serviceLevelObjectives(PAYLOAD_SLOS)
+				.register(meterRegistry)));
 	}
 
 	@Override
@@ -59,6 +90,11 @@ public class MicrometerAccommodationDetailCacheMetricRecorder
 		requestCounters.get(result).increment();
 	}
 
+	@Override
+	public void recordTierLookup(CacheTier tier, TierLookupResult result) {
+		tierCounters.get(tier).get(result).increment();
+	}
+
 	@Override
 	public void recordLock(LockResult result, long durationNanos) {
 		lockTimers.get(result).record(durationNanos, TimeUnit.NANOSECONDS);
@@ -83,6 +119,22 @@ public class MicrometerAccommodationDetailCacheMetricRecorder
 		evictionCounters.get(source).get(reason).get(result).increment();
 	}
 
+	@Override
+	public void recordInvalidationBroadcast(BroadcastDirection direction, OperationResult result) {
+		broadcastCounters.get(direction).get(result).increment();
+	}
+
+	@Override
+	public void recordCodec(
+		AccommodationDetailCacheFormat format,
+		CodecOperation operation,
+		long durationNanos,
+		int payloadBytes
+	) {
+		codecTimers.get(format).get(operation).record(durationNanos, TimeUnit.NANOSECONDS);
+		payloadSummaries.get(format).get(operation).record(payloadBytes);
+	}
+
 	private Map<EvictionSource,
 		Map<AccommodationDetailCacheInvalidationReason, Map<OperationResult, Counter>>> evictionCounters(
 		MeterRegistry meterRegistry
@@ -136,4 +188,12 @@ public class MicrometerAccommodationDetailCacheMetricRecorder
 		}
 		return durations;
 	}
+
+	private static Duration[] micros(long... microseconds) {
+		Duration[] durations = new Duration[microseconds.length];
+		for (int index = 0; index < microseconds.length; index++) {
+			durations[index] = Duration.ofNanos(microseconds[index] * 1_000);
+		}
+		return durations;
+	}
 }
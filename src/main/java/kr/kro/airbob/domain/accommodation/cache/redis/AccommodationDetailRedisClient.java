@@ -1,10 +1,22 @@
 package kr.kro.airbob.domain.accommodation.cache.redis;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 /**
  * 숙소 상세 캐시 전용 Redis 연결을 감쌈
@@ -12,9 +24,30 @@ import org.springframework.data.redis.core.script.RedisScript;
  */
 public final class AccommodationDetailRedisClient {
 
+	// 바이너리 payload는 그대로, 토큰과 TTL 같은 문자열은 UTF-8로 전달
+	private static final RedisSerializer<Object> SCRIPT_ARGS_SERIALIZER = new RedisSerializer<>() {
+		@Override
+		public byte[] serialize(Object value) {
+			if (value == null) {
+				return null;
+			}
+			return value instanceof byte[] bytes ? bytes : value.toString().getBytes(StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public Object deserialize(byte[] bytes) {
+			return bytes;
+		}
+	};
+	private static final RedisSerializer<Long> SCRIPT_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
 	private final StringRedisTemplate redisTemplate;
 	private final LettuceConnectionFactory connectionFactory;
 
+	// 구독이 필요한 경우에만 만들어 L1을 사용하지 않는 서버는 pub/sub 연결을 열지 않음
+	private RedisMessageListenerContainer listenerContainer;
+	private ChannelListener channelListener;
+
 	public AccommodationDetailRedisClient(
 		StringRedisTemplate redisTemplate,
 		LettuceConnectionFactory connectionFactory
@@ -23,19 +56,92 @@ public final class AccommodationDetailRedisClient {
 		this.connectionFactory = connectionFactory;
 	}
 
-	public String get(String key) {
-		return redisTemplate.opsForValue().get(key);
+	public byte[] get(String key) {
+		byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+		return redisTemplate.execute((RedisCallback<byte[]>)connection -> connection.stringCommands().get(rawKey));
+	}
+
+	/**
+	 * 같은 hash slot의 키만 전달해야 Redis Cluster에서도 한 번의 MGET으로 처리됨
+	 */
+	public List<byte[]> multiGet(List<String> keys) {
+		byte[][] rawKeys = new byte[keys.size()][];
+		for (int index = 0; index < keys.size(); index++) {
+			rawKeys[index] = keys.get(index).getBytes(StandardCharsets.UTF_8);
+		}
+		return redisTemplate.execute((RedisCallback<List<byte[]>>)connection ->
+			connection.stringCommands().mGet(rawKeys));
 	}
 
 	public Long execute(RedisScript<Long> script, List<String> keys, Object... args) {
-		return redisTemplate.execute(script, keys, args);
+		return redisTemplate.execute(script, SCRIPT_ARGS_SERIALIZER, SCRIPT_RESULT_SERIALIZER, keys, args);
 	}
 
 	public Boolean delete(String key) {
 		return redisTemplate.delete(key);
 	}
 
-	public void destroy() {
+	public Long publish(String channel, String message) {
+		return redisTemplate.convertAndSend(channel, message);
+	}
+
+	/**
+	 * Redis가 SUBSCRIBE를 확인하면 onSubscribed를 호출
+	 * 연결 실패는 listener container가 recoveryInterval마다 재구독하고, 시작 자체가 실패하면 예외를 던지므로
+	 * 호출자가 같은 인자로 다시 호출해 재시도함. 같은 listener는 한 번만 등록됨
+	 */
+	public synchronized void subscribe(
+		String channel,
+		Consumer<String> listener,
+		Runnable onSubscribed,
+		Duration recoveryInterval
+	) {
+		if (listenerContainer == null) {
+			RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+			container.setConnectionFactory(connectionFactory);
+			container.setRecoveryBackoff(new FixedBackOff(recoveryInterval.toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS));
+			try {
+				container.afterPropertiesSet();
+				container.start();
+			} catch (RuntimeException exception) {
+				destroyQuietly(container);
+				throw exception;
+			}
+			listenerContainer = container;
+			channelListener = new ChannelListener(listener, onSubscribed);
+		}
+		listenerContainer.addMessageListener(channelListener, new ChannelTopic(channel));
+	}
+
+	public synchronized void destroy() {
+		// 구독 연결을 먼저 닫아 connection factory 종료 중 재구독을 시도하지 않게 함
+		if (listenerContainer != null) {
+			destroyQuietly(listenerContainer);
+			listenerContainer = null;
+			channelListener = null;
+		}
 		connectionFactory.destroy();
 	}
+
+	private static void destroyQuietly(RedisMessageListenerContainer container) {
+		try {
+			container.destroy();
+		} catch (Exception ignored) {
+			// 종료 중 실패는 connection factory 정리를 막지 않음
+		}
+	}
+
+	private record ChannelListener(Consumer<String> listener, Runnable onSubscribed)
+		implements MessageListener, SubscriptionListener {
+
+		@Override
+		public void onMessage(Message message, byte[] pattern) {
+			listener.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public void onChannelSubscribed(byte[] channel, long count) {
+			onSubscribed.run();
+		}
+	}
 }
@@ -0,0 +1,29 @@
+package kr.kro.airbob.domain.accommodation.card;
+
+import kr.kro.airbob.domain.accommodation.dto.AddressResponse;
+import kr.kro.airbob.domain.accommodation.entity.Accommodation;
+import kr.kro.airbob.domain.review.dto.ReviewResponse;
+import lombok.Builder;
+
+/**
+ * 숙소 목록 카드에 회원과 무관하게 공통으로 보이는 값
+ * 게시 중인 숙소만 카드로 만들며, 위시리스트 여부처럼 회원별 값은 포함하지 않음
+ */
+@Builder
+public record AccommodationCard(
+	Long accommodationId,
+	String accommodationName,
+	String thumbnailUrl,
+	AddressResponse.AddressSummaryInfo addressSummary,
+	ReviewResponse.ReviewSummary reviewSummary
+) {
+	public static AccommodationCard of(Accommodation accommodation, ReviewResponse.ReviewSummary reviewSummary) {
+		return AccommodationCard.builder()
+			.accommodationId(accommodation.getId())
+			.accommodationName(accommodation.getName())
+			.thumbnailUrl(accommodation.getThumbnailUrl())
+			.addressSummary(AddressResponse.AddressSummaryInfo.from(accommodation.getAddress()))
+			.reviewSummary(reviewSummary)
+			.build();
+	}
+}
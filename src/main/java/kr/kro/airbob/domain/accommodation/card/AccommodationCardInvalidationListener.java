@@ -0,0 +1,32 @@
+package kr.kro.airbob.domain.accommodation.card;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import kr.kro.airbob.domain.accommodation.cache.invalidation.AccommodationDetailCacheInvalidationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 숙소 상세 캐시와 같은 무효화 이벤트로 목록 카드도 커밋 이후에 지움
+ * 여기서 실패해도 같은 트랜잭션의 outbox를 소비하는 Kafka consumer가 다시 지움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccommodationCardInvalidationListener {
+
+	private final AccommodationCardReadModel cardReadModel;
+
+	@TransactionalEventListener(phase = AFTER_COMMIT)
+	public void invalidate(AccommodationDetailCacheInvalidationEvent event) {
+		try {
+			cardReadModel.invalidate(event.accommodationId());
+		} catch (RuntimeException e) {
+			log.warn("숙소 카드 조회 모델 무효화 실패. outbox 경로로 재시도. accommodationId={}",
+				event.accommodationId(), e);
+		}
+	}
+}
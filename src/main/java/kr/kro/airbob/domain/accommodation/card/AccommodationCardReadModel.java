@@ -0,0 +1,200 @@
+package kr.kro.airbob.domain.accommodation.card;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 숙소 ID별 목록 카드를 Redis에 보관하는 조회 모델
+ * 여러 숙소를 MGET 한 번으로 읽고, 없는 카드만 DB에서 한 번에 만들어 채운다.
+ * 숙소·이미지·리뷰 변경은 ACCOMMODATION_CACHE 무효화 흐름이 버전을 올리고 카드를 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccommodationCardReadModel {
+
+	public static final String LOOKUP_TOTAL = "accommodation.card.read_model.lookup";
+
+	// 카드와 버전은 같은 hash slot에 두기 위해 숙소 ID를 hash tag로 사용
+	// 여러 숙소를 한 번에 읽고 쓰므로 단일 노드 Redis를 전제로 함
+	private static final String CARD_KEY_PREFIX = "airbob:accommodation-card:";
+	private static final String VERSION_KEY_PREFIX = "airbob:accommodation-card:version:";
+	private static final String MISSING_VERSION = "0";
+	private static final long VERSION_TTL_MILLIS = 24 * 60 * 60 * 1000L; // 1일
+
+	// KEYS = (버전, 카드) 쌍, ARGV = 버전 없음 표시, TTL(ms), 이후 (조회 시작 시 버전, 카드) 쌍
+	// DB 조회를 시작할 때 읽은 버전이 그대로인 카드만 저장하고 저장한 개수를 반환
+	private static final DefaultRedisScript<Long> WRITE_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>("""
+		local written = 0
+		for index = 1, #KEYS, 2 do
+			local current = redis.call('GET', KEYS[index]) or ARGV[1]
+			if current == ARGV[index + 2] then
+				redis.call('PSETEX', KEYS[index + 1], ARGV[2], ARGV[index + 3])
+				written = written + 1
+			end
+		end
+		return written
+		""", Long.class);
+
+	private static final DefaultRedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('INCR', KEYS[1])
+		redis.call('PEXPIRE', KEYS[1], ARGV[1])
+		redis.call('DEL', KEYS[2])
+		return 1
+		""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final AccommodationCardReadModelProperties properties;
+	private final MeterRegistry meterRegistry;
+
+	public boolean enabled() {
+		return properties.enabled();
+	}
+
+	/**
+	 * @param loader Redis에 없는 숙소 ID 목록으로 카드를 만든다. 게시 중이 아닌 숙소는 결과에서 빠진다.
+	 * @return 카드가 있는 숙소만 담은 숙소 ID별 카드
+	 */
+	public Map<Long, AccommodationCard> getAll(
+		Collection<Long> accommodationIds,
+		Function<List<Long>, Map<Long, AccommodationCard>> loader
+	) {
+		List<Long> ids = List.copyOf(accommodationIds);
+		if (ids.isEmpty()) {
+			return Map.of();
+		}
+
+		List<String> values;
+		try {
+			values = redisTemplate.opsForValue().multiGet(keys(ids));
+		} catch (RuntimeException e) {
+			log.warn("숙소 카드 조회 모델 조회 실패. DB로 대체. count={}", ids.size(), e);
+			record(LookupResult.ERROR, ids.size());
+			return loader.apply(ids);
+		}
+
+		Map<Long, AccommodationCard> cards = new HashMap<>();
+		List<Long> missingIds = new ArrayList<>();
+		Map<Long, String> versions = new HashMap<>();
+		for (int index = 0; index < ids.size(); index++) {
+			Long accommodationId = ids.get(index);
+			String version = values == null ? null : values.get(index * 2);
+			String encoded = values == null ? null : values.get(index * 2 + 1);
+			AccommodationCard card = encoded == null ? null : decode(accommodationId, encoded);
+			if (card != null) {
+				cards.put(accommodationId, card);
+				continue;
+			}
+			missingIds.add(accommodationId);
+			versions.put(accommodationId, version == null ? MISSING_VERSION : version);
+		}
+		record(LookupResult.HIT, cards.size());
+
+		if (!missingIds.isEmpty()) {
+			Map<Long, AccommodationCard> loaded = loader.apply(missingIds);
+			record(LookupResult.MISS, missingIds.size());
+			store(loaded, versions);
+			cards.putAll(loaded);
+		}
+		return cards;
+	}
+
+	/**
+	 * 실패는 호출자에게 전파해 outbox 경로가 Kafka retry로 재시도할 수 있게 함
+	 */
+	public void invalidate(Long accommodationId) {
+		redisTemplate.execute(INVALIDATE_SCRIPT,
+			List.of(versionKey(accommodationId), cardKey(accommodationId)), String.valueOf(VERSION_TTL_MILLIS));
+	}
+
+	private void store(Map<Long, AccommodationCard> loaded, Map<Long, String> versions) {
+		if (loaded.isEmpty()) {
+			return;
+		}
+		List<String> keys = new ArrayList<>(loaded.size() * 2);
+		List<String> args = new ArrayList<>(2 + loaded.size() * 2);
+		args.add(MISSING_VERSION);
+		args.add(String.valueOf(properties.ttl().toMillis()));
+		try {
+			for (Map.Entry<Long, AccommodationCard> entry : loaded.entrySet()) {
+				String version = versions.get(entry.getKey());
+				if (version == null) {
+					continue;
+				}
+				keys.add(versionKey(entry.getKey()));
+				keys.add(cardKey(entry.getKey()));
+				args.add(version);
+				args.add(objectMapper.writeValueAsString(entry.getValue()));
+			}
+			if (!keys.isEmpty()) {
+				redisTemplate.execute(WRITE_IF_UNCHANGED_SCRIPT, keys, args.toArray());
+			}
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("숙소 카드 조회 모델 저장 실패. count={}", loaded.size(), e);
+		}
+	}
+
+	private AccommodationCard decode(Long accommodationId, String encoded) {
+		try {
+			return objectMapper.readValue(encoded, AccommodationCard.class);
+		} catch (JsonProcessingException e) {
+			log.warn("숙소 카드 조회 모델 값 손상. 다시 생성. accommodationId={}", accommodationId);
+			return null;
+		}
+	}
+
+	private List<String> keys(List<Long> accommodationIds) {
+		List<String> keys = new ArrayList<>(accommodationIds.size() * 2);
+		for (Long accommodationId : accommodationIds) {
+			keys.add(versionKey(accommodationId));
+			keys.add(cardKey(accommodationId));
+		}
+		return keys;
+	}
+
+	private String versionKey(Long accommodationId) {
+		return VERSION_KEY_PREFIX + "{" + accommodationId + "}";
+	}
+
+	private String cardKey(Long accommodationId) {
+		return CARD_KEY_PREFIX + "{" + accommodationId + "}";
+	}
+
+	private void record(LookupResult result, int amount) {
+		if (amount <= 0) {
+			return;
+		}
+		Counter.builder(LOOKUP_TOTAL)
+			.description("Accommodation card read model lookups per accommodation")
+			.tag("result", result.name().toLowerCase(Locale.ROOT))
+			.register(meterRegistry)
+			.increment(amount);
+	}
+
+	enum LookupResult {
+		// Redis 카드를 그대로 사용
+		HIT,
+		// 카드가 없거나 손상되어 DB에서 생성
+		MISS,
+		// Redis 장애로 DB 결과만 반환
+		ERROR
+	}
+}
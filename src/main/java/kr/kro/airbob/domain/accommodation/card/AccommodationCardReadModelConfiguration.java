@@ -0,0 +1,12 @@
+package kr.kro.airbob.domain.accommodation.card;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 숙소 카드 조회 모델 정책 값을 애플리케이션 빈으로 등록
+ */
+@Configuration
+@EnableConfigurationProperties(AccommodationCardReadModelProperties.class)
+public class AccommodationCardReadModelConfiguration {
+}
@@ -0,0 +1,23 @@
+package kr.kro.airbob.domain.accommodation.card;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+
+/**
+ * 숙소 카드 조회 모델 사용 여부와 보관 시간을 정의
+ *
+ * @param enabled false면 카드 목록을 매번 DB에서 조립
+ * @param ttl 카드 보관 시간. 무효화가 유실되어도 이 시간 안에 원본이 반영됨
+ */
+@ConfigurationProperties(prefix = "accommodation.card-read-model")
+public record AccommodationCardReadModelProperties(
+	boolean enabled,
+	Duration ttl
+) {
+	public AccommodationCardReadModelProperties {
+		Assert.notNull(ttl, "accommodation.card-read-model.ttl must not be null");
+		Assert.isTrue(!ttl.isNegative() && !ttl.isZero(), "accommodation.card-read-model.ttl must be positive");
+	}
+}
@@ -8,6 +8,7 @@ import java.time.ZoneOffset;
 import java.util.List;
 
 import kr.kro.airbob.cursor.dto.CursorResponse;
+import kr.kro.airbob.domain.accommodation.card.AccommodationCard;
 import kr.kro.airbob.domain.accommodation.entity.Accommodation;
 import kr.kro.airbob.domain.accommodation.entity.AccommodationStatus;
 import kr.kro.airbob.domain.accommodation.entity.Address;
@@ -221,6 +222,19 @@ public class AccommodationResponse {
 				.isInWishlist(isInWishlist)
 				.build();
 		}
+
+		public static RecentlyViewedAccommodationInfo from(Instant viewedAt, AccommodationCard card,
+			boolean isInWishlist) {
+			return RecentlyViewedAccommodationInfo.builder()
+				.viewedAt(viewedAt)
+				.accommodationId(card.accommodationId())
+				.accommodationName(card.accommodationName())
+				.thumbnailUrl(card.thumbnailUrl())
+				.addressSummary(card.addressSummary())
+				.reviewSummary(card.reviewSummary())
+				.isInWishlist(isInWishlist)
+				.build();
+		}
 	}
 
 	/**
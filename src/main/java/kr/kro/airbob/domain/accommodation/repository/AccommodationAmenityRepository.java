@@ -1,5 +1,6 @@
 package kr.kro.airbob.domain.accommodation.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,6 +17,7 @@ public interface AccommodationAmenityRepository extends JpaRepository<Accommodat
 
     List<AccommodationAmenity> findAllByAccommodationId(Long accommodationId);
     List<AccommodationAmenity> findAllByAccommodation_AccommodationUid(UUID accommodationUid);
+    List<AccommodationAmenity> findAllByAccommodationIdIn(Collection<Long> accommodationIds);
 
     void deleteByAccommodationId(Long accommodationId);
 
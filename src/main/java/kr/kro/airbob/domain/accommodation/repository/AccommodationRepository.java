@@ -33,10 +33,19 @@ public interface AccommodationRepository extends JpaRepository<Accommodation, Lo
 		@Param("status") AccommodationStatus status
 	);
 
+	// 예약끼리는 공유하고, 호스트 삭제·비공개 전환의 배타 락과는 서로 기다림
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("SELECT a FROM Accommodation a WHERE a.id = :id AND a.status = :status")
+	Optional<Accommodation> findByIdAndStatusForShare(
+		@Param("id") Long id,
+		@Param("status") AccommodationStatus status
+	);
+
 	Optional<Accommodation> findByIdAndStatus(Long id, AccommodationStatus status);
 
 	@Query("""
-		SELECT new kr.kro.airbob.domain.accommodation.repository.projection.AccommodationBookingProjection(a.timeZoneId)
+		SELECT new kr.kro.airbob.domain.accommodation.repository.projection.AccommodationBookingProjection(
+			a.timeZoneId, a.accommodationUid)
 		FROM Accommodation a
 		WHERE a.id = :id AND a.status = :status
 		""")
@@ -66,4 +75,7 @@ public interface AccommodationRepository extends JpaRepository<Accommodation, Lo
 
 	Optional<Accommodation> findByIdAndMemberIdAndStatusNot(Long accommodationId, Long memberId, AccommodationStatus accommodationStatus);
 
+	// 재색인 건수 대조용. 검색 문서는 UID가 있는 공개 숙소만 만든다
+	long countByStatusAndAccommodationUidIsNotNull(AccommodationStatus status);
+
 }
@@ -1,6 +1,9 @@
 package kr.kro.airbob.domain.accommodation.repository.projection;
 
+import java.util.UUID;
+
 public record AccommodationBookingProjection(
-	String timeZoneId
+	String timeZoneId,
+	UUID accommodationUid
 ) {
 }
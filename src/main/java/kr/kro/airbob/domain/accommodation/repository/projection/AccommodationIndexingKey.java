@@ -0,0 +1,15 @@
+package kr.kro.airbob.domain.accommodation.repository.projection;
+
+import java.util.UUID;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+// 재색인 keyset 스캔용. id는 다음 페이지 기준, UID는 문서 ID
+public record AccommodationIndexingKey(
+	Long accommodationId,
+	UUID accommodationUid
+) {
+	@QueryProjection
+	public AccommodationIndexingKey {
+	}
+}
@@ -1,20 +1,22 @@
 package kr.kro.airbob.domain.accommodation.repository.querydsl;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 import kr.kro.airbob.domain.accommodation.entity.Accommodation;
 import kr.kro.airbob.domain.accommodation.entity.AccommodationStatus;
 import kr.kro.airbob.domain.accommodation.repository.projection.AccommodationDetailProjection;
+import kr.kro.airbob.domain.accommodation.repository.projection.AccommodationIndexingKey;
 
 public interface AccommodationRepositoryCustom {
     Optional<Accommodation> findWithDetailsByAccommodationUid(UUID accommodationUid);
+    List<Accommodation> findAllWithDetailsByAccommodationUidIn(Collection<UUID> accommodationUids);
     Optional<AccommodationDetailProjection> findWithDetailsByAccommodationIdAndStatus(
         Long accommodationId,
         AccommodationStatus status
@@ -33,6 +35,7 @@ public interface AccommodationRepositoryCustom {
     Optional<Accommodation> findWithDetailsByIdAndHostId(Long accommodationId, Long hostId);
     Optional<Accommodation> findWithDetailsExceptHostAndDeletedById(Long accommodationId, Long hostId);
 
-    Page<Accommodation> findForIndexing(Pageable pageable);
+    // 재색인 스캔: id 오름차순 keyset. 첫 페이지는 lastAccommodationId = 0
+    List<AccommodationIndexingKey> findPublishedIndexingKeysAfter(Long lastAccommodationId, int limit);
 
 }
@@ -19,6 +19,8 @@ import kr.kro.airbob.domain.accommodation.repository.projection.AccommodationDet
 import kr.kro.airbob.domain.image.dto.ImageResponse;
 import kr.kro.airbob.domain.member.dto.MemberResponse;
 import kr.kro.airbob.domain.review.dto.ReviewResponse;
+import kr.kro.airbob.domain.review.summary.ReviewSummaryStripeCounter;
+import kr.kro.airbob.domain.wishlist.cache.WishlistMembershipCache;
 import kr.kro.airbob.domain.wishlist.repository.WishlistAccommodationRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -30,6 +32,8 @@ public class AccommodationDetailReader {
 	private final AccommodationAmenityRepository accommodationAmenityRepository;
 	private final AccommodationImageRepository accommodationImageRepository;
 	private final WishlistAccommodationRepository wishlistAccommodationRepository;
+	private final ReviewSummaryStripeCounter reviewSummaryCounter;
+	private final WishlistMembershipCache wishlistMembershipCache;
 
 	@Transactional(readOnly = true)
 	public AccommodationDetailSnapshot load(Long accommodationId) {
@@ -39,8 +43,10 @@ public class AccommodationDetailReader {
 		Accommodation accommodation = projection.accommodation();
 		List<AmenityResponse.AmenityInfo> amenities = loadAmenities(accommodationId);
 		List<ImageResponse.ImageInfo> images = loadImages(accommodationId);
-		ReviewResponse.ReviewSummary reviewSummary = ReviewResponse.ReviewSummary.of(
-			projection.totalReviewCount(), projection.averageRating());
+		// stripe 모드에서는 요약 행만 조인한 값에 롤업 전 증감분이 빠져 있으므로 합친 값을 다시 읽는다
+		ReviewResponse.ReviewSummary reviewSummary = reviewSummaryCounter.enabled()
+			? reviewSummaryCounter.find(accommodationId)
+			: ReviewResponse.ReviewSummary.of(projection.totalReviewCount(), projection.averageRating());
 
 		return new AccommodationDetailSnapshot(
 			accommodation.getId(),
@@ -64,6 +70,9 @@ public class AccommodationDetailReader {
 
 	@Transactional(readOnly = true)
 	public boolean isInWishlist(Long accommodationId, Long viewerId) {
+		if (wishlistMembershipCache.enabled()) {
+			return wishlistMembershipCache.isWishlisted(viewerId, accommodationId);
+		}
 		return wishlistAccommodationRepository.existsByWishlist_Member_IdAndAccommodation_Id(
 			viewerId, accommodationId);
 	}
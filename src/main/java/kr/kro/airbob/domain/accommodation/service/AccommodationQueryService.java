@@ -1,9 +1,7 @@
 package kr.kro.airbob.domain.accommodation.service;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +13,8 @@ import org.springframework.transaction.annotation.Transactional;
 import kr.kro.airbob.cursor.dto.CursorRequest;
 import kr.kro.airbob.cursor.dto.CursorResponse;
 import kr.kro.airbob.cursor.util.CursorPageInfoCreator;
+import kr.kro.airbob.domain.accommodation.availability.AccommodationAvailabilityReadModel;
+import kr.kro.airbob.domain.accommodation.availability.AvailabilityBitmap;
 import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCache;
 import kr.kro.airbob.domain.accommodation.dto.AccommodationDetailSnapshot;
 import kr.kro.airbob.domain.accommodation.dto.AccommodationResponse;
@@ -23,8 +23,8 @@ import kr.kro.airbob.domain.accommodation.entity.Accommodation;
 import kr.kro.airbob.domain.accommodation.entity.AccommodationStatus;
 import kr.kro.airbob.domain.accommodation.exception.AccommodationNotFoundException;
 import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
+import kr.kro.airbob.domain.accommodation.repository.projection.AccommodationBookingProjection;
 import kr.kro.airbob.domain.image.dto.ImageResponse;
-import kr.kro.airbob.domain.reservation.dto.ReservationDateRange;
 import kr.kro.airbob.domain.reservation.policy.BookingWindow;
 import kr.kro.airbob.domain.reservation.policy.BookingWindowProvider;
 import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
@@ -44,6 +44,7 @@ public class AccommodationQueryService {
 	private final BookingWindowProvider bookingWindowProvider;
 	private final AccommodationDetailReader accommodationDetailReader;
 	private final AccommodationDetailCache accommodationDetailCache;
+	private final AccommodationAvailabilityReadModel availabilityReadModel;
 
 	public AccommodationResponse.DetailInfo findAccommodation(Long accommodationId, Long viewerId) {
 		AccommodationDetailSnapshot snapshot = accommodationDetailCache.getOrLoad(
@@ -58,20 +59,24 @@ public class AccommodationQueryService {
 
 	@Transactional(readOnly = true)
 	public AccommodationResponse.Availability findAccommodationAvailability(Long accommodationId) {
-		String timeZoneId = accommodationRepository
+		AccommodationBookingProjection accommodation = accommodationRepository
 			.findBookingProjectionByIdAndStatus(accommodationId, AccommodationStatus.PUBLISHED)
-			.orElseThrow(AccommodationNotFoundException::new)
-			.timeZoneId();
-		BookingWindow bookingWindow = bookingWindowProvider.currentFor(timeZoneId);
+			.orElseThrow(AccommodationNotFoundException::new);
+		BookingWindow bookingWindow = bookingWindowProvider.currentFor(accommodation.timeZoneId());
 		LocalDate bookingWindowStart = bookingWindow.startInclusive();
 		LocalDate bookingWindowEndExclusive = bookingWindow.endExclusive();
-		List<AccommodationResponse.UnavailableDateRange> unavailableRanges = getUnavailableRanges(
-			accommodationId, bookingWindowStart, bookingWindowEndExclusive);
+		AvailabilityBitmap availability = availabilityReadModel.getOrLoad(
+			accommodation.accommodationUid(),
+			bookingWindowStart,
+			bookingWindowEndExclusive,
+			() -> reservationRepository.findActiveReservationRangesByAccommodationId(
+				accommodationId, bookingWindowStart, bookingWindowEndExclusive)
+		);
 
 		return new AccommodationResponse.Availability(
 			bookingWindowStart,
 			bookingWindowEndExclusive,
-			unavailableRanges
+			availability.unavailableRanges()
 		);
 	}
 
@@ -137,73 +142,4 @@ public class AccommodationQueryService {
 		return ReviewResponse.ReviewSummary.of(summaryOpt.orElse(null));
 	}
 
-	private List<AccommodationResponse.UnavailableDateRange> getUnavailableRanges(
-		Long accommodationId,
-		LocalDate windowStart,
-		LocalDate windowEndExclusive
-	) {
-		List<ReservationDateRange> reservationRanges = reservationRepository
-			.findActiveReservationRangesByAccommodationId(
-				accommodationId,
-				windowStart,
-				windowEndExclusive);
-
-		List<AccommodationResponse.UnavailableDateRange> clippedRanges = reservationRanges.stream()
-			.map(range -> clipUnavailableRange(range, windowStart, windowEndExclusive))
-			.filter(range -> range.startDate().isBefore(range.endDateExclusive()))
-			.sorted(Comparator
-				.comparing(AccommodationResponse.UnavailableDateRange::startDate)
-				.thenComparing(AccommodationResponse.UnavailableDateRange::endDateExclusive))
-			.toList();
-
-		return mergeUnavailableRanges(clippedRanges);
-	}
-
-	private AccommodationResponse.UnavailableDateRange clipUnavailableRange(
-		ReservationDateRange range,
-		LocalDate windowStart,
-		LocalDate windowEndExclusive
-	) {
-		LocalDate startDate = range.checkIn();
-		LocalDate endDateExclusive = range.checkOut();
-
-		if (startDate.isBefore(windowStart)) {
-			startDate = windowStart;
-		}
-		if (endDateExclusive.isAfter(windowEndExclusive)) {
-			endDateExclusive = windowEndExclusive;
-		}
-
-		return new AccommodationResponse.UnavailableDateRange(startDate, endDateExclusive);
-	}
-
-	private List<AccommodationResponse.UnavailableDateRange> mergeUnavailableRanges(
-		List<AccommodationResponse.UnavailableDateRange> ranges
-	) {
-		if (ranges.isEmpty()) {
-			return List.of();
-		}
-
-		List<AccommodationResponse.UnavailableDateRange> mergedRanges = new ArrayList<>();
-		AccommodationResponse.UnavailableDateRange current = ranges.getFirst();
-
-		for (int index = 1; index < ranges.size(); index++) {
-			AccommodationResponse.UnavailableDateRange next = ranges.get(index);
-
-			if (!next.startDate().isAfter(current.endDateExclusive())) {
-				LocalDate mergedEnd = next.endDateExclusive().isAfter(current.endDateExclusive())
-					? next.endDateExclusive()
-					: current.endDateExclusive();
-				current = new AccommodationResponse.UnavailableDateRange(current.startDate(), mergedEnd);
-				continue;
-			}
-
-			mergedRanges.add(current);
-			current = next;
-		}
-
-		mergedRanges.add(current);
-		return List.copyOf(mergedRanges);
-	}
-
 }
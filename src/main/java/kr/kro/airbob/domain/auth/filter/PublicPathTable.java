@@ -0,0 +1,84 @@
+package kr.kro.airbob.domain.auth.filter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인증 없이 허용하는 경로를 시작 시 한 번 분해해 둔 조회표
+ *
+ * 와일드카드 없는 경로는 Set 조회로, 세그먼트 전체가 '*'인 패턴은 세그먼트 수가 같은 패턴끼리만 비교
+ * '*'는 비어 있지 않은 세그먼트 하나에만 대응하며 '**'와 세그먼트 일부 와일드카드는 지원하지 않음
+ */
+final class PublicPathTable {
+
+    private static final String WILDCARD = "*";
+
+    private final Set<String> anyMethodPaths;
+    private final Set<String> exactGetPaths;
+    private final Map<Integer, List<String[]>> getPatternsBySegmentCount;
+
+    PublicPathTable(Set<String> anyMethodPaths, List<String> getPatterns) {
+        anyMethodPaths.forEach(PublicPathTable::requireSupported);
+        this.anyMethodPaths = Set.copyOf(anyMethodPaths);
+
+        Set<String> exact = new HashSet<>();
+        Map<Integer, List<String[]>> bySegmentCount = new HashMap<>();
+        for (String pattern : getPatterns) {
+            requireSupported(pattern);
+            if (!pattern.contains(WILDCARD)) {
+                exact.add(pattern);
+                continue;
+            }
+            String[] segments = pattern.split("/", -1);
+            bySegmentCount.computeIfAbsent(segments.length, ignored -> new ArrayList<>()).add(segments);
+        }
+        this.exactGetPaths = Set.copyOf(exact);
+        this.getPatternsBySegmentCount = Map.copyOf(bySegmentCount);
+    }
+
+    boolean isPublic(String method, String path) {
+        if (anyMethodPaths.contains(path)) {
+            return true;
+        }
+        if (!"GET".equals(method)) {
+            return false;
+        }
+        if (exactGetPaths.contains(path)) {
+            return true;
+        }
+        String[] segments = path.split("/", -1);
+        List<String[]> candidates = getPatternsBySegmentCount.get(segments.length);
+        if (candidates == null) {
+            return false;
+        }
+        for (String[] pattern : candidates) {
+            if (matches(pattern, segments)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(String[] pattern, String[] segments) {
+        for (int index = 0; index < pattern.length; index++) {
+            String expected = pattern[index];
+            String actual = segments[index];
+            if (WILDCARD.equals(expected) ? actual.isEmpty() : !expected.equals(actual)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void requireSupported(String pattern) {
+        for (String segment : pattern.split("/", -1)) {
+            if (segment.contains(WILDCARD) && !WILDCARD.equals(segment)) {
+                throw new IllegalArgumentException("지원하지 않는 공개 경로 패턴: " + pattern);
+            }
+        }
+    }
+}
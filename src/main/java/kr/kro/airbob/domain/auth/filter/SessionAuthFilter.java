@@ -2,9 +2,7 @@ package kr.kro.airbob.domain.auth.filter;
 
 import java.io.IOException;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import jakarta.servlet.FilterChain;
@@ -17,24 +15,19 @@ import kr.kro.airbob.common.dto.ApiResponse;
 import kr.kro.airbob.common.dto.ErrorResponse;
 import kr.kro.airbob.common.exception.ErrorCode;
 import kr.kro.airbob.domain.auth.common.SessionUtil;
-import lombok.RequiredArgsConstructor;
+import kr.kro.airbob.domain.auth.session.SessionResolver;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Component
 @Slf4j
 public class SessionAuthFilter extends OncePerRequestFilter {
-    private static final String MEMBER_SESSION_ACTIVE = "MEMBER_SESSION_ACTIVE:";
-
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final SessionResolver sessionResolver;
     private final ObjectMapper objectMapper;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
-
 
     // 인증이 필요 없는 경로 목록 (메서드 무관)
     private static final Set<String> PUBLIC_PATHS = Set.of(
@@ -43,7 +36,7 @@ public class SessionAuthFilter extends OncePerRequestFilter {
     );
 
     // GET 메서드일 때만 인증이 필요 없는 경로 목록
-    private static final String[] PUBLIC_GET_PATHS = {
+    private static final List<String> PUBLIC_GET_PATHS = List.of(
         "/api/v1/accommodations/*",          // 숙소 상세
         "/api/v1/accommodations/*/availability", // 숙소 예약 가능 정보
         "/api/v2/accommodations/*",          // 숙소 상세 read model benchmark
@@ -51,12 +44,15 @@ public class SessionAuthFilter extends OncePerRequestFilter {
         "/api/v1/accommodations/*/reviews/summary", // 리뷰 요약
         "/api/v2/accommodations/*/reviews/summary", // read model benchmark 리뷰 요약
         "/api/v1/search/accommodations",     // 검색
-        "/api/v1/common-codes/*",            // 공통 코드 조회(공개 상세/검색의 라벨·셀렉트박스). 관리 API(/admin/**)는 별도 보호
+        "/api/v1/common-codes/*"             // 공통 코드 조회(공개 상세/검색의 라벨·셀렉트박스). 관리 API(/admin/**)는 별도 보호
         // "/api/v1/search/recommendations"     // 인기 여행지 추천
-    };
+    );
 
-    public SessionAuthFilter(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
-        this.redisTemplate = redisTemplate;
+    // 요청마다 패턴 목록을 훑지 않도록 시작 시 한 번 분해
+    private static final PublicPathTable PUBLIC_PATH_TABLE = new PublicPathTable(PUBLIC_PATHS, PUBLIC_GET_PATHS);
+
+    public SessionAuthFilter(SessionResolver sessionResolver, ObjectMapper objectMapper) {
+        this.sessionResolver = sessionResolver;
         this.objectMapper = objectMapper;
     }
 
@@ -67,34 +63,24 @@ public class SessionAuthFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
         String method = request.getMethod();
 
-        // HTTP 메서드와 무관하게 항상 공개되는 경로
-        boolean isPublicPath = PUBLIC_PATHS.stream()
-            .anyMatch(p -> pathMatcher.match(p, path));
-
-        // GET 메서드일 때만 공개되는 경로
-        boolean isPublicGet = "GET".equals(method) &&
-            Arrays.stream(PUBLIC_GET_PATHS)
-                .anyMatch(p -> pathMatcher.match(p, path));
+        // 항상 공개되는 경로와 GET 메서드일 때만 공개되는 경로
+        boolean isPublic = PUBLIC_PATH_TABLE.isPublic(method, path);
 
         String sessionId = SessionUtil.getSessionIdByCookie(request);
         Long memberId = null;
 
         if (sessionId != null) {
             try {
-                memberId = getMemberId(sessionId);
+                // 세션 값과 회원 활성 키를 함께 확인. 로컬 캐시에 있으면 Redis를 거치지 않음
+                memberId = sessionResolver.resolve(sessionId).orElse(null);
             } catch (Exception e) {
-                log.warn("[SessionAuthFilter] 유효하지 않은 세션값 (무시): SESSION:{}", sessionId, e);
+                log.warn("[SessionAuthFilter] 세션 조회 실패 (무시): SESSION:{}", sessionId, e);
             }
         }
 
-        if (memberId != null && !Boolean.TRUE.equals(redisTemplate.hasKey(MEMBER_SESSION_ACTIVE + memberId))) {
-            log.warn("[SessionAuthFilter] 회원별 세션 활성 키 누락 (무시): memberId={}", memberId);
-            memberId = null;
-        }
-
         // 인증 검사 로직
-        // 공개 경로도 아니고, 공개 GET 경로도 아닌데 memberId(인증)가 없으면 401
-        if (!isPublicPath && !isPublicGet && memberId == null) {
+        // 공개 경로가 아닌데 memberId(인증)가 없으면 401
+        if (!isPublic && memberId == null) {
             log.warn("[SessionAuthFilter] 필수 인증 실패 (401): {} {}", method, path);
             sendUnauthorizedError(response);
             return;
@@ -103,9 +89,9 @@ public class SessionAuthFilter extends OncePerRequestFilter {
         try {
             if (memberId != null) {
                 UserContext.set(new UserInfo(memberId, resolveClientIp(request), resolveSourceSystem(request)));
-                log.info("[SessionAuthFilter] 인증된 요청 (User: {}): {} {}", memberId, method, path);
+                log.debug("[SessionAuthFilter] 인증된 요청 (User: {}): {} {}", memberId, method, path);
             } else {
-                log.info("[SessionAuthFilter] 비인증 요청 (Public): {} {}", method, path);
+                log.debug("[SessionAuthFilter] 비인증 요청 (Public): {} {}", method, path);
             }
             filterChain.doFilter(request, response);
         } finally {
@@ -139,17 +125,4 @@ public class SessionAuthFilter extends OncePerRequestFilter {
         String source = request.getHeader("X-Source-System");
         return (source != null && !source.isBlank()) ? source : "API";
     }
-
-    private Long getMemberId(String sessionId) {
-        Object value = redisTemplate.opsForValue().get("SESSION:" + sessionId);
-
-        if (value instanceof Number number) {
-            return number.longValue();
-        } else if (value != null) {
-            log.error("세션 값 타입 오류: SESSION:{} 값 = {}, 타입 = {}", sessionId, value, value.getClass().getName());
-            throw new IllegalStateException("Unexpected session type: " + value.getClass());
-        }
-
-        return null;
-    }
 }
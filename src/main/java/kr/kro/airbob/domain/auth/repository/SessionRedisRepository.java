@@ -1,14 +1,19 @@
 package kr.kro.airbob.domain.auth.repository;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import kr.kro.airbob.domain.auth.session.SessionNearCacheInvalidationBroadcaster;
 import kr.kro.airbob.domain.member.port.SessionInvalidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -19,7 +24,32 @@ public class SessionRedisRepository implements SessionInvalidator {
     private static final String SESSION = "SESSION:";
     private static final String MEMBER_SESSIONS = "MEMBER_SESSIONS:";
     private static final String MEMBER_SESSION_ACTIVE = "MEMBER_SESSION_ACTIVE:";
+    private static final long SESSION_MISSING = -1L;
+    private static final long SESSION_MALFORMED = -2L;
+    private static final long MEMBER_INACTIVE = -3L;
+
+    // 세션 값과 회원 활성 키를 한 번의 왕복으로 확인하고 활성 회원 ID를 반환
+    // 세션 값은 JSON 직렬화기로 저장되어 숫자 또는 ["java.lang.Long",id] 형태이며, 어느 쪽도 아니면 -2
+    // 활성 키 이름은 세션 값에서 만들어지므로 단일 노드 Redis를 전제로 함
+    private static final DefaultRedisScript<Long> FIND_ACTIVE_MEMBER_SCRIPT = new DefaultRedisScript<>("""
+        local raw = redis.call('GET', KEYS[1])
+        if not raw then
+            return -1
+        end
+        local memberId = string.match(raw, '^(%-?%d+)$')
+            or string.match(raw, '^%["java%.lang%.%a+",%s*(%-?%d+)%]$')
+        if not memberId then
+            return -2
+        end
+        if redis.call('EXISTS', ARGV[1] .. memberId) == 0 then
+            return -3
+        end
+        return tonumber(memberId)
+        """, Long.class);
+    private static final RedisSerializer<Long> SCRIPT_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final SessionNearCacheInvalidationBroadcaster invalidationBroadcaster;
 
     public void saveSession(String sessionId, Long memberId) {
         redisTemplate.opsForValue().set(SESSION + sessionId, memberId, TTL);
@@ -42,10 +72,29 @@ public class SessionRedisRepository implements SessionInvalidator {
         }
     }
 
+    public Optional<Long> findActiveMemberId(String sessionId) {
+        Long result = redisTemplate.execute(FIND_ACTIVE_MEMBER_SCRIPT, RedisSerializer.string(),
+            SCRIPT_RESULT_SERIALIZER, List.of(SESSION + sessionId), MEMBER_SESSION_ACTIVE);
+
+        if (result == null || result == SESSION_MISSING) {
+            return Optional.empty();
+        }
+        if (result == SESSION_MALFORMED) {
+            log.error("세션 값 형식 오류: SESSION:{}", sessionId);
+            return Optional.empty();
+        }
+        if (result == MEMBER_INACTIVE) {
+            log.warn("회원별 세션 활성 키 누락: SESSION:{}", sessionId);
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+
     public void deleteSession(String sessionId) {
         Optional<Long> memberId = getMemberIdBySession(sessionId);
         redisTemplate.delete(SESSION + sessionId);
         memberId.ifPresent(id -> redisTemplate.opsForZSet().remove(MEMBER_SESSIONS + id, sessionId));
+        invalidationBroadcaster.publishSession(sessionId);
     }
 
     @Override
@@ -63,5 +112,6 @@ public class SessionRedisRepository implements SessionInvalidator {
         }
 
         redisTemplate.delete(memberSessionsKey);
+        invalidationBroadcaster.publishMember(memberId);
     }
 }
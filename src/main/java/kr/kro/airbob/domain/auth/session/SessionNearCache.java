@@ -0,0 +1,78 @@
+package kr.kro.airbob.domain.auth.session;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+/**
+ * 세션 ID → 회원 ID를 짧게 보관하는 JVM 로컬 캐시
+ *
+ * Redis 조회 전에 발급한 fence가 저장 시점까지 그대로인 경우에만 보관
+ * 조회 도중 로그아웃·비활성화가 fence를 올렸다면 삭제된 세션이 다시 들어가지 않음
+ */
+@Component
+public class SessionNearCache {
+
+    private final SessionNearCacheProperties properties;
+    private final Cache<String, Long> cache;
+    // 회원 단위 무효화는 세션 ID로 나눌 수 없으므로 fence 하나를 공유
+    // 무효화는 로그아웃·비활성화 때만 일어나 진행 중인 저장이 거부되어도 다음 요청이 다시 채움
+    private final AtomicLong fence = new AtomicLong();
+
+    @Autowired
+    public SessionNearCache(SessionNearCacheProperties properties) {
+        this(properties, Ticker.systemTicker());
+    }
+
+    SessionNearCache(SessionNearCacheProperties properties, Ticker ticker) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.ttl())
+            .ticker(ticker)
+            .build();
+    }
+
+    public boolean enabled() {
+        return properties.enabled();
+    }
+
+    public Long get(String sessionId) {
+        if (!properties.enabled()) {
+            return null;
+        }
+        return cache.getIfPresent(sessionId);
+    }
+
+    /**
+     * Redis 조회를 시작하기 전에 호출해 이후 저장의 유효성을 판별할 fence를 발급
+     */
+    public long fence() {
+        return fence.get();
+    }
+
+    public void put(String sessionId, long fence, Long memberId) {
+        if (!properties.enabled()) {
+            return;
+        }
+        // fence 확인과 저장을 같은 key의 compute 안에서 수행해 invalidate의 삭제와 직렬화
+        cache.asMap().compute(sessionId, (ignored, current) ->
+            this.fence.get() == fence ? memberId : current);
+    }
+
+    public void invalidateSession(String sessionId) {
+        fence.incrementAndGet();
+        cache.invalidate(sessionId);
+    }
+
+    public void invalidateMember(Long memberId) {
+        fence.incrementAndGet();
+        cache.asMap().values().removeIf(cached -> Objects.equals(cached, memberId));
+    }
+}
@@ -0,0 +1,12 @@
+package kr.kro.airbob.domain.auth.session;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로컬 세션 캐시 정책 값을 애플리케이션 빈으로 등록
+ */
+@Configuration
+@EnableConfigurationProperties(SessionNearCacheProperties.class)
+public class SessionNearCacheConfiguration {
+}
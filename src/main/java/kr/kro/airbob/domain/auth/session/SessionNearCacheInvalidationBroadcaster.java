@@ -0,0 +1,103 @@
+package kr.kro.airbob.domain.auth.session;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 서버에서 삭제한 세션을 모든 서버의 로컬 세션 캐시에서 비움
+ * keyspace notification은 Redis 서버 설정(notify-keyspace-events)이 필요해 애플리케이션 pub/sub을 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionNearCacheInvalidationBroadcaster implements InitializingBean, DisposableBean {
+
+    private static final String SESSION_PREFIX = "S:";
+    private static final String MEMBER_PREFIX = "M:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final SessionNearCache nearCache;
+    private final SessionNearCacheProperties properties;
+
+    // 로컬 세션 캐시를 사용하지 않는 서버는 pub/sub 연결을 열지 않음
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.addMessageListener(
+                (message, pattern) -> receive(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(properties.invalidationChannel())
+            );
+            container.afterPropertiesSet();
+            container.start();
+            listenerContainer = container;
+        } catch (RuntimeException exception) {
+            // 구독이 늦어지는 동안 다른 서버의 로그아웃은 로컬 TTL 안에서만 늦게 반영됨
+            log.warn("로컬 세션 캐시 무효화 채널 구독 실패. channel={}", properties.invalidationChannel(), exception);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+            listenerContainer = null;
+        }
+    }
+
+    /**
+     * Redis 세션 키를 삭제한 뒤에 호출해야 수신 서버가 삭제 전 값을 다시 채우지 않음
+     */
+    public void publishSession(String sessionId) {
+        nearCache.invalidateSession(sessionId);
+        publish(SESSION_PREFIX + sessionId);
+    }
+
+    public void publishMember(Long memberId) {
+        nearCache.invalidateMember(memberId);
+        publish(MEMBER_PREFIX + memberId);
+    }
+
+    void receive(String message) {
+        try {
+            if (message.startsWith(SESSION_PREFIX)) {
+                nearCache.invalidateSession(message.substring(SESSION_PREFIX.length()));
+            } else if (message.startsWith(MEMBER_PREFIX)) {
+                nearCache.invalidateMember(Long.valueOf(message.substring(MEMBER_PREFIX.length())));
+            } else {
+                log.warn("알 수 없는 로컬 세션 캐시 무효화 메시지. message={}", message);
+            }
+        } catch (RuntimeException exception) {
+            log.warn("로컬 세션 캐시 무효화 메시지 처리 실패. message={}", message, exception);
+        }
+    }
+
+    // Redis 세션은 이미 삭제됐으므로 발행 실패가 로그아웃을 실패시키지 않음. 다른 서버는 TTL 안에 반영
+    private void publish(String message) {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(properties.invalidationChannel(), message);
+        } catch (RuntimeException exception) {
+            log.warn("로컬 세션 캐시 무효화 발행 실패. message={}", message, exception);
+        }
+    }
+}
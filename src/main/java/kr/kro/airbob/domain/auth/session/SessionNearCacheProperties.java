@@ -0,0 +1,30 @@
+package kr.kro.airbob.domain.auth.session;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+
+/**
+ * 인증 필터 앞에 두는 JVM 로컬 세션 캐시의 크기와 만료 시간을 정의
+ * 다른 서버의 로그아웃·비활성화는 pub/sub으로 전달되지만 유실될 수 있으므로 TTL을 짧게 유지해 최대 지연을 제한
+ *
+ * @param enabled 로컬 세션 캐시 사용 여부
+ * @param maximumSize JVM 하나가 보관하는 최대 세션 수
+ * @param ttl 조회한 세션을 보관하는 시간
+ * @param invalidationChannel 서버 간 세션 무효화를 전달하는 Redis pub/sub 채널
+ */
+@ConfigurationProperties(prefix = "auth.session.near-cache")
+public record SessionNearCacheProperties(
+    boolean enabled,
+    long maximumSize,
+    Duration ttl,
+    String invalidationChannel
+) {
+    public SessionNearCacheProperties {
+        Assert.notNull(ttl, "auth.session.near-cache.ttl must not be null");
+        Assert.hasText(invalidationChannel, "auth.session.near-cache.invalidation-channel must not be blank");
+        Assert.isTrue(maximumSize > 0, "auth.session.near-cache.maximum-size must be positive");
+        Assert.isTrue(!ttl.isNegative() && !ttl.isZero(), "auth.session.near-cache.ttl must be positive");
+    }
+}
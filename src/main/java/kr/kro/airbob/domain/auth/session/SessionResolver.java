@@ -0,0 +1,33 @@
+package kr.kro.airbob.domain.auth.session;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import kr.kro.airbob.domain.auth.repository.SessionRedisRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 세션 ID를 활성 회원 ID로 바꿈
+ * 로컬 캐시에 없으면 세션 값과 회원 활성 키를 Redis 한 번의 왕복으로 확인한 뒤 보관
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionResolver {
+
+    private final SessionRedisRepository sessionRedisRepository;
+    private final SessionNearCache nearCache;
+
+    public Optional<Long> resolve(String sessionId) {
+        Long cached = nearCache.get(sessionId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long fence = nearCache.fence();
+        Optional<Long> memberId = sessionRedisRepository.findActiveMemberId(sessionId);
+        // 없는 세션은 보관하지 않음. 로그인 직후 같은 ID가 저장되면 바로 보여야 함
+        memberId.ifPresent(id -> nearCache.put(sessionId, fence, id));
+        return memberId;
+    }
+}
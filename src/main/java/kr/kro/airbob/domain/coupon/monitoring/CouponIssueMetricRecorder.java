@@ -14,6 +14,11 @@ public interface CouponIssueMetricRecorder {
 
 	void recordCompensation(CompensationResult result);
 
+	/**
+	 * 노드 로컬 매진·종료 상태로 Lua 호출 없이 거절한 요청
+	 */
+	void recordFastRejection(LuaResult result);
+
 	interface TaggedValue {
 		default String tagValue() {
 			return ((Enum<?>)this).name().toLowerCase(Locale.ROOT);
@@ -62,6 +62,15 @@ public class FailSafeCouponIssueMetricRecorder implements CouponIssueMetricRecor
 		}
 	}
 
+	@Override
+	public void recordFastRejection(LuaResult result) {
+		try {
+			delegate.recordFastRejection(result);
+		} catch (RuntimeException exception) {
+			logFailure(FAST_REJECTION_METRIC, exception);
+		}
+	}
+
 	private void logFailure(String metric, RuntimeException exception) {
 		log.warn("쿠폰 발급 메트릭 기록 실패. metric={}", metric, exception);
 	}
@@ -71,4 +80,5 @@ public class FailSafeCouponIssueMetricRecorder implements CouponIssueMetricRecor
 	private static final String LOCK_METRIC = "lock";
 	private static final String LUA_METRIC = "lua";
 	private static final String COMPENSATION_METRIC = "compensation";
+	private static final String FAST_REJECTION_METRIC = "fast_rejection";
 }
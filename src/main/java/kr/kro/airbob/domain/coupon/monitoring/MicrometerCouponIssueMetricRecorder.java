@@ -20,6 +20,7 @@ public class MicrometerCouponIssueMetricRecorder implements CouponIssueMetricRec
 	public static final String LOCK_TIMEOUT_TOTAL = "coupon.lock.timeout";
 	public static final String LUA_DURATION = "coupon.lua.duration";
 	public static final String COMPENSATION_TOTAL = "coupon.compensation";
+	public static final String FAST_REJECTION_TOTAL = "coupon.lua.fast_rejection";
 
 	private static final Duration[] ISSUE_SLOS = durations(10, 50, 100, 250, 500, 1_000, 2_500, 5_000);
 	private static final Duration[] LUA_SLOS = durations(1, 2, 5, 10, 25, 50, 100);
@@ -69,6 +70,15 @@ public class MicrometerCouponIssueMetricRecorder implements CouponIssueMetricRec
 			.increment();
 	}
 
+	@Override
+	public void recordFastRejection(LuaResult result) {
+		Counter.builder(FAST_REJECTION_TOTAL)
+			.description("Coupon issue requests rejected from node-local sold-out or ended state without Lua")
+			.tag("result", result.tagValue())
+			.register(meterRegistry)
+			.increment();
+	}
+
 	private Timer timer(String name, String description, Duration[] objectives, String... tags) {
 		return Timer.builder(name)
 			.description(description)
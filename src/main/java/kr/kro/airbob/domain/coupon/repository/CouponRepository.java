@@ -59,4 +59,11 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
 	@Modifying(clearAutomatically = true)
 	@Query("update Coupon c set c.issuedQuantity = c.issuedQuantity + 1 where c.id = :id")
 	int incrementIssuedQuantity(@Param("id") Long id);
+
+	/**
+	 * write-behind 소비자가 한 쿠폰의 발급분을 묶어 기록할 때 발급 수를 한 번에 누적한다.
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("update Coupon c set c.issuedQuantity = c.issuedQuantity + :amount where c.id = :id")
+	int addIssuedQuantity(@Param("id") Long id, @Param("amount") int amount);
 }
@@ -0,0 +1,57 @@
+package kr.kro.airbob.domain.coupon.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * write-behind 소비자가 승인된 발급분을 JDBC batch 한 번으로 기록한다.
+ * 발급 주체가 회원 본인이므로 감사 컬럼은 회원 ID로 채운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberCouponBatchWriter {
+
+	private static final String INSERT_SQL = """
+		INSERT INTO member_coupon (member_id, coupon_id, used, created_at, updated_at, created_by, updated_by)
+		VALUES (?, ?, false, ?, ?, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void insertAll(Long couponId, List<Long> memberIds, LocalDateTime issuedAt) {
+		Objects.requireNonNull(couponId, "couponId must not be null");
+		Objects.requireNonNull(memberIds, "memberIds must not be null");
+		Objects.requireNonNull(issuedAt, "issuedAt must not be null");
+		if (memberIds.isEmpty()) {
+			return;
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement statement, int index) throws SQLException {
+				Long memberId = memberIds.get(index);
+				statement.setLong(1, memberId);
+				statement.setLong(2, couponId);
+				statement.setObject(3, issuedAt, Types.TIMESTAMP);
+				statement.setObject(4, issuedAt, Types.TIMESTAMP);
+				statement.setLong(5, memberId);
+				statement.setLong(6, memberId);
+			}
+
+			@Override
+			public int getBatchSize() {
+				return memberIds.size();
+			}
+		});
+	}
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -26,6 +27,9 @@ public interface MemberCouponRepository extends JpaRepository<MemberCoupon, Long
 
 	Optional<MemberCoupon> findByMemberIdAndCouponId(Long memberId, Long couponId);
 
+	@Query("select mc.member.id from MemberCoupon mc where mc.coupon.id = :couponId and mc.member.id in :memberIds")
+	Set<Long> findIssuedMemberIds(@Param("couponId") Long couponId, @Param("memberIds") Collection<Long> memberIds);
+
 	/**
 	 * 미사용 상태일 때만 사용 처리한다. 영향 행이 0이면 이미 사용된 것 → 중복 사용 방지.
 	 */
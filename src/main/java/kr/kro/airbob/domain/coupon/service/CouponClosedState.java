@@ -0,0 +1,118 @@
+package kr.kro.airbob.domain.coupon.service;
+
+import java.util.Optional;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import kr.kro.airbob.config.CouponClosedStateProperties;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매진·종료로 판정된 쿠폰을 노드 로컬에 기록해 이후 발급 요청을 Lua 호출 없이 거절한다.
+ *
+ * Lua 결과로 상태가 처음 바뀐 노드가 pub/sub으로 알려 다른 노드도 바로 거절
+ * 보상으로 재고가 돌아오면 상태를 지우고 다시 알린다. 알림이 유실되어도 ttl 뒤에는 Lua로 재확인
+ * 매진 뒤 이미 발급받은 회원의 재요청도 중복 대신 매진으로 응답한다.
+ */
+@Slf4j
+@Component
+public class CouponClosedState implements InitializingBean, DisposableBean {
+
+	private static final String SEPARATOR = ":";
+	private static final String REOPENED = "REOPENED";
+
+	private final RedissonClient redissonClient;
+	private final CouponClosedStateProperties properties;
+	private final Cache<Long, CouponRedisIssueStatus> closedCoupons;
+	private RTopic topic;
+	private Integer listenerId;
+
+	public CouponClosedState(RedissonClient redissonClient, CouponClosedStateProperties properties) {
+		this.redissonClient = redissonClient;
+		this.properties = properties;
+		this.closedCoupons = Caffeine.newBuilder()
+			.expireAfterWrite(properties.ttl())
+			.build();
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (!properties.enabled()) {
+			return;
+		}
+		topic = redissonClient.getTopic(properties.channel(), StringCodec.INSTANCE);
+		listenerId = topic.addListener(String.class, (channel, message) -> apply(message));
+	}
+
+	@Override
+	public void destroy() {
+		if (topic != null && listenerId != null) {
+			topic.removeListener(listenerId);
+		}
+	}
+
+	public Optional<CouponRedisIssueStatus> find(Long couponId) {
+		if (!properties.enabled()) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(closedCoupons.getIfPresent(couponId));
+	}
+
+	/**
+	 * @param status 매진 또는 종료. 시간이 지나도 다시 열리지 않는 거절만 기록
+	 */
+	public void markClosed(Long couponId, CouponRedisIssueStatus status) {
+		if (!properties.enabled()) {
+			return;
+		}
+		if (status != CouponRedisIssueStatus.SOLD_OUT && status != CouponRedisIssueStatus.ENDED) {
+			throw new IllegalArgumentException("매진·종료만 로컬 상태로 기록할 수 있습니다: " + status);
+		}
+		// 같은 상태를 이미 알고 있으면 다시 알리지 않아 매진 순간의 동시 거절이 알림을 쏟아내지 않게 함
+		if (closedCoupons.asMap().put(couponId, status) != status) {
+			publish(status.name(), couponId);
+		}
+	}
+
+	public void reopen(Long couponId) {
+		if (!properties.enabled()) {
+			return;
+		}
+		closedCoupons.invalidate(couponId);
+		publish(REOPENED, couponId);
+	}
+
+	private void publish(String state, Long couponId) {
+		try {
+			topic.publish(state + SEPARATOR + couponId);
+		} catch (RuntimeException e) {
+			log.warn("쿠폰 로컬 상태 알림 실패. 다른 노드는 ttl 뒤 반영: state={}, couponId={}", state, couponId, e);
+		}
+	}
+
+	private void apply(String message) {
+		int separator = message.indexOf(SEPARATOR);
+		try {
+			String state = message.substring(0, separator);
+			Long couponId = Long.parseLong(message.substring(separator + 1));
+			if (REOPENED.equals(state)) {
+				closedCoupons.invalidate(couponId);
+				return;
+			}
+			CouponRedisIssueStatus status = CouponRedisIssueStatus.valueOf(state);
+			if (status == CouponRedisIssueStatus.SOLD_OUT || status == CouponRedisIssueStatus.ENDED) {
+				closedCoupons.put(couponId, status);
+			}
+		} catch (RuntimeException e) {
+			log.warn("쿠폰 로컬 상태 알림 해석 실패. message={}", message);
+		}
+	}
+}
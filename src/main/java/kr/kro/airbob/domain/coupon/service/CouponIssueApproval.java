@@ -0,0 +1,10 @@
+package kr.kro.airbob.domain.coupon.service;
+
+/**
+ * Redis Lua가 승인했지만 아직 DB에 기록되지 않은 발급 한 건
+ */
+public record CouponIssueApproval(
+	Long couponId,
+	Long memberId
+) {
+}
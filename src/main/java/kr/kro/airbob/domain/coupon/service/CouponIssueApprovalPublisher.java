@@ -0,0 +1,96 @@
+package kr.kro.airbob.domain.coupon.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kro.airbob.config.CouponWriteBehindKafkaConfig;
+import kr.kro.airbob.config.CouponWriteBehindProperties;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lua 승인 결과를 write-behind 토픽에 기록한다.
+ * 브로커 ack까지 기다려 응답 전에 승인이 유실되지 않게 한다.
+ * 전송 실패로 끝난 future는 프로듀서가 delivery-timeout까지 재시도한 뒤이므로 기록되지 않은 것으로 보고
+ * 예외를 던져 호출자가 Redis 승인을 보상하게 한다.
+ * ack 대기만 넘긴 경우는 아직 전송 중이므로 성공으로 응답하고, 나중에 실패로 끝나면 그때 보상한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.issue.write-behind.enabled", havingValue = "true")
+public class CouponIssueApprovalPublisher {
+
+	private final KafkaTemplate<String, String> kafkaTemplate;
+	private final ObjectMapper objectMapper;
+	private final CouponWriteBehindProperties properties;
+	private final CouponIssueCompensator compensator;
+
+	public CouponIssueApprovalPublisher(
+		@Qualifier(CouponWriteBehindKafkaConfig.APPROVAL_KAFKA_TEMPLATE) KafkaTemplate<String, String> kafkaTemplate,
+		ObjectMapper objectMapper,
+		CouponWriteBehindProperties properties,
+		CouponIssueCompensator compensator
+	) {
+		this.kafkaTemplate = kafkaTemplate;
+		this.objectMapper = objectMapper;
+		this.properties = properties;
+		this.compensator = compensator;
+	}
+
+	public void publish(Long couponId, Long memberId) {
+		String value;
+		try {
+			value = objectMapper.writeValueAsString(new CouponIssueApproval(couponId, memberId));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("쿠폰 발급 승인 직렬화 실패", e);
+		}
+
+		// 프로듀서 버퍼에 넣지 못했으면 전송되지 않은 것이 확실
+		CompletableFuture<SendResult<String, String>> sent;
+		try {
+			sent = kafkaTemplate.send(properties.topic(), String.valueOf(couponId), value);
+		} catch (RuntimeException e) {
+			throw new IllegalStateException("쿠폰 발급 승인 기록 실패", e);
+		}
+
+		try {
+			sent.get(properties.publishTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			compensateIfLateFailure(sent, couponId, memberId);
+		} catch (TimeoutException e) {
+			compensateIfLateFailure(sent, couponId, memberId);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("쿠폰 발급 승인 기록 실패", e);
+		}
+	}
+
+	// 응답 뒤 전송이 실패로 끝나면 기록되지 않은 승인이므로 Redis에서 되돌린다
+	private void compensateIfLateFailure(
+		CompletableFuture<SendResult<String, String>> sent,
+		Long couponId,
+		Long memberId
+	) {
+		log.warn("[COUPON-WRITE-BEHIND] 승인 기록 ack 대기 초과. 전송 결과를 이어서 확인: couponId={}, memberId={}",
+			couponId, memberId);
+		sent.whenComplete((result, failure) -> {
+			if (failure == null) {
+				return;
+			}
+			IllegalStateException lateFailure = new IllegalStateException("쿠폰 발급 승인 기록 실패", failure);
+			log.error("[COUPON-WRITE-BEHIND] 응답 뒤 승인 기록 실패. Redis 승인 보상: couponId={}, memberId={}",
+				couponId, memberId, lateFailure);
+			compensator.compensateWithoutMasking(couponId, memberId, lateFailure);
+		});
+	}
+}
@@ -0,0 +1,49 @@
+package kr.kro.airbob.domain.coupon.service;
+
+import org.springframework.stereotype.Component;
+
+import kr.kro.airbob.domain.coupon.monitoring.CouponIssueMetricRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB에 기록하지 못한 Lua 승인을 Redis에서 되돌린다.
+ * 동기 저장 실패와 write-behind 소비자의 영구 실패가 같은 보상 경로를 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueCompensator {
+
+	private final CouponRedisStockManager stockManager;
+	private final CouponIssueMetricRecorder metricRecorder;
+
+	/**
+	 * 보상 실패는 원래 실패에 suppressed로 붙이고 던지지 않는다.
+	 */
+	public void compensateWithoutMasking(Long couponId, Long memberId, RuntimeException failure) {
+		try {
+			CouponRedisCompensationResult result = stockManager.compensate(couponId, memberId);
+			metricRecorder.recordCompensation(compensationMetricResult(result));
+			if (result != CouponRedisCompensationResult.COMPENSATED) {
+				log.error("쿠폰 Redis 보상이 완료되지 않음. result={}, couponId={}, memberId={}",
+					result, couponId, memberId);
+			}
+		} catch (RuntimeException compensationFailure) {
+			metricRecorder.recordCompensation(CouponIssueMetricRecorder.CompensationResult.ERROR);
+			failure.addSuppressed(compensationFailure);
+			log.error("쿠폰 Redis 보상 중 예외. couponId={}, memberId={}",
+				couponId, memberId, compensationFailure);
+		}
+	}
+
+	private CouponIssueMetricRecorder.CompensationResult compensationMetricResult(
+		CouponRedisCompensationResult result
+	) {
+		return switch (result) {
+			case COMPENSATED -> CouponIssueMetricRecorder.CompensationResult.COMPENSATED;
+			case NO_OP -> CouponIssueMetricRecorder.CompensationResult.NO_OP;
+			case META_MISSING -> CouponIssueMetricRecorder.CompensationResult.META_MISSING;
+		};
+	}
+}
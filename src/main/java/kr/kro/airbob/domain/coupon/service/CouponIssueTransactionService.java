@@ -1,5 +1,10 @@
 package kr.kro.airbob.domain.coupon.service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +16,7 @@ import kr.kro.airbob.domain.coupon.exception.CouponNotIssuableException;
 import kr.kro.airbob.domain.coupon.exception.CouponSoldOutException;
 import kr.kro.airbob.domain.coupon.exception.CouponStockNotPreparedException;
 import kr.kro.airbob.domain.coupon.repository.CouponRepository;
+import kr.kro.airbob.domain.coupon.repository.MemberCouponBatchWriter;
 import kr.kro.airbob.domain.coupon.repository.MemberCouponRepository;
 import kr.kro.airbob.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +34,7 @@ public class CouponIssueTransactionService {
 	private final MemberRepository memberRepository;
 	private final CouponTimeProvider timeProvider;
 	private final CouponRedisStockManager stockManager;
+	private final MemberCouponBatchWriter memberCouponBatchWriter;
 
 	/**
 	 * 분산 락 안에서 DB 상태를 검증하고 발급
@@ -71,4 +78,40 @@ public class CouponIssueTransactionService {
 		couponRepository.incrementIssuedQuantity(couponId);
 		memberCouponRepository.save(MemberCoupon.issue(memberRepository.getReferenceById(memberId), coupon));
 	}
+
+	/**
+	 * write-behind 소비자의 일괄 영속화 경로.
+	 * 재전달로 같은 승인이 다시 와도 이미 기록된 회원은 건너뛰므로 (쿠폰, 회원) 기준으로 멱등
+	 * 결과 불명 발행이나 Redis 재준비로 승인이 재고보다 많아져도 DB 발급 한도를 넘겨 기록하지 않는다.
+	 *
+	 * @return 이번에 새로 기록한 발급 수
+	 */
+	@Transactional
+	public int persistApprovedIssues(Long couponId, Collection<Long> memberIds) {
+		// 발급 수 UPDATE와 같은 X-lock을 먼저 잡아 한도 검사와 누적 사이에 다른 기록이 끼지 않게 함
+		Coupon coupon = couponRepository.findByIdForUpdate(couponId)
+			.orElseThrow(CouponNotFoundException::new);
+
+		if (!coupon.isRedisStockPrepared()) {
+			throw new CouponStockNotPreparedException();
+		}
+		Set<Long> issuedMemberIds = memberCouponRepository.findIssuedMemberIds(couponId, memberIds);
+		List<Long> newMemberIds = memberIds.stream()
+			.distinct()
+			.filter(memberId -> !issuedMemberIds.contains(memberId))
+			.toList();
+		if (newMemberIds.isEmpty()) {
+			return 0;
+		}
+		// 영구 실패로 던지면 소비자가 회원별로 다시 저장해 한도 안의 승인만 기록하고 나머지는 보상
+		if (coupon.getTotalQuantity() != null
+			&& coupon.getIssuedQuantity() + newMemberIds.size() > coupon.getTotalQuantity()) {
+			throw new CouponSoldOutException();
+		}
+
+		// 단건 경로와 같이 발급 수 UPDATE(X-lock)를 먼저 수행해 락 순서를 고정
+		couponRepository.addIssuedQuantity(couponId, newMemberIds.size());
+		memberCouponBatchWriter.insertAll(couponId, newMemberIds, LocalDateTime.now());
+		return newMemberIds.size();
+	}
 }
@@ -13,8 +13,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * 쿠폰 발급용 단일 분산 락. 예약의 {@code ReservationLockManager} 와 동일하게
- * Pub/Sub 기반 Redisson 락을 쓰되, 쿠폰은 단일 키({@code coupon:{id}:lock}) 만 잠금.
+ * 쿠폰 발급용 단일 분산 락. Pub/Sub 기반 Redisson 락으로
+ * 단일 키({@code coupon:{id}:lock}) 만 잠금.
  */
 @Slf4j
 @Component
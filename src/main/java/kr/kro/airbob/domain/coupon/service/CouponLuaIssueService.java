@@ -1,5 +1,7 @@
 package kr.kro.airbob.domain.coupon.service;
 
+import java.util.Optional;
+
 import org.springframework.stereotype.Service;
 
 import kr.kro.airbob.domain.coupon.exception.CouponAlreadyIssuedException;
@@ -9,9 +11,7 @@ import kr.kro.airbob.domain.coupon.exception.CouponStockNotPreparedException;
 import kr.kro.airbob.domain.coupon.monitoring.CouponIssueMetricRecorder;
 import kr.kro.airbob.domain.coupon.monitoring.CouponIssueMetricResultResolver;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CouponLuaIssueService {
@@ -19,6 +19,9 @@ public class CouponLuaIssueService {
 	private final CouponRedisStockManager stockManager;
 	private final CouponIssueTransactionService transactionService;
 	private final CouponIssueMetricRecorder metricRecorder;
+	private final CouponIssueCompensator compensator;
+	// write-behind를 켠 경우에만 존재. 없으면 요청 스레드에서 DB에 저장
+	private final Optional<CouponIssueApprovalPublisher> approvalPublisher;
 
 	public void issue(Long couponId, Long memberId) {
 		long issueStartedAt = System.nanoTime();
@@ -29,7 +32,11 @@ public class CouponLuaIssueService {
 				throw rejectionFor(redisResult.status());
 			}
 
-			persistApprovedIssue(couponId, memberId);
+			if (approvalPublisher.isPresent()) {
+				publishApproval(couponId, memberId, approvalPublisher.get());
+			} else {
+				persistApprovedIssue(couponId, memberId);
+			}
 			issueResult = CouponIssueMetricRecorder.IssueResult.SUCCESS;
 		} catch (RuntimeException exception) {
 			issueResult = CouponIssueMetricResultResolver.issueResult(exception);
@@ -51,7 +58,7 @@ public class CouponLuaIssueService {
 				CouponIssueMetricRecorder.Strategy.LUA,
 				CouponIssueMetricRecorder.DatabaseResult.ERROR,
 				System.nanoTime() - databaseStartedAt);
-			compensateWithoutMasking(couponId, memberId, databaseFailure);
+			compensator.compensateWithoutMasking(couponId, memberId, databaseFailure);
 			throw databaseFailure;
 		}
 		metricRecorder.recordDatabase(
@@ -60,6 +67,16 @@ public class CouponLuaIssueService {
 			System.nanoTime() - databaseStartedAt);
 	}
 
+	// 발행자는 전달되지 않았음이 확실할 때만 던지므로 이때만 보상한다
+	private void publishApproval(Long couponId, Long memberId, CouponIssueApprovalPublisher publisher) {
+		try {
+			publisher.publish(couponId, memberId);
+		} catch (RuntimeException publishFailure) {
+			compensator.compensateWithoutMasking(couponId, memberId, publishFailure);
+			throw publishFailure;
+		}
+	}
+
 	private RuntimeException rejectionFor(CouponRedisIssueStatus status) {
 		return switch (status) {
 			case SOLD_OUT -> new CouponSoldOutException();
@@ -69,30 +86,4 @@ public class CouponLuaIssueService {
 			case APPROVED -> throw new IllegalArgumentException("승인 결과는 거절 예외로 변환할 수 없습니다.");
 		};
 	}
-
-	private void compensateWithoutMasking(Long couponId, Long memberId, RuntimeException databaseFailure) {
-		try {
-			CouponRedisCompensationResult result = stockManager.compensate(couponId, memberId);
-			metricRecorder.recordCompensation(compensationMetricResult(result));
-			if (result != CouponRedisCompensationResult.COMPENSATED) {
-				log.error("쿠폰 Redis 보상이 완료되지 않음. result={}, couponId={}, memberId={}",
-					result, couponId, memberId);
-			}
-		} catch (RuntimeException compensationFailure) {
-			metricRecorder.recordCompensation(CouponIssueMetricRecorder.CompensationResult.ERROR);
-			databaseFailure.addSuppressed(compensationFailure);
-			log.error("쿠폰 Redis 보상 중 예외. couponId={}, memberId={}",
-				couponId, memberId, compensationFailure);
-		}
-	}
-
-	private CouponIssueMetricRecorder.CompensationResult compensationMetricResult(
-		CouponRedisCompensationResult result
-	) {
-		return switch (result) {
-			case COMPENSATED -> CouponIssueMetricRecorder.CompensationResult.COMPENSATED;
-			case NO_OP -> CouponIssueMetricRecorder.CompensationResult.NO_OP;
-			case META_MISSING -> CouponIssueMetricRecorder.CompensationResult.META_MISSING;
-		};
-	}
 }
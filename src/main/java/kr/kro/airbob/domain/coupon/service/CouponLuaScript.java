@@ -0,0 +1,17 @@
+package kr.kro.airbob.domain.coupon.service;
+
+public enum CouponLuaScript {
+	PREPARE("lua/coupon_prepare.lua"),
+	ISSUE("lua/coupon_issue.lua"),
+	COMPENSATE("lua/coupon_compensate.lua");
+
+	private final String path;
+
+	CouponLuaScript(String path) {
+		this.path = path;
+	}
+
+	public String path() {
+		return path;
+	}
+}
@@ -0,0 +1,105 @@
+package kr.kro.airbob.domain.coupon.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쿠폰 Lua 스크립트를 EVALSHA로 실행한다.
+ * SHA는 기동 시 원문으로 계산하고, Redis에 없으면(NOSCRIPT) 한 번 적재한 뒤 다시 실행한다.
+ * 재시작·SCRIPT FLUSH·failover 뒤 첫 호출만 원문을 보낸다.
+ */
+@Slf4j
+@Component
+public class CouponLuaScriptRegistry {
+
+	private static final String NO_SCRIPT_ERROR = "NOSCRIPT";
+
+	private final RedissonClient redissonClient;
+	private final Map<CouponLuaScript, LoadedScript> scripts = new EnumMap<>(CouponLuaScript.class);
+
+	public CouponLuaScriptRegistry(RedissonClient redissonClient) {
+		this.redissonClient = redissonClient;
+	}
+
+	@PostConstruct
+	void loadScripts() {
+		for (CouponLuaScript script : CouponLuaScript.values()) {
+			String source = loadSource(script.path());
+			scripts.put(script, new LoadedScript(source, sha1Hex(source)));
+		}
+	}
+
+	public long evalInteger(CouponLuaScript script, List<Object> keys, Object... args) {
+		LoadedScript loaded = scripts.get(script);
+		RScript redisScript = redissonClient.getScript(StringCodec.INSTANCE);
+		try {
+			return evalSha(redisScript, loaded, keys, args);
+		} catch (RuntimeException e) {
+			if (!isNoScript(e)) {
+				throw e;
+			}
+			log.info("쿠폰 Lua 스크립트 캐시 없음. 다시 적재: script={}", script);
+			redisScript.scriptLoad(loaded.source());
+			return evalSha(redisScript, loaded, keys, args);
+		}
+	}
+
+	private long evalSha(RScript redisScript, LoadedScript loaded, List<Object> keys, Object... args) {
+		Long result = redisScript.evalSha(
+			RScript.Mode.READ_WRITE,
+			loaded.sha(),
+			RScript.ReturnType.INTEGER,
+			keys,
+			args);
+		return result;
+	}
+
+	private boolean isNoScript(Throwable error) {
+		for (Throwable current = error; current != null; current = current.getCause()) {
+			String message = current.getMessage();
+			if (message != null && message.contains(NO_SCRIPT_ERROR)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private String loadSource(String path) {
+		try (InputStream input = new ClassPathResource(path).getInputStream()) {
+			return StreamUtils.copyToString(input, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException("쿠폰 Lua 스크립트 로드 실패: " + path, e);
+		}
+	}
+
+	// Redis가 SCRIPT LOAD에서 돌려주는 값과 같은 SHA1 hex
+	private static String sha1Hex(String source) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-1을 사용할 수 없습니다.", e);
+		}
+	}
+
+	private record LoadedScript(String source, String sha) {
+	}
+}
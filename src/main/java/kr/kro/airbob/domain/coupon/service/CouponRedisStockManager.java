@@ -1,22 +1,15 @@
 package kr.kro.airbob.domain.coupon.service;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.UncheckedIOException;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 
 import org.redisson.api.RMap;
-import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.redisnode.RedisNodes;
 import org.redisson.client.codec.StringCodec;
 import org.redisson.client.protocol.Time;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StreamUtils;
 
-import jakarta.annotation.PostConstruct;
 import kr.kro.airbob.domain.coupon.monitoring.CouponIssueMetricRecorder;
 
 @Component
@@ -26,23 +19,19 @@ public class CouponRedisStockManager {
 
 	private final RedissonClient redissonClient;
 	private final CouponIssueMetricRecorder metricRecorder;
-	private String prepareScript;
-	private String issueScript;
-	private String compensateScript;
+	private final CouponLuaScriptRegistry scriptRegistry;
+	private final CouponClosedState closedState;
 
 	public CouponRedisStockManager(
 		RedissonClient redissonClient,
-		CouponIssueMetricRecorder metricRecorder
+		CouponIssueMetricRecorder metricRecorder,
+		CouponLuaScriptRegistry scriptRegistry,
+		CouponClosedState closedState
 	) {
 		this.redissonClient = redissonClient;
 		this.metricRecorder = metricRecorder;
-	}
-
-	@PostConstruct
-	void loadScripts() {
-		prepareScript = loadScript("lua/coupon_prepare.lua");
-		issueScript = loadScript("lua/coupon_issue.lua");
-		compensateScript = loadScript("lua/coupon_compensate.lua");
+		this.scriptRegistry = scriptRegistry;
+		this.closedState = closedState;
 	}
 
 	public CouponRedisPreparationResult prepare(
@@ -58,10 +47,8 @@ public class CouponRedisStockManager {
 		long startedAt = System.nanoTime();
 		CouponIssueMetricRecorder.LuaResult metricResult = CouponIssueMetricRecorder.LuaResult.ERROR;
 		try {
-			long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
-				RScript.Mode.READ_WRITE,
-				prepareScript,
-				RScript.ReturnType.INTEGER,
+			long result = scriptRegistry.evalInteger(
+				CouponLuaScript.PREPARE,
 				List.of(metaKey(couponId), issuedKey(couponId)),
 				String.valueOf(stock),
 				String.valueOf(issueStartAt),
@@ -76,6 +63,10 @@ public class CouponRedisStockManager {
 			metricResult = preparationResult == CouponRedisPreparationResult.PREPARED
 				? CouponIssueMetricRecorder.LuaResult.PREPARED
 				: CouponIssueMetricRecorder.LuaResult.ALREADY_PREPARED;
+			// 재고를 새로 채웠으면 이전 매진·종료 기록을 모든 노드에서 지운다
+			if (preparationResult == CouponRedisPreparationResult.PREPARED) {
+				closedState.reopen(couponId);
+			}
 			return preparationResult;
 		} finally {
 			metricRecorder.recordLua(
@@ -86,18 +77,26 @@ public class CouponRedisStockManager {
 	}
 
 	public CouponRedisIssueResult issue(Long couponId, Long memberId) {
+		Optional<CouponRedisIssueStatus> closed = closedState.find(couponId);
+		if (closed.isPresent()) {
+			metricRecorder.recordFastRejection(luaMetricResult(closed.get()));
+			return CouponRedisIssueResult.rejected(closed.get());
+		}
+
 		long startedAt = System.nanoTime();
 		CouponIssueMetricRecorder.LuaResult metricResult = CouponIssueMetricRecorder.LuaResult.ERROR;
 		try {
-			long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
-				RScript.Mode.READ_WRITE,
-				issueScript,
-				RScript.ReturnType.INTEGER,
+			long result = scriptRegistry.evalInteger(
+				CouponLuaScript.ISSUE,
 				List.of(metaKey(couponId), issuedKey(couponId)),
 				String.valueOf(memberId));
 
 			CouponRedisIssueResult issueResult = CouponRedisIssueResult.fromRawResult(result);
 			metricResult = luaMetricResult(issueResult.status());
+			if (issueResult.status() == CouponRedisIssueStatus.SOLD_OUT
+				|| issueResult.status() == CouponRedisIssueStatus.ENDED) {
+				closedState.markClosed(couponId, issueResult.status());
+			}
 			return issueResult;
 		} finally {
 			metricRecorder.recordLua(
@@ -111,10 +110,8 @@ public class CouponRedisStockManager {
 		long startedAt = System.nanoTime();
 		CouponIssueMetricRecorder.LuaResult metricResult = CouponIssueMetricRecorder.LuaResult.ERROR;
 		try {
-			long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
-				RScript.Mode.READ_WRITE,
-				compensateScript,
-				RScript.ReturnType.INTEGER,
+			long result = scriptRegistry.evalInteger(
+				CouponLuaScript.COMPENSATE,
 				List.of(metaKey(couponId), issuedKey(couponId)),
 				String.valueOf(memberId));
 
@@ -129,6 +126,9 @@ public class CouponRedisStockManager {
 				case NO_OP -> CouponIssueMetricRecorder.LuaResult.NO_OP;
 				case META_MISSING -> CouponIssueMetricRecorder.LuaResult.META_MISSING;
 			};
+			if (compensationResult == CouponRedisCompensationResult.COMPENSATED) {
+				closedState.reopen(couponId);
+			}
 			return compensationResult;
 		} finally {
 			metricRecorder.recordLua(
@@ -164,14 +164,6 @@ public class CouponRedisStockManager {
 		return "coupon:{" + couponId + "}:issued";
 	}
 
-	private String loadScript(String path) {
-		try (InputStream input = new ClassPathResource(path).getInputStream()) {
-			return StreamUtils.copyToString(input, StandardCharsets.UTF_8);
-		} catch (IOException e) {
-			throw new UncheckedIOException("쿠폰 Lua 스크립트 로드 실패: " + path, e);
-		}
-	}
-
 	private CouponIssueMetricRecorder.LuaResult luaMetricResult(CouponRedisIssueStatus status) {
 		return switch (status) {
 			case APPROVED -> CouponIssueMetricRecorder.LuaResult.APPROVED;
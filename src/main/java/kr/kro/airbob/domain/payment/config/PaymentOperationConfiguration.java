@@ -4,11 +4,21 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import kr.kro.airbob.domain.payment.service.PaymentRetryBackoff;
+import kr.kro.airbob.domain.payment.service.TossPaymentsAdapter;
+import kr.kro.airbob.domain.payment.service.gateway.BulkheadPaymentConfirmationGateway;
+import kr.kro.airbob.domain.payment.service.gateway.PaymentConfirmationGateway;
+import kr.kro.airbob.domain.payment.service.gateway.PaymentGatewayBulkhead;
 
 @Configuration(proxyBeanMethods = false)
-@EnableConfigurationProperties({PaymentOperationProperties.class, TossPaymentClientProperties.class})
+@EnableConfigurationProperties({
+	PaymentOperationProperties.class,
+	TossPaymentClientProperties.class,
+	TossPaymentBulkheadProperties.class
+})
 public class PaymentOperationConfiguration {
 
 	@Bean
@@ -27,4 +37,30 @@ public class PaymentOperationConfiguration {
 			}
 		};
 	}
+
+	@Bean
+	public InitializingBean tossPaymentBulkheadWaitGuard(
+		PaymentOperationProperties operation, TossPaymentClientProperties toss, TossPaymentBulkheadProperties bulkhead
+	) {
+		return () -> {
+			if (bulkhead.maxWait().plus(toss.readTimeout()).compareTo(operation.leaseDuration()) >= 0) {
+				throw new IllegalStateException("Toss 격벽 대기와 타임아웃의 합은 payment-operation lease보다 짧아야 합니다.");
+			}
+		};
+	}
+
+	@Bean
+	public PaymentGatewayBulkhead tossPaymentGatewayBulkhead(
+		TossPaymentBulkheadProperties bulkhead, TossPaymentClientProperties toss, MeterRegistry meterRegistry
+	) {
+		return new PaymentGatewayBulkhead("toss", bulkhead, toss.readTimeout(), meterRegistry);
+	}
+
+	@Bean
+	@Primary
+	public PaymentConfirmationGateway bulkheadPaymentConfirmationGateway(
+		TossPaymentsAdapter tossPaymentsAdapter, PaymentGatewayBulkhead tossPaymentGatewayBulkhead
+	) {
+		return new BulkheadPaymentConfirmationGateway(tossPaymentsAdapter, tossPaymentGatewayBulkhead);
+	}
 }
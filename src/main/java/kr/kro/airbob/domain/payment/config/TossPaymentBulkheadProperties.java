@@ -0,0 +1,47 @@
+package kr.kro.airbob.domain.payment.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "payment.toss.bulkhead")
+public record TossPaymentBulkheadProperties(
+	boolean enabled,
+	int maxConcurrentCalls,
+	Duration maxWait,
+	Duration minTimeout,
+	double latencyPercentile,
+	double timeoutMultiplier,
+	int minSamples,
+	int windowSize
+) {
+	public TossPaymentBulkheadProperties {
+		requirePositive(maxConcurrentCalls, "maxConcurrentCalls");
+		Objects.requireNonNull(maxWait, "maxWait must not be null");
+		if (maxWait.isNegative()) {
+			throw new IllegalArgumentException("maxWait must not be negative");
+		}
+		Objects.requireNonNull(minTimeout, "minTimeout must not be null");
+		if (minTimeout.isZero() || minTimeout.isNegative()) {
+			throw new IllegalArgumentException("minTimeout must be positive");
+		}
+		if (latencyPercentile <= 0 || latencyPercentile > 1) {
+			throw new IllegalArgumentException("latencyPercentile must be in (0, 1]");
+		}
+		if (timeoutMultiplier < 1) {
+			throw new IllegalArgumentException("timeoutMultiplier must be at least 1");
+		}
+		requirePositive(minSamples, "minSamples");
+		requirePositive(windowSize, "windowSize");
+		if (minSamples > windowSize) {
+			throw new IllegalArgumentException("minSamples must not exceed windowSize");
+		}
+	}
+
+	private static void requirePositive(int value, String name) {
+		if (value <= 0) {
+			throw new IllegalArgumentException(name + " must be positive");
+		}
+	}
+}
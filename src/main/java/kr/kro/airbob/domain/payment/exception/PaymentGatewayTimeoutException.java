@@ -0,0 +1,11 @@
+package kr.kro.airbob.domain.payment.exception;
+
+import kr.kro.airbob.common.exception.BaseException;
+import kr.kro.airbob.common.exception.ErrorCode;
+
+public class PaymentGatewayTimeoutException extends BaseException {
+
+	public PaymentGatewayTimeoutException(String provider) {
+		super(provider, ErrorCode.PAYMENT_GATEWAY_TIMEOUT);
+	}
+}
@@ -21,7 +21,9 @@ import kr.kro.airbob.domain.reservation.entity.Reservation;
 import kr.kro.airbob.domain.reservation.entity.ReservationHistory;
 import kr.kro.airbob.domain.reservation.exception.ExpiredReservationConfirmationException;
 import kr.kro.airbob.domain.reservation.exception.ReservationNotFoundException;
+import kr.kro.airbob.domain.reservation.policy.ReservationInventoryLockPolicy;
 import kr.kro.airbob.domain.reservation.repository.ReservationHistoryRepository;
+import kr.kro.airbob.domain.reservation.repository.ReservationNightLedger;
 import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
 import kr.kro.airbob.outbox.EventType;
 import kr.kro.airbob.outbox.OutboxEventPublisher;
@@ -35,6 +37,8 @@ public class PaymentOperationCommandService {
 	private final PaymentOperationRepository paymentOperationRepository;
 	private final ReservationHistoryRepository historyRepository;
 	private final OutboxEventPublisher outboxEventPublisher;
+	private final ReservationNightLedger nightLedger;
+	private final ReservationInventoryLockPolicy inventoryLockPolicy;
 	private final Clock clock;
 
 	@Transactional
@@ -59,6 +63,7 @@ public class PaymentOperationCommandService {
 		if (!reservation.startPayment(now)) {
 			throw new ExpiredReservationConfirmationException();
 		}
+		pinNights(reservation);
 		PaymentOperation operation = PaymentOperation.createConfirmation(
 			reservation, memberId, request.paymentKey(), request.amount(), now);
 		paymentOperationRepository.save(operation);
@@ -69,6 +74,18 @@ public class PaymentOperationCommandService {
 		return Accepted.from(operation);
 	}
 
+	/**
+	 * 결제 시작 뒤에는 만료 시각이 지나도 다른 예약이 숙박일을 넘겨받지 못하게 고정
+	 * 만료 직전 요청이 서버 간 시계 차이로 이미 넘겨진 날짜를 잃었다면 만료 예약으로 취급
+	 */
+	private void pinNights(Reservation reservation) {
+		int pinned = nightLedger.pin(reservation.getId());
+		if (inventoryLockPolicy.usesLedger()
+			&& pinned < ReservationNightLedger.nightCount(reservation.getCheckInDate(), reservation.getCheckOutDate())) {
+			throw new ExpiredReservationConfirmationException();
+		}
+	}
+
 	private Accepted replayOrConflict(PaymentOperation operation, PaymentRequest.Confirm request) {
 		if (!operation.matchesConfirmation(request.paymentKey(), request.amount().longValue())) {
 			throw new PaymentOperationConflictException();
@@ -26,6 +26,7 @@ import kr.kro.airbob.domain.reservation.entity.ReservationHistory;
 import kr.kro.airbob.domain.reservation.event.ReservationEvent;
 import kr.kro.airbob.domain.reservation.exception.ReservationNotFoundException;
 import kr.kro.airbob.domain.reservation.repository.ReservationHistoryRepository;
+import kr.kro.airbob.domain.reservation.repository.ReservationNightLedger;
 import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
 import kr.kro.airbob.outbox.EventType;
 import kr.kro.airbob.outbox.OutboxEventPublisher;
@@ -42,6 +43,7 @@ public class PaymentOperationFinalizer {
 	private final PaymentTransactionRepository paymentTransactionRepository;
 	private final CouponUsageService couponUsageService;
 	private final ReservationHistoryRepository historyRepository;
+	private final ReservationNightLedger nightLedger;
 	private final OutboxEventPublisher outboxEventPublisher;
 	private final Clock clock;
 
@@ -52,6 +54,7 @@ public class PaymentOperationFinalizer {
 		PaymentTransactionRepository paymentTransactionRepository,
 		CouponUsageService couponUsageService,
 		ReservationHistoryRepository historyRepository,
+		ReservationNightLedger nightLedger,
 		OutboxEventPublisher outboxEventPublisher,
 		Clock clock
 	) {
@@ -61,6 +64,7 @@ public class PaymentOperationFinalizer {
 		this.paymentTransactionRepository = paymentTransactionRepository;
 		this.couponUsageService = couponUsageService;
 		this.historyRepository = historyRepository;
+		this.nightLedger = nightLedger;
 		this.outboxEventPublisher = outboxEventPublisher;
 		this.clock = clock;
 	}
@@ -116,6 +120,7 @@ public class PaymentOperationFinalizer {
 		}
 
 		reservation.expireAfterFinalPaymentDecline();
+		nightLedger.release(reservation.getId());
 		couponUsageService.restore(reservation.getId());
 		historyRepository.save(ReservationHistory.ofSystem(
 			reservation,
@@ -128,7 +133,8 @@ public class PaymentOperationFinalizer {
 			new ReservationEvent.ReservationExpiredEvent(
 				reservation.getAccommodation().getId(),
 				reservation.getCheckInDate(),
-				reservation.getCheckOutDate()));
+				reservation.getCheckOutDate(),
+				reservation.getReservationUid().toString()));
 	}
 
 	private PaymentOperation lockOperation(PaymentExecution execution) {
@@ -206,7 +212,8 @@ public class PaymentOperationFinalizer {
 			new ReservationEvent.ReservationConfirmedEvent(
 				reservation.getAccommodation().getId(),
 				reservation.getCheckInDate(),
-				reservation.getCheckOutDate()));
+				reservation.getCheckOutDate(),
+				reservation.getReservationUid().toString()));
 		outboxEventPublisher.save(
 			EventType.RESERVATION_CHANGED,
 			new AccommodationIndexingEvents.ReservationChangedEvent(
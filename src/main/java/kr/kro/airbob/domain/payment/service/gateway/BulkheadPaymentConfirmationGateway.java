@@ -0,0 +1,45 @@
+package kr.kro.airbob.domain.payment.service.gateway;
+
+import java.util.function.Supplier;
+
+import kr.kro.airbob.domain.payment.exception.PaymentGatewayRejectedException;
+import kr.kro.airbob.domain.payment.exception.PaymentGatewayTimeoutException;
+
+// 승인·조회 호출을 격벽 안에서 실행하고, 격벽 거절과 타임아웃을 payment-operation 결과로 옮긴다
+public class BulkheadPaymentConfirmationGateway implements PaymentConfirmationGateway {
+
+	public static final String REJECTED_CODE = "GATEWAY_BULKHEAD_FULL";
+	public static final String TIMEOUT_CODE = "GATEWAY_TIMEOUT";
+	private static final String SAFE_RETRYABLE_MESSAGE = "결제 서비스 호출이 몰려 다시 시도합니다.";
+	private static final String SAFE_UNKNOWN_MESSAGE = "결제 결과를 확인하고 있습니다.";
+
+	private final PaymentConfirmationGateway delegate;
+	private final PaymentGatewayBulkhead bulkhead;
+
+	public BulkheadPaymentConfirmationGateway(PaymentConfirmationGateway delegate, PaymentGatewayBulkhead bulkhead) {
+		this.delegate = delegate;
+		this.bulkhead = bulkhead;
+	}
+
+	@Override
+	public PaymentGatewayResult confirm(PaymentConfirmationCommand command) {
+		return execute("confirm", () -> delegate.confirm(command));
+	}
+
+	@Override
+	public PaymentGatewayResult inquire(PaymentConfirmationCommand command) {
+		return execute("inquire", () -> delegate.inquire(command));
+	}
+
+	private PaymentGatewayResult execute(String operation, Supplier<PaymentGatewayResult> call) {
+		try {
+			return bulkhead.execute(operation, call);
+		} catch (PaymentGatewayRejectedException rejected) {
+			// 요청을 보내지 않았으므로 승인도 안전하게 재시도할 수 있다
+			return new PaymentGatewayResult.RetryableFailure(REJECTED_CODE, SAFE_RETRYABLE_MESSAGE);
+		} catch (PaymentGatewayTimeoutException timeout) {
+			// 요청이 이미 나갔을 수 있으므로 다음 시도는 승인이 아니라 조회여야 한다
+			return new PaymentGatewayResult.OutcomeUnknown(TIMEOUT_CODE, SAFE_UNKNOWN_MESSAGE);
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package kr.kro.airbob.domain.payment.service.gateway;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 최근 N건의 PG 호출 지연을 담는 고리 버퍼. 기록은 락 없이 하고 백분위는 읽을 때 복사·정렬해 구한다
+final class GatewayLatencyWindow {
+
+	private final AtomicLongArray samples;
+	private final AtomicLong recorded = new AtomicLong();
+
+	GatewayLatencyWindow(int size) {
+		this.samples = new AtomicLongArray(size);
+	}
+
+	void record(long nanos) {
+		long sequence = recorded.getAndIncrement();
+		samples.set((int)(sequence % samples.length()), nanos);
+	}
+
+	long recorded() {
+		return recorded.get();
+	}
+
+	long percentile(double percentile) {
+		int size = (int)Math.min(recorded.get(), samples.length());
+		if (size == 0) {
+			return 0;
+		}
+		long[] snapshot = new long[size];
+		for (int index = 0; index < size; index++) {
+			snapshot[index] = samples.get(index);
+		}
+		Arrays.sort(snapshot);
+		int rank = (int)Math.ceil(percentile * size) - 1;
+		return snapshot[Math.max(0, Math.min(rank, size - 1))];
+	}
+}
@@ -0,0 +1,206 @@
+package kr.kro.airbob.domain.payment.service.gateway;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.kro.airbob.domain.payment.config.TossPaymentBulkheadProperties;
+import kr.kro.airbob.domain.payment.exception.PaymentGatewayRejectedException;
+import kr.kro.airbob.domain.payment.exception.PaymentGatewayTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PG사 하나에 대한 호출 격벽.
+ * 동시 호출 수를 제한하고, 호출은 가상 스레드에서 돌려 Kafka 리스너 스레드는 적응형 타임아웃까지만 기다린다.
+ * 타임아웃은 최근 지연 백분위 × 배수를 하한과 HTTP read timeout 사이로 자른 값이다.
+ */
+@Slf4j
+public class PaymentGatewayBulkhead implements DisposableBean {
+
+	public static final String LATENCY_METRIC = "payment.gateway.latency";
+	public static final String REJECTED_METRIC = "payment.gateway.rejected";
+	public static final String IN_FLIGHT_METRIC = "payment.gateway.in_flight";
+	public static final String QUEUE_DEPTH_METRIC = "payment.gateway.queue_depth";
+	public static final String TIMEOUT_METRIC = "payment.gateway.timeout";
+
+	private static final String SUCCESS = "success";
+	private static final String FAILURE = "failure";
+	private static final String TIMEOUT = "timeout";
+
+	private final String provider;
+	private final TossPaymentBulkheadProperties properties;
+	private final long ceilingNanos;
+	private final long minTimeoutNanos;
+	private final long recomputeInterval;
+	private final Semaphore permits;
+	private final GatewayLatencyWindow latencyWindow;
+	private final ExecutorService executor;
+	private final Meter.MeterProvider<Timer> latencyTimers;
+	private final Meter.MeterProvider<Counter> rejectedCounters;
+
+	private final AtomicLong recomputedAt = new AtomicLong();
+	private volatile long timeoutNanos;
+
+	public PaymentGatewayBulkhead(
+		String provider,
+		TossPaymentBulkheadProperties properties,
+		Duration readTimeout,
+		MeterRegistry meterRegistry
+	) {
+		this.provider = provider;
+		this.properties = properties;
+		this.ceilingNanos = readTimeout.toNanos();
+		this.minTimeoutNanos = Math.min(properties.minTimeout().toNanos(), ceilingNanos);
+		// 매 호출마다 정렬하지 않도록 창의 1/32 이 새로 쌓였을 때만 타임아웃을 다시 계산한다
+		this.recomputeInterval = Math.max(1, properties.windowSize() / 32);
+		this.permits = new Semaphore(properties.maxConcurrentCalls(), true);
+		this.latencyWindow = new GatewayLatencyWindow(properties.windowSize());
+		this.executor = Executors.newThreadPerTaskExecutor(
+			Thread.ofVirtual().name("pg-" + provider + "-", 0).factory());
+		this.timeoutNanos = ceilingNanos;
+
+		this.latencyTimers = Timer.builder(LATENCY_METRIC)
+			.description("Payment gateway call latency")
+			.tag("provider", provider)
+			.publishPercentileHistogram()
+			.withRegistry(meterRegistry);
+		this.rejectedCounters = Counter.builder(REJECTED_METRIC)
+			.description("Payment gateway calls rejected by the bulkhead before being sent")
+			.tag("provider", provider)
+			.withRegistry(meterRegistry);
+		Gauge.builder(IN_FLIGHT_METRIC, this, PaymentGatewayBulkhead::inFlight)
+			.description("Payment gateway calls holding a bulkhead permit")
+			.tag("provider", provider)
+			.register(meterRegistry);
+		Gauge.builder(QUEUE_DEPTH_METRIC, permits, Semaphore::getQueueLength)
+			.description("Callers waiting for a payment gateway bulkhead permit")
+			.tag("provider", provider)
+			.register(meterRegistry);
+		Gauge.builder(TIMEOUT_METRIC, this, bulkhead -> bulkhead.currentTimeout().toNanos() / 1e9)
+			.description("Current adaptive payment gateway timeout")
+			.tag("provider", provider)
+			.baseUnit("seconds")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 격벽 안에서 PG 호출을 실행한다.
+	 * 허가를 maxWait 안에 못 얻으면 요청을 보내지 않은 채 PaymentGatewayRejectedException,
+	 * 적응형 타임아웃을 넘기면 전송 여부를 알 수 없으므로 PaymentGatewayTimeoutException 을 던진다.
+	 * 호출이 던진 런타임 예외는 그대로 전파한다.
+	 */
+	public <T> T execute(String operation, Supplier<T> call) {
+		if (!properties.enabled()) {
+			return call.get();
+		}
+
+		if (!acquire()) {
+			rejectedCounters.withTags("operation", operation).increment();
+			throw new PaymentGatewayRejectedException(provider);
+		}
+
+		long deadlineNanos = timeoutNanos();
+		long startedAt = System.nanoTime();
+		Future<T> future;
+		try {
+			// 허가는 호출이 실제로 끝날 때 돌려준다. 타임아웃으로 포기한 호출도 끝나기 전까지는 자리를 차지한다
+			future = executor.submit(() -> {
+				try {
+					return call.get();
+				} finally {
+					permits.release();
+				}
+			});
+		} catch (RejectedExecutionException shutdown) {
+			permits.release();
+			rejectedCounters.withTags("operation", operation).increment();
+			throw new PaymentGatewayRejectedException(provider);
+		}
+
+		try {
+			T result = future.get(deadlineNanos, TimeUnit.NANOSECONDS);
+			record(operation, SUCCESS, System.nanoTime() - startedAt);
+			return result;
+		} catch (ExecutionException failure) {
+			record(operation, FAILURE, System.nanoTime() - startedAt);
+			throw propagate(failure.getCause());
+		} catch (TimeoutException timeout) {
+			future.cancel(true);
+			// 느려진 PG의 실제 지연은 관측할 수 없으므로 마감 시각으로 기록한다. 타임아웃이 백분위를 넘으면 다음 마감이 배수만큼 늘어난다
+			record(operation, TIMEOUT, deadlineNanos);
+			log.warn("[PG-BULKHEAD] {} {} 응답 대기 시간 초과. timeout={}ms",
+				provider, operation, TimeUnit.NANOSECONDS.toMillis(deadlineNanos));
+			throw new PaymentGatewayTimeoutException(provider);
+		} catch (InterruptedException interrupted) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new PaymentGatewayTimeoutException(provider);
+		}
+	}
+
+	public Duration currentTimeout() {
+		return Duration.ofNanos(timeoutNanos());
+	}
+
+	int inFlight() {
+		return properties.maxConcurrentCalls() - permits.availablePermits();
+	}
+
+	private boolean acquire() {
+		try {
+			return permits.tryAcquire(properties.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException interrupted) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void record(String operation, String result, long elapsedNanos) {
+		latencyWindow.record(elapsedNanos);
+		latencyTimers.withTags("operation", operation, "result", result)
+			.record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private long timeoutNanos() {
+		long recorded = latencyWindow.recorded();
+		long lastRecomputed = recomputedAt.get();
+		if (recorded >= properties.minSamples()
+			&& recorded - lastRecomputed >= recomputeInterval
+			&& recomputedAt.compareAndSet(lastRecomputed, recorded)) {
+			long adaptive = (long)(latencyWindow.percentile(properties.latencyPercentile())
+				* properties.timeoutMultiplier());
+			timeoutNanos = Math.max(minTimeoutNanos, Math.min(adaptive, ceilingNanos));
+		}
+		return timeoutNanos;
+	}
+
+	private RuntimeException propagate(Throwable cause) {
+		if (cause instanceof RuntimeException runtimeException) {
+			return runtimeException;
+		}
+		if (cause instanceof Error error) {
+			throw error;
+		}
+		return new IllegalStateException(cause);
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,12 @@
+package kr.kro.airbob.domain.recentlyViewed.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 최근 본 숙소 기록 정책 값을 애플리케이션 빈으로 등록
+ */
+@Configuration
+@EnableConfigurationProperties(RecentlyViewedWriteProperties.class)
+public class RecentlyViewedWriteConfiguration {
+}
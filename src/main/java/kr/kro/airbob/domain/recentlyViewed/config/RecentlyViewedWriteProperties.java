@@ -0,0 +1,27 @@
+package kr.kro.airbob.domain.recentlyViewed.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+
+/**
+ * 최근 본 숙소 기록 방식을 정의
+ *
+ * @param asyncEnabled 요청 스레드 대신 버퍼에 모아 별도 스레드에서 기록할지 여부
+ * @param bufferCapacity 기록을 기다리는 (회원, 숙소) 쌍의 최대 수. 가득 차면 새 기록은 버림
+ * @param flushInterval 버퍼를 Redis에 반영하는 주기. 같은 회원의 같은 숙소 조회는 이 구간 안에서 하나로 합침
+ */
+@ConfigurationProperties(prefix = "recently-viewed.write")
+public record RecentlyViewedWriteProperties(
+	boolean asyncEnabled,
+	int bufferCapacity,
+	Duration flushInterval
+) {
+	public RecentlyViewedWriteProperties {
+		Assert.notNull(flushInterval, "recently-viewed.write.flush-interval must not be null");
+		Assert.isTrue(bufferCapacity > 0, "recently-viewed.write.buffer-capacity must be positive");
+		Assert.isTrue(!flushInterval.isNegative() && !flushInterval.isZero(),
+			"recently-viewed.write.flush-interval must be positive");
+	}
+}
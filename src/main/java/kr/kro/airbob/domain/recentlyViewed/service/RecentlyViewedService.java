@@ -1,6 +1,5 @@
 package kr.kro.airbob.domain.recentlyViewed.service;
 
-import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
@@ -16,6 +15,8 @@ import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import kr.kro.airbob.domain.accommodation.card.AccommodationCard;
+import kr.kro.airbob.domain.accommodation.card.AccommodationCardReadModel;
 import kr.kro.airbob.domain.accommodation.dto.AccommodationResponse;
 import kr.kro.airbob.domain.accommodation.entity.Accommodation;
 import kr.kro.airbob.domain.accommodation.entity.AccommodationStatus;
@@ -23,6 +24,8 @@ import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
 import kr.kro.airbob.domain.review.dto.ReviewResponse;
 import kr.kro.airbob.domain.review.entity.AccommodationReviewSummary;
 import kr.kro.airbob.domain.review.repository.AccommodationReviewSummaryRepository;
+import kr.kro.airbob.domain.review.summary.ReviewSummaryStripeCounter;
+import kr.kro.airbob.domain.wishlist.cache.WishlistMembershipCache;
 import kr.kro.airbob.domain.wishlist.repository.WishlistAccommodationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,23 +39,23 @@ public class RecentlyViewedService {
 	private final AccommodationRepository accommodationRepository;
 	private final AccommodationReviewSummaryRepository summaryRepository;
 	private final WishlistAccommodationRepository wishlistAccommodationRepository;
+	private final RecentlyViewedWriter recentlyViewedWriter;
+	private final RecentlyViewedWriteBuffer recentlyViewedWriteBuffer;
+	private final AccommodationCardReadModel cardReadModel;
+	private final ReviewSummaryStripeCounter reviewSummaryCounter;
+	private final WishlistMembershipCache wishlistMembershipCache;
 
 
-	private static final String RECENTLY_VIEWED_KEY_PREFIX = "recently_viewed:";
-	private static final int MAX_COUNT = 100;
-	private static final long TTL_DAYS = 7;
+	private static final String RECENTLY_VIEWED_KEY_PREFIX = RecentlyViewedWriter.KEY_PREFIX;
 
 	public void addRecentlyViewed(Long accommodationId, Long memberId) {
-		String key = RECENTLY_VIEWED_KEY_PREFIX + memberId;
 		long timestamp = System.currentTimeMillis();
 
-		redisTemplate.opsForZSet().add(key, accommodationId.toString(), timestamp);
-
-		Long currentSize = redisTemplate.opsForZSet().size(key);
-		if (currentSize != null && currentSize > MAX_COUNT) {
-			redisTemplate.opsForZSet().removeRange(key, 0, currentSize - MAX_COUNT - 1);
+		if (recentlyViewedWriteBuffer.enabled()) {
+			recentlyViewedWriteBuffer.offer(memberId, accommodationId, timestamp);
+			return;
 		}
-		redisTemplate.expire(key, Duration.ofDays(TTL_DAYS));
+		recentlyViewedWriter.record(memberId, Map.of(accommodationId, timestamp));
 	}
 
 	public void removeRecentlyViewed(Long accommodationId, Long memberId) {
@@ -77,7 +80,7 @@ public class RecentlyViewedService {
 
 		redisTemplate.delete(key);
 		redisTemplate.opsForZSet().add(key, tuples);
-		redisTemplate.expire(key, Duration.ofDays(TTL_DAYS));
+		redisTemplate.expire(key, RecentlyViewedWriter.TTL);
 	}
 
 	@Transactional(readOnly = true)
@@ -97,16 +100,15 @@ public class RecentlyViewedService {
 		// Redis에서 모든 ID를 Set으로 추출
 		Set<Long> accommodationIdsFromRedis = recentlyViewedWithScores.stream()
 			.map(tuple -> Long.parseLong(tuple.getValue()))
-			.collect(Collectors.toSet());
+			.collect(Collectors.toCollection(LinkedHashSet::new));
 
-		// DB에서 존재하는 숙소 정보만 조회
-		List<Accommodation> accommodationsInDb = accommodationRepository.findWithAddressByIdAndStatusIn(new ArrayList<>(accommodationIdsFromRedis), AccommodationStatus.PUBLISHED);
-		Map<Long, Accommodation> accommodationMap = accommodationsInDb.stream()
-			.collect(Collectors.toMap(Accommodation::getId, accommodation -> accommodation));
+		// 카드 조회 모델은 없는 카드만 DB에서 만든다. 게시 중인 숙소만 카드가 있음
+		Map<Long, AccommodationCard> cardMap = cardReadModel.enabled()
+			? cardReadModel.getAll(accommodationIdsFromRedis, this::loadCards)
+			: loadCards(new ArrayList<>(accommodationIdsFromRedis));
 
-		Set<Long> existingIdsInDb = accommodationMap.keySet();
 		List<String> idsToDeleteFromRedis = accommodationIdsFromRedis.stream()
-			.filter(id -> !existingIdsInDb.contains(id))
+			.filter(id -> !cardMap.containsKey(id))
 			.map(String::valueOf)
 			.toList();
 
@@ -115,31 +117,44 @@ public class RecentlyViewedService {
 			redisTemplate.opsForZSet().remove(key, idsToDeleteFromRedis.toArray(new Object[0]));
 		}
 
-		List<Long> existingIdList = new ArrayList<>(existingIdsInDb);
-		Map<Long, ReviewResponse.ReviewSummary> reviewSummaryMap = getReviewSummaryMap(existingIdList);
-		Map<Long, Boolean> wishlistMap = getWishlistMap(memberId, existingIdList);
+		// 위시리스트 여부는 회원별 값이라 카드에 넣지 않고 매번 조회
+		Map<Long, Boolean> wishlistMap = getWishlistMap(memberId, new ArrayList<>(cardMap.keySet()));
 
 		List<AccommodationResponse.RecentlyViewedAccommodationInfo> recentlyViewedAccommodationInfos = recentlyViewedWithScores.stream()
 			.map(tuple -> {
 				Long accommodationId = Long.parseLong(tuple.getValue());
-				Accommodation accommodation = accommodationMap.get(accommodationId);
+				AccommodationCard card = cardMap.get(accommodationId);
 
-				if (accommodation == null) {
+				if (card == null) {
 					return null;
 				}
 
 				Instant viewedAt = Instant.ofEpochMilli(tuple.getScore().longValue());
 
-				ReviewResponse.ReviewSummary reviewSummary = reviewSummaryMap.get(accommodationId);
-
-				return AccommodationResponse.RecentlyViewedAccommodationInfo.from(viewedAt, accommodation,
-					reviewSummary, wishlistMap.getOrDefault(accommodationId, false));
+				return AccommodationResponse.RecentlyViewedAccommodationInfo.from(viewedAt, card,
+					wishlistMap.getOrDefault(accommodationId, false));
 			})
 			.filter(Objects::nonNull)
 			.toList();
 		return AccommodationResponse.RecentlyViewedAccommodationInfos.from(recentlyViewedAccommodationInfos);
 	}
 
+	private Map<Long, AccommodationCard> loadCards(List<Long> accommodationIds) {
+		List<Accommodation> accommodations = accommodationRepository.findWithAddressByIdAndStatusIn(
+			accommodationIds, AccommodationStatus.PUBLISHED);
+		if (accommodations.isEmpty()) {
+			return Map.of();
+		}
+		Map<Long, ReviewResponse.ReviewSummary> reviewSummaryMap = getReviewSummaryMap(
+			accommodations.stream().map(Accommodation::getId).toList());
+
+		return accommodations.stream()
+			.collect(Collectors.toMap(
+				Accommodation::getId,
+				accommodation -> AccommodationCard.of(accommodation, reviewSummaryMap.get(accommodation.getId()))
+			));
+	}
+
 	/**
 	 * 주소 fetch join을 제외해 DTO 변환 과정의 주소 지연 로딩 N+1을 재현
 	 * 실제 N회 조회는 nplus1-benchmark 프로필에서 batch fetch를 끈 상태로 측정
@@ -203,8 +218,9 @@ public class RecentlyViewedService {
 	}
 
 	private Map<Long, Boolean> getWishlistMap(Long memberId, List<Long> accommodationIds) {
-		Set<Long> wishlistAccommodationIds = wishlistAccommodationRepository
-			.findAccommodationIdsByMemberIdAndAccommodationIds(memberId, accommodationIds);
+		Set<Long> wishlistAccommodationIds = wishlistMembershipCache.enabled()
+			? wishlistMembershipCache.findWishlisted(memberId, accommodationIds)
+			: wishlistAccommodationRepository.findAccommodationIdsByMemberIdAndAccommodationIds(memberId, accommodationIds);
 
 		return accommodationIds.stream()
 			.collect(Collectors.toMap(
@@ -214,6 +230,9 @@ public class RecentlyViewedService {
 	}
 
 	private Map<Long, ReviewResponse.ReviewSummary> getReviewSummaryMap(List<Long> accommodationIds) {
+		if (reviewSummaryCounter.enabled()) {
+			return reviewSummaryCounter.findAll(accommodationIds);
+		}
 		List<AccommodationReviewSummary> summaries = summaryRepository.findByAccommodationIdIn(
 			accommodationIds);
 
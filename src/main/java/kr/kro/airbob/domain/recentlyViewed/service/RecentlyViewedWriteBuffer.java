@@ -0,0 +1,161 @@
+package kr.kro.airbob.domain.recentlyViewed.service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.kro.airbob.domain.recentlyViewed.config.RecentlyViewedWriteProperties;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 본 숙소 기록을 요청 스레드에서 떼어 내 모았다가 회원별로 한 번에 기록
+ *
+ * 같은 회원의 같은 숙소 조회는 flush 전까지 가장 늦은 조회 시각 하나로 합침
+ * 버퍼가 가득 차면 기다리지 않고 새 기록을 버려 상세 조회가 Redis 지연에 묶이지 않게 함
+ */
+@Slf4j
+@Component
+public class RecentlyViewedWriteBuffer implements InitializingBean, DisposableBean {
+
+	public static final String WRITES_TOTAL = "recently_viewed.writes";
+	public static final String PENDING = "recently_viewed.writes.pending";
+
+	private final RecentlyViewedWriter writer;
+	private final RecentlyViewedWriteProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final ConcurrentHashMap<PendingView, Long> pending = new ConcurrentHashMap<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+
+	// 비동기 기록을 사용하지 않는 서버는 flush 스레드를 만들지 않음
+	private ScheduledExecutorService flusher;
+
+	public RecentlyViewedWriteBuffer(
+		RecentlyViewedWriter writer,
+		RecentlyViewedWriteProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.writer = writer;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		Gauge.builder(PENDING, pendingCount, AtomicInteger::get)
+			.description("Recently viewed writes waiting for flush")
+			.register(meterRegistry);
+	}
+
+	public boolean enabled() {
+		return properties.asyncEnabled();
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (!properties.asyncEnabled()) {
+			return;
+		}
+		flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "recently-viewed-flush");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long intervalMillis = properties.flushInterval().toMillis();
+		flusher.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		if (flusher == null) {
+			return;
+		}
+		flusher.shutdown();
+		flusher.awaitTermination(properties.flushInterval().toMillis(), TimeUnit.MILLISECONDS);
+		// 종료 직전 남은 기록을 한 번 더 반영
+		flushSafely();
+	}
+
+	/**
+	 * 요청 스레드에서 호출. Redis를 기다리지 않음
+	 */
+	public void offer(Long memberId, Long accommodationId, long viewedAt) {
+		WriteOutcome[] outcome = {WriteOutcome.QUEUED};
+		pending.compute(new PendingView(memberId, accommodationId), (key, current) -> {
+			if (current != null) {
+				outcome[0] = WriteOutcome.COALESCED;
+				return Math.max(current, viewedAt);
+			}
+			if (pendingCount.incrementAndGet() > properties.bufferCapacity()) {
+				pendingCount.decrementAndGet();
+				outcome[0] = WriteOutcome.DROPPED;
+				return null;
+			}
+			return viewedAt;
+		});
+		count(outcome[0], 1);
+	}
+
+	void flush() {
+		Map<Long, Map<Long, Long>> byMember = new HashMap<>();
+		for (PendingView key : pending.keySet()) {
+			Long viewedAt = pending.remove(key);
+			if (viewedAt == null) {
+				continue;
+			}
+			pendingCount.decrementAndGet();
+			byMember.computeIfAbsent(key.memberId(), ignored -> new HashMap<>())
+				.put(key.accommodationId(), viewedAt);
+		}
+
+		byMember.forEach((memberId, views) -> {
+			try {
+				writer.record(memberId, views);
+				count(WriteOutcome.FLUSHED, views.size());
+			} catch (RuntimeException e) {
+				// 최근 본 숙소는 다시 조회하면 채워지므로 재시도하지 않음
+				count(WriteOutcome.FAILED, views.size());
+				log.warn("최근 본 숙소 기록 실패. memberId={}, count={}", memberId, views.size(), e);
+			}
+		});
+	}
+
+	private void flushSafely() {
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			log.warn("최근 본 숙소 버퍼 flush 실패", e);
+		}
+	}
+
+	private void count(WriteOutcome outcome, int amount) {
+		Counter.builder(WRITES_TOTAL)
+			.description("Recently viewed writes by outcome")
+			.tag("result", outcome.name().toLowerCase(Locale.ROOT))
+			.register(meterRegistry)
+			.increment(amount);
+	}
+
+	private record PendingView(Long memberId, Long accommodationId) {
+	}
+
+	enum WriteOutcome {
+		// 버퍼에 새로 추가
+		QUEUED,
+		// 이미 대기 중인 같은 (회원, 숙소) 기록에 합침
+		COALESCED,
+		// 버퍼가 가득 차 버림
+		DROPPED,
+		// Redis에 반영
+		FLUSHED,
+		// Redis 반영 실패로 버림
+		FAILED
+	}
+}
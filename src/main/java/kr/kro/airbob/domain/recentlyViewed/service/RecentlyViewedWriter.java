@@ -0,0 +1,55 @@
+package kr.kro.airbob.domain.recentlyViewed.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 한 명의 최근 본 숙소를 Redis에 한 번의 왕복으로 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentlyViewedWriter {
+
+	static final String KEY_PREFIX = "recently_viewed:";
+	static final int MAX_COUNT = 100;
+	static final Duration TTL = Duration.ofDays(7);
+
+	// ARGV = 최대 개수, TTL(ms), 이후 (조회 시각, 숙소 ID) 쌍
+	// 추가, 오래된 항목 정리, 만료 갱신을 원자적으로 수행하고 남은 개수를 반환
+	private static final DefaultRedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+		local maxCount = tonumber(ARGV[1])
+		for index = 3, #ARGV, 2 do
+			redis.call('ZADD', KEYS[1], ARGV[index], ARGV[index + 1])
+		end
+		redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -maxCount - 1)
+		redis.call('PEXPIRE', KEYS[1], ARGV[2])
+		return redis.call('ZCARD', KEYS[1])
+		""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	/**
+	 * @param viewedAtByAccommodationId 숙소 ID별 조회 시각(epoch ms)
+	 */
+	public void record(Long memberId, Map<Long, Long> viewedAtByAccommodationId) {
+		if (viewedAtByAccommodationId.isEmpty()) {
+			return;
+		}
+		List<String> args = new ArrayList<>(2 + viewedAtByAccommodationId.size() * 2);
+		args.add(String.valueOf(MAX_COUNT));
+		args.add(String.valueOf(TTL.toMillis()));
+		viewedAtByAccommodationId.forEach((accommodationId, viewedAt) -> {
+			args.add(String.valueOf(viewedAt));
+			args.add(accommodationId.toString());
+		});
+		redisTemplate.execute(RECORD_SCRIPT, List.of(KEY_PREFIX + memberId), args.toArray());
+	}
+}
@@ -0,0 +1,24 @@
+package kr.kro.airbob.domain.reservation.cleanup;
+
+import java.time.Instant;
+
+/**
+ * 진행 중인 만료 정리 작업의 위치.
+ *
+ * @param cutoff 작업을 시작할 때 고정한 기준 시각. 재개해도 바꾸지 않는다
+ * @param lastExpiresAt 마지막으로 커밋한 청크의 끝 키. 첫 청크 전이면 null
+ * @param lastReservationId 마지막으로 커밋한 청크의 끝 키
+ */
+public record ExpiredReservationCheckpoint(
+	Instant cutoff,
+	Instant lastExpiresAt,
+	long lastReservationId
+) {
+	public static ExpiredReservationCheckpoint start(Instant cutoff) {
+		return new ExpiredReservationCheckpoint(cutoff, null, 0L);
+	}
+
+	public ExpiredReservationCheckpoint advanceTo(ExpiredReservationKey key) {
+		return new ExpiredReservationCheckpoint(cutoff, key.expiresAt(), key.id());
+	}
+}
@@ -0,0 +1,123 @@
+package kr.kro.airbob.domain.reservation.cleanup;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import kr.kro.airbob.common.history.ChangeType;
+import kr.kro.airbob.common.monitoring.bulkwrite.BulkOperationMonitor;
+import kr.kro.airbob.domain.coupon.service.CouponUsageService;
+import kr.kro.airbob.domain.reservation.entity.Reservation;
+import kr.kro.airbob.domain.reservation.entity.ReservationHistory;
+import kr.kro.airbob.domain.reservation.repository.ExpiredReservationChunkRepository;
+import kr.kro.airbob.domain.reservation.repository.ReservationHistoryBatchWriter;
+import kr.kro.airbob.domain.reservation.repository.ReservationNightLedger;
+import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
+import kr.kro.airbob.domain.reservation.service.ReservationHoldService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 결제 대기 예약을 (expires_at, id) 순서의 청크로 나눠 청크마다 한 트랜잭션에서 정리한다.
+ * 청크의 만료·숙박일 해제·쿠폰 복원·이력 저장과 checkpoint 이동이 함께 커밋되므로,
+ * 도중에 죽어도 다음 실행이 마지막으로 커밋된 청크 다음부터 같은 cutoff 로 이어간다.
+ * Redis hold 는 청크가 커밋된 뒤 pipeline 한 번으로 지운다.
+ * 정리 대상은 status 로 판정하므로 checkpoint 는 재개 위치일 뿐이고, 여러 노드가 함께 돌면 SKIP LOCKED 로 청크가 나뉜다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExpiredReservationChunkedCleanupService {
+
+	public static final String CHUNK_OPERATION_NAME = "reservation.expiration.chunk";
+
+	private static final String REASON = "결제 시간 초과";
+	private static final String SOURCE_SYSTEM = "BATCH";
+
+	private final ExpiredReservationChunkRepository chunkRepository;
+	private final ReservationRepository reservationRepository;
+	private final ReservationHistoryBatchWriter historyBatchWriter;
+	private final ReservationNightLedger nightLedger;
+	private final ReservationHoldService holdService;
+	private final CouponUsageService couponUsageService;
+	private final BulkOperationMonitor bulkOperationMonitor;
+	private final ExpiredReservationCleanupProperties properties;
+	private final PlatformTransactionManager transactionManager;
+	private final Clock clock;
+
+	public boolean enabled() {
+		return properties.enabled();
+	}
+
+	// 청크 처리 중 예외는 전파한다. checkpoint 가 남아 다음 실행이 실패한 청크부터 다시 시도한다
+	public int cleanupExpiredPendingReservations() {
+		ExpiredReservationCheckpoint checkpoint = chunkRepository.findCheckpoint().orElse(null);
+		if (checkpoint == null) {
+			checkpoint = ExpiredReservationCheckpoint.start(clock.instant());
+		} else {
+			log.info("만료 예약 정리 재개: cutoff={}, lastReservationId={}",
+				checkpoint.cutoff(), checkpoint.lastReservationId());
+		}
+
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		int cleaned = 0;
+		while (true) {
+			ChunkResult chunk = processChunk(transaction, checkpoint);
+			holdService.removeHolds(chunk.holds());
+			cleaned += chunk.holds().size();
+			if (chunk.holds().size() < properties.size()) {
+				break;
+			}
+			checkpoint = chunk.checkpoint();
+		}
+		chunkRepository.deleteCheckpoint();
+		return cleaned;
+	}
+
+	private ChunkResult processChunk(TransactionTemplate transaction, ExpiredReservationCheckpoint checkpoint) {
+		AtomicReference<ChunkResult> result = new AtomicReference<>();
+		bulkOperationMonitor.monitor(CHUNK_OPERATION_NAME,
+			() -> result.set(transaction.execute(status -> expireChunk(checkpoint))));
+		return result.get();
+	}
+
+	private ChunkResult expireChunk(ExpiredReservationCheckpoint checkpoint) {
+		List<ExpiredReservationKey> keys = chunkRepository.lockNextChunk(checkpoint, properties.size());
+		if (keys.isEmpty()) {
+			return new ChunkResult(checkpoint, List.of());
+		}
+
+		List<Long> ids = keys.stream().map(ExpiredReservationKey::id).toList();
+		List<Reservation> expired = reservationRepository.findAllById(ids);
+		Instant historyCreatedAt = clock.instant();
+		List<ReservationHistory> histories = expired.stream()
+			.map(reservation -> {
+				reservation.expire();
+				return ReservationHistory.ofSystem(reservation, ChangeType.STATUS_CHANGE, REASON, SOURCE_SYSTEM);
+			})
+			.toList();
+
+		nightLedger.releaseAll(ids);
+		couponUsageService.restoreAll(ids);
+		historyBatchWriter.writeAll(histories, historyCreatedAt);
+		ExpiredReservationCheckpoint next = checkpoint.advanceTo(keys.getLast());
+		chunkRepository.saveCheckpoint(next);
+
+		List<ReservationHoldService.HoldNights> holds = expired.stream()
+			.map(reservation -> new ReservationHoldService.HoldNights(
+				reservation.getAccommodation().getId(),
+				reservation.getCheckInDate(),
+				reservation.getCheckOutDate(),
+				reservation.getReservationUid().toString()))
+			.toList();
+		return new ChunkResult(next, holds);
+	}
+
+	private record ChunkResult(ExpiredReservationCheckpoint checkpoint, List<ReservationHoldService.HoldNights> holds) {
+	}
+}
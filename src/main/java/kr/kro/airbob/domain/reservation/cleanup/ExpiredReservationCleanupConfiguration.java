@@ -0,0 +1,12 @@
+package kr.kro.airbob.domain.reservation.cleanup;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 만료 예약 청크 정리 정책 값을 애플리케이션 빈으로 등록
+ */
+@Configuration
+@EnableConfigurationProperties(ExpiredReservationCleanupProperties.class)
+public class ExpiredReservationCleanupConfiguration {
+}
@@ -0,0 +1,20 @@
+package kr.kro.airbob.domain.reservation.cleanup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+
+/**
+ * 만료된 결제 대기 예약의 청크 정리 정책
+ *
+ * @param enabled false면 기존처럼 한 트랜잭션에서 모두 정리
+ * @param size 청크 하나(트랜잭션 하나)에서 만료시킬 예약 수
+ */
+@ConfigurationProperties(prefix = "reservation.expiration.chunk")
+public record ExpiredReservationCleanupProperties(
+	boolean enabled,
+	int size
+) {
+	public ExpiredReservationCleanupProperties {
+		Assert.isTrue(size > 0, "reservation.expiration.chunk.size must be positive");
+	}
+}
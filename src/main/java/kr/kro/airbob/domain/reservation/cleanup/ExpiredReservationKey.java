@@ -0,0 +1,7 @@
+package kr.kro.airbob.domain.reservation.cleanup;
+
+import java.time.Instant;
+
+// 만료 정리 keyset 의 정렬 키
+public record ExpiredReservationKey(Long id, Instant expiresAt) {
+}
@@ -0,0 +1,15 @@
+package kr.kro.airbob.domain.reservation.dto;
+
+import java.time.LocalDate;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record AccommodationReservationDateRange(
+	Long accommodationId,
+	LocalDate checkIn,
+	LocalDate checkOut
+) {
+	@QueryProjection
+	public AccommodationReservationDateRange {
+	}
+}
@@ -56,7 +56,8 @@ public class ReservationEvent {
 	public record ReservationConfirmedEvent(
 		Long accommodationId,
 		LocalDate checkInDate,
-		LocalDate checkOutDate
+		LocalDate checkOutDate,
+		String reservationUid // Redis hold 소유자, 이전 버전 이벤트는 null
 	) implements EventPayload {
 		@Override
 		public String getId() {
@@ -67,7 +68,8 @@ public class ReservationEvent {
 	public record ReservationExpiredEvent(
 		Long accommodationId,
 		LocalDate checkInDate,
-		LocalDate checkOutDate
+		LocalDate checkOutDate,
+		String reservationUid // Redis hold 소유자, 이전 버전 이벤트는 null
 	) implements EventPayload {
 		@Override
 		public String getId() {
@@ -5,9 +5,11 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.stereotype.Component;
 
@@ -18,6 +20,7 @@ public class BookingWindowProvider {
 		.toList();
 
 	private final Clock clock;
+	private volatile LocalTodayGroups localTodayGroups;
 
 	public BookingWindowProvider(Clock clock) {
 		this.clock = clock;
@@ -32,12 +35,9 @@ public class BookingWindowProvider {
 		return BookingWindow.startingOn(localToday);
 	}
 
-	public Set<String> eligibleTimeZonesForStay(LocalDate checkInDate, LocalDate checkOutDate) {
-		Instant now = clock.instant();
-		return AVAILABLE_TIME_ZONES.stream()
-			.filter(timeZone -> currentFor(timeZone, now).containsStay(checkInDate, checkOutDate))
-			.map(ZoneId::getId)
-			.collect(Collectors.toUnmodifiableSet());
+	// 시간대 목록은 어느 시간대든 현지 자정을 넘길 때만 다시 묶는다
+	public TimeZoneEligibility timeZoneEligibilityForStay(LocalDate checkInDate, LocalDate checkOutDate) {
+		return localTodayGroups(clock.instant()).eligibilityFor(checkInDate, checkOutDate);
 	}
 
 	public ReservationIndexingWindow currentIndexingWindow() {
@@ -48,4 +48,94 @@ public class BookingWindowProvider {
 			latestLocalBookingWindow.endExclusive()
 		);
 	}
+
+	private LocalTodayGroups localTodayGroups(Instant now) {
+		LocalTodayGroups groups = localTodayGroups;
+		if (groups == null || !groups.validAt(now)) {
+			// 동시에 경계를 넘은 요청이 함께 다시 계산해도 결과는 같다
+			groups = LocalTodayGroups.at(now);
+			localTodayGroups = groups;
+		}
+		return groups;
+	}
+
+	/**
+	 * 전체 시간대를 현지 오늘 날짜별로 묶은 결과
+	 * 예약 가능 기간은 현지 오늘 날짜로만 정해지므로 묶음 수(최대 3개)만큼만 판단하면 된다.
+	 */
+	private static final class LocalTodayGroups {
+
+		private final Instant validFrom;
+		private final Instant validUntil;
+		private final List<LocalDate> localTodays;
+		private final List<List<String>> timeZoneIds;
+		private final Map<Integer, TimeZoneEligibility> eligibilityByGroups = new ConcurrentHashMap<>();
+
+		private LocalTodayGroups(
+			Instant validFrom,
+			Instant validUntil,
+			List<LocalDate> localTodays,
+			List<List<String>> timeZoneIds
+		) {
+			this.validFrom = validFrom;
+			this.validUntil = validUntil;
+			this.localTodays = localTodays;
+			this.timeZoneIds = timeZoneIds;
+		}
+
+		static LocalTodayGroups at(Instant now) {
+			TreeMap<LocalDate, List<String>> groups = new TreeMap<>();
+			Instant validFrom = Instant.MIN;
+			Instant validUntil = Instant.MAX;
+			for (ZoneId timeZone : AVAILABLE_TIME_ZONES) {
+				LocalDate localToday = now.atZone(timeZone).toLocalDate();
+				groups.computeIfAbsent(localToday, ignored -> new ArrayList<>()).add(timeZone.getId());
+
+				Instant localMidnight = localToday.atStartOfDay(timeZone).toInstant();
+				Instant nextLocalMidnight = localToday.plusDays(1).atStartOfDay(timeZone).toInstant();
+				if (localMidnight.isAfter(validFrom)) {
+					validFrom = localMidnight;
+				}
+				if (nextLocalMidnight.isBefore(validUntil)) {
+					validUntil = nextLocalMidnight;
+				}
+			}
+			return new LocalTodayGroups(
+				validFrom,
+				validUntil,
+				List.copyOf(groups.keySet()),
+				groups.values().stream().map(List::copyOf).toList()
+			);
+		}
+
+		boolean validAt(Instant now) {
+			return !now.isBefore(validFrom) && now.isBefore(validUntil);
+		}
+
+		TimeZoneEligibility eligibilityFor(LocalDate checkInDate, LocalDate checkOutDate) {
+			int eligibleGroups = 0;
+			for (int group = 0; group < localTodays.size(); group++) {
+				if (BookingWindow.startingOn(localTodays.get(group)).containsStay(checkInDate, checkOutDate)) {
+					eligibleGroups |= 1 << group;
+				}
+			}
+			return eligibilityByGroups.computeIfAbsent(eligibleGroups, this::eligibility);
+		}
+
+		private TimeZoneEligibility eligibility(int eligibleGroups) {
+			List<String> eligible = new ArrayList<>();
+			List<String> ineligible = new ArrayList<>();
+			for (int group = 0; group < timeZoneIds.size(); group++) {
+				if ((eligibleGroups & (1 << group)) != 0) {
+					eligible.addAll(timeZoneIds.get(group));
+				} else {
+					ineligible.addAll(timeZoneIds.get(group));
+				}
+			}
+			return new TimeZoneEligibility(
+				eligible.stream().sorted().toList(),
+				ineligible.stream().sorted().toList()
+			);
+		}
+	}
 }
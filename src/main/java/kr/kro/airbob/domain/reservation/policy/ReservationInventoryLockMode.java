@@ -0,0 +1,13 @@
+package kr.kro.airbob.domain.reservation.policy;
+
+/**
+ * 예약 생성 시 같은 숙소의 겹치는 예약을 막는 방식
+ */
+public enum ReservationInventoryLockMode {
+
+	// 숙소 행 배타 락 + 기간 범위 검사. 원장은 기록만 하고 판정에는 쓰지 않음
+	ROW_LOCK,
+
+	// 숙소 행 공유 락 + 숙박일 원장 선점. 서로 다른 날짜의 예약이 병렬로 진행됨
+	LEDGER
+}
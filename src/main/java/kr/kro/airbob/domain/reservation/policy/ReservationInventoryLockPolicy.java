@@ -0,0 +1,29 @@
+package kr.kro.airbob.domain.reservation.policy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원장을 기록하지 않는 이전 서버가 남아 있는 동안에는 ROW_LOCK으로 배포하고,
+ * 모든 서버가 원장을 유지하고 백필을 다시 실행한 뒤 LEDGER로 명시적으로 전환
+ * LEDGER는 기간 범위 검사를 건너뛰므로 기본값은 ROW_LOCK
+ */
+@Component
+public class ReservationInventoryLockPolicy {
+
+	private final ReservationInventoryLockMode mode;
+
+	public ReservationInventoryLockPolicy(
+		@Value("${reservation.inventory.lock-mode:ROW_LOCK}") ReservationInventoryLockMode mode
+	) {
+		this.mode = mode;
+	}
+
+	public ReservationInventoryLockMode mode() {
+		return mode;
+	}
+
+	public boolean usesLedger() {
+		return mode == ReservationInventoryLockMode.LEDGER;
+	}
+}
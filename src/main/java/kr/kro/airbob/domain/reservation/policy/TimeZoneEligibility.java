@@ -0,0 +1,25 @@
+package kr.kro.airbob.domain.reservation.policy;
+
+import java.util.List;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+
+/**
+ * 숙박 날짜가 현지 예약 가능 기간에 드는 시간대와 들지 않는 시간대
+ * 두 목록 모두 정렬된 불변 목록이라 검색 조건에 그대로 사용한다.
+ * 현지 자정 경계마다 한 번만 만들어지므로 검색 terms 값도 함께 만들어 둔다.
+ */
+public record TimeZoneEligibility(
+	List<String> eligible,
+	List<String> ineligible,
+	List<FieldValue> eligibleTerms
+) {
+
+	public TimeZoneEligibility(List<String> eligible, List<String> ineligible) {
+		this(eligible, ineligible, eligible.stream().map(FieldValue::of).toList());
+	}
+
+	public boolean noneEligible() {
+		return eligible.isEmpty();
+	}
+}
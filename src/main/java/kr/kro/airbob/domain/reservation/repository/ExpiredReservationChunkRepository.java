@@ -0,0 +1,104 @@
+package kr.kro.airbob.domain.reservation.repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import kr.kro.airbob.domain.reservation.cleanup.ExpiredReservationCheckpoint;
+import kr.kro.airbob.domain.reservation.cleanup.ExpiredReservationKey;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 만료된 결제 대기 예약을 (expires_at, id) keyset 청크로 잠그고, 진행 위치(checkpoint)를 저장한다.
+ * 시각은 reservation.expires_at 과 같이 UTC LocalDateTime 으로 읽고 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExpiredReservationChunkRepository {
+
+	public static final String CHECKPOINT_NAME = "expired_pending_reservation";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 결제 확정 트랜잭션이 잡고 있는 행은 건너뛴다. 여전히 결제 대기라면 다음 실행의 새 cutoff 에서 다시 잡힌다
+	public List<ExpiredReservationKey> lockNextChunk(ExpiredReservationCheckpoint checkpoint, int limit) {
+		if (checkpoint.lastExpiresAt() == null) {
+			return jdbcTemplate.query("""
+					SELECT id, expires_at FROM reservation
+					WHERE status = 'PAYMENT_PENDING' AND expires_at <= ?
+					ORDER BY expires_at, id
+					LIMIT ?
+					FOR UPDATE SKIP LOCKED
+					""",
+				(resultSet, rowNum) -> toKey(resultSet.getLong("id"),
+					resultSet.getObject("expires_at", LocalDateTime.class)),
+				toUtcDateTime(checkpoint.cutoff()), limit);
+		}
+		LocalDateTime lastExpiresAt = toUtcDateTime(checkpoint.lastExpiresAt());
+		return jdbcTemplate.query("""
+				SELECT id, expires_at FROM reservation
+				WHERE status = 'PAYMENT_PENDING' AND expires_at <= ?
+				  AND (expires_at > ? OR (expires_at = ? AND id > ?))
+				ORDER BY expires_at, id
+				LIMIT ?
+				FOR UPDATE SKIP LOCKED
+				""",
+			(resultSet, rowNum) -> toKey(resultSet.getLong("id"),
+				resultSet.getObject("expires_at", LocalDateTime.class)),
+			toUtcDateTime(checkpoint.cutoff()), lastExpiresAt, lastExpiresAt, checkpoint.lastReservationId(), limit);
+	}
+
+	public Optional<ExpiredReservationCheckpoint> findCheckpoint() {
+		return jdbcTemplate.query("""
+				SELECT cutoff, last_expires_at, last_reservation_id
+				FROM reservation_cleanup_checkpoint WHERE name = ?
+				""",
+			(resultSet, rowNum) -> {
+				LocalDateTime lastExpiresAt = resultSet.getObject("last_expires_at", LocalDateTime.class);
+				return new ExpiredReservationCheckpoint(
+					toInstant(resultSet.getObject("cutoff", LocalDateTime.class)),
+					lastExpiresAt == null ? null : toInstant(lastExpiresAt),
+					resultSet.getLong("last_reservation_id"));
+			},
+			CHECKPOINT_NAME).stream().findFirst();
+	}
+
+	public void saveCheckpoint(ExpiredReservationCheckpoint checkpoint) {
+		jdbcTemplate.update("""
+				INSERT INTO reservation_cleanup_checkpoint
+					(name, cutoff, last_expires_at, last_reservation_id, updated_at)
+				VALUES (?, ?, ?, ?, UTC_TIMESTAMP(6))
+				ON DUPLICATE KEY UPDATE
+					cutoff              = ?,
+					last_expires_at     = ?,
+					last_reservation_id = ?,
+					updated_at          = UTC_TIMESTAMP(6)
+				""",
+			CHECKPOINT_NAME,
+			toUtcDateTime(checkpoint.cutoff()), toUtcDateTime(checkpoint.lastExpiresAt()),
+			checkpoint.lastReservationId(),
+			toUtcDateTime(checkpoint.cutoff()), toUtcDateTime(checkpoint.lastExpiresAt()),
+			checkpoint.lastReservationId());
+	}
+
+	public void deleteCheckpoint() {
+		jdbcTemplate.update("DELETE FROM reservation_cleanup_checkpoint WHERE name = ?", CHECKPOINT_NAME);
+	}
+
+	private static ExpiredReservationKey toKey(long id, LocalDateTime expiresAt) {
+		return new ExpiredReservationKey(id, toInstant(expiresAt));
+	}
+
+	private static LocalDateTime toUtcDateTime(Instant value) {
+		return value == null ? null : LocalDateTime.ofInstant(value, ZoneOffset.UTC);
+	}
+
+	private static Instant toInstant(LocalDateTime value) {
+		return value.toInstant(ZoneOffset.UTC);
+	}
+}
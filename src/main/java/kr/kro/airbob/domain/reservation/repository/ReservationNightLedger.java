@@ -0,0 +1,190 @@
+package kr.kro.airbob.domain.reservation.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import kr.kro.airbob.domain.reservation.exception.InvalidReservationDateException;
+
+/**
+ * 숙소·숙박일 단위 재고 원장
+ * (accommodation_id, stay_date) 유일 키로 겹치는 예약을 막아 숙소 행 배타 락 없이도 서로 다른 날짜의 예약이 병렬로 진행됨
+ * 선점 SQL은 INSERT ... AS 별칭 문법을 쓰므로 MySQL 8.0.19 이상이 필요함 (VALUES() 참조는 8.0.20부터 deprecated)
+ */
+@Repository
+public class ReservationNightLedger {
+
+	// 선점 만료된 결제 대기 행만 넘겨받음. 대입은 왼쪽부터 적용되므로 reservation_id를 먼저 결정하고 나머지는 그 결과를 따름
+	private static final String CLAIM_SQL = """
+		INSERT INTO reservation_night (accommodation_id, stay_date, reservation_id, hold_expires_at, created_at)
+		VALUES (?, ?, ?, ?, ?) AS claim
+		ON DUPLICATE KEY UPDATE
+			reservation_id = IF(
+				reservation_night.hold_expires_at IS NOT NULL AND reservation_night.hold_expires_at <= ?,
+				claim.reservation_id,
+				reservation_night.reservation_id),
+			hold_expires_at = IF(
+				reservation_night.reservation_id = claim.reservation_id,
+				claim.hold_expires_at,
+				reservation_night.hold_expires_at),
+			created_at = IF(
+				reservation_night.reservation_id = claim.reservation_id,
+				claim.created_at,
+				reservation_night.created_at)
+		""";
+
+	// 기간 범위 검사가 이미 빈 날짜임을 보장한 경우. 남아 있는 행은 원장을 갱신하지 않는 이전 서버가 남긴 값
+	private static final String OVERWRITE_SQL = """
+		INSERT INTO reservation_night (accommodation_id, stay_date, reservation_id, hold_expires_at, created_at)
+		VALUES (?, ?, ?, ?, ?) AS claim
+		ON DUPLICATE KEY UPDATE
+			reservation_id = claim.reservation_id,
+			hold_expires_at = claim.hold_expires_at,
+			created_at = claim.created_at
+		""";
+
+	private static final String COUNT_SQL = """
+		SELECT COUNT(*) FROM reservation_night WHERE reservation_id = ?
+		""";
+
+	private static final String PIN_SQL = """
+		UPDATE reservation_night SET hold_expires_at = NULL WHERE reservation_id = ?
+		""";
+
+	private static final String RELEASE_SQL = """
+		DELETE FROM reservation_night WHERE reservation_id = ?
+		""";
+
+	private static final String PURGE_SQL = """
+		DELETE FROM reservation_night WHERE stay_date < ? LIMIT ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public ReservationNightLedger(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 숙박일 전체를 선점하고 모두 이 예약 소유가 됐는지 반환
+	 * 실패해도 일부 날짜는 선점된 상태로 남으므로 호출자는 트랜잭션을 롤백해야 함
+	 * @param holdExpiresAt 결제 대기 예약의 만료 시각. 확정 예약이면 null
+	 */
+	public boolean claim(
+		Long accommodationId,
+		Long reservationId,
+		LocalDate checkInDate,
+		LocalDate checkOutDate,
+		Instant holdExpiresAt,
+		Instant now
+	) {
+		Objects.requireNonNull(now, "now must not be null");
+		List<LocalDate> nights = nights(checkInDate, checkOutDate);
+		jdbcTemplate.batchUpdate(CLAIM_SQL, batchSetter(accommodationId, reservationId, nights, holdExpiresAt, now, true));
+		return ownedNights(reservationId) == nights.size();
+	}
+
+	/**
+	 * 숙소 행 배타 락과 기간 범위 검사로 충돌이 없음을 이미 확인한 예약의 숙박일을 기록
+	 */
+	public void overwrite(
+		Long accommodationId,
+		Long reservationId,
+		LocalDate checkInDate,
+		LocalDate checkOutDate,
+		Instant holdExpiresAt,
+		Instant now
+	) {
+		Objects.requireNonNull(now, "now must not be null");
+		List<LocalDate> nights = nights(checkInDate, checkOutDate);
+		jdbcTemplate.batchUpdate(OVERWRITE_SQL, batchSetter(accommodationId, reservationId, nights, holdExpiresAt, now, false));
+	}
+
+	/**
+	 * 결제를 시작한 예약의 선점 만료를 해제하고 여전히 소유한 숙박일 수를 반환
+	 */
+	public int pin(Long reservationId) {
+		return jdbcTemplate.update(PIN_SQL, reservationId);
+	}
+
+	public int release(Long reservationId) {
+		return jdbcTemplate.update(RELEASE_SQL, reservationId);
+	}
+
+	public void releaseAll(List<Long> reservationIds) {
+		if (reservationIds.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(RELEASE_SQL, reservationIds, reservationIds.size(),
+			(statement, reservationId) -> statement.setLong(1, reservationId));
+	}
+
+	/**
+	 * 지난 숙박일 행을 최대 limit건 지우고 지운 행 수를 반환. 호출마다 따로 커밋되도록 트랜잭션 밖에서 부름
+	 */
+	public int purgeBefore(LocalDate cutoff, int limit) {
+		return jdbcTemplate.update(PURGE_SQL, cutoff, limit);
+	}
+
+	public static int nightCount(LocalDate checkInDate, LocalDate checkOutDate) {
+		return nights(checkInDate, checkOutDate).size();
+	}
+
+	private static List<LocalDate> nights(LocalDate checkInDate, LocalDate checkOutDate) {
+		if (!checkOutDate.isAfter(checkInDate)) {
+			throw new InvalidReservationDateException();
+		}
+		return checkInDate.datesUntil(checkOutDate).toList();
+	}
+
+	private long ownedNights(Long reservationId) {
+		Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, reservationId);
+		return count == null ? 0L : count;
+	}
+
+	private BatchPreparedStatementSetter batchSetter(
+		Long accommodationId,
+		Long reservationId,
+		List<LocalDate> nights,
+		Instant holdExpiresAt,
+		Instant now,
+		boolean conditional
+	) {
+		return new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement statement, int index) throws SQLException {
+				statement.setLong(1, accommodationId);
+				statement.setObject(2, nights.get(index), Types.DATE);
+				statement.setLong(3, reservationId);
+				if (holdExpiresAt == null) {
+					statement.setNull(4, Types.TIMESTAMP);
+				} else {
+					statement.setObject(4, toUtcDateTime(holdExpiresAt), Types.TIMESTAMP);
+				}
+				statement.setObject(5, toUtcDateTime(now), Types.TIMESTAMP);
+				if (conditional) {
+					statement.setObject(6, toUtcDateTime(now), Types.TIMESTAMP);
+				}
+			}
+
+			@Override
+			public int getBatchSize() {
+				return nights.size();
+			}
+		};
+	}
+
+	private LocalDateTime toUtcDateTime(Instant value) {
+		return LocalDateTime.ofInstant(value, ZoneOffset.UTC);
+	}
+}
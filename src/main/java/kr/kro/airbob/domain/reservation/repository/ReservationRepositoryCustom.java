@@ -3,6 +3,7 @@ package kr.kro.airbob.domain.reservation.repository;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,6 +11,7 @@ import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import kr.kro.airbob.domain.reservation.dto.AccommodationReservationDateRange;
 import kr.kro.airbob.domain.reservation.dto.ReservationDateRange;
 import kr.kro.airbob.domain.reservation.entity.Reservation;
 import kr.kro.airbob.domain.reservation.entity.ReservationFilterType;
@@ -40,6 +42,12 @@ public interface ReservationRepositoryCustom {
 		LocalDate windowEndExclusive
 	);
 
+	List<AccommodationReservationDateRange> findActiveReservationRangesByAccommodationIdIn(
+		Collection<Long> accommodationIds,
+		LocalDate windowStartInclusive,
+		LocalDate windowEndExclusive
+	);
+
 	Slice<Reservation> findMyReservationsByGuestIdWithCursor(
 		Long guestId,
 		Long lastId,
@@ -9,6 +9,7 @@ import static kr.kro.airbob.domain.reservation.entity.ReservationStatus.*;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +22,8 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import kr.kro.airbob.domain.member.entity.QMember;
+import kr.kro.airbob.domain.reservation.dto.AccommodationReservationDateRange;
+import kr.kro.airbob.domain.reservation.dto.QAccommodationReservationDateRange;
 import kr.kro.airbob.domain.reservation.dto.QReservationDateRange;
 import kr.kro.airbob.domain.reservation.dto.ReservationDateRange;
 import kr.kro.airbob.domain.reservation.entity.Reservation;
@@ -127,6 +130,28 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
 		);
 	}
 
+	@Override
+	public List<AccommodationReservationDateRange> findActiveReservationRangesByAccommodationIdIn(
+		Collection<Long> accommodationIds,
+		LocalDate windowStartInclusive,
+		LocalDate windowEndExclusive
+	) {
+		return queryFactory
+			.select(new QAccommodationReservationDateRange(
+				reservation.accommodation.id,
+				reservation.checkInDate,
+				reservation.checkOutDate
+			))
+			.from(reservation)
+			.where(
+				reservation.accommodation.id.in(accommodationIds),
+				activeReservationStatus(),
+				reservation.checkInDate.lt(windowEndExclusive),
+				reservation.checkOutDate.gt(windowStartInclusive)
+			)
+			.fetch();
+	}
+
 	private List<ReservationDateRange> findActiveReservationRanges(
 		BooleanExpression accommodationCondition,
 		LocalDate windowStartInclusive,
@@ -1,25 +1,38 @@
 package kr.kro.airbob.domain.reservation.scheduler;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import kr.kro.airbob.domain.reservation.cleanup.ExpiredReservationChunkedCleanupService;
+import kr.kro.airbob.domain.reservation.repository.ReservationNightLedger;
 import kr.kro.airbob.domain.reservation.service.ExpiredReservationCleanupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-// TODO: Spring Batch 적용 필요
+// 청크 정리(reservation.expiration.chunk.enabled)를 켜면 청크별 트랜잭션 + checkpoint 재개로 정리한다
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReservationScheduler {
 
+	static final int NIGHT_PURGE_BATCH_SIZE = 1000;
+
 	private final ExpiredReservationCleanupService cleanupService;
+	private final ExpiredReservationChunkedCleanupService chunkedCleanupService;
+	private final ReservationNightLedger nightLedger;
+	private final Clock clock;
 
 	@Scheduled(fixedRate = 300000)
 	public void cleanupExpiredPendingReservation() {
 		log.info("만료된 결제 대기 예약 정리 작업 시작");
 
-		int cleaned = cleanupService.cleanupExpiredPendingReservations();
+		int cleaned = chunkedCleanupService.enabled()
+			? chunkedCleanupService.cleanupExpiredPendingReservations()
+			: cleanupService.cleanupExpiredPendingReservations();
 		if (cleaned == 0) {
 			log.info("정리할 만료된 예약 없습니다.");
 			return;
@@ -27,4 +40,18 @@ public class ReservationScheduler {
 		log.info("{}건의 만료된 예약 정리 완료", cleaned);
 	}
 
+	// 지난 숙박일은 더 이상 선점 대상이 아니므로 원장에서 지운다.
+	// 가장 늦은 시간대(UTC-12)의 현지 오늘도 UTC 어제 이후이므로 그보다 이전 날짜만 지운다
+	@Scheduled(cron = "0 30 4 * * *", zone = "UTC")
+	public void purgePastReservationNights() {
+		LocalDate cutoff = LocalDate.now(clock.withZone(ZoneOffset.UTC)).minusDays(1);
+		int purged = 0;
+		int deleted;
+		do {
+			deleted = nightLedger.purgeBefore(cutoff, NIGHT_PURGE_BATCH_SIZE);
+			purged += deleted;
+		} while (deleted == NIGHT_PURGE_BATCH_SIZE);
+		log.info("지난 숙박일 원장 정리 완료: cutoff={}, purged={}", cutoff, purged);
+	}
+
 }
@@ -13,6 +13,7 @@ import kr.kro.airbob.domain.reservation.entity.Reservation;
 import kr.kro.airbob.domain.reservation.entity.ReservationHistory;
 import kr.kro.airbob.domain.reservation.entity.ReservationStatus;
 import kr.kro.airbob.domain.reservation.repository.ReservationHistoryBatchWriter;
+import kr.kro.airbob.domain.reservation.repository.ReservationNightLedger;
 import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -25,6 +26,7 @@ public class ExpiredReservationCleanupService {
 
 	private final ReservationRepository reservationRepository;
 	private final ReservationHistoryBatchWriter historyBatchWriter;
+	private final ReservationNightLedger nightLedger;
 	private final ReservationHoldService holdService;
 	private final CouponUsageService couponUsageService;
 	private final Clock clock;
@@ -52,12 +54,15 @@ public class ExpiredReservationCleanupService {
 			})
 			.toList();
 
-		couponUsageService.restoreAll(expired.stream().map(Reservation::getId).toList());
+		List<Long> expiredIds = expired.stream().map(Reservation::getId).toList();
+		nightLedger.releaseAll(expiredIds);
+		couponUsageService.restoreAll(expiredIds);
 		historyBatchWriter.writeAll(histories, cutoff);
 		expired.forEach(reservation -> holdService.removeHold(
 			reservation.getAccommodation().getId(),
 			reservation.getCheckInDate(),
-			reservation.getCheckOutDate()
+			reservation.getCheckOutDate(),
+			reservation.getReservationUid().toString()
 		));
 		return expired.size();
 	}
@@ -53,7 +53,8 @@ public class ReservationHistoryInsertBeforeBenchmarkService {
 			holdService.removeHold(
 				reservation.getAccommodation().getId(),
 				reservation.getCheckInDate(),
-				reservation.getCheckOutDate()
+				reservation.getCheckOutDate(),
+				reservation.getReservationUid().toString()
 			);
 		});
 		log.info("{}건의 만료된 예약 정리 완료", expiredList.size());
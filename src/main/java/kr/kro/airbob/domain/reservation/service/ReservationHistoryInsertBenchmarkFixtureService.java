@@ -419,7 +419,8 @@ public class ReservationHistoryInsertBenchmarkFixtureService {
 			.map(target -> new HoldRemoval(
 				target.accommodationId(),
 				target.checkIn(),
-				target.checkOut()
+				target.checkOut(),
+				target.reservationUid()
 			))
 			.toList();
 	}
@@ -30,13 +30,13 @@ public class ReservationHistoryInsertBenchmarkHoldService extends ReservationHol
 	}
 
 	@Override
-	public void removeHold(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+	public void removeHold(Long accommodationId, LocalDate checkIn, LocalDate checkOut, String reservationUid) {
 		List<HoldRemoval> activeRecordings = recordings.get();
 		if (activeRecordings != null) {
-			activeRecordings.add(new HoldRemoval(accommodationId, checkIn, checkOut));
+			activeRecordings.add(new HoldRemoval(accommodationId, checkIn, checkOut, reservationUid));
 			return;
 		}
-		super.removeHold(accommodationId, checkIn, checkOut);
+		super.removeHold(accommodationId, checkIn, checkOut, reservationUid);
 	}
 
 	public HoldRemovalSnapshot finishRecording() {
@@ -55,7 +55,7 @@ public class ReservationHistoryInsertBenchmarkHoldService extends ReservationHol
 		recordings.remove();
 	}
 
-	public record HoldRemoval(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+	public record HoldRemoval(Long accommodationId, LocalDate checkIn, LocalDate checkOut, String reservationUid) {
 	}
 
 	public record HoldRemovalSnapshot(List<HoldRemoval> removals) {
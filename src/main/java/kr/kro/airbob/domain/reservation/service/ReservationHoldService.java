@@ -1,9 +1,14 @@
 package kr.kro.airbob.domain.reservation.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -15,49 +20,199 @@ import lombok.extern.slf4j.Slf4j;
 public class ReservationHoldService {
 
 	private final RedisTemplate<String, String> redisTemplate;
-	private static final String HOLD_KEY_PREFIX = "HOLD:RESERVATION:";
-	private static final long HOLD_DURATION_SECONDS = 15 * 60L; // 15분
-
-	public void holdDates(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
-		List<String> holdKeys = generateHoldKeys(accommodationId, checkIn, checkOut);
-
-		// SET EX를 파이프라인으로 묶어 MSET+TTL의 non-atomic 문제 해결
-		redisTemplate.executePipelined((org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
-			for (String key : holdKeys) {
-				connection.stringCommands().set(
-					key.getBytes(),
-					"held".getBytes(),
-					org.springframework.data.redis.core.types.Expiration.seconds(HOLD_DURATION_SECONDS),
-					org.springframework.data.redis.connection.RedisStringCommands.SetOption.UPSERT
-				);
-			}
-			return null;
-		});
+	// 숙소별 hash 하나에 field = epoch day, value = "{만료 epoch ms}:{소유 토큰}"
+	private static final String HOLD_KEY_PREFIX = "HOLD:RESERVATION:NIGHTS:";
+	private static final long CLAIM_LEASE_MILLIS = 30_000L; // DB 트랜잭션 동안만 유지, 프로세스가 죽으면 빠르게 풀림
+	private static final long HOLD_DURATION_MILLIS = 15 * 60 * 1000L; // 15분
+	private static final int SWEEP_THRESHOLD = 256;
+
+	// 모든 숙박일이 비어 있거나 만료됐거나 자신의 것일 때만 한 번에 선점
+	// field 수가 임계치를 넘으면 만료된 field를 함께 정리해 지난 날짜가 쌓이지 않게 함
+	private static final DefaultRedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		local holders = redis.call('HMGET', KEYS[1], unpack(ARGV, 4))
+		for index = 1, #holders do
+			local holder = holders[index]
+			if holder then
+				local separator = string.find(holder, ':', 1, true)
+				if tonumber(string.sub(holder, 1, separator - 1)) > now
+					and string.sub(holder, separator + 1) ~= ARGV[1] then
+					return 0
+				end
+			end
+		end
+		if redis.call('HLEN', KEYS[1]) > tonumber(ARGV[3]) then
+			local entries = redis.call('HGETALL', KEYS[1])
+			for index = 1, #entries, 2 do
+				local holder = entries[index + 1]
+				local separator = string.find(holder, ':', 1, true)
+				if tonumber(string.sub(holder, 1, separator - 1)) <= now then
+					redis.call('HDEL', KEYS[1], entries[index])
+				end
+			end
+		end
+		local ttl = tonumber(ARGV[2])
+		local value = string.format('%d', now + ttl) .. ':' .. ARGV[1]
+		local fields = {}
+		for index = 4, #ARGV do
+			fields[#fields + 1] = ARGV[index]
+			fields[#fields + 1] = value
+		end
+		redis.call('HSET', KEYS[1], unpack(fields))
+		if redis.call('PTTL', KEYS[1]) < ttl then
+			redis.call('PEXPIRE', KEYS[1], ttl)
+		end
+		return 1
+		""", Long.class);
+
+	// 자신이 선점한 숙박일만 결제 대기 시간만큼 연장하면서 소유자를 예약 UID로 넘기고 연장한 날짜 수를 반환
+	private static final DefaultRedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		local ttl = tonumber(ARGV[3])
+		local value = string.format('%d', now + ttl) .. ':' .. ARGV[2]
+		local holders = redis.call('HMGET', KEYS[1], unpack(ARGV, 4))
+		local extended = 0
+		for index = 1, #holders do
+			local holder = holders[index]
+			if holder and string.sub(holder, string.find(holder, ':', 1, true) + 1) == ARGV[1] then
+				redis.call('HSET', KEYS[1], ARGV[index + 3], value)
+				extended = extended + 1
+			end
+		end
+		if extended > 0 and redis.call('PTTL', KEYS[1]) < ttl then
+			redis.call('PEXPIRE', KEYS[1], ttl)
+		end
+		return extended
+		""", Long.class);
+
+	// 자신이 선점한 숙박일만 삭제해 이후 요청의 선점을 잘못 지우지 않음
+	private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+		local holders = redis.call('HMGET', KEYS[1], unpack(ARGV, 2))
+		local released = 0
+		for index = 1, #holders do
+			local holder = holders[index]
+			if holder and string.sub(holder, string.find(holder, ':', 1, true) + 1) == ARGV[1] then
+				released = released + redis.call('HDEL', KEYS[1], ARGV[index + 1])
+			end
+		end
+		return released
+		""", Long.class);
+
+	private static final DefaultRedisScript<Long> HELD_SCRIPT = new DefaultRedisScript<>("""
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		local holders = redis.call('HMGET', KEYS[1], unpack(ARGV))
+		for index = 1, #holders do
+			local holder = holders[index]
+			if holder and tonumber(string.sub(holder, 1, string.find(holder, ':', 1, true) - 1)) > now then
+				return 1
+			end
+		end
+		return 0
+		""", Long.class);
+
+	/**
+	 * 모든 숙박일을 한 번의 Redis 호출로 확인하고 선점한다.
+	 * 선점은 DB 트랜잭션 동안만 유지되며 커밋 후 {@link #extendHold}로 결제 대기 시간만큼 연장한다.
+	 * 연장 시 소유자가 예약 UID로 바뀌므로 이후 삭제는 해당 예약의 hold만 지운다.
+	 */
+	public boolean claimDates(Long accommodationId, LocalDate checkIn, LocalDate checkOut, String owner) {
+		List<String> args = new ArrayList<>();
+		args.add(owner);
+		args.add(String.valueOf(CLAIM_LEASE_MILLIS));
+		args.add(String.valueOf(SWEEP_THRESHOLD));
+		args.addAll(nightFields(checkIn, checkOut));
+
+		Long result = redisTemplate.execute(CLAIM_SCRIPT, List.of(holdKey(accommodationId)), args.toArray());
+		return result != null && result == 1L;
 	}
 
-	public boolean isAnyDateHeld(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
-		List<String> holdKeys = generateHoldKeys(accommodationId, checkIn, checkOut);
+	public void extendHold(Long accommodationId, LocalDate checkIn, LocalDate checkOut, String claimOwner,
+		String reservationUid) {
+		List<String> fields = nightFields(checkIn, checkOut);
+		List<String> args = new ArrayList<>(fields.size() + 3);
+		args.add(claimOwner);
+		args.add(reservationUid);
+		args.add(String.valueOf(HOLD_DURATION_MILLIS));
+		args.addAll(fields);
 
-		// MGET 사용
-		List<String> results = redisTemplate.opsForValue().multiGet(holdKeys);
+		Long extended = redisTemplate.execute(EXTEND_SCRIPT, List.of(holdKey(accommodationId)), args.toArray());
+		if (extended == null || extended < fields.size()) {
+			log.warn("Redis hold 연장 일부 실패. 선점이 이미 만료됨. accommodationId={}, checkIn={}, checkOut={}, extended={}",
+				accommodationId, checkIn, checkOut, extended);
+		}
+	}
+
+	public void releaseClaim(Long accommodationId, LocalDate checkIn, LocalDate checkOut, String owner) {
+		try {
+			List<String> args = new ArrayList<>();
+			args.add(owner);
+			args.addAll(nightFields(checkIn, checkOut));
+			redisTemplate.execute(RELEASE_SCRIPT, List.of(holdKey(accommodationId)), args.toArray());
+		} catch (Exception e) {
+			log.warn("Redis 선점 해제 실패. lease 만료로 자동 해제 예정. accommodationId={}, checkIn={}, checkOut={}",
+				accommodationId, checkIn, checkOut, e);
+		}
+	}
 
-		return results != null && results.stream().anyMatch(result -> result != null);
+	public boolean isAnyDateHeld(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+		Long result = redisTemplate.execute(
+			HELD_SCRIPT, List.of(holdKey(accommodationId)), nightFields(checkIn, checkOut).toArray());
+		return result != null && result == 1L;
 	}
 
-	public void removeHold(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+	// 예약 UID가 소유한 숙박일만 삭제해 같은 날짜를 새로 선점한 요청의 hold를 지우지 않음
+	public void removeHold(Long accommodationId, LocalDate checkIn, LocalDate checkOut, String reservationUid) {
 		try {
-			List<String> holdKeys = generateHoldKeys(accommodationId, checkIn, checkOut);
-			redisTemplate.delete(holdKeys);
+			List<String> args = new ArrayList<>();
+			args.add(reservationUid);
+			args.addAll(nightFields(checkIn, checkOut));
+			redisTemplate.execute(RELEASE_SCRIPT, List.of(holdKey(accommodationId)), args.toArray());
 		} catch (Exception e) {
 			log.warn("Redis hold 삭제 실패. TTL로 자동 만료 예정. accommodationId={}, checkIn={}, checkOut={}",
 				accommodationId, checkIn, checkOut, e);
 		}
 	}
 
-	private List<String> generateHoldKeys(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+	// 여러 예약의 hold 삭제를 한 번의 pipeline 왕복으로 보낸다
+	// pipeline 안에서는 NOSCRIPT 재시도가 불가능하므로 EVALSHA 대신 EVAL로 보낸다
+	public void removeHolds(List<HoldNights> holds) {
+		if (holds.isEmpty()) {
+			return;
+		}
+		byte[] script = RELEASE_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				for (HoldNights hold : holds) {
+					List<String> fields = nightFields(hold.checkIn(), hold.checkOut());
+					byte[][] keysAndArgs = new byte[fields.size() + 2][];
+					keysAndArgs[0] = holdKey(hold.accommodationId()).getBytes(StandardCharsets.UTF_8);
+					keysAndArgs[1] = hold.reservationUid().getBytes(StandardCharsets.UTF_8);
+					for (int index = 0; index < fields.size(); index++) {
+						keysAndArgs[index + 2] = fields.get(index).getBytes(StandardCharsets.UTF_8);
+					}
+					connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1, keysAndArgs);
+				}
+				return null;
+			});
+		} catch (Exception e) {
+			log.warn("Redis hold 일괄 삭제 실패. TTL로 자동 만료 예정. count={}", holds.size(), e);
+		}
+	}
+
+	private String holdKey(Long accommodationId) {
+		return HOLD_KEY_PREFIX + accommodationId;
+	}
+
+	private List<String> nightFields(LocalDate checkIn, LocalDate checkOut) {
 		return checkIn.datesUntil(checkOut)
-			.map(date -> HOLD_KEY_PREFIX + accommodationId + ":" + date)
+			.map(date -> String.valueOf(date.toEpochDay()))
 			.toList();
 	}
 
+	public record HoldNights(Long accommodationId, LocalDate checkIn, LocalDate checkOut, String reservationUid) {
+	}
+
 }
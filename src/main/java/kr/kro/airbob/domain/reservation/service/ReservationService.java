@@ -1,8 +1,7 @@
 package kr.kro.airbob.domain.reservation.service;
 
-import java.util.List;
+import java.util.UUID;
 
-import org.redisson.api.RLock;
 import org.springframework.stereotype.Service;
 
 import kr.kro.airbob.cursor.dto.CursorRequest;
@@ -30,7 +29,6 @@ import lombok.extern.slf4j.Slf4j;
 public class ReservationService {
 
 	private final ReservationHoldService holdService;
-	private final ReservationLockManager lockManager;
 
 	private final ReservationTransactionService transactionService;
 	private final AccommodationRepository accommodationRepository;
@@ -49,34 +47,37 @@ public class ReservationService {
 			throw new ReservationOutsideBookingWindowException();
 		}
 
-		if (holdService.isAnyDateHeld(request.accommodationId(), request.checkInDate(), request.checkOutDate())) {
+		String holdOwner = UUID.randomUUID().toString();
+		if (!holdService.claimDates(
+			request.accommodationId(), request.checkInDate(), request.checkOutDate(), holdOwner)) {
 			throw new ReservationLockException();
 		}
 
-		List<String> lockKeys = DateLockKeyGenerator.generateLockKeys(request.accommodationId(), request.checkInDate(),
-			request.checkOutDate());
-		RLock lock = lockManager.acquireLocks(lockKeys);
-
+		Reservation reservation;
 		try {
-			Reservation reservation = transactionService.createPendingReservationInTx(
+			reservation = transactionService.createPendingReservationInTx(
 				request,
 				memberId,
 				"사용자 예약 생성"
 			);
+		} catch (RuntimeException e) {
+			holdService.releaseClaim(request.accommodationId(), request.checkInDate(), request.checkOutDate(), holdOwner);
+			throw e;
+		}
 
-			if (reservation.requiresPayment()) {
-				try {
-					holdService.holdDates(request.accommodationId(), request.checkInDate(), request.checkOutDate());
-				} catch (Exception e) {
-					log.error("Redis hold 설정 실패. DB 예약은 생성됨. accommodationId={}, checkIn={}, checkOut={}",
-						request.accommodationId(), request.checkInDate(), request.checkOutDate(), e);
-				}
+		if (reservation.requiresPayment()) {
+			try {
+				holdService.extendHold(request.accommodationId(), request.checkInDate(), request.checkOutDate(), holdOwner,
+					reservation.getReservationUid().toString());
+			} catch (Exception e) {
+				log.error("Redis hold 연장 실패. DB 예약은 생성됨. accommodationId={}, checkIn={}, checkOut={}",
+					request.accommodationId(), request.checkInDate(), request.checkOutDate(), e);
 			}
-
-			return ReservationResponse.Ready.from(reservation);
-		} finally {
-			lockManager.releaseLocks(lock);
+		} else {
+			holdService.releaseClaim(request.accommodationId(), request.checkInDate(), request.checkOutDate(), holdOwner);
 		}
+
+		return ReservationResponse.Ready.from(reservation);
 	}
 
 	public void cancelReservation(String reservationUid, PaymentRequest.Cancel request, Long memberId) {
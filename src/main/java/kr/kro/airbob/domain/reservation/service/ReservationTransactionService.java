@@ -3,6 +3,7 @@ package kr.kro.airbob.domain.reservation.service;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -54,8 +55,10 @@ import kr.kro.airbob.domain.reservation.exception.ReservationOutsideBookingWindo
 import kr.kro.airbob.domain.reservation.exception.ReservationOccupancyExceededException;
 import kr.kro.airbob.domain.reservation.policy.BookingWindow;
 import kr.kro.airbob.domain.reservation.policy.BookingWindowProvider;
+import kr.kro.airbob.domain.reservation.policy.ReservationInventoryLockPolicy;
 import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
 import kr.kro.airbob.domain.reservation.repository.ReservationHistoryRepository;
+import kr.kro.airbob.domain.reservation.repository.ReservationNightLedger;
 import kr.kro.airbob.domain.review.entity.ReviewStatus;
 import kr.kro.airbob.domain.review.repository.ReviewRepository;
 import kr.kro.airbob.outbox.EventType;
@@ -81,13 +84,14 @@ public class ReservationTransactionService {
 	private final ReservationHistoryRepository historyRepository;
 	private final CouponUsageService couponUsageService;
 	private final BookingWindowProvider bookingWindowProvider;
+	private final ReservationNightLedger nightLedger;
+	private final ReservationInventoryLockPolicy inventoryLockPolicy;
 	private final Clock clock;
 
 	@Transactional
 	public Reservation createPendingReservationInTx(ReservationRequest.Create request, Long memberId, String reason) {
 		Member guest = memberRepository.findByIdAndStatus(memberId, MemberStatus.ACTIVE).orElseThrow(MemberNotFoundException::new);
-		Accommodation accommodation = accommodationRepository.findByIdAndStatusForUpdate(
-			request.accommodationId(), AccommodationStatus.PUBLISHED)
+		Accommodation accommodation = lockAccommodationForBooking(request.accommodationId())
 			.orElseThrow(AccommodationNotFoundException::new);
 		validateOccupancy(accommodation, request.guestCount());
 		if (!request.checkOutDate().isAfter(request.checkInDate())) {
@@ -100,7 +104,7 @@ public class ReservationTransactionService {
 
 		Instant now = clock.instant();
 
-		if (reservationRepository.existsConflictingReservation(
+		if (!inventoryLockPolicy.usesLedger() && reservationRepository.existsConflictingReservation(
 			request.accommodationId(), request.checkInDate(), request.checkOutDate(), now)) {
 			throw new ReservationConflictException();
 		}
@@ -120,6 +124,7 @@ public class ReservationTransactionService {
 		if (!reservation.requiresPayment()) {
 			reservation.confirmComplimentary();
 		}
+		claimNights(reservation, now);
 
 		historyRepository.save(ReservationHistory.of(reservation, ChangeType.CREATE, reason));
 
@@ -141,6 +146,28 @@ public class ReservationTransactionService {
 		return reservation;
 	}
 
+	private Optional<Accommodation> lockAccommodationForBooking(Long accommodationId) {
+		if (inventoryLockPolicy.usesLedger()) {
+			return accommodationRepository.findByIdAndStatusForShare(accommodationId, AccommodationStatus.PUBLISHED);
+		}
+		return accommodationRepository.findByIdAndStatusForUpdate(accommodationId, AccommodationStatus.PUBLISHED);
+	}
+
+	private void claimNights(Reservation reservation, Instant now) {
+		// 확정 예약은 만료가 없으므로 다른 예약이 넘겨받을 수 없게 null로 기록
+		Instant holdExpiresAt = reservation.getStatus() == ReservationStatus.CONFIRMED
+			? null : reservation.getExpiresAt();
+		if (!inventoryLockPolicy.usesLedger()) {
+			nightLedger.overwrite(reservation.getAccommodation().getId(), reservation.getId(),
+				reservation.getCheckInDate(), reservation.getCheckOutDate(), holdExpiresAt, now);
+			return;
+		}
+		if (!nightLedger.claim(reservation.getAccommodation().getId(), reservation.getId(),
+			reservation.getCheckInDate(), reservation.getCheckOutDate(), holdExpiresAt, now)) {
+			throw new ReservationConflictException();
+		}
+	}
+
 	private void validateOccupancy(Accommodation accommodation, int guestCount) {
 		OccupancyPolicy occupancyPolicy = accommodation.getOccupancyPolicy();
 		if (occupancyPolicy == null
@@ -193,6 +220,7 @@ public class ReservationTransactionService {
 		if (!reservation.cancelComplimentary()) {
 			return;
 		}
+		nightLedger.release(reservation.getId());
 		couponUsageService.restore(reservation.getId());
 		historyRepository.save(ReservationHistory.ofSystem(
 			reservation, ChangeType.CANCEL, reason, "RESERVATION"));
@@ -205,7 +233,8 @@ public class ReservationTransactionService {
 			new ReservationEvent.ReservationConfirmedEvent(
 				reservation.getAccommodation().getId(),
 				reservation.getCheckInDate(),
-				reservation.getCheckOutDate()));
+				reservation.getCheckOutDate(),
+				reservation.getReservationUid().toString()));
 		publishReservationChanged(reservation);
 	}
 
@@ -227,6 +256,7 @@ public class ReservationTransactionService {
 		}
 		reservation.completeCancellation();
 
+		nightLedger.release(reservation.getId());
 		couponUsageService.restore(reservation.getId());
 		historyRepository.save(ReservationHistory.ofSystem(
 			reservation, ChangeType.CANCEL, "PG 결제 취소 성공", "KAFKA"));
@@ -290,10 +320,20 @@ public class ReservationTransactionService {
 		}
 
 		reservation.recoverLegacyCancellationFailure();
+		reclaimNights(reservation);
 		couponUsageService.reuse(reservation.getId());
 		recordCancellationFailure(reservation, reason);
 	}
 
+	private void reclaimNights(Reservation reservation) {
+		// 결제가 유지된 예약이므로 되돌리지 않고, 그사이 다른 예약이 선점한 날짜는 운영자가 확인하도록 남김
+		if (!nightLedger.claim(reservation.getAccommodation().getId(), reservation.getId(),
+			reservation.getCheckInDate(), reservation.getCheckOutDate(), null, clock.instant())) {
+			log.warn("[레거시 취소 실패] 숙박일 일부가 다른 예약에 선점되어 있습니다. UID: {}",
+				reservation.getReservationUid());
+		}
+	}
+
 	private void recordCancellationFailure(Reservation reservation, String reason) {
 
 		historyRepository.save(ReservationHistory.ofSystem(reservation, ChangeType.STATUS_CHANGE,
@@ -0,0 +1,25 @@
+package kr.kro.airbob.domain.review.dto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// 요약 행과 아직 롤업되지 않은 stripe 증감분을 합친 값. 평균은 요약 행과 같은 규칙(소수 둘째 자리 반올림)으로 계산
+public record ReviewSummaryTotals(
+	long accommodationId,
+	long totalReviewCount,
+	long ratingSum
+) {
+	public BigDecimal averageRating() {
+		if (totalReviewCount <= 0) {
+			return BigDecimal.ZERO;
+		}
+		return BigDecimal.valueOf(ratingSum).divide(BigDecimal.valueOf(totalReviewCount), 2, RoundingMode.HALF_UP);
+	}
+
+	public ReviewResponse.ReviewSummary toReviewSummary() {
+		if (totalReviewCount <= 0) {
+			return ReviewResponse.ReviewSummary.of(null, null);
+		}
+		return ReviewResponse.ReviewSummary.of(Math.toIntExact(totalReviewCount), averageRating());
+	}
+}
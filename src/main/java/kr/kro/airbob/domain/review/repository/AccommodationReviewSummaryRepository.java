@@ -69,4 +69,21 @@ public interface AccommodationReviewSummaryRepository extends JpaRepository<Acco
 		""", nativeQuery = true)
 	void applyRatingChange(@Param("accommodationId") Long accommodationId,
 		@Param("oldRating") int oldRating, @Param("newRating") int newRating);
+
+	// stripe 롤업: 합산된 증감분을 한 번에 반영. 0건이 된 행 제거는 deleteIfEmpty 로.
+	@Modifying
+	@Query(value = """
+		INSERT INTO accommodation_review_summary
+			(accommodation_id, total_review_count, rating_sum, average_rating, created_at, updated_at)
+		VALUES (:accommodationId, :countDelta, :ratingDelta,
+				CASE WHEN :countDelta <= 0 THEN 0 ELSE ROUND(:ratingDelta / :countDelta, 2) END, NOW(6), NOW(6))
+		ON DUPLICATE KEY UPDATE
+			average_rating     = CASE WHEN total_review_count + :countDelta <= 0 THEN 0
+									  ELSE ROUND((rating_sum + :ratingDelta) / (total_review_count + :countDelta), 2) END,
+			total_review_count = total_review_count + :countDelta,
+			rating_sum         = rating_sum + :ratingDelta,
+			updated_at         = NOW(6)
+		""", nativeQuery = true)
+	void applyDelta(@Param("accommodationId") Long accommodationId,
+		@Param("countDelta") long countDelta, @Param("ratingDelta") long ratingDelta);
 }
@@ -0,0 +1,118 @@
+package kr.kro.airbob.domain.review.repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import kr.kro.airbob.domain.review.dto.ReviewSummaryTotals;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 요약 증감분을 숙소별 stripe 행에 쌓고, 요약 행과 합친 값을 읽는다.
+ * 합산 조회는 요약 행과 stripe 행을 한 문장(UNION ALL)으로 읽으므로 롤업 트랜잭션 전후 어느 쪽이든 같은 값을 본다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewSummaryStripeRepository {
+
+	private static final String APPLY_DELTA_SQL = """
+		INSERT INTO accommodation_review_summary_stripe
+			(accommodation_id, stripe, review_count, rating_sum, updated_at)
+		VALUES (?, ?, ?, ?, NOW(6))
+		ON DUPLICATE KEY UPDATE
+			review_count = review_count + ?,
+			rating_sum   = rating_sum + ?,
+			updated_at   = NOW(6)
+		""";
+
+	private static final String MERGED_TOTALS_SQL = """
+		SELECT t.accommodation_id, SUM(t.review_count) AS review_count, SUM(t.rating_sum) AS rating_sum
+		FROM (
+			SELECT accommodation_id, total_review_count AS review_count, rating_sum
+			FROM accommodation_review_summary WHERE accommodation_id IN (%1$s)
+			UNION ALL
+			SELECT accommodation_id, review_count, rating_sum
+			FROM accommodation_review_summary_stripe WHERE accommodation_id IN (%1$s)
+		) t
+		GROUP BY t.accommodation_id
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void applyDelta(Long accommodationId, int stripe, int reviewCountDelta, long ratingSumDelta) {
+		jdbcTemplate.update(APPLY_DELTA_SQL,
+			accommodationId, stripe, reviewCountDelta, ratingSumDelta, reviewCountDelta, ratingSumDelta);
+	}
+
+	// 롤업 대상: 증감분이 남아 있는 숙소
+	public List<Long> findPendingAccommodationIds(int limit) {
+		return jdbcTemplate.queryForList("""
+			SELECT DISTINCT accommodation_id FROM accommodation_review_summary_stripe
+			ORDER BY accommodation_id LIMIT ?
+			""", Long.class, limit);
+	}
+
+	// 롤업 트랜잭션 안에서 숙소의 stripe 행을 잠그고 합계를 읽는다. 행이 없으면 empty
+	public Optional<ReviewSummaryTotals> lockPendingDelta(Long accommodationId) {
+		return jdbcTemplate.query("""
+				SELECT COUNT(*) AS stripe_count, COALESCE(SUM(review_count), 0) AS review_count,
+					COALESCE(SUM(rating_sum), 0) AS rating_sum
+				FROM accommodation_review_summary_stripe
+				WHERE accommodation_id = ?
+				FOR UPDATE
+				""",
+			resultSet -> {
+				resultSet.next();
+				if (resultSet.getLong("stripe_count") == 0) {
+					return Optional.<ReviewSummaryTotals>empty();
+				}
+				return Optional.of(new ReviewSummaryTotals(
+					accommodationId, resultSet.getLong("review_count"), resultSet.getLong("rating_sum")));
+			},
+			accommodationId);
+	}
+
+	public void deleteByAccommodationId(Long accommodationId) {
+		jdbcTemplate.update(
+			"DELETE FROM accommodation_review_summary_stripe WHERE accommodation_id = ?", accommodationId);
+	}
+
+	// 요약 행과 stripe 행이 모두 없는 숙소는 결과에서 빠진다
+	public Map<Long, ReviewSummaryTotals> findMergedTotals(Collection<Long> accommodationIds) {
+		if (accommodationIds == null || accommodationIds.isEmpty()) {
+			return Map.of();
+		}
+		List<Long> ids = List.copyOf(accommodationIds);
+		String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+		Object[] args = new Object[ids.size() * 2];
+		for (int i = 0; i < ids.size(); i++) {
+			args[i] = ids.get(i);
+			args[ids.size() + i] = ids.get(i);
+		}
+
+		Map<Long, ReviewSummaryTotals> totals = new LinkedHashMap<>();
+		jdbcTemplate.query(MERGED_TOTALS_SQL.formatted(placeholders), resultSet -> {
+			long accommodationId = resultSet.getLong("accommodation_id");
+			totals.put(accommodationId, new ReviewSummaryTotals(
+				accommodationId, resultSet.getLong("review_count"), resultSet.getLong("rating_sum")));
+		}, args);
+		return totals;
+	}
+
+	public Optional<ReviewSummaryTotals> findMergedTotalsByAccommodationUid(UUID accommodationUid) {
+		List<Long> ids = jdbcTemplate.queryForList(
+			"SELECT id FROM accommodation WHERE accommodation_uid = UUID_TO_BIN(?)",
+			Long.class, accommodationUid.toString());
+		if (ids.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(findMergedTotals(ids).get(ids.get(0)));
+	}
+}
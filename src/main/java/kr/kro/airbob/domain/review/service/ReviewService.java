@@ -53,6 +53,7 @@ import kr.kro.airbob.domain.review.exception.ReviewUpdateForbiddenException;
 import kr.kro.airbob.domain.review.repository.AccommodationReviewSummaryRepository;
 import kr.kro.airbob.domain.review.repository.ReviewImageRepository;
 import kr.kro.airbob.domain.review.repository.ReviewRepository;
+import kr.kro.airbob.domain.review.summary.ReviewSummaryStripeCounter;
 import kr.kro.airbob.outbox.EventType;
 import kr.kro.airbob.outbox.OutboxEventPublisher;
 import lombok.RequiredArgsConstructor;
@@ -72,6 +73,7 @@ public class ReviewService {
 	private final ReservationRepository reservationRepository;
 	private final AccommodationRepository accommodationRepository;
 	private final AccommodationReviewSummaryRepository summaryRepository;
+	private final ReviewSummaryStripeCounter summaryStripeCounter;
 
 	private final CursorPageInfoCreator cursorPageInfoCreator;
 	private final OutboxEventPublisher outboxEventPublisher;
@@ -120,7 +122,7 @@ public class ReviewService {
 		if (request.rating() != null && !request.rating().equals(review.getRating())) {
 			int oldRating = review.getRating();
 			review.updateRating(request.rating());
-			summaryRepository.applyRatingChange(review.getAccommodation().getId(), oldRating, request.rating());
+			updateReviewSummaryOnRatingChange(review.getAccommodation().getId(), oldRating, request.rating());
 			outboxEventPublisher.save(
 				EventType.REVIEW_SUMMARY_CHANGED,
 				new ReviewSummaryChangedEvent(review.getAccommodation().getAccommodationUid().toString())
@@ -216,9 +218,12 @@ public class ReviewService {
 		return new ReviewResponse.ReviewInfos(reviewInfos, pageInfo);
 	}
 
-	// 운영 읽기 경로(after): 반정규화 요약 테이블만 조회한다.
+	// 운영 읽기 경로(after): 반정규화 요약 테이블만 조회한다. stripe 모드에서는 롤업 전 증감분을 합친다.
 	@Transactional(readOnly = true)
 	public ReviewResponse.ReviewSummary findReviewSummary(Long accommodationId) {
+		if (summaryStripeCounter.enabled()) {
+			return summaryStripeCounter.find(accommodationId);
+		}
 		AccommodationReviewSummary summary = summaryRepository.findByAccommodationId(accommodationId)
 			.orElse(null);
 		return ReviewResponse.ReviewSummary.of(summary);
@@ -321,11 +326,28 @@ public class ReviewService {
 	}
 
 	private void updateReviewSummaryOnCreate(Accommodation accommodation, int rating) {
+		// stripe 모드: 요약 행 대신 임의 stripe 행에 증감분만 쌓고 롤업 배치가 합친다
+		if (summaryStripeCounter.enabled()) {
+			summaryStripeCounter.record(accommodation.getId(), 1, rating);
+			return;
+		}
 		// 원자적 upsert: 행이 없으면 INSERT, 있으면 증가. 동시성/첫 리뷰 PK 중복 모두 안전.
 		summaryRepository.applyNewReview(accommodation.getId(), rating);
 	}
 
+	private void updateReviewSummaryOnRatingChange(Long accommodationId, int oldRating, int newRating) {
+		if (summaryStripeCounter.enabled()) {
+			summaryStripeCounter.record(accommodationId, 0, newRating - oldRating);
+			return;
+		}
+		summaryRepository.applyRatingChange(accommodationId, oldRating, newRating);
+	}
+
 	private void updateReviewSummaryOnDelete(Long accommodationId, int rating) {
+		if (summaryStripeCounter.enabled()) {
+			summaryStripeCounter.record(accommodationId, -1, -rating);
+			return;
+		}
 		summaryRepository.removeReview(accommodationId, rating);
 		summaryRepository.deleteIfEmpty(accommodationId);
 	}
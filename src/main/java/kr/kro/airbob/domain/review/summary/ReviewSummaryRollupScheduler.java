@@ -0,0 +1,24 @@
+package kr.kro.airbob.domain.review.summary;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 리뷰 요약 stripe 롤업 배치. stripe 모드를 끈 뒤에도 남은 증감분을 비우도록 설정과 무관하게 돈다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewSummaryRollupScheduler {
+
+	private final ReviewSummaryRollupService rollupService;
+
+	@Scheduled(fixedDelayString = "${review.summary.stripe.rollup-delay:5s}")
+	public void rollup() {
+		int rolledUp = rollupService.rollupPending();
+		if (rolledUp > 0) {
+			log.debug("리뷰 요약 롤업 완료: accommodations={}", rolledUp);
+		}
+	}
+}
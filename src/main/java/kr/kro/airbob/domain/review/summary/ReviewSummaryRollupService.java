@@ -0,0 +1,83 @@
+package kr.kro.airbob.domain.review.summary;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.kro.airbob.domain.review.dto.ReviewSummaryTotals;
+import kr.kro.airbob.domain.review.repository.AccommodationReviewSummaryRepository;
+import kr.kro.airbob.domain.review.repository.ReviewSummaryStripeRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * stripe 행에 쌓인 리뷰 요약 증감분을 요약 행으로 옮긴다.
+ * 숙소 하나를 한 트랜잭션으로 처리해 stripe 잠금 → 요약 upsert → stripe 삭제가 함께 커밋되므로,
+ * 합산 조회는 롤업 전후 같은 값을 보고 여러 노드가 동시에 돌아도 증감분이 두 번 반영되지 않는다.
+ */
+@Slf4j
+@Service
+public class ReviewSummaryRollupService {
+
+	public static final String ROLLED_UP_TOTAL = "review.summary.rollup.accommodations";
+
+	private final ReviewSummaryStripeRepository stripeRepository;
+	private final AccommodationReviewSummaryRepository summaryRepository;
+	private final ReviewSummaryStripeProperties properties;
+	private final PlatformTransactionManager transactionManager;
+	private final Counter rolledUpCounter;
+
+	public ReviewSummaryRollupService(
+		ReviewSummaryStripeRepository stripeRepository,
+		AccommodationReviewSummaryRepository summaryRepository,
+		ReviewSummaryStripeProperties properties,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry
+	) {
+		this.stripeRepository = stripeRepository;
+		this.summaryRepository = summaryRepository;
+		this.properties = properties;
+		this.transactionManager = transactionManager;
+		this.rolledUpCounter = Counter.builder(ROLLED_UP_TOTAL)
+			.description("Accommodations whose striped review deltas were merged into the summary row")
+			.register(meterRegistry);
+	}
+
+	// 증감분이 남은 숙소를 batch 크기만큼 롤업하고 처리한 숙소 수를 돌려준다
+	public int rollupPending() {
+		List<Long> accommodationIds = stripeRepository.findPendingAccommodationIds(properties.rollupBatchSize());
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		int rolledUp = 0;
+		for (Long accommodationId : accommodationIds) {
+			try {
+				if (Boolean.TRUE.equals(transaction.execute(status -> rollup(accommodationId)))) {
+					rolledUp++;
+				}
+			} catch (RuntimeException e) {
+				// 실패한 숙소의 증감분은 stripe에 그대로 남아 다음 주기에 다시 롤업된다
+				log.warn("리뷰 요약 롤업 실패: accommodationId={}", accommodationId, e);
+			}
+		}
+		if (rolledUp > 0) {
+			rolledUpCounter.increment(rolledUp);
+		}
+		return rolledUp;
+	}
+
+	private boolean rollup(Long accommodationId) {
+		// 다른 노드가 먼저 롤업했다면 잠금 해제 후 행이 없다
+		ReviewSummaryTotals delta = stripeRepository.lockPendingDelta(accommodationId).orElse(null);
+		if (delta == null) {
+			return false;
+		}
+		if (delta.totalReviewCount() != 0 || delta.ratingSum() != 0) {
+			summaryRepository.applyDelta(accommodationId, delta.totalReviewCount(), delta.ratingSum());
+			summaryRepository.deleteIfEmpty(accommodationId);
+		}
+		stripeRepository.deleteByAccommodationId(accommodationId);
+		return true;
+	}
+}
@@ -0,0 +1,12 @@
+package kr.kro.airbob.domain.review.summary;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 리뷰 요약 stripe 정책 값을 애플리케이션 빈으로 등록
+ */
+@Configuration
+@EnableConfigurationProperties(ReviewSummaryStripeProperties.class)
+public class ReviewSummaryStripeConfiguration {
+}
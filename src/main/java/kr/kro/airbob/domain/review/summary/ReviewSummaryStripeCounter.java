@@ -0,0 +1,62 @@
+package kr.kro.airbob.domain.review.summary;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Component;
+
+import kr.kro.airbob.domain.review.dto.ReviewResponse;
+import kr.kro.airbob.domain.review.dto.ReviewSummaryTotals;
+import kr.kro.airbob.domain.review.repository.ReviewSummaryStripeRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 작성·수정·삭제의 요약 증감분을 숙소별 stripe 행 중 하나에 쌓는다.
+ * 같은 숙소의 동시 작성자는 서로 다른 행 락을 잡으므로 요약 행 하나에 줄 서지 않는다.
+ * 조회는 요약 행과 아직 롤업되지 않은 증감분을 합친 값을 돌려준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewSummaryStripeCounter {
+
+	private final ReviewSummaryStripeRepository stripeRepository;
+	private final ReviewSummaryStripeProperties properties;
+
+	public boolean enabled() {
+		return properties.enabled();
+	}
+
+	public void record(Long accommodationId, int reviewCountDelta, int ratingSumDelta) {
+		if (reviewCountDelta == 0 && ratingSumDelta == 0) {
+			return;
+		}
+		int stripe = ThreadLocalRandom.current().nextInt(properties.stripes());
+		stripeRepository.applyDelta(accommodationId, stripe, reviewCountDelta, ratingSumDelta);
+	}
+
+	public ReviewResponse.ReviewSummary find(Long accommodationId) {
+		ReviewSummaryTotals totals = stripeRepository.findMergedTotals(List.of(accommodationId))
+			.get(accommodationId);
+		return toReviewSummary(totals);
+	}
+
+	public ReviewResponse.ReviewSummary findByAccommodationUid(UUID accommodationUid) {
+		return toReviewSummary(stripeRepository.findMergedTotalsByAccommodationUid(accommodationUid).orElse(null));
+	}
+
+	// 리뷰가 없는 숙소는 결과에서 빠진다
+	public Map<Long, ReviewResponse.ReviewSummary> findAll(Collection<Long> accommodationIds) {
+		Map<Long, ReviewResponse.ReviewSummary> summaries = new LinkedHashMap<>();
+		stripeRepository.findMergedTotals(accommodationIds)
+			.forEach((accommodationId, totals) -> summaries.put(accommodationId, totals.toReviewSummary()));
+		return summaries;
+	}
+
+	private ReviewResponse.ReviewSummary toReviewSummary(ReviewSummaryTotals totals) {
+		return totals == null ? ReviewResponse.ReviewSummary.of(null, null) : totals.toReviewSummary();
+	}
+}
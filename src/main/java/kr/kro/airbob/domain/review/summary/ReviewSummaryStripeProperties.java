@@ -0,0 +1,23 @@
+package kr.kro.airbob.domain.review.summary;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+
+/**
+ * 리뷰 요약 stripe 증감 모델 사용 여부와 분산 폭을 정의
+ *
+ * @param enabled false면 리뷰 작성이 요약 행을 직접 원자적으로 갱신
+ * @param stripes 숙소별 증감 행 수. 한 숙소의 동시 작성자가 나눠 잡는 락 수
+ * @param rollupBatchSize 롤업 한 번에 처리할 숙소 수
+ */
+@ConfigurationProperties(prefix = "review.summary.stripe")
+public record ReviewSummaryStripeProperties(
+	boolean enabled,
+	int stripes,
+	int rollupBatchSize
+) {
+	public ReviewSummaryStripeProperties {
+		Assert.isTrue(stripes > 0, "review.summary.stripe.stripes must be positive");
+		Assert.isTrue(rollupBatchSize > 0, "review.summary.stripe.rollup-batch-size must be positive");
+	}
+}
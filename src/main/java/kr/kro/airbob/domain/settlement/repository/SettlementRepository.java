@@ -57,6 +57,17 @@ public interface SettlementRepository extends JpaRepository<Settlement, Long> {
 	List<HostMonthlyAggregate> aggregateByHostForMonth(@Param("monthStart") LocalDate monthStart,
 		@Param("monthEnd") LocalDate monthEnd);
 
+	// 월별 호스트 매출 (누적 집계 사용 시): host_monthly_revenue 행을 그대로 읽는다
+	@Query(value = """
+		SELECT host_id AS hostId,
+			gross_amount  AS grossAmount,
+			refund_amount AS refundAmount,
+			net_amount    AS netAmount
+		FROM host_monthly_revenue
+		WHERE revenue_month = :monthStart
+		""", nativeQuery = true)
+	List<HostMonthlyAggregate> findRunningAggregatesForMonth(@Param("monthStart") LocalDate monthStart);
+
 	// 정산 상세: 특정 호스트의 한 달 매출을 숙소별로 분해
 	@Query(value = """
 		SELECT t.accommodation_id AS accommodationId,
@@ -29,6 +29,7 @@ import kr.kro.airbob.domain.settlement.exception.SettlementMonthNotClosedExcepti
 import kr.kro.airbob.domain.settlement.exception.SettlementNotFoundException;
 import kr.kro.airbob.domain.settlement.repository.SettlementHistoryRepository;
 import kr.kro.airbob.domain.settlement.repository.SettlementRepository;
+import kr.kro.airbob.domain.statistics.aggregation.IncrementalRevenueAggregator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -45,6 +46,7 @@ public class SettlementService {
 	private final SettlementHistoryRepository settlementHistoryRepository;
 	private final RedissonClient redissonClient;
 	private final PlatformTransactionManager transactionManager;
+	private final IncrementalRevenueAggregator revenueAggregator;
 	private final Clock clock;
 
 	@Value("${settlement.commission-rate:0.03}")
@@ -61,6 +63,10 @@ public class SettlementService {
 				log.warn("정산 생성 락 획득 실패(다른 노드 처리 중 추정) → skip: month={}", month);
 				return;
 			}
+			// 누적 집계를 쓰면 남은 원장을 먼저 반영하고, 커서가 건너뛴 늦은 커밋 원장까지 담도록
+			// 월 누적 행을 커서 이하 원장으로 다시 맞춘 뒤 확정한다
+			revenueAggregator.foldPending();
+			revenueAggregator.reconcileMonth(month);
 			new TransactionTemplate(transactionManager).executeWithoutResult(status -> generateMonthInTx(month));
 		} catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
@@ -87,7 +93,9 @@ public class SettlementService {
 		LocalDate monthStart = month.atDay(1);
 		LocalDate monthEnd = month.atEndOfMonth();
 
-		List<HostMonthlyAggregate> aggregates = settlementRepository.aggregateByHostForMonth(monthStart, monthEnd);
+		List<HostMonthlyAggregate> aggregates = revenueAggregator.enabled()
+			? settlementRepository.findRunningAggregatesForMonth(monthStart)
+			: settlementRepository.aggregateByHostForMonth(monthStart, monthEnd);
 		for (HostMonthlyAggregate aggregate : aggregates) {
 			upsertPending(aggregate, monthStart);
 		}
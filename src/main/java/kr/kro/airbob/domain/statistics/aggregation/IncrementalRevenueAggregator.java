@@ -0,0 +1,161 @@
+package kr.kro.airbob.domain.statistics.aggregation;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.kro.airbob.domain.statistics.repository.RevenueAggregationRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 거래 원장을 커서(last_transaction_id) 이후부터 PK 순서로 읽어 일일·월 매출 누적 행에 더한다.
+ * 한 배치의 누적 반영과 커서 이동이 같은 트랜잭션에서 커밋되므로 재시작·동시 실행에도 두 번 반영되지 않는다.
+ * safety-lag 보다 최근 행에서 멈춰, 늦게 커밋되는 작은 id 를 건너뛸 가능성을 줄인다.
+ */
+@Slf4j
+@Service
+public class IncrementalRevenueAggregator {
+
+	public static final String FOLDED_TOTAL = "revenue.aggregation.transactions";
+
+	private final RevenueAggregationRepository repository;
+	private final RevenueAggregationProperties properties;
+	private final PlatformTransactionManager transactionManager;
+	private final Clock clock;
+	private final Counter foldedCounter;
+
+	public IncrementalRevenueAggregator(
+		RevenueAggregationRepository repository,
+		RevenueAggregationProperties properties,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		Clock clock
+	) {
+		this.repository = repository;
+		this.properties = properties;
+		this.transactionManager = transactionManager;
+		this.clock = clock;
+		this.foldedCounter = Counter.builder(FOLDED_TOTAL)
+			.description("Payment ledger rows folded into running revenue aggregates")
+			.register(meterRegistry);
+	}
+
+	public boolean enabled() {
+		return properties.enabled();
+	}
+
+	// 쌓인 원장을 모두 반영하고 커서를 넘긴 행 수를 돌려준다
+	public int foldPending() {
+		if (!enabled()) {
+			return 0;
+		}
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		int folded = 0;
+		BatchResult batch;
+		do {
+			batch = transaction.execute(status -> foldBatch());
+			folded += batch.folded();
+		} while (batch.hasMore());
+		if (folded > 0) {
+			foldedCounter.increment(folded);
+		}
+		return folded;
+	}
+
+	/**
+	 * 한 달의 월 누적 행을 커서 이하 원장으로 다시 만든다.
+	 * 커서 이후 행은 이어서 누적 집계가 더하므로 두 번 반영되지 않는다. 커서가 없으면 기준선 재구성에 맡긴다
+	 */
+	public void reconcileMonth(YearMonth month) {
+		if (!enabled()) {
+			return;
+		}
+		new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+			repository.lockCursor().ifPresent(cursor -> {
+				int hosts = repository.rebuildMonthlyAggregates(month.atDay(1), month.atEndOfMonth(), cursor);
+				log.info("월 매출 누적 행 재집계: month={}, lastTransactionId={}, hosts={}", month, cursor, hosts);
+			}));
+	}
+
+	private BatchResult foldBatch() {
+		Optional<Long> cursor = repository.lockCursor();
+		if (cursor.isEmpty()) {
+			// 기준선 이후 행은 다음 배치에서 이어서 반영한다
+			return new BatchResult(0, rebuildBaseline());
+		}
+
+		LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.safetyLag());
+		List<RevenueLedgerEntry> entries = repository.findLedgerAfter(cursor.get(), properties.batchSize());
+		Map<DailyKey, RevenueBucketDelta> daily = new LinkedHashMap<>();
+		Map<MonthlyKey, RevenueBucketDelta> monthly = new LinkedHashMap<>();
+		long lastTransactionId = cursor.get();
+		int folded = 0;
+		for (RevenueLedgerEntry entry : entries) {
+			if (entry.createdAt().isAfter(cutoff)) {
+				break;
+			}
+			entry.toDelta().ifPresent(delta -> {
+				daily.merge(new DailyKey(delta.statDate(), delta.accommodationId()), delta, RevenueBucketDelta::plus);
+				RevenueBucketDelta monthDelta = atMonthStart(delta);
+				monthly.merge(new MonthlyKey(monthDelta.statDate(), monthDelta.hostId()), monthDelta,
+					RevenueBucketDelta::plus);
+			});
+			lastTransactionId = entry.id();
+			folded++;
+		}
+		if (folded == 0) {
+			return new BatchResult(0, false);
+		}
+		repository.applyDailyDeltas(daily.values());
+		repository.applyMonthlyDeltas(monthly.values());
+		repository.moveCursor(lastTransactionId);
+		// 배치가 가득 찼고 safety-lag 에서 멈추지 않았을 때만 남은 행이 있을 수 있다
+		return new BatchResult(folded, folded == properties.batchSize());
+	}
+
+	// 커서 행이 없으면 현재 원장 끝을 기준선으로 잡고 누적 행을 다시 만든다.
+	// 먼저 INSERT 한 노드만 재구성하고, 나머지는 그 트랜잭션이 끝날 때까지 INSERT IGNORE 에서 기다린 뒤 빠진다
+	private boolean rebuildBaseline() {
+		long baselineId = repository.findMaxTransactionId();
+		if (!repository.initializeCursor(baselineId)) {
+			return true;
+		}
+		repository.clearAggregates();
+		List<RevenueBucketDelta> baseline = repository.findBaseline(baselineId);
+		Map<MonthlyKey, RevenueBucketDelta> monthly = new LinkedHashMap<>();
+		for (RevenueBucketDelta delta : baseline) {
+			RevenueBucketDelta monthDelta = atMonthStart(delta);
+			monthly.merge(new MonthlyKey(monthDelta.statDate(), monthDelta.hostId()), monthDelta,
+				RevenueBucketDelta::plus);
+		}
+		repository.applyDailyDeltas(baseline);
+		repository.applyMonthlyDeltas(monthly.values());
+		log.info("매출 누적 집계 기준선 재구성: lastTransactionId={}, buckets={}", baselineId, baseline.size());
+		return true;
+	}
+
+	private static RevenueBucketDelta atMonthStart(RevenueBucketDelta delta) {
+		return new RevenueBucketDelta(delta.statDate().withDayOfMonth(1), null, delta.hostId(),
+			delta.grossAmount(), delta.refundAmount(), delta.paymentCount(), delta.refundCount());
+	}
+
+	private record BatchResult(int folded, boolean hasMore) {
+	}
+
+	private record DailyKey(LocalDate statDate, Long accommodationId) {
+	}
+
+	private record MonthlyKey(LocalDate revenueMonth, Long hostId) {
+	}
+}
@@ -0,0 +1,12 @@
+package kr.kro.airbob.domain.statistics.aggregation;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 결제 거래 원장 누적 집계 정책 값을 애플리케이션 빈으로 등록
+ */
+@Configuration
+@EnableConfigurationProperties(RevenueAggregationProperties.class)
+public class RevenueAggregationConfiguration {
+}
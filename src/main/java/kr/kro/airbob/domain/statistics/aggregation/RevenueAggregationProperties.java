@@ -0,0 +1,26 @@
+package kr.kro.airbob.domain.statistics.aggregation;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+
+/**
+ * 결제 거래 원장 누적 집계 사용 여부와 읽기 범위를 정의
+ *
+ * @param enabled false면 일일 집계·월 정산이 원장을 매번 다시 집계
+ * @param batchSize 한 트랜잭션에서 읽을 원장 행 수
+ * @param safetyLag 이보다 최근에 만들어진 행은 아직 커밋 중일 수 있어 다음 주기로 미룸
+ */
+@ConfigurationProperties(prefix = "revenue.incremental-aggregation")
+public record RevenueAggregationProperties(
+	boolean enabled,
+	int batchSize,
+	Duration safetyLag
+) {
+	public RevenueAggregationProperties {
+		Assert.isTrue(batchSize > 0, "revenue.incremental-aggregation.batch-size must be positive");
+		Assert.notNull(safetyLag, "revenue.incremental-aggregation.safety-lag must not be null");
+		Assert.isTrue(!safetyLag.isNegative(), "revenue.incremental-aggregation.safety-lag must not be negative");
+	}
+}
@@ -0,0 +1,26 @@
+package kr.kro.airbob.domain.statistics.aggregation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 결제 거래 원장 누적 집계 배치. 커서 잠금으로 직렬화되므로 여러 노드가 함께 돌아도 된다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "revenue.incremental-aggregation.enabled", havingValue = "true")
+public class RevenueAggregationScheduler {
+
+	private final IncrementalRevenueAggregator aggregator;
+
+	@Scheduled(fixedDelayString = "${revenue.incremental-aggregation.fold-delay:10s}")
+	public void fold() {
+		int folded = aggregator.foldPending();
+		if (folded > 0) {
+			log.debug("매출 누적 집계 반영: transactions={}", folded);
+		}
+	}
+}
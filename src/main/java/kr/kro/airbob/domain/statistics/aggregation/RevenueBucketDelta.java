@@ -0,0 +1,32 @@
+package kr.kro.airbob.domain.statistics.aggregation;
+
+import java.time.LocalDate;
+
+// (일자, 숙소, 호스트) 버킷에 더할 매출 증감분. 원장 한 행 또는 기준선 집계 한 줄에서 만든다
+public record RevenueBucketDelta(
+	LocalDate statDate,
+	Long accommodationId,
+	Long hostId,
+	long grossAmount,
+	long refundAmount,
+	int paymentCount,
+	int refundCount
+) {
+	public static RevenueBucketDelta gross(LocalDate statDate, Long accommodationId, Long hostId, long amount) {
+		return new RevenueBucketDelta(statDate, accommodationId, hostId, amount, 0L, 1, 0);
+	}
+
+	public static RevenueBucketDelta refund(LocalDate statDate, Long accommodationId, Long hostId, long amount) {
+		return new RevenueBucketDelta(statDate, accommodationId, hostId, 0L, amount, 0, 1);
+	}
+
+	public long netAmount() {
+		return grossAmount - refundAmount;
+	}
+
+	public RevenueBucketDelta plus(RevenueBucketDelta other) {
+		return new RevenueBucketDelta(statDate, accommodationId, hostId,
+			grossAmount + other.grossAmount, refundAmount + other.refundAmount,
+			paymentCount + other.paymentCount, refundCount + other.refundCount);
+	}
+}
@@ -0,0 +1,35 @@
+package kr.kro.airbob.domain.statistics.aggregation;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import kr.kro.airbob.domain.payment.entity.PaymentTransactionType;
+
+/**
+ * 누적 집계가 읽는 결제 거래 원장 한 행.
+ * 예약/숙소가 없는 행은 기존 원장 집계(INNER JOIN)와 같게 버킷에서 뺀다.
+ */
+public record RevenueLedgerEntry(
+	long id,
+	PaymentTransactionType transactionType,
+	long amount,
+	long cancelAmount,
+	LocalDateTime createdAt,
+	LocalDate createdDate,
+	LocalDate refundDate,
+	Long accommodationId,
+	Long hostId
+) {
+	public Optional<RevenueBucketDelta> toDelta() {
+		if (accommodationId == null) {
+			return Optional.empty();
+		}
+		return switch (transactionType) {
+			case CONFIRM -> Optional.of(RevenueBucketDelta.gross(createdDate, accommodationId, hostId, amount));
+			case CANCEL, PARTIAL_CANCEL ->
+				Optional.of(RevenueBucketDelta.refund(refundDate, accommodationId, hostId, cancelAmount));
+			default -> Optional.empty();
+		};
+	}
+}
@@ -52,6 +52,36 @@ public interface DailyRevenueStatsRepository
 		""", nativeQuery = true)
 	void aggregateForDate(@Param("d") LocalDate d);
 
+	// 누적 집계 사용 중 재집계: 커서(lastTransactionId) 이후 행은 누적 집계가 더할 몫이라 빼고 집계한다
+	@Modifying
+	@Query(value = """
+		INSERT INTO daily_revenue_stats
+			(stat_date, accommodation_id, gross_amount, refund_amount, net_amount,
+			 payment_count, refund_count, created_at, updated_at)
+		SELECT :d, t.accommodation_id,
+			SUM(t.gross), SUM(t.refund), SUM(t.gross) - SUM(t.refund),
+			SUM(t.gcount), SUM(t.rcount), NOW(6), NOW(6)
+		FROM (
+			SELECT r.accommodation_id AS accommodation_id,
+				COALESCE(pt.amount, 0) AS gross, 0 AS refund, 1 AS gcount, 0 AS rcount
+			FROM payment_transaction pt
+			JOIN reservation r ON r.id = pt.reservation_id
+			WHERE pt.transaction_type = 'CONFIRM'
+			  AND DATE(pt.created_at) = :d
+			  AND pt.id <= :lastTransactionId
+			UNION ALL
+			SELECT r.accommodation_id,
+				0, COALESCE(pt.cancel_amount, 0), 0, 1
+			FROM payment_transaction pt
+			JOIN reservation r ON r.id = pt.reservation_id
+			WHERE pt.transaction_type IN ('CANCEL', 'PARTIAL_CANCEL')
+			  AND DATE(COALESCE(pt.canceled_at, pt.created_at)) = :d
+			  AND pt.id <= :lastTransactionId
+		) t
+		GROUP BY t.accommodation_id
+		""", nativeQuery = true)
+	void aggregateForDateUpTo(@Param("d") LocalDate d, @Param("lastTransactionId") long lastTransactionId);
+
 	// ===== 읽기 (after): 사전집계 테이블 일자별 롤업은 QueryDSL(DailyRevenueStatsRepositoryCustom) 제공 =====
 
 	// ===== 읽기 (before/naive): 원장에서 직접 집계 (UNION → native 필수, 사용자 성능 비교용 보존) =====
@@ -0,0 +1,213 @@
+package kr.kro.airbob.domain.statistics.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import kr.kro.airbob.domain.payment.entity.PaymentTransactionType;
+import kr.kro.airbob.domain.statistics.aggregation.RevenueBucketDelta;
+import kr.kro.airbob.domain.statistics.aggregation.RevenueLedgerEntry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 결제 거래 원장을 PK 순서로 읽어 일일(숙소)·월(호스트) 매출 누적 행에 증감분을 더한다.
+ * 커서 행(revenue_aggregation_cursor)을 FOR UPDATE 로 잠근 트랜잭션 안에서만 호출한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RevenueAggregationRepository {
+
+	public static final String LEDGER_CURSOR = "payment_transaction";
+
+	private static final String APPLY_DAILY_SQL = """
+		INSERT INTO daily_revenue_stats
+			(stat_date, accommodation_id, gross_amount, refund_amount, net_amount,
+			 payment_count, refund_count, created_at, updated_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?, NOW(6), NOW(6))
+		ON DUPLICATE KEY UPDATE
+			gross_amount  = gross_amount + ?,
+			refund_amount = refund_amount + ?,
+			net_amount    = net_amount + ?,
+			payment_count = payment_count + ?,
+			refund_count  = refund_count + ?,
+			updated_at    = NOW(6)
+		""";
+
+	private static final String APPLY_MONTHLY_SQL = """
+		INSERT INTO host_monthly_revenue
+			(host_id, revenue_month, gross_amount, refund_amount, net_amount,
+			 payment_count, refund_count, updated_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?, NOW(6))
+		ON DUPLICATE KEY UPDATE
+			gross_amount  = gross_amount + ?,
+			refund_amount = refund_amount + ?,
+			net_amount    = net_amount + ?,
+			payment_count = payment_count + ?,
+			refund_count  = refund_count + ?,
+			updated_at    = NOW(6)
+		""";
+
+	// 기준선: 커서 이하 원장 전체를 (일자, 숙소, 호스트)로 집계. 버킷 규칙은 일일 재집계와 같다
+	private static final String BASELINE_SQL = """
+		SELECT t.bucket_date, t.accommodation_id, t.host_id,
+			SUM(t.gross) AS gross, SUM(t.refund) AS refund,
+			SUM(t.gcount) AS gcount, SUM(t.rcount) AS rcount
+		FROM (
+			SELECT DATE(pt.created_at) AS bucket_date, r.accommodation_id, a.member_id AS host_id,
+				COALESCE(pt.amount, 0) AS gross, 0 AS refund, 1 AS gcount, 0 AS rcount
+			FROM payment_transaction pt
+			JOIN reservation r ON r.id = pt.reservation_id
+			JOIN accommodation a ON a.id = r.accommodation_id
+			WHERE pt.transaction_type = 'CONFIRM' AND pt.id <= ?
+			UNION ALL
+			SELECT DATE(COALESCE(pt.canceled_at, pt.created_at)), r.accommodation_id, a.member_id,
+				0, COALESCE(pt.cancel_amount, 0), 0, 1
+			FROM payment_transaction pt
+			JOIN reservation r ON r.id = pt.reservation_id
+			JOIN accommodation a ON a.id = r.accommodation_id
+			WHERE pt.transaction_type IN ('CANCEL', 'PARTIAL_CANCEL') AND pt.id <= ?
+		) t
+		GROUP BY t.bucket_date, t.accommodation_id, t.host_id
+		""";
+
+	// 월 재집계: 커서 이하 원장으로 (호스트, 월) 행을 다시 적재. 버킷 규칙은 월 정산 원장 집계와 같다
+	private static final String REBUILD_MONTHLY_SQL = """
+		INSERT INTO host_monthly_revenue
+			(host_id, revenue_month, gross_amount, refund_amount, net_amount,
+			 payment_count, refund_count, updated_at)
+		SELECT t.host_id, ?,
+			SUM(t.gross), SUM(t.refund), SUM(t.gross) - SUM(t.refund),
+			SUM(t.gcount), SUM(t.rcount), NOW(6)
+		FROM (
+			SELECT a.member_id AS host_id,
+				COALESCE(pt.amount, 0) AS gross, 0 AS refund, 1 AS gcount, 0 AS rcount
+			FROM payment_transaction pt
+			JOIN reservation r ON r.id = pt.reservation_id
+			JOIN accommodation a ON a.id = r.accommodation_id
+			WHERE pt.transaction_type = 'CONFIRM'
+			  AND DATE(pt.created_at) BETWEEN ? AND ?
+			  AND pt.id <= ?
+			UNION ALL
+			SELECT a.member_id, 0, COALESCE(pt.cancel_amount, 0), 0, 1
+			FROM payment_transaction pt
+			JOIN reservation r ON r.id = pt.reservation_id
+			JOIN accommodation a ON a.id = r.accommodation_id
+			WHERE pt.transaction_type IN ('CANCEL', 'PARTIAL_CANCEL')
+			  AND DATE(COALESCE(pt.canceled_at, pt.created_at)) BETWEEN ? AND ?
+			  AND pt.id <= ?
+		) t
+		GROUP BY t.host_id
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 집계·재집계를 직렬화하는 잠금. 커서 행이 아직 없으면 empty
+	public Optional<Long> lockCursor() {
+		List<Long> ids = jdbcTemplate.queryForList(
+			"SELECT last_transaction_id FROM revenue_aggregation_cursor WHERE name = ? FOR UPDATE",
+			Long.class, LEDGER_CURSOR);
+		return ids.stream().findFirst();
+	}
+
+	// 동시에 기준선을 만들려는 노드 중 하나만 1을 받는다
+	public boolean initializeCursor(long lastTransactionId) {
+		return jdbcTemplate.update("""
+			INSERT IGNORE INTO revenue_aggregation_cursor (name, last_transaction_id, updated_at)
+			VALUES (?, ?, NOW(6))
+			""", LEDGER_CURSOR, lastTransactionId) == 1;
+	}
+
+	public void moveCursor(long lastTransactionId) {
+		jdbcTemplate.update("""
+			UPDATE revenue_aggregation_cursor SET last_transaction_id = ?, updated_at = NOW(6)
+			WHERE name = ?
+			""", lastTransactionId, LEDGER_CURSOR);
+	}
+
+	public long findMaxTransactionId() {
+		Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM payment_transaction", Long.class);
+		return maxId == null ? 0L : maxId;
+	}
+
+	// PK 범위 스캔. 예약/숙소가 사라진 행도 커서를 넘기기 위해 LEFT JOIN 으로 읽는다
+	public List<RevenueLedgerEntry> findLedgerAfter(long lastTransactionId, int limit) {
+		return jdbcTemplate.query("""
+				SELECT pt.id, pt.transaction_type,
+					COALESCE(pt.amount, 0) AS amount, COALESCE(pt.cancel_amount, 0) AS cancel_amount,
+					pt.created_at, DATE(pt.created_at) AS created_date,
+					DATE(COALESCE(pt.canceled_at, pt.created_at)) AS refund_date,
+					a.id AS accommodation_id, a.member_id AS host_id
+				FROM payment_transaction pt
+				LEFT JOIN reservation r ON r.id = pt.reservation_id
+				LEFT JOIN accommodation a ON a.id = r.accommodation_id
+				WHERE pt.id > ?
+				ORDER BY pt.id
+				LIMIT ?
+				""",
+			(resultSet, rowNum) -> new RevenueLedgerEntry(
+				resultSet.getLong("id"),
+				PaymentTransactionType.valueOf(resultSet.getString("transaction_type")),
+				resultSet.getLong("amount"),
+				resultSet.getLong("cancel_amount"),
+				resultSet.getObject("created_at", LocalDateTime.class),
+				resultSet.getDate("created_date").toLocalDate(),
+				resultSet.getDate("refund_date").toLocalDate(),
+				resultSet.getObject("accommodation_id", Long.class),
+				resultSet.getObject("host_id", Long.class)),
+			lastTransactionId, limit);
+	}
+
+	public List<RevenueBucketDelta> findBaseline(long lastTransactionId) {
+		return jdbcTemplate.query(BASELINE_SQL,
+			(resultSet, rowNum) -> new RevenueBucketDelta(
+				resultSet.getDate("bucket_date").toLocalDate(),
+				resultSet.getLong("accommodation_id"),
+				resultSet.getLong("host_id"),
+				resultSet.getLong("gross"),
+				resultSet.getLong("refund"),
+				resultSet.getInt("gcount"),
+				resultSet.getInt("rcount")),
+			lastTransactionId, lastTransactionId);
+	}
+
+	// 기준선 재구성 전 비우기. 일일 집계는 원장 전체가 기준선에 다시 들어간다
+	public void clearAggregates() {
+		jdbcTemplate.update("DELETE FROM daily_revenue_stats");
+		jdbcTemplate.update("DELETE FROM host_monthly_revenue");
+	}
+
+	// 해당 월 행을 비우고 다시 적재한다. 잠긴 커서 트랜잭션 안에서만 호출
+	public int rebuildMonthlyAggregates(LocalDate monthStart, LocalDate monthEnd, long lastTransactionId) {
+		Date month = Date.valueOf(monthStart);
+		Date end = Date.valueOf(monthEnd);
+		jdbcTemplate.update("DELETE FROM host_monthly_revenue WHERE revenue_month = ?", month);
+		return jdbcTemplate.update(REBUILD_MONTHLY_SQL,
+			month, month, end, lastTransactionId, month, end, lastTransactionId);
+	}
+
+	// (일자, 숙소) 단위로 합쳐진 증감분
+	public void applyDailyDeltas(Collection<RevenueBucketDelta> deltas) {
+		jdbcTemplate.batchUpdate(APPLY_DAILY_SQL, deltas.stream()
+			.map(delta -> new Object[] {
+				Date.valueOf(delta.statDate()), delta.accommodationId(),
+				delta.grossAmount(), delta.refundAmount(), delta.netAmount(), delta.paymentCount(), delta.refundCount(),
+				delta.grossAmount(), delta.refundAmount(), delta.netAmount(), delta.paymentCount(), delta.refundCount()})
+			.toList());
+	}
+
+	// (월초, 호스트) 단위로 합쳐진 증감분. statDate 는 월초여야 한다
+	public void applyMonthlyDeltas(Collection<RevenueBucketDelta> deltas) {
+		jdbcTemplate.batchUpdate(APPLY_MONTHLY_SQL, deltas.stream()
+			.map(delta -> new Object[] {
+				delta.hostId(), Date.valueOf(delta.statDate()),
+				delta.grossAmount(), delta.refundAmount(), delta.netAmount(), delta.paymentCount(), delta.refundCount(),
+				delta.grossAmount(), delta.refundAmount(), delta.netAmount(), delta.paymentCount(), delta.refundCount()})
+			.toList());
+	}
+}
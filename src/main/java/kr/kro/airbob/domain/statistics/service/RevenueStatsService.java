@@ -1,13 +1,19 @@
 package kr.kro.airbob.domain.statistics.service;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import kr.kro.airbob.domain.statistics.aggregation.IncrementalRevenueAggregator;
 import kr.kro.airbob.domain.statistics.dto.RevenueStatsResponse;
 import kr.kro.airbob.domain.statistics.repository.DailyRevenueStatsRepository;
+import kr.kro.airbob.domain.statistics.repository.RevenueAggregationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,20 +25,34 @@ public class RevenueStatsService {
 	private static final String SOURCE_STATS = "stats";
 
 	private final DailyRevenueStatsRepository repository;
+	private final IncrementalRevenueAggregator revenueAggregator;
+	private final RevenueAggregationRepository aggregationRepository;
+	private final PlatformTransactionManager transactionManager;
 
 	// 단일 일자 재집계 (DELETE 후 INSERT...SELECT -> 멱등)
+	// 누적 집계와 같은 순서(커서 잠금 -> daily_revenue_stats)로 잠가 교착을 피한다
 	@Transactional
 	public void recompute(LocalDate date) {
+		Optional<Long> cursor = revenueAggregator.enabled() ? aggregationRepository.lockCursor() : Optional.empty();
 		repository.deleteByStatDate(date);
-		repository.aggregateForDate(date);
+		if (cursor.isPresent()) {
+			// 커서 잠금으로 누적 집계와 직렬화하고, 커서 이후 행은 누적 집계에 맡긴다
+			repository.aggregateForDateUpTo(date, cursor.get());
+		} else {
+			repository.aggregateForDate(date);
+		}
 	}
 
-	// [from, to] 구간 백필 (날짜별 재집계 반복)
-	@Transactional
+	// [from, to] 구간 백필. 하루씩 따로 커밋해 긴 구간도 잠금·undo 를 하루치만 잡는다
+	// 누적 집계 사용 중이면 걸친 달의 월 누적 행도 원장 기준으로 다시 맞춘다
 	public void backfill(LocalDate from, LocalDate to) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
 		for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
-			repository.deleteByStatDate(d);
-			repository.aggregateForDate(d);
+			LocalDate date = d;
+			transaction.executeWithoutResult(status -> recompute(date));
+		}
+		for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+			revenueAggregator.reconcileMonth(month);
 		}
 	}
 
@@ -0,0 +1,210 @@
+package kr.kro.airbob.domain.wishlist.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.kro.airbob.domain.wishlist.repository.WishlistAccommodationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원이 찜한 숙소 ID 전체를 Redis Set 하나로 보관한다.
+ * 검색·상세·최근 본 숙소의 찜 여부는 SMISMEMBER 한 번으로 확인하고, 집합이 없으면 DB에서 한 번 적재한다.
+ * 빈 위시리스트도 캐시되도록 집합에는 항상 적재 표시 멤버를 함께 넣는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WishlistMembershipCache {
+
+	public static final String LOOKUP_TOTAL = "wishlist.membership_cache.lookup";
+
+	// 집합과 버전은 같은 hash slot에 두기 위해 회원 ID를 hash tag로 사용
+	private static final String SET_KEY_PREFIX = "airbob:wishlist-ids:";
+	private static final String VERSION_KEY_PREFIX = "airbob:wishlist-ids:version:";
+	private static final String LOADED_MARKER = "loaded";
+	private static final String MISSING_VERSION = "0";
+	private static final long VERSION_TTL_MILLIS = 24 * 60 * 60 * 1000L; // 1일
+
+	// KEYS = 버전, 집합 / ARGV = 조회 시작 시 버전, 버전 없음 표시, TTL(ms), 적재 표시, 숙소 ID...
+	// DB 적재 중 찜 변경이 커밋되어 버전이 바뀌었으면 저장하지 않는다
+	// Lua unpack 인자 수 제한을 피하려고 SADD를 나눠 호출
+	private static final DefaultRedisScript<Long> LOAD_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>("""
+		local current = redis.call('GET', KEYS[1]) or ARGV[2]
+		if current ~= ARGV[1] then
+			return 0
+		end
+		redis.call('DEL', KEYS[2])
+		for index = 4, #ARGV, 1000 do
+			redis.call('SADD', KEYS[2], unpack(ARGV, index, math.min(index + 999, #ARGV)))
+		end
+		redis.call('PEXPIRE', KEYS[2], ARGV[3])
+		return 1
+		""", Long.class);
+
+	// 집합이 이미 있을 때만 추가. 없으면 다음 조회가 DB에서 새로 적재
+	private static final DefaultRedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('INCR', KEYS[1])
+		redis.call('PEXPIRE', KEYS[1], ARGV[1])
+		if redis.call('EXISTS', KEYS[2]) == 1 then
+			redis.call('SADD', KEYS[2], ARGV[2])
+		end
+		return 1
+		""", Long.class);
+
+	private static final DefaultRedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('INCR', KEYS[1])
+		redis.call('PEXPIRE', KEYS[1], ARGV[1])
+		redis.call('SREM', KEYS[2], ARGV[2])
+		return 1
+		""", Long.class);
+
+	private static final DefaultRedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('INCR', KEYS[1])
+		redis.call('PEXPIRE', KEYS[1], ARGV[1])
+		redis.call('DEL', KEYS[2])
+		return 1
+		""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final WishlistAccommodationRepository wishlistAccommodationRepository;
+	private final WishlistMembershipCacheProperties properties;
+	private final MeterRegistry meterRegistry;
+
+	public boolean enabled() {
+		return properties.enabled();
+	}
+
+	/**
+	 * @return accommodationIds 중 회원이 어느 위시리스트에든 담아 둔 숙소 ID
+	 */
+	public Set<Long> findWishlisted(Long memberId, Collection<Long> accommodationIds) {
+		if (accommodationIds.isEmpty()) {
+			return Set.of();
+		}
+
+		Object[] members = new Object[accommodationIds.size() + 1];
+		members[0] = LOADED_MARKER;
+		int index = 1;
+		for (Long accommodationId : accommodationIds) {
+			members[index++] = String.valueOf(accommodationId);
+		}
+
+		Map<Object, Boolean> membership;
+		try {
+			membership = redisTemplate.opsForSet().isMember(setKey(memberId), members);
+		} catch (RuntimeException e) {
+			log.warn("찜 ID 집합 조회 실패. DB로 대체. memberId={}", memberId, e);
+			record(LookupResult.ERROR);
+			return wishlistAccommodationRepository.findAccommodationIdsByMemberIdAndAccommodationIds(
+				memberId, List.copyOf(accommodationIds));
+		}
+
+		if (membership != null && Boolean.TRUE.equals(membership.get(LOADED_MARKER))) {
+			record(LookupResult.HIT);
+			Set<Long> wishlisted = new HashSet<>();
+			for (Long accommodationId : accommodationIds) {
+				if (Boolean.TRUE.equals(membership.get(String.valueOf(accommodationId)))) {
+					wishlisted.add(accommodationId);
+				}
+			}
+			return wishlisted;
+		}
+
+		record(LookupResult.MISS);
+		Set<Long> all = load(memberId);
+		Set<Long> wishlisted = new HashSet<>(accommodationIds);
+		wishlisted.retainAll(all);
+		return wishlisted;
+	}
+
+	public boolean isWishlisted(Long memberId, Long accommodationId) {
+		return findWishlisted(memberId, List.of(accommodationId)).contains(accommodationId);
+	}
+
+	/**
+	 * 변경 반영 메서드는 실패를 호출자에게 전파한다. 커밋 후 리스너가 로그로 남긴다.
+	 */
+	public void add(Long memberId, Long accommodationId) {
+		redisTemplate.execute(ADD_SCRIPT, List.of(versionKey(memberId), setKey(memberId)),
+			String.valueOf(VERSION_TTL_MILLIS), String.valueOf(accommodationId));
+	}
+
+	public void remove(Long memberId, Long accommodationId) {
+		redisTemplate.execute(REMOVE_SCRIPT, List.of(versionKey(memberId), setKey(memberId)),
+			String.valueOf(VERSION_TTL_MILLIS), String.valueOf(accommodationId));
+	}
+
+	public void invalidate(Long memberId) {
+		redisTemplate.execute(INVALIDATE_SCRIPT, List.of(versionKey(memberId), setKey(memberId)),
+			String.valueOf(VERSION_TTL_MILLIS));
+	}
+
+	// 버전을 먼저 읽어야 DB 조회 중 커밋된 변경을 덮어쓰지 않는다
+	private Set<Long> load(Long memberId) {
+		String version;
+		try {
+			version = redisTemplate.opsForValue().get(versionKey(memberId));
+		} catch (RuntimeException e) {
+			log.warn("찜 ID 집합 버전 조회 실패. 적재 생략. memberId={}", memberId, e);
+			return wishlistAccommodationRepository.findAllAccommodationIdsByMemberId(memberId);
+		}
+
+		Set<Long> all = wishlistAccommodationRepository.findAllAccommodationIdsByMemberId(memberId);
+		store(memberId, version == null ? MISSING_VERSION : version, all);
+		return all;
+	}
+
+	private void store(Long memberId, String version, Set<Long> accommodationIds) {
+		List<String> args = new ArrayList<>(4 + accommodationIds.size());
+		args.add(version);
+		args.add(MISSING_VERSION);
+		args.add(String.valueOf(properties.ttl().toMillis()));
+		args.add(LOADED_MARKER);
+		for (Long accommodationId : accommodationIds) {
+			args.add(String.valueOf(accommodationId));
+		}
+		try {
+			redisTemplate.execute(LOAD_IF_UNCHANGED_SCRIPT,
+				List.of(versionKey(memberId), setKey(memberId)), args.toArray());
+		} catch (RuntimeException e) {
+			log.warn("찜 ID 집합 저장 실패. memberId={}, count={}", memberId, accommodationIds.size(), e);
+		}
+	}
+
+	private String versionKey(Long memberId) {
+		return VERSION_KEY_PREFIX + "{" + memberId + "}";
+	}
+
+	private String setKey(Long memberId) {
+		return SET_KEY_PREFIX + "{" + memberId + "}";
+	}
+
+	private void record(LookupResult result) {
+		Counter.builder(LOOKUP_TOTAL)
+			.description("Wishlist membership cache lookups per request")
+			.tag("result", result.name().toLowerCase(Locale.ROOT))
+			.register(meterRegistry)
+			.increment();
+	}
+
+	enum LookupResult {
+		// Redis 집합으로 응답
+		HIT,
+		// 집합이 없어 DB에서 회원 찜 ID 전체를 적재
+		MISS,
+		// Redis 장애로 DB 조인 결과만 반환
+		ERROR
+	}
+}
@@ -0,0 +1,12 @@
+package kr.kro.airbob.domain.wishlist.cache;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 회원별 찜 숙소 ID 집합 캐시 정책 값을 애플리케이션 빈으로 등록
+ */
+@Configuration
+@EnableConfigurationProperties(WishlistMembershipCacheProperties.class)
+public class WishlistMembershipCacheConfiguration {
+}
@@ -0,0 +1,38 @@
+package kr.kro.airbob.domain.wishlist.cache;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 위시리스트 변경이 커밋된 뒤 회원 찜 ID 집합을 고친다.
+ * 반영에 실패한 집합은 TTL이 끝날 때까지 옛 찜 여부를 보일 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WishlistMembershipCacheListener {
+
+	private final WishlistMembershipCache membershipCache;
+
+	@TransactionalEventListener(phase = AFTER_COMMIT)
+	public void apply(WishlistMembershipChangedEvent event) {
+		if (!membershipCache.enabled()) {
+			return;
+		}
+		try {
+			switch (event.change()) {
+				case ADDED -> membershipCache.add(event.memberId(), event.accommodationId());
+				case REMOVED -> membershipCache.remove(event.memberId(), event.accommodationId());
+				case RESET -> membershipCache.invalidate(event.memberId());
+			}
+		} catch (RuntimeException e) {
+			log.warn("찜 ID 집합 갱신 실패. TTL 만료 후 DB에서 다시 적재. memberId={}, change={}",
+				event.memberId(), event.change(), e);
+		}
+	}
+}
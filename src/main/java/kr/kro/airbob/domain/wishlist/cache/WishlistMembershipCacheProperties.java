@@ -0,0 +1,23 @@
+package kr.kro.airbob.domain.wishlist.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+
+/**
+ * 회원별 찜 숙소 ID 집합 캐시 사용 여부와 보관 시간을 정의
+ *
+ * @param enabled false면 찜 여부를 매번 DB 조인으로 확인
+ * @param ttl 집합 보관 시간. 커밋 후 갱신이 유실되어도 이 시간 안에 원본이 반영됨
+ */
+@ConfigurationProperties(prefix = "wishlist.membership-cache")
+public record WishlistMembershipCacheProperties(
+	boolean enabled,
+	Duration ttl
+) {
+	public WishlistMembershipCacheProperties {
+		Assert.notNull(ttl, "wishlist.membership-cache.ttl must not be null");
+		Assert.isTrue(!ttl.isNegative() && !ttl.isZero(), "wishlist.membership-cache.ttl must be positive");
+	}
+}
@@ -0,0 +1,24 @@
+package kr.kro.airbob.domain.wishlist.cache;
+
+// 위시리스트 숙소 추가·삭제 트랜잭션이 발행. 커밋 후 회원 찜 ID 집합에 반영한다
+public record WishlistMembershipChangedEvent(Long memberId, Long accommodationId, Change change) {
+
+	public static WishlistMembershipChangedEvent added(Long memberId, Long accommodationId) {
+		return new WishlistMembershipChangedEvent(memberId, accommodationId, Change.ADDED);
+	}
+
+	public static WishlistMembershipChangedEvent removed(Long memberId, Long accommodationId) {
+		return new WishlistMembershipChangedEvent(memberId, accommodationId, Change.REMOVED);
+	}
+
+	// 위시리스트 통째 삭제처럼 여러 숙소가 빠질 때는 집합을 지우고 다음 조회에서 다시 만든다
+	public static WishlistMembershipChangedEvent reset(Long memberId) {
+		return new WishlistMembershipChangedEvent(memberId, null, Change.RESET);
+	}
+
+	public enum Change {
+		ADDED,
+		REMOVED,
+		RESET
+	}
+}
@@ -47,4 +47,8 @@ public interface WishlistAccommodationRepository extends JpaRepository<WishlistA
 	void deleteAllByWishlistId(Long wishlistId);
 	boolean existsByWishlistIdAndAccommodationId(Long wishlistId, Long accommodationId);
 	boolean existsByWishlist_Member_IdAndAccommodation_Id(Long memberId, Long accommodationId);
+
+	// 회원 찜 ID 집합 캐시 적재용: 회원의 모든 위시리스트에 담긴 숙소 ID
+	@Query("SELECT DISTINCT wa.accommodation.id FROM WishlistAccommodation wa WHERE wa.wishlist.member.id = :memberId")
+	Set<Long> findAllAccommodationIdsByMemberId(@Param("memberId") Long memberId);
 }
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -24,6 +25,8 @@ import kr.kro.airbob.domain.member.entity.Member;
 import kr.kro.airbob.domain.member.entity.MemberStatus;
 import kr.kro.airbob.domain.member.exception.MemberNotFoundException;
 import kr.kro.airbob.domain.member.repository.MemberRepository;
+import kr.kro.airbob.domain.wishlist.cache.WishlistMembershipCache;
+import kr.kro.airbob.domain.wishlist.cache.WishlistMembershipChangedEvent;
 import kr.kro.airbob.domain.wishlist.dto.WishlistAccommodationRequest;
 import kr.kro.airbob.domain.wishlist.dto.WishlistAccommodationResponse;
 import kr.kro.airbob.domain.wishlist.dto.WishlistRequest;
@@ -51,6 +54,8 @@ public class WishlistService {
 	private final WishlistAccommodationRepository wishlistAccommodationRepository;
 
 	private final CursorPageInfoCreator cursorPageInfoCreator;
+	private final WishlistMembershipCache wishlistMembershipCache;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	@Transactional
 	public WishlistResponse.Create createWishlist(WishlistRequest.Create request, Long memberId) {
@@ -85,6 +90,10 @@ public class WishlistService {
 			wishlistAccommodationRepository.findAllByWishlistId(wishlist.getId());
 		wishlistAccommodationRepository.deleteAllInBatch(wishlistAccommodations);
 		wishlist.delete();
+
+		if (wishlistMembershipCache.enabled() && !wishlistAccommodations.isEmpty()) {
+			applicationEventPublisher.publishEvent(WishlistMembershipChangedEvent.reset(memberId));
+		}
 	}
 
 	@Transactional(readOnly = true)
@@ -207,6 +216,11 @@ public class WishlistService {
 		// 반정규화: 개수 +1, 대표를 방금 추가한 숙소(=최신)로 설정
 		wishlistRepository.incrementCountAndSetRepresentative(wishlist.getId(), accommodation.getId());
 
+		if (wishlistMembershipCache.enabled()) {
+			applicationEventPublisher.publishEvent(
+				WishlistMembershipChangedEvent.added(memberId, accommodation.getId()));
+		}
+
 		return new WishlistAccommodationResponse.Create(savedWishlistAccommodation.getId());
 	}
 
@@ -239,6 +253,14 @@ public class WishlistService {
 			Long newRepresentative = wishlistAccommodationRepository.findLatestAccommodationId(wishlistId);
 			wishlistRepository.updateRepresentative(wishlistId, newRepresentative);
 		}
+
+		// 같은 숙소가 다른 위시리스트에 남아 있으면 찜 여부는 그대로
+		if (wishlistMembershipCache.enabled()
+			&& !wishlistAccommodationRepository.existsByWishlist_Member_IdAndAccommodation_Id(
+				memberId, removedAccommodationId)) {
+			applicationEventPublisher.publishEvent(
+				WishlistMembershipChangedEvent.removed(memberId, removedAccommodationId));
+		}
 	}
 
 	@Transactional(readOnly = true)
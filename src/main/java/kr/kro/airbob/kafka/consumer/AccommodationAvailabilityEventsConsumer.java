@@ -0,0 +1,46 @@
+package kr.kro.airbob.kafka.consumer;
+
+import java.util.Optional;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import kr.kro.airbob.domain.accommodation.availability.AccommodationAvailabilityReadModel;
+import kr.kro.airbob.outbox.EventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예약 현황이 바뀐 숙소의 조회 모델을 무효화한다.
+ * RESERVATION_CHANGED는 확정·취소·0원 예약처럼 달력에 보이는 상태가 바뀌는 모든 경로에서 발행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccommodationAvailabilityEventsConsumer {
+
+	private final AccommodationIndexingEventParser parser;
+	private final AccommodationAvailabilityReadModel availabilityReadModel;
+
+	@KafkaListener(
+		topics = "${accommodation.availability.kafka.topic:ACCOMMODATION.events}",
+		groupId = "${accommodation.availability.kafka.group:accommodation-availability-group}",
+		autoStartup = "${accommodation.availability.kafka.auto-startup:true}"
+	)
+	public void handle(@Payload String message, Acknowledgment ack) {
+		Optional<AccommodationIndexingCommand> command = parser.tryParse(message);
+		if (command.isEmpty()) {
+			log.error("[KAFKA-POISON] 예약 현황 이벤트 파싱 실패. 재시도 없이 ack 처리. message={}", message);
+			ack.acknowledge();
+			return;
+		}
+
+		EventType eventType = command.get().eventType();
+		if (eventType == EventType.RESERVATION_CHANGED || eventType == EventType.ACCOMMODATION_DELETED) {
+			availabilityReadModel.invalidate(command.get().accommodationUid());
+		}
+		ack.acknowledge();
+	}
+}
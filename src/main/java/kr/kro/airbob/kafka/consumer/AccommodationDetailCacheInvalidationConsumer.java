@@ -19,6 +19,7 @@ import org.springframework.stereotype.Component;
 
 import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCache;
 import kr.kro.airbob.domain.accommodation.cache.invalidation.AccommodationDetailCacheInvalidationRequestedEvent;
+import kr.kro.airbob.domain.accommodation.card.AccommodationCardReadModel;
 import kr.kro.airbob.outbox.DebeziumEventParser;
 import kr.kro.airbob.outbox.EventEnvelope;
 import kr.kro.airbob.outbox.EventType;
@@ -44,6 +45,7 @@ public class AccommodationDetailCacheInvalidationConsumer {
 	private final DebeziumEventParser debeziumEventParser;
 	private final AccommodationDetailCache cache;
 	private final SlackNotificationService slackNotificationService;
+	private final AccommodationCardReadModel cardReadModel;
 
 	@RetryableTopic(
 		attempts = "${accommodation.detail-cache.invalidation.kafka.attempts:4}",
@@ -63,6 +65,8 @@ public class AccommodationDetailCacheInvalidationConsumer {
 	public void handle(@Payload String message, Acknowledgment acknowledgment) {
 		AccommodationDetailCacheInvalidationRequestedEvent event = parse(message);
 		cache.evictOrThrow(event.accommodationId(), event.reason());
+		// 목록 카드도 같은 원본 변경에 묶여 있으므로 함께 지움. 두 삭제 모두 재시도해도 결과가 같음
+		cardReadModel.invalidate(event.accommodationId());
 		acknowledgment.acknowledge();
 	}
 
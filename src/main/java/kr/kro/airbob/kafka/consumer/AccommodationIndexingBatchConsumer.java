@@ -0,0 +1,174 @@
+package kr.kro.airbob.kafka.consumer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.kro.airbob.config.AccommodationIndexingKafkaConsumerConfig;
+import kr.kro.airbob.outbox.EventType;
+import kr.kro.airbob.search.service.AccommodationBulkIndexingService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 번의 poll로 받은 숙소 변경 이벤트를 UID별 마지막 이벤트로 합쳐 _bulk 한 번으로 색인한다.
+ * 파싱 실패와 항목별 색인 실패는 단건 소비자의 retry 토픽으로 보내 같은 retry/DLT 경로를 탄다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "accommodation.indexing.kafka.batch.enabled", havingValue = "true")
+public class AccommodationIndexingBatchConsumer {
+
+	public static final String LAG = "accommodation.indexing.lag";
+	public static final String DOCUMENTS_TOTAL = "accommodation.indexing.documents";
+	public static final String COALESCED_TOTAL = "accommodation.indexing.coalesced";
+
+	private static final String RETRY_TOPIC_SUFFIX = ".RETRY";
+
+	private final AccommodationIndexingEventParser parser;
+	private final AccommodationBulkIndexingService bulkIndexingService;
+	private final DeadLetterPublishingRecoverer retryRecoverer;
+	private final MeterRegistry meterRegistry;
+	private final Clock clock;
+
+	public AccommodationIndexingBatchConsumer(
+		AccommodationIndexingEventParser parser,
+		AccommodationBulkIndexingService bulkIndexingService,
+		@Qualifier("deadLetterKafkaTemplate") KafkaTemplate<String, String> deadLetterKafkaTemplate,
+		MeterRegistry meterRegistry,
+		Clock clock
+	) {
+		this.parser = parser;
+		this.bulkIndexingService = bulkIndexingService;
+		this.retryRecoverer = new DeadLetterPublishingRecoverer(deadLetterKafkaTemplate,
+			(record, exception) -> new TopicPartition(record.topic() + RETRY_TOPIC_SUFFIX, -1));
+		this.meterRegistry = meterRegistry;
+		this.clock = clock;
+	}
+
+	@KafkaListener(
+		topics = "${accommodation.indexing.kafka.topic:ACCOMMODATION.events}",
+		groupId = "${accommodation.indexing.kafka.group:accommodation-indexing-group}",
+		autoStartup = "${accommodation.indexing.kafka.auto-startup:true}",
+		containerFactory = AccommodationIndexingKafkaConsumerConfig.BATCH_CONTAINER_FACTORY
+	)
+	public void handle(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+		// UID별 마지막 이벤트만 남긴다. 갱신은 MySQL 최신 상태를 읽으므로 중간 이벤트는 결과에 영향이 없다
+		Map<UUID, Latest> latestByUid = new LinkedHashMap<>();
+		int parsed = 0;
+		for (ConsumerRecord<String, String> record : records) {
+			recordLag(record);
+			Optional<AccommodationIndexingCommand> command = parser.tryParse(record.value());
+			if (command.isEmpty()) {
+				sendToRetry(record, new AccommodationIndexingEventParsingException());
+				continue;
+			}
+			parsed++;
+			latestByUid.put(command.get().accommodationUid(), new Latest(command.get().eventType(), record));
+		}
+		countCoalesced(parsed - latestByUid.size());
+
+		if (!latestByUid.isEmpty()) {
+			index(latestByUid);
+		}
+		ack.acknowledge();
+	}
+
+	private void index(Map<UUID, Latest> latestByUid) {
+		List<UUID> refreshUids = new ArrayList<>();
+		List<UUID> deleteUids = new ArrayList<>();
+		latestByUid.forEach((accommodationUid, latest) -> {
+			if (latest.eventType() == EventType.ACCOMMODATION_DELETED) {
+				deleteUids.add(accommodationUid);
+			} else {
+				refreshUids.add(accommodationUid);
+			}
+		});
+
+		AccommodationBulkIndexingService.Result result;
+		try {
+			result = bulkIndexingService.apply(refreshUids, deleteUids);
+		} catch (RuntimeException e) {
+			log.warn("[ES-BULK] 숙소 일괄 색인 실패. retry 토픽으로 전달: count={}", latestByUid.size(), e);
+			latestByUid.values().forEach(latest -> sendToRetry(latest.record(), e));
+			countDocuments(IndexingOutcome.FAILED, latestByUid.size());
+			return;
+		}
+
+		countDocuments(IndexingOutcome.INDEXED, result.indexed());
+		countDocuments(IndexingOutcome.DELETED, result.deleted());
+		countDocuments(IndexingOutcome.FAILED, result.failed().size());
+		Set<UUID> failed = result.failed();
+		for (UUID accommodationUid : failed) {
+			Latest latest = latestByUid.get(accommodationUid);
+			if (latest != null) {
+				sendToRetry(latest.record(), new IllegalStateException("bulk indexing item failed"));
+			}
+		}
+	}
+
+	// 발행 실패는 전파되어 컨테이너가 같은 배치를 다시 읽는다
+	private void sendToRetry(ConsumerRecord<String, String> record, Exception cause) {
+		retryRecoverer.accept(record, cause);
+	}
+
+	private void recordLag(ConsumerRecord<String, String> record) {
+		long lagMillis = Math.max(0L, clock.millis() - record.timestamp());
+		Timer.builder(LAG)
+			.description("Delay between accommodation event production and indexing")
+			.register(meterRegistry)
+			.record(Duration.ofMillis(lagMillis));
+	}
+
+	private void countDocuments(IndexingOutcome outcome, int amount) {
+		if (amount <= 0) {
+			return;
+		}
+		Counter.builder(DOCUMENTS_TOTAL)
+			.description("Accommodation documents written by batch indexing")
+			.tag("result", outcome.name().toLowerCase(Locale.ROOT))
+			.register(meterRegistry)
+			.increment(amount);
+	}
+
+	private void countCoalesced(int amount) {
+		if (amount <= 0) {
+			return;
+		}
+		Counter.builder(COALESCED_TOTAL)
+			.description("Accommodation events merged into a later event of the same poll")
+			.register(meterRegistry)
+			.increment(amount);
+	}
+
+	private record Latest(EventType eventType, ConsumerRecord<String, String> record) {
+	}
+
+	enum IndexingOutcome {
+		// 게시 중인 숙소 문서 저장
+		INDEXED,
+		// 삭제 이벤트 또는 게시 중단 숙소 문서 제거
+		DELETED,
+		// retry 토픽으로 전달
+		FAILED
+	}
+}
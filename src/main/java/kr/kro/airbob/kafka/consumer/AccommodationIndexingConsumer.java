@@ -3,6 +3,7 @@ package kr.kro.airbob.kafka.consumer;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.header.Header;
@@ -17,7 +18,7 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
-import kr.kro.airbob.outbox.EventType;
+import kr.kro.airbob.config.AccommodationIndexingKafkaConsumerConfig;
 import kr.kro.airbob.search.service.AccommodationIndexingAlertService;
 import kr.kro.airbob.search.service.AccommodationIndexingService;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AccommodationIndexingConsumer {
 
+	// retry/DLT 토픽은 배치 모드에서도 단건으로 소비하도록 기본 컨테이너 팩토리를 사용
+	static final String RETRY_CONTAINER_FACTORY = "kafkaListenerContainerFactory";
+
 	private final AccommodationIndexingEventParser parser;
 	private final AccommodationIndexingService indexingService;
 	private final AccommodationIndexingAlertService alertService;
@@ -39,19 +43,23 @@ public class AccommodationIndexingConsumer {
 		retryTopicSuffix = ".RETRY",
 		dltTopicSuffix = ".DLT",
 		sameIntervalTopicReuseStrategy = SameIntervalTopicReuseStrategy.SINGLE_TOPIC,
-		dltStrategy = DltStrategy.FAIL_ON_ERROR
+		dltStrategy = DltStrategy.FAIL_ON_ERROR,
+		listenerContainerFactory = RETRY_CONTAINER_FACTORY
 	)
 	@KafkaListener(
 		topics = "${accommodation.indexing.kafka.topic:ACCOMMODATION.events}",
 		groupId = "${accommodation.indexing.kafka.group:accommodation-indexing-group}",
-		autoStartup = "${accommodation.indexing.kafka.auto-startup:true}"
+		autoStartup = "${accommodation.indexing.kafka.auto-startup:true}",
+		containerFactory = AccommodationIndexingKafkaConsumerConfig.CONTAINER_FACTORY
 	)
 	public void handle(@Payload String message, Acknowledgment ack) {
 		AccommodationIndexingCommand command = parser.parse(message);
-		if (command.eventType() == EventType.ACCOMMODATION_DELETED) {
-			indexingService.deleteAccommodationIndex(command.accommodationUid());
-		} else {
-			indexingService.refreshAccommodationIndex(command.accommodationUid());
+		UUID accommodationUid = command.accommodationUid();
+		switch (command.eventType()) {
+			case ACCOMMODATION_DELETED -> indexingService.deleteAccommodationIndex(accommodationUid);
+			case RESERVATION_CHANGED -> indexingService.refreshReservationRanges(accommodationUid);
+			case REVIEW_SUMMARY_CHANGED -> indexingService.refreshReviewSummary(accommodationUid);
+			default -> indexingService.refreshAccommodationIndex(accommodationUid);
 		}
 		ack.acknowledge();
 	}
@@ -0,0 +1,124 @@
+package kr.kro.airbob.kafka.consumer;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kro.airbob.common.exception.BaseException;
+import kr.kro.airbob.config.CouponWriteBehindKafkaConfig;
+import kr.kro.airbob.domain.coupon.monitoring.CouponIssueMetricRecorder;
+import kr.kro.airbob.domain.coupon.service.CouponIssueApproval;
+import kr.kro.airbob.domain.coupon.service.CouponIssueCompensator;
+import kr.kro.airbob.domain.coupon.service.CouponIssueTransactionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lua 승인 발급을 쿠폰별로 묶어 DB에 일괄 기록한다.
+ * 묶음 저장이 영구 실패하면 회원별로 다시 저장해 실패한 승인만 Redis에서 보상한다.
+ * DB 장애 같은 일시 실패는 던져서 컨테이너가 같은 배치를 다시 읽게 한다. 저장은 (쿠폰, 회원) 기준 멱등
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.issue.write-behind.enabled", havingValue = "true")
+public class CouponIssueApprovalBatchConsumer {
+
+	private final ObjectMapper objectMapper;
+	private final CouponIssueTransactionService transactionService;
+	private final CouponIssueCompensator compensator;
+	private final CouponIssueMetricRecorder metricRecorder;
+
+	@KafkaListener(
+		topics = "${coupon.issue.write-behind.topic:COUPON_ISSUE.approvals}",
+		groupId = "${coupon.issue.write-behind.group:coupon-issue-write-behind-group}",
+		containerFactory = CouponWriteBehindKafkaConfig.BATCH_CONTAINER_FACTORY
+	)
+	public void handle(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+		Map<Long, Set<Long>> memberIdsByCoupon = new LinkedHashMap<>();
+		for (ConsumerRecord<String, String> record : records) {
+			CouponIssueApproval approval = parse(record.value());
+			if (approval == null) {
+				continue;
+			}
+			memberIdsByCoupon.computeIfAbsent(approval.couponId(), couponId -> new LinkedHashSet<>())
+				.add(approval.memberId());
+		}
+
+		memberIdsByCoupon.forEach(this::persist);
+		ack.acknowledge();
+	}
+
+	private void persist(Long couponId, Set<Long> memberIds) {
+		try {
+			persistTimed(couponId, memberIds);
+		} catch (RuntimeException failure) {
+			if (!isPermanent(failure)) {
+				throw failure;
+			}
+			log.warn("[COUPON-WRITE-BEHIND] 일괄 저장 실패. 회원별로 재시도: couponId={}, count={}",
+				couponId, memberIds.size(), failure);
+			memberIds.forEach(memberId -> persistOne(couponId, memberId));
+		}
+	}
+
+	private void persistOne(Long couponId, Long memberId) {
+		try {
+			persistTimed(couponId, List.of(memberId));
+		} catch (RuntimeException failure) {
+			if (!isPermanent(failure)) {
+				throw failure;
+			}
+			log.error("[COUPON-WRITE-BEHIND] 발급 저장 실패. Redis 승인 보상: couponId={}, memberId={}",
+				couponId, memberId, failure);
+			compensator.compensateWithoutMasking(couponId, memberId, failure);
+		}
+	}
+
+	private void persistTimed(Long couponId, Collection<Long> memberIds) {
+		long startedAt = System.nanoTime();
+		try {
+			transactionService.persistApprovedIssues(couponId, memberIds);
+		} catch (RuntimeException failure) {
+			metricRecorder.recordDatabase(
+				CouponIssueMetricRecorder.Strategy.LUA,
+				CouponIssueMetricRecorder.DatabaseResult.ERROR,
+				System.nanoTime() - startedAt);
+			throw failure;
+		}
+		metricRecorder.recordDatabase(
+			CouponIssueMetricRecorder.Strategy.LUA,
+			CouponIssueMetricRecorder.DatabaseResult.SUCCESS,
+			System.nanoTime() - startedAt);
+	}
+
+	// 쿠폰 상태 거절과 FK·제약 위반은 다시 읽어도 같은 결과이므로 보상 대상
+	private boolean isPermanent(RuntimeException failure) {
+		return failure instanceof BaseException || failure instanceof DataIntegrityViolationException;
+	}
+
+	private CouponIssueApproval parse(String message) {
+		try {
+			CouponIssueApproval approval = objectMapper.readValue(message, CouponIssueApproval.class);
+			if (approval.couponId() != null && approval.memberId() != null) {
+				return approval;
+			}
+		} catch (Exception ignored) {
+			// 아래에서 poison으로 기록
+		}
+		log.error("[KAFKA-POISON] 쿠폰 발급 승인 파싱 실패. 재시도 없이 건너뜀. message={}", message);
+		return null;
+	}
+}
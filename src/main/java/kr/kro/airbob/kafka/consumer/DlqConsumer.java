@@ -19,7 +19,7 @@ import kr.kro.airbob.domain.reservation.event.ReservationEvent;
 import kr.kro.airbob.domain.reservation.exception.ReservationNotFoundException;
 import kr.kro.airbob.domain.reservation.service.ReservationService;
 import kr.kro.airbob.outbox.DebeziumEventParser;
-import kr.kro.airbob.outbox.EventPayload;
+import kr.kro.airbob.outbox.DecodedEvent;
 import kr.kro.airbob.outbox.EventType;
 import kr.kro.airbob.outbox.OutboxEventPublisher;
 import kr.kro.airbob.outbox.SlackNotificationService;
@@ -70,9 +70,10 @@ public class DlqConsumer {
 
 		EventType eventType = EventType.UNKNOWN;
 		try {
-			eventType = EventType.from(debeziumEventParser.getEventType(message));
+			DecodedEvent decoded = debeziumEventParser.decode(message);
+			eventType = decoded.type();
 
-			recoverEvent(eventType, message);
+			recoverEvent(decoded);
 
 			ack.acknowledge();
 			log.info("[DLQ-ACK] 메시지 처리 성공. DLQ에서 메시지 제거.");
@@ -118,51 +119,47 @@ public class DlqConsumer {
 		}
 	}
 
-	private void recoverEvent(EventType eventType, String message) {
-		switch (eventType) {
+	private void recoverEvent(DecodedEvent decoded) {
+		switch (decoded.type()) {
 			case PG_CANCEL_CALL_SUCCEEDED -> paymentCancellationProcessor.processSuccess(
-				parsePayload(message, PaymentEvent.PgCancelCallSucceededEvent.class));
+				decoded.payload(PaymentEvent.PgCancelCallSucceededEvent.class));
 			case PG_CANCEL_CALL_FAILED -> paymentCancellationProcessor.processFailure(
-				parsePayload(message, PaymentEvent.PgCancelCallFailedEvent.class));
+				decoded.payload(PaymentEvent.PgCancelCallFailedEvent.class));
 			case RESERVATION_CANCELLATION_REQUESTED -> {
-				ReservationEvent.ReservationCancellationRequestedEvent event = parsePayload(
-					message, ReservationEvent.ReservationCancellationRequestedEvent.class);
+				ReservationEvent.ReservationCancellationRequestedEvent event = decoded.payload(
+					ReservationEvent.ReservationCancellationRequestedEvent.class);
 				publishPaymentCancellationRequest(
 					event.reservationUid(), event.cancelReason(), event.cancelAmount());
 			}
 			case RESERVATION_CANCELLED -> {
-				ReservationEvent.ReservationCancelledEvent event = parsePayload(
-					message, ReservationEvent.ReservationCancelledEvent.class);
+				ReservationEvent.ReservationCancelledEvent event = decoded.payload(
+					ReservationEvent.ReservationCancelledEvent.class);
 				publishPaymentCancellationRequest(
 					event.reservationUid(), event.cancelReason(), event.cancelAmount());
 			}
 			case PG_CANCEL_CALL_REQUESTED -> paymentCancellationGatewayWorker.processCancelRequest(
-				parsePayload(message, PaymentEvent.PaymentCancellationRequestedEvent.class));
+				decoded.payload(PaymentEvent.PaymentCancellationRequestedEvent.class));
 			case PAYMENT_CANCELLATION_COMPLETED -> {
-				PaymentEvent.PaymentCancellationCompletedEvent event = parsePayload(
-					message, PaymentEvent.PaymentCancellationCompletedEvent.class);
+				PaymentEvent.PaymentCancellationCompletedEvent event = decoded.payload(
+					PaymentEvent.PaymentCancellationCompletedEvent.class);
 				reservationService.completeCancellation(
 					new ReservationEvent.ReservationCancellationCompleteRequestedEvent(event.reservationUid()));
 			}
 			case RESERVATION_CANCELLATION_COMPLETE_REQUESTED -> reservationService.completeCancellation(
-				parsePayload(message, ReservationEvent.ReservationCancellationCompleteRequestedEvent.class));
+				decoded.payload(ReservationEvent.ReservationCancellationCompleteRequestedEvent.class));
 			case PAYMENT_CANCELLATION_FAILED -> {
-				PaymentEvent.PaymentCancellationFailedEvent event = parsePayload(
-					message, PaymentEvent.PaymentCancellationFailedEvent.class);
+				PaymentEvent.PaymentCancellationFailedEvent event = decoded.payload(
+					PaymentEvent.PaymentCancellationFailedEvent.class);
 				reservationService.revertCancellation(
 					new ReservationEvent.ReservationCancellationRevertRequestedEvent(
 						event.reservationUid(), event.reason()));
 			}
 			case RESERVATION_CANCELLATION_REVERT_REQUESTED -> reservationService.revertCancellation(
-				parsePayload(message, ReservationEvent.ReservationCancellationRevertRequestedEvent.class));
-			default -> log.warn("[DLQ-IGNORE] 처리 로직이 존재하지 않는 DLQ 메시지. EventType: {}", eventType);
+				decoded.payload(ReservationEvent.ReservationCancellationRevertRequestedEvent.class));
+			default -> log.warn("[DLQ-IGNORE] 처리 로직이 존재하지 않는 DLQ 메시지. EventType: {}", decoded.type());
 		}
 	}
 
-	private <T extends EventPayload> T parsePayload(String message, Class<T> payloadType) {
-		return debeziumEventParser.parse(message, payloadType).payload();
-	}
-
 	private void publishPaymentCancellationRequest(String reservationUid, String cancelReason, Long cancelAmount) {
 		outboxEventPublisher.save(
 			EventType.PG_CANCEL_CALL_REQUESTED,
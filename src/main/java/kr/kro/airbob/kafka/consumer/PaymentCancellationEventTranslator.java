@@ -1,5 +1,8 @@
 package kr.kro.airbob.kafka.consumer;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -8,7 +11,7 @@ import org.springframework.stereotype.Component;
 import kr.kro.airbob.domain.payment.event.PaymentEvent;
 import kr.kro.airbob.domain.reservation.event.ReservationEvent;
 import kr.kro.airbob.outbox.DebeziumEventParser;
-import kr.kro.airbob.outbox.EventEnvelope;
+import kr.kro.airbob.outbox.DecodedEvent;
 import kr.kro.airbob.outbox.EventType;
 import kr.kro.airbob.outbox.OutboxEventPublisher;
 import kr.kro.airbob.outbox.exception.DebeziumEventParsingException;
@@ -20,28 +23,30 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class PaymentCancellationEventTranslator {
 
+	// 같은 토픽의 다른 이벤트는 payload를 역직렬화하지 않음
+	private static final Set<EventType> HANDLED_TYPES =
+		EnumSet.of(EventType.PAYMENT_CANCELLATION_COMPLETED, EventType.PAYMENT_CANCELLATION_FAILED);
+
 	private final DebeziumEventParser debeziumEventParser;
 	private final OutboxEventPublisher outboxEventPublisher;
 
 	@KafkaListener(topics = "PAYMENT.events", groupId = "payment-translator-group")
 	public void translatePaymentEvents(@Payload String message, Acknowledgment ack) {
 		try {
-			String eventType = debeziumEventParser.getEventType(message);
-			EventType type = EventType.from(eventType);
+			DecodedEvent decoded = debeziumEventParser.decode(message, HANDLED_TYPES);
+			EventType type = decoded.type();
 
 			if (type == EventType.PAYMENT_CANCELLATION_COMPLETED) {
-				EventEnvelope<PaymentEvent.PaymentCancellationCompletedEvent> envelope =
-					debeziumEventParser.parse(message, PaymentEvent.PaymentCancellationCompletedEvent.class);
-				PaymentEvent.PaymentCancellationCompletedEvent payload = envelope.payload();
+				PaymentEvent.PaymentCancellationCompletedEvent payload =
+					decoded.payload(PaymentEvent.PaymentCancellationCompletedEvent.class);
 				outboxEventPublisher.save(
 					EventType.RESERVATION_CANCELLATION_COMPLETE_REQUESTED,
 					new ReservationEvent.ReservationCancellationCompleteRequestedEvent(payload.reservationUid())
 				);
 				log.info("[TRANSLATOR] PAYMENT_CANCELLATION_COMPLETED -> RESERVATION_CANCELLATION_COMPLETE_REQUESTED 발행. UID: {}", payload.reservationUid());
 			} else if (type == EventType.PAYMENT_CANCELLATION_FAILED) {
-				EventEnvelope<PaymentEvent.PaymentCancellationFailedEvent> envelope =
-					debeziumEventParser.parse(message, PaymentEvent.PaymentCancellationFailedEvent.class);
-				PaymentEvent.PaymentCancellationFailedEvent payload = envelope.payload();
+				PaymentEvent.PaymentCancellationFailedEvent payload =
+					decoded.payload(PaymentEvent.PaymentCancellationFailedEvent.class);
 
 				outboxEventPublisher.save(
 					EventType.RESERVATION_CANCELLATION_REVERT_REQUESTED,
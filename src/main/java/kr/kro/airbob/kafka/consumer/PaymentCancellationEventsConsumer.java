@@ -1,5 +1,8 @@
 package kr.kro.airbob.kafka.consumer;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -8,7 +11,7 @@ import org.springframework.stereotype.Component;
 import kr.kro.airbob.domain.payment.event.PaymentEvent;
 import kr.kro.airbob.domain.payment.service.PaymentCancellationProcessor;
 import kr.kro.airbob.outbox.DebeziumEventParser;
-import kr.kro.airbob.outbox.EventEnvelope;
+import kr.kro.airbob.outbox.DecodedEvent;
 import kr.kro.airbob.outbox.EventType;
 import kr.kro.airbob.outbox.exception.DebeziumEventParsingException;
 import lombok.RequiredArgsConstructor;
@@ -19,26 +22,24 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class PaymentCancellationEventsConsumer {
 
+	// 같은 토픽의 다른 이벤트는 payload를 역직렬화하지 않음
+	private static final Set<EventType> HANDLED_TYPES =
+		EnumSet.of(EventType.PG_CANCEL_CALL_SUCCEEDED, EventType.PG_CANCEL_CALL_FAILED);
+
 	private final DebeziumEventParser debeziumEventParser;
 	private final PaymentCancellationProcessor cancellationProcessor;
 
 	@KafkaListener(topics = "PAYMENT.events", groupId = "payment-group")
 	public void handlePaymentEvents(@Payload String message, Acknowledgment ack) {
 		try {
-			String eventType = debeziumEventParser.getEventType(message);
-
-			switch (EventType.from(eventType)) {
-				case PG_CANCEL_CALL_SUCCEEDED -> {
-					EventEnvelope<PaymentEvent.PgCancelCallSucceededEvent> envelope =
-						debeziumEventParser.parse(message, PaymentEvent.PgCancelCallSucceededEvent.class);
-					cancellationProcessor.processSuccess(envelope.payload());
-				}
-				case PG_CANCEL_CALL_FAILED -> {
-					EventEnvelope<PaymentEvent.PgCancelCallFailedEvent> envelope =
-						debeziumEventParser.parse(message, PaymentEvent.PgCancelCallFailedEvent.class);
-					cancellationProcessor.processFailure(envelope.payload());
-				}
-				default -> log.warn("[KAFKA-SKIP] 알 수 없는 결제 취소 이벤트 타입: {}", eventType);
+			DecodedEvent decoded = debeziumEventParser.decode(message, HANDLED_TYPES);
+
+			switch (decoded.type()) {
+				case PG_CANCEL_CALL_SUCCEEDED -> cancellationProcessor.processSuccess(
+					decoded.payload(PaymentEvent.PgCancelCallSucceededEvent.class));
+				case PG_CANCEL_CALL_FAILED -> cancellationProcessor.processFailure(
+					decoded.payload(PaymentEvent.PgCancelCallFailedEvent.class));
+				default -> log.warn("[KAFKA-SKIP] 알 수 없는 결제 취소 이벤트 타입: {}", decoded.envelope().eventType());
 			}
 			ack.acknowledge();
 		} catch (DebeziumEventParsingException e) {
@@ -1,5 +1,7 @@
 package kr.kro.airbob.kafka.consumer;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.kafka.annotation.KafkaListener;
@@ -14,8 +16,9 @@ import kr.kro.airbob.domain.payment.exception.PaymentNotFoundException;
 import kr.kro.airbob.domain.payment.exception.TossPaymentException;
 import kr.kro.airbob.domain.payment.repository.PaymentRepository;
 import kr.kro.airbob.domain.payment.service.TossPaymentsAdapter;
+import kr.kro.airbob.domain.payment.service.gateway.PaymentGatewayBulkhead;
 import kr.kro.airbob.outbox.DebeziumEventParser;
-import kr.kro.airbob.outbox.EventEnvelope;
+import kr.kro.airbob.outbox.DecodedEvent;
 import kr.kro.airbob.outbox.EventType;
 import kr.kro.airbob.outbox.OutboxEventPublisher;
 import kr.kro.airbob.outbox.exception.DebeziumEventParsingException;
@@ -27,21 +30,24 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class PaymentCancellationGatewayWorker {
 
+	// 같은 토픽의 다른 이벤트는 payload를 역직렬화하지 않음
+	private static final Set<EventType> HANDLED_TYPES = EnumSet.of(EventType.PG_CANCEL_CALL_REQUESTED);
+
 	private final DebeziumEventParser debeziumEventParser;
 	private final TossPaymentsAdapter tossPaymentsAdapter;
 	private final OutboxEventPublisher outboxEventPublisher;
 	private final PaymentRepository paymentRepository;
+	private final PaymentGatewayBulkhead tossPaymentGatewayBulkhead;
 
 	@KafkaListener(topics = "PAYMENT.events", groupId = "payment-gateway-worker-group")
 	public void handlePgCallRequest(@Payload String message, Acknowledgment ack) {
-		String eventType = debeziumEventParser.getEventType(message);
-
 		try {
-			if (EventType.from(eventType) != EventType.PG_CANCEL_CALL_REQUESTED) {
+			DecodedEvent decoded = debeziumEventParser.decode(message, HANDLED_TYPES);
+			if (decoded.type() != EventType.PG_CANCEL_CALL_REQUESTED) {
 				ack.acknowledge();
 				return;
 			}
-			handleCancelRequest(message);
+			processCancelRequest(decoded.payload(PaymentEvent.PaymentCancellationRequestedEvent.class));
 			ack.acknowledge();
 		} catch (DebeziumEventParsingException e) {
 			log.error("[KAFKA-POISON] 파싱 실패: {}", message, e);
@@ -52,12 +58,6 @@ public class PaymentCancellationGatewayWorker {
 		}
 	}
 
-	private void handleCancelRequest(String message) {
-		EventEnvelope<PaymentEvent.PaymentCancellationRequestedEvent> envelope =
-			debeziumEventParser.parse(message, PaymentEvent.PaymentCancellationRequestedEvent.class);
-		processCancelRequest(envelope.payload());
-	}
-
 	void processCancelRequest(PaymentEvent.PaymentCancellationRequestedEvent request) {
 		String reservationUid = request.reservationUid();
 
@@ -67,11 +67,12 @@ public class PaymentCancellationGatewayWorker {
 			.orElseThrow(PaymentNotFoundException::new);
 		TossPaymentResponse response;
 		try {
-			response = tossPaymentsAdapter.cancelPayment(
+			// 격벽 거절·타임아웃은 취소 실패로 확정하지 않고 Kafka 재시도로 넘긴다. 취소 요청은 멱등 키로 중복 전송에 안전하다
+			response = tossPaymentGatewayBulkhead.execute("cancel", () -> tossPaymentsAdapter.cancelPayment(
 				payment.getPaymentKey(),
 				request.cancelReason(),
 				request.cancelAmount()
-			);
+			));
 		} catch (TossPaymentException e) {
 			outboxEventPublisher.save(
 				EventType.PG_CANCEL_CALL_FAILED,
@@ -1,5 +1,8 @@
 package kr.kro.airbob.kafka.consumer;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -8,7 +11,7 @@ import org.springframework.stereotype.Component;
 import kr.kro.airbob.domain.payment.event.PaymentEvent;
 import kr.kro.airbob.domain.reservation.event.ReservationEvent;
 import kr.kro.airbob.outbox.DebeziumEventParser;
-import kr.kro.airbob.outbox.EventEnvelope;
+import kr.kro.airbob.outbox.DecodedEvent;
 import kr.kro.airbob.outbox.EventType;
 import kr.kro.airbob.outbox.OutboxEventPublisher;
 import kr.kro.airbob.outbox.exception.DebeziumEventParsingException;
@@ -20,18 +23,21 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ReservationEventTranslator {
 
+	// 같은 토픽의 다른 이벤트는 payload를 역직렬화하지 않음
+	private static final Set<EventType> HANDLED_TYPES =
+		EnumSet.of(EventType.RESERVATION_CANCELLATION_REQUESTED, EventType.RESERVATION_CANCELLED);
+
 	private final DebeziumEventParser debeziumEventParser;
 	private final OutboxEventPublisher outboxEventPublisher;
 
 	@KafkaListener(topics = "RESERVATION.events", groupId = "reservation-translator-group")
 	public void translateReservationEvents(@Payload String message, Acknowledgment ack) {
 		try {
-			String eventType = debeziumEventParser.getEventType(message);
+			DecodedEvent decoded = debeziumEventParser.decode(message, HANDLED_TYPES);
 
-			if (EventType.RESERVATION_CANCELLATION_REQUESTED.name().equals(eventType)) {
-				EventEnvelope<ReservationEvent.ReservationCancellationRequestedEvent> envelope =
-					debeziumEventParser.parse(message, ReservationEvent.ReservationCancellationRequestedEvent.class);
-				ReservationEvent.ReservationCancellationRequestedEvent payload = envelope.payload();
+			if (decoded.type() == EventType.RESERVATION_CANCELLATION_REQUESTED) {
+				ReservationEvent.ReservationCancellationRequestedEvent payload =
+					decoded.payload(ReservationEvent.ReservationCancellationRequestedEvent.class);
 
 				// PG 취소 API 호출 이벤트 발행
 				outboxEventPublisher.save(
@@ -43,10 +49,9 @@ public class ReservationEventTranslator {
 					)
 				);
 				log.info("[TRANSLATOR] RESERVATION_CANCELLATION_REQUESTED -> PG_CANCEL_CALL_REQUESTED 발행. UID: {}", payload.reservationUid());
-			} else if (EventType.RESERVATION_CANCELLED.name().equals(eventType)) {
-				EventEnvelope<ReservationEvent.ReservationCancelledEvent> envelope =
-					debeziumEventParser.parse(message, ReservationEvent.ReservationCancelledEvent.class);
-				ReservationEvent.ReservationCancelledEvent payload = envelope.payload();
+			} else if (decoded.type() == EventType.RESERVATION_CANCELLED) {
+				ReservationEvent.ReservationCancelledEvent payload =
+					decoded.payload(ReservationEvent.ReservationCancelledEvent.class);
 				outboxEventPublisher.save(
 					EventType.PG_CANCEL_CALL_REQUESTED,
 					new PaymentEvent.PaymentCancellationRequestedEvent(
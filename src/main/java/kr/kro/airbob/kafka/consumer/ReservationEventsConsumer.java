@@ -1,5 +1,9 @@
 package kr.kro.airbob.kafka.consumer;
 
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -9,7 +13,7 @@ import kr.kro.airbob.domain.reservation.event.ReservationEvent;
 import kr.kro.airbob.domain.reservation.service.ReservationHoldService;
 import kr.kro.airbob.domain.reservation.service.ReservationService;
 import kr.kro.airbob.outbox.DebeziumEventParser;
-import kr.kro.airbob.outbox.EventEnvelope;
+import kr.kro.airbob.outbox.DecodedEvent;
 import kr.kro.airbob.outbox.EventType;
 import kr.kro.airbob.outbox.exception.DebeziumEventParsingException;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +24,13 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ReservationEventsConsumer {
 
+	// 같은 토픽의 다른 이벤트는 payload를 역직렬화하지 않음
+	private static final Set<EventType> HANDLED_TYPES = EnumSet.of(
+		EventType.RESERVATION_CONFIRMED,
+		EventType.RESERVATION_EXPIRED,
+		EventType.RESERVATION_CANCELLATION_REVERT_REQUESTED,
+		EventType.RESERVATION_CANCELLATION_COMPLETE_REQUESTED);
+
 	private final ReservationService reservationService;
 	private final ReservationHoldService reservationHoldService;
 	private final DebeziumEventParser debeziumEventParser;
@@ -27,39 +38,32 @@ public class ReservationEventsConsumer {
 	@KafkaListener(topics = "RESERVATION.events", groupId = "reservation-group")
 	public void handleReservationEvents(@Payload String message, Acknowledgment ack) {
 		try {
-			String eventType = debeziumEventParser.getEventType(message);
+			DecodedEvent decoded = debeziumEventParser.decode(message, HANDLED_TYPES);
 
-			switch (EventType.from(eventType)) {
+			switch (decoded.type()) {
 				case RESERVATION_CONFIRMED -> {
-					EventEnvelope<ReservationEvent.ReservationConfirmedEvent> envelope =
-						debeziumEventParser.parse(message, ReservationEvent.ReservationConfirmedEvent.class);
-					ReservationEvent.ReservationConfirmedEvent event = envelope.payload();
-					reservationHoldService.removeHold(event.accommodationId(), event.checkInDate(), event.checkOutDate());
+					ReservationEvent.ReservationConfirmedEvent event =
+						decoded.payload(ReservationEvent.ReservationConfirmedEvent.class);
+					removeHold(event.accommodationId(), event.checkInDate(), event.checkOutDate(), event.reservationUid());
 					log.info("[KAFKA] 예약 확정 완료. Redis 홀드 제거. Accommodation ID={}", event.accommodationId());
 				}
 				case RESERVATION_EXPIRED -> {
-					EventEnvelope<ReservationEvent.ReservationExpiredEvent> envelope =
-						debeziumEventParser.parse(message, ReservationEvent.ReservationExpiredEvent.class);
-					ReservationEvent.ReservationExpiredEvent event = envelope.payload();
-					reservationHoldService.removeHold(event.accommodationId(), event.checkInDate(), event.checkOutDate());
+					ReservationEvent.ReservationExpiredEvent event =
+						decoded.payload(ReservationEvent.ReservationExpiredEvent.class);
+					removeHold(event.accommodationId(), event.checkInDate(), event.checkOutDate(), event.reservationUid());
 					log.info("[KAFKA] 예약 만료 완료. Redis 홀드 제거. Accommodation ID={}", event.accommodationId());
 				}
 				case RESERVATION_CANCELLATION_REVERT_REQUESTED -> {
-					EventEnvelope<ReservationEvent.ReservationCancellationRevertRequestedEvent> envelope =
-						debeziumEventParser.parse(message, ReservationEvent.ReservationCancellationRevertRequestedEvent.class);
-					ReservationEvent.ReservationCancellationRevertRequestedEvent event = envelope.payload();
+					ReservationEvent.ReservationCancellationRevertRequestedEvent event =
+						decoded.payload(ReservationEvent.ReservationCancellationRevertRequestedEvent.class);
 					reservationService.revertCancellation(event);
 				}
-				case RESERVATION_CANCELLATION_COMPLETE_REQUESTED -> {
-					EventEnvelope<ReservationEvent.ReservationCancellationCompleteRequestedEvent> envelope =
-						debeziumEventParser.parse(
-							message, ReservationEvent.ReservationCancellationCompleteRequestedEvent.class);
-					reservationService.completeCancellation(envelope.payload());
-				}
+				case RESERVATION_CANCELLATION_COMPLETE_REQUESTED -> reservationService.completeCancellation(
+					decoded.payload(ReservationEvent.ReservationCancellationCompleteRequestedEvent.class));
 				/*case RESERVATION_PENDING -> {
 					// 추후 알림과 같은 기능 생기면 로직 추가
 				}*/
-				default -> log.warn("[KAFKA-SKIP] 알 수 없는 예약 이벤트 타입: {}", eventType);
+				default -> log.warn("[KAFKA-SKIP] 알 수 없는 예약 이벤트 타입: {}", decoded.envelope().eventType());
 			}
 			ack.acknowledge();
 		} catch (DebeziumEventParsingException e) {
@@ -70,4 +74,13 @@ public class ReservationEventsConsumer {
 			throw e;
 		}
 	}
+
+	// 소유자를 모르는 이전 버전 이벤트는 다른 예약의 hold를 지울 수 있으므로 TTL 만료에 맡긴다
+	private void removeHold(Long accommodationId, LocalDate checkIn, LocalDate checkOut, String reservationUid) {
+		if (reservationUid == null) {
+			log.warn("[KAFKA] hold 소유자 없는 이벤트. TTL로 자동 만료 예정. Accommodation ID={}", accommodationId);
+			return;
+		}
+		reservationHoldService.removeHold(accommodationId, checkIn, checkOut, reservationUid);
+	}
 }
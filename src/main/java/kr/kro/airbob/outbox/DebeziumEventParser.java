@@ -1,54 +1,187 @@
 package kr.kro.airbob.outbox;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
+import kr.kro.airbob.domain.accommodation.cache.invalidation.AccommodationDetailCacheInvalidationRequestedEvent;
+import kr.kro.airbob.domain.payment.event.PaymentEvent;
+import kr.kro.airbob.domain.reservation.event.ReservationEvent;
 import kr.kro.airbob.outbox.exception.DebeziumEventParsingException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class DebeziumEventParser {
 
+	private static final String EVENT_ID = "event_id";
+	private static final String TRACE_ID = "trace_id";
+	private static final String EVENT_TYPE = "event_type";
+	private static final String EVENT_VERSION = "event_version";
+	private static final String TIMESTAMP = "timestamp";
+	private static final String PAYLOAD = "payload";
+
 	private final ObjectMapper objectMapper;
+	// decode가 타입별로 바로 읽는 페이로드. 그 외 타입은 payload를 건너뛴다
+	private final Map<EventType, ObjectReader> payloadReaders = new EnumMap<>(EventType.class);
+	private final Map<Class<?>, ObjectReader> envelopeReaders = new ConcurrentHashMap<>();
+
+	public DebeziumEventParser(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+		registerPayload(EventType.RESERVATION_CONFIRMED, ReservationEvent.ReservationConfirmedEvent.class);
+		registerPayload(EventType.RESERVATION_EXPIRED, ReservationEvent.ReservationExpiredEvent.class);
+		registerPayload(EventType.RESERVATION_CANCELLED, ReservationEvent.ReservationCancelledEvent.class);
+		registerPayload(EventType.RESERVATION_CANCELLATION_REQUESTED,
+			ReservationEvent.ReservationCancellationRequestedEvent.class);
+		registerPayload(EventType.RESERVATION_CANCELLATION_COMPLETE_REQUESTED,
+			ReservationEvent.ReservationCancellationCompleteRequestedEvent.class);
+		registerPayload(EventType.RESERVATION_CANCELLATION_REVERT_REQUESTED,
+			ReservationEvent.ReservationCancellationRevertRequestedEvent.class);
+		registerPayload(EventType.PAYMENT_CANCELLATION_COMPLETED, PaymentEvent.PaymentCancellationCompletedEvent.class);
+		registerPayload(EventType.PAYMENT_CANCELLATION_FAILED, PaymentEvent.PaymentCancellationFailedEvent.class);
+		registerPayload(EventType.PG_CANCEL_CALL_REQUESTED, PaymentEvent.PaymentCancellationRequestedEvent.class);
+		registerPayload(EventType.PG_CANCEL_CALL_SUCCEEDED, PaymentEvent.PgCancelCallSucceededEvent.class);
+		registerPayload(EventType.PG_CANCEL_CALL_FAILED, PaymentEvent.PgCancelCallFailedEvent.class);
+		registerPayload(EventType.CACHE_INVALIDATION_REQUESTED,
+			AccommodationDetailCacheInvalidationRequestedEvent.class);
+	}
+
+	private void registerPayload(EventType eventType, Class<? extends EventPayload> payloadType) {
+		payloadReaders.put(eventType, objectMapper.readerFor(payloadType));
+	}
+
+	/**
+	 * 봉투를 트리로 만들지 않고 한 번에 읽는다.
+	 * event_type을 먼저 읽으면 payload를 등록된 reader로 바로 역직렬화하고,
+	 * payload가 앞에 오는 메시지만 토큰을 버퍼에 담았다가 타입을 안 뒤 읽는다.
+	 */
+	public DecodedEvent decode(String eventEnvelopeJson) {
+		return decode(eventEnvelopeJson, payloadReaders.keySet());
+	}
+
+	/**
+	 * handledTypes에 없는 이벤트는 payload를 역직렬화하지 않고 건너뛴다.
+	 * 같은 토픽의 다른 소비자 몫인 이벤트는 타입과 봉투 필드만 읽고 payload는 비어 있다.
+	 * timestamp가 없거나 epoch 이하이면 잘못된 이벤트로 거부한다.
+	 */
+	public DecodedEvent decode(String eventEnvelopeJson, Set<EventType> handledTypes) {
+		try (JsonParser parser = objectMapper.createParser(eventEnvelopeJson)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IOException("EventEnvelope가 JSON 객체가 아님");
+			}
+			UUID eventId = null;
+			String traceId = null;
+			EventType type = null;
+			String eventType = null;
+			String eventVersion = null;
+			Instant timestamp = null;
+			EventPayload payload = null;
+			TokenBuffer bufferedPayload = null;
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				switch (field) {
+					case EVENT_ID -> eventId = value == JsonToken.VALUE_NULL ? null : UUID.fromString(parser.getText());
+					case TRACE_ID -> traceId = parser.getValueAsString();
+					case EVENT_TYPE -> {
+						eventType = parser.getValueAsString();
+						type = eventType == null ? null : EventType.from(eventType);
+					}
+					case EVENT_VERSION -> eventVersion = parser.getValueAsString();
+					case TIMESTAMP -> timestamp = readTimestamp(parser);
+					case PAYLOAD -> {
+						if (type != null) {
+							payload = readPayload(type, handledTypes, parser);
+						} else {
+							bufferedPayload = new TokenBuffer(parser);
+							bufferedPayload.copyCurrentStructure(parser);
+						}
+					}
+					default -> parser.skipChildren();
+				}
+			}
+			if (type == null) {
+				throw new IOException("event_type 필드가 NULL이거나 존재하지 않음. EventEnvelope JSON: " + eventEnvelopeJson);
+			}
+			if (timestamp == null) {
+				throw new IOException("timestamp 필드가 존재하지 않음. EventEnvelope JSON: " + eventEnvelopeJson);
+			}
+			if (bufferedPayload != null) {
+				try (JsonParser payloadParser = bufferedPayload.asParser()) {
+					payload = readPayload(type, handledTypes, payloadParser);
+				}
+			}
+			return new DecodedEvent(type,
+				new EventEnvelope<>(eventId, traceId, eventType, eventVersion, timestamp, payload));
+		} catch (IOException | RuntimeException e) {
+			log.error("EventEnvelope 파싱 실패 JSON: {}", eventEnvelopeJson, e);
+			throw new DebeziumEventParsingException(e);
+		}
+	}
+
+	private EventPayload readPayload(EventType type, Set<EventType> handledTypes, JsonParser parser)
+		throws IOException {
+		ObjectReader reader = handledTypes.contains(type) ? payloadReaders.get(type) : null;
+		if (reader == null) {
+			parser.skipChildren();
+			return null;
+		}
+		return reader.readValue(parser);
+	}
+
+	private static Instant readTimestamp(JsonParser parser) throws IOException {
+		if (parser.currentToken() != JsonToken.VALUE_STRING || parser.getText().isBlank()) {
+			throw new IOException("timestamp는 비어 있지 않은 문자열이어야 함");
+		}
+		Instant timestamp = EventTimestampDeserializer.parse(parser.getText().trim());
+		// 0으로 채워진 timestamp는 발행 시각이 누락된 값이므로 정상 이벤트로 받지 않음
+		if (!timestamp.isAfter(Instant.EPOCH)) {
+			throw new IOException("timestamp는 epoch 이후여야 함: " + parser.getText());
+		}
+		return timestamp;
+	}
 
 	public <T extends EventPayload> EventEnvelope<T> parse(String eventEnvelopeJson, Class<T> payloadType) {
 		try {
-			JavaType type = objectMapper.getTypeFactory().constructParametricType(EventEnvelope.class, payloadType);
-			return objectMapper.readValue(eventEnvelopeJson, type);
+			ObjectReader reader = envelopeReaders.computeIfAbsent(payloadType, type -> objectMapper.readerFor(
+				objectMapper.getTypeFactory().constructParametricType(EventEnvelope.class, type)));
+			return reader.readValue(eventEnvelopeJson);
 		} catch (IOException e) {
 			log.error("EventEnvelope 파싱 실패 JSON: {}", eventEnvelopeJson, e);
 			throw new DebeziumEventParsingException(e);
 		}
 	}
 
+	// event_type만 필요할 때는 다른 필드를 값으로 만들지 않고 건너뛴다
 	public String getEventType(String eventEnvelopeJson) {
-		try {
-			JsonNode envelopeNode = objectMapper.readTree(eventEnvelopeJson);
-			if (envelopeNode.hasNonNull("event_type")) {
-				return envelopeNode.path("event_type").asText();
-			} else {
-				throw new IOException("event_type 필드가 NULL이거나 존재하지 않음. EventEnvelope JSON: " + eventEnvelopeJson);
+		try (JsonParser parser = objectMapper.createParser(eventEnvelopeJson)) {
+			if (parser.nextToken() == JsonToken.START_OBJECT) {
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					String field = parser.currentName();
+					parser.nextToken();
+					if (EVENT_TYPE.equals(field) && parser.currentToken() != JsonToken.VALUE_NULL) {
+						return parser.getValueAsString();
+					}
+					parser.skipChildren();
+				}
 			}
+			throw new IOException("event_type 필드가 NULL이거나 존재하지 않음. EventEnvelope JSON: " + eventEnvelopeJson);
 		} catch (IOException e) {
 			log.error("EventEnvelope에서 eventType 획득 실패 JSON: {}", eventEnvelopeJson, e);
 			throw new DebeziumEventParsingException(e);
 		}
 	}
-
-	private String extractEnvelopeJson(String debeziumMessage) throws IOException {
-		JsonNode rootNode = objectMapper.readTree(debeziumMessage);
-		JsonNode payloadNode = rootNode.path("payload");
-		if (payloadNode.isMissingNode() || !payloadNode.isTextual()) {
-			throw new IOException("Debezium 메시지에서 'payload' 필드를 찾을 수 없거나 텍스트 형식이 아닙니다.");
-		}
-		return payloadNode.asText();
-	}
 }
@@ -0,0 +1,28 @@
+package kr.kro.airbob.outbox;
+
+import java.io.IOException;
+
+import kr.kro.airbob.outbox.exception.DebeziumEventParsingException;
+
+/**
+ * 한 번의 스트리밍 파싱으로 얻은 이벤트 타입과 타입별 페이로드가 채워진 봉투
+ * 파서에 페이로드 타입이 등록되지 않았거나 소비자가 처리하지 않는 이벤트는 payload가 비어 있다.
+ */
+public record DecodedEvent(
+	EventType type,
+	EventEnvelope<? extends EventPayload> envelope
+) {
+
+	public static DecodedEvent of(EventEnvelope<? extends EventPayload> envelope) {
+		return new DecodedEvent(EventType.from(envelope.eventType()), envelope);
+	}
+
+	public <T extends EventPayload> T payload(Class<T> payloadType) {
+		EventPayload payload = envelope.payload();
+		if (!payloadType.isInstance(payload)) {
+			throw new DebeziumEventParsingException(new IOException(
+				"%s 이벤트의 payload가 %s 형식이 아님".formatted(type, payloadType.getSimpleName())));
+		}
+		return payloadType.cast(payload);
+	}
+}
@@ -29,10 +29,24 @@ public class EventTimestampDeserializer extends JsonDeserializer<Instant> {
 			throw InvalidFormatException.from(parser, "timestamp must not be blank", timestamp, Instant.class);
 		}
 
+		try {
+			return parse(timestamp);
+		} catch (DateTimeParseException e) {
+			throw InvalidFormatException.from(
+				parser,
+				"timestamp must be ISO-8601 local UTC, Z, or offset date-time",
+				timestamp,
+				Instant.class
+			);
+		}
+	}
+
+	// offset이 없는 구 포맷은 UTC 로컬 시각으로 본다
+	static Instant parse(String timestamp) {
 		try {
 			return OffsetDateTime.parse(timestamp, DateTimeFormatter.ISO_OFFSET_DATE_TIME).toInstant();
 		} catch (DateTimeParseException ignored) {
-			return parseLegacyUtcTimestamp(parser, timestamp);
+			return LocalDateTime.parse(timestamp, DateTimeFormatter.ISO_LOCAL_DATE_TIME).toInstant(ZoneOffset.UTC);
 		}
 	}
 
@@ -44,18 +58,4 @@ public class EventTimestampDeserializer extends JsonDeserializer<Instant> {
 			"timestamp must not be null"
 		);
 	}
-
-	private Instant parseLegacyUtcTimestamp(JsonParser parser, String timestamp) throws InvalidFormatException {
-		try {
-			return LocalDateTime.parse(timestamp, DateTimeFormatter.ISO_LOCAL_DATE_TIME)
-				.toInstant(ZoneOffset.UTC);
-		} catch (DateTimeParseException e) {
-			throw InvalidFormatException.from(
-				parser,
-				"timestamp must be ISO-8601 local UTC, Z, or offset date-time",
-				timestamp,
-				Instant.class
-			);
-		}
-	}
 }
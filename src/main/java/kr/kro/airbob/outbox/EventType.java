@@ -1,6 +1,10 @@
 package kr.kro.airbob.outbox;
 
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -41,13 +45,21 @@ public enum EventType {
 	// 그 외
 	UNKNOWN("UNKNOWN", null); // 알 수 없는 타입 처리
 
+	private static final Map<String, EventType> BY_NAME = Arrays.stream(values())
+		.collect(Collectors.toUnmodifiableMap(Enum::name, Function.identity()));
+
 	private final String aggregateType;
 	private final String topic;
 
+	// 발행 측은 항상 name()을 쓰므로 대소문자가 다른 경우만 대문자로 한 번 더 찾는다
 	public static EventType from(String eventType) {
-		return Arrays.stream(values())
-			.filter(it -> it.name().equalsIgnoreCase(eventType))
-			.findFirst()
-			.orElse(UNKNOWN);
+		if (eventType == null) {
+			return UNKNOWN;
+		}
+		EventType type = BY_NAME.get(eventType);
+		if (type != null) {
+			return type;
+		}
+		return BY_NAME.getOrDefault(eventType.toUpperCase(Locale.ROOT), UNKNOWN);
 	}
 }
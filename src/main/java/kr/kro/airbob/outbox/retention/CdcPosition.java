@@ -0,0 +1,33 @@
+package kr.kro.airbob.outbox.retention;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Debezium 커넥터가 저장한 마지막 오프셋
+ * processedAt은 마지막으로 처리한 binlog 이벤트 시각이라 이보다 먼저 커밋된 outbox 행은 이미 발행되었다.
+ */
+record CdcPosition(
+	Instant processedAt,
+	boolean snapshotInProgress
+) {
+
+	// MySQL 커넥터 오프셋: {"ts_sec": 1760745600, "file": "binlog.000003", "pos": 1234, "snapshot": true, ...}
+	static Optional<CdcPosition> fromOffset(Map<String, Object> offset) {
+		if (offset == null || !(offset.get("ts_sec") instanceof Number tsSec)) {
+			return Optional.empty();
+		}
+		boolean snapshotInProgress = isTrue(offset.get("snapshot"))
+			&& !isTrue(offset.get("snapshot_completed"));
+		return Optional.of(new CdcPosition(Instant.ofEpochSecond(tsSec.longValue()), snapshotInProgress));
+	}
+
+	// 스냅샷 중에는 true 외에 "true"·"last" 같은 문자열로 기록되기도 한다
+	private static boolean isTrue(Object value) {
+		if (value instanceof Boolean flag) {
+			return flag;
+		}
+		return value instanceof String text && !text.isBlank() && !"false".equalsIgnoreCase(text);
+	}
+}
@@ -0,0 +1,90 @@
+package kr.kro.airbob.outbox.retention;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka Connect REST(GET /connectors/{name}/offsets)로 outbox 커넥터의 오프셋을 읽는다.
+ * 응답을 얻지 못하면 비어 있는 값을 돌려주어 보존 작업이 파티션을 지우지 않게 한다.
+ */
+@Slf4j
+@Component
+public class DebeziumOffsetClient {
+
+	private static final ParameterizedTypeReference<Map<String, Object>> RESPONSE_TYPE =
+		new ParameterizedTypeReference<>() {
+		};
+
+	private final RestClient restClient;
+	private final String connectorName;
+
+	public DebeziumOffsetClient(
+		@Value("${outbox.retention.connect.url:http://localhost:8083}") String connectUrl,
+		@Value("${outbox.retention.connect.connector:airbob-outbox-connector}") String connectorName,
+		@Value("${outbox.retention.connect.timeout:3s}") Duration timeout
+	) {
+		HttpClient httpClient = HttpClient.newBuilder()
+			.connectTimeout(timeout)
+			.build();
+		JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+		requestFactory.setReadTimeout(timeout);
+		this.restClient = RestClient.builder()
+			.requestFactory(requestFactory)
+			.baseUrl(connectUrl)
+			.build();
+		this.connectorName = connectorName;
+	}
+
+	public Optional<CdcPosition> currentPosition() {
+		Map<String, Object> response;
+		try {
+			response = restClient.get()
+				.uri("/connectors/{name}/offsets", connectorName)
+				.retrieve()
+				.body(RESPONSE_TYPE);
+		} catch (RestClientException e) {
+			log.warn("[OUTBOX-RETENTION] 커넥터 오프셋 조회 실패: connector={}", connectorName, e);
+			return Optional.empty();
+		}
+		return fromResponse(response);
+	}
+
+	// 소스 파티션이 여럿이면 가장 뒤처진 오프셋을 기준으로 삼는다
+	static Optional<CdcPosition> fromResponse(Map<String, Object> response) {
+		if (response == null || !(response.get("offsets") instanceof List<?> offsets) || offsets.isEmpty()) {
+			return Optional.empty();
+		}
+		List<Optional<CdcPosition>> positions = offsets.stream()
+			.map(entry -> entry instanceof Map<?, ?> sourceOffset ? sourceOffset.get("offset") : null)
+			.map(DebeziumOffsetClient::position)
+			.toList();
+		if (positions.stream().anyMatch(Optional::isEmpty)) {
+			return Optional.empty();
+		}
+		boolean snapshotInProgress = positions.stream().anyMatch(position -> position.get().snapshotInProgress());
+		return positions.stream()
+			.map(Optional::get)
+			.min(Comparator.comparing(CdcPosition::processedAt))
+			.map(oldest -> new CdcPosition(oldest.processedAt(), snapshotInProgress));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Optional<CdcPosition> position(Object offset) {
+		return offset instanceof Map<?, ?> map
+			? CdcPosition.fromOffset((Map<String, Object>)map)
+			: Optional.empty();
+	}
+}
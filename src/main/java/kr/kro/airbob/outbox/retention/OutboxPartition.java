@@ -0,0 +1,18 @@
+package kr.kro.airbob.outbox.retention;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox 일 단위 파티션
+ * upperBound가 null이면 MAXVALUE 파티션(p_future)이고, rows는 information_schema의 추정치다.
+ */
+record OutboxPartition(
+	String name,
+	LocalDateTime upperBound,
+	long rows
+) {
+
+	boolean isFuture() {
+		return upperBound == null;
+	}
+}
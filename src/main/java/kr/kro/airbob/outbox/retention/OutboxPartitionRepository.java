@@ -0,0 +1,86 @@
+package kr.kro.airbob.outbox.retention;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * outbox 테이블의 RANGE COLUMNS(created_at) 파티션 조회·분리·삭제
+ * 일 단위 파티션 p_yyyyMMdd는 해당 일자(UTC)의 행을, p_future는 아직 분리되지 않은 이후 행을 담는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxPartitionRepository {
+
+	static final String FUTURE_PARTITION = "p_future";
+
+	private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p_'yyyyMMdd");
+	private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+	private static final int BOUND_LENGTH = "yyyy-MM-dd HH:mm:ss".length();
+	private static final String MAXVALUE = "MAXVALUE";
+
+	// TABLE_ROWS는 InnoDB 통계 추정치라 지표 용도로만 쓴다
+	private static final String FIND_ALL_SQL = """
+		SELECT PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS
+		FROM information_schema.PARTITIONS
+		WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'outbox' AND PARTITION_NAME IS NOT NULL
+		ORDER BY PARTITION_ORDINAL_POSITION
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public List<OutboxPartition> findAll() {
+		return jdbcTemplate.query(FIND_ALL_SQL, (rs, rowNum) -> new OutboxPartition(
+			rs.getString("PARTITION_NAME"),
+			upperBound(rs.getString("PARTITION_DESCRIPTION")),
+			rs.getLong("TABLE_ROWS")));
+	}
+
+	// p_future를 일 단위 파티션들과 새 p_future로 나눈다. 날짜는 오름차순이고 기존 마지막 파티션 이후여야 한다
+	public void addDailyPartitions(List<LocalDate> days) {
+		if (days.isEmpty()) {
+			return;
+		}
+		String partitions = days.stream()
+			.map(day -> "PARTITION %s VALUES LESS THAN ('%s')".formatted(
+				partitionName(day), upperBoundOf(day).format(BOUND)))
+			.collect(Collectors.joining(", "));
+		jdbcTemplate.execute("ALTER TABLE outbox REORGANIZE PARTITION %s INTO (%s, PARTITION %s VALUES LESS THAN (%s))"
+			.formatted(FUTURE_PARTITION, partitions, FUTURE_PARTITION, MAXVALUE));
+	}
+
+	// DROP PARTITION은 행 단위 DELETE를 binlog에 남기지 않아 CDC로 삭제 이벤트가 나가지 않는다
+	public void dropPartitions(List<String> partitionNames) {
+		if (partitionNames.isEmpty()) {
+			return;
+		}
+		if (partitionNames.contains(FUTURE_PARTITION)) {
+			throw new IllegalArgumentException("p_future 파티션은 삭제할 수 없습니다.");
+		}
+		jdbcTemplate.execute("ALTER TABLE outbox DROP PARTITION " + String.join(", ", partitionNames));
+	}
+
+	static String partitionName(LocalDate day) {
+		return day.format(PARTITION_NAME);
+	}
+
+	static LocalDateTime upperBoundOf(LocalDate day) {
+		return day.plusDays(1).atStartOfDay();
+	}
+
+	// RANGE COLUMNS 경계는 '2026-10-19 00:00:00' 처럼 따옴표로 감싼 리터럴로 기록된다
+	private static LocalDateTime upperBound(String description) {
+		if (description == null || MAXVALUE.equalsIgnoreCase(description)) {
+			return null;
+		}
+		String literal = description.replace("'", "").trim();
+		return LocalDateTime.parse(literal.length() > BOUND_LENGTH ? literal.substring(0, BOUND_LENGTH) : literal, BOUND);
+	}
+}
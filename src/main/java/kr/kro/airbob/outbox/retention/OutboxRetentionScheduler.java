@@ -0,0 +1,24 @@
+package kr.kro.airbob.outbox.retention;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// outbox 파티션 유지 배치. 매시간 앞날 파티션을 보충하고 CDC가 지난 파티션을 삭제(멱등).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.retention.enabled", havingValue = "true")
+public class OutboxRetentionScheduler {
+
+	private final OutboxRetentionService retentionService;
+
+	@Scheduled(cron = "${outbox.retention.cron:0 10 * * * *}", zone = "UTC")
+	public void maintainPartitions() {
+		OutboxRetentionService.RetentionOutcome outcome = retentionService.run();
+		log.info("outbox 파티션 유지 배치 완료: result={}", outcome);
+	}
+}
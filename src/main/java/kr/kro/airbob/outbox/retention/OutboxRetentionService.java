@@ -0,0 +1,236 @@
+package kr.kro.airbob.outbox.retention;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 보존 작업
+ * 앞날의 일 단위 파티션을 미리 만들고, 보존 기간과 CDC 커넥터 진행 위치를 모두 지난 파티션만 DROP한다.
+ * 커넥터 위치를 모르거나 스냅샷 중이면 삭제하지 않는다(재시작·재스냅샷이 아직 읽어야 할 행일 수 있음).
+ */
+@Slf4j
+@Service
+public class OutboxRetentionService {
+
+	public static final String ROWS = "outbox.retention.rows";
+	public static final String PURGE_LAG = "outbox.retention.purge.lag";
+	public static final String PURGE_DURATION = "outbox.retention.purge.duration";
+	public static final String DROPPED_PARTITIONS_TOTAL = "outbox.retention.dropped.partitions";
+
+	private static final String LOCK_KEY = "LOCK:OUTBOX:RETENTION";
+	private static final long LOCK_WAIT_SECONDS = 5;
+
+	private final OutboxPartitionRepository partitionRepository;
+	private final DebeziumOffsetClient offsetClient;
+	private final RedissonClient redissonClient;
+	private final Clock clock;
+	private final int daysAhead;
+	private final Duration retention;
+	private final Duration safetyMargin;
+
+	private final AtomicLong rows = new AtomicLong();
+	private final AtomicLong purgeLagSeconds = new AtomicLong();
+	private final EnumMap<RetentionOutcome, Timer> purgeTimers = new EnumMap<>(RetentionOutcome.class);
+	private final Counter droppedPartitions;
+
+	public OutboxRetentionService(
+		OutboxPartitionRepository partitionRepository,
+		DebeziumOffsetClient offsetClient,
+		RedissonClient redissonClient,
+		MeterRegistry meterRegistry,
+		Clock clock,
+		@Value("${outbox.retention.days-ahead:3}") int daysAhead,
+		@Value("${outbox.retention.retention:1d}") Duration retention,
+		@Value("${outbox.retention.safety-margin:1h}") Duration safetyMargin
+	) {
+		this.partitionRepository = partitionRepository;
+		this.offsetClient = offsetClient;
+		this.redissonClient = redissonClient;
+		this.clock = clock;
+		this.daysAhead = daysAhead;
+		this.retention = retention;
+		this.safetyMargin = safetyMargin;
+
+		Gauge.builder(ROWS, rows, AtomicLong::get)
+			.description("Estimated rows kept in outbox partitions")
+			.register(meterRegistry);
+		Gauge.builder(PURGE_LAG, purgeLagSeconds, AtomicLong::get)
+			.description("Seconds the oldest outbox partition is kept beyond retention")
+			.baseUnit("seconds")
+			.register(meterRegistry);
+		// 락을 얻지 못한 실행은 유지 작업을 하지 않으므로 시간을 기록하지 않는다
+		for (RetentionOutcome outcome : RetentionOutcome.values()) {
+			if (outcome != RetentionOutcome.LOCK_NOT_ACQUIRED) {
+				purgeTimers.put(outcome, Timer.builder(PURGE_DURATION)
+					.description("Outbox partition maintenance duration")
+					.tag("result", outcome.name().toLowerCase(Locale.ROOT))
+					.register(meterRegistry));
+			}
+		}
+		this.droppedPartitions = Counter.builder(DROPPED_PARTITIONS_TOTAL)
+			.description("Outbox partitions dropped after CDC passed them")
+			.register(meterRegistry);
+	}
+
+	// 멀티 인스턴스 스케줄러가 같은 테이블에 DDL을 겹쳐 실행하지 않도록 분산 락으로 직렬화
+	public RetentionOutcome run() {
+		RLock lock = redissonClient.getLock(LOCK_KEY);
+		boolean acquired = false;
+		try {
+			acquired = lock.tryLock(LOCK_WAIT_SECONDS, TimeUnit.SECONDS);
+			if (!acquired) {
+				log.warn("[OUTBOX-RETENTION] 락 획득 실패(다른 노드 처리 중 추정) → skip");
+				return RetentionOutcome.LOCK_NOT_ACQUIRED;
+			}
+			return runLocked();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("[OUTBOX-RETENTION] 락 대기 중 인터럽트");
+			return RetentionOutcome.LOCK_NOT_ACQUIRED;
+		} finally {
+			if (acquired) {
+				releaseLock(lock);
+			}
+		}
+	}
+
+	private RetentionOutcome runLocked() {
+		long startedAt = System.nanoTime();
+		RetentionOutcome outcome;
+		try {
+			outcome = maintain();
+		} catch (RuntimeException e) {
+			log.error("[OUTBOX-RETENTION] 파티션 유지 작업 실패", e);
+			outcome = RetentionOutcome.FAILED;
+		}
+		purgeTimers.get(outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		return outcome;
+	}
+
+	private RetentionOutcome maintain() {
+		List<OutboxPartition> partitions = partitionRepository.findAll();
+		if (partitions.isEmpty()) {
+			log.warn("[OUTBOX-RETENTION] outbox 테이블이 파티션되어 있지 않음 → skip");
+			return RetentionOutcome.NOT_PARTITIONED;
+		}
+		LocalDateTime now = LocalDateTime.now(clock.withZone(ZoneOffset.UTC));
+		addMissingPartitions(partitions, now.toLocalDate());
+
+		List<OutboxPartition> bounded = partitions.stream()
+			.filter(partition -> !partition.isFuture())
+			.toList();
+		LocalDateTime retentionCutoff = now.minus(retention);
+		Optional<CdcPosition> position = offsetClient.currentPosition();
+		RetentionOutcome outcome;
+		List<OutboxPartition> kept = bounded;
+		if (position.isEmpty()) {
+			log.warn("[OUTBOX-RETENTION] 커넥터 오프셋을 알 수 없어 삭제 보류");
+			outcome = RetentionOutcome.CDC_POSITION_UNKNOWN;
+		} else if (position.get().snapshotInProgress()) {
+			log.info("[OUTBOX-RETENTION] 커넥터 스냅샷 진행 중이라 삭제 보류");
+			outcome = RetentionOutcome.SNAPSHOT_IN_PROGRESS;
+		} else {
+			LocalDateTime cdcCutoff = LocalDateTime.ofInstant(
+				position.get().processedAt().minus(safetyMargin), ZoneOffset.UTC);
+			LocalDateTime cutoff = cdcCutoff.isBefore(retentionCutoff) ? cdcCutoff : retentionCutoff;
+			kept = purge(bounded, cutoff);
+			outcome = kept.size() < bounded.size() ? RetentionOutcome.PURGED : RetentionOutcome.NOTHING_TO_PURGE;
+		}
+		updateGauges(partitions, bounded, kept, retentionCutoff);
+		return outcome;
+	}
+
+	// 마지막 일 단위 파티션 다음 날부터 오늘 + daysAhead까지 분리. 처음이면 오늘 파티션이 기존 행을 모두 받는다
+	private void addMissingPartitions(List<OutboxPartition> partitions, LocalDate today) {
+		LocalDate next = partitions.stream()
+			.filter(partition -> !partition.isFuture())
+			.map(partition -> partition.upperBound().toLocalDate())
+			.max(LocalDate::compareTo)
+			.orElse(today);
+		List<LocalDate> days = new ArrayList<>();
+		for (LocalDate day = next; !day.isAfter(today.plusDays(daysAhead)); day = day.plusDays(1)) {
+			days.add(day);
+		}
+		if (!days.isEmpty()) {
+			partitionRepository.addDailyPartitions(days);
+			log.info("[OUTBOX-RETENTION] 파티션 추가: from={}, to={}", days.get(0), days.get(days.size() - 1));
+		}
+	}
+
+	private List<OutboxPartition> purge(List<OutboxPartition> bounded, LocalDateTime cutoff) {
+		List<OutboxPartition> droppable = bounded.stream()
+			.filter(partition -> !partition.upperBound().isAfter(cutoff))
+			.toList();
+		if (droppable.isEmpty()) {
+			return bounded;
+		}
+		partitionRepository.dropPartitions(droppable.stream().map(OutboxPartition::name).toList());
+		droppedPartitions.increment(droppable.size());
+		log.info("[OUTBOX-RETENTION] 파티션 삭제: partitions={}, rows~{}, cutoff={}",
+			droppable.stream().map(OutboxPartition::name).toList(),
+			droppable.stream().mapToLong(OutboxPartition::rows).sum(), cutoff);
+		return bounded.stream()
+			.filter(partition -> !droppable.contains(partition))
+			.toList();
+	}
+
+	// rows는 남은 파티션 추정치 합, purge lag은 가장 오래된 파티션이 보존 기준을 넘겨 남아 있는 시간
+	private void updateGauges(List<OutboxPartition> partitions, List<OutboxPartition> bounded,
+		List<OutboxPartition> kept, LocalDateTime retentionCutoff) {
+		List<OutboxPartition> dropped = new ArrayList<>(bounded);
+		dropped.removeAll(kept);
+		rows.set(partitions.stream()
+			.filter(partition -> !dropped.contains(partition))
+			.mapToLong(OutboxPartition::rows)
+			.sum());
+		purgeLagSeconds.set(kept.stream()
+			.map(OutboxPartition::upperBound)
+			.min(LocalDateTime::compareTo)
+			.map(oldest -> Math.max(0L, Duration.between(oldest, retentionCutoff).toSeconds()))
+			.orElse(0L));
+	}
+
+	private void releaseLock(RLock lock) {
+		try {
+			lock.unlock();
+		} catch (RuntimeException exception) {
+			log.warn("[OUTBOX-RETENTION] 락 해제 실패", exception);
+		}
+	}
+
+	public enum RetentionOutcome {
+		// 보존 기간과 커넥터 위치를 지난 파티션 삭제
+		PURGED,
+		// 삭제 대상 없음
+		NOTHING_TO_PURGE,
+		// 커넥터 오프셋 조회 실패 또는 오프셋 없음(초기화된 커넥터)
+		CDC_POSITION_UNKNOWN,
+		// 스냅샷이 테이블을 읽는 중
+		SNAPSHOT_IN_PROGRESS,
+		// 마이그레이션 전 테이블
+		NOT_PARTITIONED,
+		LOCK_NOT_ACQUIRED,
+		FAILED
+	}
+}
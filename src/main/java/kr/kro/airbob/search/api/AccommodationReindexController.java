@@ -0,0 +1,35 @@
+package kr.kro.airbob.search.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import kr.kro.airbob.common.dto.ApiResponse;
+import kr.kro.airbob.search.reindex.AccommodationReindexJob;
+import kr.kro.airbob.search.reindex.AccommodationReindexStatus;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 인덱스 재구축 API (ADMIN 전용 — AdminAuthInterceptor 가 /api/v1/admin/** 보호).
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class AccommodationReindexController {
+
+	private final AccommodationReindexJob reindexJob;
+
+	@PostMapping("/v1/admin/search/reindex")
+	public ResponseEntity<ApiResponse<AccommodationReindexStatus>> startReindex() {
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(reindexJob.start()));
+	}
+
+	// 작업을 실행한 인스턴스에서 조회해야 진행 상황이 보인다
+	@GetMapping("/v1/admin/search/reindex")
+	public ResponseEntity<ApiResponse<AccommodationReindexStatus>> getReindexStatus() {
+		return ResponseEntity.ok(ApiResponse.success(reindexJob.status()));
+	}
+}
@@ -7,10 +7,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
 import kr.kro.airbob.common.dto.ApiResponse;
+import kr.kro.airbob.cursor.dto.SearchCursorData;
+import kr.kro.airbob.cursor.util.CursorDecoder;
 import kr.kro.airbob.domain.auth.annotation.CurrentMemberId;
 import kr.kro.airbob.search.dto.AccommodationSearchRequest;
 import kr.kro.airbob.search.dto.AccommodationSearchResponse;
@@ -23,6 +26,7 @@ import lombok.RequiredArgsConstructor;
 public class AccommodationSearchController {
 
 	private final AccommodationSearchService accommodationSearchService;
+	private final CursorDecoder cursorDecoder;
 
 	private static final int DEFAULT_PAGE_SIZE = 18;
 	private static final int MAX_PAGE_NUMBER = 14;
@@ -32,6 +36,7 @@ public class AccommodationSearchController {
 		@Valid @ModelAttribute AccommodationSearchRequest.MapBoundsDto mapBounds,
 		@Valid @ModelAttribute AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest,
 		@PageableDefault(size = DEFAULT_PAGE_SIZE, page = 0) Pageable pageable,
+		@RequestParam(required = false) String cursor,
 		@CurrentMemberId(required = false) Long memberId) {
 
 		if (pageable.getPageNumber() > MAX_PAGE_NUMBER) {
@@ -42,8 +47,11 @@ public class AccommodationSearchController {
 			pageable = PageRequest.of(pageable.getPageNumber(), DEFAULT_PAGE_SIZE);
 		}
 
+		// 커서가 있으면 page 번호 대신 커서의 정렬 값으로 이어서 조회하므로 페이지 상한을 두지 않음
+		SearchCursorData cursorData = cursorDecoder.decode(cursor, SearchCursorData.class);
+
 		AccommodationSearchResponse.AccommodationSearchInfos infos =
-			accommodationSearchService.searchAccommodations(searchRequest, mapBounds, pageable, memberId);
+			accommodationSearchService.searchAccommodations(searchRequest, mapBounds, pageable, cursorData, memberId);
 
 		return ResponseEntity.ok(ApiResponse.success(infos));
 	}
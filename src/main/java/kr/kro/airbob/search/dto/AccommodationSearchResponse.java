@@ -67,10 +67,13 @@ public class AccommodationSearchResponse {
 		int currentPage,
 		int totalPages,
 		long totalElements,
+		// true이면 totalElements는 집계 상한까지 센 최소 건수
+		boolean isTotalLowerBound,
 		boolean isFirst,
 		boolean isLast,
 		boolean hasNext,
-		boolean hasPrevious
+		boolean hasPrevious,
+		String nextCursor
 	){
 		public static PageInfo fail(int pageSize, int pageNumber) {
 			return PageInfo.builder()
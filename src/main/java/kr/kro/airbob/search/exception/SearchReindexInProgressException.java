@@ -0,0 +1,11 @@
+package kr.kro.airbob.search.exception;
+
+import kr.kro.airbob.common.exception.BaseException;
+import kr.kro.airbob.common.exception.ErrorCode;
+
+public class SearchReindexInProgressException extends BaseException {
+
+	public SearchReindexInProgressException() {
+		super(ErrorCode.SEARCH_REINDEX_IN_PROGRESS);
+	}
+}
@@ -0,0 +1,12 @@
+package kr.kro.airbob.search.reindex;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 숙소 검색 재색인 작업 정책 값을 애플리케이션 빈으로 등록
+ */
+@Configuration
+@EnableConfigurationProperties(AccommodationReindexProperties.class)
+public class AccommodationReindexConfiguration {
+}
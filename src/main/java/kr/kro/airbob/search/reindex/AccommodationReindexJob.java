@@ -0,0 +1,543 @@
+package kr.kro.airbob.search.reindex;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.CountRequest;
+import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
+import co.elastic.clients.elasticsearch.indices.DeleteIndexRequest;
+import co.elastic.clients.elasticsearch.indices.ExistsAliasRequest;
+import co.elastic.clients.elasticsearch.indices.ExistsRequest;
+import co.elastic.clients.elasticsearch.indices.GetAliasRequest;
+import co.elastic.clients.elasticsearch.indices.RefreshRequest;
+import co.elastic.clients.elasticsearch.indices.UpdateAliasesRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.kro.airbob.domain.accommodation.entity.AccommodationStatus;
+import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
+import kr.kro.airbob.domain.accommodation.repository.projection.AccommodationIndexingKey;
+import kr.kro.airbob.search.document.AccommodationDocument;
+import kr.kro.airbob.search.exception.SearchReindexInProgressException;
+import kr.kro.airbob.search.exception.SearchUnavailableException;
+import kr.kro.airbob.search.reindex.AccommodationReindexStatus.Phase;
+import kr.kro.airbob.search.service.AccommodationBulkIndexingService;
+import kr.kro.airbob.search.service.AccommodationDocumentBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 색인 consumer를 멈추지 않고 숙소 검색 인덱스를 새 버전 인덱스로 다시 만든다.
+ *
+ * 1. 버전 인덱스를 만들고 Redis에 이중 쓰기 대상으로 표시한다. 이후 실시간 색인은 두 인덱스에 함께 쓴다.
+ * 2. 공개 숙소를 id keyset으로 스캔해 페이지마다 IN 조회로 문서를 만들고, 병렬 _bulk create로 쓴다.
+ *    전송 대기 요청이 max-in-flight에 닿으면 스캔이 멈춘다.
+ * 3. 스캔 중 실시간 색인이 건드린 숙소를 MySQL 최신 상태로 다시 맞추고, 건수가 같아지면 alias를 원자 전환한다.
+ *
+ * 스캔은 create만 하므로 실시간 색인이 먼저 쓴 문서를 덮어쓰지 않는다.
+ * 스캔이 읽은 뒤 삭제된 숙소처럼 create가 되살린 문서는 3단계 재반영이 지운다.
+ */
+@Slf4j
+@Component
+public class AccommodationReindexJob implements DisposableBean {
+
+	public static final String DOCUMENTS_TOTAL = "accommodation.reindex.documents";
+	public static final String PROGRESS = "accommodation.reindex.progress";
+	public static final String THROUGHPUT = "accommodation.reindex.documents_per_second";
+
+	static final String ALIAS = "accommodations";
+	private static final String INDEX_DEFINITION = "elasticsearch/accommodations-index.json";
+	private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+	private final ElasticsearchClient esClient;
+	private final AccommodationRepository accommodationRepository;
+	private final AccommodationDocumentBuilder documentBuilder;
+	private final AccommodationBulkIndexingService bulkIndexingService;
+	private final AccommodationReindexState reindexState;
+	private final AccommodationReindexProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final Clock clock;
+	private final TransactionTemplate readOnlyTransaction;
+	private final ScheduledExecutorService runner;
+	private final AtomicReference<Run> current = new AtomicReference<>();
+
+	public AccommodationReindexJob(
+		ElasticsearchClient esClient,
+		AccommodationRepository accommodationRepository,
+		AccommodationDocumentBuilder documentBuilder,
+		AccommodationBulkIndexingService bulkIndexingService,
+		AccommodationReindexState reindexState,
+		AccommodationReindexProperties properties,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		Clock clock
+	) {
+		this.esClient = esClient;
+		this.accommodationRepository = accommodationRepository;
+		this.documentBuilder = documentBuilder;
+		this.bulkIndexingService = bulkIndexingService;
+		this.reindexState = reindexState;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.clock = clock;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		// 작업 본문과 임대 연장이 서로를 막지 않도록 두 스레드
+		this.runner = Executors.newScheduledThreadPool(2, daemonThreads("accommodation-reindex"));
+		Gauge.builder(PROGRESS, current, reference -> progressRatio(reference.get()))
+			.description("Share of published accommodations scanned by the running reindex")
+			.register(meterRegistry);
+		Gauge.builder(THROUGHPUT, current, reference -> documentsPerSecond(reference.get()))
+			.description("Documents written per second by the latest reindex scan")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 버전 인덱스를 만들고 작업을 백그라운드에서 시작한다. 진행 상황은 {@link #status()}로 확인한다.
+	 */
+	public AccommodationReindexStatus start() {
+		Run running = current.get();
+		if (running != null && running.phase().running()) {
+			throw new SearchReindexInProgressException();
+		}
+
+		Run run = prepare();
+		current.set(run);
+		runner.execute(() -> execute(run));
+		log.info("[ES-REINDEX] 재색인 시작: alias={}, previous={}, target={}",
+			ALIAS, run.previousIndex, run.targetIndex);
+		return run.status();
+	}
+
+	public AccommodationReindexStatus status() {
+		Run run = current.get();
+		return run == null ? null : run.status();
+	}
+
+	@Override
+	public void destroy() {
+		runner.shutdownNow();
+	}
+
+	Run prepare() {
+		String previousIndex = resolveAliasIndex();
+		String targetIndex = ALIAS + "-v" + VERSION_FORMAT.format(LocalDateTime.now(clock));
+		// 이중 쓰기 표시보다 먼저 만들어야 실시간 색인이 동적 mapping 인덱스를 자동 생성하지 않는다
+		createIndex(targetIndex);
+		if (!reindexState.tryStart(targetIndex, properties.leaseTtl())) {
+			deleteIndex(targetIndex);
+			throw new SearchReindexInProgressException();
+		}
+		return new Run(targetIndex, previousIndex, clock.instant());
+	}
+
+	void execute(Run run) {
+		long leaseMillis = properties.leaseTtl().toMillis();
+		ScheduledFuture<?> heartbeat = runner.scheduleAtFixedRate(() -> extendLease(run),
+			leaseMillis / 3, leaseMillis / 3, TimeUnit.MILLISECONDS);
+		try {
+			sleep(properties.propagationDelay());
+			run.publishedTotal.set(countPublished());
+			run.phase(Phase.SCANNING);
+			scan(run);
+			run.phase(Phase.RECONCILING);
+			reconcileAndSwitch(run);
+			run.finish(Phase.COMPLETED, null, clock.instant());
+			log.info("[ES-REINDEX] 재색인 완료: alias={} -> {}, status={}", ALIAS, run.targetIndex, run.status());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			run.finish(Phase.FAILED, "interrupted", clock.instant());
+		} catch (RuntimeException e) {
+			log.error("[ES-REINDEX] 재색인 실패. alias 유지, 대상 인덱스 보존: target={}", run.targetIndex, e);
+			run.finish(Phase.FAILED, e.getMessage(), clock.instant());
+		} finally {
+			heartbeat.cancel(false);
+			try {
+				reindexState.finish(run.targetIndex);
+			} catch (RuntimeException e) {
+				log.warn("[ES-REINDEX] 이중 쓰기 표시 해제 실패. 임대 만료 후 해제: target={}", run.targetIndex, e);
+			}
+		}
+	}
+
+	private void scan(Run run) throws InterruptedException {
+		int maxInFlight = properties.maxInFlight();
+		Semaphore inFlight = new Semaphore(maxInFlight);
+		ExecutorService writers = Executors.newFixedThreadPool(properties.writers(),
+			daemonThreads("accommodation-reindex-writer"));
+		try {
+			long lastAccommodationId = 0L;
+			while (true) {
+				run.ensureLeaseHeld();
+				ScanPage page = readPage(lastAccommodationId);
+				if (page.keys().isEmpty()) {
+					break;
+				}
+				// 전송 대기 요청이 가득 차면 여기서 기다려 스캔이 쓰기보다 앞서 나가지 않는다
+				inFlight.acquire();
+				try {
+					writers.execute(() -> {
+						try {
+							write(run, page);
+						} finally {
+							inFlight.release();
+						}
+					});
+				} catch (RuntimeException e) {
+					inFlight.release();
+					throw e;
+				}
+				run.scanned.addAndGet(page.keys().size());
+				lastAccommodationId = page.keys().get(page.keys().size() - 1).accommodationId();
+			}
+			inFlight.acquire(maxInFlight);
+			inFlight.release(maxInFlight);
+			run.scanFinishedAt = clock.instant();
+		} finally {
+			writers.shutdownNow();
+		}
+	}
+
+	private ScanPage readPage(long lastAccommodationId) {
+		return readOnlyTransaction.execute(status -> {
+			List<AccommodationIndexingKey> keys =
+				accommodationRepository.findPublishedIndexingKeysAfter(lastAccommodationId, properties.pageSize());
+			if (keys.isEmpty()) {
+				return new ScanPage(keys, List.of());
+			}
+			List<UUID> uids = keys.stream().map(AccommodationIndexingKey::accommodationUid).toList();
+			// 스캔과 문서 생성 사이에 게시 중단된 숙소는 만들지 않는다
+			List<AccommodationDocument> documents = documentBuilder.buildAccommodationDocuments(uids).values()
+				.stream()
+				.filter(document -> AccommodationStatus.PUBLISHED.name().equals(document.status()))
+				.toList();
+			return new ScanPage(keys, documents);
+		});
+	}
+
+	private void write(Run run, ScanPage page) {
+		try {
+			AccommodationBulkIndexingService.Result result =
+				bulkIndexingService.create(run.targetIndex, page.documents());
+			int conflicts = page.documents().size() - result.indexed() - result.failed().size();
+			run.written.addAndGet(result.indexed());
+			run.conflicts.addAndGet(conflicts);
+			run.retry(result.failed());
+			count(DocumentOutcome.CREATED, result.indexed());
+			count(DocumentOutcome.CONFLICT, conflicts);
+			count(DocumentOutcome.FAILED, result.failed().size());
+		} catch (RuntimeException e) {
+			log.warn("[ES-REINDEX] 스캔 _bulk 요청 실패. 재반영 단계에서 다시 씀: count={}", page.keys().size(), e);
+			run.retry(page.keys().stream().map(AccommodationIndexingKey::accommodationUid).toList());
+			count(DocumentOutcome.FAILED, page.documents().size());
+		}
+	}
+
+	private void reconcileAndSwitch(Run run) throws InterruptedException {
+		for (int attempt = 1; attempt <= properties.reconcileAttempts(); attempt++) {
+			run.ensureLeaseHeld();
+			Set<UUID> pending = new HashSet<>(reindexState.drainTouched());
+			pending.addAll(run.drainRetry());
+			replay(run, pending);
+			if (!run.retry.isEmpty()) {
+				log.warn("[ES-REINDEX] 재반영 실패 항목 남음: attempt={}, count={}", attempt, run.retry.size());
+				sleep(properties.propagationDelay());
+				continue;
+			}
+
+			refresh(run.targetIndex);
+			long published = countPublished();
+			long indexed = countDocuments(run.targetIndex);
+			if (published == indexed) {
+				switchAlias(run);
+				return;
+			}
+			log.warn("[ES-REINDEX] 건수 불일치. 재대조: attempt={}, mysql={}, target={}", attempt, published, indexed);
+			sleep(properties.propagationDelay());
+		}
+		throw new IllegalStateException("document count did not reconcile after "
+			+ properties.reconcileAttempts() + " attempts: target=" + run.targetIndex);
+	}
+
+	private void replay(Run run, Collection<UUID> accommodationUids) {
+		List<UUID> uids = new ArrayList<>(accommodationUids);
+		for (int from = 0; from < uids.size(); from += properties.pageSize()) {
+			List<UUID> chunk = uids.subList(from, Math.min(from + properties.pageSize(), uids.size()));
+			try {
+				AccommodationBulkIndexingService.Result result = bulkIndexingService.replay(run.targetIndex, chunk);
+				run.replayed.addAndGet(chunk.size() - result.failed().size());
+				run.retry(result.failed());
+			} catch (RuntimeException e) {
+				log.warn("[ES-REINDEX] 재반영 _bulk 요청 실패: count={}", chunk.size(), e);
+				run.retry(chunk);
+			}
+		}
+	}
+
+	// 작업 도중 다른 작업이 alias를 바꿨으면 전환하지 않는다
+	private void switchAlias(Run run) {
+		run.ensureLeaseHeld();
+		String observed = resolveAliasIndex();
+		if (observed != null ? !observed.equals(run.previousIndex) : run.previousIndex != null) {
+			throw new IllegalStateException("alias changed while reindexing: expected="
+				+ run.previousIndex + " actual=" + observed);
+		}
+		try {
+			esClient.indices().updateAliases(UpdateAliasesRequest.of(update -> {
+				if (run.previousIndex != null) {
+					update.actions(action -> action.remove(remove -> remove
+						.index(run.previousIndex)
+						.alias(ALIAS)
+						.mustExist(true)));
+				}
+				return update.actions(action -> action.add(add -> add
+					.index(run.targetIndex)
+					.alias(ALIAS)
+					.isWriteIndex(true)));
+			}));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		log.info("[ES-REINDEX] alias 전환: {} -> {} (이전 인덱스 보존: {})", ALIAS, run.targetIndex, run.previousIndex);
+	}
+
+	private void extendLease(Run run) {
+		try {
+			if (!reindexState.extend(run.targetIndex, properties.leaseTtl())) {
+				run.leaseLost = true;
+			}
+		} catch (RuntimeException e) {
+			log.warn("[ES-REINDEX] 임대 연장 실패: target={}", run.targetIndex, e);
+		}
+	}
+
+	/**
+	 * @return alias가 가리키는 인덱스. alias가 아직 없으면 null
+	 */
+	private String resolveAliasIndex() {
+		try {
+			if (!esClient.indices().existsAlias(ExistsAliasRequest.of(exists -> exists.name(ALIAS))).value()) {
+				if (esClient.indices().exists(ExistsRequest.of(exists -> exists.index(ALIAS))).value()) {
+					throw new IllegalStateException("found a concrete index named " + ALIAS
+						+ "; migrate it to an alias before reindexing");
+				}
+				return null;
+			}
+			Set<String> indices = esClient.indices().getAlias(GetAliasRequest.of(alias -> alias.name(ALIAS)))
+				.result().keySet();
+			if (indices.size() != 1) {
+				throw new IllegalStateException("alias " + ALIAS + " must point to exactly one index: " + indices);
+			}
+			return indices.iterator().next();
+		} catch (ElasticsearchException | IOException e) {
+			throw new SearchUnavailableException(e);
+		}
+	}
+
+	// 설정과 엄격한 mapping은 Logstash 재색인과 같은 정의 파일을 사용한다
+	private void createIndex(String index) {
+		try (InputStream definition = new ClassPathResource(INDEX_DEFINITION).getInputStream()) {
+			esClient.indices().create(CreateIndexRequest.of(create -> create.index(index).withJson(definition)));
+		} catch (ElasticsearchException | IOException e) {
+			throw new SearchUnavailableException(e);
+		}
+	}
+
+	private void deleteIndex(String index) {
+		try {
+			esClient.indices().delete(DeleteIndexRequest.of(delete -> delete.index(index)));
+		} catch (ElasticsearchException | IOException e) {
+			log.warn("[ES-REINDEX] 시작하지 못한 대상 인덱스 삭제 실패: index={}", index, e);
+		}
+	}
+
+	private void refresh(String index) {
+		try {
+			esClient.indices().refresh(RefreshRequest.of(refresh -> refresh.index(index)));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private long countDocuments(String index) {
+		try {
+			return esClient.count(CountRequest.of(count -> count.index(index))).count();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private long countPublished() {
+		Long count = readOnlyTransaction.execute(status ->
+			accommodationRepository.countByStatusAndAccommodationUidIsNotNull(AccommodationStatus.PUBLISHED));
+		return count == null ? 0L : count;
+	}
+
+	private void count(DocumentOutcome outcome, int amount) {
+		if (amount <= 0) {
+			return;
+		}
+		Counter.builder(DOCUMENTS_TOTAL)
+			.description("Documents handled by the reindex scan")
+			.tag("result", outcome.name().toLowerCase(Locale.ROOT))
+			.register(meterRegistry)
+			.increment(amount);
+	}
+
+	private static void sleep(Duration duration) throws InterruptedException {
+		if (!duration.isZero()) {
+			Thread.sleep(duration.toMillis());
+		}
+	}
+
+	private double progressRatio(Run run) {
+		if (run == null) {
+			return 0.0;
+		}
+		long total = run.publishedTotal.get();
+		if (run.phase() == Phase.COMPLETED) {
+			return 1.0;
+		}
+		return total <= 0 ? 0.0 : Math.min(1.0, (double) run.scanned.get() / total);
+	}
+
+	private double documentsPerSecond(Run run) {
+		if (run == null) {
+			return 0.0;
+		}
+		Instant end = run.scanFinishedAt != null ? run.scanFinishedAt : clock.instant();
+		double seconds = Duration.between(run.startedAt, end).toMillis() / 1000.0;
+		return seconds <= 0 ? 0.0 : run.written.get() / seconds;
+	}
+
+	private static ThreadFactory daemonThreads(String prefix) {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private record ScanPage(List<AccommodationIndexingKey> keys, List<AccommodationDocument> documents) {
+	}
+
+	enum DocumentOutcome {
+		// 스캔이 새로 만든 문서
+		CREATED,
+		// 실시간 색인이 먼저 써서 건너뜀
+		CONFLICT,
+		// 재반영 단계에서 다시 씀
+		FAILED
+	}
+
+	final class Run {
+
+		private final String targetIndex;
+		private final String previousIndex;
+		private final Instant startedAt;
+		private final AtomicLong publishedTotal = new AtomicLong();
+		private final AtomicLong scanned = new AtomicLong();
+		private final AtomicLong written = new AtomicLong();
+		private final AtomicLong conflicts = new AtomicLong();
+		private final AtomicLong replayed = new AtomicLong();
+		private final AtomicLong failed = new AtomicLong();
+		private final Set<UUID> retry = ConcurrentHashMap.newKeySet();
+		private volatile Phase phase = Phase.PREPARING;
+		private volatile boolean leaseLost;
+		private volatile Instant scanFinishedAt;
+		private volatile Instant finishedAt;
+		private volatile String failureReason;
+
+		private Run(String targetIndex, String previousIndex, Instant startedAt) {
+			this.targetIndex = targetIndex;
+			this.previousIndex = previousIndex;
+			this.startedAt = startedAt;
+		}
+
+		Phase phase() {
+			return phase;
+		}
+
+		private void phase(Phase phase) {
+			this.phase = phase;
+		}
+
+		private void finish(Phase phase, String failureReason, Instant finishedAt) {
+			this.failureReason = failureReason;
+			this.finishedAt = finishedAt;
+			this.phase = phase;
+		}
+
+		// 임대를 잃으면 다른 인스턴스가 새 작업을 시작했을 수 있어 더 진행하지 않는다
+		private void ensureLeaseHeld() {
+			if (leaseLost) {
+				throw new IllegalStateException("reindex lease lost: target=" + targetIndex);
+			}
+		}
+
+		private void retry(Collection<UUID> accommodationUids) {
+			retry.addAll(accommodationUids);
+			failed.addAndGet(accommodationUids.size());
+		}
+
+		private Set<UUID> drainRetry() {
+			Set<UUID> drained = new HashSet<>();
+			for (UUID accommodationUid : retry) {
+				if (retry.remove(accommodationUid)) {
+					drained.add(accommodationUid);
+				}
+			}
+			return drained;
+		}
+
+		AccommodationReindexStatus status() {
+			return new AccommodationReindexStatus(
+				targetIndex,
+				previousIndex,
+				phase,
+				publishedTotal.get(),
+				scanned.get(),
+				written.get(),
+				conflicts.get(),
+				failed.get(),
+				replayed.get(),
+				documentsPerSecond(this),
+				startedAt,
+				finishedAt,
+				failureReason
+			);
+		}
+	}
+}
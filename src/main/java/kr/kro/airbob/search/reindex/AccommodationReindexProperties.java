@@ -0,0 +1,39 @@
+package kr.kro.airbob.search.reindex;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+
+/**
+ * 애플리케이션 내부 재색인 작업의 스캔·쓰기 병렬도와 안전 장치
+ *
+ * @param pageSize keyset 스캔 한 페이지이자 _bulk 요청 하나의 숙소 수
+ * @param writers _bulk 요청을 보내는 스레드 수
+ * @param maxInFlight 전송을 기다리거나 전송 중인 _bulk 요청 상한. 가득 차면 스캔이 멈춰 기다림
+ * @param leaseTtl 이중 쓰기 대상 표시의 보관 시간. 작업이 죽으면 이 시간 뒤 이중 쓰기가 멈춤
+ * @param propagationDelay 이중 쓰기 표시 후 스캔 시작까지 기다리는 시간. 표시 전에 시작된 실시간 색인을 흘려보냄
+ * @param reconcileAttempts 건수 대조 재시도 횟수. 모두 어긋나면 alias를 바꾸지 않음
+ */
+@ConfigurationProperties(prefix = "accommodation.search.reindex")
+public record AccommodationReindexProperties(
+	int pageSize,
+	int writers,
+	int maxInFlight,
+	Duration leaseTtl,
+	Duration propagationDelay,
+	int reconcileAttempts
+) {
+	public AccommodationReindexProperties {
+		Assert.isTrue(pageSize > 0, "accommodation.search.reindex.page-size must be positive");
+		Assert.isTrue(writers > 0, "accommodation.search.reindex.writers must be positive");
+		Assert.isTrue(maxInFlight >= writers,
+			"accommodation.search.reindex.max-in-flight must not be less than writers");
+		Assert.notNull(leaseTtl, "accommodation.search.reindex.lease-ttl must not be null");
+		Assert.isTrue(leaseTtl.toMillis() > 0, "accommodation.search.reindex.lease-ttl must be positive");
+		Assert.notNull(propagationDelay, "accommodation.search.reindex.propagation-delay must not be null");
+		Assert.isTrue(!propagationDelay.isNegative(),
+			"accommodation.search.reindex.propagation-delay must not be negative");
+		Assert.isTrue(reconcileAttempts > 0, "accommodation.search.reindex.reconcile-attempts must be positive");
+	}
+}
@@ -0,0 +1,109 @@
+package kr.kro.airbob.search.reindex;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모든 인스턴스가 공유하는 재색인 상태.
+ * 대상 인덱스 키가 있는 동안 실시간 색인은 alias와 대상 인덱스에 함께 쓰고, 건드린 UID를 남긴다.
+ * 대상 키는 작업 잠금도 겸하므로 한 번에 하나의 재색인만 진행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccommodationReindexState {
+
+	private static final String TARGET_KEY = "airbob:search:reindex:{accommodations}:target";
+	private static final String TOUCHED_KEY = "airbob:search:reindex:{accommodations}:touched";
+	private static final long DRAIN_BATCH = 1_000;
+
+	// 작업이 자기 대상일 때만 임대 시간을 늘리고, 건드린 UID 집합도 같은 시간만큼 보관
+	private static final DefaultRedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+			return 0
+		end
+		redis.call('PEXPIRE', KEYS[1], ARGV[2])
+		redis.call('PEXPIRE', KEYS[2], ARGV[2])
+		return 1
+		""", Long.class);
+
+	private static final DefaultRedisScript<Long> FINISH_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+			return 0
+		end
+		redis.call('DEL', KEYS[1], KEYS[2])
+		return 1
+		""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	// 마지막으로 확인한 대상. Redis를 읽지 못하면 이 값으로 계속 이중 쓰기한다
+	private volatile String lastObservedTarget;
+
+	public boolean tryStart(String targetIndex, Duration lease) {
+		Boolean acquired = redisTemplate.opsForValue().setIfAbsent(TARGET_KEY, targetIndex, lease);
+		if (!Boolean.TRUE.equals(acquired)) {
+			return false;
+		}
+		// 이전 작업이 비정상 종료하며 남긴 UID는 새 대상과 무관
+		redisTemplate.delete(TOUCHED_KEY);
+		return true;
+	}
+
+	public boolean extend(String targetIndex, Duration lease) {
+		Long extended = redisTemplate.execute(EXTEND_SCRIPT, List.of(TARGET_KEY, TOUCHED_KEY),
+			targetIndex, String.valueOf(lease.toMillis()));
+		return extended != null && extended == 1L;
+	}
+
+	public void finish(String targetIndex) {
+		redisTemplate.execute(FINISH_SCRIPT, List.of(TARGET_KEY, TOUCHED_KEY), targetIndex);
+	}
+
+	/**
+	 * 실시간 색인 경로가 호출. 진행 중인 재색인이 없으면 비어 있다
+	 */
+	public Optional<String> activeTarget() {
+		try {
+			lastObservedTarget = redisTemplate.opsForValue().get(TARGET_KEY);
+		} catch (RuntimeException e) {
+			log.warn("[ES-REINDEX] 재색인 상태 조회 실패. 마지막 확인 값 사용: target={}", lastObservedTarget, e);
+		}
+		return Optional.ofNullable(lastObservedTarget);
+	}
+
+	// 실패는 호출자에게 전파해 실시간 색인이 재시도되게 한다. 기록이 빠지면 마지막 보정에서 누락됨
+	public void markTouched(Collection<UUID> accommodationUids) {
+		if (accommodationUids.isEmpty()) {
+			return;
+		}
+		String[] members = accommodationUids.stream().map(UUID::toString).toArray(String[]::new);
+		redisTemplate.opsForSet().add(TOUCHED_KEY, members);
+	}
+
+	/**
+	 * 지금까지 건드린 UID를 꺼내고 집합에서 지운다. 꺼내는 동안 추가된 UID는 다음 호출에서 나온다
+	 */
+	public Set<UUID> drainTouched() {
+		Set<UUID> drained = new HashSet<>();
+		while (true) {
+			List<String> popped = redisTemplate.opsForSet().pop(TOUCHED_KEY, DRAIN_BATCH);
+			if (popped == null || popped.isEmpty()) {
+				return drained;
+			}
+			popped.forEach(value -> drained.add(UUID.fromString(value)));
+		}
+	}
+}
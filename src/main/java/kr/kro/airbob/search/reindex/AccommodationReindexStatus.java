@@ -0,0 +1,44 @@
+package kr.kro.airbob.search.reindex;
+
+import java.time.Instant;
+
+/**
+ * 재색인 작업 진행 상황. 작업을 실행한 인스턴스의 메모리 값이다
+ *
+ * @param publishedTotal 스캔 시작 시 공개 숙소 수. 진행률의 분모
+ * @param written 스캔이 새로 만든 문서 수
+ * @param conflicts 실시간 색인이 먼저 써서 스캔이 건너뛴 문서 수
+ * @param replayed 이중 쓰기 중 변경된 숙소를 대상 인덱스에 다시 맞춘 수
+ */
+public record AccommodationReindexStatus(
+	String targetIndex,
+	String previousIndex,
+	Phase phase,
+	long publishedTotal,
+	long scanned,
+	long written,
+	long conflicts,
+	long failed,
+	long replayed,
+	double documentsPerSecond,
+	Instant startedAt,
+	Instant finishedAt,
+	String failureReason
+) {
+
+	public enum Phase {
+		// 스캔 전 이중 쓰기 표시가 모든 인스턴스에 퍼지기를 기다림
+		PREPARING,
+		// keyset 스캔과 병렬 _bulk 쓰기
+		SCANNING,
+		// 변경분 재반영, 건수 대조와 alias 전환
+		RECONCILING,
+		COMPLETED,
+		// 실패한 대상 인덱스는 조사를 위해 남겨 둔다
+		FAILED;
+
+		public boolean running() {
+			return this == PREPARING || this == SCANNING || this == RECONCILING;
+		}
+	}
+}
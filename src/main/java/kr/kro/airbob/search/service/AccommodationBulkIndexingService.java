@@ -0,0 +1,205 @@
+package kr.kro.airbob.search.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import kr.kro.airbob.domain.accommodation.entity.AccommodationStatus;
+import kr.kro.airbob.search.document.AccommodationDocument;
+import kr.kro.airbob.search.reindex.AccommodationReindexState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 숙소의 색인 변경을 IN 조회와 _bulk 요청 한 번으로 반영한다.
+ * 항목별 실패는 예외 대신 결과의 failed로 돌려주어 호출자가 해당 UID만 재시도하게 한다.
+ * 재색인이 진행 중이면 같은 요청에 대상 인덱스 쓰기도 담는다.
+ * 문서는 짧은 읽기 트랜잭션에서 만들고, _bulk 요청은 DB 커넥션을 놓은 뒤 보낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccommodationBulkIndexingService {
+
+	private static final String INDEX_NAME = "accommodations";
+	private static final int CONFLICT = 409;
+
+	private final ElasticsearchClient esClient;
+	private final ElasticsearchConverter elasticsearchConverter;
+	private final AccommodationDocumentBuilder documentBuilder;
+	private final AccommodationReindexState reindexState;
+	private final PlatformTransactionManager transactionManager;
+
+	public Result apply(Collection<UUID> refreshUids, Collection<UUID> deleteUids) {
+		Map<UUID, AccommodationDocument> documents = loadDocuments(refreshUids);
+		Optional<String> reindexTarget = reindexState.activeTarget();
+
+		Set<UUID> failed = new HashSet<>();
+		List<BulkOperation> operations = new ArrayList<>();
+		for (UUID accommodationUid : refreshUids) {
+			AccommodationDocument document = documents.get(accommodationUid);
+			if (document == null) {
+				// 단건 색인과 같이 원본이 없는 숙소는 재시도 후 DLT로 격리
+				failed.add(accommodationUid);
+			} else if (AccommodationStatus.PUBLISHED.name().equals(document.status())) {
+				operations.add(BulkOperation.of(op -> op.index(index -> index
+					.index(INDEX_NAME)
+					.id(document.id())
+					.document(elasticsearchConverter.mapObject(document)))));
+			} else {
+				operations.add(deleteOperation(accommodationUid));
+			}
+		}
+		deleteUids.forEach(accommodationUid -> operations.add(deleteOperation(accommodationUid)));
+
+		if (reindexTarget.isPresent()) {
+			List<UUID> touched = new ArrayList<>(refreshUids);
+			touched.addAll(deleteUids);
+			reindexState.markTouched(touched);
+			operations.addAll(replayOperations(reindexTarget.get(), documents, refreshUids));
+			deleteUids.forEach(accommodationUid -> operations.add(deleteOperation(reindexTarget.get(), accommodationUid)));
+		}
+
+		if (operations.isEmpty()) {
+			return new Result(0, 0, failed);
+		}
+		return send(operations, failed, reindexTarget.orElse(null));
+	}
+
+	/**
+	 * 재색인 대상 인덱스를 MySQL 최신 상태로 맞춘다. 공개 숙소는 저장하고 그 밖의 숙소는 제거한다.
+	 */
+	public Result replay(String index, Collection<UUID> accommodationUids) {
+		if (accommodationUids.isEmpty()) {
+			return new Result(0, 0, Set.of());
+		}
+		Map<UUID, AccommodationDocument> documents = loadDocuments(accommodationUids);
+		return send(replayOperations(index, documents, accommodationUids), new HashSet<>(), null);
+	}
+
+	/**
+	 * 단건 색인 경로가 처리를 마친 뒤 호출한다. 재색인이 진행 중이 아니면 아무것도 하지 않는다.
+	 * 대상 인덱스 쓰기가 실패하면 예외로 알려 이벤트가 retry 토픽을 타게 한다.
+	 */
+	public void mirrorToReindexTarget(UUID accommodationUid) {
+		Optional<String> reindexTarget = reindexState.activeTarget();
+		if (reindexTarget.isEmpty()) {
+			return;
+		}
+		reindexState.markTouched(List.of(accommodationUid));
+		Result result = replay(reindexTarget.get(), List.of(accommodationUid));
+		if (!result.failed().isEmpty()) {
+			throw new IllegalStateException("reindex target write failed: " + accommodationUid);
+		}
+	}
+
+	/**
+	 * 재색인 스캔 전용. 문서가 이미 있으면 실시간 색인이 먼저 쓴 최신 값이므로 덮어쓰지 않는다.
+	 */
+	public Result create(String index, Collection<AccommodationDocument> documents) {
+		if (documents.isEmpty()) {
+			return new Result(0, 0, Set.of());
+		}
+		List<BulkOperation> operations = new ArrayList<>(documents.size());
+		for (AccommodationDocument document : documents) {
+			operations.add(BulkOperation.of(op -> op.create(create -> create
+				.index(index)
+				.id(document.id())
+				.document(elasticsearchConverter.mapObject(document)))));
+		}
+		return send(operations, new HashSet<>(), null);
+	}
+
+	// 호출자 트랜잭션이 없으면 문서 조회가 끝나는 즉시 커넥션을 돌려준다
+	private Map<UUID, AccommodationDocument> loadDocuments(Collection<UUID> accommodationUids) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(true);
+		return transaction.execute(status -> documentBuilder.buildAccommodationDocuments(accommodationUids));
+	}
+
+	private List<BulkOperation> replayOperations(
+		String index,
+		Map<UUID, AccommodationDocument> documents,
+		Collection<UUID> accommodationUids
+	) {
+		List<BulkOperation> operations = new ArrayList<>(accommodationUids.size());
+		for (UUID accommodationUid : accommodationUids) {
+			AccommodationDocument document = documents.get(accommodationUid);
+			if (document != null && AccommodationStatus.PUBLISHED.name().equals(document.status())) {
+				operations.add(BulkOperation.of(op -> op.index(write -> write
+					.index(index)
+					.id(document.id())
+					.document(elasticsearchConverter.mapObject(document)))));
+			} else {
+				operations.add(deleteOperation(index, accommodationUid));
+			}
+		}
+		return operations;
+	}
+
+	// mirrorIndex 항목은 실패만 모으고 indexed/deleted 집계에서 뺀다
+	private Result send(List<BulkOperation> operations, Set<UUID> failed, String mirrorIndex) {
+		if (operations.isEmpty()) {
+			return new Result(0, 0, Set.copyOf(failed));
+		}
+		BulkResponse response;
+		try {
+			response = esClient.bulk(BulkRequest.of(bulk -> bulk.operations(operations)));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		int indexed = 0;
+		int deleted = 0;
+		for (BulkResponseItem item : response.items()) {
+			if (item.error() != null) {
+				// 재색인 스캔의 create 충돌은 실시간 색인이 먼저 쓴 문서이므로 실패가 아님
+				if (item.operationType() == OperationType.Create && item.status() == CONFLICT) {
+					continue;
+				}
+				log.warn("[ES-BULK] 숙소 색인 항목 실패: index={}, id={}, reason={}",
+					item.index(), item.id(), item.error().reason());
+				failed.add(UUID.fromString(item.id()));
+			} else if (item.index().equals(mirrorIndex)) {
+				continue;
+			} else if (item.operationType() == OperationType.Delete) {
+				deleted++;
+			} else {
+				indexed++;
+			}
+		}
+		log.info("[ES-BULK] 숙소 색인 반영: indexed={}, deleted={}, failed={}", indexed, deleted, failed.size());
+		return new Result(indexed, deleted, Set.copyOf(failed));
+	}
+
+	private BulkOperation deleteOperation(UUID accommodationUid) {
+		return deleteOperation(INDEX_NAME, accommodationUid);
+	}
+
+	private BulkOperation deleteOperation(String index, UUID accommodationUid) {
+		return BulkOperation.of(op -> op.delete(delete -> delete
+			.index(index)
+			.id(accommodationUid.toString())));
+	}
+
+	public record Result(int indexed, int deleted, Set<UUID> failed) {
+	}
+}
@@ -1,8 +1,11 @@
 package kr.kro.airbob.search.service;
 
 import java.time.ZoneOffset;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -15,11 +18,14 @@ import kr.kro.airbob.domain.accommodation.entity.OccupancyPolicy;
 import kr.kro.airbob.domain.accommodation.exception.AccommodationNotFoundException;
 import kr.kro.airbob.domain.accommodation.repository.AccommodationAmenityRepository;
 import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
+import kr.kro.airbob.domain.reservation.dto.AccommodationReservationDateRange;
 import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
 import kr.kro.airbob.domain.reservation.policy.BookingWindowProvider;
 import kr.kro.airbob.domain.reservation.policy.ReservationIndexingWindow;
+import kr.kro.airbob.domain.review.dto.ReviewResponse;
 import kr.kro.airbob.domain.review.entity.AccommodationReviewSummary;
 import kr.kro.airbob.domain.review.repository.AccommodationReviewSummaryRepository;
+import kr.kro.airbob.domain.review.summary.ReviewSummaryStripeCounter;
 import kr.kro.airbob.search.document.AccommodationDocument;
 import lombok.RequiredArgsConstructor;
 
@@ -32,6 +38,7 @@ public class AccommodationDocumentBuilder {
 	private final ReservationRepository reservationRepository;
 	private final AccommodationReviewSummaryRepository reviewSummaryRepository;
 	private final BookingWindowProvider bookingWindowProvider;
+	private final ReviewSummaryStripeCounter reviewSummaryCounter;
 
 	public AccommodationDocument buildAccommodationDocument(String accommodationUidStr) {
 		UUID accommodationUid = UUID.fromString(accommodationUidStr);
@@ -42,8 +49,99 @@ public class AccommodationDocumentBuilder {
 		List<String> amenityTypes = getAccommodationAmenities(accommodationUid);
 		// List<String> imageUrls = getAccommodationImages(accommodationUid, accommodation.getThumbnailUrl());
 		List<AccommodationDocument.DateRange> reservationRanges = getReservationRanges(accommodation.getId());
-		AccommodationReviewSummary reviewSummary = getReviewSummary(accommodationUid);
+		ReviewResponse.ReviewSummary reviewSummary = getReviewSummary(accommodationUid);
 
+		return toDocument(accommodation, amenityTypes, reservationRanges, reviewSummary);
+	}
+
+	/**
+	 * 여러 숙소의 문서를 IN 조회 네 번으로 만든다.
+	 * 존재하지 않는 UID는 결과에서 빠진다.
+	 */
+	public Map<UUID, AccommodationDocument> buildAccommodationDocuments(Collection<UUID> accommodationUids) {
+		if (accommodationUids.isEmpty()) {
+			return Map.of();
+		}
+		List<Accommodation> accommodations =
+			accommodationRepository.findAllWithDetailsByAccommodationUidIn(accommodationUids);
+		if (accommodations.isEmpty()) {
+			return Map.of();
+		}
+		List<Long> accommodationIds = accommodations.stream().map(Accommodation::getId).toList();
+
+		Map<Long, List<String>> amenityTypes = amenityRepository.findAllByAccommodationIdIn(accommodationIds)
+			.stream()
+			.collect(Collectors.groupingBy(
+				amenity -> amenity.getAccommodation().getId(),
+				Collectors.collectingAndThen(
+					Collectors.mapping(AccommodationAmenity::getAmenityCode, Collectors.toList()),
+					codes -> codes.stream().distinct().toList())));
+
+		ReservationIndexingWindow window = bookingWindowProvider.currentIndexingWindow();
+		Map<Long, List<AccommodationDocument.DateRange>> reservationRanges = reservationRepository
+			.findActiveReservationRangesByAccommodationIdIn(
+				accommodationIds,
+				window.startInclusive(),
+				window.endExclusive()
+			)
+			.stream()
+			.collect(Collectors.groupingBy(
+				AccommodationReservationDateRange::accommodationId,
+				Collectors.mapping(dateRange -> AccommodationDocument.DateRange.builder()
+					.gte(dateRange.checkIn())
+					.lt(dateRange.checkOut())
+					.build(), Collectors.toList())));
+
+		Map<Long, ReviewResponse.ReviewSummary> reviewSummaries = getReviewSummaries(accommodationIds);
+
+		Map<UUID, AccommodationDocument> documents = new LinkedHashMap<>();
+		for (Accommodation accommodation : accommodations) {
+			Long accommodationId = accommodation.getId();
+			documents.put(accommodation.getAccommodationUid(), toDocument(
+				accommodation,
+				amenityTypes.getOrDefault(accommodationId, List.of()),
+				reservationRanges.getOrDefault(accommodationId, List.of()),
+				reviewSummaries.get(accommodationId)));
+		}
+		return documents;
+	}
+
+	// 예약 변경 이벤트의 부분 갱신용. 예약 범위 외 필드는 비워 둔다
+	public AccommodationDocument buildReservationRangesUpdate(UUID accommodationUid) {
+		ReservationIndexingWindow window = bookingWindowProvider.currentIndexingWindow();
+		List<AccommodationDocument.DateRange> reservationRanges = reservationRepository
+			.findActiveReservationRangesByAccommodationUid(
+				accommodationUid,
+				window.startInclusive(),
+				window.endExclusive()
+			)
+			.stream()
+			.map(dateRange -> AccommodationDocument.DateRange.builder()
+				.gte(dateRange.checkIn())
+				.lt(dateRange.checkOut())
+				.build()
+			)
+			.toList();
+		return AccommodationDocument.builder()
+			.reservationRanges(reservationRanges)
+			.build();
+	}
+
+	// 리뷰 요약 변경 이벤트의 부분 갱신용. 평점과 리뷰 수 외 필드는 비워 둔다
+	public AccommodationDocument buildReviewSummaryUpdate(UUID accommodationUid) {
+		ReviewResponse.ReviewSummary reviewSummary = getReviewSummary(accommodationUid);
+		return AccommodationDocument.builder()
+			.averageRating(averageRating(reviewSummary))
+			.reviewCount(reviewCount(reviewSummary))
+			.build();
+	}
+
+	private AccommodationDocument toDocument(
+		Accommodation accommodation,
+		List<String> amenityTypes,
+		List<AccommodationDocument.DateRange> reservationRanges,
+		ReviewResponse.ReviewSummary reviewSummary
+	) {
 		return AccommodationDocument.builder()
 			.id(accommodation.getAccommodationUid().toString())
 			.accommodationId(accommodation.getId())
@@ -72,18 +170,37 @@ public class AccommodationDocumentBuilder {
 			.amenityTypes(amenityTypes)
 			.thumbnailUrl(accommodation.getThumbnailUrl())
 			.reservationRanges(reservationRanges)
-			.averageRating(reviewSummary != null && reviewSummary.getAverageRating() != null
-				? reviewSummary.getAverageRating().doubleValue()
-				: 0.0)
-			.reviewCount(reviewSummary != null && reviewSummary.getTotalReviewCount() != null
-				? reviewSummary.getTotalReviewCount()
-				: 0)
+			.averageRating(averageRating(reviewSummary))
+			.reviewCount(reviewCount(reviewSummary))
 			.build();
 	}
 
-	private AccommodationReviewSummary getReviewSummary(UUID accommodationUid) {
-		return reviewSummaryRepository.findByAccommodation_AccommodationUid(accommodationUid)
-			.orElse(null);
+	private double averageRating(ReviewResponse.ReviewSummary reviewSummary) {
+		return reviewSummary != null ? reviewSummary.averageRating().doubleValue() : 0.0;
+	}
+
+	private int reviewCount(ReviewResponse.ReviewSummary reviewSummary) {
+		return reviewSummary != null ? reviewSummary.totalCount() : 0;
+	}
+
+	// stripe 모드에서는 요약 행과 롤업 전 증감분을 합친 값으로 색인한다
+	private ReviewResponse.ReviewSummary getReviewSummary(UUID accommodationUid) {
+		if (reviewSummaryCounter.enabled()) {
+			return reviewSummaryCounter.findByAccommodationUid(accommodationUid);
+		}
+		return ReviewResponse.ReviewSummary.of(
+			reviewSummaryRepository.findByAccommodation_AccommodationUid(accommodationUid).orElse(null));
+	}
+
+	private Map<Long, ReviewResponse.ReviewSummary> getReviewSummaries(List<Long> accommodationIds) {
+		if (reviewSummaryCounter.enabled()) {
+			return reviewSummaryCounter.findAll(accommodationIds);
+		}
+		return reviewSummaryRepository.findByAccommodationIdIn(accommodationIds)
+			.stream()
+			.collect(Collectors.toMap(
+				AccommodationReviewSummary::getAccommodationId,
+				ReviewResponse.ReviewSummary::of));
 	}
 
 	private List<AccommodationDocument.DateRange> getReservationRanges(Long accommodationId) {
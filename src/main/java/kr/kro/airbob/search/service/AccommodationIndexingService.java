@@ -1,10 +1,17 @@
 package kr.kro.airbob.search.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.UUID;
 
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.UpdateRequest;
 import kr.kro.airbob.domain.accommodation.entity.AccommodationStatus;
 import kr.kro.airbob.search.document.AccommodationDocument;
 import kr.kro.airbob.search.repository.AccommodationSearchRepository;
@@ -16,23 +23,73 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AccommodationIndexingService {
 
+	private static final String INDEX_NAME = "accommodations";
+	private static final int NOT_FOUND = 404;
+
 	private final AccommodationSearchRepository searchRepository;
 	private final AccommodationDocumentBuilder documentBuilder;
+	private final ElasticsearchClient esClient;
+	private final ElasticsearchConverter elasticsearchConverter;
+	private final AccommodationBulkIndexingService bulkIndexingService;
 
 	@Transactional(readOnly = true)
 	public void refreshAccommodationIndex(UUID accommodationUid) {
+		refreshWholeDocument(accommodationUid);
+		bulkIndexingService.mirrorToReindexTarget(accommodationUid);
+	}
+
+	// 예약 범위만 덮어쓴다. 색인되지 않은 숙소는 전체 재생성으로 게시 상태를 다시 판단
+	@Transactional(readOnly = true)
+	public void refreshReservationRanges(UUID accommodationUid) {
+		partialUpdate(accommodationUid, documentBuilder.buildReservationRangesUpdate(accommodationUid));
+		bulkIndexingService.mirrorToReindexTarget(accommodationUid);
+	}
+
+	// 평점과 리뷰 수만 덮어쓴다. 색인되지 않은 숙소는 전체 재생성으로 게시 상태를 다시 판단
+	@Transactional(readOnly = true)
+	public void refreshReviewSummary(UUID accommodationUid) {
+		partialUpdate(accommodationUid, documentBuilder.buildReviewSummaryUpdate(accommodationUid));
+		bulkIndexingService.mirrorToReindexTarget(accommodationUid);
+	}
+
+	public void deleteAccommodationIndex(UUID accommodationUid) {
+		deleteDocument(accommodationUid);
+		bulkIndexingService.mirrorToReindexTarget(accommodationUid);
+	}
+
+	private void refreshWholeDocument(UUID accommodationUid) {
 		AccommodationDocument document =
 			documentBuilder.buildAccommodationDocument(accommodationUid.toString());
 		if (!AccommodationStatus.PUBLISHED.name().equals(document.status())) {
-			deleteAccommodationIndex(accommodationUid);
+			deleteDocument(accommodationUid);
 			return;
 		}
 		searchRepository.save(document);
 		log.info("[ES-INDEX] 숙소 최신 상태 반영: {}", accommodationUid);
 	}
 
-	public void deleteAccommodationIndex(UUID accommodationUid) {
+	private void deleteDocument(UUID accommodationUid) {
 		searchRepository.deleteById(accommodationUid);
 		log.info("[ES-INDEX] 숙소 삭제: {}", accommodationUid);
 	}
+
+	private void partialUpdate(UUID accommodationUid, AccommodationDocument partialDocument) {
+		// null 필드는 변환 결과에서 빠지므로 채운 필드만 _update의 doc으로 전달
+		Document fields = elasticsearchConverter.mapObject(partialDocument);
+		UpdateRequest<Object, Document> request = UpdateRequest.of(update -> update
+			.index(INDEX_NAME)
+			.id(accommodationUid.toString())
+			.doc(fields));
+		try {
+			esClient.update(request, Object.class);
+			log.info("[ES-INDEX] 숙소 부분 갱신: {}", accommodationUid);
+		} catch (ElasticsearchException e) {
+			if (e.status() != NOT_FOUND) {
+				throw e;
+			}
+			refreshWholeDocument(accommodationUid);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
 }
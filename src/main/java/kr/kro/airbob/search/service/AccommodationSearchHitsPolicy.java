@@ -0,0 +1,60 @@
+package kr.kro.airbob.search.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import co.elastic.clients.elasticsearch.core.search.SourceConfig;
+import co.elastic.clients.elasticsearch.core.search.TrackHits;
+
+/**
+ * 검색 결과 카드에 필요한 필드만 받고, 전체 건수는 상한까지만 센다.
+ * 설명·예약 구간처럼 카드에 쓰지 않는 큰 필드를 ES 응답과 역직렬화에서 제외한다.
+ */
+@Component
+public class AccommodationSearchHitsPolicy {
+
+	// AccommodationSearchResponse.AccommodationSearchInfo.from이 읽는 필드
+	static final List<String> LISTING_FIELDS = List.of(
+		"accommodationId",
+		"name",
+		"thumbnailUrl",
+		"type",
+		"basePrice",
+		"currency",
+		"country",
+		"state",
+		"city",
+		"district",
+		"location",
+		"averageRating",
+		"reviewCount"
+	);
+
+	private final boolean sourceFiltering;
+	private final int totalHitsLimit;
+
+	public AccommodationSearchHitsPolicy(
+		@Value("${accommodation.search.hits.source-filtering:true}") boolean sourceFiltering,
+		@Value("${accommodation.search.hits.track-total-hits-up-to:1000}") int totalHitsLimit
+	) {
+		this.sourceFiltering = sourceFiltering;
+		this.totalHitsLimit = totalHitsLimit;
+	}
+
+	public SourceConfig source() {
+		if (!sourceFiltering) {
+			return null;
+		}
+		return SourceConfig.of(s -> s.filter(f -> f.includes(LISTING_FIELDS)));
+	}
+
+	// 0 이하이면 정확한 전체 건수를 센다
+	public TrackHits trackHits() {
+		if (totalHitsLimit <= 0) {
+			return TrackHits.of(t -> t.enabled(true));
+		}
+		return TrackHits.of(t -> t.count(totalHitsLimit));
+	}
+}
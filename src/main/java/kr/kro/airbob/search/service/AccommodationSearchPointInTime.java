@@ -0,0 +1,62 @@
+package kr.kro.airbob.search.service;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.Time;
+import kr.kro.airbob.search.exception.SearchUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커서 페이지 사이의 색인 변경이 순서를 흔들지 않도록 검색 시점을 고정
+ * 비활성화하면 커서는 search_after 정렬 값만으로 이어진다.
+ */
+@Slf4j
+@Component
+public class AccommodationSearchPointInTime {
+
+	private final ElasticsearchClient esClient;
+	private final boolean enabled;
+	private final Time keepAlive;
+
+	public AccommodationSearchPointInTime(
+		ElasticsearchClient esClient,
+		@Value("${accommodation.search.cursor.point-in-time-enabled:false}") boolean enabled,
+		@Value("${accommodation.search.cursor.point-in-time-keep-alive:1m}") Duration keepAlive
+	) {
+		this.esClient = esClient;
+		this.enabled = enabled;
+		this.keepAlive = Time.of(t -> t.time(keepAlive.toSeconds() + "s"));
+	}
+
+	public boolean enabled() {
+		return enabled;
+	}
+
+	public Time keepAlive() {
+		return keepAlive;
+	}
+
+	public String open(String index) {
+		try {
+			return esClient.openPointInTime(o -> o.index(index).keepAlive(keepAlive)).id();
+		} catch (IOException | ElasticsearchException e) {
+			log.error("ES point-in-time open failed", e);
+			throw new SearchUnavailableException(e);
+		}
+	}
+
+	// 마지막 페이지에서 닫지 못해도 keep-alive가 지나면 ES가 정리
+	public void close(String pointInTimeId) {
+		try {
+			esClient.closePointInTime(c -> c.id(pointInTimeId));
+		} catch (IOException | ElasticsearchException e) {
+			log.warn("ES point-in-time close failed", e);
+		}
+	}
+}
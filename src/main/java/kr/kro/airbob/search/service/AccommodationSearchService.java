@@ -2,25 +2,33 @@ package kr.kro.airbob.search.service;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.GeoLocation;
+import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.RangeRelation;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
 
+import kr.kro.airbob.cursor.dto.SearchCursorData;
+import kr.kro.airbob.cursor.util.CursorEncoder;
 import kr.kro.airbob.domain.accommodation.entity.AccommodationStatus;
 import kr.kro.airbob.domain.reservation.policy.BookingWindowProvider;
+import kr.kro.airbob.domain.reservation.policy.TimeZoneEligibility;
+import kr.kro.airbob.domain.wishlist.cache.WishlistMembershipCache;
 import kr.kro.airbob.domain.wishlist.repository.WishlistAccommodationRepository;
 import kr.kro.airbob.search.document.AccommodationDocument;
 import kr.kro.airbob.search.dto.AccommodationSearchRequest;
@@ -39,8 +47,13 @@ public class AccommodationSearchService {
     private final ElasticsearchClient esClient;
     private final WishlistAccommodationRepository wishlistRepository;
     private final BookingWindowProvider bookingWindowProvider;
+    private final AccommodationSearchPointInTime pointInTime;
+    private final AccommodationSearchHitsPolicy hitsPolicy;
+    private final CursorEncoder cursorEncoder;
+    private final WishlistMembershipCache wishlistMembershipCache;
 
     private static final String INDEX = "accommodations";
+    private static final String TIEBREAKER_FIELD = "accommodationId";
 
     public AccommodationSearchResponse.AccommodationSearchInfos searchAccommodations(
             AccommodationSearchRequest.AccommodationSearchRequestDto req,
@@ -48,6 +61,24 @@ public class AccommodationSearchService {
             Pageable pageable,
             Long memberId
     ) {
+        return searchAccommodations(req, mapBounds, pageable, null, memberId);
+    }
+
+    /**
+     * cursor가 있으면 from 대신 search_after로 이어서 조회한다.
+     * 깊은 페이지도 샤드마다 from+size개를 정렬하지 않고 size개만 수집한다.
+     */
+    public AccommodationSearchResponse.AccommodationSearchInfos searchAccommodations(
+            AccommodationSearchRequest.AccommodationSearchRequestDto req,
+            AccommodationSearchRequest.MapBoundsDto mapBounds,
+            Pageable pageable,
+            SearchCursorData cursor,
+            Long memberId
+    ) {
+
+        if (cursor != null) {
+            pageable = PageRequest.of(cursor.page(), pageable.getPageSize());
+        }
 
         if (!req.isValidOccupancy()) {
             req.setDefaultOccupancy();
@@ -58,36 +89,45 @@ public class AccommodationSearchService {
             return createEmpty(pageable);
         }
 
-        Set<String> eligibleTimeZones = eligibleTimeZones(req);
-        if (hasDateRange(req) && eligibleTimeZones.isEmpty()) {
+        TimeZoneEligibility timeZoneEligibility = timeZoneEligibility(req);
+        if (timeZoneEligibility != null && timeZoneEligibility.noneEligible()) {
             return createEmpty(pageable);
         }
 
-        Query query = buildQuery(req, viewport, eligibleTimeZones);
+        Query query = buildQuery(req, viewport, timeZoneEligibility);
 
-        SearchRequest searchReq = new SearchRequest.Builder()
-                .index(INDEX)
-                .query(query)
-                .from((int) pageable.getOffset())
-                .size(pageable.getPageSize())
-                .build();
+        String pointInTimeId = cursor != null ? cursor.pointInTimeId() : null;
+        if (cursor != null && pointInTimeId == null && pointInTime.enabled()) {
+            pointInTimeId = pointInTime.open(INDEX);
+        }
 
         SearchResponse<AccommodationDocument> res;
         try {
-            res = esClient.search(searchReq, AccommodationDocument.class);
-        } catch (IOException | ElasticsearchException e) {
+            res = esClient.search(searchRequest(query, pageable, cursor, pointInTimeId), AccommodationDocument.class);
+        } catch (ElasticsearchException e) {
+            if (pointInTimeId == null || e.status() != HttpStatus.NOT_FOUND.value()) {
+                log.error("ES search failed", e);
+                throw new SearchUnavailableException(e);
+            }
+            // keep-alive가 지나 만료된 point-in-time은 새로 열어 같은 정렬 값부터 이어서 조회
+            pointInTimeId = pointInTime.open(INDEX);
+            res = search(searchRequest(query, pageable, cursor, pointInTimeId));
+        } catch (IOException e) {
             log.error("ES search failed", e);
             throw new SearchUnavailableException(e);
         }
 
-        List<AccommodationDocument> docs = res.hits().hits()
+        List<Hit<AccommodationDocument>> hits = res.hits().hits()
                 .stream()
-                .map(Hit::source)
-                .filter(Objects::nonNull)
+                .filter(hit -> hit.source() != null)
                 .toList();
 
-        if (docs.isEmpty()) return createEmpty(pageable);
+        if (hits.isEmpty()) {
+            closePointInTime(pointInTimeId);
+            return createEmpty(pageable);
+        }
 
+        List<AccommodationDocument> docs = hits.stream().map(Hit::source).toList();
         List<Long> ids = docs.stream().map(AccommodationDocument::accommodationId).toList();
         Set<Long> wishlistIds = getWishlist(ids, memberId);
 
@@ -99,18 +139,92 @@ public class AccommodationSearchService {
                         ))
                         .toList();
 
-        long total = res.hits().total() != null ? res.hits().total().value() : docs.size();
+        TotalHits totalHits = res.hits().total();
+        long total = totalHits != null ? totalHits.value() : docs.size();
+        // 상한까지만 센 건수는 "최소 N건"이므로 마지막 페이지를 건수로 판단하지 않음
+        boolean totalLowerBound = totalHits != null && totalHits.relation() == TotalHitsRelation.Gte;
+        boolean hasNext = hits.size() == pageable.getPageSize()
+                && (totalLowerBound || pageable.getPageNumber() < totalPages(pageable, total) - 1);
+
+        String nextCursor = null;
+        if (hasNext) {
+            String nextPointInTimeId = res.pitId() != null ? res.pitId() : pointInTimeId;
+            nextCursor = cursorEncoder.encode(nextCursor(hits.getLast(), pageable, nextPointInTimeId));
+        } else {
+            closePointInTime(pointInTimeId);
+        }
 
         return AccommodationSearchResponse.AccommodationSearchInfos.builder()
                 .staySearchResultListing(list)
-                .pageInfo(pageInfo(pageable, total))
+                .pageInfo(pageInfo(pageable, total, totalLowerBound, hasNext, nextCursor))
                 .build();
     }
 
+    SearchRequest searchRequest(
+            Query query,
+            Pageable pageable,
+            SearchCursorData cursor,
+            String pointInTimeId
+    ) {
+        SearchRequest.Builder builder = new SearchRequest.Builder()
+                .query(query)
+                .size(pageable.getPageSize())
+                .source(hitsPolicy.source())
+                .trackTotalHits(hitsPolicy.trackHits())
+                // 점수가 같은 문서의 순서를 고정해야 search_after 경계에서 누락·중복이 없음
+                .sort(s -> s.score(sc -> sc.order(SortOrder.Desc)))
+                .sort(s -> s.field(f -> f.field(TIEBREAKER_FIELD).order(SortOrder.Asc)));
+
+        if (pointInTimeId != null) {
+            builder.pit(p -> p.id(pointInTimeId).keepAlive(pointInTime.keepAlive()));
+        } else {
+            builder.index(INDEX);
+        }
+
+        if (cursor != null) {
+            builder.searchAfter(
+                    FieldValue.of(cursor.lastScore().doubleValue()),
+                    FieldValue.of(cursor.id().longValue()));
+        } else {
+            builder.from((int) pageable.getOffset());
+        }
+        return builder.build();
+    }
+
+    private SearchResponse<AccommodationDocument> search(SearchRequest searchReq) {
+        try {
+            return esClient.search(searchReq, AccommodationDocument.class);
+        } catch (IOException | ElasticsearchException e) {
+            log.error("ES search failed", e);
+            throw new SearchUnavailableException(e);
+        }
+    }
+
+    private SearchCursorData nextCursor(
+            Hit<AccommodationDocument> last,
+            Pageable pageable,
+            String pointInTimeId
+    ) {
+        List<FieldValue> sortValues = last.sort();
+        FieldValue score = sortValues.get(0);
+        return new SearchCursorData(
+                sortValues.get(1).longValue(),
+                score.isDouble() ? score.doubleValue() : score.longValue(),
+                pageable.getPageNumber() + 1,
+                pointInTimeId
+        );
+    }
+
+    private void closePointInTime(String pointInTimeId) {
+        if (pointInTimeId != null) {
+            pointInTime.close(pointInTimeId);
+        }
+    }
+
     Query buildQuery(
             AccommodationSearchRequest.AccommodationSearchRequestDto req,
             Viewport viewport,
-            Set<String> eligibleTimeZones
+            TimeZoneEligibility timeZoneEligibility
     ) {
 
         BoolQuery.Builder b = new BoolQuery.Builder();
@@ -196,14 +310,7 @@ public class AccommodationSearchService {
         }
 
         if (req.getCheckIn() != null && req.getCheckOut() != null) {
-            List<FieldValue> timeZoneValues = eligibleTimeZones.stream()
-                .sorted()
-                .map(FieldValue::of)
-                .toList();
-            b.filter(f -> f.terms(t -> t
-                .field("timeZoneId")
-                .terms(values -> values.value(timeZoneValues))
-            ));
+            filterByTimeZone(b, timeZoneEligibility);
             b.mustNot(mn -> mn.range(r -> r
                 .date(d -> d
                     .field("reservationRanges")
@@ -220,13 +327,21 @@ public class AccommodationSearchService {
             .build();
     }
 
-    private Set<String> eligibleTimeZones(
+    // timeZoneId가 없거나 목록 밖인 문서는 예약 가능 여부를 알 수 없으므로 가능한 시간대만 포함한다
+    private void filterByTimeZone(BoolQuery.Builder b, TimeZoneEligibility timeZoneEligibility) {
+        b.filter(f -> f.terms(t -> t
+            .field("timeZoneId")
+            .terms(values -> values.value(timeZoneEligibility.eligibleTerms()))
+        ));
+    }
+
+    private TimeZoneEligibility timeZoneEligibility(
             AccommodationSearchRequest.AccommodationSearchRequestDto request
     ) {
         if (!hasDateRange(request)) {
-            return Set.of();
+            return null;
         }
-        return bookingWindowProvider.eligibleTimeZonesForStay(
+        return bookingWindowProvider.timeZoneEligibilityForStay(
             request.getCheckIn(), request.getCheckOut());
     }
 
@@ -249,6 +364,9 @@ public class AccommodationSearchService {
 
     private Set<Long> getWishlist(List<Long> ids, Long memberId) {
         if (memberId == null) return Set.of();
+        if (wishlistMembershipCache.enabled()) {
+            return wishlistMembershipCache.findWishlisted(memberId, ids);
+        }
         return wishlistRepository.findAccommodationIdsByMemberIdAndAccommodationIds(memberId, ids);
     }
 
@@ -261,20 +379,30 @@ public class AccommodationSearchService {
                 .build();
     }
 
-    private AccommodationSearchResponse.PageInfo pageInfo(Pageable pageable, long total) {
-        int size = pageable.getPageSize();
+    private AccommodationSearchResponse.PageInfo pageInfo(
+            Pageable pageable,
+            long total,
+            boolean totalLowerBound,
+            boolean hasNext,
+            String nextCursor
+    ) {
         int page = pageable.getPageNumber();
-        int pages = (int) Math.ceil((double) total / size);
 
         return AccommodationSearchResponse.PageInfo.builder()
-                .pageSize(size)
+                .pageSize(pageable.getPageSize())
                 .currentPage(page)
-                .totalPages(pages)
+                .totalPages(totalPages(pageable, total))
                 .totalElements(total)
+                .isTotalLowerBound(totalLowerBound)
                 .isFirst(page == 0)
-                .isLast(page >= pages - 1)
-                .hasNext(page < pages - 1)
+                .isLast(!hasNext)
+                .hasNext(hasNext)
                 .hasPrevious(page > 0)
+                .nextCursor(nextCursor)
                 .build();
     }
+
+    private int totalPages(Pageable pageable, long total) {
+        return (int) Math.ceil((double) total / pageable.getPageSize());
+    }
 }
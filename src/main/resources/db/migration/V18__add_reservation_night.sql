@@ -0,0 +1,32 @@
+-- V18__add_reservation_night.sql
+-- 숙소·숙박일 단위 재고 원장. 예약 생성 시 숙소 행 배타 락과 기간 범위 검사 대신
+-- (accommodation_id, stay_date) 유일 키 선점으로 겹치는 예약을 막는다.
+--  * hold_expires_at: 결제 대기 예약의 선점 만료 시각. 만료된 행은 다음 예약이 넘겨받고,
+--                     결제 시작/확정된 예약은 NULL로 고정
+--  * 예약 FK 없음: 선점 INSERT가 reservation 행 공유 락을 잡지 않도록 조회 인덱스만 둔다
+CREATE TABLE reservation_night (
+  accommodation_id bigint NOT NULL,
+  stay_date date NOT NULL,
+  reservation_id bigint NOT NULL,
+  hold_expires_at datetime(6) DEFAULT NULL,
+  created_at datetime(6) NOT NULL,
+  PRIMARY KEY (accommodation_id, stay_date),
+  KEY idx_reservation_night_reservation (reservation_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 기존 데이터 백필: 재고를 점유 중이고 아직 체크아웃하지 않은 예약의 숙박일
+INSERT IGNORE INTO reservation_night (accommodation_id, stay_date, reservation_id, hold_expires_at, created_at)
+WITH RECURSIVE occupied_night (accommodation_id, stay_date, check_out_date, reservation_id, hold_expires_at) AS (
+  SELECT r.accommodation_id, r.check_in_date, r.check_out_date, r.id,
+         CASE WHEN r.status = 'PAYMENT_PENDING' THEN r.expires_at END
+  FROM reservation r
+  WHERE r.check_out_date >= UTC_DATE() - INTERVAL 1 DAY
+    AND (r.status IN ('CONFIRMED', 'CANCELLATION_PENDING', 'CANCELLATION_FAILED', 'PAYMENT_PROCESSING')
+      OR (r.status = 'PAYMENT_PENDING' AND r.expires_at > UTC_TIMESTAMP(6)))
+  UNION ALL
+  SELECT accommodation_id, stay_date + INTERVAL 1 DAY, check_out_date, reservation_id, hold_expires_at
+  FROM occupied_night
+  WHERE stay_date + INTERVAL 1 DAY < check_out_date
+)
+SELECT accommodation_id, stay_date, reservation_id, hold_expires_at, UTC_TIMESTAMP(6)
+FROM occupied_night;
@@ -0,0 +1,12 @@
+-- V19__partition_outbox.sql
+-- outbox를 created_at(UTC) 기준 일 단위 RANGE 파티션으로 전환한다.
+--  * 파티션 키는 모든 유일 키에 포함돼야 하므로 PK를 (id, created_at)으로 바꾼다
+--  * 처음에는 p_future 하나만 두고 보존 작업(OutboxRetentionService)이 앞날의 일 단위 파티션을 분리한다
+--    첫 분리 때 기존 행은 오늘 파티션으로 한 번 옮겨지고, 이후 분리는 빈 p_future만 나눈다
+--  * Debezium은 binlog만 읽으므로 커넥터 오프셋이 지난 파티션만 DROP PARTITION으로 지운다
+ALTER TABLE outbox
+  DROP PRIMARY KEY,
+  ADD PRIMARY KEY (id, created_at)
+  PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+  );
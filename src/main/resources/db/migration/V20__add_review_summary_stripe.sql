@@ -0,0 +1,14 @@
+-- V20__add_review_summary_stripe.sql
+-- 리뷰 요약 증감분을 숙소별 N개 줄(stripe)에 나눠 쌓는다.
+-- 인기 숙소에 리뷰가 몰려도 작성자들이 accommodation_review_summary 한 행 락에 줄 서지 않도록,
+-- 쓰기는 임의 stripe 행에 upsert 하고 롤업 배치가 주기적으로 요약 행에 합친 뒤 지운다.
+--  * review_count / rating_sum: 아직 요약에 반영되지 않은 증감분(음수 가능)
+--  * 조회는 요약 행 + stripe 합을 한 문장으로 읽어 롤업 전후 같은 값을 본다
+CREATE TABLE accommodation_review_summary_stripe (
+  accommodation_id bigint NOT NULL,
+  stripe int NOT NULL,
+  review_count int NOT NULL DEFAULT 0,
+  rating_sum bigint NOT NULL DEFAULT 0,
+  updated_at datetime(6) NOT NULL,
+  PRIMARY KEY (accommodation_id, stripe)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,26 @@
+-- V21__add_incremental_revenue_aggregation.sql
+-- 결제 거래 원장(payment_transaction)을 PK 순서로 따라가며 매출을 누적 집계한다.
+--  * host_monthly_revenue: (host_id, revenue_month) 누적 매출. 월 정산은 이 행을 확정만 한다
+--  * daily_revenue_stats 는 같은 증감분을 받아 당일 매출도 준실시간으로 보인다
+--  * revenue_aggregation_cursor: 어디까지 반영했는지(last_transaction_id). 집계·재집계가 이 행을 잠가 직렬화한다
+-- gross/refund 버킷 규칙은 V2 일일 집계와 같다
+--  (gross=CONFIRM.amount @DATE(created_at), refund=CANCEL|PARTIAL_CANCEL.cancel_amount @DATE(COALESCE(canceled_at, created_at)))
+CREATE TABLE host_monthly_revenue (
+  host_id bigint NOT NULL,
+  revenue_month date NOT NULL,
+  gross_amount bigint NOT NULL DEFAULT 0,
+  refund_amount bigint NOT NULL DEFAULT 0,
+  net_amount bigint NOT NULL DEFAULT 0,
+  payment_count int NOT NULL DEFAULT 0,
+  refund_count int NOT NULL DEFAULT 0,
+  updated_at datetime(6) NOT NULL,
+  PRIMARY KEY (host_id, revenue_month),
+  KEY idx_host_monthly_revenue_month (revenue_month)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE revenue_aggregation_cursor (
+  name varchar(50) NOT NULL,
+  last_transaction_id bigint NOT NULL,
+  updated_at datetime(6) NOT NULL,
+  PRIMARY KEY (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,16 @@
+-- V22__add_reservation_cleanup_checkpoint.sql
+-- 만료된 결제 대기 예약 정리를 (expires_at, id) keyset 청크로 나눠 처리한다.
+--  * idx_reservation_status_expires_at: status = 'PAYMENT_PENDING' AND expires_at <= cutoff 범위를 (expires_at, id) 순서로 읽는다
+--  * reservation_cleanup_checkpoint: 진행 중인 정리 작업의 기준 시각(cutoff)과 마지막으로 처리한 키.
+--    청크 트랜잭션과 함께 커밋되고 작업이 끝나면 지운다. 행이 남아 있으면 다음 실행이 그 위치부터 이어간다
+ALTER TABLE reservation
+  ADD KEY idx_reservation_status_expires_at (status, expires_at);
+
+CREATE TABLE reservation_cleanup_checkpoint (
+  name varchar(50) NOT NULL,
+  cutoff datetime(6) NOT NULL,
+  last_expires_at datetime(6) DEFAULT NULL,
+  last_reservation_id bigint NOT NULL DEFAULT 0,
+  updated_at datetime(6) NOT NULL,
+  PRIMARY KEY (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,5 @@
+-- V23__add_reservation_night_stay_date_index.sql
+-- 지난 숙박일 정리(ReservationScheduler)가 stay_date < cutoff 범위만 읽도록 숙박일 인덱스를 둔다.
+-- PK는 (accommodation_id, stay_date)라 숙박일만으로는 범위를 좁힐 수 없다
+ALTER TABLE reservation_night
+  ADD KEY idx_reservation_night_stay_date (stay_date);
@@ -93,6 +93,39 @@ class MicrometerQueryCountMetricRecorderTest {
 		assertThat(finiteBucket).endsWith(" 1");
 	}
 
+	@Test
+	@DisplayName("같은 경로와 메서드의 요청은 처음 등록한 핸들에 누적한다")
+	void reusesRegisteredSummariesForSamePath() {
+		QueryCountSnapshot snapshot = new QueryCountSnapshot(
+			"GET",
+			"/api/v1/accommodations/{accommodationId}",
+			queryCounts(Map.of(SqlQueryType.SELECT, 2, SqlQueryType.TOTAL, 2))
+		);
+
+		recorder.record(snapshot);
+		recorder.record(snapshot);
+
+		assertSummary(SqlQueryType.SELECT, 2L, 4.0);
+		assertThat(meterRegistry.find(MicrometerQueryCountMetricRecorder.METRIC_NAME).summaries())
+			.hasSize(SqlQueryType.values().length);
+	}
+
+	@Test
+	@DisplayName("레지스트리에서 미터가 지워지면 다음 요청에서 다시 등록해 기록한다")
+	void reregistersSummariesAfterRegistryClear() {
+		QueryCountSnapshot snapshot = new QueryCountSnapshot(
+			"GET",
+			"/api/v1/accommodations/{accommodationId}",
+			queryCounts(Map.of(SqlQueryType.SELECT, 1, SqlQueryType.TOTAL, 1))
+		);
+		recorder.record(snapshot);
+
+		meterRegistry.clear();
+		recorder.record(snapshot);
+
+		assertSummary(SqlQueryType.SELECT, 1L, 1.0);
+	}
+
 	private void assertSummary(SqlQueryType queryType, long count, double totalAmount) {
 		DistributionSummary summary = summary(queryType);
 		assertThat(summary).isNotNull();
@@ -24,6 +24,7 @@ import org.springframework.web.servlet.HandlerMapping;
 
 import jakarta.servlet.AsyncContext;
 import jakarta.servlet.DispatcherType;
+import kr.kro.airbob.common.monitoring.statement.StatementProfiler;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("쿼리 카운트 인터셉터 테스트")
@@ -32,11 +33,14 @@ class QueryCountInterceptorTest {
 	@Mock
 	private QueryCountMetricRecorder metricRecorder;
 
+	@Mock
+	private StatementProfiler statementProfiler;
+
 	private QueryCountInterceptor interceptor;
 
 	@BeforeEach
 	void setUp() {
-		interceptor = new QueryCountInterceptor(metricRecorder);
+		interceptor = new QueryCountInterceptor(metricRecorder, statementProfiler);
 	}
 
 	@AfterEach
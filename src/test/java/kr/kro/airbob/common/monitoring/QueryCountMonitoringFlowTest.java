@@ -11,6 +11,8 @@ import org.springframework.web.servlet.HandlerMapping;
 
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.common.monitoring.statement.StatementProfiler;
+import kr.kro.airbob.common.monitoring.statement.StatementProfilerProperties;
 
 @DisplayName("쿼리 카운트 모니터링 구성 요소 흐름 테스트")
 class QueryCountMonitoringFlowTest {
@@ -25,7 +27,8 @@ class QueryCountMonitoringFlowTest {
 	void recordsInspectedSqlAsRouteTemplateMetric() throws Exception {
 		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 		QueryCountInterceptor interceptor = new QueryCountInterceptor(
-			new MicrometerQueryCountMetricRecorder(meterRegistry)
+			new MicrometerQueryCountMetricRecorder(meterRegistry),
+			new StatementProfiler(new StatementProfilerProperties(false, 0.0, 10, 500), meterRegistry)
 		);
 		SqlQueryStatementInspector inspector = new SqlQueryStatementInspector();
 		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/accommodations/10");
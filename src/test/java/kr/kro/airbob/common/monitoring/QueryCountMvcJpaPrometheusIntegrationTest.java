@@ -38,6 +38,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import io.micrometer.prometheusmetrics.PrometheusConfig;
 import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import kr.kro.airbob.common.monitoring.statement.StatementProfiler;
+import kr.kro.airbob.common.monitoring.statement.StatementProfilerConfiguration;
 import kr.kro.airbob.config.WebMvcConfig;
 import kr.kro.airbob.cursor.resolver.CursorParamArgumentResolver;
 import kr.kro.airbob.domain.auth.filter.SessionAuthFilter;
@@ -53,7 +55,9 @@ import kr.kro.airbob.domain.member.repository.MemberRepository;
 		"spring.flyway.enabled=false",
 		"spring.jpa.hibernate.ddl-auto=create",
 		"spring.jpa.open-in-view=false",
-		"spring.cloud.aws.s3.enabled=false"
+		"spring.cloud.aws.s3.enabled=false",
+		"monitoring.statement-profiler.enabled=true",
+		"monitoring.statement-profiler.sample-rate=1.0"
 	}
 )
 @AutoConfigureMockMvc
@@ -147,6 +151,11 @@ class QueryCountMvcJpaPrometheusIntegrationTest {
 			.toList()
 		).singleElement().satisfies(line -> assertThat(line).endsWith(" 1.0"));
 		assertThat(scrape).doesNotContain("path=\"/monitoring-test/members/" + memberId + "\"");
+		assertThat(scrape.lines()
+			.filter(line -> line.startsWith("app_query_statement_seconds_count"))
+			.filter(line -> line.contains("path=\"" + ROUTE_TEMPLATE + "\""))
+			.toList()
+		).singleElement().satisfies(line -> assertThat(line).endsWith(" 1.0"));
 	}
 
 	@SpringBootConfiguration
@@ -159,6 +168,8 @@ class QueryCountMvcJpaPrometheusIntegrationTest {
 		MicrometerQueryCountMetricRecorder.class,
 		QueryMonitoringJpaConfig.class,
 		SqlQueryStatementInspector.class,
+		StatementProfilerConfiguration.class,
+		StatementProfiler.class,
 		RepositoryQueryController.class
 	})
 	static class TestApplication {
@@ -0,0 +1,43 @@
+package kr.kro.airbob.common.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SQL 분류 캐시 테스트")
+class SqlQueryTypeCacheTest {
+
+	@Test
+	@DisplayName("같은 SQL 문자열은 한 번 분류한 결과를 재사용한다")
+	void reusesClassificationForSameSql() {
+		SqlQueryTypeCache cache = new SqlQueryTypeCache();
+		String sql = "/* Hibernate */ with recent as (select id from review) delete from review where id in "
+			+ "(select id from recent)";
+
+		assertThat(cache.classify(sql)).isEqualTo(SqlQueryType.DELETE);
+		assertThat(cache.classify(new String(sql))).isEqualTo(SqlQueryType.DELETE);
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("상한에 닿으면 더 담지 않고 매번 분류한다")
+	void classifiesWithoutCachingBeyondLimit() {
+		SqlQueryTypeCache cache = new SqlQueryTypeCache(1);
+
+		assertThat(cache.classify("select * from member where id = 1")).isEqualTo(SqlQueryType.SELECT);
+		assertThat(cache.classify("update member set nickname = 'a' where id = 2")).isEqualTo(SqlQueryType.UPDATE);
+		assertThat(cache.classify("update member set nickname = 'a' where id = 2")).isEqualTo(SqlQueryType.UPDATE);
+
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("null SQL은 캐시하지 않고 OTHER로 분류한다")
+	void classifiesNullAsOther() {
+		SqlQueryTypeCache cache = new SqlQueryTypeCache();
+
+		assertThat(cache.classify(null)).isEqualTo(SqlQueryType.OTHER);
+		assertThat(cache.size()).isZero();
+	}
+}
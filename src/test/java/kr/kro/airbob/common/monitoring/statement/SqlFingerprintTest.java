@@ -0,0 +1,41 @@
+package kr.kro.airbob.common.monitoring.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SQL fingerprint 정규화 테스트")
+class SqlFingerprintTest {
+
+	@Test
+	@DisplayName("주석, 리터럴, 대소문자와 공백 차이를 지운다")
+	void removesCommentsLiteralsCaseAndWhitespace() {
+		String normalized = SqlFingerprint.normalize(
+			"/* load Member */ SELECT m1_0.id,\n  m1_0.nickname FROM member m1_0 WHERE m1_0.email = 'a@b.c' LIMIT 10");
+
+		assertThat(normalized)
+			.isEqualTo("select m1_0.id, m1_0.nickname from member m1_0 where m1_0.email = ? limit ?");
+	}
+
+	@Test
+	@DisplayName("IN 목록과 다중 행 VALUES는 개수와 관계없이 같은 fingerprint가 된다")
+	void collapsesParameterListsAndRepeatedTuples() {
+		SqlFingerprint three = SqlFingerprint.of("select * from review where id in (?, ?, ?)");
+		SqlFingerprint five = SqlFingerprint.of("select * from review where id in (?,?,?,?,?)");
+		SqlFingerprint batchInsert = SqlFingerprint.of("insert into tag (a, b) values (?, ?), (?, ?), (?, ?)");
+
+		assertThat(three).isEqualTo(five);
+		assertThat(three.text()).isEqualTo("select * from review where id in (?+)");
+		assertThat(batchInsert.text()).isEqualTo("insert into tag (a, b) values (?+), ...");
+	}
+
+	@Test
+	@DisplayName("식별자 안의 숫자와 백틱 식별자는 그대로 둔다")
+	void keepsDigitsInsideIdentifiers() {
+		SqlFingerprint fingerprint = SqlFingerprint.of("select a1_0.id from `order_2024` a1_0 where a1_0.id = 42");
+
+		assertThat(fingerprint.text()).isEqualTo("select a1_0.id from `order_2024` a1_0 where a1_0.id = ?");
+		assertThat(fingerprint.id()).hasSize(12);
+	}
+}
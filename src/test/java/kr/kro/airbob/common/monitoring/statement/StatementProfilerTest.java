@@ -0,0 +1,86 @@
+package kr.kro.airbob.common.monitoring.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("SQL fingerprint 프로파일러 테스트")
+class StatementProfilerTest {
+
+	private static final String PATH = "/api/v1/members/recently-viewed";
+	private static final String ADDRESS_SQL = "select a1_0.id,a1_0.city from address a1_0 where a1_0.id=?";
+	private static final String MEMBER_SQL = "select m1_0.id from member m1_0 where m1_0.id=?";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("꺼져 있으면 요청을 표본으로 뽑지 않는다")
+	void doesNotSampleWhenDisabled() {
+		StatementProfiler profiler = profiler(false, 1);
+
+		assertThat(profiler.startRequest("GET", PATH)).isNull();
+	}
+
+	@Test
+	@DisplayName("fingerprint별 실행 시간을 엔드포인트 단위로 모으고 반복 임계값을 넘으면 N+1 의심으로 센다")
+	void recordsExecutionTimeAndFlagsRepeatedFingerprint() {
+		StatementProfiler profiler = profiler(true, 2);
+		StatementProfile profile = profiler.startRequest("GET", PATH);
+
+		execute(profile, MEMBER_SQL, 1_000_000L);
+		for (int id = 1; id <= 3; id++) {
+			execute(profile, ADDRESS_SQL.replace("?", String.valueOf(id)), 2_000_000L);
+		}
+		profiler.complete(profile);
+
+		StatementProfileReport report = profiler.report(10);
+		assertThat(report.trackedStatements()).isEqualTo(2);
+		StatementProfileReport.Statement address = report.statements().get(0);
+		assertThat(address.fingerprint()).isEqualTo("select a1_0.id,a1_0.city from address a1_0 where a1_0.id=?");
+		assertThat(address.executions()).isEqualTo(3L);
+		assertThat(address.maxExecutionsPerRequest()).isEqualTo(3L);
+		assertThat(address.nPlusOneRequests()).isEqualTo(1L);
+		assertThat(address.totalMillis()).isEqualTo(6L);
+		assertThat(address.p95Micros()).isEqualTo(2048L);
+		assertThat(report.statements().get(1).nPlusOneRequests()).isZero();
+
+		FunctionTimer timer = meterRegistry.get(StatementProfiler.STATEMENT_TIME)
+			.tag("path", PATH)
+			.tag("fingerprint", address.fingerprintId())
+			.functionTimer();
+		assertThat(timer.count()).isEqualTo(3.0);
+		assertThat(meterRegistry.get(StatementProfiler.N_PLUS_ONE_TOTAL)
+			.tag("fingerprint", address.fingerprintId()).counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("추적 조합 상한을 넘는 fingerprint는 버리고 dropped로 센다")
+	void dropsStatementsBeyondTrackedLimit() {
+		StatementProfiler profiler = new StatementProfiler(
+			new StatementProfilerProperties(true, 1.0, 10, 1), meterRegistry);
+		StatementProfile profile = profiler.startRequest("GET", PATH);
+
+		execute(profile, MEMBER_SQL, 1_000L);
+		execute(profile, ADDRESS_SQL, 1_000L);
+		profiler.complete(profile);
+
+		StatementProfileReport report = profiler.report(10);
+		assertThat(report.trackedStatements()).isEqualTo(1);
+		assertThat(report.droppedExecutions()).isEqualTo(1L);
+	}
+
+	private StatementProfiler profiler(boolean enabled, int repeatThreshold) {
+		return new StatementProfiler(
+			new StatementProfilerProperties(enabled, 1.0, repeatThreshold, 100), meterRegistry);
+	}
+
+	private static void execute(StatementProfile profile, String sql, long elapsedNanos) {
+		profile.statementPrepared(sql);
+		profile.executionStarted(10_000L);
+		profile.executionFinished(10_000L + elapsedNanos);
+	}
+}
@@ -4,14 +4,14 @@ import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -29,6 +29,7 @@ import kr.kro.airbob.domain.accommodation.service.AccommodationAmenityDeleteBenc
 import kr.kro.airbob.domain.auth.filter.SessionAuthFilter;
 import kr.kro.airbob.domain.auth.interceptor.AdminAuthInterceptor;
 import kr.kro.airbob.domain.auth.resolver.CurrentMemberIdArgumentResolver;
+import kr.kro.airbob.domain.auth.session.SessionResolver;
 import kr.kro.airbob.domain.member.common.MemberRole;
 import kr.kro.airbob.domain.member.entity.MemberStatus;
 import kr.kro.airbob.domain.member.repository.MemberRepository;
@@ -42,8 +43,7 @@ class AccommodationAmenityDeleteBenchmarkAccessTest {
 		"/api/v2/admin/benchmarks/bulk-write/accommodation-amenity-delete";
 
 	@Mock private AccommodationAmenityDeleteBenchmarkService benchmarkService;
-	@Mock private RedisTemplate<String, Object> redisTemplate;
-	@Mock private ValueOperations<String, Object> valueOperations;
+	@Mock private SessionResolver sessionResolver;
 	@Mock private MemberRepository memberRepository;
 
 	private MockMvc mockMvc;
@@ -52,7 +52,7 @@ class AccommodationAmenityDeleteBenchmarkAccessTest {
 	void setUp() {
 		ObjectMapper objectMapper = new ObjectMapper()
 			.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
-		SessionAuthFilter sessionAuthFilter = new SessionAuthFilter(redisTemplate, objectMapper);
+		SessionAuthFilter sessionAuthFilter = new SessionAuthFilter(sessionResolver, objectMapper);
 		AdminAuthInterceptor adminAuthInterceptor = new AdminAuthInterceptor(memberRepository);
 		AccommodationAmenityDeleteBenchmarkController controller =
 			new AccommodationAmenityDeleteBenchmarkController(
@@ -162,9 +162,7 @@ class AccommodationAmenityDeleteBenchmarkAccessTest {
 	}
 
 	private void authenticate(long memberId, MemberRole role) {
-		given(redisTemplate.hasKey("MEMBER_SESSION_ACTIVE:" + memberId)).willReturn(true);
-		given(redisTemplate.opsForValue()).willReturn(valueOperations);
-		given(valueOperations.get("SESSION:valid-session")).willReturn(memberId);
+		given(sessionResolver.resolve("valid-session")).willReturn(Optional.of(memberId));
 		given(memberRepository.existsByIdAndStatusAndRole(
 			memberId, MemberStatus.ACTIVE, MemberRole.ADMIN))
 			.willReturn(role == MemberRole.ADMIN);
@@ -0,0 +1,147 @@
+package kr.kro.airbob.domain.accommodation.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.domain.reservation.dto.ReservationDateRange;
+
+@Testcontainers
+@DisplayName("예약 현황 조회 모델 통합 테스트")
+class AccommodationAvailabilityReadModelIntegrationTest {
+
+	private static final LocalDate WINDOW_START = LocalDate.of(2026, 9, 1);
+	private static final LocalDate WINDOW_END = WINDOW_START.plusDays(30);
+	private static final List<ReservationDateRange> RESERVED = List.of(
+		new ReservationDateRange(WINDOW_START.plusDays(2), WINDOW_START.plusDays(4)));
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>(
+		DockerImageName.parse("redis:7.2-alpine"))
+		.withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate redisTemplate;
+
+	private SimpleMeterRegistry meterRegistry;
+	private AccommodationAvailabilityReadModel readModel;
+	private UUID accommodationUid;
+
+	@BeforeAll
+	static void setUpClient() {
+		connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void closeClient() {
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		readModel = new AccommodationAvailabilityReadModel(redisTemplate, meterRegistry);
+		accommodationUid = UUID.randomUUID();
+	}
+
+	@Test
+	@DisplayName("처음 조회는 DB에서 만들고 이후 조회는 Redis 비트맵을 사용한다")
+	void loadsOnceThenServesFromRedis() {
+		AtomicInteger loads = new AtomicInteger();
+
+		AvailabilityBitmap first = readModel.getOrLoad(accommodationUid, WINDOW_START, WINDOW_END, () -> {
+			loads.incrementAndGet();
+			return RESERVED;
+		});
+		AvailabilityBitmap second = readModel.getOrLoad(accommodationUid, WINDOW_START, WINDOW_END, () -> {
+			loads.incrementAndGet();
+			return List.of();
+		});
+
+		assertThat(loads).hasValue(1);
+		assertThat(second.unavailableRanges()).isEqualTo(first.unavailableRanges()).hasSize(1);
+		assertThat(lookups("miss")).isEqualTo(1.0);
+		assertThat(lookups("hit")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("무효화 후에는 DB에서 다시 만든다")
+	void reloadsAfterInvalidation() {
+		readModel.getOrLoad(accommodationUid, WINDOW_START, WINDOW_END, () -> RESERVED);
+
+		readModel.invalidate(accommodationUid);
+		AvailabilityBitmap reloaded = readModel.getOrLoad(accommodationUid, WINDOW_START, WINDOW_END, List::of);
+
+		assertThat(reloaded.unavailableRanges()).isEmpty();
+		assertThat(lookups("miss")).isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("예약 가능 기간 시작일이 바뀌면 저장된 비트맵을 다시 만든다")
+	void rebuildsWhenWindowMoves() {
+		readModel.getOrLoad(accommodationUid, WINDOW_START, WINDOW_END, () -> RESERVED);
+
+		AvailabilityBitmap moved = readModel.getOrLoad(
+			accommodationUid, WINDOW_START.plusDays(1), WINDOW_END.plusDays(1), () -> RESERVED);
+		AvailabilityBitmap cached = readModel.getOrLoad(
+			accommodationUid, WINDOW_START.plusDays(1), WINDOW_END.plusDays(1), List::of);
+
+		assertThat(moved.covers(WINDOW_START.plusDays(1), WINDOW_END.plusDays(1))).isTrue();
+		assertThat(cached.unavailableRanges()).isEqualTo(moved.unavailableRanges());
+		assertThat(lookups("stale")).isEqualTo(1.0);
+		assertThat(lookups("hit")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("DB 조회 중 무효화되면 조회한 결과를 저장하지 않는다")
+	void skipsWriteWhenInvalidatedDuringLoad() {
+		readModel.getOrLoad(accommodationUid, WINDOW_START, WINDOW_END, () -> {
+			readModel.invalidate(accommodationUid);
+			return List.of();
+		});
+
+		AtomicInteger loads = new AtomicInteger();
+		AvailabilityBitmap next = readModel.getOrLoad(accommodationUid, WINDOW_START, WINDOW_END, () -> {
+			loads.incrementAndGet();
+			return RESERVED;
+		});
+
+		assertThat(loads).hasValue(1);
+		assertThat(next.unavailableRanges()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("조회 결과별 카운터는 생성 시점에 미리 등록한다")
+	void registersLookupCountersUpFront() {
+		assertThat(meterRegistry.get(AccommodationAvailabilityReadModel.LOOKUP_TOTAL).counters()).hasSize(4);
+		assertThat(lookups("error")).isZero();
+	}
+
+	private double lookups(String result) {
+		return meterRegistry.get(AccommodationAvailabilityReadModel.LOOKUP_TOTAL)
+			.tag("result", result)
+			.counter()
+			.count();
+	}
+}
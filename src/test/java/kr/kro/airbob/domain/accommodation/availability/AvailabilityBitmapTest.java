@@ -0,0 +1,85 @@
+package kr.kro.airbob.domain.accommodation.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kr.kro.airbob.domain.accommodation.dto.AccommodationResponse;
+import kr.kro.airbob.domain.reservation.dto.ReservationDateRange;
+
+@DisplayName("예약 현황 비트맵 테스트")
+class AvailabilityBitmapTest {
+
+	private static final LocalDate WINDOW_START = LocalDate.of(2026, 9, 1);
+	private static final LocalDate WINDOW_END = WINDOW_START.plusDays(30);
+
+	@Test
+	@DisplayName("겹치거나 맞닿은 예약은 하나의 구간으로 묶이고 기간 밖은 잘린다")
+	void mergesAndClipsRanges() {
+		AvailabilityBitmap bitmap = AvailabilityBitmap.of(WINDOW_START, WINDOW_END, List.of(
+			range(WINDOW_START.plusDays(10), WINDOW_START.plusDays(12)),
+			range(WINDOW_START.minusDays(3), WINDOW_START.plusDays(2)),
+			range(WINDOW_START.plusDays(5), WINDOW_START.plusDays(7)),
+			range(WINDOW_START.plusDays(6), WINDOW_START.plusDays(8)),
+			range(WINDOW_START.plusDays(12), WINDOW_START.plusDays(13)),
+			range(WINDOW_END.minusDays(1), WINDOW_END.plusDays(5))));
+
+		assertThat(bitmap.unavailableRanges()).containsExactly(
+			unavailable(WINDOW_START, WINDOW_START.plusDays(2)),
+			unavailable(WINDOW_START.plusDays(5), WINDOW_START.plusDays(8)),
+			unavailable(WINDOW_START.plusDays(10), WINDOW_START.plusDays(13)),
+			unavailable(WINDOW_END.minusDays(1), WINDOW_END));
+	}
+
+	@Test
+	@DisplayName("체크아웃 날짜에 시작하는 연속 숙박은 예약 가능하다")
+	void allowsBackToBackStay() {
+		AvailabilityBitmap bitmap = AvailabilityBitmap.of(WINDOW_START, WINDOW_END, List.of(
+			range(WINDOW_START.plusDays(3), WINDOW_START.plusDays(5))));
+
+		assertThat(bitmap.isAvailable(WINDOW_START.plusDays(1), WINDOW_START.plusDays(3))).isTrue();
+		assertThat(bitmap.isAvailable(WINDOW_START.plusDays(5), WINDOW_START.plusDays(7))).isTrue();
+		assertThat(bitmap.isAvailable(WINDOW_START.plusDays(4), WINDOW_START.plusDays(6))).isFalse();
+		assertThat(bitmap.isAvailable(WINDOW_START.plusDays(2), WINDOW_START.plusDays(4))).isFalse();
+	}
+
+	@Test
+	@DisplayName("인코딩한 값을 복원하면 같은 기간과 점유일을 가진다")
+	void roundTripsEncodedValue() {
+		AvailabilityBitmap bitmap = AvailabilityBitmap.of(WINDOW_START, WINDOW_END, List.of(
+			range(WINDOW_START.plusDays(1), WINDOW_START.plusDays(4)),
+			range(WINDOW_START.plusDays(20), WINDOW_START.plusDays(29))));
+
+		AvailabilityBitmap decoded = AvailabilityBitmap.decode(bitmap.encode());
+
+		assertThat(decoded.covers(WINDOW_START, WINDOW_END)).isTrue();
+		assertThat(decoded.covers(WINDOW_START.plusDays(1), WINDOW_END.plusDays(1))).isFalse();
+		assertThat(decoded.unavailableRanges()).isEqualTo(bitmap.unavailableRanges());
+	}
+
+	@Test
+	@DisplayName("기간보다 긴 비트를 가진 값은 손상된 값으로 거부한다")
+	void rejectsCorruptedValue() {
+		String encoded = AvailabilityBitmap.of(WINDOW_START, WINDOW_END, List.of(
+			range(WINDOW_START.plusDays(25), WINDOW_START.plusDays(29)))).encode();
+		String shrunk = encoded.replaceFirst(":30:", ":10:");
+
+		assertThatThrownBy(() -> AvailabilityBitmap.decode(shrunk))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> AvailabilityBitmap.decode("garbage"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static ReservationDateRange range(LocalDate checkIn, LocalDate checkOut) {
+		return new ReservationDateRange(checkIn, checkOut);
+	}
+
+	private static AccommodationResponse.UnavailableDateRange unavailable(LocalDate start, LocalDate end) {
+		return new AccommodationResponse.UnavailableDateRange(start, end);
+	}
+}
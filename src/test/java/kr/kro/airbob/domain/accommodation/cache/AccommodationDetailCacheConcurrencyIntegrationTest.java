@@ -31,8 +31,13 @@ import org.testcontainers.utility.DockerImageName;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import kr.kro.airbob.domain.accommodation.cache.codec.AccommodationDetailCacheCodecRegistry;
+import kr.kro.airbob.domain.accommodation.cache.codec.AccommodationDetailCacheFormat;
+import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailCacheCodecProperties;
 import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailCacheJitter;
 import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailCacheProperties;
+import kr.kro.airbob.domain.accommodation.cache.invalidation.AccommodationDetailLocalCacheInvalidationBroadcaster;
+import kr.kro.airbob.domain.accommodation.cache.local.AccommodationDetailLocalCache;
 import kr.kro.airbob.domain.accommodation.cache.redis.AccommodationDetailRedisClient;
 import kr.kro.airbob.domain.accommodation.dto.AccommodationDetailSnapshot;
 
@@ -65,7 +70,10 @@ class AccommodationDetailCacheConcurrencyIntegrationTest {
 		cache = new AccommodationDetailCache(
 			redisClient,
 			redissonClient,
-			new ObjectMapper().findAndRegisterModules(),
+			new AccommodationDetailCacheCodecRegistry(
+				new ObjectMapper().findAndRegisterModules(),
+				new AccommodationDetailCacheCodecProperties(AccommodationDetailCacheFormat.JSON_V1, true, 1024),
+				mock(AccommodationDetailCacheMetricRecorder.class)),
 			mock(AccommodationDetailCacheMetricRecorder.class),
 			new AccommodationDetailCacheJitter(),
 			new AccommodationDetailCacheProperties(
@@ -78,7 +86,9 @@ class AccommodationDetailCacheConcurrencyIntegrationTest {
 				Duration.ofSeconds(5),
 				Duration.ofSeconds(30),
 				Duration.ofSeconds(1),
-				Duration.ofSeconds(1))
+				Duration.ofSeconds(1)),
+			mock(AccommodationDetailLocalCache.class),
+			mock(AccommodationDetailLocalCacheInvalidationBroadcaster.class)
 		);
 	}
 
@@ -27,8 +27,13 @@ import org.testcontainers.utility.DockerImageName;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import kr.kro.airbob.domain.accommodation.cache.codec.AccommodationDetailCacheCodecRegistry;
+import kr.kro.airbob.domain.accommodation.cache.codec.AccommodationDetailCacheFormat;
+import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailCacheCodecProperties;
 import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailCacheJitter;
 import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailCacheProperties;
+import kr.kro.airbob.domain.accommodation.cache.invalidation.AccommodationDetailLocalCacheInvalidationBroadcaster;
+import kr.kro.airbob.domain.accommodation.cache.local.AccommodationDetailLocalCache;
 import kr.kro.airbob.domain.accommodation.cache.redis.AccommodationDetailRedisClient;
 import kr.kro.airbob.domain.accommodation.dto.AccommodationDetailSnapshot;
 
@@ -64,7 +69,10 @@ class AccommodationDetailCacheInvalidationRaceIntegrationTest {
 		cache = new AccommodationDetailCache(
 			redisClient,
 			redissonClient,
-			new ObjectMapper().findAndRegisterModules(),
+			new AccommodationDetailCacheCodecRegistry(
+				new ObjectMapper().findAndRegisterModules(),
+				new AccommodationDetailCacheCodecProperties(AccommodationDetailCacheFormat.JSON_V1, true, 1024),
+				mock(AccommodationDetailCacheMetricRecorder.class)),
 			mock(AccommodationDetailCacheMetricRecorder.class),
 			new AccommodationDetailCacheJitter(),
 			new AccommodationDetailCacheProperties(
@@ -74,7 +82,9 @@ class AccommodationDetailCacheInvalidationRaceIntegrationTest {
 				Duration.ofSeconds(5),
 				Duration.ofSeconds(5),
 				Duration.ofSeconds(30),
-				Duration.ofSeconds(1), Duration.ofSeconds(1))
+				Duration.ofSeconds(1), Duration.ofSeconds(1)),
+			mock(AccommodationDetailLocalCache.class),
+			mock(AccommodationDetailLocalCacheInvalidationBroadcaster.class)
 		);
 	}
 
@@ -159,7 +169,10 @@ class AccommodationDetailCacheInvalidationRaceIntegrationTest {
 		AccommodationDetailCache shortWaitCache = new AccommodationDetailCache(
 			redisClient,
 			redissonClient,
-			new ObjectMapper().findAndRegisterModules(),
+			new AccommodationDetailCacheCodecRegistry(
+				new ObjectMapper().findAndRegisterModules(),
+				new AccommodationDetailCacheCodecProperties(AccommodationDetailCacheFormat.JSON_V1, true, 1024),
+				mock(AccommodationDetailCacheMetricRecorder.class)),
 			mock(AccommodationDetailCacheMetricRecorder.class),
 			new AccommodationDetailCacheJitter(),
 			new AccommodationDetailCacheProperties(
@@ -169,7 +182,9 @@ class AccommodationDetailCacheInvalidationRaceIntegrationTest {
 				Duration.ofSeconds(5),
 				Duration.ofSeconds(5),
 				Duration.ofSeconds(30),
-				Duration.ofSeconds(1), Duration.ofSeconds(1))
+				Duration.ofSeconds(1), Duration.ofSeconds(1)),
+			mock(AccommodationDetailLocalCache.class),
+			mock(AccommodationDetailLocalCacheInvalidationBroadcaster.class)
 		);
 		CountDownLatch loaderStarted = new CountDownLatch(1);
 		CountDownLatch releaseLoader = new CountDownLatch(1);
@@ -4,9 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
@@ -15,7 +18,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.CountDownLatch;
@@ -30,6 +35,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
@@ -38,8 +44,14 @@ import org.springframework.data.redis.core.script.RedisScript;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import kr.kro.airbob.domain.accommodation.cache.codec.AccommodationDetailCacheCodecRegistry;
+import kr.kro.airbob.domain.accommodation.cache.codec.AccommodationDetailCacheFormat;
+import kr.kro.airbob.domain.accommodation.cache.codec.BinaryAccommodationDetailCacheCodec;
+import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailCacheCodecProperties;
 import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailCacheJitter;
 import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailCacheProperties;
+import kr.kro.airbob.domain.accommodation.cache.invalidation.AccommodationDetailLocalCacheInvalidationBroadcaster;
+import kr.kro.airbob.domain.accommodation.cache.local.AccommodationDetailLocalCache;
 import kr.kro.airbob.domain.accommodation.cache.redis.AccommodationDetailRedisClient;
 import kr.kro.airbob.domain.accommodation.dto.AccommodationDetailSnapshot;
 import kr.kro.airbob.domain.accommodation.exception.AccommodationNotFoundException;
@@ -49,6 +61,7 @@ import kr.kro.airbob.domain.accommodation.exception.AccommodationNotFoundExcepti
 class AccommodationDetailCacheTest {
 
 	private static final String CACHE_KEY = "airbob:cache:accommodation-detail:v1:{1}";
+	private static final String CACHE_KEY_V2 = "airbob:cache:accommodation-detail:v2:{1}";
 	private static final String LOAD_PERMIT_KEY = "airbob:cache:accommodation-detail:load-permit:{1}";
 	private static final String LOCK_KEY = "airbob:lock:accommodation-detail:{1}";
 
@@ -57,19 +70,23 @@ class AccommodationDetailCacheTest {
 	@Mock private RLock lock;
 	@Mock private AccommodationDetailCacheMetricRecorder metricRecorder;
 	@Mock private AccommodationDetailCacheJitter jitter;
+	@Mock private AccommodationDetailLocalCache localCache;
+	@Mock private AccommodationDetailLocalCacheInvalidationBroadcaster localCacheBroadcaster;
 
 	private ObjectMapper objectMapper;
+	private AccommodationDetailCacheCodecRegistry codecRegistry;
 	private AccommodationDetailCache cache;
 
 	@BeforeEach
 	void setUp() {
 		objectMapper = new ObjectMapper().findAndRegisterModules();
+		codecRegistry = codecRegistry(AccommodationDetailCacheFormat.JSON_V1);
 		lenient().when(redisClient.execute(any(RedisScript.class), anyList(), any(Object[].class)))
 			.thenReturn(1L);
 		cache = new AccommodationDetailCache(
 			redisClient,
 			redissonClient,
-			objectMapper,
+			codecRegistry,
 			metricRecorder,
 			jitter,
 			new AccommodationDetailCacheProperties(
@@ -82,7 +99,9 @@ class AccommodationDetailCacheTest {
 				Duration.ofSeconds(5),
 				Duration.ofSeconds(30),
 				Duration.ofSeconds(1),
-				Duration.ofSeconds(1))
+				Duration.ofSeconds(1)),
+			localCache,
+			localCacheBroadcaster
 		);
 	}
 
@@ -93,7 +112,7 @@ class AccommodationDetailCacheTest {
 		AccommodationDetailCache disabledCache = new AccommodationDetailCache(
 			redisClient,
 			redissonClient,
-			objectMapper,
+			codecRegistry,
 			metricRecorder,
 			jitter,
 			new AccommodationDetailCacheProperties(
@@ -106,7 +125,9 @@ class AccommodationDetailCacheTest {
 				Duration.ofSeconds(5),
 				Duration.ofSeconds(30),
 				Duration.ofSeconds(1),
-				Duration.ofSeconds(1))
+				Duration.ofSeconds(1)),
+			localCache,
+			localCacheBroadcaster
 		);
 
 		AccommodationDetailSnapshot actual = disabledCache.getOrLoad(1L, () -> expected);
@@ -121,7 +142,7 @@ class AccommodationDetailCacheTest {
 		AccommodationDetailCache disabledCache = new AccommodationDetailCache(
 			redisClient,
 			redissonClient,
-			objectMapper,
+			codecRegistry,
 			metricRecorder,
 			jitter,
 			new AccommodationDetailCacheProperties(
@@ -134,7 +155,9 @@ class AccommodationDetailCacheTest {
 				Duration.ofSeconds(5),
 				Duration.ofSeconds(30),
 				Duration.ofSeconds(1),
-				Duration.ofSeconds(1))
+				Duration.ofSeconds(1)),
+			localCache,
+			localCacheBroadcaster
 		);
 
 		disabledCache.evict(1L, AccommodationDetailCacheInvalidationReason.ACCOMMODATION);
@@ -160,6 +183,70 @@ class AccommodationDetailCacheTest {
 		verifyNoInteractions(redissonClient);
 	}
 
+	@Test
+	@DisplayName("L1 hit이면 Redis와 락, DB loader를 사용하지 않는다")
+	void localHitSkipsRedisAndLoader() {
+		AccommodationDetailSnapshot expected = snapshot(1L, "local");
+		when(localCache.enabled()).thenReturn(true);
+		when(localCache.get(1L)).thenReturn(AccommodationDetailCacheValue.found(expected));
+
+		AccommodationDetailSnapshot actual = cache.getOrLoad(1L, () -> snapshot(1L, "database"));
+
+		assertThat(actual).isSameAs(expected);
+		verifyNoInteractions(redisClient, redissonClient);
+		verify(metricRecorder).recordRequest(AccommodationDetailCacheMetricRecorder.RequestResult.LOCAL_HIT);
+	}
+
+	@Test
+	@DisplayName("Redis hit은 조회 전에 발급한 fence로 L1에 저장한다")
+	void redisHitFillsLocalCacheWithFence() throws Exception {
+		AccommodationDetailSnapshot expected = snapshot(1L, "cached");
+		when(localCache.enabled()).thenReturn(true);
+		when(localCache.fence(1L)).thenReturn(7L);
+		when(redisClient.get(CACHE_KEY)).thenReturn(json(AccommodationDetailCacheValue.found(expected)));
+
+		cache.getOrLoad(1L, () -> snapshot(1L, "database"));
+
+		verify(localCache).put(1L, 7L, AccommodationDetailCacheValue.found(expected));
+		verify(metricRecorder).recordTierLookup(
+			AccommodationDetailCacheMetricRecorder.CacheTier.LOCAL,
+			AccommodationDetailCacheMetricRecorder.TierLookupResult.MISS);
+		verify(metricRecorder).recordTierLookup(
+			AccommodationDetailCacheMetricRecorder.CacheTier.REDIS,
+			AccommodationDetailCacheMetricRecorder.TierLookupResult.HIT);
+	}
+
+	@Test
+	@DisplayName("무효화는 Redis 삭제 전후로 L1을 비우고 Redis 삭제 뒤에 다른 서버로 전파한다")
+	void evictionClearsLocalCacheAroundRedisDeleteAndBroadcastsAfterIt() {
+		when(redisClient.execute(
+			any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY, CACHE_KEY_V2))))
+			.thenReturn(1L);
+
+		cache.evictOrThrow(1L, AccommodationDetailCacheInvalidationReason.REVIEW);
+
+		InOrder inOrder = inOrder(localCache, redisClient, localCacheBroadcaster);
+		inOrder.verify(localCache).invalidate(1L);
+		inOrder.verify(redisClient).execute(any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY, CACHE_KEY_V2)));
+		inOrder.verify(localCacheBroadcaster).publish(1L);
+		inOrder.verify(localCache).invalidate(1L);
+	}
+
+	@Test
+	@DisplayName("Redis 삭제가 실패하면 다른 서버로 L1 무효화를 전파하지 않는다")
+	void failedRedisEvictionDoesNotBroadcast() {
+		when(redisClient.execute(
+			any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY, CACHE_KEY_V2))))
+			.thenThrow(new IllegalStateException("redis unavailable"));
+
+		assertThatThrownBy(() -> cache.evictOrThrow(
+			1L, AccommodationDetailCacheInvalidationReason.REVIEW))
+			.isInstanceOf(IllegalStateException.class);
+
+		verify(localCacheBroadcaster, never()).publish(any());
+		verify(localCache, times(2)).invalidate(1L);
+	}
+
 	@Test
 	@DisplayName("같은 ID의 반복 404는 negative cache에서 차단한다")
 	void negativeHitSkipsLoader() throws Exception {
@@ -199,7 +286,7 @@ class AccommodationDetailCacheTest {
 	@DisplayName("miss이면 숙소별 락 안에서 다시 확인하고 DB 결과를 jitter TTL로 저장한다")
 	void missLoadsOnceAndStoresWithJitter() throws Exception {
 		AccommodationDetailSnapshot loaded = snapshot(1L, "database");
-		when(redisClient.get(CACHE_KEY)).thenReturn(null, (String)null);
+		when(redisClient.get(CACHE_KEY)).thenReturn(null, (byte[])null);
 		when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
 		when(lock.tryLock(2_000L, TimeUnit.MILLISECONDS)).thenReturn(true);
 		when(jitter.nextMillis(120_001L)).thenReturn(30_000L);
@@ -210,14 +297,14 @@ class AccommodationDetailCacheTest {
 		verify(redisClient, atLeastOnce()).execute(
 			any(RedisScript.class),
 			eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY)),
-			any(String.class), eq("630000"), any(String.class));
+			any(String.class), eq("630000"), any(byte[].class));
 		verify(lock).unlock();
 	}
 
 	@Test
 	@DisplayName("DB 404는 짧은 negative TTL로 저장한다")
 	void storesNotFoundWithShortTtl() throws Exception {
-		when(redisClient.get(CACHE_KEY)).thenReturn(null, (String)null);
+		when(redisClient.get(CACHE_KEY)).thenReturn(null, (byte[])null);
 		when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
 		when(lock.tryLock(2_000L, TimeUnit.MILLISECONDS)).thenReturn(true);
 		when(jitter.nextMillis(15_001L)).thenReturn(5_000L);
@@ -229,7 +316,7 @@ class AccommodationDetailCacheTest {
 		verify(redisClient, atLeastOnce()).execute(
 			any(RedisScript.class),
 			eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY)),
-			any(String.class), eq("50000"), any(String.class));
+			any(String.class), eq("50000"), any(byte[].class));
 	}
 
 	@Test
@@ -274,7 +361,7 @@ class AccommodationDetailCacheTest {
 	void loadPermitFailureReleasesLockBeforeDatabaseFallback() throws Exception {
 		AccommodationDetailSnapshot expected = snapshot(1L, "database");
 		AtomicBoolean lockReleased = new AtomicBoolean();
-		when(redisClient.get(CACHE_KEY)).thenReturn(null, (String)null);
+		when(redisClient.get(CACHE_KEY)).thenReturn(null, (byte[])null);
 		when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
 		when(lock.tryLock(2_000L, TimeUnit.MILLISECONDS)).thenReturn(true);
 		when(redisClient.execute(
@@ -301,7 +388,7 @@ class AccommodationDetailCacheTest {
 	@DisplayName("락 해제는 별도 소유권 조회 없이 직접 시도하고 실패해도 DB 응답을 유지한다")
 	void releaseAttemptsOwnerSafeUnlockDirectly() throws Exception {
 		AccommodationDetailSnapshot expected = snapshot(1L, "database");
-		when(redisClient.get(CACHE_KEY)).thenReturn(null, (String)null);
+		when(redisClient.get(CACHE_KEY)).thenReturn(null, (byte[])null);
 		when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
 		when(lock.tryLock(2_000L, TimeUnit.MILLISECONDS)).thenReturn(true);
 		doThrow(new IllegalStateException("unlock failed")).when(lock).unlock();
@@ -412,7 +499,7 @@ class AccommodationDetailCacheTest {
 	@DisplayName("DB 조회 예외 뒤 쓰기 허가를 정리해 다음 요청이 다시 캐시를 채운다")
 	void loaderFailureReleasesPermitForNextLoad() throws Exception {
 		AccommodationDetailSnapshot expected = snapshot(1L, "recovered");
-		when(redisClient.get(CACHE_KEY)).thenReturn(null, (String)null, null, (String)null);
+		when(redisClient.get(CACHE_KEY)).thenReturn(null, (byte[])null, null, (byte[])null);
 		when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
 		when(lock.tryLock(2_000L, TimeUnit.MILLISECONDS)).thenReturn(true);
 		when(jitter.nextMillis(120_001L)).thenReturn(0L);
@@ -428,7 +515,7 @@ class AccommodationDetailCacheTest {
 			any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY)), any(String.class));
 		verify(redisClient, atLeastOnce()).execute(
 			any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY)),
-			any(String.class), eq("600000"), any(String.class));
+			any(String.class), eq("600000"), any(byte[].class));
 	}
 
 	@Test
@@ -556,7 +643,7 @@ class AccommodationDetailCacheTest {
 			await(releaseInvalidation);
 			return 1L;
 		}).when(redisClient).execute(
-			any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY)));
+			any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY, CACHE_KEY_V2)));
 
 		AtomicInteger leaderLoads = new AtomicInteger();
 		CompletableFuture<AccommodationDetailSnapshot> leader = CompletableFuture.supplyAsync(
@@ -618,7 +705,7 @@ class AccommodationDetailCacheTest {
 			}
 			return 1L;
 		}).when(redisClient).execute(
-			any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY)));
+			any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY, CACHE_KEY_V2)));
 
 		CountDownLatch completedFuturePublished = new CountDownLatch(1);
 		CountDownLatch releaseCompletedLeader = new CountDownLatch(1);
@@ -680,7 +767,7 @@ class AccommodationDetailCacheTest {
 			await(releaseInvalidation);
 			return 1L;
 		}).when(redisClient).execute(
-			any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY)));
+			any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY, CACHE_KEY_V2)));
 
 		CompletableFuture<Void> eviction = CompletableFuture.runAsync(
 			() -> cache.evict(1L, AccommodationDetailCacheInvalidationReason.ACCOMMODATION));
@@ -838,7 +925,7 @@ class AccommodationDetailCacheTest {
 	@DisplayName("손상된 캐시 값은 삭제하고 DB 결과로 복구한다")
 	void corruptValueIsDeletedAndReloaded() throws Exception {
 		AccommodationDetailSnapshot expected = snapshot(1L, "database");
-		when(redisClient.get(CACHE_KEY)).thenReturn("not-json", (String)null);
+		when(redisClient.get(CACHE_KEY)).thenReturn("not-json".getBytes(StandardCharsets.UTF_8), (byte[])null);
 		when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
 		when(lock.tryLock(2_000L, TimeUnit.MILLISECONDS)).thenReturn(true);
 		when(jitter.nextMillis(120_001L)).thenReturn(0L);
@@ -850,14 +937,14 @@ class AccommodationDetailCacheTest {
 		verify(redisClient, atLeastOnce()).execute(
 			any(RedisScript.class),
 			eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY)),
-			any(String.class), eq("600000"), any(String.class));
+			any(String.class), eq("600000"), any(byte[].class));
 	}
 
 	@Test
 	@DisplayName("상태가 빠진 JSON은 negative cache로 오인하지 않고 손상 값으로 삭제한다")
 	void missingStatusIsDeletedAndReloaded() throws Exception {
 		AccommodationDetailSnapshot expected = snapshot(1L, "database");
-		when(redisClient.get(CACHE_KEY)).thenReturn("{}", (String)null);
+		when(redisClient.get(CACHE_KEY)).thenReturn("{}".getBytes(StandardCharsets.UTF_8), (byte[])null);
 		when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
 		when(lock.tryLock(2_000L, TimeUnit.MILLISECONDS)).thenReturn(true);
 		when(jitter.nextMillis(120_001L)).thenReturn(0L);
@@ -868,18 +955,68 @@ class AccommodationDetailCacheTest {
 		verify(redisClient).delete(CACHE_KEY);
 	}
 
+	@Test
+	@DisplayName("바이너리 쓰기 전환 중에는 v2가 없으면 한 번의 MGET으로 읽은 v1 값을 사용한다")
+	void binaryWriteFormatFallsBackToLegacyJsonInSingleRoundTrip() throws Exception {
+		AccommodationDetailSnapshot expected = snapshot(1L, "legacy");
+		AccommodationDetailCache binaryCache = cacheWithCodec(
+			codecRegistry(AccommodationDetailCacheFormat.BINARY_V2));
+		when(redisClient.multiGet(List.of(CACHE_KEY_V2, CACHE_KEY)))
+			.thenReturn(Arrays.asList(null, json(AccommodationDetailCacheValue.found(expected))));
+
+		AccommodationDetailSnapshot actual = binaryCache.getOrLoad(1L, () -> {
+			throw new AssertionError("legacy hit must not call loader");
+		});
+
+		assertThat(actual).isEqualTo(expected);
+		verify(redisClient, never()).get(any());
+		verifyNoInteractions(redissonClient);
+		verify(metricRecorder).recordCodec(
+			eq(AccommodationDetailCacheFormat.JSON_V1),
+			eq(AccommodationDetailCacheMetricRecorder.CodecOperation.DECODE),
+			anyLong(),
+			anyInt());
+	}
+
+	@Test
+	@DisplayName("바이너리 쓰기 형식이면 DB 결과를 v2 key에 바이너리 payload로 저장한다")
+	void binaryWriteFormatStoresVersionedPayloadInV2Namespace() throws Exception {
+		AccommodationDetailSnapshot expected = snapshot(1L, "database");
+		AccommodationDetailCache binaryCache = cacheWithCodec(
+			codecRegistry(AccommodationDetailCacheFormat.BINARY_V2));
+		when(redisClient.multiGet(List.of(CACHE_KEY_V2, CACHE_KEY)))
+			.thenReturn(Arrays.asList(null, null));
+		when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
+		when(lock.tryLock(2_000L, TimeUnit.MILLISECONDS)).thenReturn(true);
+		when(jitter.nextMillis(120_001L)).thenReturn(0L);
+		AtomicReference<byte[]> stored = new AtomicReference<>();
+		when(redisClient.execute(any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY_V2)),
+			any(String.class), eq("600000"), any(byte[].class)))
+			.thenAnswer(invocation -> {
+				stored.set(invocation.getArgument(4));
+				return 1L;
+			});
+
+		AccommodationDetailSnapshot actual = binaryCache.getOrLoad(1L, () -> expected);
+
+		assertThat(actual).isEqualTo(expected);
+		assertThat(stored.get()).isNotNull();
+		assertThat(new BinaryAccommodationDetailCacheCodec(1024).decode(stored.get()))
+			.isEqualTo(AccommodationDetailCacheValue.found(expected));
+	}
+
 	@Test
 	@DisplayName("Redis 저장 실패는 정상 DB 응답을 실패시키지 않는다")
 	void writeFailureStillReturnsDatabaseValue() throws Exception {
 		AccommodationDetailSnapshot expected = snapshot(1L, "database");
-		when(redisClient.get(CACHE_KEY)).thenReturn(null, (String)null);
+		when(redisClient.get(CACHE_KEY)).thenReturn(null, (byte[])null);
 		when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
 		when(lock.tryLock(2_000L, TimeUnit.MILLISECONDS)).thenReturn(true);
 		when(jitter.nextMillis(120_001L)).thenReturn(0L);
 		when(redisClient.execute(any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY)),
 			any(String.class), any(String.class))).thenReturn(1L);
 		when(redisClient.execute(any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY)),
-			any(String.class), any(String.class), any(String.class)))
+			any(String.class), any(String.class), any(byte[].class)))
 			.thenThrow(new IllegalStateException("redis write down"));
 
 		AccommodationDetailSnapshot actual = cache.getOrLoad(1L, () -> expected);
@@ -893,7 +1030,7 @@ class AccommodationDetailCacheTest {
 		cache.evict(1L, AccommodationDetailCacheInvalidationReason.REVIEW);
 
 		verify(redisClient).execute(
-			any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY)));
+			any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY, CACHE_KEY_V2)));
 		verify(metricRecorder).recordEviction(
 			AccommodationDetailCacheMetricRecorder.EvictionSource.AFTER_COMMIT,
 			AccommodationDetailCacheInvalidationReason.REVIEW,
@@ -904,7 +1041,7 @@ class AccommodationDetailCacheTest {
 	@DisplayName("내구성 복구용 무효화는 Redis 실패를 소비자에게 전파한다")
 	void durableEvictionPropagatesRedisFailure() {
 		when(redisClient.execute(
-			any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY))))
+			any(RedisScript.class), eq(List.of(LOAD_PERMIT_KEY, CACHE_KEY, CACHE_KEY_V2))))
 			.thenThrow(new IllegalStateException("redis unavailable"));
 
 		assertThatThrownBy(() -> cache.evictOrThrow(
@@ -917,8 +1054,38 @@ class AccommodationDetailCacheTest {
 			AccommodationDetailCacheMetricRecorder.OperationResult.ERROR);
 	}
 
-	private String json(AccommodationDetailCacheValue value) throws Exception {
-		return objectMapper.writeValueAsString(value);
+	private byte[] json(AccommodationDetailCacheValue value) throws Exception {
+		return objectMapper.writeValueAsBytes(value);
+	}
+
+	private AccommodationDetailCacheCodecRegistry codecRegistry(AccommodationDetailCacheFormat writeFormat) {
+		return new AccommodationDetailCacheCodecRegistry(
+			objectMapper,
+			new AccommodationDetailCacheCodecProperties(writeFormat, true, 1024),
+			metricRecorder);
+	}
+
+	private AccommodationDetailCache cacheWithCodec(AccommodationDetailCacheCodecRegistry registry) {
+		return new AccommodationDetailCache(
+			redisClient,
+			redissonClient,
+			registry,
+			metricRecorder,
+			jitter,
+			new AccommodationDetailCacheProperties(
+				true,
+				Duration.ofMinutes(10),
+				Duration.ofMinutes(2),
+				Duration.ofSeconds(45),
+				Duration.ofSeconds(15),
+				Duration.ofSeconds(2),
+				Duration.ofSeconds(5),
+				Duration.ofSeconds(30),
+				Duration.ofSeconds(1),
+				Duration.ofSeconds(1)),
+			localCache,
+			localCacheBroadcaster
+		);
 	}
 
 	private AccommodationDetailSnapshot snapshot(long id, String name) {
@@ -931,7 +1098,7 @@ class AccommodationDetailCacheTest {
 		return new AccommodationDetailCache(
 			redisClient,
 			redissonClient,
-			objectMapper,
+			codecRegistry,
 			metricRecorder,
 			jitter,
 			new AccommodationDetailCacheProperties(
@@ -944,7 +1111,9 @@ class AccommodationDetailCacheTest {
 				localLoadWait,
 				Duration.ofSeconds(30),
 				Duration.ofSeconds(1),
-				Duration.ofSeconds(1))
+				Duration.ofSeconds(1)),
+			localCache,
+			localCacheBroadcaster
 		);
 	}
 
@@ -78,7 +78,15 @@ class PerformanceLabRedisEndpointIsolationIntegrationTest {
 				"accommodation.detail-cache.local-load-wait=5s",
 				"accommodation.detail-cache.load-permit-ttl=30s",
 				"accommodation.detail-cache.redis-connect-timeout=1s",
-				"accommodation.detail-cache.redis-command-timeout=1s");
+				"accommodation.detail-cache.redis-command-timeout=1s",
+				"accommodation.detail-cache.local.maximum-size=100",
+				"accommodation.detail-cache.local.ttl=5s",
+				"accommodation.detail-cache.local.ttl-jitter=2s",
+				"accommodation.detail-cache.local.negative-ttl=2s",
+				"accommodation.detail-cache.local.resubscribe-interval=5s",
+				"accommodation.detail-cache.local.invalidation-channel=airbob:cache:accommodation-detail:local-invalidation",
+				"accommodation.detail-cache.codec.write-format=json_v1",
+				"accommodation.detail-cache.codec.compression-threshold=1024");
 	}
 
 	private StringRedisTemplate cacheRedisTemplate(AccommodationDetailRedisClient redisClient) {
@@ -0,0 +1,145 @@
+package kr.kro.airbob.domain.accommodation.cache.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheValue;
+import kr.kro.airbob.domain.accommodation.dto.AccommodationDetailSnapshot;
+import kr.kro.airbob.domain.accommodation.dto.AddressResponse;
+import kr.kro.airbob.domain.accommodation.dto.AmenityResponse;
+import kr.kro.airbob.domain.accommodation.dto.PolicyResponse;
+import kr.kro.airbob.domain.image.dto.ImageResponse;
+import kr.kro.airbob.domain.member.dto.MemberResponse;
+import kr.kro.airbob.domain.review.dto.ReviewResponse;
+
+@DisplayName("숙소 상세 캐시 바이너리 형식 테스트")
+class BinaryAccommodationDetailCacheCodecTest {
+
+	private final BinaryAccommodationDetailCacheCodec codec = new BinaryAccommodationDetailCacheCodec(1024);
+
+	@Test
+	@DisplayName("시간, 평점 scale, 중첩 record를 손실 없이 왕복한다")
+	void roundTripsFullSnapshot() throws Exception {
+		AccommodationDetailCacheValue expected = AccommodationDetailCacheValue.found(fullSnapshot(2));
+
+		AccommodationDetailCacheValue actual = codec.decode(codec.encode(expected));
+
+		assertThat(actual).isEqualTo(expected);
+		assertThat(actual.snapshot().reviewSummary().averageRating()).isEqualByComparingTo("4.50");
+		assertThat(actual.snapshot().reviewSummary().averageRating().scale()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("null 필드와 404 값을 구분해 복원한다")
+	void roundTripsNullFieldsAndNotFound() throws Exception {
+		AccommodationDetailCacheValue sparse = AccommodationDetailCacheValue.found(new AccommodationDetailSnapshot(
+			3L, "", null, null, null, null, null, null, "Asia/Seoul",
+			null, new AddressResponse.Coordinate(null, 126.9780), null, null, List.of(), List.of(), null));
+
+		assertThat(codec.decode(codec.encode(sparse))).isEqualTo(sparse);
+		assertThat(codec.decode(codec.encode(AccommodationDetailCacheValue.notFound())))
+			.isEqualTo(AccommodationDetailCacheValue.notFound());
+	}
+
+	@Test
+	@DisplayName("호스트·목록·리뷰 요약이 null이어도 쓰기가 실패하지 않고 빈 목록으로 복원한다")
+	void writesNullHostAndCollectionsWithoutFailing() throws Exception {
+		AccommodationDetailSnapshot snapshot = mock(AccommodationDetailSnapshot.class);
+		given(snapshot.id()).willReturn(4L);
+		given(snapshot.name()).willReturn("null 목록 숙소");
+		given(snapshot.timeZoneId()).willReturn("Asia/Seoul");
+		given(snapshot.host()).willReturn(null);
+		given(snapshot.amenities()).willReturn(null);
+		given(snapshot.images()).willReturn(null);
+		given(snapshot.reviewSummary()).willReturn(null);
+
+		AccommodationDetailCacheValue actual =
+			codec.decode(codec.encode(AccommodationDetailCacheValue.found(snapshot)));
+
+		assertThat(actual.snapshot().id()).isEqualTo(4L);
+		assertThat(actual.snapshot().name()).isEqualTo("null 목록 숙소");
+		assertThat(actual.snapshot().host()).isNull();
+		assertThat(actual.snapshot().amenities()).isEmpty();
+		assertThat(actual.snapshot().images()).isEmpty();
+		assertThat(actual.snapshot().reviewSummary()).isNull();
+	}
+
+	@Test
+	@DisplayName("목록에 null 원소가 있으면 원소를 빼고 기록하지 않고 쓰기를 거부한다")
+	void rejectsNullListElementInsteadOfDroppingIt() {
+		AccommodationDetailSnapshot snapshot = mock(AccommodationDetailSnapshot.class);
+		given(snapshot.id()).willReturn(5L);
+		given(snapshot.amenities()).willReturn(List.of());
+		given(snapshot.images()).willReturn(Arrays.asList(
+			new ImageResponse.ImageInfo(1L, "https://image.test/accommodations/5/1.jpg"),
+			null));
+
+		assertThatThrownBy(() -> codec.encode(AccommodationDetailCacheValue.found(snapshot)))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("같은 값을 JSON보다 작은 payload로 저장하고 임계치를 넘으면 압축한다")
+	void producesSmallerPayloadThanJsonAndCompressesLargeBodies() throws Exception {
+		AccommodationDetailCacheValue value = AccommodationDetailCacheValue.found(fullSnapshot(40));
+		byte[] json = new ObjectMapper().findAndRegisterModules().writeValueAsBytes(value);
+
+		byte[] payload = codec.encode(value);
+
+		assertThat(payload.length).isLessThan(json.length);
+		assertThat(payload[0]).isEqualTo(BinaryAccommodationDetailCacheCodec.FORMAT_VERSION);
+		assertThat(payload[1] & BinaryAccommodationDetailCacheCodec.FLAG_DEFLATED).isNotZero();
+		assertThat(codec.decode(payload)).isEqualTo(value);
+	}
+
+	@Test
+	@DisplayName("다른 버전이나 잘린 payload는 손상 값으로 거부한다")
+	void rejectsUnknownVersionAndTruncatedPayload() throws Exception {
+		byte[] payload = codec.encode(AccommodationDetailCacheValue.found(fullSnapshot(2)));
+		byte[] otherVersion = payload.clone();
+		otherVersion[0] = 9;
+
+		assertThatThrownBy(() -> codec.decode(otherVersion)).isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> codec.decode(Arrays.copyOf(payload, payload.length - 3)))
+			.isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> codec.decode("{}".getBytes())).isInstanceOf(IOException.class);
+	}
+
+	private AccommodationDetailSnapshot fullSnapshot(int imageCount) {
+		List<ImageResponse.ImageInfo> images = new ArrayList<>();
+		for (int index = 0; index < imageCount; index++) {
+			images.add(new ImageResponse.ImageInfo((long)index, "https://image.test/accommodations/1/" + index + ".jpg"));
+		}
+		return new AccommodationDetailSnapshot(
+			1L,
+			"한강 뷰 숙소",
+			"조용한 숙소",
+			"APARTMENT",
+			120_000L,
+			"KRW",
+			LocalTime.of(15, 0),
+			LocalTime.of(11, 0),
+			"Asia/Seoul",
+			new AddressResponse.AddressSummaryInfo("대한민국", "서울특별시", "서울", "마포구"),
+			new AddressResponse.Coordinate(37.5665, 126.9780),
+			new MemberResponse.MemberInfo(2L, "host", "https://image.test/host"),
+			new PolicyResponse.PolicyInfo(4, 1, 0),
+			List.of(new AmenityResponse.AmenityInfo("WIFI", 1), new AmenityResponse.AmenityInfo("PARKING", null)),
+			images,
+			new ReviewResponse.ReviewSummary(12, new BigDecimal("4.50")));
+	}
+}
@@ -0,0 +1,105 @@
+package kr.kro.airbob.domain.accommodation.cache.invalidation;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder;
+import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailLocalCacheProperties;
+import kr.kro.airbob.domain.accommodation.cache.local.AccommodationDetailLocalCache;
+import kr.kro.airbob.domain.accommodation.cache.redis.AccommodationDetailRedisClient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("숙소 상세 L1 무효화 구독 테스트")
+class AccommodationDetailLocalCacheInvalidationBroadcasterTest {
+
+	private static final String CHANNEL = "airbob:cache:accommodation-detail:local-invalidation";
+	private static final Duration RESUBSCRIBE_INTERVAL = Duration.ofSeconds(5);
+
+	@Mock private AccommodationDetailRedisClient redisClient;
+	@Mock private AccommodationDetailLocalCache localCache;
+	@Mock private AccommodationDetailCacheMetricRecorder metricRecorder;
+
+	private AccommodationDetailLocalCacheInvalidationBroadcaster broadcaster;
+
+	@BeforeEach
+	void setUp() {
+		broadcaster = new AccommodationDetailLocalCacheInvalidationBroadcaster(
+			redisClient, localCache, properties(true), metricRecorder);
+	}
+
+	@Test
+	@DisplayName("시작 시 구독에 실패해도 예외를 던지지 않고 다음 주기에 다시 구독한다")
+	void retriesSubscriptionAfterStartupFailure() {
+		doThrow(new RedisConnectionFailureException("redis down"))
+			.doNothing()
+			.when(redisClient).subscribe(eq(CHANNEL), any(), any(), eq(RESUBSCRIBE_INTERVAL));
+
+		broadcaster.afterPropertiesSet();
+		broadcaster.resubscribeIfInactive();
+
+		verify(redisClient, times(2)).subscribe(eq(CHANNEL), any(), any(), eq(RESUBSCRIBE_INTERVAL));
+		verify(localCache, never()).activate();
+	}
+
+	@Test
+	@DisplayName("Redis가 구독을 확인하면 L1을 비운 뒤 사용을 시작한다")
+	void activatesLocalCacheWhenSubscriptionIsConfirmed() {
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(2).run();
+			return null;
+		}).when(redisClient).subscribe(eq(CHANNEL), any(), any(), eq(RESUBSCRIBE_INTERVAL));
+
+		broadcaster.afterPropertiesSet();
+
+		verify(localCache).activate();
+	}
+
+	@Test
+	@DisplayName("구독이 확인되어 L1이 사용 중이면 다시 구독하지 않는다")
+	void skipsResubscribeWhileLocalCacheIsActive() {
+		when(localCache.enabled()).thenReturn(true);
+
+		broadcaster.resubscribeIfInactive();
+
+		verify(redisClient, never()).subscribe(any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("L1을 끄면 구독하지 않는다")
+	void doesNotSubscribeWhenLocalCacheIsDisabled() {
+		broadcaster = new AccommodationDetailLocalCacheInvalidationBroadcaster(
+			redisClient, localCache, properties(false), metricRecorder);
+
+		broadcaster.afterPropertiesSet();
+		broadcaster.resubscribeIfInactive();
+
+		verify(redisClient, never()).subscribe(any(), any(), any(), any());
+	}
+
+	private AccommodationDetailLocalCacheProperties properties(boolean enabled) {
+		return new AccommodationDetailLocalCacheProperties(
+			enabled,
+			100,
+			Duration.ofSeconds(5),
+			Duration.ZERO,
+			Duration.ofSeconds(2),
+			CHANNEL,
+			RESUBSCRIBE_INTERVAL);
+	}
+}
@@ -0,0 +1,133 @@
+package kr.kro.airbob.domain.accommodation.cache.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheValue;
+import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailCacheJitter;
+import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailLocalCacheProperties;
+import kr.kro.airbob.domain.accommodation.dto.AccommodationDetailSnapshot;
+
+@DisplayName("숙소 상세 L1 캐시 테스트")
+class AccommodationDetailLocalCacheTest {
+
+	private TestTicker ticker;
+	private AccommodationDetailCacheJitter jitter;
+	private AccommodationDetailLocalCache localCache;
+
+	@BeforeEach
+	void setUp() {
+		ticker = new TestTicker();
+		jitter = mock(AccommodationDetailCacheJitter.class);
+		when(jitter.nextMillis(anyLong())).thenReturn(0L);
+		localCache = new AccommodationDetailLocalCache(properties(true), jitter, ticker);
+		localCache.activate();
+	}
+
+	@Test
+	@DisplayName("조회 전에 받은 fence가 유지되면 값을 저장한다")
+	void storesValueWhenFenceIsCurrent() {
+		AccommodationDetailCacheValue value = AccommodationDetailCacheValue.found(snapshot(1L));
+
+		localCache.put(1L, localCache.fence(1L), value);
+
+		assertThat(localCache.get(1L)).isEqualTo(value);
+	}
+
+	@Test
+	@DisplayName("조회 도중 무효화가 끼어들면 이전 값을 저장하지 않는다")
+	void rejectsValueReadBeforeInvalidation() {
+		long fence = localCache.fence(1L);
+
+		localCache.invalidate(1L);
+		localCache.put(1L, fence, AccommodationDetailCacheValue.found(snapshot(1L)));
+
+		assertThat(localCache.get(1L)).isNull();
+	}
+
+	@Test
+	@DisplayName("정상 값과 404 값을 서로 다른 TTL로 만료한다")
+	void expiresPositiveAndNegativeValuesSeparately() {
+		localCache.put(1L, localCache.fence(1L), AccommodationDetailCacheValue.found(snapshot(1L)));
+		localCache.put(2L, localCache.fence(2L), AccommodationDetailCacheValue.notFound());
+
+		ticker.advance(Duration.ofSeconds(3));
+		assertThat(localCache.get(1L)).isNotNull();
+		assertThat(localCache.get(2L)).isNull();
+
+		ticker.advance(Duration.ofSeconds(3));
+		assertThat(localCache.get(1L)).isNull();
+	}
+
+	@Test
+	@DisplayName("비활성화되면 값을 저장하거나 반환하지 않는다")
+	void disabledCacheStoresNothing() {
+		AccommodationDetailLocalCache disabled =
+			new AccommodationDetailLocalCache(properties(false), jitter, ticker);
+
+		disabled.put(1L, disabled.fence(1L), AccommodationDetailCacheValue.found(snapshot(1L)));
+
+		assertThat(disabled.get(1L)).isNull();
+	}
+
+	@Test
+	@DisplayName("무효화 채널 구독이 확인되기 전에는 사용하지 않고, 확인되면 비운 상태로 사용을 시작한다")
+	void staysOffUntilInvalidationSubscriptionIsConfirmed() {
+		AccommodationDetailLocalCache pending = new AccommodationDetailLocalCache(properties(true), jitter, ticker);
+		AccommodationDetailCacheValue value = AccommodationDetailCacheValue.found(snapshot(1L));
+
+		pending.put(1L, pending.fence(1L), value);
+		assertThat(pending.enabled()).isFalse();
+		assertThat(pending.get(1L)).isNull();
+
+		pending.activate();
+		pending.put(1L, pending.fence(1L), value);
+		assertThat(pending.get(1L)).isEqualTo(value);
+
+		pending.activate();
+		assertThat(pending.get(1L)).isNull();
+	}
+
+	private AccommodationDetailLocalCacheProperties properties(boolean enabled) {
+		return new AccommodationDetailLocalCacheProperties(
+			enabled,
+			100,
+			Duration.ofSeconds(5),
+			Duration.ZERO,
+			Duration.ofSeconds(2),
+			"airbob:cache:accommodation-detail:local-invalidation",
+			Duration.ofSeconds(5));
+	}
+
+	private AccommodationDetailSnapshot snapshot(long id) {
+		return new AccommodationDetailSnapshot(
+			id, "local", null, null, null, null, null, null, "Asia/Seoul",
+			null, null, null, null, List.of(), List.of(), null);
+	}
+
+	private static class TestTicker implements Ticker {
+
+		private final AtomicLong nanos = new AtomicLong();
+
+		@Override
+		public long read() {
+			return nanos.get();
+		}
+
+		private void advance(Duration duration) {
+			nanos.addAndGet(duration.toNanos());
+		}
+	}
+}
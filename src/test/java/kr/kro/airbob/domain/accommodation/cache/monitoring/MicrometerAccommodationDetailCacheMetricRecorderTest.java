@@ -11,12 +11,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.micrometer.prometheusmetrics.PrometheusConfig;
 import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
 import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheInvalidationReason;
 import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheMetricRecorder;
+import kr.kro.airbob.domain.accommodation.cache.codec.AccommodationDetailCacheFormat;
 
 @DisplayName("숙소 상세 캐시 Micrometer 지표 테스트")
 class MicrometerAccommodationDetailCacheMetricRecorderTest {
@@ -59,6 +61,52 @@ class MicrometerAccommodationDetailCacheMetricRecorderTest {
 		assertThat(eviction.count()).isOne();
 	}
 
+	@Test
+	@DisplayName("캐시 계층별 조회 결과와 L1 무효화 전파 결과를 기록한다")
+	void recordsTierLookupsAndBroadcasts() {
+		recorder.recordTierLookup(
+			AccommodationDetailCacheMetricRecorder.CacheTier.LOCAL,
+			AccommodationDetailCacheMetricRecorder.TierLookupResult.HIT);
+		recorder.recordTierLookup(
+			AccommodationDetailCacheMetricRecorder.CacheTier.REDIS,
+			AccommodationDetailCacheMetricRecorder.TierLookupResult.MISS);
+		recorder.recordInvalidationBroadcast(
+			AccommodationDetailCacheMetricRecorder.BroadcastDirection.PUBLISH,
+			AccommodationDetailCacheMetricRecorder.OperationResult.SUCCESS);
+
+		Counter localHit = registry.find(MicrometerAccommodationDetailCacheMetricRecorder.TIER_LOOKUP_TOTAL)
+			.tags("tier", "local", "result", "hit").counter();
+		Counter redisMiss = registry.find(MicrometerAccommodationDetailCacheMetricRecorder.TIER_LOOKUP_TOTAL)
+			.tags("tier", "redis", "result", "miss").counter();
+		Counter published = registry.find(MicrometerAccommodationDetailCacheMetricRecorder.BROADCAST_TOTAL)
+			.tags("direction", "publish", "result", "success").counter();
+
+		assertThat(localHit.count()).isOne();
+		assertThat(redisMiss.count()).isOne();
+		assertThat(published.count()).isOne();
+	}
+
+	@Test
+	@DisplayName("payload 형식별 직렬화 시간과 크기를 기록한다")
+	void recordsCodecDurationAndPayloadSizePerFormat() {
+		recorder.recordCodec(
+			AccommodationDetailCacheFormat.BINARY_V2,
+			AccommodationDetailCacheMetricRecorder.CodecOperation.ENCODE,
+			Duration.ofMillis(2).toNanos(),
+			512);
+
+		Timer encode = registry.find(MicrometerAccommodationDetailCacheMetricRecorder.CODEC_DURATION)
+			.tags("format", "binary_v2", "operation", "encode").timer();
+		DistributionSummary size = registry.find(MicrometerAccommodationDetailCacheMetricRecorder.CODEC_PAYLOAD_SIZE)
+			.tags("format", "binary_v2", "operation", "encode").summary();
+		DistributionSummary jsonSize = registry.find(MicrometerAccommodationDetailCacheMetricRecorder.CODEC_PAYLOAD_SIZE)
+			.tags("format", "json_v1", "operation", "decode").summary();
+
+		assertThat(encode.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2.0);
+		assertThat(size.totalAmount()).isEqualTo(512.0);
+		assertThat(jsonSize.count()).isZero();
+	}
+
 	@Test
 	@DisplayName("숙소 ID와 사용자 ID를 메트릭 태그로 사용하지 않는다")
 	void avoidsHighCardinalityIdentifierTags() {
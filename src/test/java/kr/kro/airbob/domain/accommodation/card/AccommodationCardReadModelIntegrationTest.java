@@ -0,0 +1,126 @@
+package kr.kro.airbob.domain.accommodation.card;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@Testcontainers
+@DisplayName("숙소 카드 조회 모델 통합 테스트")
+class AccommodationCardReadModelIntegrationTest {
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>(
+		DockerImageName.parse("redis:7.2-alpine"))
+		.withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate redisTemplate;
+
+	private SimpleMeterRegistry meterRegistry;
+	private AccommodationCardReadModel readModel;
+
+	@BeforeAll
+	static void setUpClient() {
+		connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void closeClient() {
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+		meterRegistry = new SimpleMeterRegistry();
+		readModel = new AccommodationCardReadModel(redisTemplate, new ObjectMapper(),
+			new AccommodationCardReadModelProperties(true, Duration.ofHours(1)), meterRegistry);
+	}
+
+	@Test
+	@DisplayName("없는 카드만 한 번에 만들고 다음 조회는 Redis에서 읽는다")
+	void loadsMissingCardsOnceThenHits() {
+		AtomicInteger loads = new AtomicInteger();
+
+		readModel.getAll(List.of(1L, 2L, 3L), ids -> {
+			loads.incrementAndGet();
+			return cards(ids.stream().filter(id -> id != 3L).toList());
+		});
+		Map<Long, AccommodationCard> second = readModel.getAll(List.of(1L, 2L), ids -> {
+			loads.incrementAndGet();
+			return cards(ids);
+		});
+
+		assertThat(loads).hasValue(1);
+		assertThat(second).containsOnlyKeys(1L, 2L);
+		assertThat(second.get(2L).accommodationName()).isEqualTo("숙소 2");
+		assertThat(meterRegistry.get(AccommodationCardReadModel.LOOKUP_TOTAL)
+			.tag("result", "hit").counter().count()).isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("DB 조회 중 무효화되면 이전 내용으로 만든 카드는 저장하지 않는다")
+	void rejectsStaleWriteWhenInvalidatedDuringLoad() {
+		readModel.getAll(List.of(1L), ids -> {
+			readModel.invalidate(1L);
+			return cards(ids);
+		});
+
+		AtomicInteger loads = new AtomicInteger();
+		readModel.getAll(List.of(1L), ids -> {
+			loads.incrementAndGet();
+			return cards(ids);
+		});
+
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("무효화하면 저장된 카드를 지워 다음 조회에서 다시 만든다")
+	void invalidateDeletesStoredCard() {
+		readModel.getAll(List.of(1L), this::cards);
+
+		readModel.invalidate(1L);
+
+		AtomicInteger loads = new AtomicInteger();
+		readModel.getAll(List.of(1L), ids -> {
+			loads.incrementAndGet();
+			return cards(ids);
+		});
+		assertThat(loads).hasValue(1);
+	}
+
+	private Map<Long, AccommodationCard> cards(List<Long> accommodationIds) {
+		return accommodationIds.stream()
+			.collect(Collectors.toMap(id -> id, id -> AccommodationCard.builder()
+				.accommodationId(id)
+				.accommodationName("숙소 " + id)
+				.thumbnailUrl("https://example.com/" + id + ".jpg")
+				.build()));
+	}
+}
@@ -56,7 +56,7 @@ class AccommodationBookingProjectionRepositoryTest {
 	private MemberRepository memberRepository;
 
 	@Test
-	@DisplayName("게시 숙소의 시간대만 예약용 projection으로 조회한다")
+	@DisplayName("게시 숙소의 시간대와 UID만 예약용 projection으로 조회한다")
 	void findsPublishedAccommodationTimeZoneOnly() {
 		Member host = memberRepository.save(Member.builder()
 			.email("booking-projection@test.com")
@@ -67,8 +67,10 @@ class AccommodationBookingProjectionRepositoryTest {
 
 		assertThat(accommodationRepository.findBookingProjectionByIdAndStatus(
 			published.getId(), AccommodationStatus.PUBLISHED))
-			.hasValueSatisfying(projection ->
-				assertThat(projection.timeZoneId()).isEqualTo("America/New_York"));
+			.hasValueSatisfying(projection -> {
+				assertThat(projection.timeZoneId()).isEqualTo("America/New_York");
+				assertThat(projection.accommodationUid()).isEqualTo(published.getAccommodationUid());
+			});
 		assertThat(accommodationRepository.findBookingProjectionByIdAndStatus(
 			draft.getId(), AccommodationStatus.PUBLISHED))
 			.isEmpty();
@@ -39,10 +39,14 @@ import kr.kro.airbob.config.ClockConfig;
 import kr.kro.airbob.config.JpaAuditingConfig;
 import kr.kro.airbob.config.QueryDslConfig;
 import kr.kro.airbob.cursor.util.CursorPageInfoCreator;
+import kr.kro.airbob.domain.accommodation.availability.AccommodationAvailabilityReadModel;
 import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCache;
 import kr.kro.airbob.config.AccommodationDetailRedisConfig;
+import kr.kro.airbob.domain.accommodation.cache.codec.AccommodationDetailCacheCodecRegistry;
 import kr.kro.airbob.domain.accommodation.cache.config.AccommodationDetailCacheConfiguration;
 import kr.kro.airbob.domain.accommodation.cache.invalidation.AccommodationDetailCacheInvalidationListener;
+import kr.kro.airbob.domain.accommodation.cache.invalidation.AccommodationDetailLocalCacheInvalidationBroadcaster;
+import kr.kro.airbob.domain.accommodation.cache.local.AccommodationDetailLocalCache;
 import kr.kro.airbob.domain.accommodation.cache.monitoring.FailSafeAccommodationDetailCacheMetricRecorder;
 import kr.kro.airbob.domain.accommodation.cache.monitoring.MicrometerAccommodationDetailCacheMetricRecorder;
 import kr.kro.airbob.domain.accommodation.dto.AccommodationResponse;
@@ -73,6 +77,9 @@ import kr.kro.airbob.outbox.OutboxEventPublisher;
 	AccommodationDetailCacheConfiguration.class,
 	AccommodationDetailRedisConfig.class,
 	AccommodationDetailCache.class,
+	AccommodationDetailCacheCodecRegistry.class,
+	AccommodationDetailLocalCache.class,
+	AccommodationDetailLocalCacheInvalidationBroadcaster.class,
 	MicrometerAccommodationDetailCacheMetricRecorder.class,
 	FailSafeAccommodationDetailCacheMetricRecorder.class,
 	AccommodationDetailCacheInvalidationListener.class,
@@ -117,6 +124,7 @@ class AccommodationDetailCacheQueryCountTest {
 	@MockitoBean private GeocodingService geocodingService;
 	@MockitoBean private S3ImageUploader s3ImageUploader;
 	@MockitoBean private BookingWindowProvider bookingWindowProvider;
+	@MockitoBean private AccommodationAvailabilityReadModel availabilityReadModel;
 
 	private Accommodation accommodation;
 	private Member host;
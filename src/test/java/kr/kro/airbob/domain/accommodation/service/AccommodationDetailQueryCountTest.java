@@ -33,6 +33,7 @@ import kr.kro.airbob.config.JpaAuditingConfig;
 import kr.kro.airbob.config.ClockConfig;
 import kr.kro.airbob.config.QueryDslConfig;
 import kr.kro.airbob.cursor.util.CursorPageInfoCreator;
+import kr.kro.airbob.domain.accommodation.availability.AccommodationAvailabilityReadModel;
 import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCache;
 import kr.kro.airbob.domain.accommodation.dto.AccommodationDetailSnapshot;
 import kr.kro.airbob.domain.accommodation.dto.AccommodationResponse;
@@ -120,6 +121,9 @@ class AccommodationDetailQueryCountTest {
 	@MockitoBean
 	private AccommodationDetailCache accommodationDetailCache;
 
+	@MockitoBean
+	private AccommodationAvailabilityReadModel availabilityReadModel;
+
 	@BeforeEach
 	void setUpBookingWindow() {
 		when(bookingWindowProvider.currentFor("Asia/Seoul"))
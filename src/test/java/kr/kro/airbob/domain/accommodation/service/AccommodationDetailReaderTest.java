@@ -26,6 +26,9 @@ import kr.kro.airbob.domain.accommodation.repository.AccommodationAmenityReposit
 import kr.kro.airbob.domain.accommodation.repository.AccommodationImageRepository;
 import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
 import kr.kro.airbob.domain.accommodation.repository.projection.AccommodationDetailProjection;
+import kr.kro.airbob.domain.review.dto.ReviewResponse;
+import kr.kro.airbob.domain.review.summary.ReviewSummaryStripeCounter;
+import kr.kro.airbob.domain.wishlist.cache.WishlistMembershipCache;
 import kr.kro.airbob.domain.wishlist.repository.WishlistAccommodationRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +39,8 @@ class AccommodationDetailReaderTest {
 	@Mock private AccommodationAmenityRepository accommodationAmenityRepository;
 	@Mock private AccommodationImageRepository accommodationImageRepository;
 	@Mock private WishlistAccommodationRepository wishlistAccommodationRepository;
+	@Mock private ReviewSummaryStripeCounter reviewSummaryCounter;
+	@Mock private WishlistMembershipCache wishlistMembershipCache;
 
 	@InjectMocks
 	private AccommodationDetailReader reader;
@@ -65,6 +70,30 @@ class AccommodationDetailReaderTest {
 		verifyNoInteractions(wishlistAccommodationRepository);
 	}
 
+	@Test
+	@DisplayName("stripe 모드에서는 요약 행 조인 값 대신 롤업 전 증감분을 합친 리뷰 요약을 담는다")
+	void loadMergedReviewSummaryWhenStripeEnabled() {
+		Accommodation accommodation = mock(Accommodation.class);
+		when(accommodation.getId()).thenReturn(1L);
+		when(accommodation.getCheckInTime()).thenReturn(LocalTime.of(15, 0));
+		when(accommodation.getCheckOutTime()).thenReturn(LocalTime.of(11, 0));
+		when(accommodation.getTimeZoneId()).thenReturn("Asia/Seoul");
+		when(accommodationRepository.findWithDetailsByAccommodationIdAndStatus(
+			1L, AccommodationStatus.PUBLISHED))
+			.thenReturn(Optional.of(new AccommodationDetailProjection(
+				accommodation, 3, new BigDecimal("4.50"))));
+		when(accommodationAmenityRepository.findAllByAccommodationId(1L)).thenReturn(List.of());
+		when(accommodationImageRepository.findByAccommodationIdOrderByIdAsc(1L)).thenReturn(List.of());
+		when(reviewSummaryCounter.enabled()).thenReturn(true);
+		when(reviewSummaryCounter.find(1L))
+			.thenReturn(ReviewResponse.ReviewSummary.of(5, new BigDecimal("4.60")));
+
+		AccommodationDetailSnapshot snapshot = reader.load(1L);
+
+		assertThat(snapshot.reviewSummary().totalCount()).isEqualTo(5);
+		assertThat(snapshot.reviewSummary().averageRating()).isEqualByComparingTo("4.60");
+	}
+
 	@Test
 	@DisplayName("게시되지 않은 숙소는 상세 원본을 만들지 않는다")
 	void rejectMissingPublishedAccommodation() {
@@ -85,4 +114,14 @@ class AccommodationDetailReaderTest {
 
 		assertThat(reader.isInWishlist(1L, 7L)).isTrue();
 	}
+
+	@Test
+	@DisplayName("찜 ID 집합 캐시를 켜면 찜 여부를 DB 대신 캐시에서 확인한다")
+	void readsWishlistStateFromMembershipCache() {
+		when(wishlistMembershipCache.enabled()).thenReturn(true);
+		when(wishlistMembershipCache.isWishlisted(7L, 1L)).thenReturn(true);
+
+		assertThat(reader.isInWishlist(1L, 7L)).isTrue();
+		verifyNoInteractions(wishlistAccommodationRepository);
+	}
 }
@@ -7,6 +7,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import kr.kro.airbob.cursor.util.CursorPageInfoCreator;
+import kr.kro.airbob.domain.accommodation.availability.AccommodationAvailabilityReadModel;
+import kr.kro.airbob.domain.accommodation.availability.AvailabilityBitmap;
 import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCache;
 import kr.kro.airbob.domain.accommodation.dto.AccommodationDetailSnapshot;
 import kr.kro.airbob.domain.accommodation.dto.AccommodationResponse;
@@ -37,6 +40,7 @@ class AccommodationQueryServiceTest {
 	private static final String DEFAULT_TIME_ZONE_ID = "Asia/Seoul";
 	private static final LocalDate BOOKING_WINDOW_START = LocalDate.of(2026, 8, 12);
 	private static final BookingWindow BOOKING_WINDOW = BookingWindow.startingOn(BOOKING_WINDOW_START);
+	private static final UUID ACCOMMODATION_UID = UUID.fromString("00000000-0000-0000-0000-000000000001");
 
 	@Mock private AccommodationRepository accommodationRepository;
 	@Mock private AccommodationReviewSummaryRepository reviewSummaryRepository;
@@ -45,6 +49,7 @@ class AccommodationQueryServiceTest {
 	@Mock private BookingWindowProvider bookingWindowProvider;
 	@Mock private AccommodationDetailReader accommodationDetailReader;
 	@Mock private AccommodationDetailCache accommodationDetailCache;
+	@Mock private AccommodationAvailabilityReadModel availabilityReadModel;
 
 	@InjectMocks
 	private AccommodationQueryService accommodationQueryService;
@@ -181,6 +186,27 @@ class AccommodationQueryServiceTest {
 		);
 	}
 
+	@Test
+	@DisplayName("예약 현황 조회 모델이 있으면 DB 예약 구간을 조회하지 않는다")
+	void accommodationAvailabilityServesFromReadModel() {
+		when(accommodationRepository.findBookingProjectionByIdAndStatus(1L, AccommodationStatus.PUBLISHED))
+			.thenReturn(Optional.of(new AccommodationBookingProjection(DEFAULT_TIME_ZONE_ID, ACCOMMODATION_UID)));
+		when(bookingWindowProvider.currentFor(DEFAULT_TIME_ZONE_ID)).thenReturn(BOOKING_WINDOW);
+		when(availabilityReadModel.getOrLoad(
+			eq(ACCOMMODATION_UID), eq(BOOKING_WINDOW.startInclusive()), eq(BOOKING_WINDOW.endExclusive()), any()))
+			.thenReturn(AvailabilityBitmap.of(
+				BOOKING_WINDOW.startInclusive(),
+				BOOKING_WINDOW.endExclusive(),
+				List.of(new ReservationDateRange(BOOKING_WINDOW_START.plusDays(3), BOOKING_WINDOW_START.plusDays(5)))));
+
+		AccommodationResponse.Availability response = accommodationQueryService.findAccommodationAvailability(1L);
+
+		assertThat(response.unavailableRanges()).containsExactly(
+			new AccommodationResponse.UnavailableDateRange(
+				BOOKING_WINDOW_START.plusDays(3), BOOKING_WINDOW_START.plusDays(5)));
+		verifyNoInteractions(reservationRepository);
+	}
+
 	@Test
 	@DisplayName("게시되지 않은 숙소의 예약 가능 정보는 조회할 수 없다")
 	void accommodationAvailabilityRequiresPublishedAccommodation() {
@@ -225,7 +251,12 @@ class AccommodationQueryServiceTest {
 	) {
 		when(accommodationRepository.findBookingProjectionByIdAndStatus(
 			accommodationId, AccommodationStatus.PUBLISHED))
-			.thenReturn(Optional.of(new AccommodationBookingProjection(timeZoneId)));
+			.thenReturn(Optional.of(new AccommodationBookingProjection(timeZoneId, ACCOMMODATION_UID)));
 		when(bookingWindowProvider.currentFor(timeZoneId)).thenReturn(bookingWindow);
+		when(availabilityReadModel.getOrLoad(eq(ACCOMMODATION_UID), any(), any(), any()))
+			.thenAnswer(invocation -> {
+				Supplier<List<ReservationDateRange>> loader = invocation.getArgument(3);
+				return AvailabilityBitmap.of(invocation.getArgument(1), invocation.getArgument(2), loader.get());
+			});
 	}
 }
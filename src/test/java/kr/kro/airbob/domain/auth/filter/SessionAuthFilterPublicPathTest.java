@@ -3,17 +3,19 @@ package kr.kro.airbob.domain.auth.filter;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Optional;
+
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import kr.kro.airbob.domain.auth.session.SessionResolver;
+
 @DisplayName("세션 인증 필터 공개 경로 테스트")
 class SessionAuthFilterPublicPathTest {
 
@@ -83,14 +85,22 @@ class SessionAuthFilterPublicPathTest {
 	}
 
 	@Test
-	@DisplayName("정방향 세션만 남고 회원별 활성 키가 없으면 인증을 거부한다")
-	@SuppressWarnings("unchecked")
-	void sessionWithoutActiveMemberKeyIsRejected() throws Exception {
-		RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
-		ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get("SESSION:valid-session")).thenReturn(10L);
-		SessionAuthFilter filter = new SessionAuthFilter(redisTemplate, new ObjectMapper());
+	@DisplayName("공개 GET 경로라도 다른 메서드와 빈 세그먼트는 인증을 요구한다")
+	void publicGetPatternRequiresExactSegments() throws Exception {
+		SessionAuthFilter filter = createFilter();
+
+		assertThat(statusOf(filter, "DELETE", "/api/v1/accommodations/42")).isEqualTo(401);
+		assertThat(statusOf(filter, "GET", "/api/v1/accommodations//availability")).isEqualTo(401);
+		assertThat(statusOf(filter, "GET", "/api/v1/accommodations/42/availability/extra")).isEqualTo(401);
+		assertThat(statusOf(filter, "POST", "/api/v1/members")).isEqualTo(200);
+	}
+
+	@Test
+	@DisplayName("활성 회원으로 확인되지 않은 세션은 인증을 거부한다")
+	void unresolvedSessionIsRejected() throws Exception {
+		SessionResolver sessionResolver = mock(SessionResolver.class);
+		when(sessionResolver.resolve("valid-session")).thenReturn(Optional.empty());
+		SessionAuthFilter filter = new SessionAuthFilter(sessionResolver, new ObjectMapper());
 		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/auth/me");
 		request.setCookies(new Cookie("SESSION_ID", "valid-session"));
 		MockHttpServletResponse response = new MockHttpServletResponse();
@@ -100,19 +110,31 @@ class SessionAuthFilterPublicPathTest {
 
 		assertThat(chain.getRequest()).isNull();
 		assertThat(response.getStatus()).isEqualTo(401);
-		verify(redisTemplate).hasKey("MEMBER_SESSION_ACTIVE:10");
 	}
 
 	@Test
-	@DisplayName("유효한 세션은 존재 여부 조회 없이 단일 GET으로 인증한다")
-	@SuppressWarnings("unchecked")
-	void validSessionIsAuthenticatedWithSingleGet() throws Exception {
-		RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
-		ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.get("SESSION:valid-session")).thenReturn(10L);
-		when(redisTemplate.hasKey("MEMBER_SESSION_ACTIVE:10")).thenReturn(true);
-		SessionAuthFilter filter = new SessionAuthFilter(redisTemplate, new ObjectMapper());
+	@DisplayName("세션 조회가 실패하면 비인증 요청으로 처리한다")
+	void resolverFailureIsTreatedAsAnonymous() throws Exception {
+		SessionResolver sessionResolver = mock(SessionResolver.class);
+		when(sessionResolver.resolve("valid-session")).thenThrow(new IllegalStateException("redis down"));
+		SessionAuthFilter filter = new SessionAuthFilter(sessionResolver, new ObjectMapper());
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/accommodations/42");
+		request.setCookies(new Cookie("SESSION_ID", "valid-session"));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+
+		filter.doFilter(request, response, chain);
+
+		assertThat(chain.getRequest()).isSameAs(request);
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	@DisplayName("유효한 세션은 세션 조회 한 번으로 인증한다")
+	void validSessionIsAuthenticatedWithSingleLookup() throws Exception {
+		SessionResolver sessionResolver = mock(SessionResolver.class);
+		when(sessionResolver.resolve("valid-session")).thenReturn(Optional.of(10L));
+		SessionAuthFilter filter = new SessionAuthFilter(sessionResolver, new ObjectMapper());
 		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/auth/me");
 		request.setCookies(new Cookie("SESSION_ID", "valid-session"));
 		MockHttpServletResponse response = new MockHttpServletResponse();
@@ -122,13 +144,16 @@ class SessionAuthFilterPublicPathTest {
 
 		assertThat(chain.getRequest()).isSameAs(request);
 		assertThat(response.getStatus()).isEqualTo(200);
-		verify(valueOperations).get("SESSION:valid-session");
-		verify(redisTemplate, never()).hasKey("SESSION:valid-session");
+		verify(sessionResolver).resolve("valid-session");
+	}
+
+	private int statusOf(SessionAuthFilter filter, String method, String path) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(new MockHttpServletRequest(method, path), response, new MockFilterChain());
+		return response.getStatus();
 	}
 
-	@SuppressWarnings("unchecked")
 	private SessionAuthFilter createFilter() {
-		RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
-		return new SessionAuthFilter(redisTemplate, new ObjectMapper());
+		return new SessionAuthFilter(mock(SessionResolver.class), new ObjectMapper());
 	}
 }
@@ -0,0 +1,111 @@
+package kr.kro.airbob.domain.auth.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import kr.kro.airbob.domain.auth.session.SessionNearCacheInvalidationBroadcaster;
+
+@Testcontainers
+@DisplayName("활성 세션 조회 스크립트 통합 테스트")
+class SessionRedisRepositoryIntegrationTest {
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>(
+		DockerImageName.parse("redis:7.2-alpine"))
+		.withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static RedisTemplate<String, Object> redisTemplate;
+	private static SessionRedisRepository sessionRedisRepository;
+
+	@BeforeAll
+	static void setUpClient() {
+		connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		// 운영 RedisConfig와 같은 직렬화 설정
+		redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+		sessionRedisRepository = new SessionRedisRepository(
+			redisTemplate, mock(SessionNearCacheInvalidationBroadcaster.class));
+	}
+
+	@AfterAll
+	static void closeClient() {
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+	}
+
+	@BeforeEach
+	void flush() {
+		redisTemplate.execute((RedisCallback<Void>)connection -> {
+			connection.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@Test
+	@DisplayName("저장한 세션은 회원 활성 키와 함께 한 번에 확인해 회원 ID를 돌려준다")
+	void resolvesSavedSession() {
+		sessionRedisRepository.saveSession("session-1", 10L);
+
+		assertThat(sessionRedisRepository.findActiveMemberId("session-1")).contains(10L);
+	}
+
+	@Test
+	@DisplayName("없는 세션은 빈 값을 돌려준다")
+	void returnsEmptyForMissingSession() {
+		assertThat(sessionRedisRepository.findActiveMemberId("missing-session")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("회원 활성 키가 없으면 세션 값이 남아 있어도 빈 값을 돌려준다")
+	void rejectsSessionWithoutActiveMemberKey() {
+		sessionRedisRepository.saveSession("session-1", 10L);
+		redisTemplate.delete("MEMBER_SESSION_ACTIVE:10");
+
+		assertThat(sessionRedisRepository.findActiveMemberId("session-1")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("타입 정보 없이 저장된 숫자 세션 값도 읽는다")
+	void resolvesPlainNumericSessionValue() {
+		setRaw("SESSION:session-1", "10");
+		setRaw("MEMBER_SESSION_ACTIVE:10", "true");
+
+		assertThat(sessionRedisRepository.findActiveMemberId("session-1")).contains(10L);
+	}
+
+	@Test
+	@DisplayName("숫자가 아닌 세션 값은 빈 값을 돌려준다")
+	void rejectsMalformedSessionValue() {
+		setRaw("SESSION:session-1", "\"member-10\"");
+
+		assertThat(sessionRedisRepository.findActiveMemberId("session-1")).isEmpty();
+	}
+
+	private static void setRaw(String key, String value) {
+		redisTemplate.execute((RedisCallback<Boolean>)connection -> connection.stringCommands().set(
+			key.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8)));
+	}
+}
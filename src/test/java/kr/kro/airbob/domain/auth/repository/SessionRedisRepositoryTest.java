@@ -18,6 +18,8 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
 
+import kr.kro.airbob.domain.auth.session.SessionNearCacheInvalidationBroadcaster;
+
 @ExtendWith(MockitoExtension.class)
 @DisplayName("세션 Redis 저장소 단위 테스트")
 class SessionRedisRepositoryTest {
@@ -33,6 +35,9 @@ class SessionRedisRepositoryTest {
 	@Mock
 	private ZSetOperations<String, Object> zSetOperations;
 
+	@Mock
+	private SessionNearCacheInvalidationBroadcaster invalidationBroadcaster;
+
 	@InjectMocks
 	private SessionRedisRepository sessionRedisRepository;
 
@@ -72,6 +77,7 @@ class SessionRedisRepositoryTest {
 		then(redisTemplate).should().delete("SESSION:session-1");
 		then(zSetOperations).should()
 			.remove("MEMBER_SESSIONS:10", "session-1");
+		then(invalidationBroadcaster).should().publishSession("session-1");
 	}
 
 	@Test
@@ -100,6 +106,7 @@ class SessionRedisRepositoryTest {
 			"SESSION:session-2"
 		));
 		then(redisTemplate).should().delete("MEMBER_SESSIONS:10");
+		then(invalidationBroadcaster).should().publishMember(10L);
 	}
 
 	@Test
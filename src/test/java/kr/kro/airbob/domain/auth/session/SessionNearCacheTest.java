@@ -0,0 +1,94 @@
+package kr.kro.airbob.domain.auth.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+@DisplayName("로컬 세션 캐시 테스트")
+class SessionNearCacheTest {
+
+	private TestTicker ticker;
+	private SessionNearCache nearCache;
+
+	@BeforeEach
+	void setUp() {
+		ticker = new TestTicker();
+		nearCache = new SessionNearCache(properties(true), ticker);
+	}
+
+	@Test
+	@DisplayName("조회 전에 받은 fence가 유지되면 회원 ID를 TTL 동안 보관한다")
+	void storesMemberIdUntilTtl() {
+		nearCache.put("session-1", nearCache.fence(), 10L);
+
+		assertThat(nearCache.get("session-1")).isEqualTo(10L);
+
+		ticker.advance(Duration.ofSeconds(2));
+
+		assertThat(nearCache.get("session-1")).isNull();
+	}
+
+	@Test
+	@DisplayName("조회 도중 로그아웃이 끼어들면 삭제 전 세션을 저장하지 않는다")
+	void rejectsSessionReadBeforeInvalidation() {
+		long fence = nearCache.fence();
+
+		nearCache.invalidateSession("session-1");
+		nearCache.put("session-1", fence, 10L);
+
+		assertThat(nearCache.get("session-1")).isNull();
+	}
+
+	@Test
+	@DisplayName("회원 무효화는 해당 회원의 세션만 모두 제거한다")
+	void invalidateMemberRemovesOnlyThatMembersSessions() {
+		nearCache.put("session-1", nearCache.fence(), 10L);
+		nearCache.put("session-2", nearCache.fence(), 10L);
+		nearCache.put("session-3", nearCache.fence(), 20L);
+
+		nearCache.invalidateMember(10L);
+
+		assertThat(nearCache.get("session-1")).isNull();
+		assertThat(nearCache.get("session-2")).isNull();
+		assertThat(nearCache.get("session-3")).isEqualTo(20L);
+	}
+
+	@Test
+	@DisplayName("비활성화 상태에서는 값을 저장하지 않는다")
+	void disabledCacheStoresNothing() {
+		SessionNearCache disabled = new SessionNearCache(properties(false), ticker);
+
+		disabled.put("session-1", disabled.fence(), 10L);
+
+		assertThat(disabled.get("session-1")).isNull();
+	}
+
+	private SessionNearCacheProperties properties(boolean enabled) {
+		return new SessionNearCacheProperties(
+			enabled,
+			100,
+			Duration.ofSeconds(2),
+			"airbob:session:near-cache-invalidation");
+	}
+
+	private static class TestTicker implements Ticker {
+
+		private final AtomicLong nanos = new AtomicLong();
+
+		@Override
+		public long read() {
+			return nanos.get();
+		}
+
+		void advance(Duration duration) {
+			nanos.addAndGet(duration.toNanos());
+		}
+	}
+}
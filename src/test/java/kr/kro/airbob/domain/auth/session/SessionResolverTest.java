@@ -0,0 +1,67 @@
+package kr.kro.airbob.domain.auth.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kr.kro.airbob.domain.auth.repository.SessionRedisRepository;
+
+@DisplayName("세션 해석기 테스트")
+class SessionResolverTest {
+
+	private SessionRedisRepository sessionRedisRepository;
+	private SessionNearCache nearCache;
+	private SessionResolver sessionResolver;
+
+	@BeforeEach
+	void setUp() {
+		sessionRedisRepository = mock(SessionRedisRepository.class);
+		nearCache = new SessionNearCache(new SessionNearCacheProperties(
+			true, 100, Duration.ofSeconds(2), "airbob:session:near-cache-invalidation"));
+		sessionResolver = new SessionResolver(sessionRedisRepository, nearCache);
+	}
+
+	@Test
+	@DisplayName("같은 세션의 반복 요청은 로컬 캐시에서 응답해 Redis를 다시 조회하지 않는다")
+	void servesRepeatedLookupFromNearCache() {
+		given(sessionRedisRepository.findActiveMemberId("session-1")).willReturn(Optional.of(10L));
+
+		assertThat(sessionResolver.resolve("session-1")).contains(10L);
+		assertThat(sessionResolver.resolve("session-1")).contains(10L);
+
+		then(sessionRedisRepository).should(times(1)).findActiveMemberId("session-1");
+	}
+
+	@Test
+	@DisplayName("확인되지 않은 세션은 보관하지 않아 로그인 직후 바로 인증된다")
+	void doesNotCacheMissingSession() {
+		given(sessionRedisRepository.findActiveMemberId("session-1"))
+			.willReturn(Optional.empty())
+			.willReturn(Optional.of(10L));
+
+		assertThat(sessionResolver.resolve("session-1")).isEmpty();
+		assertThat(sessionResolver.resolve("session-1")).contains(10L);
+	}
+
+	@Test
+	@DisplayName("로그아웃 무효화 뒤에는 Redis에서 다시 확인한다")
+	void reloadsAfterInvalidation() {
+		given(sessionRedisRepository.findActiveMemberId("session-1"))
+			.willReturn(Optional.of(10L))
+			.willReturn(Optional.empty());
+		sessionResolver.resolve("session-1");
+
+		nearCache.invalidateSession("session-1");
+
+		assertThat(sessionResolver.resolve("session-1")).isEmpty();
+	}
+}
@@ -4,14 +4,14 @@ import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -22,6 +22,7 @@ import kr.kro.airbob.common.benchmark.BenchmarkAccessGuard;
 import kr.kro.airbob.common.exception.GlobalExceptionHandler;
 import kr.kro.airbob.domain.auth.filter.SessionAuthFilter;
 import kr.kro.airbob.domain.auth.resolver.CurrentMemberIdArgumentResolver;
+import kr.kro.airbob.domain.auth.session.SessionResolver;
 import kr.kro.airbob.domain.coupon.service.CouponLockIssueService;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,15 +32,13 @@ class CouponBenchmarkAccessTest {
 	@Mock
 	private CouponLockIssueService lockIssueService;
 	@Mock
-	private RedisTemplate<String, Object> redisTemplate;
-	@Mock
-	private ValueOperations<String, Object> valueOperations;
+	private SessionResolver sessionResolver;
 
 	private MockMvc mockMvc;
 
 	@BeforeEach
 	void setUp() {
-		SessionAuthFilter sessionAuthFilter = new SessionAuthFilter(redisTemplate, new ObjectMapper());
+		SessionAuthFilter sessionAuthFilter = new SessionAuthFilter(sessionResolver, new ObjectMapper());
 		CouponBenchmarkController controller = new CouponBenchmarkController(
 			lockIssueService,
 			new BenchmarkAccessGuard("secret-token")
@@ -103,8 +102,6 @@ class CouponBenchmarkAccessTest {
 	}
 
 	private void authenticate() {
-		given(redisTemplate.hasKey("MEMBER_SESSION_ACTIVE:10")).willReturn(true);
-		given(redisTemplate.opsForValue()).willReturn(valueOperations);
-		given(valueOperations.get("SESSION:valid-session")).willReturn(10L);
+		given(sessionResolver.resolve("valid-session")).willReturn(Optional.of(10L));
 	}
 }
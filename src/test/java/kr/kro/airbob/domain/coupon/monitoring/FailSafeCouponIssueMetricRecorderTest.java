@@ -35,6 +35,8 @@ class FailSafeCouponIssueMetricRecorderTest {
 		doThrow(new IllegalStateException("compensation metric failure"))
 			.when(delegate).recordCompensation(
 				CouponIssueMetricRecorder.CompensationResult.COMPENSATED);
+		doThrow(new IllegalStateException("fast rejection metric failure"))
+			.when(delegate).recordFastRejection(CouponIssueMetricRecorder.LuaResult.SOLD_OUT);
 
 		assertThatCode(() -> recorder.recordIssue(
 			CouponIssueMetricRecorder.Strategy.LUA,
@@ -54,5 +56,8 @@ class FailSafeCouponIssueMetricRecorderTest {
 		assertThatCode(() -> recorder.recordCompensation(
 			CouponIssueMetricRecorder.CompensationResult.COMPENSATED))
 			.doesNotThrowAnyException();
+		assertThatCode(() -> recorder.recordFastRejection(
+			CouponIssueMetricRecorder.LuaResult.SOLD_OUT))
+			.doesNotThrowAnyException();
 	}
 }
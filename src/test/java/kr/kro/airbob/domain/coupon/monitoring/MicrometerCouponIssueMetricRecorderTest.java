@@ -88,6 +88,19 @@ class MicrometerCouponIssueMetricRecorderTest {
 		assertThat(counter.count()).isOne();
 	}
 
+	@Test
+	@DisplayName("로컬 매진·종료 상태로 바로 거절한 요청을 결과별 카운터로 기록한다")
+	void recordsFastRejection() {
+		recorder.recordFastRejection(SOLD_OUT);
+		recorder.recordFastRejection(SOLD_OUT);
+
+		Counter counter = meterRegistry.find(MicrometerCouponIssueMetricRecorder.FAST_REJECTION_TOTAL)
+			.tag("result", "sold_out")
+			.counter();
+		assertThat(counter).isNotNull();
+		assertThat(counter.count()).isEqualTo(2.0);
+	}
+
 	@Test
 	@DisplayName("쿠폰 ID와 회원 ID는 어떤 쿠폰 발급 메트릭 태그에도 포함하지 않는다")
 	void neverUsesHighCardinalityIdentifierTags() {
@@ -96,6 +109,7 @@ class MicrometerCouponIssueMetricRecorderTest {
 		recorder.recordLockWait(TIMEOUT, 1L);
 		recorder.recordLua(ISSUE, SOLD_OUT, 1L);
 		recorder.recordCompensation(COMPENSATED);
+		recorder.recordFastRejection(SOLD_OUT);
 
 		Set<String> forbiddenTags = Set.of("coupon_id", "couponId", "member_id", "memberId");
 		assertThat(meterRegistry.getMeters().stream()
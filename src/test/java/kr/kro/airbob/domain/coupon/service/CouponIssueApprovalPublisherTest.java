@@ -0,0 +1,109 @@
+package kr.kro.airbob.domain.coupon.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.NotEnoughReplicasException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaProducerException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kro.airbob.config.CouponWriteBehindProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("쿠폰 발급 승인 발행 테스트")
+class CouponIssueApprovalPublisherTest {
+
+	private static final String TOPIC = "COUPON_ISSUE.approvals";
+
+	@Mock
+	private KafkaTemplate<String, String> kafkaTemplate;
+	@Mock
+	private CouponIssueCompensator compensator;
+
+	private CouponIssueApprovalPublisher publisher;
+
+	@BeforeEach
+	void setUp() {
+		publisher = new CouponIssueApprovalPublisher(kafkaTemplate, new ObjectMapper(),
+			new CouponWriteBehindProperties(
+				true, TOPIC, Duration.ofMillis(10), Duration.ofSeconds(30), 500, Duration.ZERO),
+			compensator);
+	}
+
+	@Test
+	@DisplayName("ack 대기 시간을 넘기면 성공으로 응답하고, 전송이 나중에 실패로 끝나면 그때 보상한다")
+	void compensatesWhenSendFailsAfterTimeout() {
+		CompletableFuture<SendResult<String, String>> sent = new CompletableFuture<>();
+		when(kafkaTemplate.send(eq(TOPIC), eq("1"), anyString())).thenReturn(sent);
+
+		assertThatCode(() -> publisher.publish(1L, 10L)).doesNotThrowAnyException();
+		verify(compensator, never()).compensateWithoutMasking(any(), any(), any());
+
+		sent.completeExceptionally(failure(new NotEnoughReplicasException("isr shrunk")));
+
+		verify(compensator).compensateWithoutMasking(eq(1L), eq(10L), any(IllegalStateException.class));
+	}
+
+	@Test
+	@DisplayName("ack 대기 시간을 넘긴 뒤 전송이 성공하면 보상하지 않는다")
+	void keepsApprovalWhenSendSucceedsAfterTimeout() {
+		CompletableFuture<SendResult<String, String>> sent = new CompletableFuture<>();
+		when(kafkaTemplate.send(eq(TOPIC), eq("1"), anyString())).thenReturn(sent);
+
+		publisher.publish(1L, 10L);
+		sent.complete(null);
+
+		verify(compensator, never()).compensateWithoutMasking(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("재시도 가능한 오류도 future에 도달했다면 재시도를 모두 쓴 뒤이므로 예외를 던진다")
+	void exhaustedRetriableFailureIsNonDelivery() {
+		when(kafkaTemplate.send(eq(TOPIC), eq("1"), anyString()))
+			.thenReturn(CompletableFuture.failedFuture(failure(new NotEnoughReplicasException("isr shrunk"))));
+
+		assertThatThrownBy(() -> publisher.publish(1L, 10L)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("재시도할 수 없는 프로듀서 오류는 전달되지 않은 것이므로 예외를 던진다")
+	void nonRetriableFailureIsNonDelivery() {
+		when(kafkaTemplate.send(eq(TOPIC), eq("1"), anyString()))
+			.thenReturn(CompletableFuture.failedFuture(failure(new RecordTooLargeException("too large"))));
+
+		assertThatThrownBy(() -> publisher.publish(1L, 10L)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("프로듀서 버퍼에 넣지 못하면 전달되지 않은 것이므로 예외를 던진다")
+	void sendRejectionIsNonDelivery() {
+		when(kafkaTemplate.send(eq(TOPIC), eq("1"), anyString()))
+			.thenThrow(new IllegalStateException("producer closed"));
+
+		assertThatThrownBy(() -> publisher.publish(1L, 10L)).isInstanceOf(IllegalStateException.class);
+	}
+
+	private KafkaProducerException failure(Exception cause) {
+		return new KafkaProducerException(new ProducerRecord<>(TOPIC, "1", "{}"), "send failed", cause);
+	}
+}
@@ -1,13 +1,18 @@
 package kr.kro.airbob.domain.coupon.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,8 +26,10 @@ import kr.kro.airbob.domain.coupon.entity.Coupon;
 import kr.kro.airbob.domain.coupon.entity.MemberCoupon;
 import kr.kro.airbob.domain.coupon.exception.CouponAlreadyIssuedException;
 import kr.kro.airbob.domain.coupon.exception.CouponNotIssuableException;
+import kr.kro.airbob.domain.coupon.exception.CouponSoldOutException;
 import kr.kro.airbob.domain.coupon.exception.CouponStockNotPreparedException;
 import kr.kro.airbob.domain.coupon.repository.CouponRepository;
+import kr.kro.airbob.domain.coupon.repository.MemberCouponBatchWriter;
 import kr.kro.airbob.domain.coupon.repository.MemberCouponRepository;
 import kr.kro.airbob.domain.member.entity.Member;
 import kr.kro.airbob.domain.member.repository.MemberRepository;
@@ -42,13 +49,16 @@ class CouponIssueTransactionServiceTest {
 	private CouponTimeProvider timeProvider;
 	@Mock
 	private CouponRedisStockManager stockManager;
+	@Mock
+	private MemberCouponBatchWriter memberCouponBatchWriter;
 
 	private CouponIssueTransactionService service;
 
 	@BeforeEach
 	void setUp() {
 		service = new CouponIssueTransactionService(
-			couponRepository, memberCouponRepository, memberRepository, timeProvider, stockManager);
+			couponRepository, memberCouponRepository, memberRepository, timeProvider, stockManager,
+			memberCouponBatchWriter);
 	}
 
 	@Test
@@ -141,6 +151,49 @@ class CouponIssueTransactionServiceTest {
 		verify(couponRepository, never()).incrementIssuedQuantity(1L);
 	}
 
+	@Test
+	@DisplayName("write-behind 일괄 저장은 이미 기록된 회원을 건너뛰고 새 발급분만큼 발급 수를 누적한다")
+	void persistsApprovedIssuesIdempotently() {
+		Coupon coupon = coupon(true, 10, 1);
+		coupon.markRedisStockPrepared(NOW.minusHours(1));
+		when(couponRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(coupon));
+		when(memberCouponRepository.findIssuedMemberIds(1L, List.of(10L, 11L, 12L))).thenReturn(Set.of(11L));
+
+		int persisted = service.persistApprovedIssues(1L, List.of(10L, 11L, 12L));
+
+		assertThat(persisted).isEqualTo(2);
+		verify(couponRepository).addIssuedQuantity(1L, 2);
+		verify(memberCouponBatchWriter).insertAll(eq(1L),
+			eq(List.of(10L, 12L)), any(LocalDateTime.class));
+	}
+
+	@Test
+	@DisplayName("재전달된 승인이 모두 기록되어 있으면 아무것도 쓰지 않는다")
+	void skipsRedeliveredApprovals() {
+		Coupon coupon = coupon(true, 10, 1);
+		coupon.markRedisStockPrepared(NOW.minusHours(1));
+		when(couponRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(coupon));
+		when(memberCouponRepository.findIssuedMemberIds(1L, List.of(10L))).thenReturn(Set.of(10L));
+
+		assertThat(service.persistApprovedIssues(1L, List.of(10L))).isZero();
+		verify(couponRepository, never()).addIssuedQuantity(any(), anyInt());
+		verify(memberCouponBatchWriter, never()).insertAll(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("새 발급분이 DB 발급 한도를 넘으면 기록하지 않고 품절로 거절한다")
+	void rejectsApprovedIssuesBeyondTotalQuantity() {
+		Coupon coupon = coupon(true, 10, 9);
+		coupon.markRedisStockPrepared(NOW.minusHours(1));
+		when(couponRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(coupon));
+		when(memberCouponRepository.findIssuedMemberIds(1L, List.of(10L, 11L))).thenReturn(Set.of());
+
+		assertThatThrownBy(() -> service.persistApprovedIssues(1L, List.of(10L, 11L)))
+			.isInstanceOf(CouponSoldOutException.class);
+		verify(couponRepository, never()).addIssuedQuantity(any(), anyInt());
+		verify(memberCouponBatchWriter, never()).insertAll(any(), any(), any());
+	}
+
 	private Coupon coupon(boolean active, int totalQuantity, int issuedQuantity) {
 		return Coupon.builder()
 			.id(1L)
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -36,12 +37,15 @@ class CouponLuaIssueServiceTest {
 	private CouponIssueTransactionService transactionService;
 	@Mock
 	private CouponIssueMetricRecorder metricRecorder;
+	@Mock
+	private CouponIssueApprovalPublisher approvalPublisher;
 
 	private CouponLuaIssueService service;
 
 	@BeforeEach
 	void setUp() {
-		service = new CouponLuaIssueService(stockManager, transactionService, metricRecorder);
+		service = new CouponLuaIssueService(stockManager, transactionService, metricRecorder,
+			new CouponIssueCompensator(stockManager, metricRecorder), Optional.empty());
 	}
 
 	@Test
@@ -135,6 +139,42 @@ class CouponLuaIssueServiceTest {
 			CouponIssueMetricRecorder.CompensationResult.ERROR);
 	}
 
+	@Test
+	@DisplayName("write-behind를 켜면 승인 결과를 기록만 하고 요청 스레드에서 DB에 저장하지 않는다")
+	void publishesApprovalInsteadOfPersistingWhenWriteBehindEnabled() {
+		CouponLuaIssueService writeBehindService = writeBehindService();
+		when(stockManager.issue(1L, 10L)).thenReturn(CouponRedisIssueResult.approved(9));
+
+		writeBehindService.issue(1L, 10L);
+
+		verify(approvalPublisher).publish(1L, 10L);
+		verify(transactionService, never()).persistApprovedIssue(anyLong(), anyLong());
+		verify(metricRecorder).recordIssue(
+			eq(CouponIssueMetricRecorder.Strategy.LUA),
+			eq(CouponIssueMetricRecorder.IssueResult.SUCCESS),
+			anyLong());
+	}
+
+	@Test
+	@DisplayName("승인 기록에 실패하면 Redis 승인을 보상하고 실패를 전달한다")
+	void compensatesRedisWhenApprovalPublishFails() {
+		CouponLuaIssueService writeBehindService = writeBehindService();
+		IllegalStateException publishFailure = new IllegalStateException("broker unavailable");
+		when(stockManager.issue(1L, 10L)).thenReturn(CouponRedisIssueResult.approved(9));
+		doThrow(publishFailure).when(approvalPublisher).publish(1L, 10L);
+		when(stockManager.compensate(1L, 10L)).thenReturn(CouponRedisCompensationResult.COMPENSATED);
+
+		assertThatThrownBy(() -> writeBehindService.issue(1L, 10L)).isSameAs(publishFailure);
+		verify(stockManager).compensate(1L, 10L);
+		verify(metricRecorder).recordCompensation(
+			CouponIssueMetricRecorder.CompensationResult.COMPENSATED);
+	}
+
+	private CouponLuaIssueService writeBehindService() {
+		return new CouponLuaIssueService(stockManager, transactionService, metricRecorder,
+			new CouponIssueCompensator(stockManager, metricRecorder), Optional.of(approvalPublisher));
+	}
+
 	private static Stream<Arguments> rejectedResults() {
 		return Stream.of(
 			Arguments.of(CouponRedisIssueStatus.SOLD_OUT, CouponSoldOutException.class,
@@ -1,15 +1,19 @@
 package kr.kro.airbob.domain.coupon.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +28,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import kr.kro.airbob.config.CouponClosedStateProperties;
 import kr.kro.airbob.domain.coupon.monitoring.CouponIssueMetricRecorder;
 
 @Testcontainers
@@ -36,10 +41,15 @@ class CouponRedisStockManagerIntegrationTest {
 		DockerImageName.parse("redis:7.2-alpine"))
 		.withExposedPorts(6379);
 
+	private static final String CLOSED_STATE_CHANNEL = "coupon:test:closed-state";
+
 	private static RedissonClient redissonClient;
-	private static CouponRedisStockManager stockManager;
+	private static CouponLuaScriptRegistry scriptRegistry;
 	private static CouponIssueMetricRecorder metricRecorder;
 
+	private CouponClosedState closedState;
+	private CouponRedisStockManager stockManager;
+
 	@BeforeAll
 	static void setUpClient() {
 		Config config = new Config();
@@ -47,8 +57,8 @@ class CouponRedisStockManagerIntegrationTest {
 			.setAddress("redis://" + REDIS.getHost() + ":" + REDIS.getMappedPort(6379));
 		redissonClient = Redisson.create(config);
 		metricRecorder = org.mockito.Mockito.mock(CouponIssueMetricRecorder.class);
-		stockManager = new CouponRedisStockManager(redissonClient, metricRecorder);
-		stockManager.loadScripts();
+		scriptRegistry = new CouponLuaScriptRegistry(redissonClient);
+		scriptRegistry.loadScripts();
 	}
 
 	@AfterAll
@@ -62,6 +72,13 @@ class CouponRedisStockManagerIntegrationTest {
 	void clearCouponKeys() {
 		redissonClient.getKeys().deleteByPattern("coupon:*");
 		reset(metricRecorder);
+		closedState = closedState();
+		stockManager = new CouponRedisStockManager(redissonClient, metricRecorder, scriptRegistry, closedState);
+	}
+
+	@AfterEach
+	void closeClosedState() {
+		closedState.destroy();
 	}
 
 	@Test
@@ -264,4 +281,91 @@ class CouponRedisStockManagerIntegrationTest {
 			eq(CouponIssueMetricRecorder.LuaResult.COMPENSATED),
 			anyLong());
 	}
+
+	@Test
+	@DisplayName("매진 판정 뒤 요청은 Lua 없이 거절하고, 보상으로 재고가 돌아오면 다시 Lua로 판정한다")
+	void shortCircuitsSoldOutUntilCompensated() {
+		long now = System.currentTimeMillis();
+		stockManager.prepare(60L, 1, now - MINUTE, now + MINUTE, true, now + 2 * MINUTE);
+		stockManager.issue(60L, 1L);
+		assertThat(stockManager.issue(60L, 2L).status()).isEqualTo(CouponRedisIssueStatus.SOLD_OUT);
+		reset(metricRecorder);
+
+		assertThat(stockManager.issue(60L, 3L).status()).isEqualTo(CouponRedisIssueStatus.SOLD_OUT);
+		verify(metricRecorder).recordFastRejection(CouponIssueMetricRecorder.LuaResult.SOLD_OUT);
+		verify(metricRecorder, never()).recordLua(
+			eq(CouponIssueMetricRecorder.LuaOperation.ISSUE), any(), anyLong());
+
+		stockManager.compensate(60L, 1L);
+		assertThat(stockManager.issue(60L, 3L)).isEqualTo(CouponRedisIssueResult.approved(0));
+	}
+
+	@Test
+	@DisplayName("매진 상태는 pub/sub으로 다른 노드에도 전파된다")
+	void broadcastsSoldOutToOtherNodes() throws InterruptedException {
+		CouponClosedState otherNode = closedState();
+		try {
+			long now = System.currentTimeMillis();
+			stockManager.prepare(61L, 1, now - MINUTE, now + MINUTE, true, now + 2 * MINUTE);
+			stockManager.issue(61L, 1L);
+			stockManager.issue(61L, 2L);
+
+			long deadline = System.currentTimeMillis() + 5_000L;
+			while (otherNode.find(61L).isEmpty() && System.currentTimeMillis() < deadline) {
+				Thread.sleep(20L);
+			}
+			assertThat(otherNode.find(61L)).contains(CouponRedisIssueStatus.SOLD_OUT);
+		} finally {
+			otherNode.destroy();
+		}
+	}
+
+	@Test
+	@DisplayName("재고를 다시 준비하면 다른 노드의 매진 기록도 pub/sub으로 지운다")
+	void broadcastsReopenWhenStockIsPreparedAgain() throws InterruptedException {
+		CouponClosedState otherNode = closedState();
+		try {
+			long now = System.currentTimeMillis();
+			stockManager.prepare(63L, 1, now - MINUTE, now + MINUTE, true, now + 2 * MINUTE);
+			stockManager.issue(63L, 1L);
+			stockManager.issue(63L, 2L);
+			awaitState(otherNode, 63L, true);
+
+			redissonClient.getKeys().delete(
+				CouponRedisStockManager.metaKey(63L), CouponRedisStockManager.issuedKey(63L));
+			stockManager.prepare(63L, 1, now - MINUTE, now + MINUTE, true, now + 2 * MINUTE);
+
+			awaitState(otherNode, 63L, false);
+			assertThat(otherNode.find(63L)).isEmpty();
+			assertThat(closedState.find(63L)).isEmpty();
+		} finally {
+			otherNode.destroy();
+		}
+	}
+
+	@Test
+	@DisplayName("Redis 스크립트 캐시가 비워져도 NOSCRIPT 뒤 다시 적재해 실행한다")
+	void reloadsScriptAfterScriptFlush() {
+		long now = System.currentTimeMillis();
+		redissonClient.getScript().scriptFlush();
+
+		stockManager.prepare(62L, 1, now - MINUTE, now + MINUTE, true, now + 2 * MINUTE);
+
+		assertThat(stockManager.issue(62L, 1L)).isEqualTo(CouponRedisIssueResult.approved(0));
+	}
+
+	private static void awaitState(CouponClosedState state, Long couponId, boolean closed)
+		throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000L;
+		while (state.find(couponId).isPresent() != closed && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20L);
+		}
+	}
+
+	private static CouponClosedState closedState() {
+		CouponClosedState state = new CouponClosedState(redissonClient,
+			new CouponClosedStateProperties(true, Duration.ofMinutes(1), CLOSED_STATE_CHANNEL));
+		state.afterPropertiesSet();
+		return state;
+	}
 }
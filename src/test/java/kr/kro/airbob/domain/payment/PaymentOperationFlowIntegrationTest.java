@@ -97,7 +97,9 @@ import kr.kro.airbob.domain.payment.service.gateway.PaymentConfirmationCommand;
 import kr.kro.airbob.domain.payment.service.gateway.PaymentConfirmationGateway;
 import kr.kro.airbob.domain.payment.service.gateway.PaymentGatewayResult;
 import kr.kro.airbob.domain.reservation.entity.ReservationStatus;
+import kr.kro.airbob.domain.reservation.policy.ReservationInventoryLockPolicy;
 import kr.kro.airbob.domain.reservation.repository.ReservationHistoryRepository;
+import kr.kro.airbob.domain.reservation.repository.ReservationNightLedger;
 import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
 import kr.kro.airbob.kafka.consumer.PaymentOperationEventsConsumer;
 import kr.kro.airbob.kafka.consumer.PaymentOperationEventParser;
@@ -106,7 +108,7 @@ import kr.kro.airbob.outbox.OutboxEventPublisher;
 import kr.kro.airbob.outbox.entity.Outbox;
 import kr.kro.airbob.outbox.repository.OutboxRepository;
 
-@DataJpaTest
+@DataJpaTest(properties = "reservation.inventory.lock-mode=LEDGER")
 @Testcontainers
 @ActiveProfiles("test")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -123,6 +125,8 @@ import kr.kro.airbob.outbox.repository.OutboxRepository;
 	PaymentOperationFinalizer.class,
 	PaymentOperationQueryService.class,
 	PaymentOperationRecoveryService.class,
+	ReservationNightLedger.class,
+	ReservationInventoryLockPolicy.class,
 	PaymentOperationFlowIntegrationTest.FlowTestConfiguration.class
 })
 @Transactional(propagation = Propagation.NOT_SUPPORTED)
@@ -698,6 +702,7 @@ class PaymentOperationFlowIntegrationTest {
 		jdbc.update("DELETE FROM reservation_history");
 		jdbc.update("DELETE FROM outbox");
 		jdbc.update("DELETE FROM member_coupon");
+		jdbc.update("DELETE FROM reservation_night");
 		jdbc.update("DELETE FROM reservation");
 		jdbc.update("DELETE FROM coupon");
 		jdbc.update("DELETE FROM accommodation");
@@ -735,6 +740,10 @@ class PaymentOperationFlowIntegrationTest {
 			)
 			""", RESERVATION_UID.toString(), accommodationId, ownerId, AMOUNT);
 		reservationId = jdbc.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+		jdbc.update("""
+			INSERT INTO reservation_night (accommodation_id, stay_date, reservation_id, hold_expires_at, created_at)
+			VALUES (?, '2026-08-15', ?, '2026-08-14 00:01:00', NOW(6))
+			""", accommodationId, reservationId);
 
 		jdbc.update("""
 			INSERT INTO coupon (
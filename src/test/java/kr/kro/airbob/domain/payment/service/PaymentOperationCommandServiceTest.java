@@ -7,6 +7,7 @@ import static org.mockito.BDDMockito.then;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.Optional;
 import java.util.UUID;
@@ -31,7 +32,10 @@ import kr.kro.airbob.domain.payment.repository.PaymentOperationRepository;
 import kr.kro.airbob.domain.reservation.entity.Reservation;
 import kr.kro.airbob.domain.reservation.entity.ReservationStatus;
 import kr.kro.airbob.domain.reservation.exception.ExpiredReservationConfirmationException;
+import kr.kro.airbob.domain.reservation.policy.ReservationInventoryLockMode;
+import kr.kro.airbob.domain.reservation.policy.ReservationInventoryLockPolicy;
 import kr.kro.airbob.domain.reservation.repository.ReservationHistoryRepository;
+import kr.kro.airbob.domain.reservation.repository.ReservationNightLedger;
 import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
 import kr.kro.airbob.outbox.EventType;
 import kr.kro.airbob.outbox.OutboxEventPublisher;
@@ -48,6 +52,7 @@ class PaymentOperationCommandServiceTest {
 	@Mock private PaymentOperationRepository paymentOperationRepository;
 	@Mock private ReservationHistoryRepository historyRepository;
 	@Mock private OutboxEventPublisher outboxEventPublisher;
+	@Mock private ReservationNightLedger nightLedger;
 
 	private PaymentOperationCommandService service;
 	private Reservation pendingReservation;
@@ -59,6 +64,8 @@ class PaymentOperationCommandServiceTest {
 			paymentOperationRepository,
 			historyRepository,
 			outboxEventPublisher,
+			nightLedger,
+			new ReservationInventoryLockPolicy(ReservationInventoryLockMode.LEDGER),
 			Clock.fixed(NOW, ZoneOffset.UTC)
 		);
 		pendingReservation = Reservation.builder()
@@ -66,6 +73,8 @@ class PaymentOperationCommandServiceTest {
 			.reservationUid(RESERVATION_UID)
 			.guest(Member.builder().id(GUEST_ID).build())
 			.totalPrice(100_000L)
+			.checkInDate(LocalDate.of(2026, 8, 15))
+			.checkOutDate(LocalDate.of(2026, 8, 17))
 			.status(ReservationStatus.PAYMENT_PENDING)
 			.expiresAt(NOW.plusSeconds(60))
 			.build();
@@ -79,6 +88,7 @@ class PaymentOperationCommandServiceTest {
 			.willReturn(Optional.empty());
 		ArgumentCaptor<PaymentOperation> operationCaptor = ArgumentCaptor.forClass(PaymentOperation.class);
 		ArgumentCaptor<PaymentExecutionRequestedV1> eventCaptor = ArgumentCaptor.forClass(PaymentExecutionRequestedV1.class);
+		given(nightLedger.pin(1L)).willReturn(2);
 
 		Accepted accepted = service.requestConfirmation(request(), GUEST_ID);
 
@@ -144,6 +154,21 @@ class PaymentOperationCommandServiceTest {
 		then(outboxEventPublisher).shouldHaveNoInteractions();
 	}
 
+	@Test
+	void reservationThatLostNightsToAnotherBookingIsTreatedAsExpired() {
+		given(reservationRepository.findByReservationUidWithLock(RESERVATION_UID))
+			.willReturn(Optional.of(pendingReservation));
+		given(paymentOperationRepository.findByDeduplicationKey("CONFIRM:" + RESERVATION_UID))
+			.willReturn(Optional.empty());
+		given(nightLedger.pin(1L)).willReturn(1);
+
+		assertThatThrownBy(() -> service.requestConfirmation(request(), GUEST_ID))
+			.isInstanceOf(ExpiredReservationConfirmationException.class);
+
+		then(paymentOperationRepository).should(org.mockito.Mockito.never()).save(org.mockito.ArgumentMatchers.any());
+		then(outboxEventPublisher).shouldHaveNoInteractions();
+	}
+
 	@Test
 	void malformedOrderIdDoesNotAccessPersistence() {
 		PaymentRequest.Confirm malformed = new PaymentRequest.Confirm("pk", "not-a-uuid", 100_000);
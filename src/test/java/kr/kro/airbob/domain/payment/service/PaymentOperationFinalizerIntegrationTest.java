@@ -71,6 +71,7 @@ import kr.kro.airbob.domain.payment.service.gateway.ConfirmedPayment;
 import kr.kro.airbob.domain.reservation.entity.Reservation;
 import kr.kro.airbob.domain.reservation.entity.ReservationHistory;
 import kr.kro.airbob.domain.reservation.repository.ReservationHistoryRepository;
+import kr.kro.airbob.domain.reservation.repository.ReservationNightLedger;
 import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
 import kr.kro.airbob.outbox.EventPayload;
 import kr.kro.airbob.outbox.EventType;
@@ -88,6 +89,7 @@ import kr.kro.airbob.outbox.repository.OutboxRepository;
 	CouponUsageService.class,
 	OutboxEventPublisher.class,
 	PaymentOperationFinalizer.class,
+	ReservationNightLedger.class,
 	PaymentOperationFinalizerIntegrationTest.FinalizerTestConfiguration.class
 })
 @Transactional(propagation = Propagation.NOT_SUPPORTED)
@@ -531,6 +533,7 @@ class PaymentOperationFinalizerIntegrationTest {
 		jdbc.update("DELETE FROM reservation_history");
 		jdbc.update("DELETE FROM outbox");
 		jdbc.update("DELETE FROM member_coupon");
+		jdbc.update("DELETE FROM reservation_night");
 		jdbc.update("DELETE FROM reservation");
 		jdbc.update("DELETE FROM coupon");
 		jdbc.update("DELETE FROM accommodation");
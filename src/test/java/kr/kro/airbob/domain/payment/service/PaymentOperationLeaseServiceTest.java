@@ -21,6 +21,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import kr.kro.airbob.domain.payment.config.PaymentOperationConfiguration;
 import kr.kro.airbob.domain.payment.config.PaymentOperationProperties;
+import kr.kro.airbob.domain.payment.config.TossPaymentBulkheadProperties;
 import kr.kro.airbob.domain.payment.config.TossPaymentClientProperties;
 import kr.kro.airbob.domain.payment.entity.PaymentOperation;
 import kr.kro.airbob.domain.payment.entity.PaymentOperationStatus;
@@ -213,6 +214,20 @@ class PaymentOperationLeaseServiceTest {
 			.hasMessage("Toss 타임아웃은 payment-operation lease보다 짧아야 합니다.");
 	}
 
+	@Test
+	void tossBulkheadWaitPlusTimeoutMustBeStrictlyShorterThanLease() {
+		PaymentOperationConfiguration configuration = new PaymentOperationConfiguration();
+		TossPaymentClientProperties toss = new TossPaymentClientProperties(
+			"secret", "https://example.com", Duration.ofSeconds(2), Duration.ofSeconds(25));
+		TossPaymentBulkheadProperties bulkhead = new TossPaymentBulkheadProperties(
+			true, 32, Duration.ofSeconds(5), Duration.ofSeconds(2), 0.99, 3.0, 200, 1024);
+
+		assertThatThrownBy(() -> configuration.tossPaymentBulkheadWaitGuard(properties(), toss, bulkhead)
+			.afterPropertiesSet())
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Toss 격벽 대기와 타임아웃의 합은 payment-operation lease보다 짧아야 합니다.");
+	}
+
 	private PaymentOperationProperties properties() {
 		return new PaymentOperationProperties(
 			Duration.ofSeconds(30), Duration.ofSeconds(10), 100, 5,
@@ -0,0 +1,91 @@
+package kr.kro.airbob.domain.payment.service.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.domain.payment.config.TossPaymentBulkheadProperties;
+import kr.kro.airbob.domain.payment.exception.PaymentGatewayRejectedException;
+import kr.kro.airbob.domain.payment.exception.PaymentGatewayTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("격벽 결제 승인 게이트웨이 테스트")
+class BulkheadPaymentConfirmationGatewayTest {
+
+	private static final PaymentConfirmationCommand COMMAND = new PaymentConfirmationCommand(
+		UUID.fromString("4dc96ec8-d45f-4688-bb75-560c71b88d5d"),
+		"pk_test",
+		"5250ea1b-df85-46f4-a266-d1f34d4f2de9",
+		100_000L,
+		"airbob-confirm-4dc96ec8-d45f-4688-bb75-560c71b88d5d"
+	);
+
+	@Mock private PaymentConfirmationGateway delegate;
+	@Mock private PaymentGatewayBulkhead bulkhead;
+
+	private BulkheadPaymentConfirmationGateway gateway;
+
+	@BeforeEach
+	void setUp() {
+		gateway = new BulkheadPaymentConfirmationGateway(delegate, bulkhead);
+	}
+
+	@Test
+	@DisplayName("격벽 안에서 승인 결과를 그대로 돌려준다")
+	void returnsDelegateResultThroughBulkhead() {
+		PaymentGatewayResult declined = new PaymentGatewayResult.Declined("REJECT_CARD_PAYMENT", "card rejected");
+		PaymentGatewayBulkhead realBulkhead = new PaymentGatewayBulkhead(
+			"toss",
+			new TossPaymentBulkheadProperties(true, 1, Duration.ZERO, Duration.ofMillis(50),
+				0.99, 3.0, 10, 32),
+			Duration.ofSeconds(1),
+			new SimpleMeterRegistry());
+		given(delegate.confirm(COMMAND)).willReturn(declined);
+
+		try {
+			assertThat(new BulkheadPaymentConfirmationGateway(delegate, realBulkhead).confirm(COMMAND))
+				.isEqualTo(declined);
+		} finally {
+			realBulkhead.destroy();
+		}
+	}
+
+	@Test
+	@DisplayName("격벽 거절은 요청을 보내지 않았으므로 재시도 가능한 실패로 바꾼다")
+	void rejectionBecomesRetryableFailure() {
+		given(bulkhead.execute(eq("confirm"), any())).willThrow(new PaymentGatewayRejectedException("toss"));
+
+		PaymentGatewayResult result = gateway.confirm(COMMAND);
+
+		assertThat(result).isInstanceOf(PaymentGatewayResult.RetryableFailure.class);
+		assertThat(((PaymentGatewayResult.RetryableFailure)result).code())
+			.isEqualTo(BulkheadPaymentConfirmationGateway.REJECTED_CODE);
+		then(delegate).should(never()).confirm(any());
+	}
+
+	@Test
+	@DisplayName("타임아웃은 요청이 나갔을 수 있으므로 결과 불명으로 바꾼다")
+	void timeoutBecomesOutcomeUnknown() {
+		given(bulkhead.execute(eq("inquire"), any())).willThrow(new PaymentGatewayTimeoutException("toss"));
+
+		PaymentGatewayResult result = gateway.inquire(COMMAND);
+
+		assertThat(result).isInstanceOf(PaymentGatewayResult.OutcomeUnknown.class);
+		assertThat(((PaymentGatewayResult.OutcomeUnknown)result).code())
+			.isEqualTo(BulkheadPaymentConfirmationGateway.TIMEOUT_CODE);
+	}
+}
@@ -0,0 +1,155 @@
+package kr.kro.airbob.domain.payment.service.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.domain.payment.config.TossPaymentBulkheadProperties;
+import kr.kro.airbob.domain.payment.exception.PaymentGatewayRejectedException;
+import kr.kro.airbob.domain.payment.exception.PaymentGatewayTimeoutException;
+
+@DisplayName("PG 호출 격벽 테스트")
+class PaymentGatewayBulkheadTest {
+
+	private static final Duration READ_TIMEOUT = Duration.ofSeconds(1);
+
+	private SimpleMeterRegistry meterRegistry;
+	private PaymentGatewayBulkhead bulkhead;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (bulkhead != null) {
+			bulkhead.destroy();
+		}
+	}
+
+	@Test
+	@DisplayName("호출은 가상 스레드에서 실행하고 결과와 지연을 기록한다")
+	void runsCallOnVirtualThread() {
+		bulkhead = bulkhead(properties(true, 2, Duration.ZERO, Duration.ofMillis(50), 10));
+
+		Boolean virtual = bulkhead.execute("confirm", () -> Thread.currentThread().isVirtual());
+
+		assertThat(virtual).isTrue();
+		assertThat(meterRegistry.get(PaymentGatewayBulkhead.LATENCY_METRIC)
+			.tags("provider", "toss", "operation", "confirm", "result", "success")
+			.timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("허가를 다 쓰면 요청을 보내지 않고 거절하고 거절 수를 남긴다")
+	void rejectsWhenAllPermitsAreInFlight() throws Exception {
+		bulkhead = bulkhead(properties(true, 1, Duration.ZERO, Duration.ofMillis(50), 10));
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> holder = CompletableFuture.supplyAsync(() -> bulkhead.execute("confirm", () -> {
+			started.countDown();
+			await(release);
+			return "done";
+		}));
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+		assertThatThrownBy(() -> bulkhead.execute("confirm", () -> "never sent"))
+			.isInstanceOf(PaymentGatewayRejectedException.class);
+
+		assertThat(meterRegistry.get(PaymentGatewayBulkhead.REJECTED_METRIC)
+			.tags("provider", "toss", "operation", "confirm")
+			.counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get(PaymentGatewayBulkhead.IN_FLIGHT_METRIC).gauge().value()).isEqualTo(1);
+
+		release.countDown();
+		assertThat(holder.get(1, TimeUnit.SECONDS)).isEqualTo("done");
+		assertThat(bulkhead.inFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("타임아웃을 넘긴 호출은 결과 불명 예외로 끝내고 호출 스레드를 중단한다")
+	void timesOutAndInterruptsCall() throws Exception {
+		bulkhead = bulkhead(properties(true, 1, Duration.ZERO, Duration.ofMillis(50), 10));
+		CountDownLatch interrupted = new CountDownLatch(1);
+
+		assertThatThrownBy(() -> bulkhead.execute("inquire", () -> {
+			try {
+				Thread.sleep(Duration.ofSeconds(5));
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+			return "late";
+		})).isInstanceOf(PaymentGatewayTimeoutException.class);
+
+		assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(meterRegistry.get(PaymentGatewayBulkhead.LATENCY_METRIC)
+			.tags("operation", "inquire", "result", "timeout")
+			.timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("표본이 모이기 전엔 read timeout, 모인 뒤엔 지연 백분위 기반 타임아웃을 하한으로 자른다")
+	void adaptsTimeoutToObservedLatency() {
+		bulkhead = bulkhead(properties(true, 4, Duration.ZERO, Duration.ofMillis(200), 5));
+		assertThat(bulkhead.currentTimeout()).isEqualTo(READ_TIMEOUT);
+
+		for (int call = 0; call < 5; call++) {
+			bulkhead.execute("confirm", () -> "fast");
+		}
+
+		assertThat(bulkhead.currentTimeout()).isEqualTo(Duration.ofMillis(200));
+	}
+
+	@Test
+	@DisplayName("호출이 던진 런타임 예외는 감싸지 않고 그대로 전파한다")
+	void propagatesCallFailureUnwrapped() {
+		bulkhead = bulkhead(properties(true, 1, Duration.ZERO, Duration.ofMillis(50), 10));
+
+		assertThatThrownBy(() -> bulkhead.execute("cancel", () -> {
+			throw new IllegalStateException("응답 유실");
+		})).isInstanceOf(IllegalStateException.class).hasMessage("응답 유실");
+
+		assertThat(bulkhead.inFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("비활성화하면 호출 스레드에서 그대로 실행한다")
+	void disabledRunsOnCallerThread() {
+		bulkhead = bulkhead(properties(false, 1, Duration.ZERO, Duration.ofMillis(50), 10));
+		Thread caller = Thread.currentThread();
+
+		Thread executed = bulkhead.execute("confirm", Thread::currentThread);
+
+		assertThat(executed).isSameAs(caller);
+	}
+
+	private PaymentGatewayBulkhead bulkhead(TossPaymentBulkheadProperties properties) {
+		return new PaymentGatewayBulkhead("toss", properties, READ_TIMEOUT, meterRegistry);
+	}
+
+	private static TossPaymentBulkheadProperties properties(
+		boolean enabled, int maxConcurrentCalls, Duration maxWait, Duration minTimeout, int minSamples
+	) {
+		return new TossPaymentBulkheadProperties(
+			enabled, maxConcurrentCalls, maxWait, minTimeout, 0.99, 3.0, minSamples, 32);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -1,10 +1,14 @@
 package kr.kro.airbob.domain.recentlyViewed.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -15,6 +19,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -28,12 +33,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 
+import kr.kro.airbob.domain.accommodation.card.AccommodationCard;
+import kr.kro.airbob.domain.accommodation.card.AccommodationCardReadModel;
 import kr.kro.airbob.domain.accommodation.dto.AccommodationResponse;
 import kr.kro.airbob.domain.accommodation.entity.Accommodation;
 import kr.kro.airbob.domain.accommodation.entity.AccommodationStatus;
 import kr.kro.airbob.domain.accommodation.entity.Address;
 import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
 import kr.kro.airbob.domain.review.repository.AccommodationReviewSummaryRepository;
+import kr.kro.airbob.domain.review.summary.ReviewSummaryStripeCounter;
+import kr.kro.airbob.domain.wishlist.cache.WishlistMembershipCache;
 import kr.kro.airbob.domain.wishlist.repository.WishlistAccommodationRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +59,16 @@ class RecentlyViewedServiceTest {
 	private AccommodationReviewSummaryRepository summaryRepository;
 	@Mock
 	private WishlistAccommodationRepository wishlistAccommodationRepository;
+	@Mock
+	private RecentlyViewedWriter recentlyViewedWriter;
+	@Mock
+	private RecentlyViewedWriteBuffer recentlyViewedWriteBuffer;
+	@Mock
+	private AccommodationCardReadModel cardReadModel;
+	@Mock
+	private ReviewSummaryStripeCounter reviewSummaryCounter;
+	@Mock
+	private WishlistMembershipCache wishlistMembershipCache;
 
 	private RecentlyViewedService recentlyViewedService;
 
@@ -59,9 +78,39 @@ class RecentlyViewedServiceTest {
 			redisTemplate,
 			accommodationRepository,
 			summaryRepository,
-			wishlistAccommodationRepository
+			wishlistAccommodationRepository,
+			recentlyViewedWriter,
+			recentlyViewedWriteBuffer,
+			cardReadModel,
+			reviewSummaryCounter,
+			wishlistMembershipCache
 		);
-		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+	}
+
+	@Test
+	@DisplayName("비동기 기록을 끄면 요청 스레드에서 한 번의 스크립트 호출로 기록한다")
+	void addRecentlyViewedWritesSynchronouslyWhenAsyncDisabled() {
+		when(recentlyViewedWriteBuffer.enabled()).thenReturn(false);
+		@SuppressWarnings({"rawtypes", "unchecked"})
+		ArgumentCaptor<Map<Long, Long>> views = ArgumentCaptor.forClass((Class)Map.class);
+
+		recentlyViewedService.addRecentlyViewed(3L, 7L);
+
+		verify(recentlyViewedWriter).record(eq(7L), views.capture());
+		assertThat(views.getValue()).containsOnlyKeys(3L);
+		verify(recentlyViewedWriteBuffer, never()).offer(anyLong(), anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("비동기 기록을 켜면 버퍼에만 넣고 Redis를 호출하지 않는다")
+	void addRecentlyViewedOnlyBuffersWhenAsyncEnabled() {
+		when(recentlyViewedWriteBuffer.enabled()).thenReturn(true);
+
+		recentlyViewedService.addRecentlyViewed(3L, 7L);
+
+		verify(recentlyViewedWriteBuffer).offer(eq(7L), eq(3L), anyLong());
+		verify(recentlyViewedWriter, never()).record(anyLong(), anyMap());
 	}
 
 	@Test
@@ -105,6 +154,65 @@ class RecentlyViewedServiceTest {
 			.existsByWishlist_Member_IdAndAccommodation_Id(anyLong(), anyLong());
 	}
 
+	@Test
+	@DisplayName("카드 조회 모델을 켜면 카드는 일괄 조회하고 위시리스트 여부만 DB에서 조회한다")
+	void cardPathLoadsCardsInBulkAndOnlyQueriesWishlist() {
+		Long memberId = 7L;
+		Set<ZSetOperations.TypedTuple<String>> recentlyViewed = new LinkedHashSet<>(List.of(
+			tuple("2", 2_000D),
+			tuple("9", 1_500D),
+			tuple("1", 1_000D)
+		));
+
+		when(zSetOperations.reverseRangeWithScores("recently_viewed:7", 0, -1)).thenReturn(recentlyViewed);
+		when(cardReadModel.enabled()).thenReturn(true);
+		when(cardReadModel.getAll(anyCollection(), any())).thenReturn(Map.of(
+			1L, AccommodationCard.of(accommodation(1L), null),
+			2L, AccommodationCard.of(accommodation(2L), null)));
+		when(wishlistAccommodationRepository.findAccommodationIdsByMemberIdAndAccommodationIds(
+			eq(memberId), anyList())).thenReturn(Set.of(1L));
+
+		AccommodationResponse.RecentlyViewedAccommodationInfos result =
+			recentlyViewedService.getRecentlyViewed(memberId);
+
+		assertThat(result.accommodations())
+			.extracting(AccommodationResponse.RecentlyViewedAccommodationInfo::accommodationId)
+			.containsExactly(2L, 1L);
+		assertThat(result.accommodations())
+			.extracting(AccommodationResponse.RecentlyViewedAccommodationInfo::isInWishlist)
+			.containsExactly(false, true);
+		verify(zSetOperations).remove("recently_viewed:7", "9");
+		verify(accommodationRepository, never()).findWithAddressByIdAndStatusIn(anyList(), eq(AccommodationStatus.PUBLISHED));
+		verify(summaryRepository, never()).findByAccommodationIdIn(anyList());
+	}
+
+	@Test
+	@DisplayName("찜 ID 집합 캐시를 켜면 위시리스트 여부를 DB 대신 캐시에서 확인한다")
+	void wishlistMembershipCacheReplacesWishlistQuery() {
+		Long memberId = 7L;
+		Set<ZSetOperations.TypedTuple<String>> recentlyViewed = new LinkedHashSet<>(List.of(
+			tuple("2", 2_000D),
+			tuple("1", 1_000D)
+		));
+
+		when(zSetOperations.reverseRangeWithScores("recently_viewed:7", 0, -1)).thenReturn(recentlyViewed);
+		when(cardReadModel.enabled()).thenReturn(true);
+		when(cardReadModel.getAll(anyCollection(), any())).thenReturn(Map.of(
+			1L, AccommodationCard.of(accommodation(1L), null),
+			2L, AccommodationCard.of(accommodation(2L), null)));
+		when(wishlistMembershipCache.enabled()).thenReturn(true);
+		when(wishlistMembershipCache.findWishlisted(eq(memberId), anyList())).thenReturn(Set.of(2L));
+
+		AccommodationResponse.RecentlyViewedAccommodationInfos result =
+			recentlyViewedService.getRecentlyViewed(memberId);
+
+		assertThat(result.accommodations())
+			.extracting(AccommodationResponse.RecentlyViewedAccommodationInfo::isInWishlist)
+			.containsExactly(true, false);
+		verify(wishlistAccommodationRepository, never())
+			.findAccommodationIdsByMemberIdAndAccommodationIds(anyLong(), anyList());
+	}
+
 	@Test
 	@DisplayName("벤치마크 fixture는 기존 목록을 지우고 전달 순서대로 한 번에 교체한다")
 	@SuppressWarnings({"rawtypes", "unchecked"})
@@ -0,0 +1,89 @@
+package kr.kro.airbob.domain.recentlyViewed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.domain.recentlyViewed.config.RecentlyViewedWriteProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("최근 본 숙소 쓰기 버퍼 테스트")
+class RecentlyViewedWriteBufferTest {
+
+	@Mock
+	private RecentlyViewedWriter writer;
+
+	private SimpleMeterRegistry meterRegistry;
+	private RecentlyViewedWriteBuffer buffer;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		buffer = new RecentlyViewedWriteBuffer(
+			writer,
+			new RecentlyViewedWriteProperties(true, 2, Duration.ofMillis(500)),
+			meterRegistry);
+	}
+
+	@Test
+	@DisplayName("같은 회원의 같은 숙소 조회는 가장 늦은 시각 하나로 합쳐 회원별로 한 번에 기록한다")
+	void coalescesRepeatedViewsPerMember() {
+		buffer.offer(7L, 3L, 1_000L);
+		buffer.offer(7L, 3L, 3_000L);
+		buffer.offer(7L, 3L, 2_000L);
+		buffer.offer(8L, 3L, 1_500L);
+
+		buffer.flush();
+
+		then(writer).should().record(7L, Map.of(3L, 3_000L));
+		then(writer).should().record(8L, Map.of(3L, 1_500L));
+		assertThat(count("coalesced")).isEqualTo(2.0);
+		assertThat(count("flushed")).isEqualTo(2.0);
+		assertThat(meterRegistry.get(RecentlyViewedWriteBuffer.PENDING).gauge().value()).isZero();
+	}
+
+	@Test
+	@DisplayName("버퍼가 가득 차면 기다리지 않고 새 기록을 버린다")
+	void dropsNewViewWhenBufferIsFull() {
+		buffer.offer(7L, 1L, 1_000L);
+		buffer.offer(7L, 2L, 1_000L);
+		buffer.offer(7L, 3L, 1_000L);
+		// 이미 대기 중인 기록에 합치는 것은 용량을 쓰지 않음
+		buffer.offer(7L, 1L, 2_000L);
+
+		buffer.flush();
+
+		then(writer).should().record(7L, Map.of(1L, 2_000L, 2L, 1_000L));
+		assertThat(count("dropped")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("Redis 기록이 실패하면 실패로 집계하고 버퍼를 비운다")
+	void countsFailedFlush() {
+		willThrow(new IllegalStateException("redis down")).given(writer).record(anyLong(), anyMap());
+		buffer.offer(7L, 1L, 1_000L);
+
+		buffer.flush();
+		buffer.flush();
+
+		then(writer).should().record(anyLong(), anyMap());
+		assertThat(count("failed")).isEqualTo(1.0);
+	}
+
+	private double count(String result) {
+		return meterRegistry.get(RecentlyViewedWriteBuffer.WRITES_TOTAL).tag("result", result).counter().count();
+	}
+}
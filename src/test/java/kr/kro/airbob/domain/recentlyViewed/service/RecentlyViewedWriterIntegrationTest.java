@@ -0,0 +1,80 @@
+package kr.kro.airbob.domain.recentlyViewed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers
+@DisplayName("최근 본 숙소 기록 스크립트 통합 테스트")
+class RecentlyViewedWriterIntegrationTest {
+
+	private static final String KEY = "recently_viewed:7";
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>(
+		DockerImageName.parse("redis:7.2-alpine"))
+		.withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate redisTemplate;
+	private static RecentlyViewedWriter writer;
+
+	@BeforeAll
+	static void setUpClient() {
+		connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+		writer = new RecentlyViewedWriter(redisTemplate);
+	}
+
+	@AfterAll
+	static void closeClient() {
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+	}
+
+	@BeforeEach
+	void clear() {
+		redisTemplate.delete(KEY);
+	}
+
+	@Test
+	@DisplayName("추가와 만료 갱신을 한 번에 수행하고 다시 본 숙소는 조회 시각만 바꾼다")
+	void recordsViewWithTtl() {
+		writer.record(7L, Map.of(1L, 1_000L));
+		writer.record(7L, Map.of(1L, 2_000L, 2L, 1_500L));
+
+		assertThat(redisTemplate.opsForZSet().reverseRange(KEY, 0, -1)).containsExactly("1", "2");
+		assertThat(redisTemplate.opsForZSet().score(KEY, "1")).isEqualTo(2_000D);
+		assertThat(redisTemplate.getExpire(KEY)).isPositive();
+	}
+
+	@Test
+	@DisplayName("최대 개수를 넘으면 가장 오래 전에 본 숙소부터 정리한다")
+	void trimsOldestViewsBeyondMaxCount() {
+		Map<Long, Long> views = new HashMap<>();
+		for (long id = 1; id <= RecentlyViewedWriter.MAX_COUNT + 5; id++) {
+			views.put(id, id);
+		}
+
+		writer.record(7L, views);
+
+		assertThat(redisTemplate.opsForZSet().size(KEY)).isEqualTo(RecentlyViewedWriter.MAX_COUNT);
+		assertThat(redisTemplate.opsForZSet().range(KEY, 0, 0)).containsExactly("6");
+	}
+}
@@ -73,7 +73,10 @@ import kr.kro.airbob.outbox.repository.OutboxRepository;
 import kr.kro.airbob.search.repository.AccommodationSearchRepository;
 
 @Testcontainers
-@SpringBootTest(properties = "spring.cloud.aws.s3.enabled=false")
+@SpringBootTest(properties = {
+	"spring.cloud.aws.s3.enabled=false",
+	"reservation.inventory.lock-mode=LEDGER"
+})
 @ActiveProfiles("test")
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
 class ReservationConcurrencyTest {
@@ -157,6 +160,7 @@ class ReservationConcurrencyTest {
 		historyRepository.deleteAllInBatch();
 		memberCouponRepository.deleteAllInBatch();
 		reservationRepository.deleteAllInBatch();
+		jdbcTemplate.update("DELETE FROM reservation_night");
 		couponRepository.deleteAllInBatch();
 		accommodationRepository.deleteAllInBatch();
 		memberRepository.deleteAllInBatch();
@@ -191,6 +195,7 @@ class ReservationConcurrencyTest {
 		historyRepository.deleteAllInBatch();
 		memberCouponRepository.deleteAllInBatch();
 		reservationRepository.deleteAllInBatch();
+		jdbcTemplate.update("DELETE FROM reservation_night");
 		couponRepository.deleteAllInBatch();
 		accommodationRepository.deleteAllInBatch();
 		memberRepository.deleteAllInBatch();
@@ -271,6 +276,7 @@ class ReservationConcurrencyTest {
 		assertThat(reservationRepository.findById(pending.getId()).orElseThrow().getStatus())
 			.isEqualTo(ReservationStatus.EXPIRED);
 		assertThat(memberCoupon(guest, coupon).isUsed()).isFalse();
+		assertThat(reservationNightCount(pending.getId())).isZero();
 	}
 
 	@Test
@@ -454,6 +460,56 @@ class ReservationConcurrencyTest {
 		assertThat(reservationCount).as("DB에도 오직 하나의 예약만 기록되어야 한다.").isEqualTo(1);
 	}
 
+	@Test
+	@DisplayName("같은 숙소라도 날짜가 겹치지 않으면 동시 예약이 모두 성공한다")
+	void disjointDatesOnSameAccommodation_allSucceed() throws InterruptedException {
+		// given
+		int threadCount = 10;
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch readyLatch = new CountDownLatch(threadCount);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch doneLatch = new CountDownLatch(threadCount);
+
+		AtomicInteger successCount = new AtomicInteger(0);
+		AtomicInteger unexpectedFailCount = new AtomicInteger(0);
+
+		LocalDate baseDate = WINDOW_START.plusDays(30);
+
+		// when - 같은 숙소, 서로 다른 1박
+		for (int i = 0; i < threadCount; i++) {
+			final Member guest = guests.get(i);
+			final LocalDate checkInDate = baseDate.plusDays(i);
+			executorService.submit(() -> {
+				try {
+					readyLatch.countDown();
+					startLatch.await();
+					reservationService.createPendingReservation(
+						new ReservationRequest.Create(accommodation.getId(), checkInDate, checkInDate.plusDays(1), 2),
+						guest.getId()
+					);
+					successCount.incrementAndGet();
+				} catch (Exception e) {
+					unexpectedFailCount.incrementAndGet();
+					System.err.println("Unexpected: " + e.getClass().getSimpleName() + " - " + e.getMessage());
+				} finally {
+					doneLatch.countDown();
+				}
+			});
+		}
+
+		readyLatch.await();
+		startLatch.countDown();
+		doneLatch.await();
+		executorService.shutdown();
+
+		// then
+		assertThat(unexpectedFailCount.get()).as("예상치 못한 예외가 발생하면 안 된다.").isZero();
+		assertThat(successCount.get()).isEqualTo(threadCount);
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM reservation_night WHERE accommodation_id = ?", Long.class, accommodation.getId()))
+			.isEqualTo((long)threadCount);
+	}
+
 	@Test
 	@DisplayName("분산 락 없이 동시 예약하면 중복 예약이 발생한다")
 	void withoutLock_duplicateReservationOccurs() throws InterruptedException {
@@ -689,4 +745,9 @@ class ReservationConcurrencyTest {
 		assertThat(failCount.get()).as("두 예약 중 하나는 실패해야 한다.").isEqualTo(1);
 		assertThat(reservationCount).as("DB에는 최종적으로 하나의 예약만 있어야 한다.").isEqualTo(1);
 	}
+
+	private long reservationNightCount(Long reservationId) {
+		return jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM reservation_night WHERE reservation_id = ?", Long.class, reservationId);
+	}
 }
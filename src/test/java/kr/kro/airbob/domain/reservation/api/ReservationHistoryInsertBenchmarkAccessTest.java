@@ -4,14 +4,14 @@ import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -39,8 +39,7 @@ class ReservationHistoryInsertBenchmarkAccessTest {
 	private static final String PATH = "/api/v2/admin/benchmarks/bulk-write/reservation-history-insert";
 
 	@Mock private ReservationHistoryInsertBenchmarkService benchmarkService;
-	@Mock private RedisTemplate<String, Object> redisTemplate;
-	@Mock private ValueOperations<String, Object> valueOperations;
+	@Mock private SessionResolver sessionResolver;
 	@Mock private MemberRepository memberRepository;
 
 	private MockMvc mockMvc;
@@ -49,7 +48,7 @@ class ReservationHistoryInsertBenchmarkAccessTest {
 	void setUp() {
 		ObjectMapper objectMapper = new ObjectMapper()
 			.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
-		SessionAuthFilter sessionAuthFilter = new SessionAuthFilter(redisTemplate, objectMapper);
+		SessionAuthFilter sessionAuthFilter = new SessionAuthFilter(sessionResolver, objectMapper);
 		AdminAuthInterceptor adminAuthInterceptor = new AdminAuthInterceptor(memberRepository);
 		ReservationHistoryInsertBenchmarkController controller =
 			new ReservationHistoryInsertBenchmarkController(
@@ -166,9 +165,7 @@ class ReservationHistoryInsertBenchmarkAccessTest {
 	}
 
 	private void authenticate(long memberId, MemberRole role) {
-		given(redisTemplate.hasKey("MEMBER_SESSION_ACTIVE:" + memberId)).willReturn(true);
-		given(redisTemplate.opsForValue()).willReturn(valueOperations);
-		given(valueOperations.get("SESSION:valid-session")).willReturn(memberId);
+		given(sessionResolver.resolve("valid-session")).willReturn(Optional.of(memberId));
 		given(memberRepository.existsByIdAndStatusAndRole(
 			memberId, MemberStatus.ACTIVE, MemberRole.ADMIN))
 			.willReturn(role == MemberRole.ADMIN);
@@ -0,0 +1,199 @@
+package kr.kro.airbob.domain.reservation.cleanup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import kr.kro.airbob.common.monitoring.bulkwrite.BulkOperationMonitor;
+import kr.kro.airbob.domain.accommodation.entity.Accommodation;
+import kr.kro.airbob.domain.coupon.service.CouponUsageService;
+import kr.kro.airbob.domain.member.entity.Member;
+import kr.kro.airbob.domain.reservation.entity.Reservation;
+import kr.kro.airbob.domain.reservation.entity.ReservationStatus;
+import kr.kro.airbob.domain.reservation.repository.ExpiredReservationChunkRepository;
+import kr.kro.airbob.domain.reservation.repository.ReservationHistoryBatchWriter;
+import kr.kro.airbob.domain.reservation.repository.ReservationNightLedger;
+import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
+import kr.kro.airbob.domain.reservation.service.ReservationHoldService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExpiredReservationChunkedCleanupService 테스트")
+class ExpiredReservationChunkedCleanupServiceTest {
+
+	private static final Instant NOW = Instant.parse("2026-07-21T10:00:00Z");
+
+	@Mock private ExpiredReservationChunkRepository chunkRepository;
+	@Mock private ReservationRepository reservationRepository;
+	@Mock private ReservationHistoryBatchWriter batchWriter;
+	@Mock private ReservationNightLedger nightLedger;
+	@Mock private ReservationHoldService holdService;
+	@Mock private CouponUsageService couponUsageService;
+	@Mock private PlatformTransactionManager transactionManager;
+	@Mock private TransactionStatus transactionStatus;
+
+	private ExpiredReservationChunkedCleanupService service;
+	private Reservation first;
+	private Reservation second;
+	private Reservation third;
+
+	@BeforeEach
+	void setUp() {
+		service = new ExpiredReservationChunkedCleanupService(
+			chunkRepository,
+			reservationRepository,
+			batchWriter,
+			nightLedger,
+			holdService,
+			couponUsageService,
+			new BulkOperationMonitor(),
+			new ExpiredReservationCleanupProperties(true, 2),
+			transactionManager,
+			Clock.fixed(NOW, ZoneOffset.UTC)
+		);
+		first = pendingReservation(1L, 11L, LocalDate.of(2026, 8, 1));
+		second = pendingReservation(2L, 12L, LocalDate.of(2026, 8, 3));
+		third = pendingReservation(3L, 13L, LocalDate.of(2026, 8, 5));
+		given(transactionManager.getTransaction(any())).willReturn(transactionStatus);
+	}
+
+	@Test
+	@DisplayName("청크마다 만료·원장 해제·쿠폰 복원·이력 저장·checkpoint 이동을 처리하고 hold는 커밋 뒤 한 번에 지운다")
+	void processesEachChunkInItsOwnTransaction() {
+		ExpiredReservationCheckpoint start = ExpiredReservationCheckpoint.start(NOW);
+		ExpiredReservationCheckpoint afterFirstChunk = start.advanceTo(key(second));
+		given(chunkRepository.findCheckpoint()).willReturn(Optional.empty());
+		given(chunkRepository.lockNextChunk(start, 2)).willReturn(List.of(key(first), key(second)));
+		given(chunkRepository.lockNextChunk(afterFirstChunk, 2)).willReturn(List.of(key(third)));
+		given(reservationRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(first, second));
+		given(reservationRepository.findAllById(List.of(3L))).willReturn(List.of(third));
+
+		int cleaned = service.cleanupExpiredPendingReservations();
+
+		assertThat(cleaned).isEqualTo(3);
+		assertThat(List.of(first, second, third)).extracting(Reservation::getStatus)
+			.containsOnly(ReservationStatus.EXPIRED);
+		InOrder order = inOrder(nightLedger, couponUsageService, batchWriter, chunkRepository, transactionManager,
+			holdService);
+		order.verify(nightLedger).releaseAll(List.of(1L, 2L));
+		order.verify(couponUsageService).restoreAll(List.of(1L, 2L));
+		order.verify(batchWriter).writeAll(anyList(), eq(NOW));
+		order.verify(chunkRepository).saveCheckpoint(afterFirstChunk);
+		order.verify(transactionManager).commit(transactionStatus);
+		order.verify(holdService).removeHolds(List.of(
+			new ReservationHoldService.HoldNights(11L, LocalDate.of(2026, 8, 1), LocalDate.of(2026, 8, 2),
+				first.getReservationUid().toString()),
+			new ReservationHoldService.HoldNights(12L, LocalDate.of(2026, 8, 3), LocalDate.of(2026, 8, 4),
+				second.getReservationUid().toString())));
+		order.verify(nightLedger).releaseAll(List.of(3L));
+		order.verify(chunkRepository).deleteCheckpoint();
+	}
+
+	@Test
+	@DisplayName("남은 checkpoint 가 있으면 그 cutoff 와 위치에서 이어간다")
+	void resumesFromStoredCheckpoint() {
+		ExpiredReservationCheckpoint stored = ExpiredReservationCheckpoint.start(NOW.minusSeconds(3600))
+			.advanceTo(key(first));
+		given(chunkRepository.findCheckpoint()).willReturn(Optional.of(stored));
+		given(chunkRepository.lockNextChunk(stored, 2)).willReturn(List.of(key(second)));
+		given(reservationRepository.findAllById(List.of(2L))).willReturn(List.of(second));
+
+		int cleaned = service.cleanupExpiredPendingReservations();
+
+		assertThat(cleaned).isEqualTo(1);
+		then(chunkRepository).should().saveCheckpoint(stored.advanceTo(key(second)));
+		then(chunkRepository).should().deleteCheckpoint();
+	}
+
+	@Test
+	@DisplayName("청크 처리가 실패하면 롤백하고 checkpoint 를 남겨 다음 실행이 같은 청크부터 다시 시도한다")
+	void keepsCheckpointWhenChunkFails() {
+		ExpiredReservationCheckpoint start = ExpiredReservationCheckpoint.start(NOW);
+		given(chunkRepository.findCheckpoint()).willReturn(Optional.empty());
+		given(chunkRepository.lockNextChunk(start, 2)).willReturn(List.of(key(first)));
+		given(reservationRepository.findAllById(List.of(1L))).willReturn(List.of(first));
+		willThrow(new DataIntegrityViolationException("intentional"))
+			.given(batchWriter).writeAll(anyList(), any(Instant.class));
+
+		assertThatThrownBy(service::cleanupExpiredPendingReservations)
+			.isInstanceOf(DataIntegrityViolationException.class);
+
+		then(transactionManager).should().rollback(transactionStatus);
+		then(chunkRepository).should(never()).saveCheckpoint(any());
+		then(chunkRepository).should(never()).deleteCheckpoint();
+		then(holdService).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("만료된 예약이 없으면 아무것도 바꾸지 않는다")
+	void doesNothingWhenNoExpiredReservationsExist() {
+		given(chunkRepository.findCheckpoint()).willReturn(Optional.empty());
+		given(chunkRepository.lockNextChunk(any(), eq(2))).willReturn(List.of());
+
+		int cleaned = service.cleanupExpiredPendingReservations();
+
+		assertThat(cleaned).isZero();
+		then(batchWriter).shouldHaveNoInteractions();
+		then(couponUsageService).shouldHaveNoInteractions();
+		then(holdService).should().removeHolds(List.of());
+	}
+
+	private static ExpiredReservationKey key(Reservation reservation) {
+		return new ExpiredReservationKey(reservation.getId(), reservation.getExpiresAt());
+	}
+
+	private Reservation pendingReservation(long reservationId, long accommodationId, LocalDate checkIn) {
+		Accommodation accommodation = Accommodation.builder()
+			.id(accommodationId)
+			.build();
+		Member guest = Member.builder()
+			.id(100L + reservationId)
+			.build();
+		return Reservation.builder()
+			.id(reservationId)
+			.reservationUid(UUID.randomUUID())
+			.reservationCode("R" + reservationId)
+			.accommodation(accommodation)
+			.guest(guest)
+			.checkInDate(checkIn)
+			.checkOutDate(checkIn.plusDays(1))
+			.checkInAt(checkIn.atTime(15, 0).atZone(ZoneId.of("Asia/Seoul")).toInstant())
+			.checkOutAt(checkIn.plusDays(1).atTime(11, 0).atZone(ZoneId.of("Asia/Seoul")).toInstant())
+			.timeZoneId("Asia/Seoul")
+			.guestCount(2)
+			.totalPrice(100_000L)
+			.currency("KRW")
+			.status(ReservationStatus.PAYMENT_PENDING)
+			.expiresAt(NOW.minusSeconds(reservationId))
+			.createdAt(LocalDateTime.of(2026, 7, 1, 9, 0))
+			.updatedAt(LocalDateTime.of(2026, 7, 1, 9, 0))
+			.build();
+	}
+}
@@ -33,12 +33,12 @@ class BookingWindowProviderTest {
 		Clock clock = Clock.fixed(Instant.parse("2026-08-12T00:30:00Z"), ZoneOffset.UTC);
 		BookingWindowProvider provider = new BookingWindowProvider(clock);
 
-		var eligibleTimeZones = provider.eligibleTimeZonesForStay(
+		var eligibleTimeZones = provider.timeZoneEligibilityForStay(
 			LocalDate.of(2026, 11, 11),
 			LocalDate.of(2026, 11, 12)
 		);
 
-		assertThat(eligibleTimeZones)
+		assertThat(eligibleTimeZones.eligible())
 			.contains("Asia/Seoul")
 			.doesNotContain("America/New_York");
 	}
@@ -67,12 +67,34 @@ class BookingWindowProviderTest {
 		};
 		BookingWindowProvider provider = new BookingWindowProvider(clock);
 
-		provider.eligibleTimeZonesForStay(
+		provider.timeZoneEligibilityForStay(
 			LocalDate.of(2026, 8, 20), LocalDate.of(2026, 8, 21));
 
 		assertThat(instantCalls).hasValue(1);
 	}
 
+	@Test
+	@DisplayName("시간대 판단 결과는 현지 자정 경계 전까지 재사용하고 경계를 넘으면 다시 계산한다")
+	void reusesEligibilityUntilNextLocalMidnight() {
+		MutableClock clock = new MutableClock(Instant.parse("2026-08-12T00:30:00Z"));
+		BookingWindowProvider provider = new BookingWindowProvider(clock);
+		LocalDate checkIn = LocalDate.of(2026, 11, 11);
+		LocalDate checkOut = LocalDate.of(2026, 11, 12);
+
+		TimeZoneEligibility first = provider.timeZoneEligibilityForStay(checkIn, checkOut);
+		TimeZoneEligibility cached = provider.timeZoneEligibilityForStay(checkIn, checkOut);
+		clock.now = Instant.parse("2026-08-12T04:00:00Z");
+		TimeZoneEligibility afterBoundary = provider.timeZoneEligibilityForStay(checkIn, checkOut);
+
+		assertThat(cached).isSameAs(first);
+		assertThat(first.eligible()).contains("Asia/Seoul").doesNotContain("America/New_York").isSorted();
+		assertThat(first.ineligible()).contains("America/New_York").isSorted();
+		assertThat(first.eligible().size() + first.ineligible().size()).isEqualTo(ZoneId.getAvailableZoneIds().size());
+		assertThat(first.eligibleTerms()).extracting(value -> value.stringValue()).isEqualTo(first.eligible());
+		assertThat(afterBoundary).isNotSameAs(first);
+		assertThat(afterBoundary.eligible()).contains("America/New_York");
+	}
+
 	@Test
 	@DisplayName("색인 범위는 전 세계 현지 날짜의 3개월 예약 창을 포함하도록 UTC 날짜 양쪽에 하루를 둔다")
 	void calculatesGlobalSafeIndexingWindow() {
@@ -86,4 +108,28 @@ class BookingWindowProviderTest {
 			LocalDate.of(2026, 12, 1)
 		));
 	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
 }
@@ -0,0 +1,119 @@
+package kr.kro.airbob.domain.reservation.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import kr.kro.airbob.domain.reservation.cleanup.ExpiredReservationCheckpoint;
+import kr.kro.airbob.domain.reservation.cleanup.ExpiredReservationKey;
+
+@JdbcTest(properties = "spring.flyway.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ExpiredReservationChunkRepository.class)
+@Testcontainers
+@DisplayName("ExpiredReservationChunkRepository MySQL integration test")
+class ExpiredReservationChunkRepositoryIntegrationTest {
+
+	private static final Instant CUTOFF = Instant.parse("2026-08-20T03:00:00Z");
+
+	@Container
+	private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.33")
+		.withDatabaseName("airbob_expired_reservation_chunk");
+
+	@DynamicPropertySource
+	static void setProperties(DynamicPropertyRegistry registry) {
+		Flyway.configure()
+			.dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+			.locations("classpath:db/migration")
+			.baselineOnMigrate(true)
+			.baselineVersion("1")
+			.load()
+			.migrate();
+
+		registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+		registry.add("spring.datasource.username", MYSQL::getUsername);
+		registry.add("spring.datasource.password", MYSQL::getPassword);
+	}
+
+	@Autowired private ExpiredReservationChunkRepository repository;
+	@Autowired private JdbcTemplate jdbcTemplate;
+
+	private long accommodationId;
+	private long guestId;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("INSERT INTO member (nickname, status, updated_at) VALUES ('guest', 'ACTIVE', NOW(6))");
+		guestId = jdbcTemplate.queryForObject("SELECT id FROM member ORDER BY id DESC LIMIT 1", Long.class);
+		jdbcTemplate.update("""
+			INSERT INTO accommodation
+				(member_id, check_in_time, check_out_time, accommodation_uid, status, base_price, updated_at)
+			VALUES (?, '15:00:00', '11:00:00', UUID_TO_BIN(UUID()), 'PUBLISHED', 100000, NOW(6))
+			""", guestId);
+		accommodationId = jdbcTemplate.queryForObject(
+			"SELECT id FROM accommodation ORDER BY id DESC LIMIT 1", Long.class);
+	}
+
+	@Test
+	@DisplayName("cutoff 이전에 만료된 결제 대기 예약만 (expires_at, id) 순서로 청크를 나눠 읽는다")
+	void readsExpiredPendingReservationsInKeysetOrder() {
+		long late = insertReservation("R1", "PAYMENT_PENDING", CUTOFF.minusSeconds(10));
+		long early = insertReservation("R2", "PAYMENT_PENDING", CUTOFF.minusSeconds(60));
+		long sameAsLate = insertReservation("R3", "PAYMENT_PENDING", CUTOFF.minusSeconds(10));
+		insertReservation("R4", "CONFIRMED", CUTOFF.minusSeconds(60));
+		insertReservation("R5", "PAYMENT_PENDING", CUTOFF.plusSeconds(1));
+
+		ExpiredReservationCheckpoint start = ExpiredReservationCheckpoint.start(CUTOFF);
+		List<ExpiredReservationKey> first = repository.lockNextChunk(start, 2);
+		List<ExpiredReservationKey> second = repository.lockNextChunk(start.advanceTo(first.getLast()), 2);
+
+		assertThat(first).extracting(ExpiredReservationKey::id).containsExactly(early, late);
+		assertThat(second).extracting(ExpiredReservationKey::id).containsExactly(sameAsLate);
+		assertThat(second.getFirst().expiresAt()).isEqualTo(CUTOFF.minusSeconds(10));
+	}
+
+	@Test
+	@DisplayName("checkpoint 는 저장한 위치를 그대로 돌려주고 삭제하면 사라진다")
+	void savesAndDeletesCheckpoint() {
+		ExpiredReservationCheckpoint checkpoint = ExpiredReservationCheckpoint.start(CUTOFF)
+			.advanceTo(new ExpiredReservationKey(42L, CUTOFF.minusSeconds(30)));
+
+		repository.saveCheckpoint(ExpiredReservationCheckpoint.start(CUTOFF));
+		repository.saveCheckpoint(checkpoint);
+
+		assertThat(repository.findCheckpoint()).contains(checkpoint);
+		repository.deleteCheckpoint();
+		assertThat(repository.findCheckpoint()).isEmpty();
+	}
+
+	private long insertReservation(String code, String status, Instant expiresAt) {
+		jdbcTemplate.update("""
+			INSERT INTO reservation
+				(reservation_uid, reservation_code, accommodation_id, guest_id,
+				 check_in_date, check_out_date, check_in_at, check_out_at, time_zone_id,
+				 guest_count, total_price, status, expires_at, currency, created_at, updated_at)
+			VALUES (UUID_TO_BIN(UUID()), ?, ?, ?,
+				 '2026-09-01', '2026-09-03', '2026-09-01 15:00:00', '2026-09-03 11:00:00', 'UTC',
+				 2, 200000, ?, ?, 'KRW', NOW(6), NOW(6))
+			""", code, accommodationId, guestId, status, LocalDateTime.ofInstant(expiresAt, ZoneOffset.UTC));
+		return jdbcTemplate.queryForObject("SELECT id FROM reservation WHERE reservation_code = ?", Long.class, code);
+	}
+}
@@ -0,0 +1,167 @@
+package kr.kro.airbob.domain.reservation.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@JdbcTest(properties = "spring.flyway.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReservationNightLedger.class)
+@Testcontainers
+@DisplayName("ReservationNightLedger MySQL integration test")
+class ReservationNightLedgerIntegrationTest {
+
+	private static final long ACCOMMODATION_ID = 10L;
+	private static final LocalDate CHECK_IN = LocalDate.of(2026, 9, 1);
+	private static final Instant NOW = Instant.parse("2026-08-20T03:00:00Z");
+	private static final Instant HOLD_EXPIRES_AT = NOW.plusSeconds(15 * 60);
+
+	@Container
+	private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.33")
+		.withDatabaseName("airbob_reservation_night_ledger");
+
+	@DynamicPropertySource
+	static void setProperties(DynamicPropertyRegistry registry) {
+		Flyway.configure()
+			.dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+			.locations("classpath:db/migration")
+			.baselineOnMigrate(true)
+			.baselineVersion("1")
+			.load()
+			.migrate();
+
+		registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+		registry.add("spring.datasource.username", MYSQL::getUsername);
+		registry.add("spring.datasource.password", MYSQL::getPassword);
+	}
+
+	@Autowired private ReservationNightLedger ledger;
+	@Autowired private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("비어 있는 숙박일을 모두 선점한다")
+	void claimsEveryFreeNight() {
+		boolean claimed = ledger.claim(ACCOMMODATION_ID, 1L, CHECK_IN, CHECK_IN.plusDays(3), HOLD_EXPIRES_AT, NOW);
+
+		assertThat(claimed).isTrue();
+		assertThat(nightsOf(1L)).containsExactly(CHECK_IN, CHECK_IN.plusDays(1), CHECK_IN.plusDays(2));
+	}
+
+	@Test
+	@DisplayName("만료 전 선점과 겹치면 실패하고 기존 예약의 날짜를 바꾸지 않는다")
+	void rejectsOverlapWithActiveHold() {
+		ledger.claim(ACCOMMODATION_ID, 1L, CHECK_IN, CHECK_IN.plusDays(2), HOLD_EXPIRES_AT, NOW);
+
+		boolean claimed = ledger.claim(
+			ACCOMMODATION_ID, 2L, CHECK_IN.plusDays(1), CHECK_IN.plusDays(3), HOLD_EXPIRES_AT, NOW);
+
+		assertThat(claimed).isFalse();
+		assertThat(nightsOf(1L)).containsExactly(CHECK_IN, CHECK_IN.plusDays(1));
+		assertThat(nightsOf(2L)).containsExactly(CHECK_IN.plusDays(2));
+	}
+
+	@Test
+	@DisplayName("체크아웃 날짜와 체크인 날짜가 같은 연속 예약은 겹치지 않는다")
+	void backToBackStaysDoNotConflict() {
+		ledger.claim(ACCOMMODATION_ID, 1L, CHECK_IN, CHECK_IN.plusDays(2), HOLD_EXPIRES_AT, NOW);
+
+		assertThat(ledger.claim(
+			ACCOMMODATION_ID, 2L, CHECK_IN.plusDays(2), CHECK_IN.plusDays(4), HOLD_EXPIRES_AT, NOW)).isTrue();
+	}
+
+	@Test
+	@DisplayName("선점 만료 시각이 지난 결제 대기 날짜는 다음 예약이 넘겨받는다")
+	void takesOverExpiredHold() {
+		ledger.claim(ACCOMMODATION_ID, 1L, CHECK_IN, CHECK_IN.plusDays(2), HOLD_EXPIRES_AT, NOW);
+		Instant afterExpiry = HOLD_EXPIRES_AT;
+
+		boolean claimed = ledger.claim(
+			ACCOMMODATION_ID, 2L, CHECK_IN, CHECK_IN.plusDays(2), afterExpiry.plusSeconds(900), afterExpiry);
+
+		assertThat(claimed).isTrue();
+		assertThat(nightsOf(1L)).isEmpty();
+		assertThat(ledger.pin(1L)).isZero();
+	}
+
+	@Test
+	@DisplayName("결제를 시작해 고정된 날짜는 만료 시각이 지나도 넘겨주지 않는다")
+	void pinnedNightsAreNeverTakenOver() {
+		ledger.claim(ACCOMMODATION_ID, 1L, CHECK_IN, CHECK_IN.plusDays(2), HOLD_EXPIRES_AT, NOW);
+		assertThat(ledger.pin(1L)).isEqualTo(2);
+
+		Instant afterExpiry = HOLD_EXPIRES_AT.plusSeconds(60);
+		assertThat(ledger.claim(
+			ACCOMMODATION_ID, 2L, CHECK_IN, CHECK_IN.plusDays(1), afterExpiry.plusSeconds(900), afterExpiry)).isFalse();
+		assertThat(nightsOf(1L)).containsExactly(CHECK_IN, CHECK_IN.plusDays(1));
+	}
+
+	@Test
+	@DisplayName("해제한 예약의 날짜만 다시 선점할 수 있다")
+	void releaseFreesOnlyThatReservation() {
+		ledger.claim(ACCOMMODATION_ID, 1L, CHECK_IN, CHECK_IN.plusDays(1), null, NOW);
+		ledger.claim(ACCOMMODATION_ID, 2L, CHECK_IN.plusDays(1), CHECK_IN.plusDays(2), null, NOW);
+		ledger.claim(ACCOMMODATION_ID, 3L, CHECK_IN.plusDays(2), CHECK_IN.plusDays(3), null, NOW);
+
+		assertThat(ledger.release(1L)).isEqualTo(1);
+		ledger.releaseAll(List.of(2L, 99L));
+
+		assertThat(nightsOf(3L)).containsExactly(CHECK_IN.plusDays(2));
+		assertThat(ledger.claim(ACCOMMODATION_ID, 4L, CHECK_IN, CHECK_IN.plusDays(2), null, NOW)).isTrue();
+	}
+
+	@Test
+	@DisplayName("행 락 모드 기록은 이전 서버가 남긴 행을 덮어쓴다")
+	void overwriteReplacesStaleRows() {
+		ledger.claim(ACCOMMODATION_ID, 1L, CHECK_IN, CHECK_IN.plusDays(1), null, NOW);
+
+		ledger.overwrite(ACCOMMODATION_ID, 2L, CHECK_IN, CHECK_IN.plusDays(2), HOLD_EXPIRES_AT, NOW);
+
+		assertThat(nightsOf(1L)).isEmpty();
+		assertThat(nightsOf(2L)).containsExactly(CHECK_IN, CHECK_IN.plusDays(1));
+	}
+
+	@Test
+	@DisplayName("다른 숙소의 같은 날짜와는 충돌하지 않는다")
+	void nightsAreScopedByAccommodation() {
+		ledger.claim(ACCOMMODATION_ID, 1L, CHECK_IN, CHECK_IN.plusDays(1), null, NOW);
+
+		assertThat(ledger.claim(ACCOMMODATION_ID + 1, 2L, CHECK_IN, CHECK_IN.plusDays(1), null, NOW)).isTrue();
+	}
+
+	@Test
+	@DisplayName("기준일 이전 숙박일만 한도만큼 지운다")
+	void purgesNightsBeforeCutoffUpToLimit() {
+		ledger.claim(ACCOMMODATION_ID, 1L, CHECK_IN, CHECK_IN.plusDays(3), null, NOW);
+		ledger.claim(ACCOMMODATION_ID, 2L, CHECK_IN.plusDays(3), CHECK_IN.plusDays(4), null, NOW);
+
+		assertThat(ledger.purgeBefore(CHECK_IN.plusDays(3), 2)).isEqualTo(2);
+		assertThat(ledger.purgeBefore(CHECK_IN.plusDays(3), 2)).isEqualTo(1);
+
+		assertThat(nightsOf(1L)).isEmpty();
+		assertThat(nightsOf(2L)).containsExactly(CHECK_IN.plusDays(3));
+	}
+
+	private List<LocalDate> nightsOf(long reservationId) {
+		return jdbcTemplate.query(
+			"SELECT stay_date FROM reservation_night WHERE reservation_id = ? ORDER BY stay_date",
+			(resultSet, rowNumber) -> resultSet.getObject("stay_date", LocalDate.class),
+			reservationId
+		);
+	}
+}
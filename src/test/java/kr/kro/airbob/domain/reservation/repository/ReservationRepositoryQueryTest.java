@@ -436,6 +436,24 @@ class ReservationRepositoryQueryTest {
 		assertThat(sqlInspector.singleSelect()).contains(" for update");
 	}
 
+	@Test
+	@DisplayName("원장 모드 예약 생성용 숙소 조회는 공유 잠금을 건다")
+	void reservationAccommodationLookupUsesForShare() {
+		Member member = memberRepository.save(Member.builder()
+			.email("reservation-accommodation-share@test.com")
+			.nickname("reservation-accommodation-share")
+			.build());
+		Accommodation accommodation = saveAccommodation(member, "reservation-accommodation-share-target");
+		accommodationRepository.flush();
+		entityManager.clear();
+		sqlInspector.clear();
+
+		assertThat(accommodationRepository.findByIdAndStatusForShare(
+			accommodation.getId(), AccommodationStatus.PUBLISHED)).isPresent();
+
+		assertThat(sqlInspector.singleSelect()).contains(" for share");
+	}
+
 	@Test
 	@DisplayName("숙소 수정용 소유자 조회는 비관적 쓰기 잠금을 건다")
 	void updateAccommodationLookupUsesForUpdate() {
@@ -2,13 +2,22 @@ package kr.kro.airbob.domain.reservation.scheduler;
 
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import kr.kro.airbob.domain.reservation.cleanup.ExpiredReservationChunkedCleanupService;
+import kr.kro.airbob.domain.reservation.repository.ReservationNightLedger;
 import kr.kro.airbob.domain.reservation.service.ExpiredReservationCleanupService;
 
 @ExtendWith(MockitoExtension.class)
@@ -17,16 +26,51 @@ class ReservationSchedulerTest {
 
 	@Mock
 	private ExpiredReservationCleanupService cleanupService;
+	@Mock
+	private ExpiredReservationChunkedCleanupService chunkedCleanupService;
+	@Mock
+	private ReservationNightLedger nightLedger;
+
+	private ReservationScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		Clock clock = Clock.fixed(Instant.parse("2026-08-20T04:30:00Z"), ZoneOffset.UTC);
+		scheduler = new ReservationScheduler(cleanupService, chunkedCleanupService, nightLedger, clock);
+	}
 
 	@Test
 	@DisplayName("스케줄 실행은 cleanup service에 한 번 위임한다")
 	void delegatesToCleanupService() {
 		given(cleanupService.cleanupExpiredPendingReservations()).willReturn(3);
-		ReservationScheduler scheduler = new ReservationScheduler(cleanupService);
 
 		scheduler.cleanupExpiredPendingReservation();
 
 		then(cleanupService).should().cleanupExpiredPendingReservations();
 		then(cleanupService).shouldHaveNoMoreInteractions();
 	}
+
+	@Test
+	@DisplayName("청크 정리를 켜면 청크 cleanup service에 위임한다")
+	void delegatesToChunkedCleanupServiceWhenEnabled() {
+		given(chunkedCleanupService.enabled()).willReturn(true);
+		given(chunkedCleanupService.cleanupExpiredPendingReservations()).willReturn(3);
+
+		scheduler.cleanupExpiredPendingReservation();
+
+		then(chunkedCleanupService).should().cleanupExpiredPendingReservations();
+		then(cleanupService).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("지난 숙박일 정리는 UTC 어제 이전 날짜를 한도 단위로 다 지울 때까지 반복한다")
+	void purgesPastNightsInBatchesUntilExhausted() {
+		LocalDate cutoff = LocalDate.of(2026, 8, 19);
+		given(nightLedger.purgeBefore(cutoff, ReservationScheduler.NIGHT_PURGE_BATCH_SIZE))
+			.willReturn(ReservationScheduler.NIGHT_PURGE_BATCH_SIZE, 10);
+
+		scheduler.purgePastReservationNights();
+
+		then(nightLedger).should(times(2)).purgeBefore(cutoff, ReservationScheduler.NIGHT_PURGE_BATCH_SIZE);
+	}
 }
@@ -36,6 +36,7 @@ import kr.kro.airbob.domain.reservation.entity.Reservation;
 import kr.kro.airbob.domain.reservation.entity.ReservationHistory;
 import kr.kro.airbob.domain.reservation.entity.ReservationStatus;
 import kr.kro.airbob.domain.reservation.repository.ReservationHistoryBatchWriter;
+import kr.kro.airbob.domain.reservation.repository.ReservationNightLedger;
 import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +49,8 @@ class ExpiredReservationCleanupServiceTest {
 	@Mock
 	private ReservationHistoryBatchWriter batchWriter;
 	@Mock
+	private ReservationNightLedger nightLedger;
+	@Mock
 	private ReservationHoldService holdService;
 	@Mock
 	private CouponUsageService couponUsageService;
@@ -61,6 +64,7 @@ class ExpiredReservationCleanupServiceTest {
 		service = new ExpiredReservationCleanupService(
 			reservationRepository,
 			batchWriter,
+			nightLedger,
 			holdService,
 			couponUsageService,
 			Clock.fixed(NOW, ZoneOffset.UTC)
@@ -84,6 +88,19 @@ class ExpiredReservationCleanupServiceTest {
 		inOrder.verify(batchWriter).writeAll(anyList(), eq(NOW));
 	}
 
+	@Test
+	@DisplayName("만료한 예약의 숙박일 원장을 같은 트랜잭션에서 일괄 해제한다")
+	void releasesNightsForEveryExpiredReservation() {
+		given(reservationRepository.findAllByStatusAndExpiresAtLessThanEqual(
+			ReservationStatus.PAYMENT_PENDING,
+			NOW
+		)).willReturn(List.of(first, second));
+
+		service.cleanupExpiredPendingReservations();
+
+		then(nightLedger).should().releaseAll(List.of(first.getId(), second.getId()));
+	}
+
 	@Test
 	@DisplayName("만료 시각과 현재 시각이 같으면 만료 대상으로 조회한다")
 	void expiresReservationAtExactBoundary() {
@@ -117,10 +134,12 @@ class ExpiredReservationCleanupServiceTest {
 		InOrder order = inOrder(batchWriter, holdService);
 		order.verify(batchWriter).writeAll(histories.capture(), historyCreatedAt.capture());
 		order.verify(holdService).removeHold(
-			eq(11L), eq(LocalDate.of(2026, 8, 1)), eq(LocalDate.of(2026, 8, 2))
+			eq(11L), eq(LocalDate.of(2026, 8, 1)), eq(LocalDate.of(2026, 8, 2)),
+			eq(first.getReservationUid().toString())
 		);
 		order.verify(holdService).removeHold(
-			eq(12L), eq(LocalDate.of(2026, 8, 3)), eq(LocalDate.of(2026, 8, 4))
+			eq(12L), eq(LocalDate.of(2026, 8, 3)), eq(LocalDate.of(2026, 8, 4)),
+			eq(second.getReservationUid().toString())
 		);
 		assertThat(histories.getValue()).extracting(ReservationHistory::getStatus)
 			.containsOnly(ReservationStatus.EXPIRED);
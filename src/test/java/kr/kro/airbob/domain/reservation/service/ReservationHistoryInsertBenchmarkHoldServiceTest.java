@@ -13,11 +13,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ReservationHistory INSERT 벤치마크 hold 격리 테스트")
 class ReservationHistoryInsertBenchmarkHoldServiceTest {
 
+	private static final String RESERVATION_UID = "4dc96ec8-d45f-4688-bb75-560c71b88d5d";
+
 	@Mock private RedisTemplate<String, String> redisTemplate;
 
 	private ReservationHistoryInsertBenchmarkHoldService holdService;
@@ -34,11 +37,11 @@ class ReservationHistoryInsertBenchmarkHoldServiceTest {
 		LocalDate checkOut = LocalDate.of(2030, 1, 3);
 		holdService.startRecording();
 
-		holdService.removeHold(11L, checkIn, checkOut);
+		holdService.removeHold(11L, checkIn, checkOut, RESERVATION_UID);
 		var snapshot = holdService.finishRecording();
 
 		assertThat(snapshot.removals()).containsExactly(
-			new ReservationHistoryInsertBenchmarkHoldService.HoldRemoval(11L, checkIn, checkOut)
+			new ReservationHistoryInsertBenchmarkHoldService.HoldRemoval(11L, checkIn, checkOut, RESERVATION_UID)
 		);
 		then(redisTemplate).shouldHaveNoInteractions();
 	}
@@ -49,12 +52,15 @@ class ReservationHistoryInsertBenchmarkHoldServiceTest {
 		LocalDate checkIn = LocalDate.of(2030, 1, 1);
 		LocalDate checkOut = LocalDate.of(2030, 1, 3);
 
-		holdService.removeHold(11L, checkIn, checkOut);
+		holdService.removeHold(11L, checkIn, checkOut, RESERVATION_UID);
 
-		then(redisTemplate).should().delete(List.of(
-			"HOLD:RESERVATION:11:2030-01-01",
-			"HOLD:RESERVATION:11:2030-01-02"
-		));
+		then(redisTemplate).should().execute(
+			any(RedisScript.class),
+			eq(List.of("HOLD:RESERVATION:NIGHTS:11")),
+			eq(RESERVATION_UID),
+			eq(String.valueOf(checkIn.toEpochDay())),
+			eq(String.valueOf(checkIn.plusDays(1).toEpochDay()))
+		);
 	}
 
 	@Test
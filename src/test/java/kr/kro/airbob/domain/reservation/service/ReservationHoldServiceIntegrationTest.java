@@ -0,0 +1,190 @@
+package kr.kro.airbob.domain.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers
+@DisplayName("예약 날짜 선점 스크립트 통합 테스트")
+class ReservationHoldServiceIntegrationTest {
+
+	private static final long ACCOMMODATION_ID = 10L;
+	private static final String HOLD_KEY = "HOLD:RESERVATION:NIGHTS:" + ACCOMMODATION_ID;
+	private static final LocalDate CHECK_IN = LocalDate.of(2026, 9, 1);
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>(
+		DockerImageName.parse("redis:7.2-alpine"))
+		.withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate redisTemplate;
+	private static ReservationHoldService holdService;
+
+	@BeforeAll
+	static void setUpClient() {
+		connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+		holdService = new ReservationHoldService(redisTemplate);
+	}
+
+	@AfterAll
+	static void closeClient() {
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+	}
+
+	@BeforeEach
+	void clearHolds() {
+		redisTemplate.delete(HOLD_KEY);
+	}
+
+	@Test
+	@DisplayName("겹치는 숙박일은 먼저 선점한 요청만 성공하고 연속 숙박은 함께 선점된다")
+	void rejectsOverlapButAllowsBackToBackStay() {
+		assertThat(holdService.claimDates(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(3), "a")).isTrue();
+
+		assertThat(holdService.claimDates(ACCOMMODATION_ID, CHECK_IN.plusDays(2), CHECK_IN.plusDays(4), "b")).isFalse();
+		assertThat(holdService.claimDates(ACCOMMODATION_ID, CHECK_IN.plusDays(3), CHECK_IN.plusDays(5), "c")).isTrue();
+		assertThat(redisTemplate.opsForHash().size(HOLD_KEY)).isEqualTo(5);
+		assertThat(redisTemplate.getExpire(HOLD_KEY)).isPositive();
+	}
+
+	@Test
+	@DisplayName("동시에 같은 날짜를 선점하면 한 요청만 성공한다")
+	void onlyOneConcurrentClaimSucceeds() throws Exception {
+		int threadCount = 20;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (int i = 0; i < threadCount; i++) {
+			String owner = "owner-" + i;
+			LocalDate checkIn = CHECK_IN.plusDays(i % 3);
+			Callable<Boolean> claim = () -> {
+				start.await();
+				return holdService.claimDates(ACCOMMODATION_ID, checkIn, checkIn.plusDays(3), owner);
+			};
+			results.add(executor.submit(claim));
+		}
+
+		start.countDown();
+		int succeeded = 0;
+		for (Future<Boolean> result : results) {
+			succeeded += result.get() ? 1 : 0;
+		}
+		executor.shutdown();
+
+		assertThat(succeeded).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("해제는 자신이 선점한 날짜만 지운다")
+	void releaseRemovesOnlyOwnedNights() {
+		holdService.claimDates(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(1), "a");
+		holdService.claimDates(ACCOMMODATION_ID, CHECK_IN.plusDays(1), CHECK_IN.plusDays(2), "b");
+
+		holdService.releaseClaim(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(2), "a");
+
+		assertThat(holdService.isAnyDateHeld(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(1))).isFalse();
+		assertThat(holdService.isAnyDateHeld(ACCOMMODATION_ID, CHECK_IN.plusDays(1), CHECK_IN.plusDays(2))).isTrue();
+	}
+
+	@Test
+	@DisplayName("연장은 자신이 선점한 날짜의 만료 시각만 결제 대기 시간으로 늘리고 소유자를 예약 UID로 넘긴다")
+	void extendMovesExpiryOfOwnedNightsOnly() {
+		holdService.claimDates(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(2), "a");
+		holdService.claimDates(ACCOMMODATION_ID, CHECK_IN.plusDays(2), CHECK_IN.plusDays(3), "b");
+		long leaseExpiresAt = expiresAt(CHECK_IN.plusDays(2));
+
+		holdService.extendHold(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(3), "a", "reservation-a");
+
+		assertThat(expiresAt(CHECK_IN)).isGreaterThan(leaseExpiresAt + 10 * 60 * 1000L);
+		assertThat((String)redisTemplate.opsForHash().get(HOLD_KEY, field(CHECK_IN))).endsWith(":reservation-a");
+		assertThat(expiresAt(CHECK_IN.plusDays(2))).isEqualTo(leaseExpiresAt);
+		assertThat(redisTemplate.getExpire(HOLD_KEY)).isGreaterThan(10 * 60L);
+	}
+
+	@Test
+	@DisplayName("만료 시각이 지난 선점은 다음 요청이 넘겨받는다")
+	void expiredNightIsTakenOver() {
+		redisTemplate.opsForHash().put(HOLD_KEY, field(CHECK_IN), "1:crashed-owner");
+
+		assertThat(holdService.isAnyDateHeld(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(1))).isFalse();
+		assertThat(holdService.claimDates(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(1), "a")).isTrue();
+		assertThat((String)redisTemplate.opsForHash().get(HOLD_KEY, field(CHECK_IN))).endsWith(":a");
+	}
+
+	@Test
+	@DisplayName("field가 임계치를 넘으면 선점 시 만료된 지난 날짜를 정리한다")
+	void claimSweepsExpiredNightsAboveThreshold() {
+		for (int day = 0; day < 300; day++) {
+			redisTemplate.opsForHash().put(HOLD_KEY, field(CHECK_IN.minusDays(day + 1)), "1:old");
+		}
+
+		holdService.claimDates(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(2), "a");
+
+		assertThat(redisTemplate.opsForHash().size(HOLD_KEY)).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("확정·만료 시 Hold 제거는 해당 예약이 소유한 숙박일만 지운다")
+	void removeHoldDeletesOnlyNightsOwnedByReservation() {
+		holdService.claimDates(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(1), "a");
+		holdService.extendHold(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(1), "a", "reservation-a");
+		holdService.claimDates(ACCOMMODATION_ID, CHECK_IN.plusDays(1), CHECK_IN.plusDays(2), "b");
+		holdService.extendHold(ACCOMMODATION_ID, CHECK_IN.plusDays(1), CHECK_IN.plusDays(2), "b", "reservation-b");
+
+		holdService.removeHold(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(2), "reservation-a");
+
+		assertThat(holdService.isAnyDateHeld(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(1))).isFalse();
+		assertThat(holdService.isAnyDateHeld(ACCOMMODATION_ID, CHECK_IN.plusDays(1), CHECK_IN.plusDays(2))).isTrue();
+	}
+
+	@Test
+	@DisplayName("일괄 Hold 제거도 pipeline 안에서 예약별 소유자를 확인한다")
+	void removeHoldsDeletesOnlyOwnedNightsInPipeline() {
+		holdService.claimDates(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(1), "a");
+		holdService.extendHold(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(1), "a", "reservation-a");
+		holdService.claimDates(ACCOMMODATION_ID, CHECK_IN.plusDays(1), CHECK_IN.plusDays(2), "b");
+		holdService.extendHold(ACCOMMODATION_ID, CHECK_IN.plusDays(1), CHECK_IN.plusDays(2), "b", "reservation-b");
+
+		holdService.removeHolds(List.of(
+			new ReservationHoldService.HoldNights(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(1), "reservation-a"),
+			new ReservationHoldService.HoldNights(
+				ACCOMMODATION_ID, CHECK_IN.plusDays(1), CHECK_IN.plusDays(2), "reservation-expired")));
+
+		assertThat(holdService.isAnyDateHeld(ACCOMMODATION_ID, CHECK_IN, CHECK_IN.plusDays(1))).isFalse();
+		assertThat(holdService.isAnyDateHeld(ACCOMMODATION_ID, CHECK_IN.plusDays(1), CHECK_IN.plusDays(2))).isTrue();
+	}
+
+	private long expiresAt(LocalDate night) {
+		String holder = (String)redisTemplate.opsForHash().get(HOLD_KEY, field(night));
+		return Long.parseLong(holder.substring(0, holder.indexOf(':')));
+	}
+
+	private static String field(LocalDate night) {
+		return String.valueOf(night.toEpochDay());
+	}
+}
@@ -4,8 +4,6 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDate;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,166 +17,126 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ReservationHoldService 테스트")
 class ReservationHoldServiceTest {
 
+	private static final String OWNER = "owner-1";
+	private static final String RESERVATION_UID = "4dc96ec8-d45f-4688-bb75-560c71b88d5d";
+
 	@InjectMocks
 	private ReservationHoldService holdService;
 
 	@Mock
 	private RedisTemplate<String, String> redisTemplate;
 
-	@Mock
-	private ValueOperations<String, String> valueOperations;
+	@Captor
+	private ArgumentCaptor<List<String>> keysCaptor;
 
 	@Captor
-	private ArgumentCaptor<List<String>> listCaptor;
+	private ArgumentCaptor<Object[]> argsCaptor;
 
 	private Long accommodationId;
 	private LocalDate checkIn;
 	private LocalDate checkOut;
+	private String firstNight;
+	private String secondNight;
 
 	@BeforeEach
 	void setUp() {
 		accommodationId = 1L;
 		checkIn = LocalDate.of(2025, 1, 26);
 		checkOut = LocalDate.of(2025, 1, 28);
-
-		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		firstNight = String.valueOf(checkIn.toEpochDay());
+		secondNight = String.valueOf(checkIn.plusDays(1).toEpochDay());
 	}
 
 	@Nested
-	@DisplayName("날짜 Hold 설정 테스트")
-	class HoldDatesTest {
+	@DisplayName("날짜 선점 테스트")
+	class ClaimDatesTest {
 
 		@Test
-		@DisplayName("Hold 설정 시 executePipelined으로 SET EX가 실행된다")
-		void Hold_설정_성공() {
+		@DisplayName("숙소 hash 하나와 모든 숙박일 field를 한 번의 스크립트 호출로 넘긴다")
+		void 선점_인자_검증() {
 			// given
-			given(redisTemplate.executePipelined(any(RedisCallback.class)))
-				.willReturn(Collections.emptyList());
+			given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(1L);
 
 			// when
-			holdService.holdDates(accommodationId, checkIn, checkOut);
+			boolean claimed = holdService.claimDates(accommodationId, checkIn, checkOut, OWNER);
 
 			// then
-			then(redisTemplate).should().executePipelined(any(RedisCallback.class));
+			assertThat(claimed).isTrue();
+			then(redisTemplate).should().execute(any(RedisScript.class), keysCaptor.capture(), argsCaptor.capture());
+			assertThat(keysCaptor.getValue()).containsExactly("HOLD:RESERVATION:NIGHTS:1");
+			assertThat(argsCaptor.getValue()).containsExactly(OWNER, "30000", "256", firstNight, secondNight);
 		}
 
 		@Test
-		@DisplayName("1박 예약 시에도 pipeline이 정상 실행된다")
-		void Hold_1박() {
+		@DisplayName("다른 요청이 선점 중이면 false를 반환한다")
+		void 선점_충돌() {
 			// given
-			LocalDate oneNightCheckOut = LocalDate.of(2025, 1, 27);
-			given(redisTemplate.executePipelined(any(RedisCallback.class)))
-				.willReturn(Collections.emptyList());
-
-			// when
-			holdService.holdDates(accommodationId, checkIn, oneNightCheckOut);
+			given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(0L);
 
-			// then
-			then(redisTemplate).should().executePipelined(any(RedisCallback.class));
-		}
-	}
-
-	@Nested
-	@DisplayName("날짜 Hold 확인 테스트")
-	class IsAnyDateHeldTest {
-
-		@Test
-		@DisplayName("Hold된 날짜가 있으면 true를 반환한다")
-		void Hold_확인_존재() {
-			// given
-			given(valueOperations.multiGet(anyList()))
-				.willReturn(Arrays.asList("held", null));
-
-			// when
-			boolean result = holdService.isAnyDateHeld(accommodationId, checkIn, checkOut);
-
-			// then
-			assertThat(result).isTrue();
+			// when & then
+			assertThat(holdService.claimDates(accommodationId, checkIn, checkOut, OWNER)).isFalse();
 		}
 
 		@Test
-		@DisplayName("Hold된 날짜가 없으면 false를 반환한다")
-		void Hold_확인_미존재() {
+		@DisplayName("Redis 장애는 호출자에게 전파한다")
+		void 선점_장애_전파() {
 			// given
-			given(valueOperations.multiGet(anyList()))
-				.willReturn(Arrays.asList(null, null));
-
-			// when
-			boolean result = holdService.isAnyDateHeld(accommodationId, checkIn, checkOut);
+			given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+				.willThrow(new DataAccessException("Redis connection failed") {});
 
-			// then
-			assertThat(result).isFalse();
+			// when & then
+			assertThatThrownBy(() -> holdService.claimDates(accommodationId, checkIn, checkOut, OWNER))
+				.isInstanceOf(DataAccessException.class);
 		}
+	}
 
-		@Test
-		@DisplayName("모든 날짜가 Hold되어 있으면 true를 반환한다")
-		void Hold_확인_모두_존재() {
-			// given
-			given(valueOperations.multiGet(anyList()))
-				.willReturn(Arrays.asList("held", "held"));
-
-			// when
-			boolean result = holdService.isAnyDateHeld(accommodationId, checkIn, checkOut);
-
-			// then
-			assertThat(result).isTrue();
-		}
+	@Nested
+	@DisplayName("선점 연장·해제 테스트")
+	class ExtendAndReleaseTest {
 
 		@Test
-		@DisplayName("MGET 결과가 null이면 false를 반환한다")
-		void Hold_확인_null_결과() {
+		@DisplayName("연장은 소유 토큰과 예약 UID, 결제 대기 시간, 숙박일 field를 넘긴다")
+		void 연장_인자_검증() {
 			// given
-			given(valueOperations.multiGet(anyList()))
-				.willReturn(null);
+			given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(2L);
 
 			// when
-			boolean result = holdService.isAnyDateHeld(accommodationId, checkIn, checkOut);
+			holdService.extendHold(accommodationId, checkIn, checkOut, OWNER, RESERVATION_UID);
 
 			// then
-			assertThat(result).isFalse();
+			then(redisTemplate).should().execute(any(RedisScript.class), keysCaptor.capture(), argsCaptor.capture());
+			assertThat(keysCaptor.getValue()).containsExactly("HOLD:RESERVATION:NIGHTS:1");
+			assertThat(argsCaptor.getValue()).containsExactly(OWNER, RESERVATION_UID, "900000", firstNight, secondNight);
 		}
 
 		@Test
-		@DisplayName("빈 리스트 결과면 false를 반환한다")
-		void Hold_확인_빈_리스트() {
-			// given
-			given(valueOperations.multiGet(anyList()))
-				.willReturn(Collections.emptyList());
-
+		@DisplayName("해제는 소유 토큰과 숙박일 field를 넘긴다")
+		void 해제_인자_검증() {
 			// when
-			boolean result = holdService.isAnyDateHeld(accommodationId, checkIn, checkOut);
+			holdService.releaseClaim(accommodationId, checkIn, checkOut, OWNER);
 
 			// then
-			assertThat(result).isFalse();
+			then(redisTemplate).should().execute(any(RedisScript.class), keysCaptor.capture(), argsCaptor.capture());
+			assertThat(argsCaptor.getValue()).containsExactly(OWNER, firstNight, secondNight);
 		}
 
 		@Test
-		@DisplayName("올바른 키 형식(HOLD:RESERVATION:{id}:{date})으로 MGET이 호출된다")
-		void Hold_확인_키_검증() {
+		@DisplayName("해제 중 Redis 장애가 발생해도 예외가 전파되지 않는다")
+		void 해제_실패_시_예외_미전파() {
 			// given
-			given(valueOperations.multiGet(anyList()))
-				.willReturn(Arrays.asList(null, null));
-
-			// when
-			holdService.isAnyDateHeld(accommodationId, checkIn, checkOut);
+			given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+				.willThrow(new DataAccessException("Redis connection failed") {});
 
-			// then
-			then(valueOperations).should().multiGet(listCaptor.capture());
-			List<String> queriedKeys = listCaptor.getValue();
-
-			assertThat(queriedKeys).hasSize(2);
-			assertThat(queriedKeys).contains(
-				"HOLD:RESERVATION:1:2025-01-26",
-				"HOLD:RESERVATION:1:2025-01-27"
-			);
+			// when & then
+			assertThatCode(() -> holdService.releaseClaim(accommodationId, checkIn, checkOut, OWNER))
+				.doesNotThrowAnyException();
 		}
 	}
 
@@ -187,31 +145,26 @@ class ReservationHoldServiceTest {
 	class RemoveHoldTest {
 
 		@Test
-		@DisplayName("Hold 제거 시 DELETE로 Redis 키가 삭제된다")
+		@DisplayName("Hold 제거는 예약 UID와 숙박일 field를 소유자 확인 스크립트로 넘긴다")
 		void Hold_제거() {
 			// when
-			holdService.removeHold(accommodationId, checkIn, checkOut);
+			holdService.removeHold(accommodationId, checkIn, checkOut, RESERVATION_UID);
 
 			// then
-			then(redisTemplate).should().delete(listCaptor.capture());
-			List<String> deletedKeys = listCaptor.getValue();
-
-			assertThat(deletedKeys).hasSize(2);
-			assertThat(deletedKeys).contains(
-				"HOLD:RESERVATION:1:2025-01-26",
-				"HOLD:RESERVATION:1:2025-01-27"
-			);
+			then(redisTemplate).should().execute(any(RedisScript.class), keysCaptor.capture(), argsCaptor.capture());
+			assertThat(keysCaptor.getValue()).containsExactly("HOLD:RESERVATION:NIGHTS:1");
+			assertThat(argsCaptor.getValue()).containsExactly(RESERVATION_UID, firstNight, secondNight);
 		}
 
 		@Test
 		@DisplayName("Hold 제거 시 Redis 장애가 발생해도 예외가 전파되지 않는다")
 		void Hold_제거_실패_시_예외_미전파() {
 			// given
-			given(redisTemplate.delete(anyList()))
+			given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
 				.willThrow(new DataAccessException("Redis connection failed") {});
 
 			// when & then
-			assertThatCode(() -> holdService.removeHold(accommodationId, checkIn, checkOut))
+			assertThatCode(() -> holdService.removeHold(accommodationId, checkIn, checkOut, RESERVATION_UID))
 				.doesNotThrowAnyException();
 		}
 	}
@@ -5,7 +5,6 @@ import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,10 +13,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RLock;
 
 import kr.kro.airbob.domain.accommodation.entity.Accommodation;
 import kr.kro.airbob.domain.accommodation.entity.AccommodationStatus;
@@ -50,9 +49,6 @@ class ReservationServiceTest {
 	@Mock
 	private ReservationHoldService holdService;
 
-	@Mock
-	private ReservationLockManager lockManager;
-
 	@Mock
 	private ReservationTransactionService transactionService;
 
@@ -62,9 +58,6 @@ class ReservationServiceTest {
 	@Mock
 	private BookingWindowProvider bookingWindowProvider;
 
-	@Mock
-	private RLock mockLock;
-
 	private ReservationRequest.Create validRequest;
 	private Long memberId;
 	private Reservation mockReservation;
@@ -114,10 +107,8 @@ class ReservationServiceTest {
 		void 정상_예약_생성_성공() {
 			// given
 			givenPublishedBookingWindow();
-			given(holdService.isAnyDateHeld(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-				.willReturn(false);
-			given(lockManager.acquireLocks(anyList()))
-				.willReturn(mockLock);
+			given(holdService.claimDates(anyLong(), any(LocalDate.class), any(LocalDate.class), anyString()))
+				.willReturn(true);
 			given(transactionService.createPendingReservationInTx(any(), anyLong(), anyString()))
 				.willReturn(mockReservation);
 
@@ -132,26 +123,29 @@ class ReservationServiceTest {
 			assertThat(result.paymentRequired()).isTrue();
 
 			// verify interactions
-			then(holdService).should().isAnyDateHeld(
-				validRequest.accommodationId(),
-				validRequest.checkInDate(),
-				validRequest.checkOutDate()
+			ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+			then(holdService).should().claimDates(
+				eq(validRequest.accommodationId()),
+				eq(validRequest.checkInDate()),
+				eq(validRequest.checkOutDate()),
+				owner.capture()
 			);
-			then(lockManager).should().acquireLocks(anyList());
 			then(transactionService).should().createPendingReservationInTx(validRequest, memberId, "사용자 예약 생성");
-			then(holdService).should().holdDates(
+			then(holdService).should().extendHold(
 				validRequest.accommodationId(),
 				validRequest.checkInDate(),
-				validRequest.checkOutDate()
+				validRequest.checkOutDate(),
+				owner.getValue(),
+				mockReservation.getReservationUid().toString()
 			);
+			then(holdService).should(never()).releaseClaim(anyLong(), any(), any(), anyString());
 			then(accommodationRepository).should()
 				.findBookingProjectionByIdAndStatus(1L, AccommodationStatus.PUBLISHED);
 			then(bookingWindowProvider).should().currentFor(TIME_ZONE_ID);
-			then(lockManager).should().releaseLocks(mockLock);
 		}
 
 		@Test
-		@DisplayName("0원으로 즉시 확정된 예약에는 Redis 결제 홀드를 만들지 않는다")
+		@DisplayName("0원으로 즉시 확정된 예약은 Redis 선점을 연장하지 않고 바로 해제한다")
 		void complimentaryReservationSkipsPaymentHold() {
 			Reservation complimentary = Reservation.builder()
 				.id(mockReservation.getId())
@@ -162,9 +156,8 @@ class ReservationServiceTest {
 				.totalPrice(0L)
 				.build();
 			givenPublishedBookingWindow();
-			given(holdService.isAnyDateHeld(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-				.willReturn(false);
-			given(lockManager.acquireLocks(anyList())).willReturn(mockLock);
+			given(holdService.claimDates(anyLong(), any(LocalDate.class), any(LocalDate.class), anyString()))
+				.willReturn(true);
 			given(transactionService.createPendingReservationInTx(any(), anyLong(), anyString()))
 				.willReturn(complimentary);
 
@@ -172,25 +165,29 @@ class ReservationServiceTest {
 
 			assertThat(result.status()).isEqualTo(ReservationStatus.CONFIRMED);
 			assertThat(result.paymentRequired()).isFalse();
-			then(holdService).should(never()).holdDates(anyLong(), any(), any());
-			then(lockManager).should().releaseLocks(mockLock);
+			then(holdService).should(never()).extendHold(anyLong(), any(), any(), anyString(), anyString());
+			then(holdService).should().releaseClaim(
+				eq(validRequest.accommodationId()),
+				eq(validRequest.checkInDate()),
+				eq(validRequest.checkOutDate()),
+				anyString()
+			);
 		}
 
 		@Test
-		@DisplayName("Redis Hold가 존재하면 ReservationLockException이 발생한다")
+		@DisplayName("다른 요청이 날짜를 선점했으면 ReservationLockException이 발생한다")
 		void 예외_Redis_Hold_존재() {
 			// given
 			givenPublishedBookingWindow();
-			given(holdService.isAnyDateHeld(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-				.willReturn(true);
+			given(holdService.claimDates(anyLong(), any(LocalDate.class), any(LocalDate.class), anyString()))
+				.willReturn(false);
 
 			// when & then
 			assertThatThrownBy(() -> reservationService.createPendingReservation(validRequest, memberId))
 				.isInstanceOf(ReservationLockException.class);
 
-			// verify no lock acquisition attempted
-			then(lockManager).should(never()).acquireLocks(anyList());
 			then(transactionService).should(never()).createPendingReservationInTx(any(), anyLong(), anyString());
+			then(holdService).should(never()).releaseClaim(anyLong(), any(), any(), anyString());
 		}
 
 		@Test
@@ -209,7 +206,6 @@ class ReservationServiceTest {
 				.isInstanceOf(ReservationOutsideBookingWindowException.class);
 
 			then(holdService).shouldHaveNoInteractions();
-			then(lockManager).shouldHaveNoInteractions();
 			then(transactionService).shouldHaveNoInteractions();
 		}
 
@@ -225,8 +221,8 @@ class ReservationServiceTest {
 				2
 			);
 			givenPublishedBookingWindow(request.accommodationId(), newYorkTimeZoneId, newYorkWindow);
-			given(holdService.isAnyDateHeld(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-				.willReturn(true);
+			given(holdService.claimDates(anyLong(), any(LocalDate.class), any(LocalDate.class), anyString()))
+				.willReturn(false);
 
 			assertThatThrownBy(() -> reservationService.createPendingReservation(request, memberId))
 				.isInstanceOf(ReservationLockException.class);
@@ -246,7 +242,6 @@ class ReservationServiceTest {
 
 			then(bookingWindowProvider).shouldHaveNoInteractions();
 			then(holdService).shouldHaveNoInteractions();
-			then(lockManager).shouldHaveNoInteractions();
 			then(transactionService).shouldHaveNoInteractions();
 		}
 
@@ -265,38 +260,33 @@ class ReservationServiceTest {
 				.isInstanceOf(InvalidReservationDateException.class);
 
 			then(holdService).shouldHaveNoInteractions();
-			then(lockManager).shouldHaveNoInteractions();
 			then(transactionService).shouldHaveNoInteractions();
 			then(accommodationRepository).shouldHaveNoInteractions();
 			then(bookingWindowProvider).shouldHaveNoInteractions();
 		}
 
 		@Test
-		@DisplayName("락 획득 실패 시 ReservationLockException이 발생한다")
-		void 예외_락_획득_타임아웃() {
+		@DisplayName("선점 스크립트 호출이 실패하면 DB 처리 없이 예외를 전파한다")
+		void 예외_선점_Redis_장애() {
 			// given
 			givenPublishedBookingWindow();
-			given(holdService.isAnyDateHeld(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-				.willReturn(false);
-			given(lockManager.acquireLocks(anyList()))
-				.willThrow(new ReservationLockException());
+			given(holdService.claimDates(anyLong(), any(LocalDate.class), any(LocalDate.class), anyString()))
+				.willThrow(new IllegalStateException("Redis connection failed"));
 
 			// when & then
 			assertThatThrownBy(() -> reservationService.createPendingReservation(validRequest, memberId))
-				.isInstanceOf(ReservationLockException.class);
+				.isInstanceOf(IllegalStateException.class);
 
 			then(transactionService).should(never()).createPendingReservationInTx(any(), anyLong(), anyString());
 		}
 
 		@Test
-		@DisplayName("예외 발생 시에도 락 해제가 보장된다")
+		@DisplayName("예외 발생 시 자신이 선점한 날짜를 해제한다")
 		void 락_해제_보장() {
 			// given
 			givenPublishedBookingWindow();
-			given(holdService.isAnyDateHeld(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-				.willReturn(false);
-			given(lockManager.acquireLocks(anyList()))
-				.willReturn(mockLock);
+			given(holdService.claimDates(anyLong(), any(LocalDate.class), any(LocalDate.class), anyString()))
+				.willReturn(true);
 			given(transactionService.createPendingReservationInTx(any(), anyLong(), anyString()))
 				.willThrow(new RuntimeException("Transaction failed"));
 
@@ -305,19 +295,24 @@ class ReservationServiceTest {
 				.isInstanceOf(RuntimeException.class)
 				.hasMessage("Transaction failed");
 
-			// verify lock is released even on exception
-			then(lockManager).should().releaseLocks(mockLock);
+			ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+			then(holdService).should().claimDates(anyLong(), any(), any(), owner.capture());
+			then(holdService).should().releaseClaim(
+				validRequest.accommodationId(),
+				validRequest.checkInDate(),
+				validRequest.checkOutDate(),
+				owner.getValue()
+			);
+			then(holdService).should(never()).extendHold(anyLong(), any(), any(), anyString(), anyString());
 		}
 
 		@Test
-		@DisplayName("락 해제 전에 Hold를 설정한다")
+		@DisplayName("DB 커밋 후에 선점을 결제 대기 시간만큼 연장한다")
 		void Hold_설정_시점() {
 			// given
 			givenPublishedBookingWindow();
-			given(holdService.isAnyDateHeld(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-				.willReturn(false);
-			given(lockManager.acquireLocks(anyList()))
-				.willReturn(mockLock);
+			given(holdService.claimDates(anyLong(), any(LocalDate.class), any(LocalDate.class), anyString()))
+				.willReturn(true);
 			given(transactionService.createPendingReservationInTx(any(), anyLong(), anyString()))
 				.willReturn(mockReservation);
 
@@ -325,34 +320,30 @@ class ReservationServiceTest {
 			reservationService.createPendingReservation(validRequest, memberId);
 
 			// then
-			var inOrder = inOrder(transactionService, holdService, lockManager);
+			var inOrder = inOrder(holdService, transactionService);
+			inOrder.verify(holdService).claimDates(anyLong(), any(LocalDate.class), any(LocalDate.class), anyString());
 			inOrder.verify(transactionService).createPendingReservationInTx(any(), anyLong(), anyString());
-			inOrder.verify(holdService).holdDates(anyLong(), any(LocalDate.class), any(LocalDate.class));
-			inOrder.verify(lockManager).releaseLocks(mockLock);
+			inOrder.verify(holdService)
+				.extendHold(anyLong(), any(LocalDate.class), any(LocalDate.class), anyString(), anyString());
 		}
 
 		@Test
-		@DisplayName("락 키가 올바르게 생성되어 전달된다")
-		void 락_키_생성_확인() {
+		@DisplayName("선점 연장에 실패해도 이미 커밋된 예약 응답을 반환한다")
+		void Hold_연장_실패_무시() {
 			// given
 			givenPublishedBookingWindow();
-			given(holdService.isAnyDateHeld(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-				.willReturn(false);
-			given(lockManager.acquireLocks(anyList()))
-				.willReturn(mockLock);
+			given(holdService.claimDates(anyLong(), any(LocalDate.class), any(LocalDate.class), anyString()))
+				.willReturn(true);
 			given(transactionService.createPendingReservationInTx(any(), anyLong(), anyString()))
 				.willReturn(mockReservation);
+			willThrow(new IllegalStateException("Redis connection failed"))
+				.given(holdService).extendHold(anyLong(), any(), any(), anyString(), anyString());
 
 			// when
-			reservationService.createPendingReservation(validRequest, memberId);
+			ReservationResponse.Ready result = reservationService.createPendingReservation(validRequest, memberId);
 
 			// then
-			then(lockManager).should().acquireLocks(argThat(lockKeys -> {
-				List<String> keys = (List<String>)lockKeys;
-				return keys.size() == 2 &&
-					keys.contains("LOCK:RESERVATION:1:" + validRequest.checkInDate()) &&
-					keys.contains("LOCK:RESERVATION:1:" + validRequest.checkInDate().plusDays(1));
-			}));
+			assertThat(result.reservationUid()).isEqualTo(mockReservation.getReservationUid().toString());
 		}
 	}
 
@@ -367,7 +358,7 @@ class ReservationServiceTest {
 	) {
 		given(accommodationRepository.findBookingProjectionByIdAndStatus(
 			accommodationId, AccommodationStatus.PUBLISHED))
-			.willReturn(Optional.of(new AccommodationBookingProjection(timeZoneId)));
+			.willReturn(Optional.of(new AccommodationBookingProjection(timeZoneId, UUID.randomUUID())));
 		given(bookingWindowProvider.currentFor(timeZoneId)).willReturn(bookingWindow);
 	}
 
@@ -53,8 +53,11 @@ import kr.kro.airbob.domain.reservation.exception.ReservationOutsideBookingWindo
 import kr.kro.airbob.domain.reservation.exception.ReservationOccupancyExceededException;
 import kr.kro.airbob.domain.reservation.policy.BookingWindow;
 import kr.kro.airbob.domain.reservation.policy.BookingWindowProvider;
+import kr.kro.airbob.domain.reservation.policy.ReservationInventoryLockMode;
+import kr.kro.airbob.domain.reservation.policy.ReservationInventoryLockPolicy;
 import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
 import kr.kro.airbob.domain.reservation.repository.ReservationHistoryRepository;
+import kr.kro.airbob.domain.reservation.repository.ReservationNightLedger;
 import kr.kro.airbob.domain.review.repository.ReviewRepository;
 import kr.kro.airbob.outbox.EventType;
 import kr.kro.airbob.outbox.OutboxEventPublisher;
@@ -91,6 +94,8 @@ class ReservationTransactionServiceTest {
 	private CouponUsageService couponUsageService;
 	@Mock
 	private BookingWindowProvider bookingWindowProvider;
+	@Mock
+	private ReservationNightLedger nightLedger;
 
 	@Captor
 	private ArgumentCaptor<Reservation> reservationCaptor;
@@ -106,20 +111,7 @@ class ReservationTransactionServiceTest {
 
 	@BeforeEach
 	void setUp() {
-		transactionService = new ReservationTransactionService(
-			outboxEventPublisher,
-			cursorPageInfoCreator,
-			memberRepository,
-			reviewRepository,
-			paymentRepository,
-			reservationRepository,
-			accommodationRepository,
-			paymentTransactionRepository,
-			historyRepository,
-			couponUsageService,
-			bookingWindowProvider,
-			Clock.fixed(NOW, ZoneOffset.UTC)
-		);
+		transactionService = transactionService(ReservationInventoryLockMode.LEDGER);
 		memberId = 1L;
 
 		guest = Member.builder()
@@ -158,6 +150,25 @@ class ReservationTransactionServiceTest {
 			.thenReturn(BookingWindow.startingOn(WINDOW_START));
 	}
 
+	private ReservationTransactionService transactionService(ReservationInventoryLockMode lockMode) {
+		return new ReservationTransactionService(
+			outboxEventPublisher,
+			cursorPageInfoCreator,
+			memberRepository,
+			reviewRepository,
+			paymentRepository,
+			reservationRepository,
+			accommodationRepository,
+			paymentTransactionRepository,
+			historyRepository,
+			couponUsageService,
+			bookingWindowProvider,
+			nightLedger,
+			new ReservationInventoryLockPolicy(lockMode),
+			Clock.fixed(NOW, ZoneOffset.UTC)
+		);
+	}
+
 	@Test
 	@DisplayName("체크아웃 시각과 현재 시각이 같으면 리뷰를 작성할 수 있다")
 	void allowsReviewAtExactCheckoutInstant() {
@@ -233,7 +244,7 @@ class ReservationTransactionServiceTest {
 				accommodation.getId(), WINDOW_START.plusDays(1), WINDOW_START.plusDays(2), 3);
 			given(memberRepository.findByIdAndStatus(memberId, MemberStatus.ACTIVE))
 				.willReturn(Optional.of(guest));
-			given(accommodationRepository.findByIdAndStatusForUpdate(
+			given(accommodationRepository.findByIdAndStatusForShare(
 				overCapacity.accommodationId(), AccommodationStatus.PUBLISHED))
 				.willReturn(Optional.of(accommodation));
 
@@ -254,12 +265,10 @@ class ReservationTransactionServiceTest {
 			// given
 			given(memberRepository.findByIdAndStatus(memberId, MemberStatus.ACTIVE))
 				.willReturn(Optional.of(guest));
-			given(accommodationRepository.findByIdAndStatusForUpdate(
+			given(accommodationRepository.findByIdAndStatusForShare(
 				validRequest.accommodationId(), AccommodationStatus.PUBLISHED))
 				.willReturn(Optional.of(accommodation));
-			given(reservationRepository.existsConflictingReservation(
-				anyLong(), any(LocalDate.class), any(LocalDate.class), any(Instant.class)))
-				.willReturn(false);
+			given(nightLedger.claim(any(), any(), any(), any(), any(), any())).willReturn(true);
 			given(reservationRepository.existsByReservationCode(anyString()))
 				.willReturn(false);
 			// save() 호출 시 reservationUid가 설정된 상태로 반환 (실제 JPA에서 @PrePersist로 설정됨)
@@ -289,8 +298,10 @@ class ReservationTransactionServiceTest {
 			assertThat(result.getCheckOutAt()).isEqualTo(Instant.parse("2026-08-14T15:00:00Z"));
 			assertThat(result.getTimeZoneId()).isEqualTo(TIME_ZONE_ID);
 			assertThat(result.getExpiresAt()).isEqualTo(NOW.plusSeconds(15 * 60));
-			then(accommodationRepository).should().findByIdAndStatusForUpdate(
+			then(accommodationRepository).should().findByIdAndStatusForShare(
 				validRequest.accommodationId(), AccommodationStatus.PUBLISHED);
+			then(accommodationRepository).should(never()).findByIdAndStatusForUpdate(any(), any());
+			then(reservationRepository).should(never()).existsConflictingReservation(any(), any(), any(), any());
 
 			// verify reservation saved
 			then(reservationRepository).should().save(any(Reservation.class));
@@ -319,12 +330,10 @@ class ReservationTransactionServiceTest {
 				accommodation.getId(), WINDOW_START.plusDays(1), WINDOW_START.plusDays(3), 2, 77L);
 			given(memberRepository.findByIdAndStatus(memberId, MemberStatus.ACTIVE))
 				.willReturn(Optional.of(guest));
-			given(accommodationRepository.findByIdAndStatusForUpdate(
+			given(accommodationRepository.findByIdAndStatusForShare(
 				complimentaryRequest.accommodationId(), AccommodationStatus.PUBLISHED))
 				.willReturn(Optional.of(accommodation));
-			given(reservationRepository.existsConflictingReservation(
-				anyLong(), any(LocalDate.class), any(LocalDate.class), any(Instant.class)))
-				.willReturn(false);
+			given(nightLedger.claim(any(), any(), any(), any(), any(), any())).willReturn(true);
 			given(reservationRepository.existsByReservationCode(anyString())).willReturn(false);
 			given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> {
 				Reservation reservation = invocation.getArgument(0);
@@ -343,6 +352,8 @@ class ReservationTransactionServiceTest {
 
 			assertThat(result.getTotalPrice()).isZero();
 			assertThat(result.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+			then(nightLedger).should().claim(accommodation.getId(), 99L,
+				complimentaryRequest.checkInDate(), complimentaryRequest.checkOutDate(), null, NOW);
 			then(outboxEventPublisher).should(never()).save(eq(EventType.RESERVATION_PENDING), any());
 			then(outboxEventPublisher).should().save(
 				eq(EventType.RESERVATION_CONFIRMED), any(ReservationEvent.ReservationConfirmedEvent.class));
@@ -361,14 +372,12 @@ class ReservationTransactionServiceTest {
 			);
 			given(memberRepository.findByIdAndStatus(memberId, MemberStatus.ACTIVE))
 				.willReturn(Optional.of(guest));
-			given(accommodationRepository.findByIdAndStatusForUpdate(
+			given(accommodationRepository.findByIdAndStatusForShare(
 				dstRequest.accommodationId(), AccommodationStatus.PUBLISHED))
 				.willReturn(Optional.of(accommodation));
 			given(bookingWindowProvider.currentFor(TIME_ZONE_ID))
 				.willReturn(BookingWindow.startingOn(LocalDate.of(2026, 3, 1)));
-			given(reservationRepository.existsConflictingReservation(
-				anyLong(), any(LocalDate.class), any(LocalDate.class), any(Instant.class)))
-				.willReturn(false);
+			given(nightLedger.claim(any(), any(), any(), any(), any(), any())).willReturn(true);
 			given(reservationRepository.existsByReservationCode(anyString()))
 				.willReturn(false);
 			given(reservationRepository.save(any(Reservation.class)))
@@ -385,8 +394,8 @@ class ReservationTransactionServiceTest {
 
 			Instant expectedCheckInAt = Instant.parse("2026-03-07T20:00:00Z");
 			Instant expectedCheckOutAt = Instant.parse("2026-03-09T15:00:00Z");
-			then(reservationRepository).should().existsConflictingReservation(
-				accommodation.getId(), dstRequest.checkInDate(), dstRequest.checkOutDate(), NOW);
+			then(nightLedger).should().claim(accommodation.getId(), result.getId(),
+				dstRequest.checkInDate(), dstRequest.checkOutDate(), result.getExpiresAt(), NOW);
 			assertThat(result.getCheckInAt()).isEqualTo(expectedCheckInAt);
 			assertThat(result.getCheckOutAt()).isEqualTo(expectedCheckOutAt);
 		}
@@ -411,7 +420,7 @@ class ReservationTransactionServiceTest {
 			// given
 			given(memberRepository.findByIdAndStatus(memberId, MemberStatus.ACTIVE))
 				.willReturn(Optional.of(guest));
-			given(accommodationRepository.findByIdAndStatusForUpdate(
+			given(accommodationRepository.findByIdAndStatusForShare(
 				validRequest.accommodationId(), AccommodationStatus.PUBLISHED))
 				.willReturn(Optional.empty());
 
@@ -433,7 +442,7 @@ class ReservationTransactionServiceTest {
 			);
 			given(memberRepository.findByIdAndStatus(memberId, MemberStatus.ACTIVE))
 				.willReturn(Optional.of(guest));
-			given(accommodationRepository.findByIdAndStatusForUpdate(
+			given(accommodationRepository.findByIdAndStatusForShare(
 				invalidRequest.accommodationId(), AccommodationStatus.PUBLISHED))
 				.willReturn(Optional.of(accommodation));
 
@@ -458,7 +467,7 @@ class ReservationTransactionServiceTest {
 			);
 			given(memberRepository.findByIdAndStatus(memberId, MemberStatus.ACTIVE))
 				.willReturn(Optional.of(guest));
-			given(accommodationRepository.findByIdAndStatusForUpdate(
+			given(accommodationRepository.findByIdAndStatusForShare(
 				outsideRequest.accommodationId(), AccommodationStatus.PUBLISHED))
 				.willReturn(Optional.of(accommodation));
 
@@ -476,6 +485,27 @@ class ReservationTransactionServiceTest {
 		@DisplayName("날짜가 충돌하면 ReservationConflictException이 발생한다")
 		void 예외_날짜_충돌() {
 			// given
+			given(memberRepository.findByIdAndStatus(memberId, MemberStatus.ACTIVE))
+				.willReturn(Optional.of(guest));
+			given(accommodationRepository.findByIdAndStatusForShare(
+				validRequest.accommodationId(), AccommodationStatus.PUBLISHED))
+				.willReturn(Optional.of(accommodation));
+			given(reservationRepository.existsByReservationCode(anyString())).willReturn(false);
+			given(nightLedger.claim(any(), any(), any(), any(), any(), any())).willReturn(false);
+
+			// when & then
+			assertThatThrownBy(() -> transactionService.createPendingReservationInTx(validRequest, memberId, "사용자 예약 생성"))
+				.isInstanceOf(ReservationConflictException.class);
+
+			then(reservationRepository).should(never()).existsConflictingReservation(any(), any(), any(), any());
+			then(historyRepository).shouldHaveNoInteractions();
+			then(outboxEventPublisher).shouldHaveNoInteractions();
+		}
+
+		@Test
+		@DisplayName("행 락 모드에서는 숙소 행 배타 락과 기간 범위 검사로 충돌을 거부한다")
+		void rowLockModeRejectsConflictWithRangeScan() {
+			ReservationTransactionService rowLockService = transactionService(ReservationInventoryLockMode.ROW_LOCK);
 			given(memberRepository.findByIdAndStatus(memberId, MemberStatus.ACTIVE))
 				.willReturn(Optional.of(guest));
 			given(accommodationRepository.findByIdAndStatusForUpdate(
@@ -485,17 +515,17 @@ class ReservationTransactionServiceTest {
 				anyLong(), any(LocalDate.class), any(LocalDate.class), any(Instant.class)))
 				.willReturn(true);
 
-			// when & then
-			assertThatThrownBy(() -> transactionService.createPendingReservationInTx(validRequest, memberId, "사용자 예약 생성"))
+			assertThatThrownBy(() -> rowLockService.createPendingReservationInTx(validRequest, memberId, "사용자 예약 생성"))
 				.isInstanceOf(ReservationConflictException.class);
 
 			then(reservationRepository).should(never()).save(any());
+			then(nightLedger).shouldHaveNoInteractions();
 		}
 
 		@Test
-		@DisplayName("예약 코드가 중복되면 재생성한다")
-		void 예약코드_중복시_재생성() {
-			// given
+		@DisplayName("행 락 모드에서도 충돌 검사를 통과한 예약의 숙박일을 원장에 기록한다")
+		void rowLockModeStillRecordsNights() {
+			ReservationTransactionService rowLockService = transactionService(ReservationInventoryLockMode.ROW_LOCK);
 			given(memberRepository.findByIdAndStatus(memberId, MemberStatus.ACTIVE))
 				.willReturn(Optional.of(guest));
 			given(accommodationRepository.findByIdAndStatusForUpdate(
@@ -504,6 +534,32 @@ class ReservationTransactionServiceTest {
 			given(reservationRepository.existsConflictingReservation(
 				anyLong(), any(LocalDate.class), any(LocalDate.class), any(Instant.class)))
 				.willReturn(false);
+			given(reservationRepository.existsByReservationCode(anyString())).willReturn(false);
+			given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> {
+				Reservation reservation = invocation.getArgument(0);
+				java.lang.reflect.Field uidField = Reservation.class.getDeclaredField("reservationUid");
+				uidField.setAccessible(true);
+				uidField.set(reservation, UUID.randomUUID());
+				return reservation;
+			});
+
+			Reservation result = rowLockService.createPendingReservationInTx(validRequest, memberId, "사용자 예약 생성");
+
+			then(nightLedger).should().overwrite(accommodation.getId(), result.getId(),
+				validRequest.checkInDate(), validRequest.checkOutDate(), result.getExpiresAt(), NOW);
+			then(nightLedger).should(never()).claim(any(), any(), any(), any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("예약 코드가 중복되면 재생성한다")
+		void 예약코드_중복시_재생성() {
+			// given
+			given(memberRepository.findByIdAndStatus(memberId, MemberStatus.ACTIVE))
+				.willReturn(Optional.of(guest));
+			given(accommodationRepository.findByIdAndStatusForShare(
+				validRequest.accommodationId(), AccommodationStatus.PUBLISHED))
+				.willReturn(Optional.of(accommodation));
+			given(nightLedger.claim(any(), any(), any(), any(), any(), any())).willReturn(true);
 			// 첫 번째 코드는 중복, 두 번째는 유일
 			given(reservationRepository.existsByReservationCode(anyString()))
 				.willReturn(true)
@@ -551,6 +607,7 @@ class ReservationTransactionServiceTest {
 			assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
 			then(paymentRepository).shouldHaveNoInteractions();
 			then(couponUsageService).should(times(1)).restore(reservation.getId());
+			then(nightLedger).should(times(1)).release(reservation.getId());
 			then(historyRepository).should(times(1)).save(historyCaptor.capture());
 			assertThat(historyCaptor.getValue().getChangeType()).isEqualTo(ChangeType.CANCEL);
 			then(outboxEventPublisher).should(never())
@@ -726,6 +783,7 @@ class ReservationTransactionServiceTest {
 
 			assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
 			then(couponUsageService).should().restore(reservation.getId());
+			then(nightLedger).should().release(reservation.getId());
 			then(historyRepository).should().save(historyCaptor.capture());
 			assertThat(historyCaptor.getValue().getStatus()).isEqualTo(ReservationStatus.CANCELLED);
 			assertThat(historyCaptor.getValue().getChangeType()).isEqualTo(ChangeType.CANCEL);
@@ -901,6 +959,8 @@ class ReservationTransactionServiceTest {
 
 			assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CANCELLATION_FAILED);
 			then(couponUsageService).should().reuse(reservation.getId());
+			then(nightLedger).should().claim(accommodation.getId(), reservation.getId(),
+				reservation.getCheckInDate(), reservation.getCheckOutDate(), null, NOW);
 			then(historyRepository).should().save(historyCaptor.capture());
 			assertThat(historyCaptor.getValue().getStatus()).isEqualTo(ReservationStatus.CANCELLATION_FAILED);
 			var lockOrder = inOrder(reservationRepository, paymentRepository);
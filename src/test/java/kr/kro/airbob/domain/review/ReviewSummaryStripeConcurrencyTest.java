@@ -0,0 +1,269 @@
+package kr.kro.airbob.domain.review;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import io.awspring.cloud.s3.S3Template;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.domain.review.dto.ReviewResponse;
+import kr.kro.airbob.domain.review.repository.AccommodationReviewSummaryRepository;
+import kr.kro.airbob.domain.review.repository.ReviewSummaryStripeRepository;
+import kr.kro.airbob.domain.review.summary.ReviewSummaryRollupService;
+import kr.kro.airbob.domain.review.summary.ReviewSummaryStripeCounter;
+import kr.kro.airbob.domain.review.summary.ReviewSummaryStripeProperties;
+import kr.kro.airbob.search.repository.AccommodationSearchRepository;
+
+@Testcontainers
+@SpringBootTest(properties = "spring.cloud.aws.s3.enabled=false")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("리뷰 요약 stripe 증감·롤업 동시성 테스트")
+class ReviewSummaryStripeConcurrencyTest {
+
+	private static final int THREAD_COUNT = 16;
+	private static final int WRITES_PER_THREAD = 25;
+	// 요약 갱신 뒤 리뷰 INSERT·outbox 기록 등 같은 트랜잭션의 나머지 작업이 락을 쥐고 있는 시간
+	private static final long TRANSACTION_TAIL_MILLIS = 5;
+
+	@Autowired private AccommodationReviewSummaryRepository summaryRepository;
+	@Autowired private ReviewSummaryStripeRepository stripeRepository;
+	@Autowired private JdbcTemplate jdbc;
+	@Autowired private PlatformTransactionManager txManager;
+
+	@MockitoBean private ElasticsearchClient elasticsearchClient;
+	@MockitoBean private ElasticsearchOperations elasticsearchOperations;
+	@MockitoBean private AccommodationSearchRepository accommodationSearchRepository;
+	@MockitoBean private S3Template s3Template;
+
+	@Container
+	private static final MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+		.withDatabaseName("airbobdb_test");
+
+	@Container
+	private static final GenericContainer<?> redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+		.withExposedPorts(6379);
+
+	@DynamicPropertySource
+	static void setProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", mySQLContainer::getUsername);
+		registry.add("spring.datasource.password", mySQLContainer::getPassword);
+		registry.add("spring.flyway.url", mySQLContainer::getJdbcUrl);
+		registry.add("spring.flyway.user", mySQLContainer::getUsername);
+		registry.add("spring.flyway.password", mySQLContainer::getPassword);
+		registry.add("spring.data.redis.host", redisContainer::getHost);
+		registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379).toString());
+		registry.add("spring.datasource.hikari.maximum-pool-size", () -> String.valueOf(THREAD_COUNT + 4));
+	}
+
+	private TransactionTemplate tx;
+	private ReviewSummaryStripeCounter stripeCounter;
+	private ReviewSummaryRollupService rollupService;
+	private long accId;
+
+	@BeforeEach
+	void setup() {
+		clean();
+		tx = new TransactionTemplate(txManager);
+		ReviewSummaryStripeProperties properties = new ReviewSummaryStripeProperties(true, 8, 500);
+		stripeCounter = new ReviewSummaryStripeCounter(stripeRepository, properties);
+		rollupService = new ReviewSummaryRollupService(
+			stripeRepository, summaryRepository, properties, txManager, new SimpleMeterRegistry());
+		long host = insertMember("host");
+		accId = insertAccommodation(host);
+	}
+
+	@AfterEach
+	void tearDown() {
+		clean();
+	}
+
+	@Test
+	@DisplayName("한 숙소에 몰린 리뷰 작성 처리량을 요약 행 직접 갱신과 stripe 증감으로 비교한다")
+	void compareHotListingWriteThroughput() throws InterruptedException {
+		long directMillis = runConcurrentWrites(() -> summaryRepository.applyNewReview(accId, 4));
+		assertSummary(THREAD_COUNT * WRITES_PER_THREAD, 4L * THREAD_COUNT * WRITES_PER_THREAD);
+
+		clean();
+		accId = insertAccommodation(insertMember("host"));
+
+		long stripeMillis = runConcurrentWrites(() -> stripeCounter.record(accId, 1, 4));
+		rollupService.rollupPending();
+		assertSummary(THREAD_COUNT * WRITES_PER_THREAD, 4L * THREAD_COUNT * WRITES_PER_THREAD);
+
+		int writes = THREAD_COUNT * WRITES_PER_THREAD;
+		System.out.println("======================================");
+		System.out.println("인기 숙소 리뷰 요약 쓰기 처리량 비교");
+		System.out.println("스레드 수: " + THREAD_COUNT + ", 총 쓰기: " + writes
+			+ ", 트랜잭션 잔여 작업: " + TRANSACTION_TAIL_MILLIS + "ms");
+		System.out.printf("요약 행 직접 갱신: %dms (%.1f writes/s)%n", directMillis, writes * 1000.0 / directMillis);
+		System.out.printf("stripe 증감(8줄): %dms (%.1f writes/s)%n", stripeMillis, writes * 1000.0 / stripeMillis);
+		System.out.println("======================================");
+	}
+
+	@Test
+	@DisplayName("합산 조회는 롤업 전후와 작성·수정·삭제가 섞인 뒤에도 같은 값을 돌려준다")
+	void mergedReadIsStableAcrossRollup() throws InterruptedException {
+		// 이미 롤업된 요약 행 2건(합 9) 위에 stripe 증감을 쌓는다
+		tx.executeWithoutResult(s -> {
+			summaryRepository.applyNewReview(accId, 5);
+			summaryRepository.applyNewReview(accId, 4);
+		});
+		runConcurrentWrites(() -> stripeCounter.record(accId, 1, 3));
+		int created = THREAD_COUNT * WRITES_PER_THREAD;
+		tx.executeWithoutResult(s -> {
+			stripeCounter.record(accId, 0, 5 - 3);  // 평점 수정 3 → 5
+			stripeCounter.record(accId, -1, -4);    // 요약 행에 있던 평점 4 리뷰 삭제
+		});
+
+		long expectedCount = 2L + created - 1;
+		long expectedSum = 9L + 3L * created + 2 - 4;
+		ReviewResponse.ReviewSummary beforeRollup = stripeCounter.find(accId);
+		assertThat(beforeRollup.totalCount()).isEqualTo((int)expectedCount);
+
+		// 롤업과 합산 조회를 동시에 돌려 중간 상태가 보이지 않는지 확인한다
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		List<ReviewResponse.ReviewSummary> observed = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch rolledUp = new CountDownLatch(1);
+		pool.submit(() -> {
+			while (rolledUp.getCount() > 0) {
+				observed.add(stripeCounter.find(accId));
+			}
+		});
+		assertThat(rollupService.rollupPending()).isEqualTo(1);
+		rolledUp.countDown();
+		pool.shutdown();
+		assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(observed).allSatisfy(summary -> assertThat(summary).isEqualTo(beforeRollup));
+		assertThat(stripeCounter.find(accId)).isEqualTo(beforeRollup);
+		assertSummary(expectedCount, expectedSum);
+		assertThat(beforeRollup.averageRating()).isEqualByComparingTo(
+			BigDecimal.valueOf(expectedSum).divide(BigDecimal.valueOf(expectedCount), 2, RoundingMode.HALF_UP));
+		Integer stripeRows = jdbc.queryForObject(
+			"SELECT COUNT(*) FROM accommodation_review_summary_stripe WHERE accommodation_id = ?", Integer.class, accId);
+		assertThat(stripeRows).isZero();
+	}
+
+	@Test
+	@DisplayName("모든 리뷰가 삭제된 증감분을 롤업하면 요약 행을 지운다")
+	void rollupRemovesEmptySummary() {
+		tx.executeWithoutResult(s -> summaryRepository.applyNewReview(accId, 5));
+		stripeCounter.record(accId, -1, -5);
+
+		assertThat(stripeCounter.find(accId).totalCount()).isZero();
+		rollupService.rollupPending();
+
+		Integer rowCount = jdbc.queryForObject(
+			"SELECT COUNT(*) FROM accommodation_review_summary WHERE accommodation_id = ?", Integer.class, accId);
+		assertThat(rowCount).isZero();
+		assertThat(stripeCounter.findAll(List.of(accId))).isEmpty();
+	}
+
+	// ===== helpers =====
+
+	private long runConcurrentWrites(Runnable write) throws InterruptedException {
+		ExecutorService pool = Executors.newFixedThreadPool(THREAD_COUNT);
+		CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+		List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			pool.submit(() -> {
+				ready.countDown();
+				try {
+					start.await();
+					for (int j = 0; j < WRITES_PER_THREAD; j++) {
+						tx.executeWithoutResult(s -> {
+							write.run();
+							sleepTransactionTail();
+						});
+					}
+				} catch (Throwable t) {
+					errors.add(t);
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		ready.await();
+		long startedAt = System.nanoTime();
+		start.countDown();
+		assertThat(done.await(120, TimeUnit.SECONDS)).isTrue();
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+		pool.shutdownNow();
+
+		assertThat(errors).isEmpty();
+		return Math.max(1L, elapsedMillis);
+	}
+
+	private static void sleepTransactionTail() {
+		try {
+			Thread.sleep(TRANSACTION_TAIL_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void assertSummary(long expectedCount, long expectedSum) {
+		Map<String, Object> row = jdbc.queryForMap(
+			"SELECT total_review_count, rating_sum FROM accommodation_review_summary WHERE accommodation_id = ?", accId);
+		assertThat(((Number)row.get("total_review_count")).longValue()).isEqualTo(expectedCount);
+		assertThat(((Number)row.get("rating_sum")).longValue()).isEqualTo(expectedSum);
+	}
+
+	private void clean() {
+		jdbc.update("DELETE FROM accommodation_review_summary_stripe");
+		jdbc.update("DELETE FROM accommodation_review_summary");
+		jdbc.update("DELETE FROM accommodation");
+		jdbc.update("DELETE FROM member");
+	}
+
+	private long insertMember(String nickname) {
+		jdbc.update("INSERT INTO member (nickname, status, updated_at) VALUES (?, 'ACTIVE', NOW(6))", nickname);
+		return jdbc.queryForObject("SELECT id FROM member ORDER BY id DESC LIMIT 1", Long.class);
+	}
+
+	private long insertAccommodation(long memberId) {
+		jdbc.update("""
+			INSERT INTO accommodation
+				(member_id, check_in_time, check_out_time, accommodation_uid, status, base_price, updated_at)
+			VALUES (?, '15:00:00', '11:00:00', UUID_TO_BIN(UUID()), 'PUBLISHED', 100000, NOW(6))
+			""", memberId);
+		return jdbc.queryForObject("SELECT id FROM accommodation ORDER BY id DESC LIMIT 1", Long.class);
+	}
+}
@@ -39,6 +39,7 @@ import kr.kro.airbob.domain.review.entity.ReviewStatus;
 import kr.kro.airbob.domain.review.repository.AccommodationReviewSummaryRepository;
 import kr.kro.airbob.domain.review.repository.ReviewImageRepository;
 import kr.kro.airbob.domain.review.repository.ReviewRepository;
+import kr.kro.airbob.domain.review.summary.ReviewSummaryStripeCounter;
 import kr.kro.airbob.outbox.OutboxEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +52,7 @@ class ReviewServiceTest {
 	@Mock private ReservationRepository reservationRepository;
 	@Mock private AccommodationRepository accommodationRepository;
 	@Mock private AccommodationReviewSummaryRepository summaryRepository;
+	@Mock private ReviewSummaryStripeCounter summaryStripeCounter;
 	@Mock private CursorPageInfoCreator cursorPageInfoCreator;
 	@Mock private OutboxEventPublisher outboxEventPublisher;
 	@Mock private S3ImageUploader s3ImageUploader;
@@ -125,6 +127,25 @@ class ReviewServiceTest {
 			1L, AccommodationDetailCacheInvalidationReason.REVIEW);
 	}
 
+	@Test
+	@DisplayName("stripe 모드에서는 평점 수정과 삭제를 요약 행 대신 증감분으로 기록한다")
+	void recordDeltasInsteadOfSummaryRowWhenStripeEnabled() {
+		Review updated = review(10L, 3, accommodation(), member());
+		Review deleted = review(11L, 4, accommodation(), member());
+		when(summaryStripeCounter.enabled()).thenReturn(true);
+		when(reviewRepository.findByIdAndAuthorId(10L, 2L)).thenReturn(Optional.of(updated));
+		when(reviewRepository.findByIdAndAuthorId(11L, 2L)).thenReturn(Optional.of(deleted));
+
+		reviewService.updateReviewContent(10L, new ReviewRequest.Update("수정한 내용", 5), 2L);
+		reviewService.deleteReview(11L, 2L);
+
+		verify(summaryStripeCounter).record(1L, 0, 2);
+		verify(summaryStripeCounter).record(1L, -1, -4);
+		verifyNoInteractions(summaryRepository);
+		verify(cacheInvalidationPublisher, times(2)).publish(
+			1L, AccommodationDetailCacheInvalidationReason.REVIEW);
+	}
+
 	@Test
 	@DisplayName("리뷰 이미지를 추가해도 숙소 상세 캐시는 무효화하지 않는다")
 	void keepDetailCacheWhenReviewImageIsUploaded() throws IOException {
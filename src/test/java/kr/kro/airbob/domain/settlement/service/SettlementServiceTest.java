@@ -17,6 +17,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
@@ -28,6 +29,7 @@ import kr.kro.airbob.domain.settlement.entity.Settlement;
 import kr.kro.airbob.domain.settlement.exception.SettlementMonthNotClosedException;
 import kr.kro.airbob.domain.settlement.repository.SettlementHistoryRepository;
 import kr.kro.airbob.domain.settlement.repository.SettlementRepository;
+import kr.kro.airbob.domain.statistics.aggregation.IncrementalRevenueAggregator;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("정산 시간 정책 테스트")
@@ -39,6 +41,7 @@ class SettlementServiceTest {
 	@Mock private SettlementHistoryRepository settlementHistoryRepository;
 	@Mock private RedissonClient redissonClient;
 	@Mock private PlatformTransactionManager transactionManager;
+	@Mock private IncrementalRevenueAggregator revenueAggregator;
 	@Mock private RLock lock;
 	@Mock private TransactionStatus transactionStatus;
 
@@ -52,6 +55,7 @@ class SettlementServiceTest {
 			settlementHistoryRepository,
 			redissonClient,
 			transactionManager,
+			revenueAggregator,
 			clock
 		);
 	}
@@ -121,6 +125,24 @@ class SettlementServiceTest {
 		verify(lock, never()).isHeldByCurrentThread();
 	}
 
+	@Test
+	@DisplayName("누적 집계를 쓰면 남은 원장을 반영하고 월 누적 행을 다시 맞춘 뒤 정산을 만든다")
+	void generatesFromRunningAggregatesWhenIncrementalAggregationEnabled() throws InterruptedException {
+		YearMonth month = YearMonth.of(2098, 12);
+		givenAcquiredGenerationLock(month);
+		when(revenueAggregator.enabled()).thenReturn(true);
+		when(settlementRepository.findRunningAggregatesForMonth(month.atDay(1))).thenReturn(List.of());
+
+		settlementService.generateMonth(month);
+
+		InOrder order = inOrder(lock, revenueAggregator, settlementRepository);
+		order.verify(lock).tryLock(5, TimeUnit.SECONDS);
+		order.verify(revenueAggregator).foldPending();
+		order.verify(revenueAggregator).reconcileMonth(month);
+		order.verify(settlementRepository).findRunningAggregatesForMonth(month.atDay(1));
+		verify(settlementRepository, never()).aggregateByHostForMonth(any(), any());
+	}
+
 	@Test
 	@DisplayName("월 정산 락을 얻지 못하면 해제를 시도하지 않는다")
 	void doesNotReleaseGenerationLockWhenAcquisitionTimesOut() throws InterruptedException {
@@ -0,0 +1,329 @@
+package kr.kro.airbob.domain.statistics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import io.awspring.cloud.s3.S3Template;
+import kr.kro.airbob.domain.settlement.service.SettlementService;
+import kr.kro.airbob.domain.statistics.aggregation.IncrementalRevenueAggregator;
+import kr.kro.airbob.domain.statistics.service.RevenueStatsService;
+import kr.kro.airbob.search.repository.AccommodationSearchRepository;
+
+@Testcontainers
+@SpringBootTest(properties = {
+	"spring.cloud.aws.s3.enabled=false",
+	"revenue.incremental-aggregation.enabled=true",
+	"revenue.incremental-aggregation.batch-size=2",
+	"revenue.incremental-aggregation.safety-lag=1h"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("결제 원장 매출 누적 집계 통합 테스트")
+class IncrementalRevenueAggregationIntegrationTest {
+
+	@Autowired private IncrementalRevenueAggregator aggregator;
+	@Autowired private RevenueStatsService revenueStatsService;
+	@Autowired private SettlementService settlementService;
+	@Autowired private JdbcTemplate jdbc;
+
+	@MockitoBean private ElasticsearchClient elasticsearchClient;
+	@MockitoBean private ElasticsearchOperations elasticsearchOperations;
+	@MockitoBean private AccommodationSearchRepository accommodationSearchRepository;
+	@MockitoBean private S3Template s3Template;
+
+	@Container
+	private static final MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+		.withDatabaseName("airbobdb_test");
+
+	@Container
+	private static final GenericContainer<?> redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+		.withExposedPorts(6379);
+
+	@DynamicPropertySource
+	static void setProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", mySQLContainer::getUsername);
+		registry.add("spring.datasource.password", mySQLContainer::getPassword);
+		registry.add("spring.flyway.url", mySQLContainer::getJdbcUrl);
+		registry.add("spring.flyway.user", mySQLContainer::getUsername);
+		registry.add("spring.flyway.password", mySQLContainer::getPassword);
+		registry.add("spring.data.redis.host", redisContainer::getHost);
+		registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379).toString());
+	}
+
+	private static final LocalDate D1 = LocalDate.of(2026, 6, 10);
+	private static final LocalDate D2 = LocalDate.of(2026, 6, 11);
+	private static final LocalDate JUNE_1 = LocalDate.of(2026, 6, 1);
+
+	private long host;
+	private long acc1;
+	private long acc2;
+	private long r1;
+	private long r3;
+
+	@BeforeEach
+	void setup() {
+		clean();
+		host = insertMember("host");
+		acc1 = insertAccommodation(host);
+		acc2 = insertAccommodation(host);
+
+		// D1: acc1 CONFIRM 10000 + 20000, acc2 CONFIRM 50000 / D2: acc1 PARTIAL_CANCEL 5000
+		r1 = insertReservation("R1", acc1, host);
+		long r2 = insertReservation("R2", acc1, host);
+		r3 = insertReservation("R3", acc2, host);
+		insertConfirm(r1, 10000, D1.atTime(12, 0));
+		insertConfirm(r2, 20000, D1.atTime(12, 0));
+		insertConfirm(r3, 50000, D1.atTime(12, 0));
+		insertCancel(r1, 5000, D2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		clean();
+	}
+
+	@Test
+	@DisplayName("커서가 없으면 원장 전체로 기준선을 만들고, 결과는 일자별 재집계와 같다")
+	void baselineMatchesFullRecompute() {
+		aggregator.foldPending();
+
+		assertRow(D1, acc1, 30000, 0, 30000, 2, 0);
+		assertRow(D1, acc2, 50000, 0, 50000, 1, 0);
+		assertRow(D2, acc1, 0, 5000, -5000, 0, 1);
+		assertMonthly(80000, 5000, 75000, 3, 1);
+		assertThat(cursor()).isEqualTo(maxTransactionId());
+
+		jdbc.update("DELETE FROM daily_revenue_stats");
+		jdbc.update("DELETE FROM revenue_aggregation_cursor");
+		revenueStatsService.backfill(D1, D2);
+		assertRow(D1, acc1, 30000, 0, 30000, 2, 0);
+		assertRow(D2, acc1, 0, 5000, -5000, 0, 1);
+	}
+
+	@Test
+	@DisplayName("기준선 이후 원장은 배치 크기만큼 나눠 일일·월 누적 행에 더한다")
+	void foldsNewLedgerRowsIncrementally() {
+		aggregator.foldPending();
+
+		insertConfirm(r3, 7000, D2.atTime(10, 0));
+		insertConfirm(r3, 3000, D2.atTime(11, 0));
+		insertCancel(r3, 2000, D2);
+		insertFail(r3);
+
+		int folded = aggregator.foldPending();
+
+		assertThat(folded).isEqualTo(4);
+		assertRow(D2, acc2, 10000, 2000, 8000, 2, 1);
+		assertMonthly(90000, 7000, 83000, 5, 2);
+		assertThat(cursor()).isEqualTo(maxTransactionId());
+	}
+
+	@Test
+	@DisplayName("safety-lag 보다 최근 원장은 반영하지 않고 커서도 넘기지 않는다")
+	void leavesRecentLedgerRowsForNextRun() {
+		aggregator.foldPending();
+		long baseline = cursor();
+
+		insertConfirm(r3, 7000, LocalDateTime.now(ZoneOffset.UTC));
+
+		assertThat(aggregator.foldPending()).isZero();
+		assertThat(cursor()).isEqualTo(baseline);
+		assertMonthly(80000, 5000, 75000, 3, 1);
+	}
+
+	@Test
+	@DisplayName("재집계는 커서 이후 원장을 빼고 집계해, 이후 누적 반영과 겹치지 않는다")
+	void recomputeStaysConsistentWithCursor() {
+		aggregator.foldPending();
+		insertConfirm(r1, 40000, D1.atTime(18, 0));
+
+		revenueStatsService.recompute(D1);
+		assertRow(D1, acc1, 30000, 0, 30000, 2, 0);
+
+		aggregator.foldPending();
+		revenueStatsService.recompute(D1);
+		assertRow(D1, acc1, 70000, 0, 70000, 3, 0);
+	}
+
+	@Test
+	@DisplayName("월 정산은 남은 원장을 반영한 뒤 월 누적 행으로 만든다")
+	void generateMonthReadsRunningAggregates() {
+		aggregator.foldPending();
+		insertConfirm(r3, 20000, D2.atTime(10, 0));
+
+		settlementService.generateMonth(YearMonth.of(2026, 6));
+
+		var row = jdbc.queryForMap(
+			"SELECT gross_amount, refund_amount, net_amount FROM settlement WHERE host_id = ? AND settlement_month = ?",
+			host, JUNE_1);
+		assertThat(((Number)row.get("gross_amount")).longValue()).isEqualTo(100000);
+		assertThat(((Number)row.get("refund_amount")).longValue()).isEqualTo(5000);
+		assertThat(((Number)row.get("net_amount")).longValue()).isEqualTo(95000);
+	}
+
+	@Test
+	@DisplayName("월 정산은 커서가 건너뛴 늦은 커밋 원장까지 월 누적 행에 담아 확정한다")
+	void generateMonthIncludesLedgerSkippedByCursor() {
+		aggregator.foldPending();
+		insertConfirm(r3, 20000, D2.atTime(10, 0));
+		// 작은 id 로 늦게 커밋돼 커서가 이미 지나간 원장
+		jdbc.update("UPDATE revenue_aggregation_cursor SET last_transaction_id = ?", maxTransactionId());
+
+		settlementService.generateMonth(YearMonth.of(2026, 6));
+
+		assertMonthly(100000, 5000, 95000, 4, 1);
+		var row = jdbc.queryForMap(
+			"SELECT gross_amount, net_amount FROM settlement WHERE host_id = ? AND settlement_month = ?",
+			host, JUNE_1);
+		assertThat(((Number)row.get("gross_amount")).longValue()).isEqualTo(100000);
+		assertThat(((Number)row.get("net_amount")).longValue()).isEqualTo(95000);
+	}
+
+	@Test
+	@DisplayName("정산 백필은 어긋난 월 누적 행을 커서 이하 원장으로 다시 맞춘 뒤 정산을 만든다")
+	void settlementBackfillReconcilesDriftedMonthlyAggregates() {
+		aggregator.foldPending();
+		jdbc.update("UPDATE host_monthly_revenue SET gross_amount = 0, net_amount = 0, payment_count = 0");
+		insertConfirm(r3, 20000, D2.atTime(10, 0));
+
+		settlementService.backfill(YearMonth.of(2026, 6), YearMonth.of(2026, 6));
+
+		assertMonthly(100000, 5000, 95000, 4, 1);
+		var row = jdbc.queryForMap(
+			"SELECT gross_amount, net_amount FROM settlement WHERE host_id = ? AND settlement_month = ?",
+			host, JUNE_1);
+		assertThat(((Number)row.get("gross_amount")).longValue()).isEqualTo(100000);
+		assertThat(((Number)row.get("net_amount")).longValue()).isEqualTo(95000);
+	}
+
+	@Test
+	@DisplayName("일자 백필은 걸친 달의 월 누적 행도 원장 기준으로 다시 맞춘다")
+	void revenueBackfillReconcilesMonthlyAggregates() {
+		aggregator.foldPending();
+		jdbc.update("DELETE FROM host_monthly_revenue");
+
+		revenueStatsService.backfill(D1, D2);
+
+		assertMonthly(80000, 5000, 75000, 3, 1);
+	}
+
+	// ===== helpers =====
+
+	private void assertRow(LocalDate d, long accId, long gross, long refund, long net, int payCnt, int refundCnt) {
+		var row = jdbc.queryForMap(
+			"SELECT gross_amount, refund_amount, net_amount, payment_count, refund_count "
+				+ "FROM daily_revenue_stats WHERE stat_date = ? AND accommodation_id = ?", d, accId);
+		assertThat(((Number)row.get("gross_amount")).longValue()).isEqualTo(gross);
+		assertThat(((Number)row.get("refund_amount")).longValue()).isEqualTo(refund);
+		assertThat(((Number)row.get("net_amount")).longValue()).isEqualTo(net);
+		assertThat(((Number)row.get("payment_count")).intValue()).isEqualTo(payCnt);
+		assertThat(((Number)row.get("refund_count")).intValue()).isEqualTo(refundCnt);
+	}
+
+	private void assertMonthly(long gross, long refund, long net, int payCnt, int refundCnt) {
+		var row = jdbc.queryForMap(
+			"SELECT gross_amount, refund_amount, net_amount, payment_count, refund_count "
+				+ "FROM host_monthly_revenue WHERE host_id = ? AND revenue_month = ?", host, JUNE_1);
+		assertThat(((Number)row.get("gross_amount")).longValue()).isEqualTo(gross);
+		assertThat(((Number)row.get("refund_amount")).longValue()).isEqualTo(refund);
+		assertThat(((Number)row.get("net_amount")).longValue()).isEqualTo(net);
+		assertThat(((Number)row.get("payment_count")).intValue()).isEqualTo(payCnt);
+		assertThat(((Number)row.get("refund_count")).intValue()).isEqualTo(refundCnt);
+	}
+
+	private long cursor() {
+		return jdbc.queryForObject("SELECT last_transaction_id FROM revenue_aggregation_cursor", Long.class);
+	}
+
+	private long maxTransactionId() {
+		return jdbc.queryForObject("SELECT MAX(id) FROM payment_transaction", Long.class);
+	}
+
+	private void clean() {
+		jdbc.update("DELETE FROM revenue_aggregation_cursor");
+		jdbc.update("DELETE FROM host_monthly_revenue");
+		jdbc.update("DELETE FROM daily_revenue_stats");
+		jdbc.update("DELETE FROM settlement_history");
+		jdbc.update("DELETE FROM settlement");
+		jdbc.update("DELETE FROM payment_transaction");
+		jdbc.update("DELETE FROM reservation");
+		jdbc.update("DELETE FROM accommodation");
+		jdbc.update("DELETE FROM member");
+	}
+
+	private long insertMember(String nickname) {
+		jdbc.update("INSERT INTO member (nickname, status, updated_at) VALUES (?, 'ACTIVE', NOW(6))", nickname);
+		return jdbc.queryForObject("SELECT id FROM member ORDER BY id DESC LIMIT 1", Long.class);
+	}
+
+	private long insertAccommodation(long memberId) {
+		jdbc.update("""
+			INSERT INTO accommodation
+				(member_id, check_in_time, check_out_time, accommodation_uid, status, base_price, updated_at)
+			VALUES (?, '15:00:00', '11:00:00', UUID_TO_BIN(UUID()), 'PUBLISHED', 100000, NOW(6))
+			""", memberId);
+		return jdbc.queryForObject("SELECT id FROM accommodation ORDER BY id DESC LIMIT 1", Long.class);
+	}
+
+	private long insertReservation(String code, long accommodationId, long guestId) {
+		jdbc.update("""
+			INSERT INTO reservation
+				(reservation_uid, reservation_code, accommodation_id, guest_id,
+				 check_in_date, check_out_date, check_in_at, check_out_at, time_zone_id,
+				 guest_count, total_price, status, expires_at, currency, created_at, updated_at)
+			VALUES (UUID_TO_BIN(UUID()), ?, ?, ?,
+				 '2026-07-01', '2026-07-03', '2026-07-01 15:00:00', '2026-07-03 11:00:00', 'UTC',
+				 2, 200000, 'CONFIRMED', '2026-07-01 00:00:00', 'KRW', NOW(6), NOW(6))
+			""", code, accommodationId, guestId);
+		return jdbc.queryForObject("SELECT id FROM reservation WHERE reservation_code = ?", Long.class, code);
+	}
+
+	private void insertConfirm(long reservationId, long amount, LocalDateTime createdAt) {
+		jdbc.update("""
+			INSERT INTO payment_transaction
+				(reservation_id, transaction_type, status, amount, created_at, updated_at)
+			VALUES (?, 'CONFIRM', 'DONE', ?, ?, NOW(6))
+			""", reservationId, amount, createdAt);
+	}
+
+	private void insertCancel(long reservationId, long cancelAmount, LocalDate canceledDate) {
+		jdbc.update("""
+			INSERT INTO payment_transaction
+				(reservation_id, transaction_type, status, cancel_amount, canceled_at, created_at, updated_at)
+			VALUES (?, 'PARTIAL_CANCEL', 'PARTIAL_CANCELED', ?, ?, ?, NOW(6))
+			""", reservationId, cancelAmount, canceledDate.atTime(9, 0), canceledDate.atTime(9, 0));
+	}
+
+	private void insertFail(long reservationId) {
+		jdbc.update("""
+			INSERT INTO payment_transaction
+				(reservation_id, transaction_type, status, created_at, updated_at)
+			VALUES (?, 'FAIL', 'ABORTED', ?, NOW(6))
+			""", reservationId, D2.atTime(12, 0));
+	}
+}
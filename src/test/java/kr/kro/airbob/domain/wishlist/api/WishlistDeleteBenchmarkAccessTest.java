@@ -4,14 +4,14 @@ import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -25,6 +25,7 @@ import kr.kro.airbob.common.exception.GlobalExceptionHandler;
 import kr.kro.airbob.domain.auth.filter.SessionAuthFilter;
 import kr.kro.airbob.domain.auth.interceptor.AdminAuthInterceptor;
 import kr.kro.airbob.domain.auth.resolver.CurrentMemberIdArgumentResolver;
+import kr.kro.airbob.domain.auth.session.SessionResolver;
 import kr.kro.airbob.domain.member.common.MemberRole;
 import kr.kro.airbob.domain.member.entity.MemberStatus;
 import kr.kro.airbob.domain.member.repository.MemberRepository;
@@ -40,8 +41,7 @@ class WishlistDeleteBenchmarkAccessTest {
 	private static final String PATH = "/api/v2/admin/benchmarks/bulk-write/wishlist-delete";
 
 	@Mock private WishlistDeleteBenchmarkService benchmarkService;
-	@Mock private RedisTemplate<String, Object> redisTemplate;
-	@Mock private ValueOperations<String, Object> valueOperations;
+	@Mock private SessionResolver sessionResolver;
 	@Mock private MemberRepository memberRepository;
 
 	private MockMvc mockMvc;
@@ -50,7 +50,7 @@ class WishlistDeleteBenchmarkAccessTest {
 	void setUp() {
 		ObjectMapper objectMapper = new ObjectMapper()
 			.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
-		SessionAuthFilter sessionAuthFilter = new SessionAuthFilter(redisTemplate, objectMapper);
+		SessionAuthFilter sessionAuthFilter = new SessionAuthFilter(sessionResolver, objectMapper);
 		AdminAuthInterceptor adminAuthInterceptor = new AdminAuthInterceptor(memberRepository);
 		WishlistDeleteBenchmarkController controller = new WishlistDeleteBenchmarkController(
 			benchmarkService,
@@ -177,9 +177,7 @@ class WishlistDeleteBenchmarkAccessTest {
 	}
 
 	private void authenticate(long memberId, MemberRole role) {
-		given(redisTemplate.hasKey("MEMBER_SESSION_ACTIVE:" + memberId)).willReturn(true);
-		given(redisTemplate.opsForValue()).willReturn(valueOperations);
-		given(valueOperations.get("SESSION:valid-session")).willReturn(memberId);
+		given(sessionResolver.resolve("valid-session")).willReturn(Optional.of(memberId));
 		given(memberRepository.existsByIdAndStatusAndRole(
 			memberId, MemberStatus.ACTIVE, MemberRole.ADMIN))
 			.willReturn(role == MemberRole.ADMIN);
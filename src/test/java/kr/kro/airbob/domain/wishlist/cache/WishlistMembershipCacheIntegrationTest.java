@@ -0,0 +1,152 @@
+package kr.kro.airbob.domain.wishlist.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.domain.wishlist.repository.WishlistAccommodationRepository;
+
+@Testcontainers
+@DisplayName("회원 찜 ID 집합 캐시 통합 테스트")
+class WishlistMembershipCacheIntegrationTest {
+
+	private static final Long MEMBER_ID = 7L;
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>(
+		DockerImageName.parse("redis:7.2-alpine"))
+		.withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate redisTemplate;
+
+	private WishlistAccommodationRepository repository;
+	private SimpleMeterRegistry meterRegistry;
+	private WishlistMembershipCache cache;
+
+	@BeforeAll
+	static void setUpClient() {
+		connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void closeClient() {
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+		repository = mock(WishlistAccommodationRepository.class);
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new WishlistMembershipCache(redisTemplate, repository,
+			new WishlistMembershipCacheProperties(true, Duration.ofMinutes(30)), meterRegistry);
+	}
+
+	@Test
+	@DisplayName("집합이 없으면 DB에서 한 번 적재하고 다음 조회는 SMISMEMBER로 응답한다")
+	void loadsOnceThenAnswersFromSet() {
+		given(repository.findAllAccommodationIdsByMemberId(MEMBER_ID)).willReturn(Set.of(1L, 3L));
+
+		Set<Long> first = cache.findWishlisted(MEMBER_ID, List.of(1L, 2L));
+		Set<Long> second = cache.findWishlisted(MEMBER_ID, List.of(2L, 3L, 4L));
+
+		assertThat(first).containsExactly(1L);
+		assertThat(second).containsExactly(3L);
+		then(repository).should(times(1)).findAllAccommodationIdsByMemberId(MEMBER_ID);
+		assertThat(meterRegistry.get(WishlistMembershipCache.LOOKUP_TOTAL)
+			.tag("result", "hit").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("찜한 숙소가 없는 회원도 빈 집합으로 캐시되어 DB를 다시 조회하지 않는다")
+	void cachesEmptyWishlist() {
+		given(repository.findAllAccommodationIdsByMemberId(MEMBER_ID)).willReturn(Set.of());
+
+		cache.findWishlisted(MEMBER_ID, List.of(1L));
+		assertThat(cache.isWishlisted(MEMBER_ID, 1L)).isFalse();
+
+		then(repository).should(times(1)).findAllAccommodationIdsByMemberId(MEMBER_ID);
+	}
+
+	@Test
+	@DisplayName("추가·삭제는 적재된 집합에 바로 반영한다")
+	void appliesAddAndRemoveToLoadedSet() {
+		given(repository.findAllAccommodationIdsByMemberId(MEMBER_ID)).willReturn(Set.of(1L));
+		cache.findWishlisted(MEMBER_ID, List.of(1L));
+
+		cache.add(MEMBER_ID, 2L);
+		cache.remove(MEMBER_ID, 1L);
+
+		assertThat(cache.findWishlisted(MEMBER_ID, List.of(1L, 2L))).containsExactly(2L);
+		then(repository).should(times(1)).findAllAccommodationIdsByMemberId(MEMBER_ID);
+	}
+
+	@Test
+	@DisplayName("적재되지 않은 회원에게 추가하면 집합을 만들지 않고 다음 조회에서 DB로 적재한다")
+	void addDoesNotCreatePartialSet() {
+		cache.add(MEMBER_ID, 2L);
+		given(repository.findAllAccommodationIdsByMemberId(MEMBER_ID)).willReturn(Set.of(1L, 2L));
+
+		assertThat(cache.findWishlisted(MEMBER_ID, List.of(1L, 2L))).containsExactlyInAnyOrder(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("DB 적재 중 찜이 바뀌면 이전 내용으로 만든 집합은 저장하지 않는다")
+	void rejectsStaleLoadWhenChangedDuringLoad() {
+		given(repository.findAllAccommodationIdsByMemberId(MEMBER_ID)).willAnswer(invocation -> {
+			cache.invalidate(MEMBER_ID);
+			return Set.of(1L);
+		}).willReturn(Set.of());
+
+		cache.findWishlisted(MEMBER_ID, List.of(1L));
+
+		assertThat(cache.findWishlisted(MEMBER_ID, List.of(1L))).isEmpty();
+		then(repository).should(times(2)).findAllAccommodationIdsByMemberId(MEMBER_ID);
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시 요청한 숙소만 DB에서 조회한다")
+	void fallsBackToDatabaseWhenRedisFails() {
+		LettuceConnectionFactory brokenFactory = new LettuceConnectionFactory("localhost", 1);
+		brokenFactory.afterPropertiesSet();
+		StringRedisTemplate brokenTemplate = new StringRedisTemplate(brokenFactory);
+		brokenTemplate.afterPropertiesSet();
+		WishlistMembershipCache brokenCache = new WishlistMembershipCache(brokenTemplate, repository,
+			new WishlistMembershipCacheProperties(true, Duration.ofMinutes(30)), meterRegistry);
+		given(repository.findAccommodationIdsByMemberIdAndAccommodationIds(MEMBER_ID, List.of(1L, 2L)))
+			.willReturn(Set.of(2L));
+
+		try {
+			assertThat(brokenCache.findWishlisted(MEMBER_ID, List.of(1L, 2L))).containsExactly(2L);
+		} finally {
+			brokenFactory.destroy();
+		}
+		assertThat(meterRegistry.get(WishlistMembershipCache.LOOKUP_TOTAL)
+			.tag("result", "error").counter().count()).isEqualTo(1.0);
+	}
+}
@@ -0,0 +1,84 @@
+package kr.kro.airbob.kafka.consumer;
+
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+import kr.kro.airbob.domain.accommodation.availability.AccommodationAvailabilityReadModel;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("예약 현황 조회 모델 무효화 Kafka 소비자 테스트")
+class AccommodationAvailabilityEventsConsumerTest {
+
+	private static final UUID ACCOMMODATION_UID =
+		UUID.fromString("109cc081-b87d-4502-9a5e-7d7b65993056");
+
+	@Mock private AccommodationAvailabilityReadModel availabilityReadModel;
+	@Mock private Acknowledgment acknowledgment;
+
+	private AccommodationAvailabilityEventsConsumer consumer;
+
+	@BeforeEach
+	void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper()
+			.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+		consumer = new AccommodationAvailabilityEventsConsumer(
+			new AccommodationIndexingEventParser(objectMapper), availabilityReadModel);
+	}
+
+	@Test
+	@DisplayName("예약 변경 이벤트는 조회 모델을 무효화한 뒤 ACK한다")
+	void invalidatesOnReservationChanged() {
+		consumer.handle(message("RESERVATION_CHANGED"), acknowledgment);
+
+		InOrder order = inOrder(availabilityReadModel, acknowledgment);
+		order.verify(availabilityReadModel).invalidate(ACCOMMODATION_UID);
+		order.verify(acknowledgment).acknowledge();
+	}
+
+	@Test
+	@DisplayName("숙소 삭제 이벤트도 조회 모델을 무효화한다")
+	void invalidatesOnAccommodationDeleted() {
+		consumer.handle(message("ACCOMMODATION_DELETED"), acknowledgment);
+
+		then(availabilityReadModel).should().invalidate(ACCOMMODATION_UID);
+		then(acknowledgment).should().acknowledge();
+	}
+
+	@Test
+	@DisplayName("예약 현황과 무관한 숙소 수정 이벤트는 무효화하지 않고 ACK한다")
+	void ignoresAccommodationUpdated() {
+		consumer.handle(message("ACCOMMODATION_UPDATED"), acknowledgment);
+
+		then(availabilityReadModel).shouldHaveNoInteractions();
+		then(acknowledgment).should().acknowledge();
+	}
+
+	@Test
+	@DisplayName("파싱할 수 없는 메시지는 재시도 없이 ACK한다")
+	void acknowledgesPoisonMessage() {
+		consumer.handle("not-json", acknowledgment);
+
+		then(availabilityReadModel).shouldHaveNoInteractions();
+		then(acknowledgment).should().acknowledge();
+	}
+
+	private static String message(String eventType) {
+		return """
+			{"event_type":"%s","payload":{"accommodation_uid":"%s"}}
+			""".formatted(eventType, ACCOMMODATION_UID);
+	}
+}
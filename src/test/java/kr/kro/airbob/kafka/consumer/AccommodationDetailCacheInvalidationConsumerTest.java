@@ -30,6 +30,7 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 
 import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCache;
 import kr.kro.airbob.domain.accommodation.cache.AccommodationDetailCacheInvalidationReason;
+import kr.kro.airbob.domain.accommodation.card.AccommodationCardReadModel;
 import kr.kro.airbob.outbox.DebeziumEventParser;
 import kr.kro.airbob.outbox.SlackNotificationService;
 
@@ -50,6 +51,7 @@ class AccommodationDetailCacheInvalidationConsumerTest {
 
 	@Mock private AccommodationDetailCache cache;
 	@Mock private SlackNotificationService slackNotificationService;
+	@Mock private AccommodationCardReadModel cardReadModel;
 	@Mock private Acknowledgment acknowledgment;
 
 	private AccommodationDetailCacheInvalidationConsumer consumer;
@@ -60,7 +62,7 @@ class AccommodationDetailCacheInvalidationConsumerTest {
 			.findAndRegisterModules()
 			.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
 		consumer = new AccommodationDetailCacheInvalidationConsumer(
-			new DebeziumEventParser(objectMapper), cache, slackNotificationService);
+			new DebeziumEventParser(objectMapper), cache, slackNotificationService, cardReadModel);
 	}
 
 	@Test
@@ -68,11 +70,22 @@ class AccommodationDetailCacheInvalidationConsumerTest {
 	void evictsThenAcknowledges() {
 		consumer.handle(MESSAGE, acknowledgment);
 
-		InOrder order = inOrder(cache, acknowledgment);
+		InOrder order = inOrder(cache, cardReadModel, acknowledgment);
 		order.verify(cache).evictOrThrow(1L, AccommodationDetailCacheInvalidationReason.IMAGE);
+		order.verify(cardReadModel).invalidate(1L);
 		order.verify(acknowledgment).acknowledge();
 	}
 
+	@Test
+	@DisplayName("목록 카드 삭제가 실패하면 전파하고 ACK하지 않는다")
+	void rethrowsCardInvalidationFailureWithoutAck() {
+		willThrow(new IllegalStateException("redis unavailable")).given(cardReadModel).invalidate(1L);
+
+		assertThatThrownBy(() -> consumer.handle(MESSAGE, acknowledgment))
+			.isInstanceOf(IllegalStateException.class);
+		then(acknowledgment).shouldHaveNoInteractions();
+	}
+
 	@Test
 	@DisplayName("Redis 삭제 실패는 retry 토픽으로 전달되도록 전파하고 ACK하지 않는다")
 	void rethrowsEvictionFailureWithoutAck() {
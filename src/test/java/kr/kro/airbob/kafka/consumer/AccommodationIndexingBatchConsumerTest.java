@@ -0,0 +1,161 @@
+package kr.kro.airbob.kafka.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.kafka.support.Acknowledgment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.search.service.AccommodationBulkIndexingService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("숙소 색인 Kafka 배치 소비자 테스트")
+class AccommodationIndexingBatchConsumerTest {
+
+	private static final String TOPIC = "ACCOMMODATION.events";
+	private static final Instant NOW = Instant.parse("2026-10-18T00:00:10Z");
+	private static final UUID FIRST_UID = UUID.fromString("109cc081-b87d-4502-9a5e-7d7b65993056");
+	private static final UUID SECOND_UID = UUID.fromString("2b0f3c4e-5d6a-4b7c-8d9e-0f1a2b3c4d5e");
+
+	@Mock private AccommodationBulkIndexingService bulkIndexingService;
+	@Mock private Acknowledgment acknowledgment;
+
+	private MockProducer<String, String> producer;
+	private SimpleMeterRegistry meterRegistry;
+	private AccommodationIndexingBatchConsumer consumer;
+
+	@BeforeEach
+	void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper()
+			.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+		producer = new MockProducer<>(true, new StringSerializer(), new StringSerializer());
+		meterRegistry = new SimpleMeterRegistry();
+		consumer = new AccommodationIndexingBatchConsumer(
+			new AccommodationIndexingEventParser(objectMapper),
+			bulkIndexingService,
+			new KafkaTemplate<>(new MockProducerFactory<>(() -> producer)),
+			meterRegistry,
+			Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@Test
+	@DisplayName("같은 UID의 이벤트는 마지막 이벤트 하나로 합쳐 일괄 색인한 뒤 ACK한다")
+	void coalescesDuplicateUidsIntoLastEvent() {
+		given(bulkIndexingService.apply(List.of(SECOND_UID), List.of(FIRST_UID)))
+			.willReturn(new AccommodationBulkIndexingService.Result(1, 1, Set.of()));
+
+		consumer.handle(List.of(
+			record(0, message("ACCOMMODATION_UPDATED", FIRST_UID)),
+			record(1, message("RESERVATION_CHANGED", SECOND_UID)),
+			record(2, message("REVIEW_SUMMARY_CHANGED", SECOND_UID)),
+			record(3, message("ACCOMMODATION_DELETED", FIRST_UID))
+		), acknowledgment);
+
+		InOrder order = inOrder(bulkIndexingService, acknowledgment);
+		order.verify(bulkIndexingService).apply(List.of(SECOND_UID), List.of(FIRST_UID));
+		order.verify(acknowledgment).acknowledge();
+		assertThat(producer.history()).isEmpty();
+		assertThat(meterRegistry.get(AccommodationIndexingBatchConsumer.COALESCED_TOTAL).counter().count())
+			.isEqualTo(2.0);
+		assertThat(meterRegistry.get(AccommodationIndexingBatchConsumer.DOCUMENTS_TOTAL)
+			.tag("result", "indexed").counter().count()).isEqualTo(1.0);
+		assertThat(meterRegistry.get(AccommodationIndexingBatchConsumer.LAG).timer().count()).isEqualTo(4);
+		assertThat(meterRegistry.get(AccommodationIndexingBatchConsumer.LAG).timer().max(TimeUnit.SECONDS))
+			.isEqualTo(10.0);
+	}
+
+	@Test
+	@DisplayName("항목별 실패는 해당 UID의 마지막 레코드만 retry 토픽으로 보내고 ACK한다")
+	void routesOnlyFailedItemsToRetryTopic() {
+		given(bulkIndexingService.apply(List.of(FIRST_UID, SECOND_UID), List.of()))
+			.willReturn(new AccommodationBulkIndexingService.Result(1, 0, Set.of(SECOND_UID)));
+
+		consumer.handle(List.of(
+			record(0, message("ACCOMMODATION_UPDATED", FIRST_UID)),
+			record(1, message("ACCOMMODATION_UPDATED", SECOND_UID))
+		), acknowledgment);
+
+		List<ProducerRecord<String, String>> retried = producer.history();
+		assertThat(retried).hasSize(1);
+		assertThat(retried.get(0).topic()).isEqualTo(TOPIC + ".RETRY");
+		assertThat(retried.get(0).value()).isEqualTo(message("ACCOMMODATION_UPDATED", SECOND_UID));
+		assertThat(meterRegistry.get(AccommodationIndexingBatchConsumer.DOCUMENTS_TOTAL)
+			.tag("result", "failed").counter().count()).isEqualTo(1.0);
+		then(acknowledgment).should().acknowledge();
+	}
+
+	@Test
+	@DisplayName("파싱 실패는 일괄 색인에서 빼고 retry 토픽으로 보낸다")
+	void routesUnparseableRecordToRetryTopic() {
+		given(bulkIndexingService.apply(List.of(FIRST_UID), List.of()))
+			.willReturn(new AccommodationBulkIndexingService.Result(1, 0, Set.of()));
+
+		consumer.handle(List.of(
+			record(0, "not-json"),
+			record(1, message("ACCOMMODATION_UPDATED", FIRST_UID))
+		), acknowledgment);
+
+		assertThat(producer.history()).extracting(ProducerRecord::value).containsExactly("not-json");
+		then(acknowledgment).should().acknowledge();
+	}
+
+	@Test
+	@DisplayName("_bulk 요청 자체가 실패하면 합쳐진 레코드를 모두 retry 토픽으로 보낸다")
+	void routesWholeBatchWhenBulkRequestFails() {
+		given(bulkIndexingService.apply(anyCollection(), anyCollection()))
+			.willThrow(new IllegalStateException("elasticsearch unavailable"));
+
+		consumer.handle(List.of(
+			record(0, message("ACCOMMODATION_UPDATED", FIRST_UID)),
+			record(1, message("ACCOMMODATION_UPDATED", FIRST_UID)),
+			record(2, message("ACCOMMODATION_DELETED", SECOND_UID))
+		), acknowledgment);
+
+		assertThat(producer.history()).extracting(ProducerRecord::value).containsExactly(
+			message("ACCOMMODATION_UPDATED", FIRST_UID),
+			message("ACCOMMODATION_DELETED", SECOND_UID));
+		then(acknowledgment).should().acknowledge();
+	}
+
+	private static ConsumerRecord<String, String> record(long offset, String value) {
+		return new ConsumerRecord<>(TOPIC, 0, offset, NOW.minusSeconds(10).toEpochMilli(),
+			TimestampType.CREATE_TIME, 0, 0, null, value,
+			new RecordHeaders(), Optional.empty());
+	}
+
+	private static String message(String eventType, UUID accommodationUid) {
+		return """
+			{"event_type":"%s","payload":{"accommodation_uid":"%s"}}"""
+			.formatted(eventType, accommodationUid);
+	}
+}
@@ -28,6 +28,7 @@ import org.springframework.kafka.support.KafkaHeaders;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 
+import kr.kro.airbob.config.AccommodationIndexingKafkaConsumerConfig;
 import kr.kro.airbob.search.service.AccommodationIndexingAlertService;
 import kr.kro.airbob.search.service.AccommodationIndexingService;
 
@@ -43,6 +44,12 @@ class AccommodationIndexingConsumerTest {
 	private static final String DELETED_MESSAGE = """
 		{"event_type":"ACCOMMODATION_DELETED","payload":{"accommodation_uid":"%s"}}
 		""".formatted(ACCOMMODATION_UID);
+	private static final String RESERVATION_CHANGED_MESSAGE = """
+		{"event_type":"RESERVATION_CHANGED","payload":{"accommodation_uid":"%s"}}
+		""".formatted(ACCOMMODATION_UID);
+	private static final String REVIEW_SUMMARY_CHANGED_MESSAGE = """
+		{"event_type":"REVIEW_SUMMARY_CHANGED","payload":{"accommodation_uid":"%s"}}
+		""".formatted(ACCOMMODATION_UID);
 
 	@Mock private AccommodationIndexingService indexingService;
 	@Mock private AccommodationIndexingAlertService alertService;
@@ -79,6 +86,20 @@ class AccommodationIndexingConsumerTest {
 		then(indexingService).shouldHaveNoMoreInteractions();
 	}
 
+	@Test
+	@DisplayName("예약·리뷰 요약 변경 이벤트는 해당 필드만 부분 갱신한 뒤 ACK한다")
+	void partiallyUpdatesReservationAndReviewFields() {
+		consumer.handle(RESERVATION_CHANGED_MESSAGE, acknowledgment);
+		consumer.handle(REVIEW_SUMMARY_CHANGED_MESSAGE, acknowledgment);
+
+		InOrder order = inOrder(indexingService, acknowledgment);
+		order.verify(indexingService).refreshReservationRanges(ACCOMMODATION_UID);
+		order.verify(acknowledgment).acknowledge();
+		order.verify(indexingService).refreshReviewSummary(ACCOMMODATION_UID);
+		order.verify(acknowledgment).acknowledge();
+		then(indexingService).shouldHaveNoMoreInteractions();
+	}
+
 	@Test
 	@DisplayName("처리 실패는 전파하고 ACK하지 않는다")
 	void rethrowsIndexingFailureWithoutAck() {
@@ -167,5 +188,8 @@ class AccommodationIndexingConsumerTest {
 			.isEqualTo("${accommodation.indexing.kafka.group:accommodation-indexing-group}");
 		assertThat(kafkaListener.autoStartup())
 			.isEqualTo("${accommodation.indexing.kafka.auto-startup:true}");
+		assertThat(kafkaListener.containerFactory())
+			.isEqualTo(AccommodationIndexingKafkaConsumerConfig.CONTAINER_FACTORY);
+		assertThat(retryableTopic.listenerContainerFactory()).isEqualTo("kafkaListenerContainerFactory");
 	}
 }
@@ -35,6 +35,7 @@ import org.springframework.kafka.test.utils.KafkaTestUtils;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
+import kr.kro.airbob.config.AccommodationIndexingKafkaConsumerConfig;
 import kr.kro.airbob.config.KafkaConfig;
 import kr.kro.airbob.outbox.EventType;
 import kr.kro.airbob.search.service.AccommodationIndexingAlertService;
@@ -163,6 +164,7 @@ class AccommodationIndexingKafkaIntegrationTest {
 		JacksonAutoConfiguration.class,
 		KafkaAutoConfiguration.class,
 		KafkaConfig.class,
+		AccommodationIndexingKafkaConsumerConfig.class,
 		AccommodationIndexingEventParser.class,
 		AccommodationIndexingConsumer.class
 	})
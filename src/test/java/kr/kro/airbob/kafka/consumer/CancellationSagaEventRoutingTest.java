@@ -1,5 +1,6 @@
 package kr.kro.airbob.kafka.consumer;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -19,6 +20,7 @@ import kr.kro.airbob.domain.reservation.event.ReservationEvent;
 import kr.kro.airbob.domain.reservation.service.ReservationHoldService;
 import kr.kro.airbob.domain.reservation.service.ReservationService;
 import kr.kro.airbob.outbox.DebeziumEventParser;
+import kr.kro.airbob.outbox.DecodedEvent;
 import kr.kro.airbob.outbox.EventEnvelope;
 import kr.kro.airbob.outbox.EventType;
 import kr.kro.airbob.outbox.OutboxEventPublisher;
@@ -44,10 +46,8 @@ class CancellationSagaEventRoutingTest {
 				"reservation-uid", "고객 요청", null);
 		EventEnvelope<ReservationEvent.ReservationCancellationRequestedEvent> envelope =
 			EventEnvelope.of(EventType.RESERVATION_CANCELLATION_REQUESTED, payload, OCCURRED_AT);
-		given(parser.getEventType(message))
-			.willReturn(EventType.RESERVATION_CANCELLATION_REQUESTED.name());
-		given(parser.parse(message, ReservationEvent.ReservationCancellationRequestedEvent.class))
-			.willReturn(envelope);
+		given(parser.decode(eq(message), any()))
+			.willReturn(DecodedEvent.of(envelope));
 
 		new ReservationEventTranslator(parser, outboxEventPublisher)
 			.translateReservationEvents(message, acknowledgment);
@@ -70,10 +70,8 @@ class CancellationSagaEventRoutingTest {
 				"reservation-uid", "사용자 요청", null);
 		EventEnvelope<ReservationEvent.ReservationCancelledEvent> envelope =
 			EventEnvelope.of(EventType.RESERVATION_CANCELLED, payload, OCCURRED_AT);
-		given(parser.getEventType(message))
-			.willReturn(EventType.RESERVATION_CANCELLED.name());
-		given(parser.parse(message, ReservationEvent.ReservationCancelledEvent.class))
-			.willReturn(envelope);
+		given(parser.decode(eq(message), any()))
+			.willReturn(DecodedEvent.of(envelope));
 
 		new ReservationEventTranslator(parser, outboxEventPublisher)
 			.translateReservationEvents(message, acknowledgment);
@@ -95,10 +93,8 @@ class CancellationSagaEventRoutingTest {
 			new PaymentEvent.PaymentCancellationCompletedEvent("reservation-uid");
 		EventEnvelope<PaymentEvent.PaymentCancellationCompletedEvent> envelope =
 			EventEnvelope.of(EventType.PAYMENT_CANCELLATION_COMPLETED, payload, OCCURRED_AT);
-		given(parser.getEventType(message))
-			.willReturn(EventType.PAYMENT_CANCELLATION_COMPLETED.name());
-		given(parser.parse(message, PaymentEvent.PaymentCancellationCompletedEvent.class))
-			.willReturn(envelope);
+		given(parser.decode(eq(message), any()))
+			.willReturn(DecodedEvent.of(envelope));
 
 		new PaymentCancellationEventTranslator(parser, outboxEventPublisher)
 			.translatePaymentEvents(message, acknowledgment);
@@ -118,10 +114,8 @@ class CancellationSagaEventRoutingTest {
 			new ReservationEvent.ReservationCancellationCompleteRequestedEvent("reservation-uid");
 		EventEnvelope<ReservationEvent.ReservationCancellationCompleteRequestedEvent> envelope =
 			EventEnvelope.of(EventType.RESERVATION_CANCELLATION_COMPLETE_REQUESTED, payload, OCCURRED_AT);
-		given(parser.getEventType(message))
-			.willReturn(EventType.RESERVATION_CANCELLATION_COMPLETE_REQUESTED.name());
-		given(parser.parse(message, ReservationEvent.ReservationCancellationCompleteRequestedEvent.class))
-			.willReturn(envelope);
+		given(parser.decode(eq(message), any()))
+			.willReturn(DecodedEvent.of(envelope));
 
 		new ReservationEventsConsumer(reservationService, reservationHoldService, parser)
 			.handleReservationEvents(message, acknowledgment);
@@ -138,10 +132,8 @@ class CancellationSagaEventRoutingTest {
 			new PaymentEvent.PaymentCancellationFailedEvent("reservation-uid", "PG 취소 실패");
 		EventEnvelope<PaymentEvent.PaymentCancellationFailedEvent> envelope =
 			EventEnvelope.of(EventType.PAYMENT_CANCELLATION_FAILED, payload, OCCURRED_AT);
-		given(parser.getEventType(message))
-			.willReturn(EventType.PAYMENT_CANCELLATION_FAILED.name());
-		given(parser.parse(message, PaymentEvent.PaymentCancellationFailedEvent.class))
-			.willReturn(envelope);
+		given(parser.decode(eq(message), any()))
+			.willReturn(DecodedEvent.of(envelope));
 
 		new PaymentCancellationEventTranslator(parser, outboxEventPublisher)
 			.translatePaymentEvents(message, acknowledgment);
@@ -163,10 +155,8 @@ class CancellationSagaEventRoutingTest {
 				"reservation-uid", "PG 취소 실패");
 		EventEnvelope<ReservationEvent.ReservationCancellationRevertRequestedEvent> envelope =
 			EventEnvelope.of(EventType.RESERVATION_CANCELLATION_REVERT_REQUESTED, payload, OCCURRED_AT);
-		given(parser.getEventType(message))
-			.willReturn(EventType.RESERVATION_CANCELLATION_REVERT_REQUESTED.name());
-		given(parser.parse(message, ReservationEvent.ReservationCancellationRevertRequestedEvent.class))
-			.willReturn(envelope);
+		given(parser.decode(eq(message), any()))
+			.willReturn(DecodedEvent.of(envelope));
 
 		new ReservationEventsConsumer(reservationService, reservationHoldService, parser)
 			.handleReservationEvents(message, acknowledgment);
@@ -0,0 +1,106 @@
+package kr.kro.airbob.kafka.consumer;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.util.List;
+import java.util.Set;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+import kr.kro.airbob.domain.coupon.monitoring.CouponIssueMetricRecorder;
+import kr.kro.airbob.domain.coupon.service.CouponIssueCompensator;
+import kr.kro.airbob.domain.coupon.service.CouponIssueTransactionService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("쿠폰 발급 승인 write-behind 배치 소비자 테스트")
+class CouponIssueApprovalBatchConsumerTest {
+
+	private static final String TOPIC = "COUPON_ISSUE.approvals";
+
+	@Mock private CouponIssueTransactionService transactionService;
+	@Mock private CouponIssueCompensator compensator;
+	@Mock private CouponIssueMetricRecorder metricRecorder;
+	@Mock private Acknowledgment acknowledgment;
+
+	private CouponIssueApprovalBatchConsumer consumer;
+
+	@BeforeEach
+	void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper()
+			.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+		consumer = new CouponIssueApprovalBatchConsumer(objectMapper, transactionService, compensator, metricRecorder);
+	}
+
+	@Test
+	@DisplayName("쿠폰별로 승인을 묶어 한 번씩 저장하고 ACK한다")
+	void persistsApprovalsGroupedByCoupon() {
+		consumer.handle(List.of(
+			record(0, approval(1L, 10L)),
+			record(1, approval(2L, 20L)),
+			record(2, approval(1L, 11L)),
+			record(3, "not-json")
+		), acknowledgment);
+
+		then(transactionService).should().persistApprovedIssues(1L, Set.of(10L, 11L));
+		then(transactionService).should().persistApprovedIssues(2L, Set.of(20L));
+		then(acknowledgment).should().acknowledge();
+	}
+
+	@Test
+	@DisplayName("묶음 저장이 영구 실패하면 회원별로 다시 저장하고 실패한 승인만 Redis에서 보상한다")
+	void compensatesOnlyPermanentlyFailedMembers() {
+		DataIntegrityViolationException memberMissing = new DataIntegrityViolationException("fk_member_coupon_member");
+		given(transactionService.persistApprovedIssues(1L, Set.of(10L, 11L))).willThrow(memberMissing);
+		given(transactionService.persistApprovedIssues(1L, List.of(11L))).willThrow(memberMissing);
+
+		consumer.handle(List.of(
+			record(0, approval(1L, 10L)),
+			record(1, approval(1L, 11L))
+		), acknowledgment);
+
+		then(transactionService).should().persistApprovedIssues(1L, List.of(10L));
+		then(compensator).should().compensateWithoutMasking(1L, 11L, memberMissing);
+		then(compensator).should(never()).compensateWithoutMasking(eq(1L), eq(10L), any());
+		then(acknowledgment).should().acknowledge();
+	}
+
+	@Test
+	@DisplayName("DB 일시 장애는 보상하지 않고 던져서 같은 배치를 다시 읽게 한다")
+	void rethrowsTransientFailureWithoutCompensationOrAck() {
+		QueryTimeoutException timeout = new QueryTimeoutException("lock wait timeout");
+		given(transactionService.persistApprovedIssues(1L, Set.of(10L))).willThrow(timeout);
+
+		assertThatThrownBy(() -> consumer.handle(List.of(record(0, approval(1L, 10L))), acknowledgment))
+			.isSameAs(timeout);
+
+		then(compensator).should(never()).compensateWithoutMasking(anyLong(), anyLong(), any());
+		then(acknowledgment).should(never()).acknowledge();
+	}
+
+	private static ConsumerRecord<String, String> record(long offset, String value) {
+		return new ConsumerRecord<>(TOPIC, 0, offset, null, value);
+	}
+
+	private static String approval(Long couponId, Long memberId) {
+		return """
+			{"coupon_id":%d,"member_id":%d}""".formatted(couponId, memberId);
+	}
+}
@@ -33,6 +33,7 @@ import kr.kro.airbob.domain.reservation.event.ReservationEvent;
 import kr.kro.airbob.domain.reservation.exception.ReservationNotFoundException;
 import kr.kro.airbob.domain.reservation.service.ReservationService;
 import kr.kro.airbob.outbox.DebeziumEventParser;
+import kr.kro.airbob.outbox.DecodedEvent;
 import kr.kro.airbob.outbox.EventEnvelope;
 import kr.kro.airbob.outbox.EventType;
 import kr.kro.airbob.outbox.OutboxEventPublisher;
@@ -59,11 +60,9 @@ class DlqConsumerTest {
 		ReservationEvent.ReservationCancelledEvent payload =
 			new ReservationEvent.ReservationCancelledEvent(
 				"reservation-uid", "사용자 요청", null);
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.RESERVATION_CANCELLED.name());
-		given(debeziumEventParser.parse(message, ReservationEvent.ReservationCancelledEvent.class))
-			.willReturn(EventEnvelope.of(
-				EventType.RESERVATION_CANCELLED, payload, java.time.Instant.EPOCH));
+		given(debeziumEventParser.decode(message))
+			.willReturn(DecodedEvent.of(EventEnvelope.of(
+				EventType.RESERVATION_CANCELLED, payload, java.time.Instant.EPOCH)));
 
 		consumer.consumeDlqEvents(message, acknowledgment);
 
@@ -83,11 +82,9 @@ class DlqConsumerTest {
 		ReservationEvent.ReservationCancelledEvent payload =
 			new ReservationEvent.ReservationCancelledEvent(
 				"reservation-uid", "사용자 요청", null);
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.RESERVATION_CANCELLED.name());
-		given(debeziumEventParser.parse(message, ReservationEvent.ReservationCancelledEvent.class))
-			.willReturn(EventEnvelope.of(
-				EventType.RESERVATION_CANCELLED, payload, java.time.Instant.EPOCH));
+		given(debeziumEventParser.decode(message))
+			.willReturn(DecodedEvent.of(EventEnvelope.of(
+				EventType.RESERVATION_CANCELLED, payload, java.time.Instant.EPOCH)));
 		willThrow(new IllegalStateException("outbox unavailable"))
 			.given(outboxEventPublisher)
 			.save(eq(EventType.PG_CANCEL_CALL_REQUESTED), argThat(event -> true));
@@ -107,14 +104,11 @@ class DlqConsumerTest {
 		String message = "reservation-cancellation-complete-requested-dlt";
 		ReservationEvent.ReservationCancellationCompleteRequestedEvent payload =
 			new ReservationEvent.ReservationCancellationCompleteRequestedEvent("reservation-uid");
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.RESERVATION_CANCELLATION_COMPLETE_REQUESTED.name());
-		given(debeziumEventParser.parse(
-			message, ReservationEvent.ReservationCancellationCompleteRequestedEvent.class))
-			.willReturn(EventEnvelope.of(
+		given(debeziumEventParser.decode(message))
+			.willReturn(DecodedEvent.of(EventEnvelope.of(
 				EventType.RESERVATION_CANCELLATION_COMPLETE_REQUESTED,
 				payload,
-				java.time.Instant.EPOCH));
+				java.time.Instant.EPOCH)));
 
 		consumer.consumeDlqEvents(message, acknowledgment);
 
@@ -129,12 +123,9 @@ class DlqConsumerTest {
 		PaymentEvent.PaymentCancellationRequestedEvent payload =
 			new PaymentEvent.PaymentCancellationRequestedEvent(
 				"reservation-uid", "사용자 요청", null);
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.PG_CANCEL_CALL_REQUESTED.name());
-		given(debeziumEventParser.parse(
-			message, PaymentEvent.PaymentCancellationRequestedEvent.class))
-			.willReturn(EventEnvelope.of(
-				EventType.PG_CANCEL_CALL_REQUESTED, payload, java.time.Instant.EPOCH));
+		given(debeziumEventParser.decode(message))
+			.willReturn(DecodedEvent.of(EventEnvelope.of(
+				EventType.PG_CANCEL_CALL_REQUESTED, payload, java.time.Instant.EPOCH)));
 
 		consumer.consumeDlqEvents(message, acknowledgment);
 
@@ -148,11 +139,9 @@ class DlqConsumerTest {
 		String message = "pg-cancel-call-succeeded-dlt";
 		PaymentEvent.PgCancelCallSucceededEvent payload =
 			new PaymentEvent.PgCancelCallSucceededEvent(null, "reservation-uid");
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.PG_CANCEL_CALL_SUCCEEDED.name());
-		given(debeziumEventParser.parse(message, PaymentEvent.PgCancelCallSucceededEvent.class))
-			.willReturn(EventEnvelope.of(
-				EventType.PG_CANCEL_CALL_SUCCEEDED, payload, java.time.Instant.EPOCH));
+		given(debeziumEventParser.decode(message))
+			.willReturn(DecodedEvent.of(EventEnvelope.of(
+				EventType.PG_CANCEL_CALL_SUCCEEDED, payload, java.time.Instant.EPOCH)));
 
 		consumer.consumeDlqEvents(message, acknowledgment);
 
@@ -170,11 +159,9 @@ class DlqConsumerTest {
 		PaymentEvent.PgCancelCallFailedEvent payload =
 			new PaymentEvent.PgCancelCallFailedEvent(
 				request, "reservation-uid", "CANCEL_FAILED", "취소 실패");
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.PG_CANCEL_CALL_FAILED.name());
-		given(debeziumEventParser.parse(message, PaymentEvent.PgCancelCallFailedEvent.class))
-			.willReturn(EventEnvelope.of(
-				EventType.PG_CANCEL_CALL_FAILED, payload, java.time.Instant.EPOCH));
+		given(debeziumEventParser.decode(message))
+			.willReturn(DecodedEvent.of(EventEnvelope.of(
+				EventType.PG_CANCEL_CALL_FAILED, payload, java.time.Instant.EPOCH)));
 
 		consumer.consumeDlqEvents(message, acknowledgment);
 
@@ -188,11 +175,9 @@ class DlqConsumerTest {
 		String message = "payment-cancellation-completed-dlt";
 		PaymentEvent.PaymentCancellationCompletedEvent payload =
 			new PaymentEvent.PaymentCancellationCompletedEvent("reservation-uid");
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.PAYMENT_CANCELLATION_COMPLETED.name());
-		given(debeziumEventParser.parse(message, PaymentEvent.PaymentCancellationCompletedEvent.class))
-			.willReturn(EventEnvelope.of(
-				EventType.PAYMENT_CANCELLATION_COMPLETED, payload, java.time.Instant.EPOCH));
+		given(debeziumEventParser.decode(message))
+			.willReturn(DecodedEvent.of(EventEnvelope.of(
+				EventType.PAYMENT_CANCELLATION_COMPLETED, payload, java.time.Instant.EPOCH)));
 
 		consumer.consumeDlqEvents(message, acknowledgment);
 
@@ -207,11 +192,9 @@ class DlqConsumerTest {
 		String message = "payment-cancellation-failed-dlt";
 		PaymentEvent.PaymentCancellationFailedEvent payload =
 			new PaymentEvent.PaymentCancellationFailedEvent("reservation-uid", "취소 실패");
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.PAYMENT_CANCELLATION_FAILED.name());
-		given(debeziumEventParser.parse(message, PaymentEvent.PaymentCancellationFailedEvent.class))
-			.willReturn(EventEnvelope.of(
-				EventType.PAYMENT_CANCELLATION_FAILED, payload, java.time.Instant.EPOCH));
+		given(debeziumEventParser.decode(message))
+			.willReturn(DecodedEvent.of(EventEnvelope.of(
+				EventType.PAYMENT_CANCELLATION_FAILED, payload, java.time.Instant.EPOCH)));
 
 		consumer.consumeDlqEvents(message, acknowledgment);
 
@@ -263,8 +246,9 @@ class DlqConsumerTest {
 	@DisplayName("지원하지 않는 이벤트는 성공적으로 무시하고 DLQ에서 제거한다")
 	void acknowledgesSuccessfullyIgnoredUnsupportedEvent() {
 		String message = "accommodation-updated-dlt";
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.ACCOMMODATION_UPDATED.name());
+		given(debeziumEventParser.decode(message))
+			.willReturn(new DecodedEvent(EventType.ACCOMMODATION_UPDATED, new EventEnvelope<>(
+				null, null, EventType.ACCOMMODATION_UPDATED.name(), "1.0", java.time.Instant.EPOCH, null)));
 
 		consumer.consumeDlqEvents(message, acknowledgment);
 
@@ -276,9 +260,7 @@ class DlqConsumerTest {
 	@DisplayName("지원하는 이벤트라도 페이로드를 파싱할 수 없으면 무한 재시도하지 않는다")
 	void acknowledgesPoisonPayload() {
 		String message = "malformed-pg-cancel-succeeded-dlt";
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.PG_CANCEL_CALL_SUCCEEDED.name());
-		given(debeziumEventParser.parse(message, PaymentEvent.PgCancelCallSucceededEvent.class))
+		given(debeziumEventParser.decode(message))
 			.willThrow(new DebeziumEventParsingException(new IOException("malformed payload")));
 
 		consumer.consumeDlqEvents(message, acknowledgment);
@@ -1,5 +1,7 @@
 package kr.kro.airbob.kafka.consumer;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
@@ -17,6 +19,7 @@ import kr.kro.airbob.domain.payment.dto.TossPaymentResponse;
 import kr.kro.airbob.domain.payment.event.PaymentEvent;
 import kr.kro.airbob.domain.payment.service.PaymentCancellationProcessor;
 import kr.kro.airbob.outbox.DebeziumEventParser;
+import kr.kro.airbob.outbox.DecodedEvent;
 import kr.kro.airbob.outbox.EventEnvelope;
 import kr.kro.airbob.outbox.EventType;
 
@@ -38,11 +41,9 @@ class PaymentCancellationEventsConsumerTest {
 			new PaymentEvent.PgCancelCallSucceededEvent(
 				TossPaymentResponse.builder().status("CANCELED").balanceAmount(0L).build(),
 				"reservation-uid");
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.PG_CANCEL_CALL_SUCCEEDED.name());
-		given(debeziumEventParser.parse(message, PaymentEvent.PgCancelCallSucceededEvent.class))
-			.willReturn(EventEnvelope.of(
-				EventType.PG_CANCEL_CALL_SUCCEEDED, payload, Instant.EPOCH));
+		given(debeziumEventParser.decode(eq(message), any()))
+			.willReturn(DecodedEvent.of(EventEnvelope.of(
+				EventType.PG_CANCEL_CALL_SUCCEEDED, payload, Instant.EPOCH)));
 
 		consumer.handlePaymentEvents(message, acknowledgment);
 
@@ -60,11 +61,9 @@ class PaymentCancellationEventsConsumerTest {
 		PaymentEvent.PgCancelCallFailedEvent payload =
 			new PaymentEvent.PgCancelCallFailedEvent(
 				request, "reservation-uid", "CANCEL_FAILED", "취소 실패");
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.PG_CANCEL_CALL_FAILED.name());
-		given(debeziumEventParser.parse(message, PaymentEvent.PgCancelCallFailedEvent.class))
-			.willReturn(EventEnvelope.of(
-				EventType.PG_CANCEL_CALL_FAILED, payload, Instant.EPOCH));
+		given(debeziumEventParser.decode(eq(message), any()))
+			.willReturn(DecodedEvent.of(EventEnvelope.of(
+				EventType.PG_CANCEL_CALL_FAILED, payload, Instant.EPOCH)));
 
 		consumer.handlePaymentEvents(message, acknowledgment);
 
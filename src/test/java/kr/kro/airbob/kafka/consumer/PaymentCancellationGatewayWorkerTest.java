@@ -9,10 +9,12 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,12 +23,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.support.Acknowledgment;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.domain.payment.config.TossPaymentBulkheadProperties;
 import kr.kro.airbob.domain.payment.dto.TossPaymentResponse;
 import kr.kro.airbob.domain.payment.entity.Payment;
 import kr.kro.airbob.domain.payment.event.PaymentEvent;
+import kr.kro.airbob.domain.payment.exception.PaymentGatewayRejectedException;
 import kr.kro.airbob.domain.payment.repository.PaymentRepository;
 import kr.kro.airbob.domain.payment.service.TossPaymentsAdapter;
+import kr.kro.airbob.domain.payment.service.gateway.PaymentGatewayBulkhead;
 import kr.kro.airbob.outbox.DebeziumEventParser;
+import kr.kro.airbob.outbox.DecodedEvent;
 import kr.kro.airbob.outbox.EventEnvelope;
 import kr.kro.airbob.outbox.EventPayload;
 import kr.kro.airbob.outbox.EventType;
@@ -42,18 +49,32 @@ class PaymentCancellationGatewayWorkerTest {
 	@Mock private PaymentRepository paymentRepository;
 	@Mock private Acknowledgment acknowledgment;
 
+	private PaymentGatewayBulkhead bulkhead;
 	private PaymentCancellationGatewayWorker worker;
 
 	@BeforeEach
 	void setUp() {
+		bulkhead = new PaymentGatewayBulkhead(
+			"toss",
+			new TossPaymentBulkheadProperties(
+				true, 1, Duration.ZERO, Duration.ofMillis(50), 0.99, 3.0, 10, 32),
+			Duration.ofSeconds(1),
+			new SimpleMeterRegistry()
+		);
 		worker = new PaymentCancellationGatewayWorker(
 			debeziumEventParser,
 			tossPaymentsAdapter,
 			outboxEventPublisher,
-			paymentRepository
+			paymentRepository,
+			bulkhead
 		);
 	}
 
+	@AfterEach
+	void tearDown() {
+		bulkhead.destroy();
+	}
+
 	@Test
 	@DisplayName("PG 취소 성공 후 성공 이벤트 저장이 실패하면 취소 실패 이벤트로 바꾸지 않는다")
 	void doesNotConvertSuccessfulPgCancellationIntoFailure() {
@@ -72,11 +93,8 @@ class PaymentCancellationGatewayWorkerTest {
 			.balanceAmount(0L)
 			.build();
 
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.PG_CANCEL_CALL_REQUESTED.name());
-		given(debeziumEventParser.parse(
-			message, PaymentEvent.PaymentCancellationRequestedEvent.class))
-			.willReturn(envelope);
+		given(debeziumEventParser.decode(eq(message), any()))
+			.willReturn(DecodedEvent.of(envelope));
 		given(paymentRepository.findByReservationReservationUid(reservationUid))
 			.willReturn(Optional.of(payment));
 		given(payment.getPaymentKey()).willReturn("payment-key");
@@ -107,11 +125,8 @@ class PaymentCancellationGatewayWorkerTest {
 			EventEnvelope.of(EventType.PG_CANCEL_CALL_REQUESTED, request, Instant.EPOCH);
 		Payment payment = mock(Payment.class);
 
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.PG_CANCEL_CALL_REQUESTED.name());
-		given(debeziumEventParser.parse(
-			message, PaymentEvent.PaymentCancellationRequestedEvent.class))
-			.willReturn(envelope);
+		given(debeziumEventParser.decode(eq(message), any()))
+			.willReturn(DecodedEvent.of(envelope));
 		given(paymentRepository.findByReservationReservationUid(reservationUid))
 			.willReturn(Optional.of(payment));
 		given(payment.getPaymentKey()).willReturn("payment-key");
@@ -125,4 +140,38 @@ class PaymentCancellationGatewayWorkerTest {
 		verify(outboxEventPublisher, never())
 			.save(eq(EventType.PG_CANCEL_CALL_FAILED), any(EventPayload.class));
 	}
+
+	@Test
+	@DisplayName("격벽이 PG 취소 호출을 거절하면 실패로 확정하지 않고 Kafka 재시도로 넘긴다")
+	void retriesWhenBulkheadRejectsPgCancellation() {
+		String message = "pg-cancel-request";
+		UUID reservationUid = UUID.randomUUID();
+		PaymentEvent.PaymentCancellationRequestedEvent request =
+			new PaymentEvent.PaymentCancellationRequestedEvent(
+				reservationUid.toString(), "사용자 요청", null);
+		EventEnvelope<PaymentEvent.PaymentCancellationRequestedEvent> envelope =
+			EventEnvelope.of(EventType.PG_CANCEL_CALL_REQUESTED, request, Instant.EPOCH);
+		PaymentGatewayBulkhead fullBulkhead = mock(PaymentGatewayBulkhead.class);
+		PaymentCancellationGatewayWorker rejectingWorker = new PaymentCancellationGatewayWorker(
+			debeziumEventParser,
+			tossPaymentsAdapter,
+			outboxEventPublisher,
+			paymentRepository,
+			fullBulkhead
+		);
+
+		given(debeziumEventParser.decode(eq(message), any()))
+			.willReturn(DecodedEvent.of(envelope));
+		given(paymentRepository.findByReservationReservationUid(reservationUid))
+			.willReturn(Optional.of(mock(Payment.class)));
+		given(fullBulkhead.execute(eq("cancel"), any()))
+			.willThrow(new PaymentGatewayRejectedException("toss"));
+
+		assertThatThrownBy(() -> rejectingWorker.handlePgCallRequest(message, acknowledgment))
+			.isInstanceOf(PaymentGatewayRejectedException.class);
+
+		verify(tossPaymentsAdapter, never()).cancelPayment(any(), any(), any());
+		verify(outboxEventPublisher, never()).save(any(), any(EventPayload.class));
+		verify(acknowledgment, never()).acknowledge();
+	}
 }
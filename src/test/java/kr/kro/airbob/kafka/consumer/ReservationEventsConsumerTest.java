@@ -1,7 +1,10 @@
 package kr.kro.airbob.kafka.consumer;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -17,6 +20,7 @@ import kr.kro.airbob.domain.reservation.event.ReservationEvent;
 import kr.kro.airbob.domain.reservation.service.ReservationHoldService;
 import kr.kro.airbob.domain.reservation.service.ReservationService;
 import kr.kro.airbob.outbox.DebeziumEventParser;
+import kr.kro.airbob.outbox.DecodedEvent;
 import kr.kro.airbob.outbox.EventEnvelope;
 import kr.kro.airbob.outbox.EventType;
 
@@ -27,6 +31,7 @@ class ReservationEventsConsumerTest {
 	private static final Long ACCOMMODATION_ID = 42L;
 	private static final LocalDate CHECK_IN_DATE = LocalDate.of(2026, 8, 20);
 	private static final LocalDate CHECK_OUT_DATE = LocalDate.of(2026, 8, 23);
+	private static final String RESERVATION_UID = "4dc96ec8-d45f-4688-bb75-560c71b88d5d";
 
 	@Mock private ReservationService reservationService;
 	@Mock private ReservationHoldService reservationHoldService;
@@ -39,16 +44,14 @@ class ReservationEventsConsumerTest {
 		String message = "reservation-confirmed";
 		ReservationEvent.ReservationConfirmedEvent payload =
 			new ReservationEvent.ReservationConfirmedEvent(
-				ACCOMMODATION_ID, CHECK_IN_DATE, CHECK_OUT_DATE);
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.RESERVATION_CONFIRMED.name());
-		given(debeziumEventParser.parse(message, ReservationEvent.ReservationConfirmedEvent.class))
-			.willReturn(EventEnvelope.of(EventType.RESERVATION_CONFIRMED, payload, Instant.EPOCH));
+				ACCOMMODATION_ID, CHECK_IN_DATE, CHECK_OUT_DATE, RESERVATION_UID);
+		given(debeziumEventParser.decode(eq(message), any()))
+			.willReturn(DecodedEvent.of(EventEnvelope.of(EventType.RESERVATION_CONFIRMED, payload, Instant.EPOCH)));
 
 		consumer().handleReservationEvents(message, acknowledgment);
 
 		then(reservationHoldService).should()
-			.removeHold(ACCOMMODATION_ID, CHECK_IN_DATE, CHECK_OUT_DATE);
+			.removeHold(ACCOMMODATION_ID, CHECK_IN_DATE, CHECK_OUT_DATE, RESERVATION_UID);
 		then(acknowledgment).should().acknowledge();
 	}
 
@@ -58,16 +61,30 @@ class ReservationEventsConsumerTest {
 		String message = "reservation-expired";
 		ReservationEvent.ReservationExpiredEvent payload =
 			new ReservationEvent.ReservationExpiredEvent(
-				ACCOMMODATION_ID, CHECK_IN_DATE, CHECK_OUT_DATE);
-		given(debeziumEventParser.getEventType(message))
-			.willReturn(EventType.RESERVATION_EXPIRED.name());
-		given(debeziumEventParser.parse(message, ReservationEvent.ReservationExpiredEvent.class))
-			.willReturn(EventEnvelope.of(EventType.RESERVATION_EXPIRED, payload, Instant.EPOCH));
+				ACCOMMODATION_ID, CHECK_IN_DATE, CHECK_OUT_DATE, RESERVATION_UID);
+		given(debeziumEventParser.decode(eq(message), any()))
+			.willReturn(DecodedEvent.of(EventEnvelope.of(EventType.RESERVATION_EXPIRED, payload, Instant.EPOCH)));
 
 		consumer().handleReservationEvents(message, acknowledgment);
 
 		then(reservationHoldService).should()
-			.removeHold(ACCOMMODATION_ID, CHECK_IN_DATE, CHECK_OUT_DATE);
+			.removeHold(ACCOMMODATION_ID, CHECK_IN_DATE, CHECK_OUT_DATE, RESERVATION_UID);
+		then(acknowledgment).should().acknowledge();
+	}
+
+	@Test
+	@DisplayName("hold 소유자가 없는 이전 버전 이벤트는 Redis 홀드를 지우지 않고 TTL에 맡긴다")
+	void legacyEventWithoutOwnerLeavesHoldToTtl() {
+		String message = "reservation-confirmed-legacy";
+		ReservationEvent.ReservationConfirmedEvent payload =
+			new ReservationEvent.ReservationConfirmedEvent(
+				ACCOMMODATION_ID, CHECK_IN_DATE, CHECK_OUT_DATE, null);
+		given(debeziumEventParser.decode(eq(message), any()))
+			.willReturn(DecodedEvent.of(EventEnvelope.of(EventType.RESERVATION_CONFIRMED, payload, Instant.EPOCH)));
+
+		consumer().handleReservationEvents(message, acknowledgment);
+
+		then(reservationHoldService).should(never()).removeHold(any(), any(), any(), any());
 		then(acknowledgment).should().acknowledge();
 	}
 
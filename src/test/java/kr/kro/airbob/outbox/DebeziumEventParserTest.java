@@ -0,0 +1,135 @@
+package kr.kro.airbob.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kro.airbob.domain.payment.event.PaymentEvent;
+import kr.kro.airbob.domain.reservation.event.ReservationEvent;
+import kr.kro.airbob.outbox.exception.DebeziumEventParsingException;
+import kr.kro.airbob.search.event.AccommodationIndexingEvents;
+
+@JsonTest
+@DisplayName("Debezium 이벤트 봉투 파서 테스트")
+class DebeziumEventParserTest {
+
+	private static final Instant OCCURRED_AT = Instant.parse("2026-10-18T05:30:00.123456Z");
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private DebeziumEventParser parser;
+
+	@BeforeEach
+	void setUp() {
+		parser = new DebeziumEventParser(objectMapper);
+	}
+
+	@Test
+	@DisplayName("한 번의 파싱으로 이벤트 타입과 등록된 타입의 페이로드를 함께 읽는다")
+	void decodesTypedPayloadInOnePass() throws JsonProcessingException {
+		PaymentEvent.PaymentCancellationRequestedEvent payload =
+			new PaymentEvent.PaymentCancellationRequestedEvent("reservation-uid", "사용자 요청", 10_000L);
+		EventEnvelope<PaymentEvent.PaymentCancellationRequestedEvent> envelope =
+			EventEnvelope.of(EventType.PG_CANCEL_CALL_REQUESTED, payload, OCCURRED_AT);
+
+		DecodedEvent decoded = parser.decode(objectMapper.writeValueAsString(envelope));
+
+		assertThat(decoded.type()).isEqualTo(EventType.PG_CANCEL_CALL_REQUESTED);
+		assertThat(decoded.payload(PaymentEvent.PaymentCancellationRequestedEvent.class)).isEqualTo(payload);
+		assertThat(decoded.envelope().eventId()).isEqualTo(envelope.eventId());
+		assertThat(decoded.envelope().timestamp()).isEqualTo(OCCURRED_AT);
+	}
+
+	@Test
+	@DisplayName("payload가 event_type보다 앞에 있어도 같은 결과를 낸다")
+	void decodesPayloadBeforeEventType() {
+		String message = """
+			{"payload":{"reservation_uid":"reservation-uid"},"timestamp":"2026-10-18T05:30:00",\
+			"event_type":"reservation_cancellation_complete_requested"}""";
+
+		DecodedEvent decoded = parser.decode(message);
+
+		assertThat(decoded.type()).isEqualTo(EventType.RESERVATION_CANCELLATION_COMPLETE_REQUESTED);
+		assertThat(decoded.payload(ReservationEvent.ReservationCancellationCompleteRequestedEvent.class))
+			.isEqualTo(new ReservationEvent.ReservationCancellationCompleteRequestedEvent("reservation-uid"));
+		assertThat(decoded.envelope().timestamp()).isEqualTo(Instant.parse("2026-10-18T05:30:00Z"));
+	}
+
+	@Test
+	@DisplayName("페이로드 타입이 등록되지 않은 이벤트는 payload를 건너뛴다")
+	void skipsPayloadOfUnregisteredType() throws JsonProcessingException {
+		String message = objectMapper.writeValueAsString(EventEnvelope.of(EventType.ACCOMMODATION_UPDATED,
+			new AccommodationIndexingEvents.AccommodationUpdatedEvent("accommodation-uid"), OCCURRED_AT));
+
+		DecodedEvent decoded = parser.decode(message);
+
+		assertThat(decoded.type()).isEqualTo(EventType.ACCOMMODATION_UPDATED);
+		assertThat(decoded.envelope().payload()).isNull();
+		assertThatThrownBy(() -> decoded.payload(AccommodationIndexingEvents.AccommodationUpdatedEvent.class))
+			.isInstanceOf(DebeziumEventParsingException.class);
+	}
+
+	@Test
+	@DisplayName("처리 대상이 아닌 타입은 등록된 페이로드여도 역직렬화하지 않는다")
+	void skipsPayloadOfTypeOutsideHandledTypes() {
+		EnumSet<EventType> handledTypes = EnumSet.of(EventType.PG_CANCEL_CALL_FAILED);
+		String typeFirst = """
+			{"event_type":"PG_CANCEL_CALL_REQUESTED","timestamp":"2026-10-18T05:30:00Z",\
+			"payload":{"cancel_amount":"not-a-number"}}""";
+		String payloadFirst = """
+			{"payload":{"cancel_amount":"not-a-number"},"timestamp":"2026-10-18T05:30:00Z",\
+			"event_type":"PG_CANCEL_CALL_REQUESTED"}""";
+
+		for (String message : new String[] {typeFirst, payloadFirst}) {
+			DecodedEvent decoded = parser.decode(message, handledTypes);
+
+			assertThat(decoded.type()).isEqualTo(EventType.PG_CANCEL_CALL_REQUESTED);
+			assertThat(decoded.envelope().payload()).isNull();
+		}
+	}
+
+	@Test
+	@DisplayName("timestamp가 없거나 epoch 값이면 잘못된 이벤트로 거부한다")
+	void rejectsMissingOrZeroTimestamp() {
+		assertThatThrownBy(() -> parser.decode("""
+			{"event_type":"RESERVATION_CANCELLATION_COMPLETE_REQUESTED",\
+			"payload":{"reservation_uid":"reservation-uid"}}"""))
+			.isInstanceOf(DebeziumEventParsingException.class);
+		assertThatThrownBy(() -> parser.decode("""
+			{"event_type":"RESERVATION_CANCELLATION_COMPLETE_REQUESTED","timestamp":"1970-01-01T00:00:00",\
+			"payload":{"reservation_uid":"reservation-uid"}}"""))
+			.isInstanceOf(DebeziumEventParsingException.class);
+	}
+
+	@Test
+	@DisplayName("event_type이 없거나 페이로드가 형식에 맞지 않으면 파싱 예외로 감싼다")
+	void wrapsMalformedEnvelope() {
+		assertThatThrownBy(() -> parser.decode("{\"payload\":{}}"))
+			.isInstanceOf(DebeziumEventParsingException.class);
+		assertThatThrownBy(() -> parser.decode("""
+			{"event_type":"PG_CANCEL_CALL_REQUESTED","payload":{"cancel_amount":"not-a-number"}}"""))
+			.isInstanceOf(DebeziumEventParsingException.class);
+		assertThatThrownBy(() -> parser.decode("not-json"))
+			.isInstanceOf(DebeziumEventParsingException.class);
+	}
+
+	@Test
+	@DisplayName("event_type만 필요할 때는 다른 필드를 건너뛰고 읽는다")
+	void readsEventTypeOnly() {
+		assertThat(parser.getEventType("""
+			{"payload":{"nested":{"event_type":"WRONG"}},"event_type":"PG_CANCEL_CALL_FAILED"}"""))
+			.isEqualTo("PG_CANCEL_CALL_FAILED");
+	}
+}
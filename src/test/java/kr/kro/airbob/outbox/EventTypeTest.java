@@ -19,4 +19,12 @@ class EventTypeTest {
 		assertThat(EventType.CACHE_INVALIDATION_REQUESTED.getTopic())
 			.isEqualTo("ACCOMMODATION_CACHE.events");
 	}
+
+	@Test
+	void fromIgnoresCaseAndFallsBackToUnknown() {
+		assertThat(EventType.from("PG_CANCEL_CALL_FAILED")).isEqualTo(EventType.PG_CANCEL_CALL_FAILED);
+		assertThat(EventType.from("pg_cancel_call_failed")).isEqualTo(EventType.PG_CANCEL_CALL_FAILED);
+		assertThat(EventType.from("NOT_AN_EVENT")).isEqualTo(EventType.UNKNOWN);
+		assertThat(EventType.from(null)).isEqualTo(EventType.UNKNOWN);
+	}
 }
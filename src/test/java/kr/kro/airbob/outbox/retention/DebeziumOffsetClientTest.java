@@ -0,0 +1,46 @@
+package kr.kro.airbob.outbox.retention;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Debezium 오프셋 응답 해석 테스트")
+class DebeziumOffsetClientTest {
+
+	@Test
+	@DisplayName("binlog 오프셋의 ts_sec를 처리 위치로 읽는다")
+	void readsBinlogTimestamp() {
+		Map<String, Object> response = Map.of("offsets", List.of(Map.of(
+			"partition", Map.of("server", "airbob_server"),
+			"offset", Map.of("file", "binlog.000003", "pos", 1234, "ts_sec", 1760745600))));
+
+		assertThat(DebeziumOffsetClient.fromResponse(response))
+			.contains(new CdcPosition(Instant.ofEpochSecond(1760745600), false));
+	}
+
+	@Test
+	@DisplayName("스냅샷 완료 표시가 없는 snapshot 오프셋은 스냅샷 진행 중으로 본다")
+	void detectsSnapshotInProgress() {
+		Map<String, Object> running = Map.of("offsets", List.of(Map.of(
+			"offset", Map.of("ts_sec", 1760745600, "snapshot", "true"))));
+		Map<String, Object> completed = Map.of("offsets", List.of(Map.of(
+			"offset", Map.of("ts_sec", 1760745600, "snapshot", true, "snapshot_completed", true))));
+
+		assertThat(DebeziumOffsetClient.fromResponse(running)).hasValueSatisfying(
+			position -> assertThat(position.snapshotInProgress()).isTrue());
+		assertThat(DebeziumOffsetClient.fromResponse(completed)).hasValueSatisfying(
+			position -> assertThat(position.snapshotInProgress()).isFalse());
+	}
+
+	@Test
+	@DisplayName("오프셋이 아직 없으면 위치를 알 수 없다")
+	void returnsEmptyWithoutOffsets() {
+		assertThat(DebeziumOffsetClient.fromResponse(Map.of("offsets", List.of()))).isEmpty();
+		assertThat(DebeziumOffsetClient.fromResponse(Map.of("offsets", List.of(Map.of("offset", Map.of()))))).isEmpty();
+	}
+}
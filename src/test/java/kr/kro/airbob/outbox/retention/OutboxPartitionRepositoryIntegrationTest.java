@@ -0,0 +1,76 @@
+package kr.kro.airbob.outbox.retention;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+@DisplayName("outbox 파티션 저장소 통합 테스트")
+class OutboxPartitionRepositoryIntegrationTest {
+
+	@Container
+	private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.33")
+		.withDatabaseName("airbobdb_outbox_partition")
+		.withUsername("airbob")
+		.withPassword("airbob");
+
+	private static JdbcTemplate jdbcTemplate;
+	private static OutboxPartitionRepository repository;
+
+	@BeforeAll
+	static void migrate() {
+		Flyway.configure()
+			.dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+			.locations("classpath:db/migration")
+			.load()
+			.migrate();
+		jdbcTemplate = new JdbcTemplate(
+			new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword()));
+		repository = new OutboxPartitionRepository(jdbcTemplate);
+	}
+
+	@Test
+	@DisplayName("V19 이후 outbox는 p_future 하나로 파티션되고, 일 단위 분리·삭제가 행을 날짜별로 나눈다")
+	void splitsAndDropsDailyPartitions() {
+		assertThat(repository.findAll()).extracting(OutboxPartition::name).containsExactly("p_future");
+
+		insertOutbox(LocalDateTime.of(2026, 10, 16, 23, 59, 59));
+		insertOutbox(LocalDateTime.of(2026, 10, 17, 0, 0));
+		insertOutbox(LocalDateTime.of(2026, 10, 19, 12, 0));
+
+		repository.addDailyPartitions(List.of(LocalDate.of(2026, 10, 16), LocalDate.of(2026, 10, 17)));
+		repository.addDailyPartitions(List.of(LocalDate.of(2026, 10, 18)));
+
+		List<OutboxPartition> partitions = repository.findAll();
+		assertThat(partitions).extracting(OutboxPartition::name)
+			.containsExactly("p_20261016", "p_20261017", "p_20261018", "p_future");
+		assertThat(partitions.get(0).upperBound()).isEqualTo(LocalDateTime.of(2026, 10, 17, 0, 0));
+		assertThat(partitions.get(3).isFuture()).isTrue();
+
+		repository.dropPartitions(List.of("p_20261016"));
+
+		assertThat(repository.findAll()).extracting(OutboxPartition::name)
+			.containsExactly("p_20261017", "p_20261018", "p_future");
+		assertThat(jdbcTemplate.queryForList("SELECT created_at FROM outbox ORDER BY created_at", LocalDateTime.class))
+			.containsExactly(LocalDateTime.of(2026, 10, 17, 0, 0), LocalDateTime.of(2026, 10, 19, 12, 0));
+	}
+
+	private void insertOutbox(LocalDateTime createdAt) {
+		jdbcTemplate.update("""
+			INSERT INTO outbox (aggregate_type, aggregate_id, event_type, payload, created_at, updated_at)
+			VALUES ('ACCOMMODATION', 'aggregate', 'ACCOMMODATION_UPDATED', '{}', ?, ?)
+			""", createdAt, createdAt);
+	}
+}
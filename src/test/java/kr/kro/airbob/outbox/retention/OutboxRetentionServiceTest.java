@@ -0,0 +1,141 @@
+package kr.kro.airbob.outbox.retention;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.outbox.retention.OutboxRetentionService.RetentionOutcome;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("outbox 보존 서비스 테스트")
+class OutboxRetentionServiceTest {
+
+	private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+	@Mock private OutboxPartitionRepository partitionRepository;
+	@Mock private DebeziumOffsetClient offsetClient;
+	@Mock private RedissonClient redissonClient;
+	@Mock private RLock lock;
+
+	private SimpleMeterRegistry meterRegistry;
+	private OutboxRetentionService service;
+
+	@BeforeEach
+	void setUp() throws InterruptedException {
+		meterRegistry = new SimpleMeterRegistry();
+		service = new OutboxRetentionService(partitionRepository, offsetClient, redissonClient, meterRegistry,
+			Clock.fixed(NOW, ZoneOffset.UTC), 2, Duration.ofDays(1), Duration.ofHours(1));
+		given(redissonClient.getLock("LOCK:OUTBOX:RETENTION")).willReturn(lock);
+		given(lock.tryLock(anyLong(), any(TimeUnit.class))).willReturn(true);
+	}
+
+	@Test
+	@DisplayName("처음 실행하면 오늘부터 days-ahead까지 파티션을 분리한다")
+	void splitsFuturePartitionFromTodayOnFirstRun() {
+		given(partitionRepository.findAll()).willReturn(List.of(future(120)));
+		given(offsetClient.currentPosition()).willReturn(Optional.of(new CdcPosition(NOW, false)));
+
+		RetentionOutcome outcome = service.run();
+
+		then(partitionRepository).should().addDailyPartitions(List.of(
+			LocalDate.of(2026, 10, 18), LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 20)));
+		then(partitionRepository).should(never()).dropPartitions(anyList());
+		assertThat(outcome).isEqualTo(RetentionOutcome.NOTHING_TO_PURGE);
+		assertThat(meterRegistry.get(OutboxRetentionService.ROWS).gauge().value()).isEqualTo(120.0);
+	}
+
+	@Test
+	@DisplayName("보존 기간과 커넥터 위치보다 안전 여유만큼 앞선 파티션만 삭제한다")
+	void dropsOnlyPartitionsPassedByRetentionAndCdc() {
+		given(partitionRepository.findAll()).willReturn(List.of(
+			daily(LocalDate.of(2026, 10, 15), 10),
+			daily(LocalDate.of(2026, 10, 16), 20),
+			daily(LocalDate.of(2026, 10, 17), 30),
+			daily(LocalDate.of(2026, 10, 18), 40),
+			daily(LocalDate.of(2026, 10, 19), 0),
+			daily(LocalDate.of(2026, 10, 20), 0),
+			future(0)));
+		// 커넥터는 10/16 23:30까지 처리 → 안전 여유 1시간을 빼면 10/16 22:30이 기준
+		given(offsetClient.currentPosition()).willReturn(Optional.of(
+			new CdcPosition(Instant.parse("2026-10-16T23:30:00Z"), false)));
+
+		RetentionOutcome outcome = service.run();
+
+		then(partitionRepository).should().dropPartitions(List.of("p_20261015"));
+		then(partitionRepository).should(never()).addDailyPartitions(anyList());
+		assertThat(outcome).isEqualTo(RetentionOutcome.PURGED);
+		assertThat(meterRegistry.get(OutboxRetentionService.ROWS).gauge().value()).isEqualTo(90.0);
+		// 남은 가장 오래된 파티션 p_20261016(경계 10/17 00:00)은 보존 기준(10/17 12:00)보다 12시간 더 남아 있다
+		assertThat(meterRegistry.get(OutboxRetentionService.PURGE_LAG).gauge().value())
+			.isEqualTo(Duration.ofHours(12).toSeconds());
+		assertThat(meterRegistry.get(OutboxRetentionService.DROPPED_PARTITIONS_TOTAL).counter().count())
+			.isEqualTo(1.0);
+		assertThat(meterRegistry.get(OutboxRetentionService.PURGE_DURATION).tag("result", "purged").timer().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("커넥터가 스냅샷 중이면 파티션을 삭제하지 않는다")
+	void keepsPartitionsWhileSnapshotRuns() {
+		given(partitionRepository.findAll()).willReturn(List.of(
+			daily(LocalDate.of(2026, 10, 15), 10),
+			daily(LocalDate.of(2026, 10, 20), 0),
+			future(0)));
+		given(offsetClient.currentPosition()).willReturn(Optional.of(new CdcPosition(NOW, true)));
+
+		RetentionOutcome outcome = service.run();
+
+		then(partitionRepository).should(never()).dropPartitions(anyList());
+		assertThat(outcome).isEqualTo(RetentionOutcome.SNAPSHOT_IN_PROGRESS);
+	}
+
+	@Test
+	@DisplayName("커넥터 오프셋을 알 수 없으면 파티션을 삭제하지 않는다")
+	void keepsPartitionsWhenCdcPositionIsUnknown() {
+		given(partitionRepository.findAll()).willReturn(List.of(
+			daily(LocalDate.of(2026, 10, 15), 10),
+			daily(LocalDate.of(2026, 10, 20), 0),
+			future(0)));
+		given(offsetClient.currentPosition()).willReturn(Optional.empty());
+
+		RetentionOutcome outcome = service.run();
+
+		then(partitionRepository).should(never()).dropPartitions(anyList());
+		assertThat(outcome).isEqualTo(RetentionOutcome.CDC_POSITION_UNKNOWN);
+		assertThat(meterRegistry.get(OutboxRetentionService.PURGE_LAG).gauge().value())
+			.isEqualTo(Duration.ofDays(1).plusHours(12).toSeconds());
+	}
+
+	private static OutboxPartition daily(LocalDate day, long rows) {
+		return new OutboxPartition(OutboxPartitionRepository.partitionName(day),
+			OutboxPartitionRepository.upperBoundOf(day), rows);
+	}
+
+	private static OutboxPartition future(long rows) {
+		return new OutboxPartition(OutboxPartitionRepository.FUTURE_PARTITION, (LocalDateTime)null, rows);
+	}
+}
@@ -0,0 +1,198 @@
+package kr.kro.airbob.search.reindex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ShardStatistics;
+import co.elastic.clients.elasticsearch.core.CountRequest;
+import co.elastic.clients.elasticsearch.core.CountResponse;
+import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
+import co.elastic.clients.elasticsearch.indices.DeleteIndexRequest;
+import co.elastic.clients.elasticsearch.indices.ElasticsearchIndicesClient;
+import co.elastic.clients.elasticsearch.indices.ExistsAliasRequest;
+import co.elastic.clients.elasticsearch.indices.GetAliasRequest;
+import co.elastic.clients.elasticsearch.indices.GetAliasResponse;
+import co.elastic.clients.elasticsearch.indices.UpdateAliasesRequest;
+import co.elastic.clients.elasticsearch.indices.get_alias.IndexAliases;
+import co.elastic.clients.transport.endpoints.BooleanResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.domain.accommodation.entity.AccommodationStatus;
+import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
+import kr.kro.airbob.domain.accommodation.repository.projection.AccommodationIndexingKey;
+import kr.kro.airbob.search.document.AccommodationDocument;
+import kr.kro.airbob.search.exception.SearchReindexInProgressException;
+import kr.kro.airbob.search.reindex.AccommodationReindexStatus.Phase;
+import kr.kro.airbob.search.service.AccommodationBulkIndexingService;
+import kr.kro.airbob.search.service.AccommodationDocumentBuilder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("숙소 검색 인덱스 온라인 재색인 작업 테스트")
+class AccommodationReindexJobTest {
+
+	private static final Instant NOW = Instant.parse("2026-10-18T00:00:00Z");
+	private static final String PREVIOUS_INDEX = "accommodations-v20261001000000";
+	private static final String TARGET_INDEX = "accommodations-v20261018000000";
+	private static final UUID FIRST_UID = UUID.fromString("109cc081-b87d-4502-9a5e-7d7b65993056");
+	private static final UUID SECOND_UID = UUID.fromString("2b0f3c4e-5d6a-4b7c-8d9e-0f1a2b3c4d5e");
+	private static final UUID TOUCHED_UID = UUID.fromString("3c1a4d5f-6e7b-4c8d-9eaf-1a2b3c4d5e6f");
+
+	@Mock private ElasticsearchClient esClient;
+	@Mock private ElasticsearchIndicesClient indicesClient;
+	@Mock private AccommodationRepository accommodationRepository;
+	@Mock private AccommodationDocumentBuilder documentBuilder;
+	@Mock private AccommodationBulkIndexingService bulkIndexingService;
+	@Mock private AccommodationReindexState reindexState;
+	@Mock private PlatformTransactionManager transactionManager;
+
+	private SimpleMeterRegistry meterRegistry;
+	private AccommodationReindexJob job;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		meterRegistry = new SimpleMeterRegistry();
+		lenient().when(esClient.indices()).thenReturn(indicesClient);
+		lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		job = new AccommodationReindexJob(
+			esClient,
+			accommodationRepository,
+			documentBuilder,
+			bulkIndexingService,
+			reindexState,
+			new AccommodationReindexProperties(1, 2, 2, Duration.ofMinutes(2), Duration.ZERO, 2),
+			transactionManager,
+			meterRegistry,
+			Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@AfterEach
+	void tearDown() {
+		job.destroy();
+	}
+
+	@Test
+	@DisplayName("keyset 스캔을 create로 쓰고 변경분을 재반영한 뒤 건수가 맞으면 alias를 한 요청으로 전환한다")
+	void scansReplaysAndSwitchesAlias() throws Exception {
+		givenAliasPointsTo(PREVIOUS_INDEX);
+		given(reindexState.tryStart(TARGET_INDEX, Duration.ofMinutes(2))).willReturn(true);
+		given(accommodationRepository.countByStatusAndAccommodationUidIsNotNull(AccommodationStatus.PUBLISHED))
+			.willReturn(2L);
+		given(accommodationRepository.findPublishedIndexingKeysAfter(0L, 1))
+			.willReturn(List.of(new AccommodationIndexingKey(1L, FIRST_UID)));
+		given(accommodationRepository.findPublishedIndexingKeysAfter(1L, 1))
+			.willReturn(List.of(new AccommodationIndexingKey(2L, SECOND_UID)));
+		given(accommodationRepository.findPublishedIndexingKeysAfter(2L, 1)).willReturn(List.of());
+		given(documentBuilder.buildAccommodationDocuments(List.of(FIRST_UID)))
+			.willReturn(Map.of(FIRST_UID, document(FIRST_UID, "PUBLISHED")));
+		given(documentBuilder.buildAccommodationDocuments(List.of(SECOND_UID)))
+			.willReturn(Map.of(SECOND_UID, document(SECOND_UID, "PUBLISHED")));
+		given(bulkIndexingService.create(eq(TARGET_INDEX), anyCollection()))
+			.willReturn(new AccommodationBulkIndexingService.Result(1, 0, Set.of()));
+		given(reindexState.drainTouched()).willReturn(Set.of(TOUCHED_UID));
+		given(bulkIndexingService.replay(TARGET_INDEX, List.of(TOUCHED_UID)))
+			.willReturn(new AccommodationBulkIndexingService.Result(0, 1, Set.of()));
+		given(esClient.count(any(CountRequest.class))).willReturn(countResponse(2L));
+
+		AccommodationReindexJob.Run run = job.prepare();
+		job.execute(run);
+
+		AccommodationReindexStatus status = run.status();
+		assertThat(status.phase()).isEqualTo(Phase.COMPLETED);
+		assertThat(status.scanned()).isEqualTo(2L);
+		assertThat(status.written()).isEqualTo(2L);
+		assertThat(status.replayed()).isEqualTo(1L);
+		assertThat(meterRegistry.get(AccommodationReindexJob.DOCUMENTS_TOTAL)
+			.tag("result", "created").counter().count()).isEqualTo(2.0);
+
+		ArgumentCaptor<UpdateAliasesRequest> update = ArgumentCaptor.forClass(UpdateAliasesRequest.class);
+		then(indicesClient).should().updateAliases(update.capture());
+		assertThat(update.getValue().actions()).hasSize(2);
+		assertThat(update.getValue().actions().get(0).remove().index()).isEqualTo(PREVIOUS_INDEX);
+		assertThat(update.getValue().actions().get(1).add().index()).isEqualTo(TARGET_INDEX);
+		assertThat(update.getValue().actions().get(1).add().isWriteIndex()).isTrue();
+		then(reindexState).should().finish(TARGET_INDEX);
+	}
+
+	@Test
+	@DisplayName("건수가 끝내 맞지 않으면 alias를 바꾸지 않고 대상 인덱스를 남긴 채 실패로 끝낸다")
+	void keepsAliasWhenCountsNeverReconcile() throws Exception {
+		givenAliasPointsTo(PREVIOUS_INDEX);
+		given(reindexState.tryStart(TARGET_INDEX, Duration.ofMinutes(2))).willReturn(true);
+		given(accommodationRepository.countByStatusAndAccommodationUidIsNotNull(AccommodationStatus.PUBLISHED))
+			.willReturn(3L);
+		given(accommodationRepository.findPublishedIndexingKeysAfter(anyLong(), anyInt())).willReturn(List.of());
+		given(reindexState.drainTouched()).willReturn(Set.of());
+		given(esClient.count(any(CountRequest.class))).willReturn(countResponse(2L));
+
+		AccommodationReindexJob.Run run = job.prepare();
+		job.execute(run);
+
+		assertThat(run.status().phase()).isEqualTo(Phase.FAILED);
+		then(indicesClient).should(never()).updateAliases(any(UpdateAliasesRequest.class));
+		then(indicesClient).should(never()).delete(any(DeleteIndexRequest.class));
+		then(reindexState).should().finish(TARGET_INDEX);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 이미 재색인 중이면 방금 만든 대상 인덱스를 지우고 거절한다")
+	void rejectsWhenAnotherReindexHoldsLease() throws Exception {
+		givenAliasPointsTo(PREVIOUS_INDEX);
+		given(reindexState.tryStart(TARGET_INDEX, Duration.ofMinutes(2))).willReturn(false);
+
+		assertThatThrownBy(() -> job.start()).isInstanceOf(SearchReindexInProgressException.class);
+
+		then(indicesClient).should().create(any(CreateIndexRequest.class));
+		ArgumentCaptor<DeleteIndexRequest> delete = ArgumentCaptor.forClass(DeleteIndexRequest.class);
+		then(indicesClient).should().delete(delete.capture());
+		assertThat(delete.getValue().index()).containsExactly(TARGET_INDEX);
+		assertThat(job.status()).isNull();
+	}
+
+	private void givenAliasPointsTo(String index) throws Exception {
+		given(indicesClient.existsAlias(any(ExistsAliasRequest.class))).willReturn(new BooleanResponse(true));
+		given(indicesClient.getAlias(any(GetAliasRequest.class))).willReturn(GetAliasResponse.of(response -> response
+			.result(Map.of(index, IndexAliases.of(aliases -> aliases.aliases(Map.of()))))));
+	}
+
+	private static CountResponse countResponse(long count) {
+		return CountResponse.of(response -> response
+			.count(count)
+			.shards(ShardStatistics.of(shards -> shards.total(1).successful(1).failed(0))));
+	}
+
+	private static AccommodationDocument document(UUID accommodationUid, String status) {
+		return AccommodationDocument.builder()
+			.id(accommodationUid.toString())
+			.status(status)
+			.build();
+	}
+}
@@ -0,0 +1,196 @@
+package kr.kro.airbob.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import kr.kro.airbob.search.document.AccommodationDocument;
+import kr.kro.airbob.search.reindex.AccommodationReindexState;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("숙소 일괄 색인 서비스 테스트")
+class AccommodationBulkIndexingServiceTest {
+
+	private static final UUID PUBLISHED_UID = UUID.fromString("109cc081-b87d-4502-9a5e-7d7b65993056");
+	private static final UUID UNPUBLISHED_UID = UUID.fromString("2b0f3c4e-5d6a-4b7c-8d9e-0f1a2b3c4d5e");
+	private static final UUID MISSING_UID = UUID.fromString("3c1a4d5f-6e7b-4c8d-9eaf-1a2b3c4d5e6f");
+	private static final UUID DELETED_UID = UUID.fromString("4d2b5e6a-7f8c-4d9e-8fa0-2b3c4d5e6f7a");
+	private static final String REINDEX_TARGET = "accommodations-v20261018000000";
+
+	@Mock private ElasticsearchClient esClient;
+	@Mock private ElasticsearchConverter elasticsearchConverter;
+	@Mock private AccommodationDocumentBuilder documentBuilder;
+	@Mock private AccommodationReindexState reindexState;
+	@Mock private PlatformTransactionManager transactionManager;
+
+	@InjectMocks
+	private AccommodationBulkIndexingService service;
+
+	@Test
+	@DisplayName("게시 중인 숙소는 저장하고 게시 중단·삭제 숙소는 제거하는 요청을 _bulk 한 번으로 보낸다")
+	void sendsIndexAndDeleteOperationsInOneBulkRequest() throws Exception {
+		AccommodationDocument published = document(PUBLISHED_UID, "PUBLISHED");
+		given(documentBuilder.buildAccommodationDocuments(List.of(PUBLISHED_UID, UNPUBLISHED_UID)))
+			.willReturn(Map.of(
+				PUBLISHED_UID, published,
+				UNPUBLISHED_UID, document(UNPUBLISHED_UID, "UNPUBLISHED")));
+		given(elasticsearchConverter.mapObject(published)).willReturn(Document.create());
+		given(esClient.bulk(any(BulkRequest.class))).willReturn(bulkResponse(
+			item(OperationType.Index, PUBLISHED_UID, null),
+			item(OperationType.Delete, UNPUBLISHED_UID, null),
+			item(OperationType.Delete, DELETED_UID, null)));
+
+		AccommodationBulkIndexingService.Result result =
+			service.apply(List.of(PUBLISHED_UID, UNPUBLISHED_UID), List.of(DELETED_UID));
+
+		ArgumentCaptor<BulkRequest> request = ArgumentCaptor.forClass(BulkRequest.class);
+		then(esClient).should().bulk(request.capture());
+		List<BulkOperation> operations = request.getValue().operations();
+		assertThat(operations).hasSize(3);
+		assertThat(operations.get(0).isIndex()).isTrue();
+		assertThat(operations.get(0).index().id()).isEqualTo(PUBLISHED_UID.toString());
+		assertThat(operations.get(1).delete().id()).isEqualTo(UNPUBLISHED_UID.toString());
+		assertThat(operations.get(2).delete().id()).isEqualTo(DELETED_UID.toString());
+		assertThat(result).isEqualTo(new AccommodationBulkIndexingService.Result(1, 2, Set.of()));
+	}
+
+	@Test
+	@DisplayName("문서 조회 트랜잭션을 끝낸 뒤 _bulk 요청을 보내 네트워크 대기 동안 DB 커넥션을 잡지 않는다")
+	void sendsBulkRequestAfterReadTransactionCommits() throws Exception {
+		AccommodationDocument published = document(PUBLISHED_UID, "PUBLISHED");
+		given(documentBuilder.buildAccommodationDocuments(List.of(PUBLISHED_UID)))
+			.willReturn(Map.of(PUBLISHED_UID, published));
+		given(elasticsearchConverter.mapObject(published)).willReturn(Document.create());
+		given(esClient.bulk(any(BulkRequest.class))).willReturn(bulkResponse(
+			item(OperationType.Index, PUBLISHED_UID, null)));
+
+		service.apply(List.of(PUBLISHED_UID), List.of());
+
+		InOrder order = inOrder(transactionManager, documentBuilder, esClient);
+		order.verify(transactionManager).getTransaction(any());
+		order.verify(documentBuilder).buildAccommodationDocuments(List.of(PUBLISHED_UID));
+		order.verify(transactionManager).commit(any());
+		order.verify(esClient).bulk(any(BulkRequest.class));
+	}
+
+	@Test
+	@DisplayName("항목별 실패와 원본이 없는 숙소는 실패 UID로 돌려준다")
+	void reportsItemFailuresAndMissingAccommodations() throws Exception {
+		AccommodationDocument published = document(PUBLISHED_UID, "PUBLISHED");
+		given(documentBuilder.buildAccommodationDocuments(List.of(PUBLISHED_UID, MISSING_UID)))
+			.willReturn(Map.of(PUBLISHED_UID, published));
+		given(elasticsearchConverter.mapObject(published)).willReturn(Document.create());
+		given(esClient.bulk(any(BulkRequest.class))).willReturn(bulkResponse(
+			item(OperationType.Index, PUBLISHED_UID, ErrorCause.of(e -> e
+				.type("es_rejected_execution_exception")
+				.reason("rejected")))));
+
+		AccommodationBulkIndexingService.Result result =
+			service.apply(List.of(PUBLISHED_UID, MISSING_UID), List.of());
+
+		assertThat(result.indexed()).isZero();
+		assertThat(result.failed()).containsExactlyInAnyOrder(PUBLISHED_UID, MISSING_UID);
+	}
+
+	@Test
+	@DisplayName("재색인 중에는 같은 _bulk 요청으로 대상 인덱스에도 쓰고 건드린 UID를 남긴다")
+	void dualWritesToReindexTargetInSameBulkRequest() throws Exception {
+		AccommodationDocument published = document(PUBLISHED_UID, "PUBLISHED");
+		given(reindexState.activeTarget()).willReturn(Optional.of(REINDEX_TARGET));
+		given(documentBuilder.buildAccommodationDocuments(List.of(PUBLISHED_UID)))
+			.willReturn(Map.of(PUBLISHED_UID, published));
+		given(elasticsearchConverter.mapObject(published)).willReturn(Document.create());
+		given(esClient.bulk(any(BulkRequest.class))).willReturn(bulkResponse(
+			item(OperationType.Index, PUBLISHED_UID, null),
+			item(OperationType.Delete, DELETED_UID, null),
+			item(REINDEX_TARGET, OperationType.Index, PUBLISHED_UID, null),
+			item(REINDEX_TARGET, OperationType.Delete, DELETED_UID, null)));
+
+		AccommodationBulkIndexingService.Result result =
+			service.apply(List.of(PUBLISHED_UID), List.of(DELETED_UID));
+
+		ArgumentCaptor<BulkRequest> request = ArgumentCaptor.forClass(BulkRequest.class);
+		then(esClient).should().bulk(request.capture());
+		List<BulkOperation> operations = request.getValue().operations();
+		assertThat(operations).hasSize(4);
+		assertThat(operations.get(2).index().index()).isEqualTo(REINDEX_TARGET);
+		assertThat(operations.get(3).delete().index()).isEqualTo(REINDEX_TARGET);
+		then(reindexState).should().markTouched(List.of(PUBLISHED_UID, DELETED_UID));
+		assertThat(result).isEqualTo(new AccommodationBulkIndexingService.Result(1, 1, Set.of()));
+	}
+
+	@Test
+	@DisplayName("재색인 스캔의 create 충돌은 실시간 색인이 먼저 쓴 문서이므로 실패로 보지 않는다")
+	void createConflictIsNotFailure() throws Exception {
+		AccommodationDocument published = document(PUBLISHED_UID, "PUBLISHED");
+		given(elasticsearchConverter.mapObject(published)).willReturn(Document.create());
+		given(esClient.bulk(any(BulkRequest.class))).willReturn(bulkResponse(
+			BulkResponseItem.of(item -> item
+				.operationType(OperationType.Create)
+				.index(REINDEX_TARGET)
+				.id(PUBLISHED_UID.toString())
+				.status(409)
+				.error(ErrorCause.of(e -> e.type("version_conflict_engine_exception").reason("exists"))))));
+
+		AccommodationBulkIndexingService.Result result = service.create(REINDEX_TARGET, List.of(published));
+
+		assertThat(result.failed()).isEmpty();
+		assertThat(result.indexed()).isZero();
+	}
+
+	private static AccommodationDocument document(UUID accommodationUid, String status) {
+		return AccommodationDocument.builder()
+			.id(accommodationUid.toString())
+			.status(status)
+			.build();
+	}
+
+	private static BulkResponse bulkResponse(BulkResponseItem... items) {
+		return BulkResponse.of(response -> response
+			.took(1)
+			.errors(Arrays.stream(items).anyMatch(item -> item.error() != null))
+			.items(List.of(items)));
+	}
+
+	private static BulkResponseItem item(OperationType operationType, UUID accommodationUid, ErrorCause error) {
+		return item("accommodations-v20260101000000", operationType, accommodationUid, error);
+	}
+
+	private static BulkResponseItem item(String index, OperationType operationType, UUID accommodationUid,
+		ErrorCause error) {
+		return BulkResponseItem.of(item -> item
+			.operationType(operationType)
+			.index(index)
+			.id(accommodationUid.toString())
+			.status(error == null ? 200 : 429)
+			.error(error));
+	}
+}
@@ -8,6 +8,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,16 +20,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import kr.kro.airbob.domain.accommodation.entity.Accommodation;
+import kr.kro.airbob.domain.accommodation.entity.AccommodationAmenity;
 import kr.kro.airbob.domain.accommodation.entity.AccommodationStatus;
 import kr.kro.airbob.domain.accommodation.entity.Address;
 import kr.kro.airbob.domain.accommodation.entity.OccupancyPolicy;
 import kr.kro.airbob.domain.accommodation.repository.AccommodationAmenityRepository;
 import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
+import kr.kro.airbob.domain.reservation.dto.AccommodationReservationDateRange;
 import kr.kro.airbob.domain.reservation.dto.ReservationDateRange;
 import kr.kro.airbob.domain.reservation.policy.BookingWindowProvider;
 import kr.kro.airbob.domain.reservation.policy.ReservationIndexingWindow;
 import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
 import kr.kro.airbob.domain.review.repository.AccommodationReviewSummaryRepository;
+import kr.kro.airbob.domain.review.summary.ReviewSummaryStripeCounter;
 import kr.kro.airbob.search.document.AccommodationDocument;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +54,9 @@ class AccommodationDocumentBuilderTest {
 	@Mock
 	private BookingWindowProvider bookingWindowProvider;
 
+	@Mock
+	private ReviewSummaryStripeCounter reviewSummaryCounter;
+
 	@InjectMocks
 	private AccommodationDocumentBuilder documentBuilder;
 
@@ -123,4 +130,64 @@ class AccommodationDocumentBuilderTest {
 			.findActiveReservationRangesByAccommodationId(
 				accommodation.getId(), window.startInclusive(), window.endExclusive());
 	}
+
+	@Test
+	@DisplayName("여러 숙소 문서는 숙소별 IN 조회 결과를 숙소 ID로 묶어 만든다")
+	void buildsDocumentsFromSetBasedQueries() {
+		UUID firstUid = UUID.fromString("8df7d116-42d1-44f4-87f5-ab87295caf23");
+		UUID secondUid = UUID.fromString("9a1b2c3d-4e5f-4a6b-8c7d-0e1f2a3b4c5d");
+		UUID missingUid = UUID.fromString("0b1c2d3e-4f5a-4b6c-9d7e-1f2a3b4c5d6e");
+		ReservationIndexingWindow window = new ReservationIndexingWindow(
+			LocalDate.of(2026, 8, 11), LocalDate.of(2026, 11, 13));
+		Accommodation first = accommodation(41L, firstUid);
+		Accommodation second = accommodation(42L, secondUid);
+		List<UUID> uids = List.of(firstUid, secondUid, missingUid);
+		when(accommodationRepository.findAllWithDetailsByAccommodationUidIn(uids))
+			.thenReturn(List.of(first, second));
+		when(amenityRepository.findAllByAccommodationIdIn(List.of(41L, 42L))).thenReturn(List.of(
+			AccommodationAmenity.createAccommodationAmenity(first, "WIFI", 1),
+			AccommodationAmenity.createAccommodationAmenity(first, "WIFI", 1),
+			AccommodationAmenity.createAccommodationAmenity(second, "PARKING", 1)));
+		when(bookingWindowProvider.currentIndexingWindow()).thenReturn(window);
+		when(reservationRepository.findActiveReservationRangesByAccommodationIdIn(
+			List.of(41L, 42L), window.startInclusive(), window.endExclusive()))
+			.thenReturn(List.of(new AccommodationReservationDateRange(
+				42L, LocalDate.of(2026, 8, 12), LocalDate.of(2026, 8, 15))));
+		when(reviewSummaryRepository.findByAccommodationIdIn(List.of(41L, 42L))).thenReturn(List.of());
+
+		Map<UUID, AccommodationDocument> documents = documentBuilder.buildAccommodationDocuments(uids);
+
+		assertThat(documents).containsOnlyKeys(firstUid, secondUid);
+		assertThat(documents.get(firstUid).amenityTypes()).containsExactly("WIFI");
+		assertThat(documents.get(firstUid).reservationRanges()).isEmpty();
+		assertThat(documents.get(secondUid).amenityTypes()).containsExactly("PARKING");
+		assertThat(documents.get(secondUid).reservationRanges()).containsExactly(
+			new AccommodationDocument.DateRange(LocalDate.of(2026, 8, 12), LocalDate.of(2026, 8, 15)));
+		assertThat(documents.get(secondUid).reviewCount()).isZero();
+	}
+
+	private static Accommodation accommodation(Long id, UUID accommodationUid) {
+		return Accommodation.builder()
+			.id(id)
+			.accommodationUid(accommodationUid)
+			.name("Batch House " + id)
+			.basePrice(150_000L)
+			.currency("KRW")
+			.type("HOUSE")
+			.status(AccommodationStatus.PUBLISHED)
+			.timeZoneId("Asia/Seoul")
+			.createdAt(LocalDateTime.of(2026, 8, 1, 9, 0))
+			.address(Address.builder()
+				.country("KR")
+				.city("Seoul")
+				.latitude(37.5665)
+				.longitude(126.9780)
+				.build())
+			.occupancyPolicy(OccupancyPolicy.builder()
+				.maxOccupancy(4)
+				.infantOccupancy(1)
+				.petOccupancy(0)
+				.build())
+			.build();
+	}
 }
@@ -1,16 +1,31 @@
 package kr.kro.airbob.search.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorResponse;
+import co.elastic.clients.elasticsearch.core.UpdateRequest;
 
 import kr.kro.airbob.search.document.AccommodationDocument;
 import kr.kro.airbob.search.repository.AccommodationSearchRepository;
@@ -24,12 +39,16 @@ class AccommodationIndexingServiceTest {
 
 	@Mock private AccommodationSearchRepository searchRepository;
 	@Mock private AccommodationDocumentBuilder documentBuilder;
+	@Mock private ElasticsearchClient esClient;
+	@Mock private ElasticsearchConverter elasticsearchConverter;
+	@Mock private AccommodationBulkIndexingService bulkIndexingService;
 
 	@Test
 	@DisplayName("모든 변경 이벤트는 MySQL 최신 스냅샷으로 문서 전체를 덮어쓴다")
 	void refreshesWholeDocumentFromAuthoritativeDatabaseState() {
 		AccommodationIndexingService service =
-			new AccommodationIndexingService(searchRepository, documentBuilder);
+			new AccommodationIndexingService(searchRepository, documentBuilder, esClient, elasticsearchConverter,
+				bulkIndexingService);
 		AccommodationDocument document = AccommodationDocument.builder()
 			.id(ACCOMMODATION_UID.toString())
 			.status("PUBLISHED")
@@ -46,7 +65,8 @@ class AccommodationIndexingServiceTest {
 	@DisplayName("게시 중단 이벤트는 MySQL 최신 상태를 확인하고 검색 문서를 제거한다")
 	void removesDocumentWhenAuthoritativeStateIsUnpublished() {
 		AccommodationIndexingService service =
-			new AccommodationIndexingService(searchRepository, documentBuilder);
+			new AccommodationIndexingService(searchRepository, documentBuilder, esClient, elasticsearchConverter,
+				bulkIndexingService);
 		AccommodationDocument document = AccommodationDocument.builder()
 			.id(ACCOMMODATION_UID.toString())
 			.status("UNPUBLISHED")
@@ -64,10 +84,83 @@ class AccommodationIndexingServiceTest {
 	@DisplayName("삭제 이벤트는 같은 UID가 반복되어도 동일 문서 삭제로 수렴한다")
 	void deletesByStableAccommodationUid() {
 		AccommodationIndexingService service =
-			new AccommodationIndexingService(searchRepository, documentBuilder);
+			new AccommodationIndexingService(searchRepository, documentBuilder, esClient, elasticsearchConverter,
+				bulkIndexingService);
 
 		service.deleteAccommodationIndex(ACCOMMODATION_UID);
 
 		then(searchRepository).should().deleteById(ACCOMMODATION_UID);
 	}
+
+	@Test
+	@DisplayName("예약 변경 이벤트는 문서를 다시 만들지 않고 예약 범위만 부분 갱신한다")
+	void updatesOnlyReservationRanges() throws Exception {
+		AccommodationIndexingService service =
+			new AccommodationIndexingService(searchRepository, documentBuilder, esClient, elasticsearchConverter,
+				bulkIndexingService);
+		AccommodationDocument partial = AccommodationDocument.builder()
+			.reservationRanges(List.of(new AccommodationDocument.DateRange(
+				LocalDate.of(2026, 8, 12), LocalDate.of(2026, 8, 15))))
+			.build();
+		Document fields = Document.create();
+		fields.put("reservationRanges", List.of(Map.of("gte", "2026-08-12", "lt", "2026-08-15")));
+		willReturn(partial).given(documentBuilder).buildReservationRangesUpdate(ACCOMMODATION_UID);
+		willReturn(fields).given(elasticsearchConverter).mapObject(partial);
+
+		service.refreshReservationRanges(ACCOMMODATION_UID);
+
+		ArgumentCaptor<UpdateRequest<Object, Document>> request = ArgumentCaptor.captor();
+		then(esClient).should().update(request.capture(), eq(Object.class));
+		assertThat(request.getValue().index()).isEqualTo("accommodations");
+		assertThat(request.getValue().id()).isEqualTo(ACCOMMODATION_UID.toString());
+		assertThat(request.getValue().doc()).isSameAs(fields);
+		then(documentBuilder).should(never()).buildAccommodationDocument(ACCOMMODATION_UID.toString());
+		then(searchRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("색인에 없는 숙소의 부분 갱신은 전체 재생성으로 대체한다")
+	void fallsBackToFullRebuildWhenDocumentIsMissing() throws Exception {
+		AccommodationIndexingService service =
+			new AccommodationIndexingService(searchRepository, documentBuilder, esClient, elasticsearchConverter,
+				bulkIndexingService);
+		AccommodationDocument partial = AccommodationDocument.builder().averageRating(4.5).reviewCount(2).build();
+		AccommodationDocument document = AccommodationDocument.builder()
+			.id(ACCOMMODATION_UID.toString())
+			.status("PUBLISHED")
+			.build();
+		willReturn(partial).given(documentBuilder).buildReviewSummaryUpdate(ACCOMMODATION_UID);
+		willReturn(Document.create()).given(elasticsearchConverter).mapObject(partial);
+		willThrow(new ElasticsearchException("update", ErrorResponse.of(response -> response
+			.status(404)
+			.error(error -> error.type("document_missing_exception").reason("document missing")))))
+			.given(esClient).update(any(UpdateRequest.class), eq(Object.class));
+		willReturn(document).given(documentBuilder)
+			.buildAccommodationDocument(ACCOMMODATION_UID.toString());
+
+		service.refreshReviewSummary(ACCOMMODATION_UID);
+
+		then(searchRepository).should().save(document);
+	}
+
+	@Test
+	@DisplayName("부분 갱신이 전체 재생성으로 바뀌어도 재색인 대상 반영은 이벤트당 한 번만 요청한다")
+	void mirrorsToReindexTargetOncePerEvent() throws Exception {
+		AccommodationIndexingService service =
+			new AccommodationIndexingService(searchRepository, documentBuilder, esClient, elasticsearchConverter,
+				bulkIndexingService);
+		AccommodationDocument partial = AccommodationDocument.builder().averageRating(4.5).reviewCount(2).build();
+		willReturn(partial).given(documentBuilder).buildReviewSummaryUpdate(ACCOMMODATION_UID);
+		willReturn(Document.create()).given(elasticsearchConverter).mapObject(partial);
+		willThrow(new ElasticsearchException("update", ErrorResponse.of(response -> response
+			.status(404)
+			.error(error -> error.type("document_missing_exception").reason("document missing")))))
+			.given(esClient).update(any(UpdateRequest.class), eq(Object.class));
+		willReturn(AccommodationDocument.builder().id(ACCOMMODATION_UID.toString()).status("PUBLISHED").build())
+			.given(documentBuilder).buildAccommodationDocument(ACCOMMODATION_UID.toString());
+
+		service.refreshReviewSummary(ACCOMMODATION_UID);
+
+		then(bulkIndexingService).should().mirrorToReindexTarget(ACCOMMODATION_UID);
+	}
 }
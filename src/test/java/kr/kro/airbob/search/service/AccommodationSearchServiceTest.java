@@ -3,31 +3,44 @@ package kr.kro.airbob.search.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.time.LocalDate;
 import java.io.IOException;
-import java.util.Set;
+import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.Time;
 import co.elastic.clients.elasticsearch._types.query_dsl.RangeRelation;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
 
+import kr.kro.airbob.cursor.dto.SearchCursorData;
+import kr.kro.airbob.cursor.util.CursorEncoder;
 import kr.kro.airbob.domain.reservation.policy.BookingWindowProvider;
+import kr.kro.airbob.domain.reservation.policy.TimeZoneEligibility;
+import kr.kro.airbob.domain.wishlist.cache.WishlistMembershipCache;
 import kr.kro.airbob.domain.wishlist.repository.WishlistAccommodationRepository;
 import kr.kro.airbob.search.dto.AccommodationSearchRequest;
 import kr.kro.airbob.search.document.AccommodationDocument;
@@ -46,6 +59,18 @@ class AccommodationSearchServiceTest {
 	@Mock
 	private BookingWindowProvider bookingWindowProvider;
 
+	@Mock
+	private AccommodationSearchPointInTime pointInTime;
+
+	@Mock
+	private CursorEncoder cursorEncoder;
+
+	@Mock
+	private WishlistMembershipCache wishlistMembershipCache;
+
+	@Spy
+	private AccommodationSearchHitsPolicy hitsPolicy = new AccommodationSearchHitsPolicy(true, 1000);
+
 	@InjectMocks
 	private AccommodationSearchService accommodationSearchService;
 
@@ -55,8 +80,9 @@ class AccommodationSearchServiceTest {
 		AccommodationSearchRequest.AccommodationSearchRequestDto request = dateRequest(
 			LocalDate.of(2026, 11, 12), LocalDate.of(2026, 11, 13));
 		request.setDestination("Seoul");
-		given(bookingWindowProvider.eligibleTimeZonesForStay(
-			request.getCheckIn(), request.getCheckOut())).willReturn(Set.of());
+		given(bookingWindowProvider.timeZoneEligibilityForStay(
+			request.getCheckIn(), request.getCheckOut()))
+			.willReturn(new TimeZoneEligibility(List.of(), List.of("America/New_York", "Asia/Seoul")));
 
 		var result = accommodationSearchService.searchAccommodations(
 			request,
@@ -76,8 +102,9 @@ class AccommodationSearchServiceTest {
 		AccommodationSearchRequest.AccommodationSearchRequestDto request = dateRequest(
 			LocalDate.of(2026, 8, 12), LocalDate.of(2026, 8, 13));
 
-		Query query = accommodationSearchService.buildQuery(
-			request, null, Set.of("Asia/Seoul", "Pacific/Auckland"));
+		Query query = accommodationSearchService.buildQuery(request, null, new TimeZoneEligibility(
+			List.of("Asia/Seoul", "Pacific/Auckland"),
+			List.of("America/Los_Angeles", "America/New_York", "Europe/London")));
 
 		assertThat(query.bool().filter())
 			.anySatisfy(filter -> {
@@ -97,6 +124,27 @@ class AccommodationSearchServiceTest {
 			});
 	}
 
+	@Test
+	@DisplayName("대부분의 시간대가 가능해도 가능한 시간대 목록으로만 포함해 시간대가 없거나 목록 밖인 숙소를 제외한다")
+	void filtersByEligibleTimeZonesEvenWhenMostAreEligible() {
+		AccommodationSearchRequest.AccommodationSearchRequestDto request = dateRequest(
+			LocalDate.of(2026, 11, 11), LocalDate.of(2026, 11, 12));
+
+		Query query = accommodationSearchService.buildQuery(request, null, new TimeZoneEligibility(
+			List.of("Asia/Seoul", "Asia/Tokyo", "Pacific/Auckland"),
+			List.of("America/New_York")));
+
+		assertThat(query.bool().filter())
+			.anySatisfy(filter -> {
+				assertThat(filter.isTerms()).isTrue();
+				assertThat(filter.terms().field()).isEqualTo("timeZoneId");
+				assertThat(filter.terms().terms().value())
+					.extracting(value -> value.stringValue())
+					.containsExactly("Asia/Seoul", "Asia/Tokyo", "Pacific/Auckland");
+			});
+		assertThat(query.bool().mustNot()).noneSatisfy(mustNot -> assertThat(mustNot.isTerms()).isTrue());
+	}
+
 	@Test
 	@DisplayName("Elasticsearch 연결 실패를 정상적인 빈 검색 결과로 숨기지 않는다")
 	void throwsServiceUnavailableWhenElasticsearchCannotBeReached() throws IOException {
@@ -135,6 +183,126 @@ class AccommodationSearchServiceTest {
 		verifyNoInteractions(wishlistRepository);
 	}
 
+	@Test
+	@DisplayName("첫 페이지는 from으로 조회하되 커서와 같은 점수·숙소 ID 정렬을 사용한다")
+	void offsetPageUsesStableSort() {
+		SearchRequest request = accommodationSearchService.searchRequest(
+			Query.of(q -> q.matchAll(m -> m)), PageRequest.of(2, 18), null, null);
+
+		assertThat(request.from()).isEqualTo(36);
+		assertThat(request.searchAfter()).isEmpty();
+		assertThat(request.index()).containsExactly("accommodations");
+		assertThat(request.pit()).isNull();
+		assertThat(request.sort()).hasSize(2);
+		assertThat(request.sort().get(0).score().order()).isEqualTo(SortOrder.Desc);
+		assertThat(request.sort().get(1).field().field()).isEqualTo("accommodationId");
+		assertThat(request.sort().get(1).field().order()).isEqualTo(SortOrder.Asc);
+	}
+
+	@Test
+	@DisplayName("커서 페이지는 from 없이 마지막 정렬 값 다음부터 point-in-time 안에서 조회한다")
+	void cursorPageUsesSearchAfterWithinPointInTime() {
+		given(pointInTime.keepAlive()).willReturn(Time.of(t -> t.time("60s")));
+		SearchCursorData cursor = new SearchCursorData(42L, 3.5, 50, "pit-1");
+
+		SearchRequest request = accommodationSearchService.searchRequest(
+			Query.of(q -> q.matchAll(m -> m)), PageRequest.of(50, 18), cursor, "pit-1");
+
+		assertThat(request.from()).isNull();
+		assertThat(request.index()).isEmpty();
+		assertThat(request.pit().id()).isEqualTo("pit-1");
+		assertThat(request.searchAfter())
+			.extracting(FieldValue::_get)
+			.containsExactly(3.5, 42L);
+	}
+
+	@Test
+	@DisplayName("커서로 처음 이어 조회할 때 point-in-time을 열고 다음 커서에 정렬 값과 함께 담는다")
+	void opensPointInTimeAndIssuesNextCursor() throws IOException {
+		AccommodationSearchRequest.AccommodationSearchRequestDto request =
+			new AccommodationSearchRequest.AccommodationSearchRequestDto();
+		request.setDestination("Seoul");
+		given(pointInTime.enabled()).willReturn(true);
+		given(pointInTime.open("accommodations")).willReturn("pit-1");
+		given(pointInTime.keepAlive()).willReturn(Time.of(t -> t.time("60s")));
+		given(esClient.search(any(SearchRequest.class), eq(AccommodationDocument.class)))
+			.willReturn(searchResponse("pit-2", 10, hit(7L, 2.0), hit(9L, 1.5)));
+		given(cursorEncoder.encode(any())).willReturn("next-cursor");
+
+		var result = accommodationSearchService.searchAccommodations(
+			request,
+			new AccommodationSearchRequest.MapBoundsDto(),
+			PageRequest.of(0, 2),
+			new SearchCursorData(5L, 2.5, 1, null),
+			null
+		);
+
+		then(cursorEncoder).should().encode(new SearchCursorData(9L, 1.5, 2, "pit-2"));
+		assertThat(result.pageInfo().currentPage()).isEqualTo(1);
+		assertThat(result.pageInfo().hasNext()).isTrue();
+		assertThat(result.pageInfo().nextCursor()).isEqualTo("next-cursor");
+		then(pointInTime).should(never()).close(any());
+	}
+
+	@Test
+	@DisplayName("마지막 커서 페이지는 다음 커서 없이 point-in-time을 닫는다")
+	void closesPointInTimeOnLastPage() throws IOException {
+		AccommodationSearchRequest.AccommodationSearchRequestDto request =
+			new AccommodationSearchRequest.AccommodationSearchRequestDto();
+		request.setDestination("Seoul");
+		given(pointInTime.keepAlive()).willReturn(Time.of(t -> t.time("60s")));
+		given(esClient.search(any(SearchRequest.class), eq(AccommodationDocument.class)))
+			.willReturn(searchResponse("pit-1", 5, hit(11L, 0.5)));
+
+		var result = accommodationSearchService.searchAccommodations(
+			request,
+			new AccommodationSearchRequest.MapBoundsDto(),
+			PageRequest.of(0, 2),
+			new SearchCursorData(9L, 1.5, 2, "pit-1"),
+			null
+		);
+
+		assertThat(result.pageInfo().isLast()).isTrue();
+		assertThat(result.pageInfo().nextCursor()).isNull();
+		then(pointInTime).should().close("pit-1");
+		verifyNoInteractions(cursorEncoder);
+	}
+
+	@Test
+	@DisplayName("검색 카드에 필요한 필드만 받고 전체 건수는 상한까지만 센다")
+	void requestsListingFieldsAndCappedTotal() {
+		SearchRequest request = accommodationSearchService.searchRequest(
+			Query.of(q -> q.matchAll(m -> m)), PageRequest.of(0, 18), null, null);
+
+		assertThat(request.source().filter().includes())
+			.containsExactlyElementsOf(AccommodationSearchHitsPolicy.LISTING_FIELDS)
+			.doesNotContain("description", "reservationRanges");
+		assertThat(request.trackTotalHits().count()).isEqualTo(1000);
+	}
+
+	@Test
+	@DisplayName("상한까지만 센 건수이면 최소 건수로 표시하고 마지막 페이지로 판단하지 않는다")
+	void cappedTotalKeepsNextPage() throws IOException {
+		AccommodationSearchRequest.AccommodationSearchRequestDto request =
+			new AccommodationSearchRequest.AccommodationSearchRequestDto();
+		request.setDestination("Seoul");
+		given(esClient.search(any(SearchRequest.class), eq(AccommodationDocument.class)))
+			.willReturn(searchResponse(null, 4, TotalHitsRelation.Gte, hit(7L, 2.0), hit(9L, 1.5)));
+		given(cursorEncoder.encode(any())).willReturn("next-cursor");
+
+		var result = accommodationSearchService.searchAccommodations(
+			request,
+			new AccommodationSearchRequest.MapBoundsDto(),
+			PageRequest.of(1, 2),
+			null
+		);
+
+		assertThat(result.pageInfo().totalElements()).isEqualTo(4);
+		assertThat(result.pageInfo().isTotalLowerBound()).isTrue();
+		assertThat(result.pageInfo().hasNext()).isTrue();
+		assertThat(result.pageInfo().isLast()).isFalse();
+	}
+
 	private AccommodationSearchRequest.AccommodationSearchRequestDto dateRequest(
 		LocalDate checkIn,
 		LocalDate checkOut
@@ -145,4 +313,39 @@ class AccommodationSearchServiceTest {
 		request.setCheckOut(checkOut);
 		return request;
 	}
+
+	@SafeVarargs
+	private static SearchResponse<AccommodationDocument> searchResponse(
+		String pointInTimeId,
+		long total,
+		Hit<AccommodationDocument>... hits
+	) {
+		return searchResponse(pointInTimeId, total, TotalHitsRelation.Eq, hits);
+	}
+
+	@SafeVarargs
+	private static SearchResponse<AccommodationDocument> searchResponse(
+		String pointInTimeId,
+		long total,
+		TotalHitsRelation relation,
+		Hit<AccommodationDocument>... hits
+	) {
+		return SearchResponse.of(r -> r
+			.took(1)
+			.timedOut(false)
+			.shards(sh -> sh.total(1).successful(1).failed(0))
+			.pitId(pointInTimeId)
+			.hits(h -> h
+				.total(t -> t.value(total).relation(relation))
+				.hits(List.of(hits))));
+	}
+
+	private static Hit<AccommodationDocument> hit(long accommodationId, double score) {
+		return Hit.of(h -> h
+			.index("accommodations")
+			.id(String.valueOf(accommodationId))
+			.source(AccommodationDocument.builder().id(String.valueOf(accommodationId))
+				.accommodationId(accommodationId).build())
+			.sort(FieldValue.of(score), FieldValue.of(accommodationId)));
+	}
 }